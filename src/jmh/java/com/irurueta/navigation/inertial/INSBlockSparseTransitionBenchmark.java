@@ -0,0 +1,156 @@
+/*
+ * Copyright (C) 2026 Alberto Irurueta Carro (alberto@irurueta.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.irurueta.navigation.inertial;
+
+import com.irurueta.algebra.AlgebraException;
+import com.irurueta.algebra.Matrix;
+import com.irurueta.navigation.frames.CoordinateTransformation;
+import com.irurueta.navigation.frames.ECEFPosition;
+import com.irurueta.navigation.frames.ECEFVelocity;
+import com.irurueta.navigation.frames.FrameType;
+import com.irurueta.navigation.frames.NEDPosition;
+import com.irurueta.navigation.frames.NEDVelocity;
+import com.irurueta.navigation.frames.converters.NEDtoECEFPositionVelocityConverter;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks covariance propagation P' = PHI * (P + Q/2) * PHI^T + Q/2 of the loosely
+ * (15 states) and tightly (17 states) coupled Kalman filters using dense matrix products
+ * against {@link INSBlockSparseTransition}.
+ * This benchmark belongs to the same package as {@link INSBlockSparseTransition}, since
+ * it is package-private.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class INSBlockSparseTransitionBenchmark {
+
+    /**
+     * Time interval between epochs expressed in seconds (s).
+     */
+    private static final double TIME_INTERVAL_SECONDS = 0.01;
+
+    /**
+     * Half of the diagonal of system noise covariance.
+     */
+    private static final double Q_HALF = 1e-6;
+
+    /**
+     * True to include receiver clock states (tightly coupled filter), false otherwise
+     * (loosely coupled filter).
+     */
+    @Param({"false", "true"})
+    private boolean withClock;
+
+    /**
+     * Block-sparse transition.
+     */
+    private INSBlockSparseTransition phi;
+
+    /**
+     * Dense transition matrix.
+     */
+    private Matrix phiMatrix;
+
+    /**
+     * Previous covariance.
+     */
+    private Matrix p;
+
+    /**
+     * Diagonal of half of system noise covariance.
+     */
+    private double[] qHalf;
+
+    /**
+     * Half of system noise covariance as a dense matrix.
+     */
+    private Matrix qHalfMatrix;
+
+    /**
+     * Propagated covariance.
+     */
+    private Matrix result;
+
+    @Setup
+    public void setUp() throws AlgebraException {
+        phi = new INSBlockSparseTransition(withClock);
+        final var n = phi.getNumberOfStates();
+
+        final var cbe = new CoordinateTransformation(0.1, -0.2, 0.3, FrameType.BODY_FRAME,
+                FrameType.EARTH_CENTERED_EARTH_FIXED_FRAME);
+        final var nedPosition = new NEDPosition(Math.toRadians(41.38), Math.toRadians(2.17), 50.0);
+        final var ecefPosition = new ECEFPosition();
+        NEDtoECEFPositionVelocityConverter.convertNEDtoECEF(nedPosition, new NEDVelocity(), ecefPosition,
+                new ECEFVelocity());
+        phi.setFirstOrder(TIME_INTERVAL_SECONDS, cbe.getMatrix(), 0.1, -0.2, -9.81,
+                ecefPosition.getX(), ecefPosition.getY(), ecefPosition.getZ(), nedPosition.getLatitude());
+
+        p = INSBlockSparseTransitionTest.createCovariance(n, new Random(0L));
+        qHalf = new double[n];
+        for (var i = 0; i < n; i++) {
+            qHalf[i] = Q_HALF;
+        }
+
+        phiMatrix = new Matrix(n, n);
+        phi.toMatrix(phiMatrix);
+        qHalfMatrix = Matrix.diagonal(qHalf);
+        result = new Matrix(n, n);
+    }
+
+    /**
+     * Propagates covariance using dense products, as done before block-sparse kernels
+     * were available.
+     *
+     * @return propagated covariance.
+     * @throws AlgebraException if matrices have wrong sizes.
+     */
+    @Benchmark
+    public Matrix dense() throws AlgebraException {
+        final var tmp = p.addAndReturnNew(qHalfMatrix);
+        final var propagated = phiMatrix.multiplyAndReturnNew(tmp);
+        propagated.multiply(phiMatrix.transposeAndReturnNew());
+        propagated.add(qHalfMatrix);
+        return propagated;
+    }
+
+    /**
+     * Propagates covariance using block-sparse kernels.
+     *
+     * @return propagated covariance.
+     */
+    @Benchmark
+    public Matrix blockSparse() {
+        phi.propagate(p, qHalf, result);
+        return result;
+    }
+}
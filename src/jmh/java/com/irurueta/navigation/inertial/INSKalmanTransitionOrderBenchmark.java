@@ -0,0 +1,172 @@
+/*
+ * Copyright (C) 2026 Alberto Irurueta Carro (alberto@irurueta.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.irurueta.navigation.inertial;
+
+import com.irurueta.algebra.AlgebraException;
+import com.irurueta.algebra.Matrix;
+import com.irurueta.navigation.frames.CoordinateTransformation;
+import com.irurueta.navigation.frames.ECEFPosition;
+import com.irurueta.navigation.frames.ECEFVelocity;
+import com.irurueta.navigation.frames.FrameType;
+import com.irurueta.navigation.frames.NEDPosition;
+import com.irurueta.navigation.frames.NEDVelocity;
+import com.irurueta.navigation.frames.converters.NEDtoECEFPositionVelocityConverter;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks covariance propagation of the loosely (15 states) and tightly (17 states)
+ * coupled Kalman filters along one second of navigation for each
+ * {@link INSKalmanTransitionOrder} and several propagation rates, so that the cost of
+ * higher orders at lower rates can be compared against first order at higher rates.
+ * Accuracy of each order is verified by {@link INSKalmanTransitionDiscretizerTest}.
+ * This benchmark belongs to the same package as {@link INSBlockSparseTransition} and
+ * {@link INSKalmanTransitionDiscretizer}, since they are package-private.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class INSKalmanTransitionOrderBenchmark {
+
+    /**
+     * Propagated horizon expressed in seconds (s).
+     */
+    private static final double HORIZON_SECONDS = 1.0;
+
+    /**
+     * Power spectral density of system noise.
+     */
+    private static final double NOISE_PSD = 1e-4;
+
+    /**
+     * Specific force x coordinate expressed in meters per squared second (m/s^2).
+     */
+    private static final double FX = 0.5;
+
+    /**
+     * Specific force y coordinate expressed in meters per squared second (m/s^2).
+     */
+    private static final double FY = -0.3;
+
+    /**
+     * Specific force z coordinate expressed in meters per squared second (m/s^2).
+     */
+    private static final double FZ = -9.81;
+
+    /**
+     * True to include receiver clock states (tightly coupled filter), false otherwise
+     * (loosely coupled filter).
+     */
+    @Param({"false", "true"})
+    private boolean withClock;
+
+    /**
+     * Transition order.
+     */
+    @Param({"FIRST_ORDER", "SECOND_ORDER", "EXPONENTIAL"})
+    private INSKalmanTransitionOrder order;
+
+    /**
+     * Propagation rate expressed in Hertzs (Hz).
+     */
+    @Param({"10", "20", "100"})
+    private int rate;
+
+    /**
+     * First-order transition.
+     */
+    private INSBlockSparseTransition phi;
+
+    /**
+     * Discretizer of higher order transitions.
+     */
+    private INSKalmanTransitionDiscretizer discretizer;
+
+    /**
+     * Diagonal of half of system noise covariance.
+     */
+    private double[] qHalf;
+
+    /**
+     * Initial covariance.
+     */
+    private Matrix p0;
+
+    /**
+     * Covariance propagated in place.
+     */
+    private Matrix p;
+
+    @Setup
+    public void setUp() throws AlgebraException {
+        final var interval = HORIZON_SECONDS / rate;
+
+        final var cbe = new CoordinateTransformation(0.1, -0.2, 0.3, FrameType.BODY_FRAME,
+                FrameType.EARTH_CENTERED_EARTH_FIXED_FRAME);
+        final var nedPosition = new NEDPosition(Math.toRadians(41.38), Math.toRadians(2.17), 50.0);
+        final var ecefPosition = new ECEFPosition();
+        NEDtoECEFPositionVelocityConverter.convertNEDtoECEF(nedPosition, new NEDVelocity(), ecefPosition,
+                new ECEFVelocity());
+
+        phi = new INSBlockSparseTransition(withClock);
+        phi.setFirstOrder(interval, cbe.getMatrix(), FX, FY, FZ, ecefPosition.getX(), ecefPosition.getY(),
+                ecefPosition.getZ(), nedPosition.getLatitude());
+        final var n = phi.getNumberOfStates();
+        discretizer = new INSKalmanTransitionDiscretizer(n);
+        qHalf = new double[n];
+        for (var i = 0; i < n; i++) {
+            qHalf[i] = 0.5 * NOISE_PSD * interval;
+        }
+
+        p0 = INSBlockSparseTransitionTest.createCovariance(n, new Random(0L));
+        p = new Matrix(p0);
+    }
+
+    /**
+     * Propagates covariance along one second with provided order and rate, discretizing
+     * transition on every epoch as done by epoch estimators.
+     *
+     * @return propagated covariance.
+     */
+    @Benchmark
+    public Matrix propagateOneSecond() {
+        p.copyFrom(p0);
+        for (var i = 0; i < rate; i++) {
+            if (order == INSKalmanTransitionOrder.FIRST_ORDER) {
+                phi.propagate(p, qHalf, p);
+            } else {
+                discretizer.discretize(phi, qHalf, order);
+                discretizer.propagate(p, p);
+            }
+        }
+        return p;
+    }
+}
@@ -0,0 +1,367 @@
+/*
+ * Copyright (C) 2026 Alberto Irurueta Carro (alberto@irurueta.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.irurueta.navigation.inertial.benchmark;
+
+import com.irurueta.algebra.Matrix;
+import com.irurueta.algebra.WrongSizeException;
+import com.irurueta.navigation.frames.CoordinateTransformation;
+import com.irurueta.navigation.frames.ECEFFrame;
+import com.irurueta.navigation.frames.FrameType;
+import com.irurueta.navigation.frames.InvalidSourceAndDestinationFrameTypeException;
+import com.irurueta.navigation.frames.NEDFrame;
+import com.irurueta.navigation.frames.NEDPosition;
+import com.irurueta.navigation.frames.converters.NEDtoECEFFrameConverter;
+import com.irurueta.navigation.gnss.GNSSMeasurement;
+import com.irurueta.navigation.inertial.BodyKinematics;
+import com.irurueta.navigation.inertial.calibration.BodyKinematicsGenerator;
+import com.irurueta.navigation.inertial.calibration.BodyMagneticFluxDensityGenerator;
+import com.irurueta.navigation.inertial.calibration.IMUErrors;
+import com.irurueta.navigation.inertial.calibration.StandardDeviationFrameBodyKinematics;
+import com.irurueta.navigation.inertial.calibration.StandardDeviationFrameBodyMagneticFluxDensity;
+import com.irurueta.navigation.inertial.estimators.BodyMagneticFluxDensityEstimator;
+import com.irurueta.navigation.inertial.estimators.ECEFKinematicsEstimator;
+import com.irurueta.navigation.inertial.wmm.WMMEarthMagneticFluxDensityEstimator;
+import com.irurueta.statistics.UniformRandomizer;
+
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Deterministic synthetic inputs shared by benchmarks.
+ * All data is generated from a fixed seed, so that every run of a benchmark
+ * processes exactly the same samples.
+ */
+final class BenchmarkData {
+
+    /**
+     * Seed used to generate synthetic data.
+     */
+    static final long SEED = 20260101L;
+
+    /**
+     * Time interval between samples expressed in seconds (s).
+     */
+    static final double TIME_INTERVAL_SECONDS = 0.02;
+
+    /**
+     * Latitude of synthetic position expressed in degrees.
+     */
+    private static final double LATITUDE_DEGREES = 41.3825;
+
+    /**
+     * Longitude of synthetic position expressed in degrees.
+     */
+    private static final double LONGITUDE_DEGREES = 2.176944;
+
+    /**
+     * Height of synthetic position expressed in meters (m).
+     */
+    private static final double HEIGHT = 3.0;
+
+    /**
+     * Minimum random angle for synthetic attitudes expressed in degrees.
+     */
+    private static final double MIN_ANGLE_DEGREES = -90.0;
+
+    /**
+     * Maximum random angle for synthetic attitudes expressed in degrees.
+     */
+    private static final double MAX_ANGLE_DEGREES = 90.0;
+
+    /**
+     * Conversion from micro g's to meters per squared second (m/s^2).
+     */
+    private static final double MICRO_G_TO_METERS_PER_SECOND_SQUARED = 9.80665E-6;
+
+    /**
+     * Conversion from degrees to radians.
+     */
+    private static final double DEG_TO_RAD = 0.01745329252;
+
+    /**
+     * Percentage of outliers contained in calibration measurements.
+     */
+    private static final int OUTLIER_PERCENTAGE = 20;
+
+    /**
+     * Factor to scale noise of outliers.
+     */
+    private static final double OUTLIER_ERROR_FACTOR = 100.0;
+
+    /**
+     * Orbit radius of synthetic satellites expressed in meters (m).
+     */
+    private static final double SATELLITE_ORBIT_RADIUS = 26560000.0;
+
+    /**
+     * Magnetometer noise standard deviation expressed in Teslas (T).
+     */
+    private static final double MAGNETOMETER_NOISE_STD = 200e-9;
+
+    /**
+     * Timestamp of magnetic measurements.
+     */
+    private static final Date TIMESTAMP = new Date(1767225600000L);
+
+    /**
+     * Constructor.
+     */
+    private BenchmarkData() {
+    }
+
+    /**
+     * Creates a random generator initialized with the benchmark seed.
+     *
+     * @return a new random generator.
+     */
+    static Random createRandom() {
+        return new Random(SEED);
+    }
+
+    /**
+     * Creates position used for synthetic data.
+     *
+     * @return position.
+     */
+    static NEDPosition createPosition() {
+        return new NEDPosition(Math.toRadians(LATITUDE_DEGREES), Math.toRadians(LONGITUDE_DEGREES), HEIGHT);
+    }
+
+    /**
+     * Creates a static ECEF frame at the synthetic position with a random attitude.
+     *
+     * @param randomizer randomizer.
+     * @return ECEF frame.
+     * @throws InvalidSourceAndDestinationFrameTypeException never happens.
+     */
+    static ECEFFrame createStaticFrame(final UniformRandomizer randomizer)
+            throws InvalidSourceAndDestinationFrameTypeException {
+        final var roll = Math.toRadians(randomizer.nextDouble(MIN_ANGLE_DEGREES, MAX_ANGLE_DEGREES));
+        final var pitch = Math.toRadians(randomizer.nextDouble(MIN_ANGLE_DEGREES, MAX_ANGLE_DEGREES));
+        final var yaw = Math.toRadians(randomizer.nextDouble(MIN_ANGLE_DEGREES, MAX_ANGLE_DEGREES));
+        final var nedC = new CoordinateTransformation(roll, pitch, yaw, FrameType.BODY_FRAME,
+                FrameType.LOCAL_NAVIGATION_FRAME);
+        final var nedFrame = new NEDFrame(createPosition(), nedC);
+        return NEDtoECEFFrameConverter.convertNEDtoECEFAndReturnNew(nedFrame);
+    }
+
+    /**
+     * Creates IMU errors of a typical consumer grade IMU.
+     *
+     * @param noiseFactor factor to scale noise.
+     * @return IMU errors.
+     * @throws WrongSizeException never happens.
+     */
+    static IMUErrors createErrors(final double noiseFactor) throws WrongSizeException {
+        final var ba = new double[]{
+                900 * MICRO_G_TO_METERS_PER_SECOND_SQUARED,
+                -1300 * MICRO_G_TO_METERS_PER_SECOND_SQUARED,
+                800 * MICRO_G_TO_METERS_PER_SECOND_SQUARED};
+        final var bg = new double[]{
+                -9 * DEG_TO_RAD / 3600.0,
+                13 * DEG_TO_RAD / 3600.0,
+                -8 * DEG_TO_RAD / 3600.0};
+        final var ma = new Matrix(3, 3);
+        ma.fromArray(new double[]{
+                500e-6, -300e-6, 200e-6,
+                -150e-6, -600e-6, 250e-6,
+                -250e-6, 100e-6, 450e-6
+        }, false);
+        final var mg = new Matrix(3, 3);
+        mg.fromArray(new double[]{
+                400e-6, -300e-6, 250e-6,
+                0.0, -300e-6, -150e-6,
+                0.0, 0.0, -350e-6
+        }, false);
+        final var tmp = DEG_TO_RAD / (3600 * 9.80665);
+        final var gg = new Matrix(3, 3);
+        gg.fromArray(new double[]{
+                0.9 * tmp, -1.1 * tmp, -0.6 * tmp,
+                -0.5 * tmp, 1.9 * tmp, -1.6 * tmp,
+                0.3 * tmp, 1.1 * tmp, -1.3 * tmp
+        }, false);
+
+        return new IMUErrors(ba, bg, ma, mg, gg, noiseFactor * getAccelNoiseRootPSD(),
+                noiseFactor * getGyroNoiseRootPSD(), 0.0, 0.0);
+    }
+
+    /**
+     * Generates a sequence of measured kinematics of a static IMU.
+     *
+     * @param count  number of samples.
+     * @param random random generator.
+     * @return generated kinematics.
+     * @throws WrongSizeException                            never happens.
+     * @throws InvalidSourceAndDestinationFrameTypeException never happens.
+     */
+    static List<BodyKinematics> generateStaticKinematics(final int count, final Random random)
+            throws WrongSizeException, InvalidSourceAndDestinationFrameTypeException {
+        final var frame = createStaticFrame(new UniformRandomizer(random));
+        final var trueKinematics = ECEFKinematicsEstimator.estimateKinematicsAndReturnNew(TIME_INTERVAL_SECONDS,
+                frame, frame);
+        final var errors = createErrors(1.0);
+
+        final var result = new ArrayList<BodyKinematics>(count);
+        for (var i = 0; i < count; i++) {
+            result.add(BodyKinematicsGenerator.generate(TIME_INTERVAL_SECONDS, trueKinematics, errors, random));
+        }
+        return result;
+    }
+
+    /**
+     * Generates measurements of a static IMU at random attitudes to calibrate
+     * accelerometers and gyroscopes using known frames.
+     * Inliers have no noise and outliers have large noise.
+     *
+     * @param count  number of measurements.
+     * @param random random generator.
+     * @return generated measurements.
+     * @throws WrongSizeException                            never happens.
+     * @throws InvalidSourceAndDestinationFrameTypeException never happens.
+     */
+    static List<StandardDeviationFrameBodyKinematics> generateFrameMeasurements(
+            final int count, final Random random)
+            throws WrongSizeException, InvalidSourceAndDestinationFrameTypeException {
+        final var randomizer = new UniformRandomizer(random);
+        final var errorsInlier = createErrors(0.0);
+        final var errorsOutlier = createErrors(OUTLIER_ERROR_FACTOR);
+
+        final var sqrtTimeInterval = Math.sqrt(TIME_INTERVAL_SECONDS);
+        final var specificForceStandardDeviation = getAccelNoiseRootPSD() / sqrtTimeInterval;
+        final var angularRateStandardDeviation = getGyroNoiseRootPSD() / sqrtTimeInterval;
+
+        final var result = new ArrayList<StandardDeviationFrameBodyKinematics>(count);
+        for (var i = 0; i < count; i++) {
+            final var frame = createStaticFrame(randomizer);
+            final var trueKinematics = ECEFKinematicsEstimator.estimateKinematicsAndReturnNew(TIME_INTERVAL_SECONDS,
+                    frame, frame);
+            final var errors = randomizer.nextInt(0, 100) < OUTLIER_PERCENTAGE ? errorsOutlier : errorsInlier;
+            final var measuredKinematics = BodyKinematicsGenerator.generate(TIME_INTERVAL_SECONDS, trueKinematics,
+                    errors, random);
+
+            result.add(new StandardDeviationFrameBodyKinematics(measuredKinematics, frame, frame,
+                    TIME_INTERVAL_SECONDS, specificForceStandardDeviation, angularRateStandardDeviation));
+        }
+        return result;
+    }
+
+    /**
+     * Generates magnetometer measurements at random attitudes to calibrate
+     * magnetometers using known frames.
+     * Inliers have no noise and outliers have large noise.
+     *
+     * @param count        number of measurements.
+     * @param random       random generator.
+     * @param wmmEstimator Earth magnetic flux density estimator.
+     * @return generated measurements.
+     * @throws WrongSizeException                            never happens.
+     * @throws InvalidSourceAndDestinationFrameTypeException never happens.
+     */
+    static List<StandardDeviationFrameBodyMagneticFluxDensity> generateMagneticMeasurements(
+            final int count, final Random random, final WMMEarthMagneticFluxDensityEstimator wmmEstimator)
+            throws WrongSizeException, InvalidSourceAndDestinationFrameTypeException {
+        final var randomizer = new UniformRandomizer(random);
+        final var position = createPosition();
+        final var earthB = wmmEstimator.estimate(position, TIMESTAMP);
+        final var hardIron = new double[]{1e-6, -2e-6, 3e-6};
+        final var softIron = Matrix.identity(3, 3);
+        softIron.multiplyByScalar(1e-3);
+
+        final var result = new ArrayList<StandardDeviationFrameBodyMagneticFluxDensity>(count);
+        for (var i = 0; i < count; i++) {
+            final var roll = Math.toRadians(randomizer.nextDouble(MIN_ANGLE_DEGREES, MAX_ANGLE_DEGREES));
+            final var pitch = Math.toRadians(randomizer.nextDouble(MIN_ANGLE_DEGREES, MAX_ANGLE_DEGREES));
+            final var yaw = Math.toRadians(randomizer.nextDouble(MIN_ANGLE_DEGREES, MAX_ANGLE_DEGREES));
+            final var cnb = new CoordinateTransformation(roll, pitch, yaw, FrameType.LOCAL_NAVIGATION_FRAME,
+                    FrameType.BODY_FRAME);
+
+            final var truthMagnetic = BodyMagneticFluxDensityEstimator.estimate(earthB, cnb);
+            final var measuredMagnetic = BodyMagneticFluxDensityGenerator.generate(truthMagnetic, hardIron,
+                    softIron);
+            if (randomizer.nextInt(0, 100) < OUTLIER_PERCENTAGE) {
+                final var outlierStd = OUTLIER_ERROR_FACTOR * MAGNETOMETER_NOISE_STD;
+                measuredMagnetic.setBx(measuredMagnetic.getBx() + outlierStd * random.nextGaussian());
+                measuredMagnetic.setBy(measuredMagnetic.getBy() + outlierStd * random.nextGaussian());
+                measuredMagnetic.setBz(measuredMagnetic.getBz() + outlierStd * random.nextGaussian());
+            }
+
+            final var frame = new NEDFrame(position, cnb.inverseAndReturnNew());
+            result.add(new StandardDeviationFrameBodyMagneticFluxDensity(measuredMagnetic, frame, TIMESTAMP,
+                    MAGNETOMETER_NOISE_STD));
+        }
+        return result;
+    }
+
+    /**
+     * Generates GNSS measurements of satellites in view of a receiver.
+     *
+     * @param count    number of satellites.
+     * @param receiver receiver frame.
+     * @param random   random generator.
+     * @return generated measurements.
+     */
+    static List<GNSSMeasurement> generateGnssMeasurements(final int count, final ECEFFrame receiver,
+                                                          final Random random) {
+        final var randomizer = new UniformRandomizer(random);
+        final var latitude = Math.toRadians(LATITUDE_DEGREES);
+        final var longitude = Math.toRadians(LONGITUDE_DEGREES);
+
+        final var result = new ArrayList<GNSSMeasurement>(count);
+        for (var i = 0; i < count; i++) {
+            // satellites distributed above receiver
+            final var satLatitude = latitude + randomizer.nextDouble(-0.6, 0.6);
+            final var satLongitude = longitude + randomizer.nextDouble(-0.6, 0.6);
+            final var x = SATELLITE_ORBIT_RADIUS * Math.cos(satLatitude) * Math.cos(satLongitude);
+            final var y = SATELLITE_ORBIT_RADIUS * Math.cos(satLatitude) * Math.sin(satLongitude);
+            final var z = SATELLITE_ORBIT_RADIUS * Math.sin(satLatitude);
+            final var vx = randomizer.nextDouble(-3000.0, 3000.0);
+            final var vy = randomizer.nextDouble(-3000.0, 3000.0);
+            final var vz = randomizer.nextDouble(-3000.0, 3000.0);
+
+            final var dx = x - receiver.getX();
+            final var dy = y - receiver.getY();
+            final var dz = z - receiver.getZ();
+            final var range = Math.sqrt(dx * dx + dy * dy + dz * dz);
+            final var rate = (dx * (vx - receiver.getVx()) + dy * (vy - receiver.getVy())
+                    + dz * (vz - receiver.getVz())) / range;
+
+            result.add(new GNSSMeasurement(range, rate, x, y, z, vx, vy, vz));
+        }
+        return result;
+    }
+
+    /**
+     * Gets accelerometer noise root PSD (Power Spectral Density) expressed in
+     * (m * s^-1.5).
+     *
+     * @return accelerometer noise root PSD.
+     */
+    static double getAccelNoiseRootPSD() {
+        return 100.0 * MICRO_G_TO_METERS_PER_SECOND_SQUARED;
+    }
+
+    /**
+     * Gets gyroscope noise root PSD (Power Spectral Density) expressed in
+     * (rad * s^-0.5).
+     *
+     * @return gyroscope noise root PSD.
+     */
+    static double getGyroNoiseRootPSD() {
+        return 0.01 * DEG_TO_RAD / 60.0;
+    }
+}
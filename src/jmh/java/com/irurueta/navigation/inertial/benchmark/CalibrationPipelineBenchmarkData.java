@@ -0,0 +1,350 @@
+/*
+ * Copyright (C) 2026 Alberto Irurueta Carro (alberto@irurueta.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.irurueta.navigation.inertial.benchmark;
+
+import com.irurueta.algebra.Matrix;
+import com.irurueta.algebra.WrongSizeException;
+import com.irurueta.navigation.LockedException;
+import com.irurueta.navigation.frames.NEDVelocity;
+import com.irurueta.navigation.inertial.BodyKinematics;
+import com.irurueta.navigation.inertial.BodyMagneticFluxDensity;
+import com.irurueta.navigation.inertial.calibration.IMUErrors;
+import com.irurueta.navigation.inertial.calibration.TimedBodyKinematicsAndMagneticFluxDensity;
+import com.irurueta.navigation.inertial.calibration.pipeline.CalibrationPipelineDevice;
+import com.irurueta.navigation.inertial.calibration.pipeline.CalibrationPipelineRunner;
+import com.irurueta.navigation.inertial.estimators.ECEFGravityEstimator;
+import com.irurueta.navigation.inertial.simulation.MotionSegment;
+import com.irurueta.navigation.inertial.simulation.ReferenceTrajectory;
+import com.irurueta.navigation.inertial.simulation.TrajectorySimulator;
+import com.irurueta.navigation.inertial.wmm.WMMEarthMagneticFluxDensityEstimator;
+import com.irurueta.numerical.robust.RobustEstimatorMethod;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Random;
+
+/**
+ * Deterministic synthetic devices shared by calibration pipeline benchmarks.
+ * Devices are placed at several static orientations separated by smooth rotations, and
+ * their samples are simulated on demand, so that only devices being calibrated keep their
+ * samples in memory.
+ */
+final class CalibrationPipelineBenchmarkData {
+
+    /**
+     * Number of samples while simulated devices remain static at the beginning.
+     */
+    static final int INITIAL_STATIC_SAMPLES = 500;
+
+    /**
+     * Number of static orientations of simulated devices after initialization.
+     */
+    static final int NUM_INTERVALS = 20;
+
+    /**
+     * Number of samples of each static orientation.
+     */
+    private static final int STATIC_SAMPLES = 400;
+
+    /**
+     * Number of samples of each rotation between static orientations.
+     */
+    private static final int DYNAMIC_SAMPLES = 100;
+
+    /**
+     * Number of samples of each segment of a rotation.
+     */
+    private static final int ROTATION_STEP_SAMPLES = 2;
+
+    /**
+     * Decimal year used to estimate Earth magnetic flux density.
+     */
+    private static final double YEAR = 2026.5;
+
+    /**
+     * Maximum pitch of static orientations expressed in radians (rad).
+     */
+    private static final double MAX_PITCH = Math.PI / 3.0;
+
+    /**
+     * Maximum variation of each Euler angle between static orientations expressed in
+     * radians (rad).
+     */
+    private static final double MAX_ANGLE_VARIATION = Math.PI / 2.0;
+
+    /**
+     * Maximum hard iron of simulated magnetometers expressed in Teslas (T).
+     */
+    private static final double MAX_HARD_IRON = 1e-6;
+
+    /**
+     * Maximum value of each element of simulated cross-coupling and soft iron matrices.
+     */
+    private static final double MAX_CROSS_COUPLING = 1e-3;
+
+    /**
+     * Standard deviation of simulated magnetometer noise expressed in Teslas (T).
+     */
+    private static final double MAGNETOMETER_NOISE_STANDARD_DEVIATION = 1e-9;
+
+    /**
+     * Constructor.
+     */
+    private CalibrationPipelineBenchmarkData() {
+    }
+
+    /**
+     * Creates a device whose samples are simulated on demand.
+     *
+     * @param simulator simulator of device samples.
+     * @param run       run of simulated noise, so that devices sharing a simulator use
+     *                  different noise realizations.
+     * @return a new device.
+     */
+    static CalibrationPipelineDevice createDevice(final TrajectorySimulator simulator, final int run) {
+        return new SimulatedDevice(simulator, BenchmarkData.SEED, run);
+    }
+
+    /**
+     * Configures a runner to calibrate simulated devices using MSAC, leaving its maximum
+     * number of iterations and confidence unchanged.
+     *
+     * @param runner runner to be configured.
+     * @throws LockedException if runner is running.
+     */
+    static void configure(final CalibrationPipelineRunner runner) throws LockedException {
+        runner.setRobustMethod(RobustEstimatorMethod.MSAC);
+        runner.setCommonAxisUsed(true);
+        runner.setGDependentCrossBiasesEstimated(false);
+        runner.setTimeInterval(BenchmarkData.TIME_INTERVAL_SECONDS);
+        runner.setInitialStaticSamples(INITIAL_STATIC_SAMPLES);
+    }
+
+    /**
+     * Creates a simulator of a device with random errors placed at random static
+     * orientations separated by rotations.
+     *
+     * @param random random generator.
+     * @return a new simulator.
+     * @throws IOException if World Magnetic Model cannot be loaded.
+     */
+    static TrajectorySimulator createSimulator(final Random random) throws IOException {
+        final var timeInterval = BenchmarkData.TIME_INTERVAL_SECONDS;
+        final var segments = new ArrayList<MotionSegment>();
+        segments.add(MotionSegment.createConstantVelocity(INITIAL_STATIC_SAMPLES * timeInterval));
+
+        var roll = 0.0;
+        var pitch = 0.0;
+        var yaw = 0.0;
+        for (var i = 0; i <= NUM_INTERVALS; i++) {
+            final var newRoll = roll + MAX_ANGLE_VARIATION * (2.0 * random.nextDouble() - 1.0);
+            final var newPitch = Math.max(-MAX_PITCH, Math.min(MAX_PITCH,
+                    pitch + MAX_ANGLE_VARIATION * (2.0 * random.nextDouble() - 1.0)));
+            final var newYaw = yaw + MAX_ANGLE_VARIATION * (2.0 * random.nextDouble() - 1.0);
+            addRotation(segments, newRoll - roll, newPitch - pitch, newYaw - yaw);
+            segments.add(MotionSegment.createConstantVelocity(i < NUM_INTERVALS
+                    ? STATIC_SAMPLES * timeInterval : timeInterval));
+            roll = newRoll;
+            pitch = newPitch;
+            yaw = newYaw;
+        }
+
+        final var trajectory = ReferenceTrajectory.create(timeInterval, BenchmarkData.createPosition(),
+                new NEDVelocity(), 0.0, 0.0, 0.0, segments);
+        trajectory.computeMagneticFluxDensity(new WMMEarthMagneticFluxDensityEstimator(), YEAR);
+
+        final var simulator = new TrajectorySimulator(trajectory, createErrors(random));
+        simulator.setMagnetometerHardIron(new double[]{
+                MAX_HARD_IRON * (2.0 * random.nextDouble() - 1.0),
+                MAX_HARD_IRON * (2.0 * random.nextDouble() - 1.0),
+                MAX_HARD_IRON * (2.0 * random.nextDouble() - 1.0)});
+        simulator.setMagnetometerSoftIron(createUpperTriangularMatrix(random));
+        simulator.setMagnetometerNoiseStandardDeviation(MAGNETOMETER_NOISE_STANDARD_DEVIATION);
+        return simulator;
+    }
+
+    /**
+     * Adds segments rotating body by provided Euler angle increments with a smooth rate
+     * profile, so that sampled angular rates can be accurately integrated.
+     *
+     * @param segments   list where segments are added.
+     * @param deltaRoll  roll increment expressed in radians (rad).
+     * @param deltaPitch pitch increment expressed in radians (rad).
+     * @param deltaYaw   yaw increment expressed in radians (rad).
+     */
+    private static void addRotation(final List<MotionSegment> segments, final double deltaRoll,
+                                    final double deltaPitch, final double deltaYaw) {
+        final var steps = DYNAMIC_SAMPLES / ROTATION_STEP_SAMPLES;
+        final var stepDuration = ROTATION_STEP_SAMPLES * BenchmarkData.TIME_INTERVAL_SECONDS;
+        for (var k = 0; k < steps; k++) {
+            // rates follow a raised cosine whose integral over all steps is one
+            final var weight = (1.0 - Math.cos(2.0 * Math.PI * (k + 0.5) / steps)) / (steps * stepDuration);
+            segments.add(MotionSegment.createRotation(stepDuration, deltaRoll * weight, deltaPitch * weight,
+                    deltaYaw * weight));
+        }
+    }
+
+    /**
+     * Creates random IMU errors using the noise of a typical consumer grade IMU.
+     *
+     * @param random random generator.
+     * @return IMU errors.
+     */
+    private static IMUErrors createErrors(final Random random) {
+        final var maxAccelerometerBias = 10.0 * BenchmarkData.getAccelNoiseRootPSD();
+        final var maxGyroscopeBias = 10.0 * Math.toRadians(1.0) / 3600.0;
+        final var ba = new double[]{
+                maxAccelerometerBias * (2.0 * random.nextDouble() - 1.0),
+                maxAccelerometerBias * (2.0 * random.nextDouble() - 1.0),
+                maxAccelerometerBias * (2.0 * random.nextDouble() - 1.0)};
+        final var bg = new double[]{
+                maxGyroscopeBias * (2.0 * random.nextDouble() - 1.0),
+                maxGyroscopeBias * (2.0 * random.nextDouble() - 1.0),
+                maxGyroscopeBias * (2.0 * random.nextDouble() - 1.0)};
+        try {
+            return new IMUErrors(ba, bg, createUpperTriangularMatrix(random), createUpperTriangularMatrix(random),
+                    new Matrix(3, 3), BenchmarkData.getAccelNoiseRootPSD(), BenchmarkData.getGyroNoiseRootPSD(),
+                    0.0, 0.0);
+        } catch (final WrongSizeException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * Creates a random upper triangular matrix of small cross-coupling errors.
+     *
+     * @param random random generator.
+     * @return a new matrix.
+     */
+    private static Matrix createUpperTriangularMatrix(final Random random) {
+        try {
+            final var result = new Matrix(3, 3);
+            for (var i = 0; i < 3; i++) {
+                for (var j = i; j < 3; j++) {
+                    result.setElementAt(i, j, MAX_CROSS_COUPLING * (2.0 * random.nextDouble() - 1.0));
+                }
+            }
+            return result;
+        } catch (final WrongSizeException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * Device whose samples are simulated on demand by a {@link TrajectorySimulator}.
+     * A single sample instance is reused while iterating.
+     */
+    private static final class SimulatedDevice implements CalibrationPipelineDevice {
+
+        /**
+         * Simulator of device samples.
+         */
+        private final TrajectorySimulator simulator;
+
+        /**
+         * Seed of simulated noise.
+         */
+        private final long seed;
+
+        /**
+         * Run of simulated noise.
+         */
+        private final int run;
+
+        /**
+         * Norm of ground truth gravity at the beginning of the trajectory.
+         */
+        private final double gravityNorm;
+
+        /**
+         * Norm of ground truth magnetic flux density at the beginning of the trajectory.
+         */
+        private final double magneticFluxDensityNorm;
+
+        /**
+         * Constructor.
+         *
+         * @param simulator simulator of device samples.
+         * @param seed      seed of simulated noise.
+         * @param run       run of simulated noise.
+         */
+        SimulatedDevice(final TrajectorySimulator simulator, final long seed, final int run) {
+            this.simulator = simulator;
+            this.seed = seed;
+            this.run = run;
+
+            final var trajectory = simulator.getTrajectory();
+            gravityNorm = ECEFGravityEstimator.estimateGravityAndReturnNew(trajectory.getX()[0],
+                    trajectory.getY()[0], trajectory.getZ()[0]).getNorm();
+            magneticFluxDensityNorm = Math.sqrt(trajectory.getBx()[0] * trajectory.getBx()[0]
+                    + trajectory.getBy()[0] * trajectory.getBy()[0]
+                    + trajectory.getBz()[0] * trajectory.getBz()[0]);
+        }
+
+        @Override
+        public double getGroundTruthGravityNorm() {
+            return gravityNorm;
+        }
+
+        @Override
+        public double getGroundTruthMagneticFluxDensityNorm() {
+            return magneticFluxDensityNorm;
+        }
+
+        @Override
+        public Iterable<TimedBodyKinematicsAndMagneticFluxDensity> getSamples() {
+            return () -> {
+                final var simulated = simulator.simulate(seed, run);
+                final var timeInterval = simulator.getTrajectory().getTimeInterval();
+                final var kinematics = new BodyKinematics();
+                final var magneticFluxDensity = new BodyMagneticFluxDensity();
+                final var sample = new TimedBodyKinematicsAndMagneticFluxDensity(kinematics, magneticFluxDensity);
+
+                return new Iterator<>() {
+
+                    private int epoch;
+
+                    @Override
+                    public boolean hasNext() {
+                        return epoch < simulated.getEpochs();
+                    }
+
+                    @Override
+                    public TimedBodyKinematicsAndMagneticFluxDensity next() {
+                        if (!hasNext()) {
+                            throw new NoSuchElementException();
+                        }
+
+                        kinematics.setSpecificForceCoordinates(simulated.getFx()[epoch],
+                                simulated.getFy()[epoch], simulated.getFz()[epoch]);
+                        kinematics.setAngularRateCoordinates(simulated.getAngularRateX()[epoch],
+                                simulated.getAngularRateY()[epoch], simulated.getAngularRateZ()[epoch]);
+                        magneticFluxDensity.setCoordinates(simulated.getBx()[epoch], simulated.getBy()[epoch],
+                                simulated.getBz()[epoch]);
+                        sample.setKinematics(kinematics);
+                        sample.setMagneticFluxDensity(magneticFluxDensity);
+                        sample.setTimestampSeconds(epoch * timeInterval);
+                        epoch++;
+                        return sample;
+                    }
+                };
+            };
+        }
+    }
+}
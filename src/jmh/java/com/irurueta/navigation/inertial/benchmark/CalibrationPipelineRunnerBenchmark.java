@@ -0,0 +1,119 @@
+/*
+ * Copyright (C) 2026 Alberto Irurueta Carro (alberto@irurueta.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.irurueta.navigation.inertial.benchmark;
+
+import com.irurueta.navigation.LockedException;
+import com.irurueta.navigation.inertial.calibration.pipeline.CalibrationPipelineDevice;
+import com.irurueta.navigation.inertial.calibration.pipeline.CalibrationPipelineResult;
+import com.irurueta.navigation.inertial.calibration.pipeline.CalibrationPipelineRunner;
+import com.irurueta.navigation.inertial.simulation.TrajectorySimulator;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks {@link CalibrationPipelineRunner} calibrating a batch of synthetic devices,
+ * whose samples are simulated on demand along trajectories placing each device at several
+ * static orientations, for several batch sizes, numbers of concurrent calibrations and
+ * maximum numbers of robust iterations.
+ * Devices share a small set of simulated error models and trajectories, but each of them
+ * uses a different noise realization.
+ * Each invocation calibrates the whole batch, hence few iterations are executed.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 1, time = 1)
+@Measurement(iterations = 3, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class CalibrationPipelineRunnerBenchmark {
+
+    /**
+     * Number of simulated error models and trajectories shared by devices.
+     */
+    private static final int NUM_SIMULATORS = 8;
+
+    /**
+     * Number of devices in flight for each concurrent calibration, so that static interval
+     * detection of some devices overlaps with calibrations of others.
+     */
+    private static final int DEVICES_PER_CALIBRATION = 4;
+
+    /**
+     * Number of devices of each batch.
+     */
+    @Param({"10", "100", "1000"})
+    private int devices;
+
+    /**
+     * Maximum number of robust calibrations executed at the same time.
+     */
+    @Param({"1", "4"})
+    private int concurrentCalibrations;
+
+    /**
+     * Maximum number of iterations of each robust calibration, which bounds the time each
+     * device keeps a calibration permit.
+     */
+    @Param({"5", "20"})
+    private int maxIterations;
+
+    /**
+     * Devices to be calibrated.
+     */
+    private List<CalibrationPipelineDevice> batch;
+
+    /**
+     * Runner being benchmarked.
+     */
+    private CalibrationPipelineRunner runner;
+
+    @Setup
+    public void setUp() throws Exception {
+        final var random = BenchmarkData.createRandom();
+        final var simulators = new TrajectorySimulator[NUM_SIMULATORS];
+        for (var i = 0; i < NUM_SIMULATORS; i++) {
+            simulators[i] = CalibrationPipelineBenchmarkData.createSimulator(random);
+        }
+
+        batch = new ArrayList<>();
+        for (var i = 0; i < devices; i++) {
+            batch.add(CalibrationPipelineBenchmarkData.createDevice(simulators[i % NUM_SIMULATORS], i));
+        }
+
+        runner = new CalibrationPipelineRunner(DEVICES_PER_CALIBRATION * concurrentCalibrations,
+                concurrentCalibrations);
+        CalibrationPipelineBenchmarkData.configure(runner);
+        runner.setMaxIterations(maxIterations);
+    }
+
+    @Benchmark
+    public List<CalibrationPipelineResult> run() throws LockedException, InterruptedException {
+        return runner.run(batch);
+    }
+}
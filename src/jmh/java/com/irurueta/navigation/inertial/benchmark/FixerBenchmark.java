@@ -0,0 +1,135 @@
+/*
+ * Copyright (C) 2026 Alberto Irurueta Carro (alberto@irurueta.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.irurueta.navigation.inertial.benchmark;
+
+import com.irurueta.algebra.AlgebraException;
+import com.irurueta.navigation.inertial.BodyKinematics;
+import com.irurueta.navigation.inertial.calibration.BodyKinematicsFixer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks correction of body kinematics samples sample by sample against
+ * in place batch correction of primitive arrays, reported as samples per second.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class FixerBenchmark {
+
+    private static final int SAMPLES = 4096;
+
+    private final BodyKinematicsFixer fixer = new BodyKinematicsFixer();
+
+    private final BodyKinematics result = new BodyKinematics();
+
+    private List<BodyKinematics> kinematics;
+
+    private double[] measuredFx;
+
+    private double[] measuredFy;
+
+    private double[] measuredFz;
+
+    private double[] measuredWx;
+
+    private double[] measuredWy;
+
+    private double[] measuredWz;
+
+    private double[] fx;
+
+    private double[] fy;
+
+    private double[] fz;
+
+    private double[] wx;
+
+    private double[] wy;
+
+    private double[] wz;
+
+    @Setup
+    public void setUp() throws Exception {
+        final var errors = BenchmarkData.createErrors(1.0);
+        fixer.setAccelerationBias(errors.getAccelerometerBiasesAsMatrix());
+        fixer.setAccelerationCrossCouplingErrors(errors.getAccelerometerScaleFactorAndCrossCouplingErrors());
+        fixer.setAngularSpeedBias(errors.getGyroBiasesAsMatrix());
+        fixer.setAngularSpeedCrossCouplingErrors(errors.getGyroScaleFactorAndCrossCouplingErrors());
+        fixer.setAngularSpeedGDependantCrossBias(errors.getGyroGDependentBiases());
+
+        kinematics = BenchmarkData.generateStaticKinematics(SAMPLES, BenchmarkData.createRandom());
+        measuredFx = new double[SAMPLES];
+        measuredFy = new double[SAMPLES];
+        measuredFz = new double[SAMPLES];
+        measuredWx = new double[SAMPLES];
+        measuredWy = new double[SAMPLES];
+        measuredWz = new double[SAMPLES];
+        for (var i = 0; i < SAMPLES; i++) {
+            final var k = kinematics.get(i);
+            measuredFx[i] = k.getFx();
+            measuredFy[i] = k.getFy();
+            measuredFz[i] = k.getFz();
+            measuredWx[i] = k.getAngularRateX();
+            measuredWy[i] = k.getAngularRateY();
+            measuredWz[i] = k.getAngularRateZ();
+        }
+        fx = new double[SAMPLES];
+        fy = new double[SAMPLES];
+        fz = new double[SAMPLES];
+        wx = new double[SAMPLES];
+        wy = new double[SAMPLES];
+        wz = new double[SAMPLES];
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(SAMPLES)
+    public BodyKinematics fixPerSample() throws AlgebraException {
+        for (var i = 0; i < SAMPLES; i++) {
+            fixer.fix(kinematics.get(i), result);
+        }
+        return result;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(SAMPLES)
+    public double[] fixBatch() {
+        // batch correction is done in place, hence measured values are restored first
+        System.arraycopy(measuredFx, 0, fx, 0, SAMPLES);
+        System.arraycopy(measuredFy, 0, fy, 0, SAMPLES);
+        System.arraycopy(measuredFz, 0, fz, 0, SAMPLES);
+        System.arraycopy(measuredWx, 0, wx, 0, SAMPLES);
+        System.arraycopy(measuredWy, 0, wy, 0, SAMPLES);
+        System.arraycopy(measuredWz, 0, wz, 0, SAMPLES);
+        fixer.fix(fx, fy, fz, wx, wy, wz, 0, SAMPLES);
+        return wz;
+    }
+}
@@ -0,0 +1,143 @@
+/*
+ * Copyright (C) 2026 Alberto Irurueta Carro (alberto@irurueta.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.irurueta.navigation.inertial.benchmark;
+
+import com.irurueta.navigation.inertial.BodyKinematics;
+import com.irurueta.navigation.inertial.INSGNSSFleetEngine;
+import com.irurueta.navigation.inertial.INSGNSSLooselyCoupledKalmanFilteredEstimator;
+import com.irurueta.navigation.inertial.INSLooselyCoupledKalmanConfig;
+import com.irurueta.navigation.inertial.INSLooselyCoupledKalmanInitializerConfig;
+import com.irurueta.statistics.UniformRandomizer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks a single epoch of a fleet of loosely coupled filtered estimators processed
+ * by {@link INSGNSSFleetEngine}, where IMU data of every vehicle is submitted and the
+ * engine is flushed, for several numbers of vehicles and shards.
+ * Estimators of all vehicles are created and initialized with a synthetic set of GNSS
+ * measurements before measuring.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class INSGNSSFleetEngineBenchmark {
+
+    /**
+     * Number of precomputed IMU samples, so that generation does not dominate
+     * measured time.
+     */
+    private static final int NUM_PRECOMPUTED_SAMPLES = 1024;
+
+    /**
+     * Number of satellites of the GNSS measurements used to initialize estimators.
+     */
+    private static final int NUM_SATELLITES = 8;
+
+    /**
+     * Number of vehicles of the fleet.
+     */
+    @Param({"1000", "10000"})
+    private int vehicles;
+
+    /**
+     * Number of shards of the engine.
+     */
+    @Param({"1", "4"})
+    private int shards;
+
+    /**
+     * Precomputed noisy kinematics of a static body.
+     */
+    private List<BodyKinematics> samples;
+
+    /**
+     * Engine being benchmarked.
+     */
+    private INSGNSSFleetEngine<INSGNSSLooselyCoupledKalmanFilteredEstimator> engine;
+
+    /**
+     * Current epoch, so that submitted timestamps always increase.
+     */
+    private int epoch;
+
+    @Setup
+    public void setUp() throws Exception {
+        final var random = BenchmarkData.createRandom();
+        samples = BenchmarkData.generateStaticKinematics(NUM_PRECOMPUTED_SAMPLES, random);
+        final var frame = BenchmarkData.createStaticFrame(new UniformRandomizer(random));
+        final var measurements = BenchmarkData.generateGnssMeasurements(NUM_SATELLITES, frame, random);
+
+        engine = INSGNSSFleetEngine.createLooselyCoupled(vehicleId -> createEstimator(), shards);
+        for (var vehicle = 0; vehicle < vehicles; vehicle++) {
+            while (!engine.submitMeasurements(vehicle, measurements, 0.0)) {
+                Thread.onSpinWait();
+            }
+        }
+        engine.flush();
+        epoch = 0;
+    }
+
+    @TearDown
+    public void tearDown() throws InterruptedException {
+        engine.close();
+        engine.awaitTermination();
+    }
+
+    @Benchmark
+    public long epoch() throws InterruptedException {
+        epoch++;
+        final var timestamp = epoch * BenchmarkData.TIME_INTERVAL_SECONDS;
+        for (var vehicle = 0; vehicle < vehicles; vehicle++) {
+            final var kinematics = samples.get((epoch * vehicles + vehicle) % NUM_PRECOMPUTED_SAMPLES);
+            while (!engine.submitBodyKinematics(vehicle, kinematics, timestamp)) {
+                // queue is full, let workers catch up
+                Thread.onSpinWait();
+            }
+        }
+        engine.flush();
+        return engine.getNumberOfProcessedUpdates();
+    }
+
+    /**
+     * Creates a loosely coupled filtered estimator of a vehicle.
+     *
+     * @return a new estimator.
+     */
+    private static INSGNSSLooselyCoupledKalmanFilteredEstimator createEstimator() {
+        final var config = new INSLooselyCoupledKalmanConfig(1e-4, 1e-3, 1e-6, 1e-8,
+                2.5, 0.1);
+        final var initialConfig = new INSLooselyCoupledKalmanInitializerConfig(0.01, 0.1,
+                10.0, 0.01, 1e-4);
+        return new INSGNSSLooselyCoupledKalmanFilteredEstimator(config, initialConfig);
+    }
+}
@@ -0,0 +1,93 @@
+/*
+ * Copyright (C) 2026 Alberto Irurueta Carro (alberto@irurueta.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.irurueta.navigation.inertial.benchmark;
+
+import com.irurueta.navigation.frames.ECEFFrame;
+import com.irurueta.navigation.frames.ECIFrame;
+import com.irurueta.navigation.frames.NEDFrame;
+import com.irurueta.navigation.frames.converters.ECEFtoECIFrameConverter;
+import com.irurueta.navigation.frames.converters.ECEFtoNEDFrameConverter;
+import com.irurueta.navigation.inertial.BodyKinematics;
+import com.irurueta.navigation.inertial.navigators.ECEFInertialNavigator;
+import com.irurueta.navigation.inertial.navigators.ECIInertialNavigator;
+import com.irurueta.navigation.inertial.navigators.InertialNavigatorException;
+import com.irurueta.navigation.inertial.navigators.NEDInertialNavigator;
+import com.irurueta.statistics.UniformRandomizer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks a single navigation step of ECEF, NED and ECI inertial navigators.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class InertialNavigatorBenchmark {
+
+    private BodyKinematics kinematics;
+
+    private ECEFFrame ecefFrame;
+
+    private NEDFrame nedFrame;
+
+    private ECIFrame eciFrame;
+
+    private final ECEFFrame ecefResult = new ECEFFrame();
+
+    private final NEDFrame nedResult = new NEDFrame();
+
+    private final ECIFrame eciResult = new ECIFrame();
+
+    @Setup
+    public void setUp() throws Exception {
+        final var random = BenchmarkData.createRandom();
+        ecefFrame = BenchmarkData.createStaticFrame(new UniformRandomizer(random));
+        nedFrame = ECEFtoNEDFrameConverter.convertECEFtoNEDAndReturnNew(ecefFrame);
+        eciFrame = ECEFtoECIFrameConverter.convertECEFtoECIAndReturnNew(0.0, ecefFrame);
+        kinematics = BenchmarkData.generateStaticKinematics(1, random).get(0);
+    }
+
+    @Benchmark
+    public ECEFFrame navigateECEF() throws InertialNavigatorException {
+        ECEFInertialNavigator.navigateECEF(BenchmarkData.TIME_INTERVAL_SECONDS, ecefFrame, kinematics, ecefResult);
+        return ecefResult;
+    }
+
+    @Benchmark
+    public NEDFrame navigateNED() throws InertialNavigatorException {
+        NEDInertialNavigator.navigateNED(BenchmarkData.TIME_INTERVAL_SECONDS, nedFrame, kinematics, nedResult);
+        return nedResult;
+    }
+
+    @Benchmark
+    public ECIFrame navigateECI() throws InertialNavigatorException {
+        ECIInertialNavigator.navigateECI(BenchmarkData.TIME_INTERVAL_SECONDS, eciFrame, kinematics, eciResult);
+        return eciResult;
+    }
+}
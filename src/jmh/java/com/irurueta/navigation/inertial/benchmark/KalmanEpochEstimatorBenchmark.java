@@ -0,0 +1,160 @@
+/*
+ * Copyright (C) 2026 Alberto Irurueta Carro (alberto@irurueta.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.irurueta.navigation.inertial.benchmark;
+
+import com.irurueta.algebra.AlgebraException;
+import com.irurueta.algebra.Matrix;
+import com.irurueta.navigation.frames.ECEFFrame;
+import com.irurueta.navigation.frames.converters.ECEFtoNEDFrameConverter;
+import com.irurueta.navigation.gnss.GNSSMeasurement;
+import com.irurueta.navigation.inertial.BodyKinematics;
+import com.irurueta.navigation.inertial.INSKalmanTransitionOrder;
+import com.irurueta.navigation.inertial.INSLooselyCoupledKalmanConfig;
+import com.irurueta.navigation.inertial.INSLooselyCoupledKalmanEpochEstimator;
+import com.irurueta.navigation.inertial.INSLooselyCoupledKalmanState;
+import com.irurueta.navigation.inertial.INSTightlyCoupledKalmanConfig;
+import com.irurueta.navigation.inertial.INSTightlyCoupledKalmanEpochEstimator;
+import com.irurueta.navigation.inertial.INSTightlyCoupledKalmanState;
+import com.irurueta.statistics.UniformRandomizer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks a single epoch of loosely and tightly coupled INS/GNSS Kalman filters
+ * for several numbers of satellites and transition orders.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class KalmanEpochEstimatorBenchmark {
+
+    private static final double NOISE_PSD = 1e-4;
+
+    private static final double MEASUREMENT_SD = 1.0;
+
+    @Benchmark
+    public INSLooselyCoupledKalmanState looselyCoupledEpoch(final LooselyCoupledData data)
+            throws AlgebraException {
+        final var frame = data.frame;
+        final var kinematics = data.kinematics;
+        INSLooselyCoupledKalmanEpochEstimator.estimate(frame.getX(), frame.getY(), frame.getZ(), frame.getVx(),
+                frame.getVy(), frame.getVz(), BenchmarkData.TIME_INTERVAL_SECONDS, data.state,
+                kinematics.getFx(), kinematics.getFy(), kinematics.getFz(), data.latitude, data.config,
+                data.result, null, null, null);
+        return data.result;
+    }
+
+    @Benchmark
+    public INSTightlyCoupledKalmanState tightlyCoupledEpoch(final TightlyCoupledData data)
+            throws AlgebraException {
+        final var kinematics = data.kinematics;
+        INSTightlyCoupledKalmanEpochEstimator.estimate(data.measurements, BenchmarkData.TIME_INTERVAL_SECONDS,
+                data.state, kinematics.getFx(), kinematics.getFy(), kinematics.getFz(), data.latitude,
+                data.config, data.result);
+        return data.result;
+    }
+
+    /**
+     * Input data of loosely coupled epochs.
+     */
+    @State(Scope.Thread)
+    public static class LooselyCoupledData {
+
+        @Param({"FIRST_ORDER", "SECOND_ORDER", "EXPONENTIAL"})
+        private INSKalmanTransitionOrder transitionOrder;
+
+        private ECEFFrame frame;
+
+        private BodyKinematics kinematics;
+
+        private double latitude;
+
+        private INSLooselyCoupledKalmanState state;
+
+        private INSLooselyCoupledKalmanConfig config;
+
+        private final INSLooselyCoupledKalmanState result = new INSLooselyCoupledKalmanState();
+
+        @Setup
+        public void setUp() throws Exception {
+            final var random = BenchmarkData.createRandom();
+            frame = BenchmarkData.createStaticFrame(new UniformRandomizer(random));
+            latitude = ECEFtoNEDFrameConverter.convertECEFtoNEDAndReturnNew(frame).getLatitude();
+            kinematics = BenchmarkData.generateStaticKinematics(1, random).get(0);
+
+            state = new INSLooselyCoupledKalmanState(frame, 0.0, 0.0, 0.0, 0.0, 0.0, 0.0,
+                    Matrix.identity(INSLooselyCoupledKalmanState.NUM_PARAMS, INSLooselyCoupledKalmanState.NUM_PARAMS));
+            config = new INSLooselyCoupledKalmanConfig(NOISE_PSD, NOISE_PSD, NOISE_PSD, NOISE_PSD,
+                    MEASUREMENT_SD, MEASUREMENT_SD);
+            config.setTransitionOrder(transitionOrder);
+        }
+    }
+
+    /**
+     * Input data of tightly coupled epochs.
+     */
+    @State(Scope.Thread)
+    public static class TightlyCoupledData {
+
+        @Param({"4", "8", "16", "32"})
+        private int satellites;
+
+        @Param({"FIRST_ORDER", "SECOND_ORDER", "EXPONENTIAL"})
+        private INSKalmanTransitionOrder transitionOrder;
+
+        private BodyKinematics kinematics;
+
+        private double latitude;
+
+        private List<GNSSMeasurement> measurements;
+
+        private INSTightlyCoupledKalmanState state;
+
+        private INSTightlyCoupledKalmanConfig config;
+
+        private final INSTightlyCoupledKalmanState result = new INSTightlyCoupledKalmanState();
+
+        @Setup
+        public void setUp() throws Exception {
+            final var random = BenchmarkData.createRandom();
+            final var frame = BenchmarkData.createStaticFrame(new UniformRandomizer(random));
+            latitude = ECEFtoNEDFrameConverter.convertECEFtoNEDAndReturnNew(frame).getLatitude();
+            kinematics = BenchmarkData.generateStaticKinematics(1, random).get(0);
+            measurements = BenchmarkData.generateGnssMeasurements(satellites, frame, random);
+
+            state = new INSTightlyCoupledKalmanState(frame.getCoordinateTransformation(),
+                    frame.getECEFVelocity(), frame.getECEFPosition(), 0.0, 0.0, 0.0, 0.0, 0.0, 0.0, 0.0, 0.0,
+                    Matrix.identity(INSTightlyCoupledKalmanState.NUM_PARAMS, INSTightlyCoupledKalmanState.NUM_PARAMS));
+            config = new INSTightlyCoupledKalmanConfig(NOISE_PSD, NOISE_PSD, NOISE_PSD, NOISE_PSD,
+                    NOISE_PSD, NOISE_PSD, MEASUREMENT_SD, MEASUREMENT_SD);
+            config.setTransitionOrder(transitionOrder);
+        }
+    }
+}
@@ -0,0 +1,83 @@
+/*
+ * Copyright (C) 2026 Alberto Irurueta Carro (alberto@irurueta.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.irurueta.navigation.inertial.benchmark;
+
+import com.irurueta.navigation.LockedException;
+import com.irurueta.navigation.inertial.BodyKinematics;
+import com.irurueta.navigation.inertial.calibration.noise.AccumulatedBodyKinematicsNoiseEstimator;
+import com.irurueta.navigation.inertial.calibration.noise.WindowedBodyKinematicsNoiseEstimator;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks processing of a single sample by windowed and accumulated body
+ * kinematics noise estimators.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class NoiseEstimatorBenchmark {
+
+    private static final int SAMPLES = 10000;
+
+    private List<BodyKinematics> kinematics;
+
+    private int position;
+
+    private final WindowedBodyKinematicsNoiseEstimator windowedEstimator =
+            new WindowedBodyKinematicsNoiseEstimator();
+
+    private final AccumulatedBodyKinematicsNoiseEstimator accumulatedEstimator =
+            new AccumulatedBodyKinematicsNoiseEstimator();
+
+    @Setup
+    public void setUp() throws Exception {
+        kinematics = BenchmarkData.generateStaticKinematics(SAMPLES, BenchmarkData.createRandom());
+        windowedEstimator.setTimeInterval(BenchmarkData.TIME_INTERVAL_SECONDS);
+        accumulatedEstimator.setTimeInterval(BenchmarkData.TIME_INTERVAL_SECONDS);
+    }
+
+    @Benchmark
+    public boolean windowed() throws LockedException {
+        return windowedEstimator.addBodyKinematicsAndProcess(next());
+    }
+
+    @Benchmark
+    public double accumulated() throws LockedException {
+        accumulatedEstimator.addBodyKinematics(next());
+        return accumulatedEstimator.getAvgSpecificForceX();
+    }
+
+    private BodyKinematics next() {
+        final var result = kinematics.get(position);
+        position = (position + 1) % SAMPLES;
+        return result;
+    }
+}
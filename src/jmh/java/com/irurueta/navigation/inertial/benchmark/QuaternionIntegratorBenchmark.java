@@ -0,0 +1,89 @@
+/*
+ * Copyright (C) 2026 Alberto Irurueta Carro (alberto@irurueta.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.irurueta.navigation.inertial.benchmark;
+
+import com.irurueta.geometry.Quaternion;
+import com.irurueta.geometry.RotationException;
+import com.irurueta.navigation.inertial.calibration.gyroscope.QuaternionStepIntegrator;
+import com.irurueta.navigation.inertial.calibration.gyroscope.QuaternionStepIntegratorType;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks a single integration step of quaternion integrators for each step type.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class QuaternionIntegratorBenchmark {
+
+    private static final int SAMPLES = 10000;
+
+    @Param({"EULER_METHOD", "MID_POINT", "RUNGE_KUTTA", "SUH", "TRAWNY", "YUAN"})
+    private QuaternionStepIntegratorType type;
+
+    private QuaternionStepIntegrator integrator;
+
+    private double[] wx;
+
+    private double[] wy;
+
+    private double[] wz;
+
+    private int position;
+
+    private final Quaternion attitude = new Quaternion();
+
+    @Setup
+    public void setUp() throws Exception {
+        integrator = QuaternionStepIntegrator.create(type);
+
+        final var kinematics = BenchmarkData.generateStaticKinematics(SAMPLES, BenchmarkData.createRandom());
+        wx = new double[SAMPLES];
+        wy = new double[SAMPLES];
+        wz = new double[SAMPLES];
+        for (var i = 0; i < SAMPLES; i++) {
+            final var k = kinematics.get(i);
+            wx[i] = k.getAngularRateX();
+            wy[i] = k.getAngularRateY();
+            wz[i] = k.getAngularRateZ();
+        }
+    }
+
+    @Benchmark
+    public Quaternion integrate() throws RotationException {
+        final var previous = position;
+        final var current = (previous + 1) % SAMPLES;
+        position = current;
+        integrator.integrate(attitude, wx[previous], wy[previous], wz[previous], wx[current], wy[current],
+                wz[current], BenchmarkData.TIME_INTERVAL_SECONDS, attitude);
+        return attitude;
+    }
+}
@@ -0,0 +1,123 @@
+/*
+ * Copyright (C) 2026 Alberto Irurueta Carro (alberto@irurueta.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.irurueta.navigation.inertial.benchmark;
+
+import com.irurueta.navigation.LockedException;
+import com.irurueta.navigation.NotReadyException;
+import com.irurueta.navigation.inertial.calibration.CalibrationException;
+import com.irurueta.navigation.inertial.calibration.StandardDeviationFrameBodyKinematics;
+import com.irurueta.navigation.inertial.calibration.StandardDeviationFrameBodyMagneticFluxDensity;
+import com.irurueta.navigation.inertial.calibration.accelerometer.RobustKnownFrameAccelerometerCalibrator;
+import com.irurueta.navigation.inertial.calibration.gyroscope.RobustKnownFrameGyroscopeCalibrator;
+import com.irurueta.navigation.inertial.calibration.magnetometer.RobustKnownFrameMagnetometerCalibrator;
+import com.irurueta.navigation.inertial.wmm.WMMEarthMagneticFluxDensityEstimator;
+import com.irurueta.numerical.robust.RobustEstimatorMethod;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks robust known frame calibrators for accelerometers, gyroscopes and
+ * magnetometers for every robust estimation method and an increasing number of
+ * measurements, 20% of them being outliers.
+ * A new calibrator is created on each invocation, since calibrators keep internal
+ * state once calibrated.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Thread)
+public class RobustCalibratorBenchmark {
+
+    /**
+     * Calibrated sensor.
+     */
+    public enum Family {
+        ACCELEROMETER,
+        GYROSCOPE,
+        MAGNETOMETER
+    }
+
+    @Param({"ACCELEROMETER", "GYROSCOPE", "MAGNETOMETER"})
+    private Family family;
+
+    @Param({"RANSAC", "LMEDS", "MSAC", "PROSAC", "PROMEDS"})
+    private RobustEstimatorMethod method;
+
+    @Param({"100", "1000", "10000"})
+    private int measurements;
+
+    private List<StandardDeviationFrameBodyKinematics> frameMeasurements;
+
+    private List<StandardDeviationFrameBodyMagneticFluxDensity> magneticMeasurements;
+
+    private double[] qualityScores;
+
+    @Setup
+    public void setUp() throws Exception {
+        final var random = BenchmarkData.createRandom();
+        if (family == Family.MAGNETOMETER) {
+            magneticMeasurements = BenchmarkData.generateMagneticMeasurements(measurements, random,
+                    new WMMEarthMagneticFluxDensityEstimator());
+        } else {
+            frameMeasurements = BenchmarkData.generateFrameMeasurements(measurements, random);
+        }
+
+        // quality scores are only used by PROSAC and PROMedS
+        qualityScores = new double[measurements];
+        for (var i = 0; i < measurements; i++) {
+            qualityScores[i] = 1.0 / (1.0 + random.nextDouble());
+        }
+    }
+
+    @Benchmark
+    public Object calibrate() throws LockedException, NotReadyException, CalibrationException {
+        switch (family) {
+            case ACCELEROMETER: {
+                final var calibrator = RobustKnownFrameAccelerometerCalibrator.create(frameMeasurements, method);
+                calibrator.setQualityScores(qualityScores);
+                calibrator.calibrate();
+                return calibrator.getEstimatedMa();
+            }
+            case GYROSCOPE: {
+                final var calibrator = RobustKnownFrameGyroscopeCalibrator.create(frameMeasurements, method);
+                calibrator.setQualityScores(qualityScores);
+                calibrator.calibrate();
+                return calibrator.getEstimatedMg();
+            }
+            default: {
+                final var calibrator = RobustKnownFrameMagnetometerCalibrator.create(magneticMeasurements,
+                        method);
+                calibrator.setQualityScores(qualityScores);
+                calibrator.calibrate();
+                return calibrator.getEstimatedMm();
+            }
+        }
+    }
+}
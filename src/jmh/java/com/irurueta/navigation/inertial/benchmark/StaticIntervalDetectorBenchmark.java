@@ -0,0 +1,80 @@
+/*
+ * Copyright (C) 2026 Alberto Irurueta Carro (alberto@irurueta.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.irurueta.navigation.inertial.benchmark;
+
+import com.irurueta.navigation.LockedException;
+import com.irurueta.navigation.inertial.calibration.intervals.AccelerationTriadStaticIntervalDetector;
+import com.irurueta.navigation.inertial.calibration.intervals.TriadStaticIntervalDetector;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks processing of a single sample by a triad static interval detector.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class StaticIntervalDetectorBenchmark {
+
+    private static final int SAMPLES = 10000;
+
+    private double[] fx;
+
+    private double[] fy;
+
+    private double[] fz;
+
+    private int position;
+
+    private final AccelerationTriadStaticIntervalDetector detector = new AccelerationTriadStaticIntervalDetector();
+
+    @Setup
+    public void setUp() throws Exception {
+        final var kinematics = BenchmarkData.generateStaticKinematics(SAMPLES, BenchmarkData.createRandom());
+        fx = new double[SAMPLES];
+        fy = new double[SAMPLES];
+        fz = new double[SAMPLES];
+        for (var i = 0; i < SAMPLES; i++) {
+            final var k = kinematics.get(i);
+            fx[i] = k.getFx();
+            fy[i] = k.getFy();
+            fz[i] = k.getFz();
+        }
+    }
+
+    @Benchmark
+    public boolean process() throws LockedException {
+        if (detector.getStatus() == TriadStaticIntervalDetector.Status.FAILED) {
+            detector.reset();
+        }
+        final var i = position;
+        position = (i + 1) % SAMPLES;
+        return detector.process(fx[i], fy[i], fz[i]);
+    }
+}
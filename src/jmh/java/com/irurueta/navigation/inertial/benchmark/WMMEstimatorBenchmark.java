@@ -0,0 +1,72 @@
+/*
+ * Copyright (C) 2026 Alberto Irurueta Carro (alberto@irurueta.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.irurueta.navigation.inertial.benchmark;
+
+import com.irurueta.navigation.frames.NEDPosition;
+import com.irurueta.navigation.inertial.wmm.NEDMagneticFluxDensity;
+import com.irurueta.navigation.inertial.wmm.WMMEarthMagneticFluxDensityEstimator;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks estimation of Earth magnetic flux density using the World Magnetic
+ * Model.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class WMMEstimatorBenchmark {
+
+    private static final double YEAR = 2026.5;
+
+    private WMMEarthMagneticFluxDensityEstimator estimator;
+
+    private NEDPosition position;
+
+    private final NEDMagneticFluxDensity result = new NEDMagneticFluxDensity();
+
+    @Setup
+    public void setUp() throws IOException {
+        estimator = new WMMEarthMagneticFluxDensityEstimator();
+        position = BenchmarkData.createPosition();
+    }
+
+    @Benchmark
+    public NEDMagneticFluxDensity estimate() {
+        estimator.estimate(position.getLatitude(), position.getLongitude(), position.getHeight(), YEAR, result);
+        return result;
+    }
+
+    @Benchmark
+    public double declination() {
+        return estimator.getDeclination(position.getLatitude(), position.getLongitude(), position.getHeight(),
+                YEAR);
+    }
+}
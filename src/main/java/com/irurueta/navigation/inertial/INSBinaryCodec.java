@@ -0,0 +1,377 @@
+/*
+ * Copyright (C) 2026 Alberto Irurueta Carro (alberto@irurueta.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.irurueta.navigation.inertial;
+
+import com.irurueta.algebra.Matrix;
+import com.irurueta.algebra.WrongSizeException;
+import com.irurueta.geometry.InvalidRotationMatrixException;
+import com.irurueta.navigation.frames.CoordinateTransformation;
+import com.irurueta.navigation.frames.ECEFFrame;
+import com.irurueta.navigation.frames.FrameType;
+import com.irurueta.navigation.frames.InvalidSourceAndDestinationFrameTypeException;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.nio.BufferOverflowException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.util.function.Consumer;
+
+/**
+ * Helper methods shared by fixed-layout binary encodings of Kalman filter states
+ * and filtered estimator snapshots.
+ * Values are written using the byte order of provided buffers.
+ */
+final class INSBinaryCodec {
+
+    /**
+     * Number of bytes of an encoded double value.
+     */
+    static final int DOUBLE_BYTES = Double.BYTES;
+
+    /**
+     * Number of bytes of an encoded 3x3 coordinate transformation matrix.
+     */
+    static final int MATRIX3_BYTES = 9 * DOUBLE_BYTES;
+
+    /**
+     * Number of bytes of an encoded body kinematics, preceded by a presence flag.
+     */
+    static final int KINEMATICS_BYTES = 1 + 6 * DOUBLE_BYTES;
+
+    /**
+     * Number of bytes of an encoded ECEF frame, preceded by a presence flag.
+     */
+    static final int FRAME_BYTES = 1 + 6 * DOUBLE_BYTES + MATRIX3_BYTES;
+
+    /**
+     * Value of flags indicating that an optional value is present.
+     */
+    static final byte PRESENT = 1;
+
+    /**
+     * Value of flags indicating that an optional value is absent.
+     */
+    static final byte ABSENT = 0;
+
+    /**
+     * Prevents instantiation of utility class.
+     */
+    private INSBinaryCodec() {
+    }
+
+    /**
+     * Gets number of bytes of the upper triangle, including the diagonal, of a square
+     * matrix.
+     *
+     * @param size number of rows and columns of matrix.
+     * @return number of bytes.
+     */
+    static int upperTriangleBytes(final int size) {
+        return size * (size + 1) / 2 * DOUBLE_BYTES;
+    }
+
+    /**
+     * Checks that a buffer has enough remaining bytes to be written.
+     *
+     * @param buffer buffer to be checked.
+     * @param length required number of bytes.
+     * @throws BufferOverflowException if buffer has not enough remaining bytes.
+     */
+    static void checkWritable(final ByteBuffer buffer, final int length) {
+        if (buffer.remaining() < length) {
+            throw new BufferOverflowException();
+        }
+    }
+
+    /**
+     * Checks that a buffer has enough remaining bytes to be read.
+     *
+     * @param buffer buffer to be checked.
+     * @param length required number of bytes.
+     * @throws BufferUnderflowException if buffer has not enough remaining bytes.
+     */
+    static void checkReadable(final ByteBuffer buffer, final int length) {
+        if (buffer.remaining() < length) {
+            throw new BufferUnderflowException();
+        }
+    }
+
+    /**
+     * Encodes a fixed number of bytes into a data output.
+     * Data is first encoded into a big-endian buffer, so that it is written at once.
+     *
+     * @param output  data output where data will be written.
+     * @param length  number of bytes to be written.
+     * @param encoder encodes data into provided buffer.
+     * @throws IOException if an I/O error occurs.
+     */
+    static void write(final DataOutput output, final int length, final Consumer<ByteBuffer> encoder)
+            throws IOException {
+        final var bytes = new byte[length];
+        encoder.accept(ByteBuffer.wrap(bytes));
+        output.write(bytes);
+    }
+
+    /**
+     * Decodes a fixed number of bytes read from a data input.
+     *
+     * @param input   data input where data will be read from.
+     * @param length  number of bytes to be read.
+     * @param decoder decodes data from provided big-endian buffer.
+     * @throws IOException if an I/O error occurs.
+     */
+    static void read(final DataInput input, final int length, final Consumer<ByteBuffer> decoder)
+            throws IOException {
+        final var bytes = new byte[length];
+        input.readFully(bytes);
+        decoder.accept(ByteBuffer.wrap(bytes));
+    }
+
+    /**
+     * Writes a presence flag.
+     *
+     * @param buffer  buffer where flag will be written.
+     * @param present true if value is present, false otherwise.
+     */
+    static void putFlag(final ByteBuffer buffer, final boolean present) {
+        buffer.put(present ? PRESENT : ABSENT);
+    }
+
+    /**
+     * Reads a presence flag.
+     *
+     * @param buffer buffer where flag will be read from.
+     * @return true if value is present, false otherwise.
+     * @throws IllegalArgumentException if flag has an invalid value.
+     */
+    static boolean getFlag(final ByteBuffer buffer) {
+        final var flag = buffer.get();
+        if (flag != PRESENT && flag != ABSENT) {
+            throw new IllegalArgumentException();
+        }
+        return flag == PRESENT;
+    }
+
+    /**
+     * Writes zeros into a buffer.
+     *
+     * @param buffer buffer where zeros will be written.
+     * @param length number of bytes to be written.
+     */
+    static void putZeros(final ByteBuffer buffer, final int length) {
+        for (var i = 0; i < length; i++) {
+            buffer.put((byte) 0);
+        }
+    }
+
+    /**
+     * Skips bytes of a buffer.
+     *
+     * @param buffer buffer whose position will be advanced.
+     * @param length number of bytes to be skipped.
+     */
+    static void skip(final ByteBuffer buffer, final int length) {
+        buffer.position(buffer.position() + length);
+    }
+
+    /**
+     * Writes all elements of a matrix in column order, or zeros if matrix is null.
+     *
+     * @param buffer   buffer where matrix will be written.
+     * @param m        matrix to be written or null.
+     * @param elements number of elements of matrix.
+     */
+    static void putMatrix(final ByteBuffer buffer, final Matrix m, final int elements) {
+        if (m == null) {
+            putZeros(buffer, elements * DOUBLE_BYTES);
+            return;
+        }
+
+        final var data = m.getBuffer();
+        for (var i = 0; i < elements; i++) {
+            buffer.putDouble(data[i]);
+        }
+    }
+
+    /**
+     * Reads all elements of a matrix in column order.
+     *
+     * @param buffer buffer where matrix will be read from.
+     * @param result matrix where read values will be stored.
+     */
+    static void getMatrix(final ByteBuffer buffer, final Matrix result) {
+        final var data = result.getBuffer();
+        for (var i = 0; i < data.length; i++) {
+            data[i] = buffer.getDouble();
+        }
+    }
+
+    /**
+     * Writes the upper triangle, including the diagonal, of a symmetric matrix row by
+     * row, or zeros if matrix is null.
+     *
+     * @param buffer buffer where matrix will be written.
+     * @param m      symmetric matrix to be written or null.
+     * @param size   number of rows and columns of matrix.
+     */
+    static void putUpperTriangle(final ByteBuffer buffer, final Matrix m, final int size) {
+        if (m == null) {
+            putZeros(buffer, upperTriangleBytes(size));
+            return;
+        }
+
+        final var data = m.getBuffer();
+        for (var i = 0; i < size; i++) {
+            for (var j = i; j < size; j++) {
+                buffer.putDouble(data[i + j * size]);
+            }
+        }
+    }
+
+    /**
+     * Reads the upper triangle of a symmetric matrix and mirrors it into the lower
+     * triangle.
+     *
+     * @param buffer buffer where matrix will be read from.
+     * @param result square matrix where read values will be stored.
+     */
+    static void getUpperTriangle(final ByteBuffer buffer, final Matrix result) {
+        final var size = result.getRows();
+        final var data = result.getBuffer();
+        for (var i = 0; i < size; i++) {
+            for (var j = i; j < size; j++) {
+                final var value = buffer.getDouble();
+                data[i + j * size] = value;
+                data[j + i * size] = value;
+            }
+        }
+    }
+
+    /**
+     * Returns provided matrix if it has the expected size, or creates a new one
+     * otherwise.
+     *
+     * @param m       matrix to be reused or null.
+     * @param rows    expected number of rows.
+     * @param columns expected number of columns.
+     * @return a matrix having expected size.
+     */
+    static Matrix reuseOrCreate(final Matrix m, final int rows, final int columns) {
+        if (m != null && m.getRows() == rows && m.getColumns() == columns) {
+            return m;
+        }
+
+        try {
+            return new Matrix(rows, columns);
+        } catch (final WrongSizeException ignore) {
+            // never happens
+            return null;
+        }
+    }
+
+    /**
+     * Writes body kinematics preceded by a presence flag.
+     *
+     * @param buffer     buffer where kinematics will be written.
+     * @param kinematics kinematics to be written or null.
+     */
+    static void putKinematics(final ByteBuffer buffer, final BodyKinematics kinematics) {
+        putFlag(buffer, kinematics != null);
+        if (kinematics == null) {
+            putZeros(buffer, KINEMATICS_BYTES - 1);
+            return;
+        }
+
+        buffer.putDouble(kinematics.getFx());
+        buffer.putDouble(kinematics.getFy());
+        buffer.putDouble(kinematics.getFz());
+        buffer.putDouble(kinematics.getAngularRateX());
+        buffer.putDouble(kinematics.getAngularRateY());
+        buffer.putDouble(kinematics.getAngularRateZ());
+    }
+
+    /**
+     * Reads body kinematics preceded by a presence flag.
+     *
+     * @param buffer buffer where kinematics will be read from.
+     * @param result instance to be reused or null.
+     * @return read kinematics or null if absent.
+     */
+    static BodyKinematics getKinematics(final ByteBuffer buffer, final BodyKinematics result) {
+        if (!getFlag(buffer)) {
+            skip(buffer, KINEMATICS_BYTES - 1);
+            return null;
+        }
+
+        final var kinematics = result != null ? result : new BodyKinematics();
+        kinematics.setSpecificForceCoordinates(buffer.getDouble(), buffer.getDouble(), buffer.getDouble());
+        kinematics.setAngularRateCoordinates(buffer.getDouble(), buffer.getDouble(), buffer.getDouble());
+        return kinematics;
+    }
+
+    /**
+     * Writes an ECEF frame preceded by a presence flag.
+     *
+     * @param buffer buffer where frame will be written.
+     * @param frame  frame to be written or null.
+     */
+    static void putFrame(final ByteBuffer buffer, final ECEFFrame frame) {
+        putFlag(buffer, frame != null);
+        if (frame == null) {
+            putZeros(buffer, FRAME_BYTES - 1);
+            return;
+        }
+
+        buffer.putDouble(frame.getX());
+        buffer.putDouble(frame.getY());
+        buffer.putDouble(frame.getZ());
+        buffer.putDouble(frame.getVx());
+        buffer.putDouble(frame.getVy());
+        buffer.putDouble(frame.getVz());
+        putMatrix(buffer, frame.getCoordinateTransformation().getMatrix(), 9);
+    }
+
+    /**
+     * Reads an ECEF frame preceded by a presence flag.
+     *
+     * @param buffer buffer where frame will be read from.
+     * @param result instance to be reused or null.
+     * @return read frame or null if absent.
+     * @throws IllegalArgumentException if encoded attitude is not a valid rotation.
+     */
+    static ECEFFrame getFrame(final ByteBuffer buffer, final ECEFFrame result) {
+        if (!getFlag(buffer)) {
+            skip(buffer, FRAME_BYTES - 1);
+            return null;
+        }
+
+        final var frame = result != null ? result : new ECEFFrame();
+        frame.setCoordinates(buffer.getDouble(), buffer.getDouble(), buffer.getDouble());
+        frame.setVelocityCoordinates(buffer.getDouble(), buffer.getDouble(), buffer.getDouble());
+
+        final var m = reuseOrCreate(null, CoordinateTransformation.ROWS, CoordinateTransformation.COLS);
+        getMatrix(buffer, m);
+        try {
+            frame.setCoordinateTransformation(new CoordinateTransformation(m, FrameType.BODY_FRAME,
+                    FrameType.EARTH_CENTERED_EARTH_FIXED_FRAME));
+        } catch (final InvalidRotationMatrixException | InvalidSourceAndDestinationFrameTypeException e) {
+            throw new IllegalArgumentException(e);
+        }
+        return frame;
+    }
+}
@@ -0,0 +1,545 @@
+/*
+ * Copyright (C) 2026 Alberto Irurueta Carro (alberto@irurueta.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.irurueta.navigation.inertial;
+
+import com.irurueta.algebra.Matrix;
+import com.irurueta.algebra.WrongSizeException;
+import com.irurueta.navigation.inertial.estimators.ECEFGravityEstimator;
+
+import java.util.Arrays;
+
+/**
+ * Block-sparse state transition matrix of the loosely (15 states) and tightly
+ * (17 states) coupled INS/GNSS Kalman filters.
+ * States are grouped into blocks of attitude, velocity, position, accelerometer bias,
+ * gyroscope bias and, for the tightly coupled filter, receiver clock offset and drift.
+ * The first-order transition matrix defined in (14.50) is the identity plus a few
+ * non-zero 3x3 blocks, hence the propagated covariance
+ * P' = PHI * (P + Q/2) * PHI^T + Q/2 of (3.46) can be computed only with the products
+ * of non-trivial blocks, where identity blocks become copies and scaled identity
+ * blocks become scalings. Only the upper triangle of the result is computed, and it
+ * is then mirrored, so that propagated covariance is exactly symmetric.
+ * This class is not thread-safe.
+ */
+final class INSBlockSparseTransition {
+
+    /**
+     * Index of attitude block.
+     */
+    static final int ATTITUDE = 0;
+
+    /**
+     * Index of velocity block.
+     */
+    static final int VELOCITY = 1;
+
+    /**
+     * Index of position block.
+     */
+    static final int POSITION = 2;
+
+    /**
+     * Index of accelerometer bias block.
+     */
+    static final int ACCELERATION_BIAS = 3;
+
+    /**
+     * Index of gyroscope bias block.
+     */
+    static final int GYRO_BIAS = 4;
+
+    /**
+     * Index of receiver clock block of the tightly coupled filter.
+     */
+    static final int CLOCK = 5;
+
+    /**
+     * Number of blocks of inertial states.
+     */
+    private static final int INERTIAL_BLOCKS = 5;
+
+    /**
+     * Size of blocks of inertial states.
+     */
+    private static final int BLOCK_SIZE = 3;
+
+    /**
+     * Size of receiver clock block.
+     */
+    private static final int CLOCK_BLOCK_SIZE = 2;
+
+    /**
+     * Indicates that a block is zero.
+     */
+    private static final byte ZERO = 0;
+
+    /**
+     * Indicates that a block is the identity.
+     */
+    private static final byte IDENTITY = 1;
+
+    /**
+     * Indicates that a block is a scaled identity.
+     */
+    private static final byte SCALED_IDENTITY = 2;
+
+    /**
+     * Indicates that a block is dense.
+     */
+    private static final byte DENSE = 3;
+
+    /**
+     * Earth rotation rate expressed in radians per second (rad/s).
+     */
+    private static final double EARTH_ROTATION_RATE = INSLooselyCoupledKalmanEpochEstimator.EARTH_ROTATION_RATE;
+
+    /**
+     * The equatorial radius of WGS84 ellipsoid (6378137 m) defining Earth's shape.
+     */
+    private static final double EARTH_EQUATORIAL_RADIUS_WGS84 =
+            INSLooselyCoupledKalmanEpochEstimator.EARTH_EQUATORIAL_RADIUS_WGS84;
+
+    /**
+     * Earth eccentricity as defined on the WGS84 ellipsoid.
+     */
+    private static final double EARTH_ECCENTRICITY = INSLooselyCoupledKalmanEpochEstimator.EARTH_ECCENTRICITY;
+
+    /**
+     * Number of blocks.
+     */
+    private final int numBlocks;
+
+    /**
+     * Number of states.
+     */
+    private final int n;
+
+    /**
+     * Offsets of each block.
+     */
+    private final int[] offsets;
+
+    /**
+     * Sizes of each block.
+     */
+    private final int[] sizes;
+
+    /**
+     * Type of each block, stored by block rows.
+     */
+    private final byte[] types;
+
+    /**
+     * Scale of scaled identity blocks, stored by block rows.
+     */
+    private final double[] scales;
+
+    /**
+     * Values of dense blocks in row order, stored by block rows.
+     */
+    private final double[][] values;
+
+    /**
+     * Covariance plus half of process noise, in column order.
+     */
+    private final double[] m;
+
+    /**
+     * Product of transition matrix and covariance plus half of process noise, in
+     * column order.
+     */
+    private final double[] t;
+
+    /**
+     * Constructor.
+     *
+     * @param withClock true to include receiver clock states of the tightly coupled
+     *                  filter, false otherwise.
+     */
+    INSBlockSparseTransition(final boolean withClock) {
+        numBlocks = withClock ? INERTIAL_BLOCKS + 1 : INERTIAL_BLOCKS;
+        offsets = new int[numBlocks];
+        sizes = new int[numBlocks];
+        var offset = 0;
+        for (var i = 0; i < numBlocks; i++) {
+            offsets[i] = offset;
+            sizes[i] = i < INERTIAL_BLOCKS ? BLOCK_SIZE : CLOCK_BLOCK_SIZE;
+            offset += sizes[i];
+        }
+        n = offset;
+
+        types = new byte[numBlocks * numBlocks];
+        scales = new double[numBlocks * numBlocks];
+        values = new double[numBlocks * numBlocks][];
+        for (var i = 0; i < numBlocks; i++) {
+            for (var k = 0; k < numBlocks; k++) {
+                values[i * numBlocks + k] = new double[sizes[i] * sizes[k]];
+            }
+        }
+        m = new double[n * n];
+        t = new double[n * n];
+    }
+
+    /**
+     * Gets number of states.
+     *
+     * @return number of states.
+     */
+    int getNumberOfStates() {
+        return n;
+    }
+
+    /**
+     * Sets the first-order transition matrix defined in (14.50), along with the
+     * receiver clock transition of (14.101) when clock states are included.
+     *
+     * @param propagationInterval propagation interval expressed in seconds (s).
+     * @param cbe                 previous body to ECEF coordinate transformation matrix.
+     * @param fx                  measured specific force resolved along body frame
+     *                            x-axis and expressed in meters per squared
+     *                            second (m/s^2).
+     * @param fy                  measured specific force resolved along body frame
+     *                            y-axis and expressed in meters per squared
+     *                            second (m/s^2).
+     * @param fz                  measured specific force resolved along body frame
+     *                            z-axis and expressed in meters per squared
+     *                            second (m/s^2).
+     * @param x                   previous ECEF x coordinate expressed in meters (m).
+     * @param y                   previous ECEF y coordinate expressed in meters (m).
+     * @param z                   previous ECEF z coordinate expressed in meters (m).
+     * @param previousLatitude    previous latitude solution expressed in radians (rad).
+     */
+    void setFirstOrder(final double propagationInterval, final Matrix cbe,
+                       final double fx, final double fy, final double fz,
+                       final double x, final double y, final double z, final double previousLatitude) {
+        Arrays.fill(types, ZERO);
+
+        final var tau = propagationInterval;
+        final var omegaTau = EARTH_ROTATION_RATE * tau;
+
+        // attitude: I - Omega_ie * tau, and C_b^e * tau coupling with gyro bias
+        var block = dense(ATTITUDE, ATTITUDE);
+        setRotation(block, omegaTau);
+        block = dense(ATTITUDE, GYRO_BIAS);
+        setScaled(block, cbe, tau);
+
+        // velocity: -[C_b^e * f_ib^b x] * tau
+        final var c = cbe.getBuffer();
+        final var fex = c[0] * fx + c[3] * fy + c[6] * fz;
+        final var fey = c[1] * fx + c[4] * fy + c[7] * fz;
+        final var fez = c[2] * fx + c[5] * fy + c[8] * fz;
+        block = dense(VELOCITY, ATTITUDE);
+        block[0] = 0.0;
+        block[1] = fez * tau;
+        block[2] = -fey * tau;
+        block[3] = -fez * tau;
+        block[4] = 0.0;
+        block[5] = fex * tau;
+        block[6] = fey * tau;
+        block[7] = -fex * tau;
+        block[8] = 0.0;
+
+        // velocity: I - 2 * Omega_ie * tau
+        block = dense(VELOCITY, VELOCITY);
+        setRotation(block, 2.0 * omegaTau);
+
+        // velocity: gravity gradient -2 * tau * g / r_eS^e * r_eb^e^T / |r_eb^e|
+        final var sinPrevLat = Math.sin(previousLatitude);
+        final var cosPrevLat = Math.cos(previousLatitude);
+        final var sinPrevLat2 = sinPrevLat * sinPrevLat;
+        final var cosPrevLat2 = cosPrevLat * cosPrevLat;
+
+        // From (2.137)
+        final var geocentricRadius = EARTH_EQUATORIAL_RADIUS_WGS84
+                / Math.sqrt(1.0 - Math.pow(EARTH_ECCENTRICITY * sinPrevLat, 2.0))
+                * Math.sqrt(cosPrevLat2 + Math.pow(1.0 - EARTH_ECCENTRICITY * EARTH_ECCENTRICITY, 2.0) * sinPrevLat2);
+
+        final var gravity = ECEFGravityEstimator.estimateGravityAndReturnNew(x, y, z);
+        final var positionNorm = Math.sqrt(x * x + y * y + z * z);
+        final var factor = -2.0 * tau / geocentricRadius / positionNorm;
+        final var gx = factor * gravity.getGx();
+        final var gy = factor * gravity.getGy();
+        final var gz = factor * gravity.getGz();
+        block = dense(VELOCITY, POSITION);
+        block[0] = gx * x;
+        block[1] = gx * y;
+        block[2] = gx * z;
+        block[3] = gy * x;
+        block[4] = gy * y;
+        block[5] = gy * z;
+        block[6] = gz * x;
+        block[7] = gz * y;
+        block[8] = gz * z;
+
+        // velocity: C_b^e * tau coupling with accelerometer bias
+        block = dense(VELOCITY, ACCELERATION_BIAS);
+        setScaled(block, cbe, tau);
+
+        // position: I * tau coupling with velocity, and identity
+        setScaledIdentity(POSITION, VELOCITY, tau);
+        setIdentity(POSITION, POSITION);
+
+        // biases are constant
+        setIdentity(ACCELERATION_BIAS, ACCELERATION_BIAS);
+        setIdentity(GYRO_BIAS, GYRO_BIAS);
+
+        if (numBlocks > INERTIAL_BLOCKS) {
+            // receiver clock offset is propagated with clock drift
+            block = dense(CLOCK, CLOCK);
+            block[0] = 1.0;
+            block[1] = tau;
+            block[2] = 0.0;
+            block[3] = 1.0;
+        }
+    }
+
+    /**
+     * Propagates covariance using (3.46) as P' = PHI * (P + Q/2) * PHI^T + Q/2, where
+     * Q is diagonal.
+     *
+     * @param p      previous covariance.
+     * @param qHalf  diagonal of half of process noise covariance.
+     * @param result instance where propagated covariance will be stored. Can be the
+     *               same instance as previous covariance.
+     */
+    void propagate(final Matrix p, final double[] qHalf, final Matrix result) {
+        // M = P + Q/2
+        System.arraycopy(p.getBuffer(), 0, m, 0, n * n);
+        for (var i = 0; i < n; i++) {
+            m[i + i * n] += qHalf[i];
+        }
+
+        // T = PHI * M, computed by block rows
+        Arrays.fill(t, 0.0);
+        for (var bi = 0; bi < numBlocks; bi++) {
+            final var ri = offsets[bi];
+            final var si = sizes[bi];
+            for (var bk = 0; bk < numBlocks; bk++) {
+                final var index = bi * numBlocks + bk;
+                final var type = types[index];
+                if (type == ZERO) {
+                    continue;
+                }
+
+                final var rk = offsets[bk];
+                final var sk = sizes[bk];
+                if (type == DENSE) {
+                    final var block = values[index];
+                    for (var col = 0; col < n; col++) {
+                        final var base = col * n;
+                        for (var r = 0; r < si; r++) {
+                            var sum = 0.0;
+                            for (var l = 0; l < sk; l++) {
+                                sum += block[r * sk + l] * m[rk + l + base];
+                            }
+                            t[ri + r + base] += sum;
+                        }
+                    }
+                } else {
+                    final var scale = type == IDENTITY ? 1.0 : scales[index];
+                    for (var col = 0; col < n; col++) {
+                        final var base = col * n;
+                        for (var r = 0; r < si; r++) {
+                            t[ri + r + base] += scale * m[rk + r + base];
+                        }
+                    }
+                }
+            }
+        }
+
+        // P' = T * PHI^T, computing only rows on or above the diagonal of each column
+        final var out = result.getBuffer();
+        for (var bj = 0; bj < numBlocks; bj++) {
+            final var rj = offsets[bj];
+            final var sj = sizes[bj];
+            for (var r = 0; r < sj; r++) {
+                final var col = rj + r;
+                final var base = col * n;
+                for (var a = 0; a <= col; a++) {
+                    out[a + base] = 0.0;
+                }
+            }
+
+            for (var bk = 0; bk < numBlocks; bk++) {
+                final var index = bj * numBlocks + bk;
+                final var type = types[index];
+                if (type == ZERO) {
+                    continue;
+                }
+
+                final var rk = offsets[bk];
+                final var sk = sizes[bk];
+                if (type == DENSE) {
+                    final var block = values[index];
+                    for (var r = 0; r < sj; r++) {
+                        final var col = rj + r;
+                        final var base = col * n;
+                        for (var l = 0; l < sk; l++) {
+                            final var phi = block[r * sk + l];
+                            if (phi == 0.0) {
+                                continue;
+                            }
+                            final var tBase = (rk + l) * n;
+                            for (var a = 0; a <= col; a++) {
+                                out[a + base] += t[a + tBase] * phi;
+                            }
+                        }
+                    }
+                } else {
+                    final var scale = type == IDENTITY ? 1.0 : scales[index];
+                    for (var r = 0; r < sj; r++) {
+                        final var col = rj + r;
+                        final var base = col * n;
+                        final var tBase = (rk + r) * n;
+                        for (var a = 0; a <= col; a++) {
+                            out[a + base] += t[a + tBase] * scale;
+                        }
+                    }
+                }
+            }
+        }
+
+        // P' += Q/2 and mirror upper triangle
+        for (var col = 0; col < n; col++) {
+            out[col + col * n] += qHalf[col];
+            for (var a = 0; a < col; a++) {
+                out[col + a * n] = out[a + col * n];
+            }
+        }
+    }
+
+    /**
+     * Copies transition matrix into a dense matrix.
+     *
+     * @param result instance where transition matrix will be stored. It is resized
+     *               if needed.
+     * @throws WrongSizeException never happens.
+     */
+    void toMatrix(final Matrix result) throws WrongSizeException {
+        if (result.getRows() != n || result.getColumns() != n) {
+            result.resize(n, n);
+        }
+
+        toArray(result.getBuffer());
+    }
+
+    /**
+     * Copies transition matrix into an array in column order.
+     *
+     * @param out array where transition matrix will be stored. Must have length n * n.
+     */
+    void toArray(final double[] out) {
+        Arrays.fill(out, 0, n * n, 0.0);
+        for (var bi = 0; bi < numBlocks; bi++) {
+            final var ri = offsets[bi];
+            final var si = sizes[bi];
+            for (var bk = 0; bk < numBlocks; bk++) {
+                final var index = bi * numBlocks + bk;
+                final var rk = offsets[bk];
+                final var sk = sizes[bk];
+                switch (types[index]) {
+                    case DENSE:
+                        final var block = values[index];
+                        for (var r = 0; r < si; r++) {
+                            for (var l = 0; l < sk; l++) {
+                                out[ri + r + (rk + l) * n] = block[r * sk + l];
+                            }
+                        }
+                        break;
+                    case IDENTITY:
+                    case SCALED_IDENTITY:
+                        final var scale = types[index] == IDENTITY ? 1.0 : scales[index];
+                        for (var r = 0; r < si; r++) {
+                            out[ri + r + (rk + r) * n] = scale;
+                        }
+                        break;
+                    default:
+                        break;
+                }
+            }
+        }
+    }
+
+    /**
+     * Marks a block as dense and returns its values in row order.
+     *
+     * @param bi block row.
+     * @param bk block column.
+     * @return values of block to be filled.
+     */
+    private double[] dense(final int bi, final int bk) {
+        final var index = bi * numBlocks + bk;
+        types[index] = DENSE;
+        return values[index];
+    }
+
+    /**
+     * Sets a block as the identity.
+     *
+     * @param bi block row.
+     * @param bk block column.
+     */
+    private void setIdentity(final int bi, final int bk) {
+        types[bi * numBlocks + bk] = IDENTITY;
+    }
+
+    /**
+     * Sets a block as a scaled identity.
+     *
+     * @param bi    block row.
+     * @param bk    block column.
+     * @param scale scale of identity.
+     */
+    private void setScaledIdentity(final int bi, final int bk, final double scale) {
+        final var index = bi * numBlocks + bk;
+        types[index] = SCALED_IDENTITY;
+        scales[index] = scale;
+    }
+
+    /**
+     * Sets I - skew([0, 0, angle]) into a 3x3 block in row order.
+     *
+     * @param block block to be filled.
+     * @param angle rotation angle.
+     */
+    private static void setRotation(final double[] block, final double angle) {
+        block[0] = 1.0;
+        block[1] = angle;
+        block[2] = 0.0;
+        block[3] = -angle;
+        block[4] = 1.0;
+        block[5] = 0.0;
+        block[6] = 0.0;
+        block[7] = 0.0;
+        block[8] = 1.0;
+    }
+
+    /**
+     * Sets a scaled 3x3 matrix into a block in row order.
+     *
+     * @param block block to be filled.
+     * @param src   3x3 matrix.
+     * @param scale scale to be applied.
+     */
+    private static void setScaled(final double[] block, final Matrix src, final double scale) {
+        final var data = src.getBuffer();
+        for (var r = 0; r < BLOCK_SIZE; r++) {
+            for (var l = 0; l < BLOCK_SIZE; l++) {
+                block[r * BLOCK_SIZE + l] = data[r + l * BLOCK_SIZE] * scale;
+            }
+        }
+    }
+}
@@ -0,0 +1,1070 @@
+/*
+ * Copyright (C) 2026 Alberto Irurueta Carro (alberto@irurueta.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.irurueta.navigation.inertial;
+
+import com.irurueta.navigation.LockedException;
+import com.irurueta.navigation.NotReadyException;
+import com.irurueta.navigation.gnss.GNSSMeasurement;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.Consumer;
+import java.util.function.LongFunction;
+
+/**
+ * Owns the INS/GNSS filtered estimators of a fleet of vehicles and processes their
+ * updates concurrently.
+ * Filtered estimators are not thread-safe, hence each vehicle is assigned to a single
+ * shard by hashing its identifier, and each shard owns a bounded queue of updates and
+ * a single worker thread that creates and updates the estimators of its vehicles.
+ * Consequently, updates of the same vehicle are processed in the same order they were
+ * submitted, while updates of vehicles assigned to different shards are processed in
+ * parallel.
+ * Workers drain their queues in batches of up to a maximum size to reduce
+ * synchronization overhead, and the engine keeps counters of submitted, processed,
+ * failed and rejected updates, along with processing latency and throughput.
+ * Worker threads are created using a {@link ThreadFactory}, which allows using virtual
+ * threads on runtimes supporting them.
+ *
+ * @param <E> type of filtered estimator.
+ */
+public class INSGNSSFleetEngine<E> implements AutoCloseable {
+
+    /**
+     * Default maximum number of updates processed by a shard in a single batch.
+     */
+    public static final int DEFAULT_MAX_BATCH_SIZE = 256;
+
+    /**
+     * Default maximum number of pending updates of each shard.
+     */
+    public static final int DEFAULT_QUEUE_CAPACITY = 16384;
+
+    /**
+     * Minimum number of shards.
+     */
+    public static final int MIN_NUMBER_OF_SHARDS = 1;
+
+    /**
+     * Minimum batch size.
+     */
+    public static final int MIN_MAX_BATCH_SIZE = 1;
+
+    /**
+     * Minimum queue capacity of each shard.
+     */
+    public static final int MIN_QUEUE_CAPACITY = 1;
+
+    /**
+     * Maximum time a thread waiting for space in a queue is parked before checking it
+     * again, expressed in nanoseconds.
+     */
+    private static final long MAX_PARK_NANOS = 1000000L;
+
+    /**
+     * Adapter to create and update filtered estimators.
+     */
+    private final INSGNSSFleetFilterAdapter<E> adapter;
+
+    /**
+     * Shards processing updates.
+     */
+    private final List<Shard> shards;
+
+    /**
+     * Maximum number of updates processed by a shard in a single batch.
+     */
+    private final int maxBatchSize;
+
+    /**
+     * Maximum number of pending updates of each shard.
+     */
+    private final int queueCapacity;
+
+    /**
+     * Listener to handle events raised by this engine.
+     */
+    private volatile INSGNSSFleetEngineListener<E> listener;
+
+    /**
+     * Indicates whether this engine has been closed.
+     */
+    private volatile boolean closed;
+
+    /**
+     * Lock ordering control tasks with respect to closing this engine and terminating
+     * worker threads, so that control tasks are never queued after the last task a
+     * worker thread processes.
+     */
+    private final Object lock = new Object();
+
+    /**
+     * Number of vehicles currently owned by this engine.
+     */
+    private final AtomicInteger numberOfVehicles = new AtomicInteger();
+
+    /**
+     * Number of submitted updates.
+     */
+    private final LongAdder submittedUpdates = new LongAdder();
+
+    /**
+     * Number of processed updates.
+     */
+    private final LongAdder processedUpdates = new LongAdder();
+
+    /**
+     * Number of processed updates that failed.
+     */
+    private final LongAdder failedUpdates = new LongAdder();
+
+    /**
+     * Number of updates rejected because queues were full or engine was closed.
+     */
+    private final LongAdder rejectedUpdates = new LongAdder();
+
+    /**
+     * Number of processed batches.
+     */
+    private final LongAdder processedBatches = new LongAdder();
+
+    /**
+     * Sum of latencies of processed updates expressed in nanoseconds.
+     */
+    private final LongAdder totalLatencyNanos = new LongAdder();
+
+    /**
+     * Maximum latency of processed updates expressed in nanoseconds.
+     */
+    private final AtomicLong maxLatencyNanos = new AtomicLong();
+
+    /**
+     * Time when counters were last reset expressed in nanoseconds.
+     */
+    private volatile long countersStartNanos;
+
+    /**
+     * Constructor.
+     * One shard is used for each available processor.
+     *
+     * @param adapter adapter to create and update filtered estimators.
+     * @throws NullPointerException if adapter is null.
+     */
+    public INSGNSSFleetEngine(final INSGNSSFleetFilterAdapter<E> adapter) {
+        this(adapter, Runtime.getRuntime().availableProcessors());
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param adapter        adapter to create and update filtered estimators.
+     * @param numberOfShards number of shards.
+     * @throws NullPointerException     if adapter is null.
+     * @throws IllegalArgumentException if number of shards is less than {@link #MIN_NUMBER_OF_SHARDS}.
+     */
+    public INSGNSSFleetEngine(final INSGNSSFleetFilterAdapter<E> adapter, final int numberOfShards) {
+        this(adapter, numberOfShards, DEFAULT_MAX_BATCH_SIZE, DEFAULT_QUEUE_CAPACITY);
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param adapter        adapter to create and update filtered estimators.
+     * @param numberOfShards number of shards.
+     * @param maxBatchSize   maximum number of updates processed by a shard in a single batch.
+     * @param queueCapacity  maximum number of pending updates of each shard.
+     * @throws NullPointerException     if adapter is null.
+     * @throws IllegalArgumentException if any of provided values is less than its minimum
+     *                                  allowed value.
+     */
+    public INSGNSSFleetEngine(final INSGNSSFleetFilterAdapter<E> adapter, final int numberOfShards,
+                              final int maxBatchSize, final int queueCapacity) {
+        this(adapter, numberOfShards, maxBatchSize, queueCapacity, null);
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param adapter        adapter to create and update filtered estimators.
+     * @param numberOfShards number of shards.
+     * @param maxBatchSize   maximum number of updates processed by a shard in a single batch.
+     * @param queueCapacity  maximum number of pending updates of each shard.
+     * @param threadFactory  factory to create worker threads or null to use daemon platform
+     *                       threads.
+     * @throws NullPointerException     if adapter is null.
+     * @throws IllegalArgumentException if any of provided values is less than its minimum
+     *                                  allowed value.
+     */
+    public INSGNSSFleetEngine(final INSGNSSFleetFilterAdapter<E> adapter, final int numberOfShards,
+                              final int maxBatchSize, final int queueCapacity, final ThreadFactory threadFactory) {
+        if (adapter == null) {
+            throw new NullPointerException();
+        }
+        if (numberOfShards < MIN_NUMBER_OF_SHARDS || maxBatchSize < MIN_MAX_BATCH_SIZE
+                || queueCapacity < MIN_QUEUE_CAPACITY) {
+            throw new IllegalArgumentException();
+        }
+
+        this.adapter = adapter;
+        this.maxBatchSize = maxBatchSize;
+        this.queueCapacity = queueCapacity;
+
+        countersStartNanos = System.nanoTime();
+
+        shards = new ArrayList<>(numberOfShards);
+        for (var i = 0; i < numberOfShards; i++) {
+            final var shard = new Shard(queueCapacity);
+            final Thread thread;
+            if (threadFactory != null) {
+                thread = threadFactory.newThread(shard);
+            } else {
+                thread = new Thread(shard, "ins-gnss-fleet-shard-" + i);
+                thread.setDaemon(true);
+            }
+            shard.thread = thread;
+            shards.add(shard);
+        }
+
+        for (final var shard : shards) {
+            shard.thread.start();
+        }
+    }
+
+    /**
+     * Creates an engine owning loosely coupled INS/GNSS filtered estimators.
+     *
+     * @param factory        creates the filtered estimator of each vehicle from its identifier.
+     * @param numberOfShards number of shards.
+     * @return a new engine.
+     * @throws IllegalArgumentException if number of shards is less than {@link #MIN_NUMBER_OF_SHARDS}.
+     */
+    public static INSGNSSFleetEngine<INSGNSSLooselyCoupledKalmanFilteredEstimator> createLooselyCoupled(
+            final LongFunction<INSGNSSLooselyCoupledKalmanFilteredEstimator> factory, final int numberOfShards) {
+        return new INSGNSSFleetEngine<>(new INSGNSSFleetFilterAdapter<>() {
+            @Override
+            public INSGNSSLooselyCoupledKalmanFilteredEstimator create(final long vehicleId) {
+                return factory.apply(vehicleId);
+            }
+
+            @Override
+            public boolean updateBodyKinematics(
+                    final INSGNSSLooselyCoupledKalmanFilteredEstimator estimator, final BodyKinematics kinematics,
+                    final double timestamp) throws LockedException, INSGNSSException {
+                return estimator.updateBodyKinematics(kinematics, timestamp);
+            }
+
+            @Override
+            public boolean updateMeasurements(
+                    final INSGNSSLooselyCoupledKalmanFilteredEstimator estimator,
+                    final Collection<GNSSMeasurement> measurements, final double timestamp)
+                    throws LockedException, NotReadyException, INSGNSSException {
+                return estimator.updateMeasurements(measurements, timestamp);
+            }
+
+            @Override
+            public boolean propagate(final INSGNSSLooselyCoupledKalmanFilteredEstimator estimator,
+                                     final double timestamp) throws LockedException, INSGNSSException {
+                return estimator.propagate(timestamp);
+            }
+        }, numberOfShards);
+    }
+
+    /**
+     * Creates an engine owning tightly coupled INS/GNSS filtered estimators.
+     *
+     * @param factory        creates the filtered estimator of each vehicle from its identifier.
+     * @param numberOfShards number of shards.
+     * @return a new engine.
+     * @throws IllegalArgumentException if number of shards is less than {@link #MIN_NUMBER_OF_SHARDS}.
+     */
+    public static INSGNSSFleetEngine<INSGNSSTightlyCoupledKalmanFilteredEstimator> createTightlyCoupled(
+            final LongFunction<INSGNSSTightlyCoupledKalmanFilteredEstimator> factory, final int numberOfShards) {
+        return new INSGNSSFleetEngine<>(new INSGNSSFleetFilterAdapter<>() {
+            @Override
+            public INSGNSSTightlyCoupledKalmanFilteredEstimator create(final long vehicleId) {
+                return factory.apply(vehicleId);
+            }
+
+            @Override
+            public boolean updateBodyKinematics(
+                    final INSGNSSTightlyCoupledKalmanFilteredEstimator estimator, final BodyKinematics kinematics,
+                    final double timestamp) throws LockedException, INSGNSSException {
+                return estimator.updateBodyKinematics(kinematics, timestamp);
+            }
+
+            @Override
+            public boolean updateMeasurements(
+                    final INSGNSSTightlyCoupledKalmanFilteredEstimator estimator,
+                    final Collection<GNSSMeasurement> measurements, final double timestamp)
+                    throws LockedException, NotReadyException, INSGNSSException {
+                return estimator.updateMeasurements(measurements, timestamp);
+            }
+
+            @Override
+            public boolean propagate(final INSGNSSTightlyCoupledKalmanFilteredEstimator estimator,
+                                     final double timestamp) throws LockedException, INSGNSSException {
+                return estimator.propagate(timestamp);
+            }
+        }, numberOfShards);
+    }
+
+    /**
+     * Gets adapter to create and update filtered estimators.
+     *
+     * @return adapter to create and update filtered estimators.
+     */
+    public INSGNSSFleetFilterAdapter<E> getAdapter() {
+        return adapter;
+    }
+
+    /**
+     * Gets number of shards.
+     *
+     * @return number of shards.
+     */
+    public int getNumberOfShards() {
+        return shards.size();
+    }
+
+    /**
+     * Gets maximum number of updates processed by a shard in a single batch.
+     *
+     * @return maximum batch size.
+     */
+    public int getMaxBatchSize() {
+        return maxBatchSize;
+    }
+
+    /**
+     * Gets maximum number of pending updates of each shard.
+     *
+     * @return queue capacity of each shard.
+     */
+    public int getQueueCapacity() {
+        return queueCapacity;
+    }
+
+    /**
+     * Gets listener to handle events raised by this engine.
+     *
+     * @return listener to handle events raised by this engine.
+     */
+    public INSGNSSFleetEngineListener<E> getListener() {
+        return listener;
+    }
+
+    /**
+     * Sets listener to handle events raised by this engine.
+     *
+     * @param listener listener to handle events raised by this engine.
+     */
+    public void setListener(final INSGNSSFleetEngineListener<E> listener) {
+        this.listener = listener;
+    }
+
+    /**
+     * Indicates whether this engine has been closed.
+     *
+     * @return true if engine has been closed, false otherwise.
+     */
+    public boolean isClosed() {
+        return closed;
+    }
+
+    /**
+     * Gets index of the shard owning provided vehicle.
+     *
+     * @param vehicleId vehicle identifier.
+     * @return index of shard.
+     */
+    public int getShardIndex(final long vehicleId) {
+        // mix bits so that sequential identifiers are spread across shards
+        var h = vehicleId * 0x9E3779B97F4A7C15L;
+        h ^= h >>> 32;
+        return Math.floorMod((int) h, shards.size());
+    }
+
+    /**
+     * Submits body kinematics of a vehicle.
+     * Provided kinematics are copied, so that instance can be reused by the caller.
+     *
+     * @param vehicleId  vehicle identifier.
+     * @param kinematics body kinematics.
+     * @param timestamp  timestamp expressed in seconds.
+     * @return true if update was queued, false if it was rejected because the queue of the
+     * shard is full or the engine is closed.
+     */
+    public boolean submitBodyKinematics(final long vehicleId, final BodyKinematics kinematics,
+                                        final double timestamp) {
+        return submitUpdate(new Task(TaskType.BODY_KINEMATICS, vehicleId, timestamp,
+                new BodyKinematics(kinematics)));
+    }
+
+    /**
+     * Submits GNSS measurements of a vehicle.
+     * Provided collection is copied, so that it can be reused by the caller.
+     *
+     * @param vehicleId    vehicle identifier.
+     * @param measurements GNSS measurements.
+     * @param timestamp    timestamp expressed in seconds.
+     * @return true if update was queued, false if it was rejected because the queue of the
+     * shard is full or the engine is closed.
+     */
+    public boolean submitMeasurements(final long vehicleId, final Collection<GNSSMeasurement> measurements,
+                                      final double timestamp) {
+        return submitUpdate(new Task(TaskType.MEASUREMENTS, vehicleId, timestamp, new ArrayList<>(measurements)));
+    }
+
+    /**
+     * Submits a Kalman filter state propagation of a vehicle.
+     *
+     * @param vehicleId vehicle identifier.
+     * @param timestamp timestamp expressed in seconds.
+     * @return true if update was queued, false if it was rejected because the queue of the
+     * shard is full or the engine is closed.
+     */
+    public boolean submitPropagation(final long vehicleId, final double timestamp) {
+        return submitUpdate(new Task(TaskType.PROPAGATION, vehicleId, timestamp, null));
+    }
+
+    /**
+     * Submits an action to be executed with the filtered estimator of a vehicle on the
+     * thread owning it, after all previously submitted updates of the vehicle have been
+     * processed. This is the only safe way to access estimators owned by this engine, for
+     * instance to obtain their state.
+     * Estimator is created if vehicle has no estimator yet.
+     *
+     * @param vehicleId vehicle identifier.
+     * @param action    action to be executed.
+     * @return true if action was queued, false if the engine is closed or the worker
+     * thread of the vehicle has terminated.
+     * @throws InterruptedException if interrupted while waiting for space in the queue.
+     */
+    public boolean execute(final long vehicleId, final Consumer<E> action) throws InterruptedException {
+        return submitControl(new Task(TaskType.EXECUTE, vehicleId, 0.0, action));
+    }
+
+    /**
+     * Submits removal of the filtered estimator of a vehicle, which is discarded after all
+     * previously submitted updates of the vehicle have been processed.
+     *
+     * @param vehicleId vehicle identifier.
+     * @return true if removal was queued, false if the engine is closed or the worker
+     * thread of the vehicle has terminated.
+     * @throws InterruptedException if interrupted while waiting for space in the queue.
+     */
+    public boolean removeVehicle(final long vehicleId) throws InterruptedException {
+        return submitControl(new Task(TaskType.REMOVE, vehicleId, 0.0, null));
+    }
+
+    /**
+     * Waits until all updates submitted before calling this method have been processed.
+     * Shards whose worker thread has terminated, or that are closed while this method
+     * queues its barriers, are not waited for.
+     *
+     * @throws InterruptedException if interrupted while waiting.
+     */
+    public void flush() throws InterruptedException {
+        if (closed) {
+            return;
+        }
+
+        final var latch = new CountDownLatch(shards.size());
+        for (final var shard : shards) {
+            if (!queueControl(shard, new Task(TaskType.BARRIER, 0, 0.0, latch))) {
+                latch.countDown();
+            }
+        }
+        latch.await();
+    }
+
+    /**
+     * Gets number of vehicles whose filtered estimator is currently owned by this engine.
+     *
+     * @return number of vehicles.
+     */
+    public int getNumberOfVehicles() {
+        return numberOfVehicles.get();
+    }
+
+    /**
+     * Gets number of updates pending to be processed.
+     *
+     * @return number of pending updates.
+     */
+    public int getNumberOfPendingUpdates() {
+        var result = 0;
+        for (final var shard : shards) {
+            result += shard.queue.size();
+        }
+        return result;
+    }
+
+    /**
+     * Gets number of submitted updates since engine creation or last counters reset.
+     *
+     * @return number of submitted updates.
+     */
+    public long getNumberOfSubmittedUpdates() {
+        return submittedUpdates.sum();
+    }
+
+    /**
+     * Gets number of processed updates since engine creation or last counters reset,
+     * including failed ones.
+     *
+     * @return number of processed updates.
+     */
+    public long getNumberOfProcessedUpdates() {
+        return processedUpdates.sum();
+    }
+
+    /**
+     * Gets number of processed updates that failed since engine creation or last
+     * counters reset.
+     *
+     * @return number of failed updates.
+     */
+    public long getNumberOfFailedUpdates() {
+        return failedUpdates.sum();
+    }
+
+    /**
+     * Gets number of updates rejected because queues were full, the engine was closed or
+     * worker threads terminated, since engine creation or last counters reset.
+     *
+     * @return number of rejected updates.
+     */
+    public long getNumberOfRejectedUpdates() {
+        return rejectedUpdates.sum();
+    }
+
+    /**
+     * Gets number of batches processed by all shards since engine creation or last
+     * counters reset.
+     *
+     * @return number of processed batches.
+     */
+    public long getNumberOfProcessedBatches() {
+        return processedBatches.sum();
+    }
+
+    /**
+     * Gets average number of updates processed per batch.
+     *
+     * @return average batch size or zero if no batch has been processed.
+     */
+    public double getAverageBatchSize() {
+        final var batches = processedBatches.sum();
+        return batches > 0 ? (double) processedUpdates.sum() / batches : 0.0;
+    }
+
+    /**
+     * Gets average time elapsed between submission and completion of processed updates.
+     *
+     * @return average latency expressed in nanoseconds or zero if no update has been
+     * processed.
+     */
+    public double getAverageLatencyNanos() {
+        final var processed = processedUpdates.sum();
+        return processed > 0 ? (double) totalLatencyNanos.sum() / processed : 0.0;
+    }
+
+    /**
+     * Gets maximum time elapsed between submission and completion of processed updates.
+     *
+     * @return maximum latency expressed in nanoseconds.
+     */
+    public long getMaxLatencyNanos() {
+        return maxLatencyNanos.get();
+    }
+
+    /**
+     * Gets number of processed updates per second since engine creation or last counters
+     * reset.
+     *
+     * @return throughput expressed in updates per second.
+     */
+    public double getThroughput() {
+        final var elapsed = System.nanoTime() - countersStartNanos;
+        return elapsed > 0 ? processedUpdates.sum() * 1e9 / elapsed : 0.0;
+    }
+
+    /**
+     * Resets throughput and latency counters.
+     */
+    public void resetCounters() {
+        submittedUpdates.reset();
+        processedUpdates.reset();
+        failedUpdates.reset();
+        rejectedUpdates.reset();
+        processedBatches.reset();
+        totalLatencyNanos.reset();
+        maxLatencyNanos.set(0);
+        countersStartNanos = System.nanoTime();
+    }
+
+    /**
+     * Closes this engine.
+     * Updates submitted before calling this method are processed before worker threads
+     * finish, and further submissions are rejected.
+     * This method waits for worker threads to finish. If the calling thread is interrupted
+     * while waiting, this method returns without waiting any longer and the interrupted
+     * status of the calling thread is restored, so that {@link #awaitTermination()} can be
+     * used to wait again.
+     */
+    @Override
+    public void close() {
+        final boolean closing;
+        synchronized (lock) {
+            closing = !closed;
+            closed = true;
+        }
+
+        if (closing) {
+            var interrupted = false;
+            for (final var shard : shards) {
+                // stop task must be queued so that worker thread eventually finishes, unless
+                // it has already terminated
+                final var stop = new Task(TaskType.STOP, 0, 0.0, null);
+                while (shard.isAlive() && !shard.queue.offer(stop)) {
+                    if (Thread.interrupted()) {
+                        interrupted = true;
+                    }
+                    LockSupport.parkNanos(this, MAX_PARK_NANOS);
+                }
+            }
+
+            if (interrupted) {
+                Thread.currentThread().interrupt();
+            }
+        }
+
+        try {
+            awaitTermination();
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * Waits until worker threads finish after this engine has been closed.
+     * This method returns immediately if this engine has not been closed.
+     *
+     * @throws InterruptedException if interrupted while waiting for worker threads to finish.
+     */
+    public void awaitTermination() throws InterruptedException {
+        if (!closed) {
+            return;
+        }
+
+        for (final var shard : shards) {
+            shard.thread.join();
+        }
+    }
+
+    /**
+     * Queues a filter update without blocking.
+     *
+     * @param task task containing update.
+     * @return true if update was queued, false if it was rejected.
+     */
+    private boolean submitUpdate(final Task task) {
+        final var shard = shards.get(getShardIndex(task.vehicleId));
+        if (closed || !shard.isAlive() || !shard.queue.offer(task)) {
+            rejectedUpdates.increment();
+            return false;
+        }
+
+        submittedUpdates.increment();
+        return true;
+    }
+
+    /**
+     * Queues a control task into the shard of its vehicle, waiting for space in the queue if
+     * needed.
+     *
+     * @param task control task.
+     * @return true if task was queued, false if engine is closed or the worker thread of
+     * the shard has terminated.
+     * @throws InterruptedException if interrupted while waiting.
+     */
+    private boolean submitControl(final Task task) throws InterruptedException {
+        return queueControl(shards.get(getShardIndex(task.vehicleId)), task);
+    }
+
+    /**
+     * Queues a control task into provided shard, waiting for space in the queue if needed.
+     * Tasks are queued while holding the lock that closing this engine and terminating
+     * worker threads also hold, so that a queued task is always processed or discarded by
+     * its worker thread.
+     *
+     * @param shard shard where task is queued.
+     * @param task  control task.
+     * @return true if task was queued, false if engine is closed or the worker thread of
+     * the shard has terminated.
+     * @throws InterruptedException if interrupted while waiting.
+     */
+    private boolean queueControl(final Shard shard, final Task task) throws InterruptedException {
+        while (true) {
+            synchronized (lock) {
+                if (closed || !shard.isAlive()) {
+                    return false;
+                }
+                if (shard.queue.offer(task)) {
+                    return true;
+                }
+            }
+
+            if (Thread.interrupted()) {
+                throw new InterruptedException();
+            }
+            LockSupport.parkNanos(this, MAX_PARK_NANOS);
+        }
+    }
+
+    /**
+     * Types of tasks processed by shards.
+     */
+    private enum TaskType {
+        /**
+         * Body kinematics update.
+         */
+        BODY_KINEMATICS,
+
+        /**
+         * GNSS measurements update.
+         */
+        MEASUREMENTS,
+
+        /**
+         * Kalman filter propagation.
+         */
+        PROPAGATION,
+
+        /**
+         * Action to be executed with an estimator.
+         */
+        EXECUTE,
+
+        /**
+         * Removal of an estimator.
+         */
+        REMOVE,
+
+        /**
+         * Barrier notifying that previous tasks have been processed.
+         */
+        BARRIER,
+
+        /**
+         * Stops worker thread.
+         */
+        STOP
+    }
+
+    /**
+     * Task queued into a shard.
+     */
+    private static final class Task {
+
+        /**
+         * Type of task.
+         */
+        private final TaskType type;
+
+        /**
+         * Vehicle identifier.
+         */
+        private final long vehicleId;
+
+        /**
+         * Timestamp of update expressed in seconds.
+         */
+        private final double timestamp;
+
+        /**
+         * Data of task, which depends on its type.
+         */
+        private final Object payload;
+
+        /**
+         * Time when task was submitted expressed in nanoseconds.
+         */
+        private final long submitNanos;
+
+        /**
+         * Constructor.
+         *
+         * @param type      type of task.
+         * @param vehicleId vehicle identifier.
+         * @param timestamp timestamp of update expressed in seconds.
+         * @param payload   data of task.
+         */
+        private Task(final TaskType type, final long vehicleId, final double timestamp, final Object payload) {
+            this.type = type;
+            this.vehicleId = vehicleId;
+            this.timestamp = timestamp;
+            this.payload = payload;
+            submitNanos = System.nanoTime();
+        }
+    }
+
+    /**
+     * Shard owning the estimators of a subset of vehicles and processing their tasks on a
+     * single thread.
+     */
+    private final class Shard implements Runnable {
+
+        /**
+         * Queue of pending tasks.
+         */
+        private final BlockingQueue<Task> queue;
+
+        /**
+         * Estimators owned by this shard, indexed by vehicle identifier.
+         * Only accessed from worker thread.
+         */
+        private final Map<Long, E> estimators = new HashMap<>();
+
+        /**
+         * Tasks of batch being processed.
+         */
+        private final List<Task> batch;
+
+        /**
+         * Position within the batch of next task to be processed.
+         */
+        private int position;
+
+        /**
+         * Indicates whether worker thread has terminated or is terminating.
+         */
+        private volatile boolean terminated;
+
+        /**
+         * Worker thread.
+         */
+        private Thread thread;
+
+        /**
+         * Constructor.
+         *
+         * @param queueCapacity maximum number of pending tasks.
+         */
+        private Shard(final int queueCapacity) {
+            queue = new ArrayBlockingQueue<>(queueCapacity);
+            batch = new ArrayList<>(maxBatchSize);
+        }
+
+        /**
+         * Indicates whether worker thread is alive and processing tasks.
+         *
+         * @return true if worker thread is alive, false if it has terminated.
+         */
+        private boolean isAlive() {
+            return !terminated && thread.isAlive();
+        }
+
+        /**
+         * Processes queued tasks in batches until stopped.
+         * If worker thread is interrupted or an error is thrown while processing a task,
+         * remaining tasks are discarded.
+         */
+        @Override
+        public void run() {
+            try {
+                var stop = false;
+                while (!stop) {
+                    try {
+                        batch.add(queue.take());
+                    } catch (final InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                        return;
+                    }
+                    queue.drainTo(batch, maxBatchSize - 1);
+
+                    var updates = 0;
+                    while (position < batch.size()) {
+                        final var task = batch.get(position++);
+                        if (task.type == TaskType.STOP) {
+                            stop = true;
+                        } else if (process(task)) {
+                            updates++;
+                        }
+                    }
+                    batch.clear();
+                    position = 0;
+
+                    if (updates > 0) {
+                        processedBatches.increment();
+                    }
+                }
+            } finally {
+                terminate();
+            }
+        }
+
+        /**
+         * Marks worker thread as terminated and discards tasks that have not been
+         * processed, releasing threads waiting for barriers and rejecting updates.
+         */
+        private void terminate() {
+            synchronized (lock) {
+                terminated = true;
+            }
+
+            // no control task can be queued once terminated, so every pending barrier is
+            // either in the remaining batch or in the queue
+            for (var i = position; i < batch.size(); i++) {
+                discard(batch.get(i));
+            }
+            batch.clear();
+            position = 0;
+
+            Task task;
+            while ((task = queue.poll()) != null) {
+                discard(task);
+            }
+        }
+
+        /**
+         * Discards a task that will never be processed.
+         *
+         * @param task task to be discarded.
+         */
+        private void discard(final Task task) {
+            switch (task.type) {
+                case BARRIER:
+                    ((CountDownLatch) task.payload).countDown();
+                    break;
+                case BODY_KINEMATICS:
+                case MEASUREMENTS:
+                case PROPAGATION:
+                    rejectedUpdates.increment();
+                    break;
+                default:
+                    break;
+            }
+        }
+
+        /**
+         * Processes a single task.
+         *
+         * @param task task to be processed.
+         * @return true if task was a filter update, false otherwise.
+         */
+        @SuppressWarnings("unchecked")
+        private boolean process(final Task task) {
+            switch (task.type) {
+                case BARRIER:
+                    ((CountDownLatch) task.payload).countDown();
+                    return false;
+                case REMOVE:
+                    if (estimators.remove(task.vehicleId) != null) {
+                        numberOfVehicles.decrementAndGet();
+                    }
+                    return false;
+                case EXECUTE:
+                    E e = null;
+                    try {
+                        e = getEstimator(task.vehicleId);
+                        ((Consumer<E>) task.payload).accept(e);
+                    } catch (final RuntimeException ex) {
+                        notifyFailure(task.vehicleId, e, ex);
+                    }
+                    return false;
+                default:
+                    break;
+            }
+
+            // failures creating the estimator are handled as failed updates, so that the
+            // worker thread keeps processing tasks of other vehicles and flush barriers
+            E estimator = null;
+            try {
+                estimator = getEstimator(task.vehicleId);
+                switch (task.type) {
+                    case BODY_KINEMATICS:
+                        adapter.updateBodyKinematics(estimator, (BodyKinematics) task.payload, task.timestamp);
+                        break;
+                    case MEASUREMENTS:
+                        adapter.updateMeasurements(estimator, (Collection<GNSSMeasurement>) task.payload,
+                                task.timestamp);
+                        break;
+                    default:
+                        adapter.propagate(estimator, task.timestamp);
+                        break;
+                }
+            } catch (final Exception e) {
+                failedUpdates.increment();
+                notifyFailure(task.vehicleId, estimator, e);
+            }
+
+            final var latency = System.nanoTime() - task.submitNanos;
+            totalLatencyNanos.add(latency);
+            maxLatencyNanos.accumulateAndGet(latency, Math::max);
+            processedUpdates.increment();
+            return true;
+        }
+
+        /**
+         * Notifies listener, if any, that a task of a vehicle failed.
+         * Exceptions thrown by listener are ignored so that they cannot stop the worker
+         * thread.
+         *
+         * @param vehicleId vehicle identifier.
+         * @param estimator estimator of vehicle or null if it could not be created.
+         * @param e         cause of failure.
+         */
+        private void notifyFailure(final long vehicleId, final E estimator, final Exception e) {
+            final var l = listener;
+            if (l != null) {
+                try {
+                    l.onUpdateFailed(INSGNSSFleetEngine.this, vehicleId, estimator, e);
+                } catch (final RuntimeException ignore) {
+                    // listener failures are ignored
+                }
+            }
+        }
+
+        /**
+         * Gets estimator of a vehicle, creating it if needed.
+         *
+         * @param vehicleId vehicle identifier.
+         * @return estimator of vehicle.
+         */
+        private E getEstimator(final long vehicleId) {
+            var estimator = estimators.get(vehicleId);
+            if (estimator == null) {
+                estimator = adapter.create(vehicleId);
+                estimators.put(vehicleId, estimator);
+                numberOfVehicles.incrementAndGet();
+            }
+            return estimator;
+        }
+    }
+}
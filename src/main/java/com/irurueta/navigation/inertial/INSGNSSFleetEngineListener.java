@@ -0,0 +1,39 @@
+/*
+ * Copyright (C) 2026 Alberto Irurueta Carro (alberto@irurueta.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.irurueta.navigation.inertial;
+
+/**
+ * Listener defining events of INSGNSSFleetEngine.
+ * Events are raised on the worker thread owning the vehicle, hence implementations
+ * must be thread-safe when an engine has more than one shard.
+ *
+ * @param <E> type of filtered estimator.
+ */
+public interface INSGNSSFleetEngineListener<E> {
+
+    /**
+     * Called when an update or an executed action of a vehicle fails.
+     * Processing of remaining updates continues after this event, and exceptions thrown
+     * by this method are ignored.
+     *
+     * @param engine    engine raising the event.
+     * @param vehicleId identifier of vehicle whose update failed.
+     * @param estimator filtered estimator of vehicle or null if it could not be created.
+     * @param e         cause of failure.
+     */
+    void onUpdateFailed(final INSGNSSFleetEngine<E> engine, final long vehicleId, final E estimator,
+                        final Exception e);
+}
@@ -0,0 +1,82 @@
+/*
+ * Copyright (C) 2026 Alberto Irurueta Carro (alberto@irurueta.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.irurueta.navigation.inertial;
+
+import com.irurueta.navigation.LockedException;
+import com.irurueta.navigation.NotReadyException;
+import com.irurueta.navigation.gnss.GNSSMeasurement;
+
+import java.util.Collection;
+
+/**
+ * Adapts a per-vehicle INS/GNSS filtered estimator so that it can be owned and
+ * updated by an {@link INSGNSSFleetEngine}.
+ * Implementations for {@link INSGNSSLooselyCoupledKalmanFilteredEstimator} and
+ * {@link INSGNSSTightlyCoupledKalmanFilteredEstimator} are provided by the engine
+ * factory methods.
+ *
+ * @param <E> type of filtered estimator.
+ */
+public interface INSGNSSFleetFilterAdapter<E> {
+
+    /**
+     * Creates the filtered estimator of a vehicle.
+     * This method is called on the worker thread owning the vehicle the first time
+     * an update is received for it.
+     *
+     * @param vehicleId vehicle identifier.
+     * @return new filtered estimator.
+     */
+    E create(final long vehicleId);
+
+    /**
+     * Updates specific force and angular rate of a vehicle.
+     *
+     * @param estimator  filtered estimator of vehicle.
+     * @param kinematics body kinematics.
+     * @param timestamp  timestamp expressed in seconds.
+     * @return true if estimator was updated, false otherwise.
+     * @throws LockedException  if estimator is already running.
+     * @throws INSGNSSException if estimation fails due to numerical instabilities.
+     */
+    boolean updateBodyKinematics(final E estimator, final BodyKinematics kinematics, final double timestamp)
+            throws LockedException, INSGNSSException;
+
+    /**
+     * Updates GNSS measurements of a vehicle.
+     *
+     * @param estimator    filtered estimator of vehicle.
+     * @param measurements GNSS measurements.
+     * @param timestamp    timestamp expressed in seconds.
+     * @return true if estimator was updated, false otherwise.
+     * @throws LockedException   if estimator is already running.
+     * @throws NotReadyException if estimator is not ready for measurement updates.
+     * @throws INSGNSSException  if estimation fails due to numerical instabilities.
+     */
+    boolean updateMeasurements(final E estimator, final Collection<GNSSMeasurement> measurements,
+                               final double timestamp) throws LockedException, NotReadyException, INSGNSSException;
+
+    /**
+     * Propagates Kalman filter state of a vehicle.
+     *
+     * @param estimator filtered estimator of vehicle.
+     * @param timestamp timestamp expressed in seconds.
+     * @return true if state was propagated, false otherwise.
+     * @throws LockedException  if estimator is already running.
+     * @throws INSGNSSException if estimation fails due to numerical instabilities.
+     */
+    boolean propagate(final E estimator, final double timestamp) throws LockedException, INSGNSSException;
+}
@@ -0,0 +1,624 @@
+/*
+ * Copyright (C) 2026 Alberto Irurueta Carro (alberto@irurueta.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.irurueta.navigation.inertial;
+
+import com.irurueta.navigation.LockedException;
+import com.irurueta.navigation.NotReadyException;
+import com.irurueta.navigation.gnss.GNSSMeasurement;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Concurrent front end of a loosely coupled INS/GNSS filtered estimator, allowing body
+ * kinematics to be provided from an IMU thread and GNSS measurements from a GNSS thread
+ * without any of them blocking the other.
+ * Each input is handed off through its own lock-free single-producer/single-consumer ring
+ * buffer of preallocated slots, and a single filter thread owning the estimator drains both
+ * buffers, applying pending updates in timestamp order. Hence, the IMU thread never waits
+ * while the filter thread solves GNSS measurements.
+ * Since updates are applied in timestamp order, GNSS measurements are held until body
+ * kinematics with a later timestamp have been submitted, unless no body kinematics have
+ * been submitted yet, or measurements have been held for longer than a maximum time, or
+ * this instance is being flushed or closed.
+ * After each applied update, the filter thread publishes an immutable snapshot of the
+ * estimator state that can be read from any thread without blocking.
+ * Body kinematics must always be submitted from the same thread, and GNSS measurements
+ * must always be submitted from the same thread, which can be different from the former
+ * one. The wrapped estimator must not be accessed while this instance is open, and its
+ * listener is notified from the filter thread.
+ */
+public class INSGNSSLooselyCoupledKalmanConcurrentEstimator implements AutoCloseable {
+
+    /**
+     * Default minimum number of pending body kinematics.
+     */
+    public static final int DEFAULT_BODY_KINEMATICS_CAPACITY = 4096;
+
+    /**
+     * Default minimum number of pending GNSS measurements.
+     */
+    public static final int DEFAULT_MEASUREMENTS_CAPACITY = 64;
+
+    /**
+     * Minimum capacity of buffers of pending updates.
+     */
+    public static final int MIN_CAPACITY = INSSpscRingBuffer.MIN_CAPACITY;
+
+    /**
+     * Default maximum time GNSS measurements are held waiting for body kinematics with a
+     * later timestamp, expressed in seconds.
+     */
+    public static final double DEFAULT_MAX_MEASUREMENTS_HOLD = 0.1;
+
+    /**
+     * Maximum time the filter thread or a thread waiting for it is parked before checking
+     * buffers again, expressed in nanoseconds.
+     */
+    private static final long MAX_PARK_NANOS = 1000000L;
+
+    /**
+     * Wrapped filtered estimator.
+     */
+    private final INSGNSSLooselyCoupledKalmanFilteredEstimator estimator;
+
+    /**
+     * Buffer of pending body kinematics.
+     */
+    private final INSSpscRingBuffer<BodyKinematicsSlot> bodyKinematicsBuffer;
+
+    /**
+     * Buffer of pending GNSS measurements.
+     */
+    private final INSSpscRingBuffer<MeasurementsSlot> measurementsBuffer;
+
+    /**
+     * Filter thread.
+     */
+    private final Thread thread;
+
+    /**
+     * Indicates whether this instance has been closed.
+     */
+    private volatile boolean closed;
+
+    /**
+     * Indicates whether filter thread is parked or about to be parked waiting for updates.
+     */
+    private volatile boolean waiting;
+
+    /**
+     * Number of threads waiting for pending updates to be applied.
+     */
+    private final AtomicInteger flushing = new AtomicInteger();
+
+    /**
+     * Timestamp of last submitted body kinematics expressed in seconds or NaN if none has
+     * been submitted yet.
+     */
+    private volatile double lastBodyKinematicsTimestamp = Double.NaN;
+
+    /**
+     * Maximum time GNSS measurements are held waiting for body kinematics with a later
+     * timestamp, expressed in nanoseconds.
+     */
+    private volatile long maxMeasurementsHoldNanos = toNanos(DEFAULT_MAX_MEASUREMENTS_HOLD);
+
+    /**
+     * Last published snapshot.
+     */
+    private volatile INSGNSSLooselyCoupledKalmanStateSnapshot snapshot;
+
+    /**
+     * Body kinematics provided to the estimator, which are reused for every update
+     * because the estimator copies them.
+     * Only accessed from filter thread.
+     */
+    private final BodyKinematics kinematics = new BodyKinematics();
+
+    /**
+     * Number of updates applied to the estimator.
+     * Only accessed from filter thread.
+     */
+    private long sequenceNumber;
+
+    /**
+     * Number of processed updates.
+     */
+    private final LongAdder processedUpdates = new LongAdder();
+
+    /**
+     * Number of processed updates that failed.
+     */
+    private final LongAdder failedUpdates = new LongAdder();
+
+    /**
+     * Number of updates rejected because buffers were full or this instance was closed.
+     */
+    private final LongAdder rejectedUpdates = new LongAdder();
+
+    /**
+     * Constructor.
+     *
+     * @param estimator filtered estimator to be wrapped.
+     * @throws NullPointerException if estimator is null.
+     */
+    public INSGNSSLooselyCoupledKalmanConcurrentEstimator(
+            final INSGNSSLooselyCoupledKalmanFilteredEstimator estimator) {
+        this(estimator, DEFAULT_BODY_KINEMATICS_CAPACITY, DEFAULT_MEASUREMENTS_CAPACITY);
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param estimator              filtered estimator to be wrapped.
+     * @param bodyKinematicsCapacity minimum number of pending body kinematics, which is
+     *                               rounded up to the next power of two.
+     * @param measurementsCapacity   minimum number of pending GNSS measurements, which is
+     *                               rounded up to the next power of two.
+     * @throws NullPointerException     if estimator is null.
+     * @throws IllegalArgumentException if any capacity is less than {@link #MIN_CAPACITY}.
+     */
+    public INSGNSSLooselyCoupledKalmanConcurrentEstimator(
+            final INSGNSSLooselyCoupledKalmanFilteredEstimator estimator, final int bodyKinematicsCapacity,
+            final int measurementsCapacity) {
+        this(estimator, bodyKinematicsCapacity, measurementsCapacity, null);
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param estimator              filtered estimator to be wrapped.
+     * @param bodyKinematicsCapacity minimum number of pending body kinematics, which is
+     *                               rounded up to the next power of two.
+     * @param measurementsCapacity   minimum number of pending GNSS measurements, which is
+     *                               rounded up to the next power of two.
+     * @param threadFactory          factory to create filter thread or null to use a daemon
+     *                               platform thread.
+     * @throws NullPointerException     if estimator is null.
+     * @throws IllegalArgumentException if any capacity is less than {@link #MIN_CAPACITY}.
+     */
+    public INSGNSSLooselyCoupledKalmanConcurrentEstimator(
+            final INSGNSSLooselyCoupledKalmanFilteredEstimator estimator, final int bodyKinematicsCapacity,
+            final int measurementsCapacity, final ThreadFactory threadFactory) {
+        if (estimator == null) {
+            throw new NullPointerException();
+        }
+
+        this.estimator = estimator;
+        bodyKinematicsBuffer = new INSSpscRingBuffer<>(bodyKinematicsCapacity, BodyKinematicsSlot::new);
+        measurementsBuffer = new INSSpscRingBuffer<>(measurementsCapacity, MeasurementsSlot::new);
+
+        if (threadFactory != null) {
+            thread = threadFactory.newThread(this::run);
+        } else {
+            thread = new Thread(this::run, "ins-gnss-loosely-coupled-filter");
+            thread.setDaemon(true);
+        }
+        thread.start();
+    }
+
+    /**
+     * Gets wrapped filtered estimator.
+     * Returned estimator must not be accessed while this instance is open.
+     *
+     * @return wrapped filtered estimator.
+     */
+    public INSGNSSLooselyCoupledKalmanFilteredEstimator getEstimator() {
+        return estimator;
+    }
+
+    /**
+     * Gets maximum number of pending body kinematics.
+     *
+     * @return maximum number of pending body kinematics.
+     */
+    public int getBodyKinematicsCapacity() {
+        return bodyKinematicsBuffer.getCapacity();
+    }
+
+    /**
+     * Gets maximum number of pending GNSS measurements.
+     *
+     * @return maximum number of pending GNSS measurements.
+     */
+    public int getMeasurementsCapacity() {
+        return measurementsBuffer.getCapacity();
+    }
+
+    /**
+     * Gets maximum time GNSS measurements are held waiting for body kinematics with a
+     * later timestamp.
+     *
+     * @return maximum hold time expressed in seconds.
+     */
+    public double getMaxMeasurementsHold() {
+        return maxMeasurementsHoldNanos * 1e-9;
+    }
+
+    /**
+     * Sets maximum time GNSS measurements are held waiting for body kinematics with a
+     * later timestamp, so that measurements are still applied when body kinematics stop
+     * being submitted.
+     *
+     * @param maxMeasurementsHold maximum hold time expressed in seconds.
+     * @throws IllegalArgumentException if provided value is negative.
+     */
+    public void setMaxMeasurementsHold(final double maxMeasurementsHold) {
+        if (maxMeasurementsHold < 0.0) {
+            throw new IllegalArgumentException();
+        }
+
+        maxMeasurementsHoldNanos = toNanos(maxMeasurementsHold);
+    }
+
+    /**
+     * Submits body kinematics without blocking.
+     * Provided kinematics are copied into a preallocated slot, so that they can be reused
+     * by the caller. This method must always be called from the same thread.
+     *
+     * @param kinematics body kinematics.
+     * @param timestamp  timestamp expressed in seconds.
+     * @return true if update was queued, false if it was rejected because the buffer of
+     * body kinematics is full or this instance is closed.
+     */
+    public boolean submitBodyKinematics(final BodyKinematics kinematics, final double timestamp) {
+        final var slot = closed ? null : bodyKinematicsBuffer.claim();
+        if (slot == null) {
+            rejectedUpdates.increment();
+            return false;
+        }
+
+        slot.kinematics.copyFrom(kinematics);
+        slot.timestamp = timestamp;
+        bodyKinematicsBuffer.publish();
+        lastBodyKinematicsTimestamp = timestamp;
+        wakeUp();
+        return true;
+    }
+
+    /**
+     * Submits GNSS measurements without blocking.
+     * Provided measurements are copied into preallocated instances of a slot, so that
+     * both the collection and its measurements can be reused by the caller. This method
+     * must always be called from the same thread.
+     *
+     * @param measurements GNSS measurements.
+     * @param timestamp    timestamp expressed in seconds.
+     * @return true if update was queued, false if it was rejected because the buffer of
+     * GNSS measurements is full or this instance is closed.
+     */
+    public boolean submitMeasurements(final Collection<GNSSMeasurement> measurements, final double timestamp) {
+        final var slot = closed ? null : measurementsBuffer.claim();
+        if (slot == null) {
+            rejectedUpdates.increment();
+            return false;
+        }
+
+        slot.copyFrom(measurements);
+        slot.timestamp = timestamp;
+        slot.submitNanos = System.nanoTime();
+        measurementsBuffer.publish();
+        wakeUp();
+        return true;
+    }
+
+    /**
+     * Gets last snapshot of estimator state published by the filter thread.
+     * This method never blocks.
+     *
+     * @return last snapshot or null if no update has been applied yet.
+     */
+    public INSGNSSLooselyCoupledKalmanStateSnapshot getSnapshot() {
+        return snapshot;
+    }
+
+    /**
+     * Waits until all updates submitted before calling this method have been processed,
+     * applying any held GNSS measurements.
+     *
+     * @throws InterruptedException if interrupted while waiting.
+     */
+    public void flush() throws InterruptedException {
+        final var bodyKinematicsTarget = bodyKinematicsBuffer.getPublishedCount();
+        final var measurementsTarget = measurementsBuffer.getPublishedCount();
+
+        flushing.incrementAndGet();
+        try {
+            LockSupport.unpark(thread);
+            while (thread.isAlive() && (bodyKinematicsBuffer.getReleasedCount() < bodyKinematicsTarget
+                    || measurementsBuffer.getReleasedCount() < measurementsTarget)) {
+                if (Thread.interrupted()) {
+                    throw new InterruptedException();
+                }
+                LockSupport.parkNanos(this, MAX_PARK_NANOS);
+            }
+        } finally {
+            flushing.decrementAndGet();
+        }
+    }
+
+    /**
+     * Gets number of body kinematics pending to be processed.
+     *
+     * @return number of pending body kinematics.
+     */
+    public int getNumberOfPendingBodyKinematics() {
+        return bodyKinematicsBuffer.size();
+    }
+
+    /**
+     * Gets number of GNSS measurements pending to be processed.
+     *
+     * @return number of pending GNSS measurements.
+     */
+    public int getNumberOfPendingMeasurements() {
+        return measurementsBuffer.size();
+    }
+
+    /**
+     * Gets number of processed updates, including failed ones.
+     *
+     * @return number of processed updates.
+     */
+    public long getNumberOfProcessedUpdates() {
+        return processedUpdates.sum();
+    }
+
+    /**
+     * Gets number of processed updates that failed.
+     *
+     * @return number of failed updates.
+     */
+    public long getNumberOfFailedUpdates() {
+        return failedUpdates.sum();
+    }
+
+    /**
+     * Gets number of updates rejected because buffers were full or this instance was
+     * closed.
+     *
+     * @return number of rejected updates.
+     */
+    public long getNumberOfRejectedUpdates() {
+        return rejectedUpdates.sum();
+    }
+
+    /**
+     * Indicates whether this instance has been closed.
+     *
+     * @return true if closed, false otherwise.
+     */
+    public boolean isClosed() {
+        return closed;
+    }
+
+    /**
+     * Closes this instance.
+     * Updates submitted before calling this method are processed before the filter
+     * thread finishes, and further submissions are rejected.
+     * This method waits for the filter thread to finish. If the calling thread is
+     * interrupted while waiting, this method returns without waiting any longer and the
+     * interrupted status of the calling thread is restored, so that
+     * {@link #awaitTermination()} can be used to wait again.
+     */
+    @Override
+    public void close() {
+        closed = true;
+        LockSupport.unpark(thread);
+
+        try {
+            awaitTermination();
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * Waits until the filter thread finishes after this instance has been closed.
+     * This method returns immediately if this instance has not been closed.
+     *
+     * @throws InterruptedException if interrupted while waiting for filter thread to finish.
+     */
+    public void awaitTermination() throws InterruptedException {
+        if (closed) {
+            thread.join();
+        }
+    }
+
+    /**
+     * Body of filter thread, which applies pending updates in timestamp order until this
+     * instance is closed and no updates remain.
+     */
+    private void run() {
+        while (true) {
+            // last timestamp must be read before checking buffers, so that all body
+            // kinematics up to that timestamp are known to be already published
+            final var lastTimestamp = lastBodyKinematicsTimestamp;
+            final var stopping = closed;
+            final var bodyKinematicsSlot = bodyKinematicsBuffer.peek();
+            final var measurementsSlot = measurementsBuffer.peek();
+
+            if (bodyKinematicsSlot != null && (measurementsSlot == null
+                    || bodyKinematicsSlot.timestamp <= measurementsSlot.timestamp)) {
+                processBodyKinematics(bodyKinematicsSlot);
+                bodyKinematicsBuffer.release();
+            } else if (measurementsSlot != null && (bodyKinematicsSlot != null || stopping
+                    || isMeasurementsHoldOver(measurementsSlot, lastTimestamp))) {
+                processMeasurements(measurementsSlot);
+                measurementsBuffer.release();
+            } else if (stopping && measurementsSlot == null) {
+                return;
+            } else {
+                idle(measurementsSlot != null);
+            }
+        }
+    }
+
+    /**
+     * Indicates whether pending GNSS measurements can be applied while there are no
+     * pending body kinematics.
+     *
+     * @param slot          oldest pending GNSS measurements.
+     * @param lastTimestamp timestamp of last submitted body kinematics.
+     * @return true if measurements can be applied, false if they must be held.
+     */
+    private boolean isMeasurementsHoldOver(final MeasurementsSlot slot, final double lastTimestamp) {
+        return Double.isNaN(lastTimestamp) || lastTimestamp >= slot.timestamp || flushing.get() > 0
+                || System.nanoTime() - slot.submitNanos >= maxMeasurementsHoldNanos;
+    }
+
+    /**
+     * Parks filter thread until an update is submitted or a bounded amount of time elapses.
+     *
+     * @param holding true if GNSS measurements are being held.
+     */
+    private void idle(final boolean holding) {
+        waiting = true;
+        if (bodyKinematicsBuffer.isEmpty() && measurementsBuffer.size() <= (holding ? 1 : 0) && !closed
+                && flushing.get() == 0) {
+            LockSupport.parkNanos(this, MAX_PARK_NANOS);
+        }
+        waiting = false;
+    }
+
+    /**
+     * Wakes up filter thread if it is waiting for updates.
+     */
+    private void wakeUp() {
+        if (waiting) {
+            LockSupport.unpark(thread);
+        }
+    }
+
+    /**
+     * Applies body kinematics to the estimator.
+     *
+     * @param slot slot containing body kinematics.
+     */
+    private void processBodyKinematics(final BodyKinematicsSlot slot) {
+        try {
+            // kinematics are copied because the estimator corrects them in place, and the
+            // slot must be left untouched until it is released
+            kinematics.copyFrom(slot.kinematics);
+            if (estimator.updateBodyKinematics(kinematics, slot.timestamp)) {
+                publishSnapshot();
+            }
+        } catch (final LockedException | INSGNSSException | RuntimeException e) {
+            failedUpdates.increment();
+        }
+        processedUpdates.increment();
+    }
+
+    /**
+     * Applies GNSS measurements to the estimator.
+     *
+     * @param slot slot containing GNSS measurements.
+     */
+    private void processMeasurements(final MeasurementsSlot slot) {
+        try {
+            if (estimator.updateMeasurements(slot.measurements, slot.timestamp)) {
+                publishSnapshot();
+            }
+        } catch (final LockedException | NotReadyException | INSGNSSException | RuntimeException e) {
+            failedUpdates.increment();
+        }
+        processedUpdates.increment();
+    }
+
+    /**
+     * Publishes a snapshot of current estimator state.
+     */
+    private void publishSnapshot() {
+        snapshot = new INSGNSSLooselyCoupledKalmanStateSnapshot(++sequenceNumber, estimator);
+    }
+
+    /**
+     * Converts a time expressed in seconds into nanoseconds.
+     *
+     * @param seconds time expressed in seconds.
+     * @return time expressed in nanoseconds.
+     */
+    private static long toNanos(final double seconds) {
+        return (long) (seconds * 1e9);
+    }
+
+    /**
+     * Preallocated slot containing submitted body kinematics.
+     */
+    private static final class BodyKinematicsSlot {
+
+        /**
+         * Body kinematics.
+         */
+        private final BodyKinematics kinematics = new BodyKinematics();
+
+        /**
+         * Timestamp expressed in seconds.
+         */
+        private double timestamp;
+    }
+
+    /**
+     * Preallocated slot containing submitted GNSS measurements.
+     */
+    private static final class MeasurementsSlot {
+
+        /**
+         * GNSS measurements, which are preallocated instances containing copies of submitted ones.
+         */
+        private final List<GNSSMeasurement> measurements = new ArrayList<>();
+
+        /**
+         * Preallocated instances of GNSS measurements, which only grow when more
+         * measurements than ever before are submitted.
+         */
+        private final List<GNSSMeasurement> instances = new ArrayList<>();
+
+        /**
+         * Timestamp expressed in seconds.
+         */
+        private double timestamp;
+
+        /**
+         * Time when measurements were submitted expressed in nanoseconds.
+         */
+        private long submitNanos;
+
+        /**
+         * Copies provided measurements into preallocated instances.
+         *
+         * @param measurements GNSS measurements to be copied.
+         */
+        private void copyFrom(final Collection<GNSSMeasurement> measurements) {
+            this.measurements.clear();
+            var i = 0;
+            for (final var measurement : measurements) {
+                if (i == instances.size()) {
+                    instances.add(new GNSSMeasurement());
+                }
+                final var instance = instances.get(i++);
+                instance.copyFrom(measurement);
+                this.measurements.add(instance);
+            }
+        }
+    }
+}
@@ -29,6 +29,10 @@ import com.irurueta.units.Time;
 import com.irurueta.units.TimeConverter;
 import com.irurueta.units.TimeUnit;
 
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.nio.ByteBuffer;
 import java.util.ArrayList;
 import java.util.Collection;
 
@@ -45,6 +49,18 @@ import java.util.Collection;
 @SuppressWarnings("DuplicatedCode")
 public class INSGNSSLooselyCoupledKalmanFilteredEstimator {
 
+    /**
+     * Number of bytes of a snapshot written by {@link #writeSnapshot(ByteBuffer)}.
+     */
+    public static final int SNAPSHOT_LENGTH = 1 + 1 + 8 * INSBinaryCodec.DOUBLE_BYTES
+            + 2 * INSBinaryCodec.KINEMATICS_BYTES + 1 + INSLooselyCoupledKalmanState.ENCODED_LENGTH
+            + INSLooselyCoupledKalmanFilteredEstimator.SNAPSHOT_LENGTH;
+
+    /**
+     * Identifier of snapshot format.
+     */
+    private static final byte SNAPSHOT_FORMAT = 1;
+
     /**
      * Internal estimator to compute least squares solution for GNSS measurements.
      */
@@ -137,6 +153,12 @@ public class INSGNSSLooselyCoupledKalmanFilteredEstimator {
      */
     private boolean running;
 
+    /**
+     * History of recent updates used to apply delayed GNSS measurements, or null if
+     * history is disabled.
+     */
+    private INSGNSSLooselyCoupledKalmanHistory history;
+
     /**
      * Constructor.
      */
@@ -1358,6 +1380,78 @@ public class INSGNSSLooselyCoupledKalmanFilteredEstimator {
         insEstimator.setInitialConfig(initialConfig);
     }
 
+    /**
+     * Gets smoother recording every Kalman filter epoch so that filtered states can
+     * be smoothed afterwards, if any.
+     *
+     * @return smoother or null if epochs are not recorded.
+     */
+    public INSLooselyCoupledKalmanSmoother getSmoother() {
+        return insEstimator.getSmoother();
+    }
+
+    /**
+     * Sets smoother recording every Kalman filter epoch so that filtered states can
+     * be smoothed afterwards.
+     * Recorded epochs are discarded when this estimator is reset.
+     *
+     * @param smoother smoother or null if epochs must not be recorded.
+     * @throws LockedException if this estimator is already running.
+     */
+    public void setSmoother(final INSLooselyCoupledKalmanSmoother smoother) throws LockedException {
+        if (running) {
+            throw new LockedException();
+        }
+
+        insEstimator.setSmoother(smoother);
+    }
+
+    /**
+     * Gets maximum number of recent updates kept in history so that delayed GNSS
+     * measurements can be applied at their time of validity.
+     * Zero indicates that history is disabled and delayed measurements are
+     * rejected.
+     *
+     * @return maximum number of updates kept in history.
+     */
+    public int getHistoryCapacity() {
+        return history != null ? history.getCapacity() : 0;
+    }
+
+    /**
+     * Sets maximum number of recent updates kept in history so that delayed GNSS
+     * measurements can be applied at their time of validity.
+     * When a GNSS measurement older than last propagated state is received, this
+     * estimator is rewound to the newest update in history preceding it, the
+     * measurement is applied, and later updates are replayed. Hence, both memory
+     * usage (capacity times {@link #SNAPSHOT_LENGTH} bytes) and replay cost are
+     * bounded by capacity.
+     * Zero disables history. Any previously kept history is discarded.
+     *
+     * @param historyCapacity maximum number of updates kept in history.
+     * @throws LockedException          if this estimator is already running.
+     * @throws IllegalArgumentException if provided value is negative.
+     */
+    public void setHistoryCapacity(final int historyCapacity) throws LockedException {
+        if (running) {
+            throw new LockedException();
+        }
+        if (historyCapacity < 0) {
+            throw new IllegalArgumentException();
+        }
+
+        history = historyCapacity > 0 ? new INSGNSSLooselyCoupledKalmanHistory(historyCapacity) : null;
+    }
+
+    /**
+     * Gets number of updates currently kept in history.
+     *
+     * @return number of updates kept in history.
+     */
+    public int getHistorySize() {
+        return history != null ? history.size() : 0;
+    }
+
     /**
      * Gets last updated GNSS measurements of a collection of satellites.
      *
@@ -1587,6 +1681,12 @@ public class INSGNSSLooselyCoupledKalmanFilteredEstimator {
      * are available.
      * Call to this method will be ignored if interval between provided timestamp
      * and last timestamp when Kalman filter was updated is less than epoch interval.
+     * If history is enabled (see {@link #setHistoryCapacity(int)}), measurements
+     * older than last timestamp when Kalman filter was updated are applied at their
+     * time of validity by rewinding this estimator and replaying later updates kept
+     * in history. Listener events are raised again for replayed updates, and
+     * smoother, if any, only discards epochs after the rewound state, which are
+     * recorded again while replaying.
      *
      * @param measurements GNSS measurements to be updated.
      * @param timestamp    timestamp expressed in seconds since epoch time when
@@ -1607,6 +1707,101 @@ public class INSGNSSLooselyCoupledKalmanFilteredEstimator {
             throw new NotReadyException();
         }
 
+        final var lastStateTimestamp = insEstimator.getLastStateTimestamp();
+        if (history != null && lastStateTimestamp != null && timestamp < lastStateTimestamp) {
+            return updateDelayedMeasurements(measurements, timestamp);
+        }
+
+        final var result = internalUpdateMeasurements(measurements, timestamp);
+        if (result && history != null) {
+            history.add(INSGNSSLooselyCoupledKalmanHistory.MEASUREMENTS, timestamp, null, this.measurements,
+                    this);
+        }
+        return result;
+    }
+
+    /**
+     * Applies GNSS measurements older than last propagated state by rewinding this
+     * estimator to the newest update in history preceding them, and replaying all
+     * later updates afterwards.
+     *
+     * @param measurements delayed GNSS measurements.
+     * @param timestamp    timestamp expressed in seconds since epoch time when
+     *                     GNSS measurements were taken.
+     * @return true if measurements were applied, false if they are older than all
+     * updates kept in history.
+     * @throws LockedException   if this estimator is already running.
+     * @throws NotReadyException if estimator is not ready for measurements updates.
+     * @throws INSGNSSException  if estimation fails due to numerical instabilities.
+     */
+    private boolean updateDelayedMeasurements(final Collection<GNSSMeasurement> measurements,
+                                              final double timestamp) throws LockedException, NotReadyException,
+            INSGNSSException {
+        final var index = history.findLastBefore(timestamp);
+        if (index < 0) {
+            return false;
+        }
+
+        // copy updates to be replayed before they are discarded from history
+        final var count = history.size() - index - 1;
+        final var types = new byte[count];
+        final var timestamps = new double[count];
+        final var replayedKinematics = new BodyKinematics[count];
+        final var replayedMeasurements = new ArrayList<Collection<GNSSMeasurement>>(count);
+        for (var i = 0; i < count; i++) {
+            final var j = index + 1 + i;
+            types[i] = history.getType(j);
+            timestamps[i] = history.getTimestamp(j);
+            if (types[i] == INSGNSSLooselyCoupledKalmanHistory.BODY_KINEMATICS) {
+                replayedKinematics[i] = new BodyKinematics();
+                history.getKinematics(j, replayedKinematics[i]);
+            }
+            replayedMeasurements.add(history.getMeasurements(j));
+        }
+
+        internalRestoreSnapshot(history.getSnapshot(index), true);
+        history.truncate(index);
+
+        final var result = internalUpdateMeasurements(measurements, timestamp);
+        if (result) {
+            history.add(INSGNSSLooselyCoupledKalmanHistory.MEASUREMENTS, timestamp, null, this.measurements,
+                    this);
+        }
+
+        for (var i = 0; i < count; i++) {
+            final var type = types[i];
+            final var t = timestamps[i];
+            if (type == INSGNSSLooselyCoupledKalmanHistory.BODY_KINEMATICS) {
+                internalUpdateBodyKinematics(replayedKinematics[i], t);
+                history.add(type, t, replayedKinematics[i], null, this);
+            } else if (type == INSGNSSLooselyCoupledKalmanHistory.MEASUREMENTS) {
+                final var m = replayedMeasurements.get(i);
+                if (internalUpdateMeasurements(m, t)) {
+                    history.add(type, t, null, this.measurements, this);
+                }
+            } else if (internalPropagate(t)) {
+                history.add(type, t, null, null, this);
+            }
+        }
+
+        return result;
+    }
+
+    /**
+     * Updates GNSS measurements of this estimator without recording them into
+     * history.
+     *
+     * @param measurements GNSS measurements to be updated.
+     * @param timestamp    timestamp expressed in seconds since epoch time when
+     *                     GNSS measurements were updated.
+     * @return true if measurements were updated, false otherwise.
+     * @throws LockedException   if this estimator is already running.
+     * @throws NotReadyException if estimator is not ready for measurements updates.
+     * @throws INSGNSSException  if estimation fails due to numerical instabilities.
+     */
+    private boolean internalUpdateMeasurements(final Collection<GNSSMeasurement> measurements,
+                                               final double timestamp) throws LockedException, NotReadyException,
+            INSGNSSException {
         final var lastStateTimestamp = insEstimator.getLastStateTimestamp();
         if (lastStateTimestamp != null && timestamp - lastStateTimestamp <= insEstimator.getEpochInterval()) {
             return false;
@@ -1619,7 +1814,13 @@ public class INSGNSSLooselyCoupledKalmanFilteredEstimator {
                 listener.onUpdateGNSSMeasurementsStart(this);
             }
 
-            this.measurements = new ArrayList<>(measurements);
+            // provided measurements are copied, so that callers can reuse them while they
+            // are kept as last measurements and into history
+            final var copiedMeasurements = new ArrayList<GNSSMeasurement>(measurements.size());
+            for (final var measurement : measurements) {
+                copiedMeasurements.add(new GNSSMeasurement(measurement));
+            }
+            this.measurements = copiedMeasurements;
 
             lsEstimator.setMeasurements(this.measurements);
             lsEstimator.setPriorPositionAndVelocityFromEstimation(estimation);
@@ -1644,7 +1845,7 @@ public class INSGNSSLooselyCoupledKalmanFilteredEstimator {
             insEstimator.getKinematics(kinematics);
         }
 
-        updateBodyKinematics(kinematics, timestamp);
+        internalUpdateBodyKinematics(kinematics, timestamp);
 
         return true;
     }
@@ -1688,6 +1889,33 @@ public class INSGNSSLooselyCoupledKalmanFilteredEstimator {
             throw new LockedException();
         }
 
+        final var result = internalUpdateBodyKinematics(kinematics, timestamp);
+        if (history != null && kinematics != null) {
+            history.add(INSGNSSLooselyCoupledKalmanHistory.BODY_KINEMATICS, timestamp, kinematics, null,
+                    this);
+        }
+        return result;
+    }
+
+    /**
+     * Updates specific force and angular rate applied to the user's body without
+     * recording them into history.
+     *
+     * @param kinematics kinematics applied to body (specific force and angular rate)
+     *                   during last period of time.
+     * @param timestamp  timestamp expressed in seconds since epoch time when specific
+     *                   force and angular rate values were updated.
+     * @return true if body kinematics values were updated, false otherwise.
+     * @throws LockedException  if this estimator is already running.
+     * @throws INSGNSSException if estimation fails due to numerical instabilities.
+     */
+    private boolean internalUpdateBodyKinematics(final BodyKinematics kinematics, final double timestamp)
+            throws LockedException, INSGNSSException {
+
+        if (running) {
+            throw new LockedException();
+        }
+
         try {
             running = true;
 
@@ -1713,8 +1941,11 @@ public class INSGNSSLooselyCoupledKalmanFilteredEstimator {
                         insEstimator.getState(state);
                     }
                 }
+            } else if (kinematics == null || this.kinematics == null) {
+                // provided kinematics are copied, so that callers can reuse them
+                this.kinematics = kinematics != null ? new BodyKinematics(kinematics) : null;
             } else {
-                this.kinematics = kinematics;
+                this.kinematics.copyFrom(kinematics);
             }
 
             if (kinematics != null) {
@@ -1772,6 +2003,28 @@ public class INSGNSSLooselyCoupledKalmanFilteredEstimator {
             throw new LockedException();
         }
 
+        final var result = internalPropagate(timestamp);
+        if (result && history != null) {
+            history.add(INSGNSSLooselyCoupledKalmanHistory.PROPAGATION, timestamp, null, null, this);
+        }
+        return result;
+    }
+
+    /**
+     * Propagates Kalman filter state held by this estimator up to provided timestamp
+     * without recording it into history.
+     *
+     * @param timestamp timestamp expressed in seconds since epoch to propagate state.
+     * @return true if state was propagated, false otherwise.
+     * @throws LockedException  if this estimator is already running.
+     * @throws INSGNSSException if estimation fails due to numerical instabilities.
+     */
+    private boolean internalPropagate(final double timestamp) throws LockedException, INSGNSSException {
+
+        if (running) {
+            throw new LockedException();
+        }
+
         if (!isPropagateReady()) {
             return false;
         }
@@ -1821,6 +2074,9 @@ public class INSGNSSLooselyCoupledKalmanFilteredEstimator {
         kinematics = null;
         correctedKinematics = null;
         frame = null;
+        if (history != null) {
+            history.clear();
+        }
 
         insEstimator.reset();
 
@@ -1831,6 +2087,172 @@ public class INSGNSSLooselyCoupledKalmanFilteredEstimator {
         running = false;
     }
 
+    /**
+     * Writes a snapshot of this estimator into provided buffer using a fixed-layout
+     * binary format of {@link #SNAPSHOT_LENGTH} bytes.
+     * Snapshot contains current GNSS estimation, last provided and corrected kinematics,
+     * Kalman filter state, along with the snapshot of the internal INS estimator
+     * containing epoch interval, configurations, frame and timestamp of last state
+     * propagation. This allows checkpointing an estimator or migrating it to another
+     * node, where it continues producing the same results.
+     * Listener, smoother and last provided GNSS measurements are not part of the
+     * snapshot.
+     * Values are written using the byte order of provided buffer.
+     *
+     * @param buffer buffer where snapshot will be written.
+     * @throws java.nio.BufferOverflowException if buffer has less than
+     *                                          {@link #SNAPSHOT_LENGTH} remaining bytes.
+     */
+    public void writeSnapshot(final ByteBuffer buffer) {
+        INSBinaryCodec.checkWritable(buffer, SNAPSHOT_LENGTH);
+
+        buffer.put(SNAPSHOT_FORMAT);
+
+        INSBinaryCodec.putFlag(buffer, estimation != null);
+        if (estimation != null) {
+            buffer.putDouble(estimation.getX());
+            buffer.putDouble(estimation.getY());
+            buffer.putDouble(estimation.getZ());
+            buffer.putDouble(estimation.getVx());
+            buffer.putDouble(estimation.getVy());
+            buffer.putDouble(estimation.getVz());
+            buffer.putDouble(estimation.getClockOffset());
+            buffer.putDouble(estimation.getClockDrift());
+        } else {
+            INSBinaryCodec.putZeros(buffer, 8 * INSBinaryCodec.DOUBLE_BYTES);
+        }
+
+        INSBinaryCodec.putKinematics(buffer, kinematics);
+        INSBinaryCodec.putKinematics(buffer, correctedKinematics);
+
+        INSBinaryCodec.putFlag(buffer, state != null);
+        if (state != null) {
+            state.encode(buffer);
+        } else {
+            INSBinaryCodec.putZeros(buffer, INSLooselyCoupledKalmanState.ENCODED_LENGTH);
+        }
+
+        insEstimator.writeSnapshot(buffer);
+    }
+
+    /**
+     * Writes a snapshot of this estimator into provided data output using a
+     * fixed-layout big-endian binary format of {@link #SNAPSHOT_LENGTH} bytes.
+     *
+     * @param output data output where snapshot will be written.
+     * @throws IOException if an I/O error occurs.
+     */
+    public void writeSnapshot(final DataOutput output) throws IOException {
+        INSBinaryCodec.write(output, SNAPSHOT_LENGTH, this::writeSnapshot);
+    }
+
+    /**
+     * Restores the status of this estimator from a snapshot written with
+     * {@link #writeSnapshot(ByteBuffer)}.
+     * Last provided GNSS measurements and history are cleared and smoother, if any,
+     * is reset.
+     * Status of this estimator is not modified if snapshot is not valid.
+     *
+     * @param buffer buffer where snapshot will be read from.
+     * @throws LockedException                   if this estimator is already running.
+     * @throws java.nio.BufferUnderflowException if buffer has less than
+     *                                           {@link #SNAPSHOT_LENGTH} remaining bytes.
+     * @throws IllegalArgumentException          if buffer does not contain a valid snapshot.
+     */
+    public void restoreSnapshot(final ByteBuffer buffer) throws LockedException {
+        if (running) {
+            throw new LockedException();
+        }
+
+        internalRestoreSnapshot(buffer, false);
+        if (history != null) {
+            history.clear();
+        }
+    }
+
+    /**
+     * Restores the status of this estimator from a snapshot without modifying
+     * history.
+     *
+     * @param buffer buffer where snapshot will be read from.
+     * @param rewind true if this estimator is rewound to a snapshot of its history, so
+     *               that smoother keeps epochs up to the restored state, false to reset
+     *               smoother.
+     * @throws LockedException                   if this estimator is already running.
+     * @throws java.nio.BufferUnderflowException if buffer has less than
+     *                                           {@link #SNAPSHOT_LENGTH} remaining bytes.
+     * @throws IllegalArgumentException          if buffer does not contain a valid snapshot.
+     */
+    private void internalRestoreSnapshot(final ByteBuffer buffer, final boolean rewind) throws LockedException {
+        INSBinaryCodec.checkReadable(buffer, SNAPSHOT_LENGTH);
+
+        final var start = buffer.position();
+        try {
+            if (buffer.get() != SNAPSHOT_FORMAT) {
+                throw new IllegalArgumentException();
+            }
+
+            final GNSSEstimation newEstimation;
+            if (INSBinaryCodec.getFlag(buffer)) {
+                newEstimation = new GNSSEstimation(buffer.getDouble(), buffer.getDouble(), buffer.getDouble(),
+                        buffer.getDouble(), buffer.getDouble(), buffer.getDouble(), buffer.getDouble(),
+                        buffer.getDouble());
+            } else {
+                newEstimation = null;
+                INSBinaryCodec.skip(buffer, 8 * INSBinaryCodec.DOUBLE_BYTES);
+            }
+
+            final var newKinematics = INSBinaryCodec.getKinematics(buffer, null);
+            final var newCorrectedKinematics = INSBinaryCodec.getKinematics(buffer, null);
+
+            final INSLooselyCoupledKalmanState newState;
+            if (INSBinaryCodec.getFlag(buffer)) {
+                newState = INSLooselyCoupledKalmanState.fromEncoded(buffer);
+            } else {
+                newState = null;
+                INSBinaryCodec.skip(buffer, INSLooselyCoupledKalmanState.ENCODED_LENGTH);
+            }
+
+            if (rewind) {
+                insEstimator.rewindToSnapshot(buffer);
+            } else {
+                insEstimator.restoreSnapshot(buffer);
+            }
+
+            measurements = null;
+            estimation = newEstimation;
+            kinematics = newKinematics;
+            correctedKinematics = newCorrectedKinematics;
+            state = newState;
+
+            // frame is shared with internal INS estimator
+            frame = insEstimator.getFrame();
+            insEstimator.setFrame(frame);
+        } catch (final IllegalArgumentException e) {
+            buffer.position(start);
+            throw e;
+        }
+    }
+
+    /**
+     * Restores the status of this estimator from a snapshot written with
+     * {@link #writeSnapshot(DataOutput)}.
+     *
+     * @param input data input where snapshot will be read from.
+     * @throws LockedException          if this estimator is already running.
+     * @throws IOException              if an I/O error occurs.
+     * @throws IllegalArgumentException if input does not contain a valid snapshot.
+     */
+    public void restoreSnapshot(final DataInput input) throws LockedException, IOException {
+        if (running) {
+            throw new LockedException();
+        }
+
+        final var bytes = new byte[SNAPSHOT_LENGTH];
+        input.readFully(bytes);
+        restoreSnapshot(ByteBuffer.wrap(bytes));
+    }
+
     /**
      * Initializes current ECEF frame containing user position, velocity and
      * orientation expressed and resolved in ECEF coordinates.
@@ -0,0 +1,268 @@
+/*
+ * Copyright (C) 2026 Alberto Irurueta Carro (alberto@irurueta.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.irurueta.navigation.inertial;
+
+import com.irurueta.navigation.gnss.GNSSMeasurement;
+
+import java.nio.ByteBuffer;
+import java.util.Collection;
+
+/**
+ * Bounded ring buffer keeping the most recent updates applied to an
+ * {@link INSGNSSLooselyCoupledKalmanFilteredEstimator}, along with a snapshot of the
+ * estimator taken after each of them.
+ * This is used to rewind the estimator when a delayed GNSS measurement is received,
+ * so that it can be applied at its time of validity and later updates can be
+ * replayed.
+ * Snapshot buffers are preallocated, hence memory usage is fixed and proportional to
+ * capacity.
+ */
+class INSGNSSLooselyCoupledKalmanHistory {
+
+    /**
+     * Type of update consisting of body kinematics.
+     */
+    static final byte BODY_KINEMATICS = 0;
+
+    /**
+     * Type of update consisting of GNSS measurements.
+     */
+    static final byte MEASUREMENTS = 1;
+
+    /**
+     * Type of update consisting of a state propagation.
+     */
+    static final byte PROPAGATION = 2;
+
+    /**
+     * Number of values of stored kinematics.
+     */
+    private static final int KINEMATICS_LENGTH = 6;
+
+    /**
+     * Types of stored updates.
+     */
+    private final byte[] types;
+
+    /**
+     * Timestamps of stored updates expressed in seconds.
+     */
+    private final double[] timestamps;
+
+    /**
+     * Specific force and angular rate of stored body kinematics updates.
+     */
+    private final double[] kinematics;
+
+    /**
+     * GNSS measurements of stored measurement updates.
+     */
+    private final Object[] measurements;
+
+    /**
+     * Snapshots of estimator taken after each stored update.
+     */
+    private final ByteBuffer[] snapshots;
+
+    /**
+     * Position of oldest stored update.
+     */
+    private int head;
+
+    /**
+     * Number of stored updates.
+     */
+    private int size;
+
+    /**
+     * Constructor.
+     *
+     * @param capacity maximum number of stored updates.
+     */
+    INSGNSSLooselyCoupledKalmanHistory(final int capacity) {
+        types = new byte[capacity];
+        timestamps = new double[capacity];
+        kinematics = new double[capacity * KINEMATICS_LENGTH];
+        measurements = new Object[capacity];
+        snapshots = new ByteBuffer[capacity];
+        for (var i = 0; i < capacity; i++) {
+            snapshots[i] = ByteBuffer.allocate(INSGNSSLooselyCoupledKalmanFilteredEstimator.SNAPSHOT_LENGTH);
+        }
+    }
+
+    /**
+     * Gets maximum number of stored updates.
+     *
+     * @return maximum number of stored updates.
+     */
+    int getCapacity() {
+        return types.length;
+    }
+
+    /**
+     * Gets number of stored updates.
+     *
+     * @return number of stored updates.
+     */
+    int size() {
+        return size;
+    }
+
+    /**
+     * Removes all stored updates.
+     */
+    void clear() {
+        for (var i = 0; i < measurements.length; i++) {
+            measurements[i] = null;
+        }
+        head = 0;
+        size = 0;
+    }
+
+    /**
+     * Stores an update along with a snapshot of provided estimator taken after
+     * applying it. If history is full, oldest update is discarded.
+     *
+     * @param type         type of update.
+     * @param timestamp    timestamp of update expressed in seconds.
+     * @param kinematics   body kinematics of update or null.
+     * @param measurements GNSS measurements of update or null.
+     * @param estimator    estimator whose snapshot will be stored.
+     */
+    void add(final byte type, final double timestamp, final BodyKinematics kinematics,
+             final Collection<GNSSMeasurement> measurements,
+             final INSGNSSLooselyCoupledKalmanFilteredEstimator estimator) {
+        final var capacity = types.length;
+        final int pos;
+        if (size < capacity) {
+            pos = (head + size) % capacity;
+            size++;
+        } else {
+            pos = head;
+            head = (head + 1) % capacity;
+        }
+
+        types[pos] = type;
+        timestamps[pos] = timestamp;
+        if (kinematics != null) {
+            final var offset = pos * KINEMATICS_LENGTH;
+            this.kinematics[offset] = kinematics.getFx();
+            this.kinematics[offset + 1] = kinematics.getFy();
+            this.kinematics[offset + 2] = kinematics.getFz();
+            this.kinematics[offset + 3] = kinematics.getAngularRateX();
+            this.kinematics[offset + 4] = kinematics.getAngularRateY();
+            this.kinematics[offset + 5] = kinematics.getAngularRateZ();
+        }
+        this.measurements[pos] = measurements;
+
+        final var snapshot = snapshots[pos];
+        snapshot.clear();
+        estimator.writeSnapshot(snapshot);
+    }
+
+    /**
+     * Gets type of a stored update.
+     *
+     * @param index index of update, being zero the oldest one.
+     * @return type of update.
+     */
+    byte getType(final int index) {
+        return types[position(index)];
+    }
+
+    /**
+     * Gets timestamp of a stored update.
+     *
+     * @param index index of update, being zero the oldest one.
+     * @return timestamp expressed in seconds.
+     */
+    double getTimestamp(final int index) {
+        return timestamps[position(index)];
+    }
+
+    /**
+     * Gets body kinematics of a stored update.
+     *
+     * @param index  index of update, being zero the oldest one.
+     * @param result instance where kinematics will be stored.
+     */
+    void getKinematics(final int index, final BodyKinematics result) {
+        final var offset = position(index) * KINEMATICS_LENGTH;
+        result.setSpecificForceCoordinates(kinematics[offset], kinematics[offset + 1], kinematics[offset + 2]);
+        result.setAngularRateCoordinates(kinematics[offset + 3], kinematics[offset + 4], kinematics[offset + 5]);
+    }
+
+    /**
+     * Gets GNSS measurements of a stored update.
+     *
+     * @param index index of update, being zero the oldest one.
+     * @return GNSS measurements or null.
+     */
+    @SuppressWarnings("unchecked")
+    Collection<GNSSMeasurement> getMeasurements(final int index) {
+        return (Collection<GNSSMeasurement>) measurements[position(index)];
+    }
+
+    /**
+     * Gets snapshot of estimator taken after applying a stored update.
+     *
+     * @param index index of update, being zero the oldest one.
+     * @return buffer containing snapshot, ready to be read.
+     */
+    ByteBuffer getSnapshot(final int index) {
+        final var snapshot = snapshots[position(index)];
+        snapshot.rewind();
+        return snapshot;
+    }
+
+    /**
+     * Finds newest stored update having a timestamp strictly before provided one.
+     *
+     * @param timestamp timestamp expressed in seconds.
+     * @return index of update or -1 if all stored updates are not older than provided
+     * timestamp.
+     */
+    int findLastBefore(final double timestamp) {
+        for (var i = size - 1; i >= 0; i--) {
+            if (getTimestamp(i) < timestamp) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Discards all updates stored after provided one.
+     *
+     * @param index index of last update to be kept.
+     */
+    void truncate(final int index) {
+        for (var i = index + 1; i < size; i++) {
+            measurements[position(i)] = null;
+        }
+        size = index + 1;
+    }
+
+    /**
+     * Converts an index relative to the oldest update into a position of the ring.
+     *
+     * @param index index of update.
+     * @return position in ring.
+     */
+    private int position(final int index) {
+        return (head + index) % types.length;
+    }
+}
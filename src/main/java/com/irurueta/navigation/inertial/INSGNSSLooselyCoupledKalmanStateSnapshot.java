@@ -0,0 +1,168 @@
+/*
+ * Copyright (C) 2026 Alberto Irurueta Carro (alberto@irurueta.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.irurueta.navigation.inertial;
+
+import com.irurueta.navigation.gnss.GNSSEstimation;
+
+/**
+ * Immutable snapshot of the state of a loosely coupled INS/GNSS filtered estimator,
+ * published by {@link INSGNSSLooselyCoupledKalmanConcurrentEstimator} after each update
+ * so that it can be read from any thread without blocking the filter.
+ * Contained values are copied when the snapshot is created and returned as copies, hence
+ * they can never be modified after publication.
+ */
+public final class INSGNSSLooselyCoupledKalmanStateSnapshot {
+
+    /**
+     * Number of updates applied to the filter when this snapshot was taken.
+     */
+    private final long sequenceNumber;
+
+    /**
+     * Timestamp expressed in seconds since epoch time when Kalman filter state was last
+     * propagated or null if not available.
+     */
+    private final Double timestamp;
+
+    /**
+     * Kalman filter state or null if not available.
+     */
+    private final INSLooselyCoupledKalmanState state;
+
+    /**
+     * GNSS estimation or null if not available.
+     */
+    private final GNSSEstimation estimation;
+
+    /**
+     * Corrected body kinematics or null if not available.
+     */
+    private final BodyKinematics correctedKinematics;
+
+    /**
+     * Constructor.
+     * Takes a snapshot of current state of provided estimator.
+     *
+     * @param sequenceNumber number of updates applied to the filter.
+     * @param estimator      estimator to take the snapshot from.
+     */
+    INSGNSSLooselyCoupledKalmanStateSnapshot(
+            final long sequenceNumber, final INSGNSSLooselyCoupledKalmanFilteredEstimator estimator) {
+        this.sequenceNumber = sequenceNumber;
+        timestamp = estimator.getLastStateTimestamp();
+        state = estimator.getState();
+        estimation = estimator.getEstimation();
+        correctedKinematics = estimator.getCorrectedKinematics();
+    }
+
+    /**
+     * Gets number of updates applied to the filter when this snapshot was taken.
+     * Snapshots taken later have greater sequence numbers.
+     *
+     * @return number of applied updates.
+     */
+    public long getSequenceNumber() {
+        return sequenceNumber;
+    }
+
+    /**
+     * Gets timestamp expressed in seconds since epoch time when Kalman filter state was
+     * last propagated.
+     *
+     * @return timestamp expressed in seconds or null if not available.
+     */
+    public Double getTimestamp() {
+        return timestamp;
+    }
+
+    /**
+     * Gets Kalman filter state containing user position, velocity, attitude and IMU
+     * biases along with Kalman filter covariance error matrix.
+     *
+     * @return a copy of Kalman filter state or null if not available.
+     */
+    public INSLooselyCoupledKalmanState getState() {
+        return state != null ? new INSLooselyCoupledKalmanState(state) : null;
+    }
+
+    /**
+     * Gets Kalman filter state containing user position, velocity, attitude and IMU
+     * biases along with Kalman filter covariance error matrix.
+     *
+     * @param result instance where state will be stored.
+     * @return true if result state was updated, false otherwise.
+     */
+    public boolean getState(final INSLooselyCoupledKalmanState result) {
+        if (state != null) {
+            result.copyFrom(state);
+            return true;
+        } else {
+            return false;
+        }
+    }
+
+    /**
+     * Gets GNSS estimation containing user ECEF position, user ECEF velocity, clock
+     * offset and clock drift.
+     *
+     * @return a copy of GNSS estimation or null if not available.
+     */
+    public GNSSEstimation getEstimation() {
+        return estimation != null ? new GNSSEstimation(estimation) : null;
+    }
+
+    /**
+     * Gets GNSS estimation containing user ECEF position, user ECEF velocity, clock
+     * offset and clock drift.
+     *
+     * @param result instance where estimation will be stored.
+     * @return true if result estimation was updated, false otherwise.
+     */
+    public boolean getEstimation(final GNSSEstimation result) {
+        if (estimation != null) {
+            result.copyFrom(estimation);
+            return true;
+        } else {
+            return false;
+        }
+    }
+
+    /**
+     * Gets corrected kinematics, which are the last provided body kinematics after
+     * removal of the biases estimated by the Kalman filter.
+     *
+     * @return a copy of corrected kinematics or null if not available.
+     */
+    public BodyKinematics getCorrectedKinematics() {
+        return correctedKinematics != null ? new BodyKinematics(correctedKinematics) : null;
+    }
+
+    /**
+     * Gets corrected kinematics, which are the last provided body kinematics after
+     * removal of the biases estimated by the Kalman filter.
+     *
+     * @param result instance where corrected kinematics will be stored.
+     * @return true if result kinematics were updated, false otherwise.
+     */
+    public boolean getCorrectedKinematics(final BodyKinematics result) {
+        if (correctedKinematics != null) {
+            result.copyFrom(correctedKinematics);
+            return true;
+        } else {
+            return false;
+        }
+    }
+}
@@ -25,6 +25,8 @@ import com.irurueta.navigation.gnss.GNSSEstimation;
 import com.irurueta.navigation.gnss.GNSSException;
 import com.irurueta.navigation.gnss.GNSSLeastSquaresPositionAndVelocityEstimator;
 import com.irurueta.navigation.gnss.GNSSMeasurement;
+import com.irurueta.navigation.inertial.metrics.InertialMetrics;
+import com.irurueta.navigation.inertial.metrics.MetricsSink;
 import com.irurueta.navigation.inertial.navigators.ECEFInertialNavigator;
 import com.irurueta.navigation.inertial.navigators.InertialNavigatorException;
 import com.irurueta.units.Time;
@@ -121,6 +123,11 @@ public class INSGNSSTightlyCoupledKalmanFilteredEstimator {
      */
     private Double lastStateTimestamp;
 
+    /**
+     * Metrics of last propagated epoch, only filled when instrumentation is enabled.
+     */
+    private final INSKalmanEpochMetrics epochMetrics = new INSKalmanEpochMetrics();
+
     /**
      * Indicates whether this estimator is running or not.
      */
@@ -1653,8 +1660,15 @@ public class INSGNSSTightlyCoupledKalmanFilteredEstimator {
             }
 
             if (kinematics != null) {
+                final var sink = InertialMetrics.getSink();
+                final var startNanos = sink != MetricsSink.NONE ? System.nanoTime() : 0L;
+
                 correctKinematics(kinematics);
                 ECEFInertialNavigator.navigateECEF(propagationInterval, frame, correctedKinematics, frame);
+
+                if (sink != MetricsSink.NONE) {
+                    sink.onInertialUpdate(this, System.nanoTime() - startNanos);
+                }
             }
 
             this.kinematics = kinematics;
@@ -1764,10 +1778,18 @@ public class INSGNSSTightlyCoupledKalmanFilteredEstimator {
                 fz = 0.0;
             }
 
+            final var sink = InertialMetrics.getSink();
+            final var metrics = sink != MetricsSink.NONE ? epochMetrics : null;
+
             INSTightlyCoupledKalmanEpochEstimator.estimate(measurements, propagationInterval, state, fx, fy, fz,
-                    config, state);
+                    config, state, metrics);
             lastStateTimestamp = timestamp;
 
+            if (metrics != null) {
+                sink.onKalmanEpoch(this, metrics.propagationNanos, metrics.updateNanos, metrics.innovations,
+                        metrics.innovationNorm, metrics.normalizedInnovationSquared);
+            }
+
             state.getGNSSEstimation(estimation);
             state.getFrame(frame);
 
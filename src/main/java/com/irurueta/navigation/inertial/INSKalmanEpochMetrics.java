@@ -0,0 +1,81 @@
+/*
+ * Copyright (C) 2026 Alberto Irurueta Carro (alberto@irurueta.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.irurueta.navigation.inertial;
+
+import com.irurueta.algebra.Matrix;
+
+/**
+ * Metrics of a single Kalman filter epoch, filled by epoch estimators when
+ * instrumentation is enabled.
+ */
+final class INSKalmanEpochMetrics {
+
+    /**
+     * Time spent on system propagation phase expressed in nanoseconds.
+     */
+    long propagationNanos;
+
+    /**
+     * Time spent on measurement update phase expressed in nanoseconds.
+     */
+    long updateNanos;
+
+    /**
+     * Number of components of innovation vector.
+     */
+    int innovations;
+
+    /**
+     * Euclidean norm of innovation vector.
+     */
+    double innovationNorm;
+
+    /**
+     * Normalized innovation squared (NIS).
+     */
+    double normalizedInnovationSquared;
+
+    /**
+     * Computes innovation statistics.
+     *
+     * @param deltaZ            innovation column vector.
+     * @param covarianceInverse inverse of innovation covariance matrix.
+     */
+    void setInnovation(final Matrix deltaZ, final Matrix covarianceInverse) {
+        final var n = deltaZ.getRows();
+        final var z = deltaZ.getBuffer();
+        final var s = covarianceInverse.getBuffer();
+
+        var squaredNorm = 0.0;
+        var nis = 0.0;
+        for (var j = 0; j < n; j++) {
+            final var zj = z[j];
+            squaredNorm += zj * zj;
+
+            // column-major order
+            final var offset = j * n;
+            var sum = 0.0;
+            for (var i = 0; i < n; i++) {
+                sum += z[i] * s[offset + i];
+            }
+            nis += sum * zj;
+        }
+
+        innovations = n;
+        innovationNorm = Math.sqrt(squaredNorm);
+        normalizedInnovationSquared = nis;
+    }
+}
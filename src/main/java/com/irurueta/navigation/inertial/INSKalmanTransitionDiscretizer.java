@@ -0,0 +1,372 @@
+/*
+ * Copyright (C) 2026 Alberto Irurueta Carro (alberto@irurueta.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.irurueta.navigation.inertial;
+
+import com.irurueta.algebra.Matrix;
+import com.irurueta.algebra.WrongSizeException;
+
+import java.util.Arrays;
+
+/**
+ * Computes higher-order discretizations of the state transition matrix and system
+ * noise covariance of INS/GNSS Kalman filters.
+ * Starting from the first-order transition matrix PHI = I + F * tau of (14.50), the
+ * product A = F * tau is obtained as PHI - I, and the continuous system noise
+ * covariance Q_c * tau is obtained from the diagonal approximation of (14.82).
+ * Then:
+ * <ul>
+ *     <li>For {@link INSKalmanTransitionOrder#SECOND_ORDER}, PHI = I + A + A^2 / 2
+ *     and Q = Q_c * tau + (A * Q_c * tau + Q_c * tau * A^T) / 2.</li>
+ *     <li>For {@link INSKalmanTransitionOrder#EXPONENTIAL}, Van Loan's block matrix
+ *     [[-A, Q_c * tau], [0, A^T]] is exponentiated by scaling and squaring. Taylor
+ *     series of the scaled blocks are evaluated as PHI = sum(A^k / k!) and
+ *     Q = sum(L_k / (k + 1)!), where L_0 = Q_c * tau and
+ *     L_k = A * L_(k-1) + L_(k-1) * A^T, and squaring steps are evaluated as
+ *     Q = PHI * Q * PHI^T + Q and PHI = PHI * PHI, so that only n x n products are
+ *     needed.</li>
+ * </ul>
+ * Covariance is then propagated as P' = PHI * P * PHI^T + Q.
+ * This class is not thread-safe.
+ */
+final class INSKalmanTransitionDiscretizer {
+
+    /**
+     * Maximum norm of the scaled system matrix used by Taylor series of the
+     * exponential.
+     */
+    private static final double MAX_SCALED_NORM = 0.5;
+
+    /**
+     * Relative magnitude below which Taylor series terms are neglected.
+     */
+    private static final double EPSILON = 1e-16;
+
+    /**
+     * Maximum number of Taylor series terms.
+     */
+    private static final int MAX_TERMS = 20;
+
+    /**
+     * Number of states.
+     */
+    private final int n;
+
+    /**
+     * System matrix multiplied by propagation interval, in column order.
+     */
+    private final double[] a;
+
+    /**
+     * Discretized transition matrix, in column order.
+     */
+    private final double[] phi;
+
+    /**
+     * Discretized system noise covariance, in column order.
+     */
+    private final double[] q;
+
+    /**
+     * Current Taylor series term of transition matrix, in column order.
+     */
+    private final double[] term;
+
+    /**
+     * Current Taylor series term of system noise covariance, in column order.
+     */
+    private final double[] l;
+
+    /**
+     * Temporary buffer, in column order.
+     */
+    private final double[] tmp;
+
+    /**
+     * Constructor.
+     *
+     * @param numberOfStates number of states.
+     */
+    INSKalmanTransitionDiscretizer(final int numberOfStates) {
+        n = numberOfStates;
+        final var length = n * n;
+        a = new double[length];
+        phi = new double[length];
+        q = new double[length];
+        term = new double[length];
+        l = new double[length];
+        tmp = new double[length];
+    }
+
+    /**
+     * Discretizes transition matrix and system noise covariance.
+     *
+     * @param firstOrder first-order transition matrix.
+     * @param qHalf      diagonal of half of the first-order approximation of
+     *                   system noise covariance, as defined in (14.82).
+     * @param order      order of discretization. Must be either
+     *                   {@link INSKalmanTransitionOrder#SECOND_ORDER} or
+     *                   {@link INSKalmanTransitionOrder#EXPONENTIAL}.
+     * @throws IllegalArgumentException if order is not supported.
+     */
+    void discretize(final INSBlockSparseTransition firstOrder, final double[] qHalf,
+                    final INSKalmanTransitionOrder order) {
+        // A = PHI - I = F * tau
+        firstOrder.toArray(a);
+        for (var i = 0; i < n; i++) {
+            a[i + i * n] -= 1.0;
+        }
+
+        if (order == INSKalmanTransitionOrder.SECOND_ORDER) {
+            discretizeSecondOrder(qHalf);
+        } else if (order == INSKalmanTransitionOrder.EXPONENTIAL) {
+            discretizeExponential(qHalf);
+        } else {
+            throw new IllegalArgumentException();
+        }
+    }
+
+    /**
+     * Propagates covariance as P' = PHI * P * PHI^T + Q.
+     *
+     * @param p      previous covariance.
+     * @param result instance where propagated covariance will be stored. Can be the
+     *               same instance as previous covariance.
+     */
+    void propagate(final Matrix p, final Matrix result) {
+        // T = PHI * P
+        multiply(phi, p.getBuffer(), tmp);
+
+        // P' = T * PHI^T + Q, computing only the upper triangle and mirroring it
+        final var out = result.getBuffer();
+        for (var col = 0; col < n; col++) {
+            final var base = col * n;
+            for (var row = 0; row <= col; row++) {
+                var sum = q[row + base];
+                for (var k = 0; k < n; k++) {
+                    sum += tmp[row + k * n] * phi[col + k * n];
+                }
+                out[row + base] = sum;
+                out[col + row * n] = sum;
+            }
+        }
+    }
+
+    /**
+     * Copies discretized transition matrix into a dense matrix.
+     *
+     * @param result instance where transition matrix will be stored. It is resized
+     *               if needed.
+     * @throws WrongSizeException never happens.
+     */
+    void toMatrix(final Matrix result) throws WrongSizeException {
+        if (result.getRows() != n || result.getColumns() != n) {
+            result.resize(n, n);
+        }
+        System.arraycopy(phi, 0, result.getBuffer(), 0, n * n);
+    }
+
+    /**
+     * Copies discretized system noise covariance into a dense matrix.
+     *
+     * @param result instance where system noise covariance will be stored. It is
+     *               resized if needed.
+     * @throws WrongSizeException never happens.
+     */
+    void getNoiseCovariance(final Matrix result) throws WrongSizeException {
+        if (result.getRows() != n || result.getColumns() != n) {
+            result.resize(n, n);
+        }
+        System.arraycopy(q, 0, result.getBuffer(), 0, n * n);
+    }
+
+    /**
+     * Computes second-order truncated series of transition matrix and system noise
+     * covariance.
+     *
+     * @param qHalf diagonal of half of the first-order system noise covariance.
+     */
+    private void discretizeSecondOrder(final double[] qHalf) {
+        // PHI = I + A + A^2 / 2
+        multiply(a, a, phi);
+        for (var i = 0; i < phi.length; i++) {
+            phi[i] = 0.5 * phi[i] + a[i];
+        }
+        for (var i = 0; i < n; i++) {
+            phi[i + i * n] += 1.0;
+        }
+
+        // Q = Q_c * tau + (A * Q_c * tau + Q_c * tau * A^T) / 2, where Q_c * tau is
+        // diagonal
+        for (var col = 0; col < n; col++) {
+            final var qCol = 2.0 * qHalf[col];
+            for (var row = 0; row <= col; row++) {
+                final var qRow = 2.0 * qHalf[row];
+                final var value = 0.5 * (a[row + col * n] * qCol + qRow * a[col + row * n]);
+                q[row + col * n] = value;
+                q[col + row * n] = value;
+            }
+            q[col + col * n] += qCol;
+        }
+    }
+
+    /**
+     * Computes matrix exponential of Van Loan's block matrix by scaling and squaring
+     * to obtain transition matrix and system noise covariance.
+     *
+     * @param qHalf diagonal of half of the first-order system noise covariance.
+     */
+    private void discretizeExponential(final double[] qHalf) {
+        // scale A and Q_c * tau so that Taylor series converge quickly
+        final var norm = norm1(a);
+        final var squarings = norm > MAX_SCALED_NORM
+                ? Math.max(0, Math.getExponent(norm / MAX_SCALED_NORM) + 1) : 0;
+        final var scale = Math.scalb(1.0, -squarings);
+        for (var i = 0; i < a.length; i++) {
+            a[i] *= scale;
+        }
+
+        // PHI = I, TERM = I, L = Q = Q_c * tau
+        Arrays.fill(phi, 0.0);
+        Arrays.fill(term, 0.0);
+        Arrays.fill(q, 0.0);
+        Arrays.fill(l, 0.0);
+        for (var i = 0; i < n; i++) {
+            final var index = i + i * n;
+            phi[index] = 1.0;
+            term[index] = 1.0;
+            final var value = 2.0 * qHalf[i] * scale;
+            q[index] = value;
+            l[index] = value;
+        }
+
+        var factorial = 1.0;
+        for (var k = 1; k <= MAX_TERMS; k++) {
+            // TERM = A * TERM / k
+            multiply(a, term, tmp);
+            final var invK = 1.0 / k;
+            for (var i = 0; i < term.length; i++) {
+                term[i] = tmp[i] * invK;
+            }
+
+            // L = A * L + L * A^T, which is symmetric because L is
+            multiply(a, l, tmp);
+            for (var col = 0; col < n; col++) {
+                for (var row = 0; row <= col; row++) {
+                    final var value = tmp[row + col * n] + tmp[col + row * n];
+                    l[row + col * n] = value;
+                    l[col + row * n] = value;
+                }
+            }
+            factorial *= k + 1;
+
+            var termNorm = 0.0;
+            var lNorm = 0.0;
+            for (var i = 0; i < phi.length; i++) {
+                phi[i] += term[i];
+                final var lValue = l[i] / factorial;
+                q[i] += lValue;
+                termNorm = Math.max(termNorm, Math.abs(term[i]));
+                lNorm = Math.max(lNorm, Math.abs(lValue));
+            }
+
+            if (termNorm <= EPSILON && lNorm <= EPSILON * maxAbs(q)) {
+                break;
+            }
+        }
+
+        // undo scaling: Q = PHI * Q * PHI^T + Q, PHI = PHI * PHI
+        for (var s = 0; s < squarings; s++) {
+            multiply(phi, q, tmp);
+            for (var col = 0; col < n; col++) {
+                for (var row = 0; row <= col; row++) {
+                    var sum = 0.0;
+                    for (var k = 0; k < n; k++) {
+                        sum += tmp[row + k * n] * phi[col + k * n];
+                    }
+                    term[row + col * n] = sum;
+                }
+            }
+            for (var col = 0; col < n; col++) {
+                for (var row = 0; row <= col; row++) {
+                    final var value = q[row + col * n] + term[row + col * n];
+                    q[row + col * n] = value;
+                    q[col + row * n] = value;
+                }
+            }
+
+            multiply(phi, phi, tmp);
+            System.arraycopy(tmp, 0, phi, 0, phi.length);
+        }
+    }
+
+    /**
+     * Multiplies two square matrices in column order, skipping zero elements of the
+     * left operand, which is usually sparse.
+     *
+     * @param left   left operand.
+     * @param right  right operand.
+     * @param result array where result will be stored. Must be different from
+     *               operands.
+     */
+    private void multiply(final double[] left, final double[] right, final double[] result) {
+        Arrays.fill(result, 0.0);
+        for (var k = 0; k < n; k++) {
+            final var leftBase = k * n;
+            for (var row = 0; row < n; row++) {
+                final var value = left[row + leftBase];
+                if (value == 0.0) {
+                    continue;
+                }
+                for (var col = 0; col < n; col++) {
+                    result[row + col * n] += value * right[k + col * n];
+                }
+            }
+        }
+    }
+
+    /**
+     * Computes 1-norm (maximum absolute column sum) of a square matrix in column
+     * order.
+     *
+     * @param m matrix.
+     * @return 1-norm.
+     */
+    private double norm1(final double[] m) {
+        var result = 0.0;
+        for (var col = 0; col < n; col++) {
+            var sum = 0.0;
+            for (var row = 0; row < n; row++) {
+                sum += Math.abs(m[row + col * n]);
+            }
+            result = Math.max(result, sum);
+        }
+        return result;
+    }
+
+    /**
+     * Computes maximum absolute value of the elements of a matrix.
+     *
+     * @param m matrix.
+     * @return maximum absolute value.
+     */
+    private static double maxAbs(final double[] m) {
+        var result = 0.0;
+        for (final var value : m) {
+            result = Math.max(result, Math.abs(value));
+        }
+        return result;
+    }
+}
@@ -0,0 +1,47 @@
+/*
+ * Copyright (C) 2026 Alberto Irurueta Carro (alberto@irurueta.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.irurueta.navigation.inertial;
+
+/**
+ * Indicates order of the state transition matrix and system noise covariance used
+ * to propagate the error covariance of INS/GNSS Kalman filters.
+ * Higher orders are more accurate for large propagation intervals, at the expense
+ * of a larger computational cost per epoch.
+ */
+public enum INSKalmanTransitionOrder {
+    /**
+     * First-order approximation PHI = I + F * tau defined in (14.50), with system
+     * noise covariance approximated as in (14.82). This is the cheapest option, but
+     * requires small propagation intervals (typically 100 Hz) to keep covariance
+     * accurate.
+     */
+    FIRST_ORDER,
+
+    /**
+     * Second-order truncated series PHI = I + F * tau + (F * tau)^2 / 2, with system
+     * noise covariance Q = Q_c * tau + (F * Q_c + Q_c * F^T) * tau^2 / 2. This has a
+     * moderate computational cost and allows propagation intervals around 20 Hz.
+     */
+    SECOND_ORDER,
+
+    /**
+     * Matrix exponential PHI = exp(F * tau) computed by scaling and squaring, with
+     * system noise covariance discretized following Van Loan's method. This is exact
+     * for a constant system matrix along the propagation interval, allowing
+     * propagation intervals around 10 Hz, at the highest computational cost.
+     */
+    EXPONENTIAL
+}
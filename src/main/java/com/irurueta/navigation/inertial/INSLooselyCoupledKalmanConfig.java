@@ -22,6 +22,8 @@ import com.irurueta.units.Speed;
 import com.irurueta.units.SpeedConverter;
 import com.irurueta.units.SpeedUnit;
 
+import java.io.IOException;
+import java.io.ObjectInputStream;
 import java.io.Serial;
 import java.io.Serializable;
 import java.util.Objects;
@@ -73,6 +75,12 @@ public class INSLooselyCoupledKalmanConfig implements Serializable, Cloneable {
      */
     private double velocityNoiseSD;
 
+    /**
+     * Order of the state transition matrix and system noise covariance used to
+     * propagate the error covariance.
+     */
+    private INSKalmanTransitionOrder transitionOrder = INSKalmanTransitionOrder.FIRST_ORDER;
+
     /**
      * Constructor.
      */
@@ -363,6 +371,34 @@ public class INSLooselyCoupledKalmanConfig implements Serializable, Cloneable {
                         SpeedUnit.METERS_PER_SECOND));
     }
 
+    /**
+     * Gets order of the state transition matrix and system noise covariance used to
+     * propagate the error covariance.
+     * First order is the cheapest, but requires small propagation intervals to keep
+     * covariance accurate. Second order and exponential allow larger propagation
+     * intervals with equal accuracy, at a larger computational cost per epoch.
+     * By default, first order is used.
+     *
+     * @return order of transition matrix.
+     */
+    public INSKalmanTransitionOrder getTransitionOrder() {
+        return transitionOrder;
+    }
+
+    /**
+     * Sets order of the state transition matrix and system noise covariance used to
+     * propagate the error covariance.
+     *
+     * @param transitionOrder order of transition matrix.
+     * @throws IllegalArgumentException if provided value is null.
+     */
+    public void setTransitionOrder(final INSKalmanTransitionOrder transitionOrder) {
+        if (transitionOrder == null) {
+            throw new IllegalArgumentException();
+        }
+        this.transitionOrder = transitionOrder;
+    }
+
     /**
      * Copies this instance data into provided instance.
      *
@@ -375,6 +411,7 @@ public class INSLooselyCoupledKalmanConfig implements Serializable, Cloneable {
         output.gyroBiasPSD = gyroBiasPSD;
         output.positionNoiseSD = positionNoiseSD;
         output.velocityNoiseSD = velocityNoiseSD;
+        output.transitionOrder = transitionOrder;
     }
 
     /**
@@ -389,6 +426,7 @@ public class INSLooselyCoupledKalmanConfig implements Serializable, Cloneable {
         gyroBiasPSD = input.gyroBiasPSD;
         positionNoiseSD = input.positionNoiseSD;
         velocityNoiseSD = input.velocityNoiseSD;
+        transitionOrder = input.transitionOrder;
     }
 
     /**
@@ -400,7 +438,7 @@ public class INSLooselyCoupledKalmanConfig implements Serializable, Cloneable {
     @Override
     public int hashCode() {
         return Objects.hash(gyroNoisePSD, accelerometerNoisePSD, accelerometerBiasPSD, gyroBiasPSD,
-                positionNoiseSD, velocityNoiseSD);
+                positionNoiseSD, velocityNoiseSD, transitionOrder);
     }
 
     /**
@@ -451,7 +489,8 @@ public class INSLooselyCoupledKalmanConfig implements Serializable, Cloneable {
                 && Math.abs(accelerometerBiasPSD - other.accelerometerBiasPSD) <= threshold
                 && Math.abs(gyroBiasPSD - other.gyroBiasPSD) <= threshold
                 && Math.abs(positionNoiseSD - other.positionNoiseSD) <= threshold
-                && Math.abs(velocityNoiseSD - other.velocityNoiseSD) <= threshold;
+                && Math.abs(velocityNoiseSD - other.velocityNoiseSD) <= threshold
+                && transitionOrder == other.transitionOrder;
     }
 
     /**
@@ -466,4 +505,21 @@ public class INSLooselyCoupledKalmanConfig implements Serializable, Cloneable {
         copyTo(result);
         return result;
     }
+
+    /**
+     * Reads this instance from provided stream.
+     * Instances serialized before the transition order was configurable do not contain
+     * it, and hence first order is assumed for them.
+     *
+     * @param in stream to read from.
+     * @throws IOException            if an I/O error occurs.
+     * @throws ClassNotFoundException if class of a serialized object cannot be found.
+     */
+    @Serial
+    private void readObject(final ObjectInputStream in) throws IOException, ClassNotFoundException {
+        in.defaultReadObject();
+        if (transitionOrder == null) {
+            transitionOrder = INSKalmanTransitionOrder.FIRST_ORDER;
+        }
+    }
 }
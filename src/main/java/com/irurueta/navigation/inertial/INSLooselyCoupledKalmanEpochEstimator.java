@@ -26,7 +26,6 @@ import com.irurueta.navigation.frames.NEDVelocity;
 import com.irurueta.navigation.frames.converters.ECEFtoNEDPositionVelocityConverter;
 import com.irurueta.navigation.geodesic.Constants;
 import com.irurueta.navigation.gnss.ECEFPositionAndVelocity;
-import com.irurueta.navigation.inertial.estimators.ECEFGravityEstimator;
 import com.irurueta.units.Angle;
 import com.irurueta.units.AngleConverter;
 import com.irurueta.units.AngleUnit;
@@ -34,6 +33,8 @@ import com.irurueta.units.Time;
 import com.irurueta.units.TimeConverter;
 import com.irurueta.units.TimeUnit;
 
+import java.util.Arrays;
+
 /**
  * Implements one cycle of the loosely coupled INS/GNSS
  * Kalman filter plus closed-loop correction of all inertial states.
@@ -532,13 +533,7 @@ public class INSLooselyCoupledKalmanEpochEstimator {
             final double fx, final double fy, final double fz, final INSLooselyCoupledKalmanConfig config,
             final INSLooselyCoupledKalmanState result) throws AlgebraException {
 
-        final var prevNedPosition = new NEDPosition();
-        final var prevNedVelocity = new NEDVelocity();
-        ECEFtoNEDPositionVelocityConverter.convertECEFtoNED(
-                previousState.getX(), previousState.getY(), previousState.getZ(),
-                previousState.getVx(), previousState.getVy(), previousState.getVz(), prevNedPosition, prevNedVelocity);
-
-        final var previousLatitude = prevNedPosition.getLatitude();
+        final var previousLatitude = getLatitude(previousState);
 
         estimate(x, y, z, vx, vy, vz, propagationInterval, previousState, fx, fy, fz, previousLatitude, config, result);
     }
@@ -622,127 +617,290 @@ public class INSLooselyCoupledKalmanEpochEstimator {
             final double fx, final double fy, final double fz, final double previousLatitude,
             final INSLooselyCoupledKalmanConfig config, final INSLooselyCoupledKalmanState result)
             throws AlgebraException {
+        estimate(x, y, z, vx, vy, vz, propagationInterval, previousState, fx, fy, fz, previousLatitude, config,
+                result, null, null, null);
+    }
 
-        final var omegaIe = Utils.skewMatrix(new double[]{0.0, 0.0, EARTH_ROTATION_RATE});
-
-        // SYSTEM PROPAGATION PHASE
-
-        // 1. Determine transition matrix using (14.50) (first-order approx)
-        final var phiMatrix = Matrix.identity(
-                INSLooselyCoupledKalmanState.NUM_PARAMS, INSLooselyCoupledKalmanState.NUM_PARAMS);
-
-        final var tmp1 = omegaIe.multiplyByScalarAndReturnNew(propagationInterval);
-        final var tmp2 = phiMatrix.getSubmatrix(0, 0, 2, 2);
-        tmp2.subtract(tmp1);
-
-        phiMatrix.setSubmatrix(0, 0, 2, 2, tmp2);
-
-        final var estCbeOld = previousState.getBodyToEcefCoordinateTransformationMatrix();
-        tmp1.copyFrom(estCbeOld);
-        tmp1.multiplyByScalar(propagationInterval);
-
-        phiMatrix.setSubmatrix(0, 12, 2, 14, tmp1);
-        phiMatrix.setSubmatrix(3, 9, 5, 11, tmp1);
-
-        final var measFibb = new Matrix(BodyKinematics.COMPONENTS, 1);
-        measFibb.setElementAtIndex(0, fx);
-        measFibb.setElementAtIndex(1, fy);
-        measFibb.setElementAtIndex(2, fz);
+    /**
+     * Estimates the update of Kalman filter state for a single epoch and
+     * provides the intermediate quantities required to smooth the filtered
+     * solution afterwards.
+     *
+     * @param x                   ECEF x coordinate of user position expressed in
+     *                            meters (m).
+     * @param y                   ECEF y coordinate of user position expressed in
+     *                            meters (m).
+     * @param z                   ECEF z coordinate of user position expressed in
+     *                            meters (m).
+     * @param vx                  ECEF x coordinate of user velocity expressed in
+     *                            meters per second (m/s).
+     * @param vy                  ECEF y coordinate of user velocity expressed in
+     *                            meters per second (m/s).
+     * @param vz                  ECEF z coordinate of user velocity expressed in
+     *                            meters per second (m/s).
+     * @param propagationInterval propagation interval expressed in seconds (s).
+     * @param previousState       previous Kalman filter state.
+     * @param fx                  measured specific force resolved along body frame
+     *                            x-axis and expressed in meters per squared
+     *                            second (m/s^2).
+     * @param fy                  measured specific force resolved along body frame
+     *                            y-axis and expressed in meters per squared
+     *                            second (m/s^2).
+     * @param fz                  measured specific force resolved along body frame
+     *                            z-axis and expressed in meters per squared
+     *                            second (m/s^2).
+     * @param config              Loosely Coupled Kalman filter configuration.
+     * @param result              instance where new state of Kalman filter will be
+     *                            stored.
+     * @param transition          instance where 15x15 state transition matrix used
+     *                            to propagate the error covariance will be stored, or
+     *                            null if not needed.
+     * @param propagatedCovariance instance where 15x15 propagated (predicted) error
+     *                            covariance matrix before the measurement update will
+     *                            be stored, or null if not needed.
+     * @param errorState          instance where 15x1 estimated error state applied as
+     *                            closed-loop correction will be stored, or null if not
+     *                            needed.
+     * @throws AlgebraException if there are numerical instabilities.
+     */
+    public static void estimate(
+            final double x, final double y, final double z, final double vx, final double vy, final double vz,
+            final double propagationInterval, final INSLooselyCoupledKalmanState previousState,
+            final double fx, final double fy, final double fz, final INSLooselyCoupledKalmanConfig config,
+            final INSLooselyCoupledKalmanState result, final Matrix transition, final Matrix propagatedCovariance,
+            final Matrix errorState) throws AlgebraException {
+        final var previousLatitude = getLatitude(previousState);
+        estimate(x, y, z, vx, vy, vz, propagationInterval, previousState, fx, fy, fz, previousLatitude, config,
+                result, transition, propagatedCovariance, errorState);
+    }
 
-        estCbeOld.multiply(measFibb, tmp1);
+    /**
+     * Estimates the update of Kalman filter state for a single epoch and
+     * provides the intermediate quantities required to smooth the filtered
+     * solution afterwards, filling epoch metrics if required.
+     *
+     * @param x                   ECEF x coordinate of user position expressed in
+     *                            meters (m).
+     * @param y                   ECEF y coordinate of user position expressed in
+     *                            meters (m).
+     * @param z                   ECEF z coordinate of user position expressed in
+     *                            meters (m).
+     * @param vx                  ECEF x coordinate of user velocity expressed in
+     *                            meters per second (m/s).
+     * @param vy                  ECEF y coordinate of user velocity expressed in
+     *                            meters per second (m/s).
+     * @param vz                  ECEF z coordinate of user velocity expressed in
+     *                            meters per second (m/s).
+     * @param propagationInterval propagation interval expressed in seconds (s).
+     * @param previousState       previous Kalman filter state.
+     * @param fx                  measured specific force resolved along body frame
+     *                            x-axis and expressed in meters per squared
+     *                            second (m/s^2).
+     * @param fy                  measured specific force resolved along body frame
+     *                            y-axis and expressed in meters per squared
+     *                            second (m/s^2).
+     * @param fz                  measured specific force resolved along body frame
+     *                            z-axis and expressed in meters per squared
+     *                            second (m/s^2).
+     * @param config              Loosely Coupled Kalman filter configuration.
+     * @param result              instance where new state of Kalman filter will be
+     *                            stored.
+     * @param transition          instance where 15x15 state transition matrix used
+     *                            to propagate the error covariance will be stored, or
+     *                            null if not needed.
+     * @param propagatedCovariance instance where 15x15 propagated (predicted) error
+     *                            covariance matrix before the measurement update will
+     *                            be stored, or null if not needed.
+     * @param errorState          instance where 15x1 estimated error state applied as
+     *                            closed-loop correction will be stored, or null if not
+     *                            needed.
+     * @param metrics             instance where metrics of epoch will be stored, or
+     *                            null if not needed.
+     * @throws AlgebraException if there are numerical instabilities.
+     */
+    static void estimate(
+            final double x, final double y, final double z, final double vx, final double vy, final double vz,
+            final double propagationInterval, final INSLooselyCoupledKalmanState previousState,
+            final double fx, final double fy, final double fz, final INSLooselyCoupledKalmanConfig config,
+            final INSLooselyCoupledKalmanState result, final Matrix transition, final Matrix propagatedCovariance,
+            final Matrix errorState, final INSKalmanEpochMetrics metrics) throws AlgebraException {
+        final var previousLatitude = getLatitude(previousState);
+        estimate(x, y, z, vx, vy, vz, propagationInterval, previousState, fx, fy, fz, previousLatitude, config,
+                result, transition, propagatedCovariance, errorState, metrics);
+    }
 
-        Utils.skewMatrix(tmp1, tmp2);
-        tmp2.multiplyByScalar(-propagationInterval);
+    /**
+     * Estimates the update of Kalman filter state for a single epoch and
+     * provides the intermediate quantities required to smooth the filtered
+     * solution afterwards.
+     *
+     * @param x                   ECEF x coordinate of user position expressed in
+     *                            meters (m).
+     * @param y                   ECEF y coordinate of user position expressed in
+     *                            meters (m).
+     * @param z                   ECEF z coordinate of user position expressed in
+     *                            meters (m).
+     * @param vx                  ECEF x coordinate of user velocity expressed in
+     *                            meters per second (m/s).
+     * @param vy                  ECEF y coordinate of user velocity expressed in
+     *                            meters per second (m/s).
+     * @param vz                  ECEF z coordinate of user velocity expressed in
+     *                            meters per second (m/s).
+     * @param propagationInterval propagation interval expressed in seconds (s).
+     * @param previousState       previous Kalman filter state.
+     * @param fx                  measured specific force resolved along body frame
+     *                            x-axis and expressed in meters per squared
+     *                            second (m/s^2).
+     * @param fy                  measured specific force resolved along body frame
+     *                            y-axis and expressed in meters per squared
+     *                            second (m/s^2).
+     * @param fz                  measured specific force resolved along body frame
+     *                            z-axis and expressed in meters per squared
+     *                            second (m/s^2).
+     * @param previousLatitude    previous latitude solution expressed in radians (rad).
+     * @param config              Loosely Coupled Kalman filter configuration.
+     * @param result              instance where new state of Kalman filter will be
+     *                            stored.
+     * @param transition          instance where 15x15 state transition matrix used
+     *                            to propagate the error covariance will be stored, or
+     *                            null if not needed.
+     * @param propagatedCovariance instance where 15x15 propagated (predicted) error
+     *                            covariance matrix before the measurement update will
+     *                            be stored, or null if not needed.
+     * @param errorState          instance where 15x1 estimated error state applied as
+     *                            closed-loop correction will be stored, or null if not
+     *                            needed.
+     * @throws AlgebraException if there are numerical instabilities.
+     */
+    public static void estimate(
+            final double x, final double y, final double z, final double vx, final double vy, final double vz,
+            final double propagationInterval, final INSLooselyCoupledKalmanState previousState,
+            final double fx, final double fy, final double fz, final double previousLatitude,
+            final INSLooselyCoupledKalmanConfig config, final INSLooselyCoupledKalmanState result,
+            final Matrix transition, final Matrix propagatedCovariance, final Matrix errorState)
+            throws AlgebraException {
+        estimate(x, y, z, vx, vy, vz, propagationInterval, previousState, fx, fy, fz, previousLatitude, config,
+                result, transition, propagatedCovariance, errorState, null);
+    }
 
-        phiMatrix.setSubmatrix(3, 0, 5, 2, tmp2);
+    /**
+     * Estimates the update of Kalman filter state for a single epoch and
+     * provides the intermediate quantities required to smooth the filtered
+     * solution afterwards, filling epoch metrics if required.
+     *
+     * @param x                   ECEF x coordinate of user position expressed in
+     *                            meters (m).
+     * @param y                   ECEF y coordinate of user position expressed in
+     *                            meters (m).
+     * @param z                   ECEF z coordinate of user position expressed in
+     *                            meters (m).
+     * @param vx                  ECEF x coordinate of user velocity expressed in
+     *                            meters per second (m/s).
+     * @param vy                  ECEF y coordinate of user velocity expressed in
+     *                            meters per second (m/s).
+     * @param vz                  ECEF z coordinate of user velocity expressed in
+     *                            meters per second (m/s).
+     * @param propagationInterval propagation interval expressed in seconds (s).
+     * @param previousState       previous Kalman filter state.
+     * @param fx                  measured specific force resolved along body frame
+     *                            x-axis and expressed in meters per squared
+     *                            second (m/s^2).
+     * @param fy                  measured specific force resolved along body frame
+     *                            y-axis and expressed in meters per squared
+     *                            second (m/s^2).
+     * @param fz                  measured specific force resolved along body frame
+     *                            z-axis and expressed in meters per squared
+     *                            second (m/s^2).
+     * @param previousLatitude    previous latitude solution expressed in radians (rad).
+     * @param config              Loosely Coupled Kalman filter configuration.
+     * @param result              instance where new state of Kalman filter will be
+     *                            stored.
+     * @param transition          instance where 15x15 state transition matrix used
+     *                            to propagate the error covariance will be stored, or
+     *                            null if not needed.
+     * @param propagatedCovariance instance where 15x15 propagated (predicted) error
+     *                            covariance matrix before the measurement update will
+     *                            be stored, or null if not needed.
+     * @param errorState          instance where 15x1 estimated error state applied as
+     *                            closed-loop correction will be stored, or null if not
+     *                            needed.
+     * @param metrics             instance where metrics of epoch will be stored, or
+     *                            null if not needed.
+     * @throws AlgebraException if there are numerical instabilities.
+     */
+    static void estimate(
+            final double x, final double y, final double z, final double vx, final double vy, final double vz,
+            final double propagationInterval, final INSLooselyCoupledKalmanState previousState,
+            final double fx, final double fy, final double fz, final double previousLatitude,
+            final INSLooselyCoupledKalmanConfig config, final INSLooselyCoupledKalmanState result,
+            final Matrix transition, final Matrix propagatedCovariance, final Matrix errorState,
+            final INSKalmanEpochMetrics metrics) throws AlgebraException {
 
-        phiMatrix.getSubmatrix(3, 3, 5, 5, tmp1);
-        tmp2.copyFrom(omegaIe);
-        tmp2.multiplyByScalar(2.0 * propagationInterval);
-        tmp1.subtract(tmp2);
-        phiMatrix.setSubmatrix(3, 3, 5, 5, tmp1);
+        final var startNanos = metrics != null ? System.nanoTime() : 0L;
 
-        final var sinPrevLat = Math.sin(previousLatitude);
-        final var cosPrevLat = Math.cos(previousLatitude);
-        final var sinPrevLat2 = sinPrevLat * sinPrevLat;
-        final var cosPrevLat2 = cosPrevLat * cosPrevLat;
+        // SYSTEM PROPAGATION PHASE
 
-        // From (2.137)
-        final var geocentricRadius = EARTH_EQUATORIAL_RADIUS_WGS84
-                / Math.sqrt(1.0 - Math.pow(EARTH_ECCENTRICITY * sinPrevLat, 2.0)) * Math.sqrt(cosPrevLat2
-                + Math.pow(1.0 - EARTH_ECCENTRICITY * EARTH_ECCENTRICITY, 2.0) * sinPrevLat2);
+        // 1. Determine transition matrix using (14.50) (first-order approx)
+        final var estCbeOld = previousState.getBodyToEcefCoordinateTransformationMatrix();
 
         final var prevX = previousState.getX();
         final var prevY = previousState.getY();
         final var prevZ = previousState.getZ();
-        final var gravity = ECEFGravityEstimator.estimateGravityAndReturnNew(prevX, prevY, prevZ);
-
-        final var previousPositionNorm = Math.sqrt(prevX * prevX + prevY * prevY + prevZ * prevZ);
-
-        final var estRebeOld = new Matrix(com.irurueta.navigation.frames.ECEFPosition.COMPONENTS, 1);
-        estRebeOld.setElementAtIndex(0, prevX);
-        estRebeOld.setElementAtIndex(1, prevY);
-        estRebeOld.setElementAtIndex(2, prevZ);
-
-        final var g = gravity.asMatrix();
-        g.multiplyByScalar(-2.0 * propagationInterval / geocentricRadius);
 
-        final var estRebeOldTrans = estRebeOld.transposeAndReturnNew();
-        estRebeOldTrans.multiplyByScalar(1.0 / previousPositionNorm);
-
-        g.multiply(estRebeOldTrans, tmp1);
-
-        phiMatrix.setSubmatrix(3, 6, 5, 8, tmp1);
-
-        for (var i = 0; i < com.irurueta.navigation.frames.ECEFPosition.COMPONENTS; i++) {
-            phiMatrix.setElementAt(6 + i, 3 + i, propagationInterval);
-        }
+        final var phi = new INSBlockSparseTransition(false);
+        phi.setFirstOrder(propagationInterval, estCbeOld, fx, fy, fz, prevX, prevY, prevZ, previousLatitude);
 
         // 2. Determine approximate system noise covariance matrix using (14.82)
-        final var qPrimeMatrix = new Matrix(
-                INSLooselyCoupledKalmanState.NUM_PARAMS,
-                INSLooselyCoupledKalmanState.NUM_PARAMS);
+        // (only half of its diagonal is kept)
+        final var qHalf = new double[INSLooselyCoupledKalmanState.NUM_PARAMS];
 
         final var gyroNoisePSD = config.getGyroNoisePSD();
-        final var gyroNoiseValue = gyroNoisePSD * propagationInterval;
-        for (var i = 0; i < 3; i++) {
-            qPrimeMatrix.setElementAt(i, i, gyroNoiseValue);
-        }
+        final var gyroNoiseValue = 0.5 * gyroNoisePSD * propagationInterval;
+        Arrays.fill(qHalf, 0, 3, gyroNoiseValue);
 
         final var accelNoisePSD = config.getAccelerometerNoisePSD();
-        final var accelNoiseValue = accelNoisePSD * propagationInterval;
-        for (var i = 3; i < 6; i++) {
-            qPrimeMatrix.setElementAt(i, i, accelNoiseValue);
-        }
+        final var accelNoiseValue = 0.5 * accelNoisePSD * propagationInterval;
+        Arrays.fill(qHalf, 3, 6, accelNoiseValue);
 
         final var accelBiasPSD = config.getAccelerometerBiasPSD();
-        final var accelBiasValue = accelBiasPSD * propagationInterval;
-        for (var i = 9; i < 12; i++) {
-            qPrimeMatrix.setElementAt(i, i, accelBiasValue);
-        }
+        final var accelBiasValue = 0.5 * accelBiasPSD * propagationInterval;
+        Arrays.fill(qHalf, 9, 12, accelBiasValue);
 
         final var gyroBiasPSD = config.getGyroBiasPSD();
-        final var gyroBiasValue = gyroBiasPSD * propagationInterval;
-        for (var i = 12; i < 15; i++) {
-            qPrimeMatrix.setElementAt(i, i, gyroBiasValue);
-        }
+        final var gyroBiasValue = 0.5 * gyroBiasPSD * propagationInterval;
+        Arrays.fill(qHalf, 12, 15, gyroBiasValue);
 
         // 3. Propagate state estimates using (3.14) noting that all states are zero
         // due to closed-loop correction.
         // x_est_propagated(1:15, 1) = 0
 
-        // 4. Propagate state estimation error covariance matrix using (3.46)
-        final var pMatrixOld = previousState.getCovariance();
-
-        qPrimeMatrix.multiplyByScalar(0.5);
-
-        final var tmp3 = pMatrixOld.addAndReturnNew(qPrimeMatrix);
-        final var pMatrixPropagated = phiMatrix.multiplyAndReturnNew(tmp3);
+        // 4. Propagate state estimation error covariance matrix using (3.46),
+        // using only non-trivial blocks of transition matrix, or using a higher-order
+        // transition matrix and system noise covariance if required
+        final var pMatrixPropagated = new Matrix(INSLooselyCoupledKalmanState.NUM_PARAMS,
+                INSLooselyCoupledKalmanState.NUM_PARAMS);
+        final var transitionOrder = config.getTransitionOrder();
+        if (transitionOrder == null || transitionOrder == INSKalmanTransitionOrder.FIRST_ORDER) {
+            phi.propagate(previousState.getCovariance(), qHalf, pMatrixPropagated);
+
+            if (transition != null) {
+                phi.toMatrix(transition);
+            }
+        } else {
+            final var discretizer = new INSKalmanTransitionDiscretizer(INSLooselyCoupledKalmanState.NUM_PARAMS);
+            discretizer.discretize(phi, qHalf, transitionOrder);
+            discretizer.propagate(previousState.getCovariance(), pMatrixPropagated);
+
+            if (transition != null) {
+                discretizer.toMatrix(transition);
+            }
+        }
 
-        phiMatrix.transpose();
-        pMatrixPropagated.multiply(phiMatrix);
+        if (propagatedCovariance != null) {
+            propagatedCovariance.copyFrom(pMatrixPropagated);
+        }
 
-        pMatrixPropagated.add(qPrimeMatrix);
+        final var propagatedNanos = metrics != null ? System.nanoTime() : 0L;
 
         // MEASUREMENT UPDATE PHASE
 
@@ -800,6 +958,10 @@ public class INSLooselyCoupledKalmanEpochEstimator {
         // x_est_new = x_est_propagated + K_matrix * delta_z
         final var xEstNew = k.multiplyAndReturnNew(deltaZ);
 
+        if (errorState != null) {
+            errorState.copyFrom(xEstNew);
+        }
+
         // 10. Update state estimation error covariance matrix using (3.25)
         k.multiply(h);
         final var pNew = Matrix.identity(INSLooselyCoupledKalmanState.NUM_PARAMS,
@@ -841,6 +1003,12 @@ public class INSLooselyCoupledKalmanEpochEstimator {
         result.setAccelerationBiasCoordinates(newAccelerationBiasX, newAccelerationBiasY, newAccelerationBiasZ);
         result.setGyroBiasCoordinates(newGyroBiasX, newGyroBiasY, newGyroBiasZ);
         result.setCovariance(pNew);
+
+        if (metrics != null) {
+            metrics.propagationNanos = propagatedNanos - startNanos;
+            metrics.updateNanos = System.nanoTime() - propagatedNanos;
+            metrics.setInnovation(deltaZ, tmp5);
+        }
     }
 
     /**
@@ -3139,4 +3307,20 @@ public class INSLooselyCoupledKalmanEpochEstimator {
     private static double convertAngle(final Angle angle) {
         return AngleConverter.convert(angle.getValue().doubleValue(), angle.getUnit(), AngleUnit.RADIANS);
     }
+
+    /**
+     * Gets latitude of the position contained in provided Kalman filter state.
+     *
+     * @param state Kalman filter state.
+     * @return latitude expressed in radians (rad).
+     */
+    private static double getLatitude(final INSLooselyCoupledKalmanState state) {
+        final var nedPosition = new NEDPosition();
+        final var nedVelocity = new NEDVelocity();
+        ECEFtoNEDPositionVelocityConverter.convertECEFtoNED(
+                state.getX(), state.getY(), state.getZ(),
+                state.getVx(), state.getVy(), state.getVz(), nedPosition, nedVelocity);
+
+        return nedPosition.getLatitude();
+    }
 }
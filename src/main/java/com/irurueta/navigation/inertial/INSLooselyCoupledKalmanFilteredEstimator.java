@@ -16,15 +16,23 @@
 package com.irurueta.navigation.inertial;
 
 import com.irurueta.algebra.AlgebraException;
+import com.irurueta.algebra.Matrix;
 import com.irurueta.navigation.LockedException;
 import com.irurueta.navigation.NotReadyException;
 import com.irurueta.navigation.frames.ECEFFrame;
+import com.irurueta.navigation.inertial.metrics.InertialMetrics;
+import com.irurueta.navigation.inertial.metrics.MetricsSink;
 import com.irurueta.navigation.inertial.navigators.ECEFInertialNavigator;
 import com.irurueta.navigation.inertial.navigators.InertialNavigatorException;
 import com.irurueta.units.Time;
 import com.irurueta.units.TimeConverter;
 import com.irurueta.units.TimeUnit;
 
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+
 /**
  * Calculates position, velocity, attitude and IMU biases using an INS loosely
  * coupled Kalman filter to take into account inertial measurements to
@@ -38,6 +46,19 @@ import com.irurueta.units.TimeUnit;
 @SuppressWarnings("DuplicatedCode")
 public class INSLooselyCoupledKalmanFilteredEstimator {
 
+    /**
+     * Number of bytes of a snapshot written by {@link #writeSnapshot(ByteBuffer)}.
+     */
+    public static final int SNAPSHOT_LENGTH = 1 + INSBinaryCodec.DOUBLE_BYTES
+            + 1 + 6 * INSBinaryCodec.DOUBLE_BYTES + 1 + 1 + 5 * INSBinaryCodec.DOUBLE_BYTES
+            + 2 * INSBinaryCodec.KINEMATICS_BYTES + INSBinaryCodec.FRAME_BYTES
+            + 1 + INSLooselyCoupledKalmanState.ENCODED_LENGTH + 1 + INSBinaryCodec.DOUBLE_BYTES;
+
+    /**
+     * Identifier of snapshot format.
+     */
+    private static final byte SNAPSHOT_FORMAT = 1;
+
     /**
      * Listener to notify events raised by this instance.
      */
@@ -94,6 +115,32 @@ public class INSLooselyCoupledKalmanFilteredEstimator {
      */
     private Double lastStateTimestamp;
 
+    /**
+     * Smoother recording every propagated epoch, if any.
+     */
+    private INSLooselyCoupledKalmanSmoother smoother;
+
+    /**
+     * Transition matrix of last propagated epoch, used when a smoother is set.
+     */
+    private Matrix transition;
+
+    /**
+     * Propagated error covariance of last propagated epoch, used when a smoother is set.
+     */
+    private Matrix propagatedCovariance;
+
+    /**
+     * Error state applied as closed-loop correction on last propagated epoch, used when
+     * a smoother is set.
+     */
+    private Matrix errorState;
+
+    /**
+     * Metrics of last propagated epoch, only filled when instrumentation is enabled.
+     */
+    private final INSKalmanEpochMetrics epochMetrics = new INSKalmanEpochMetrics();
+
     /**
      * Indicates whether this estimator is running or not.
      */
@@ -1224,6 +1271,31 @@ public class INSLooselyCoupledKalmanFilteredEstimator {
         this.initialConfig = initialConfig;
     }
 
+    /**
+     * Gets smoother recording every propagated epoch so that filtered states can be
+     * smoothed afterwards, if any.
+     *
+     * @return smoother or null if epochs are not recorded.
+     */
+    public INSLooselyCoupledKalmanSmoother getSmoother() {
+        return smoother;
+    }
+
+    /**
+     * Sets smoother recording every propagated epoch so that filtered states can be
+     * smoothed afterwards.
+     *
+     * @param smoother smoother or null if epochs must not be recorded.
+     * @throws LockedException if this estimator is already running.
+     */
+    public void setSmoother(final INSLooselyCoupledKalmanSmoother smoother) throws LockedException {
+        if (running) {
+            throw new LockedException();
+        }
+
+        this.smoother = smoother;
+    }
+
     /**
      * Gets last provided user kinematics containing applied specific force and
      * angular rates resolved in body axes.
@@ -1420,8 +1492,15 @@ public class INSLooselyCoupledKalmanFilteredEstimator {
             }
 
             if (kinematics != null) {
+                final var sink = InertialMetrics.getSink();
+                final var startNanos = sink != MetricsSink.NONE ? System.nanoTime() : 0L;
+
                 correctKinematics(kinematics);
                 ECEFInertialNavigator.navigateECEF(propagationInterval, frame, correctedKinematics, frame);
+
+                if (sink != MetricsSink.NONE) {
+                    sink.onInertialUpdate(this, System.nanoTime() - startNanos);
+                }
             }
 
             this.kinematics = kinematics;
@@ -1528,16 +1607,37 @@ public class INSLooselyCoupledKalmanFilteredEstimator {
                 fz = 0.0;
             }
 
+            final var sink = InertialMetrics.getSink();
+            final var metrics = sink != MetricsSink.NONE ? epochMetrics : null;
+
             final var x = frame.getX();
             final var y = frame.getY();
             final var z = frame.getZ();
             final var vx = frame.getVx();
             final var vy = frame.getVy();
             final var vz = frame.getVz();
-            INSLooselyCoupledKalmanEpochEstimator.estimate(x, y, z, vx, vy, vz, propagationInterval, state, fx, fy, fz,
-                    config, state);
+            if (smoother != null) {
+                if (transition == null) {
+                    transition = new Matrix(INSLooselyCoupledKalmanState.NUM_PARAMS,
+                            INSLooselyCoupledKalmanState.NUM_PARAMS);
+                    propagatedCovariance = new Matrix(INSLooselyCoupledKalmanState.NUM_PARAMS,
+                            INSLooselyCoupledKalmanState.NUM_PARAMS);
+                    errorState = new Matrix(INSLooselyCoupledKalmanState.NUM_PARAMS, 1);
+                }
+                INSLooselyCoupledKalmanEpochEstimator.estimate(x, y, z, vx, vy, vz, propagationInterval, state,
+                        fx, fy, fz, config, state, transition, propagatedCovariance, errorState, metrics);
+                smoother.addEpoch(timestamp, state, transition, propagatedCovariance, errorState);
+            } else {
+                INSLooselyCoupledKalmanEpochEstimator.estimate(x, y, z, vx, vy, vz, propagationInterval, state,
+                        fx, fy, fz, config, state, null, null, null, metrics);
+            }
             lastStateTimestamp = timestamp;
 
+            if (metrics != null) {
+                sink.onKalmanEpoch(this, metrics.propagationNanos, metrics.updateNanos, metrics.innovations,
+                        metrics.innovationNorm, metrics.normalizedInnovationSquared);
+            }
+
             state.getFrame(frame);
 
             if (listener != null) {
@@ -1563,6 +1663,10 @@ public class INSLooselyCoupledKalmanFilteredEstimator {
             throw new LockedException();
         }
 
+        if (smoother != null) {
+            smoother.reset();
+        }
+
         running = true;
         state = null;
         lastStateTimestamp = null;
@@ -1577,6 +1681,220 @@ public class INSLooselyCoupledKalmanFilteredEstimator {
         running = false;
     }
 
+    /**
+     * Writes a snapshot of this estimator into provided buffer using a fixed-layout
+     * binary format of {@link #SNAPSHOT_LENGTH} bytes.
+     * Snapshot contains epoch interval, configurations, last provided and corrected
+     * kinematics, current frame, Kalman filter state and timestamp of last state
+     * propagation, so that an estimator restored from it continues producing the same
+     * results. Listener and smoother are not part of the snapshot.
+     * Values are written using the byte order of provided buffer.
+     *
+     * @param buffer buffer where snapshot will be written.
+     * @throws java.nio.BufferOverflowException if buffer has less than
+     *                                          {@link #SNAPSHOT_LENGTH} remaining bytes.
+     */
+    public void writeSnapshot(final ByteBuffer buffer) {
+        INSBinaryCodec.checkWritable(buffer, SNAPSHOT_LENGTH);
+
+        buffer.put(SNAPSHOT_FORMAT);
+        buffer.putDouble(epochInterval);
+
+        INSBinaryCodec.putFlag(buffer, config != null);
+        if (config != null) {
+            buffer.putDouble(config.getGyroNoisePSD());
+            buffer.putDouble(config.getAccelerometerNoisePSD());
+            buffer.putDouble(config.getAccelerometerBiasPSD());
+            buffer.putDouble(config.getGyroBiasPSD());
+            buffer.putDouble(config.getPositionNoiseSD());
+            buffer.putDouble(config.getVelocityNoiseSD());
+            buffer.put((byte) config.getTransitionOrder().ordinal());
+        } else {
+            INSBinaryCodec.putZeros(buffer, 6 * INSBinaryCodec.DOUBLE_BYTES + 1);
+        }
+
+        INSBinaryCodec.putFlag(buffer, initialConfig != null);
+        if (initialConfig != null) {
+            buffer.putDouble(initialConfig.getInitialAttitudeUncertainty());
+            buffer.putDouble(initialConfig.getInitialVelocityUncertainty());
+            buffer.putDouble(initialConfig.getInitialPositionUncertainty());
+            buffer.putDouble(initialConfig.getInitialAccelerationBiasUncertainty());
+            buffer.putDouble(initialConfig.getInitialGyroscopeBiasUncertainty());
+        } else {
+            INSBinaryCodec.putZeros(buffer, 5 * INSBinaryCodec.DOUBLE_BYTES);
+        }
+
+        INSBinaryCodec.putKinematics(buffer, kinematics);
+        INSBinaryCodec.putKinematics(buffer, correctedKinematics);
+        INSBinaryCodec.putFrame(buffer, frame);
+
+        INSBinaryCodec.putFlag(buffer, state != null);
+        if (state != null) {
+            state.encode(buffer);
+        } else {
+            INSBinaryCodec.putZeros(buffer, INSLooselyCoupledKalmanState.ENCODED_LENGTH);
+        }
+
+        INSBinaryCodec.putFlag(buffer, lastStateTimestamp != null);
+        buffer.putDouble(lastStateTimestamp != null ? lastStateTimestamp : 0.0);
+    }
+
+    /**
+     * Writes a snapshot of this estimator into provided data output using a
+     * fixed-layout big-endian binary format of {@link #SNAPSHOT_LENGTH} bytes.
+     *
+     * @param output data output where snapshot will be written.
+     * @throws IOException if an I/O error occurs.
+     */
+    public void writeSnapshot(final DataOutput output) throws IOException {
+        INSBinaryCodec.write(output, SNAPSHOT_LENGTH, this::writeSnapshot);
+    }
+
+    /**
+     * Restores the status of this estimator from a snapshot written with
+     * {@link #writeSnapshot(ByteBuffer)}.
+     * Smoother, if any, is reset, since its stored epochs no longer match the
+     * restored state. Status of this estimator is not modified if snapshot is not valid.
+     *
+     * @param buffer buffer where snapshot will be read from.
+     * @throws LockedException                   if this estimator is already running.
+     * @throws java.nio.BufferUnderflowException if buffer has less than
+     *                                           {@link #SNAPSHOT_LENGTH} remaining bytes.
+     * @throws IllegalArgumentException          if buffer does not contain a valid snapshot.
+     */
+    public void restoreSnapshot(final ByteBuffer buffer) throws LockedException {
+        restoreSnapshot(buffer, false);
+    }
+
+    /**
+     * Rewinds this estimator to a snapshot written with {@link #writeSnapshot(ByteBuffer)}
+     * earlier on while processing the same trajectory, so that later updates can be applied
+     * again.
+     * Smoother, if any, keeps the epochs propagated up to the timestamp of the restored
+     * state, and only later epochs are discarded, since they will be propagated again.
+     * Status of this estimator is not modified if snapshot is not valid.
+     *
+     * @param buffer buffer where snapshot will be read from.
+     * @throws LockedException                   if this estimator is already running.
+     * @throws java.nio.BufferUnderflowException if buffer has less than
+     *                                           {@link #SNAPSHOT_LENGTH} remaining bytes.
+     * @throws IllegalArgumentException          if buffer does not contain a valid snapshot.
+     */
+    void rewindToSnapshot(final ByteBuffer buffer) throws LockedException {
+        restoreSnapshot(buffer, true);
+    }
+
+    /**
+     * Restores the status of this estimator from a snapshot written with
+     * {@link #writeSnapshot(ByteBuffer)}.
+     *
+     * @param buffer buffer where snapshot will be read from.
+     * @param rewind true to keep smoother epochs up to the timestamp of the restored
+     *               state, false to reset smoother.
+     * @throws LockedException                   if this estimator is already running.
+     * @throws java.nio.BufferUnderflowException if buffer has less than
+     *                                           {@link #SNAPSHOT_LENGTH} remaining bytes.
+     * @throws IllegalArgumentException          if buffer does not contain a valid snapshot.
+     */
+    private void restoreSnapshot(final ByteBuffer buffer, final boolean rewind) throws LockedException {
+        if (running) {
+            throw new LockedException();
+        }
+
+        INSBinaryCodec.checkReadable(buffer, SNAPSHOT_LENGTH);
+
+        final var start = buffer.position();
+        try {
+            if (buffer.get() != SNAPSHOT_FORMAT) {
+                throw new IllegalArgumentException();
+            }
+
+            final var newEpochInterval = buffer.getDouble();
+            if (newEpochInterval < 0.0) {
+                throw new IllegalArgumentException();
+            }
+
+            final INSLooselyCoupledKalmanConfig newConfig;
+            if (INSBinaryCodec.getFlag(buffer)) {
+                newConfig = new INSLooselyCoupledKalmanConfig(buffer.getDouble(), buffer.getDouble(),
+                        buffer.getDouble(), buffer.getDouble(), buffer.getDouble(), buffer.getDouble());
+
+                final var transitionOrders = INSKalmanTransitionOrder.values();
+                final var transitionOrder = buffer.get();
+                if (transitionOrder < 0 || transitionOrder >= transitionOrders.length) {
+                    throw new IllegalArgumentException();
+                }
+                newConfig.setTransitionOrder(transitionOrders[transitionOrder]);
+            } else {
+                newConfig = null;
+                INSBinaryCodec.skip(buffer, 6 * INSBinaryCodec.DOUBLE_BYTES + 1);
+            }
+
+            final INSLooselyCoupledKalmanInitializerConfig newInitialConfig;
+            if (INSBinaryCodec.getFlag(buffer)) {
+                newInitialConfig = new INSLooselyCoupledKalmanInitializerConfig(buffer.getDouble(),
+                        buffer.getDouble(), buffer.getDouble(), buffer.getDouble(), buffer.getDouble());
+            } else {
+                newInitialConfig = null;
+                INSBinaryCodec.skip(buffer, 5 * INSBinaryCodec.DOUBLE_BYTES);
+            }
+
+            final var newKinematics = INSBinaryCodec.getKinematics(buffer, null);
+            final var newCorrectedKinematics = INSBinaryCodec.getKinematics(buffer, null);
+            final var newFrame = INSBinaryCodec.getFrame(buffer, null);
+
+            final INSLooselyCoupledKalmanState newState;
+            if (INSBinaryCodec.getFlag(buffer)) {
+                newState = INSLooselyCoupledKalmanState.fromEncoded(buffer);
+            } else {
+                newState = null;
+                INSBinaryCodec.skip(buffer, INSLooselyCoupledKalmanState.ENCODED_LENGTH);
+            }
+
+            final var hasLastStateTimestamp = INSBinaryCodec.getFlag(buffer);
+            final var newLastStateTimestamp = buffer.getDouble();
+
+            if (smoother != null) {
+                if (rewind && hasLastStateTimestamp) {
+                    smoother.truncate(smoother.getNumberOfEpochsUntil(newLastStateTimestamp));
+                } else {
+                    smoother.reset();
+                }
+            }
+
+            epochInterval = newEpochInterval;
+            config = newConfig;
+            initialConfig = newInitialConfig;
+            kinematics = newKinematics;
+            correctedKinematics = newCorrectedKinematics;
+            frame = newFrame;
+            state = newState;
+            lastStateTimestamp = hasLastStateTimestamp ? newLastStateTimestamp : null;
+        } catch (final IllegalArgumentException e) {
+            buffer.position(start);
+            throw e;
+        }
+    }
+
+    /**
+     * Restores the status of this estimator from a snapshot written with
+     * {@link #writeSnapshot(DataOutput)}.
+     *
+     * @param input data input where snapshot will be read from.
+     * @throws LockedException          if this estimator is already running.
+     * @throws IOException              if an I/O error occurs.
+     * @throws IllegalArgumentException if input does not contain a valid snapshot.
+     */
+    public void restoreSnapshot(final DataInput input) throws LockedException, IOException {
+        if (running) {
+            throw new LockedException();
+        }
+
+        final var bytes = new byte[SNAPSHOT_LENGTH];
+        input.readFully(bytes);
+        restoreSnapshot(ByteBuffer.wrap(bytes));
+    }
+
     /**
      * Initializes initial INS loosely coupled Kalman configuration to set
      * a proper initial covariance matrix.
@@ -0,0 +1,965 @@
+/*
+ * Copyright (C) 2026 Alberto Irurueta Carro (alberto@irurueta.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.irurueta.navigation.inertial;
+
+import com.irurueta.algebra.AlgebraException;
+import com.irurueta.algebra.Matrix;
+import com.irurueta.navigation.LockedException;
+import com.irurueta.units.Time;
+import com.irurueta.units.TimeConverter;
+import com.irurueta.units.TimeUnit;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Rauch-Tung-Striebel smoother for the loosely coupled INS/GNSS Kalman filter.
+ * Epochs processed by {@link INSLooselyCoupledKalmanEpochEstimator} are recorded along with
+ * their state transition matrix, propagated (predicted) and updated error covariances and the
+ * error state applied as closed-loop correction, so that a backward pass can later refine every
+ * filtered state using measurements received afterwards.
+ * This smoother can either keep the whole trajectory, so that a full backward pass can be
+ * executed once all data has been processed, or keep a bounded window of epochs, so that each
+ * new epoch provides the smoothed state of the epoch received a fixed number of epochs earlier
+ * (fixed-lag mode).
+ * Epochs are stored into blocks of primitive values rather than as matrices and states, keeping
+ * only the upper triangle of symmetric covariances and the rows of the transition matrix that
+ * differ from identity, so that each epoch requires 412 values (about 3.3 KB). An hour of 100 Hz
+ * epochs requires about 1.2 GB, and storage is allocated in fixed-size blocks so that it can grow
+ * without copying already recorded epochs.
+ * Because the filter applies closed-loop corrections, smoothing is performed on the error state
+ * of each epoch with respect to its filtered state, and smoothed errors are applied to filtered
+ * states in the same way the filter applies its own corrections.
+ * This implementation is based on the equations defined in "Principles of GNSS, Inertial, and
+ * Multisensor Integrated Navigation Systems, Second Edition", section 3.4.2.
+ */
+public class INSLooselyCoupledKalmanSmoother {
+
+    /**
+     * Minimum allowed lag expressed in number of epochs for fixed-lag mode.
+     */
+    public static final int MIN_LAG = 1;
+
+    /**
+     * Number of epochs stored within each storage block when the whole trajectory is kept.
+     */
+    private static final int BLOCK_EPOCHS = 1024;
+
+    /**
+     * Number of parameters of the Kalman filter.
+     */
+    private static final int N = INSLooselyCoupledKalmanState.NUM_PARAMS;
+
+    /**
+     * Number of values of the upper triangle of a symmetric NxN matrix.
+     */
+    private static final int SYMMETRIC_LENGTH = N * (N + 1) / 2;
+
+    /**
+     * Number of rows of the transition matrix differing from identity.
+     * Rows related to accelerometer and gyroscope biases, which are modelled as random walks,
+     * are always identity.
+     */
+    private static final int TRANSITION_ROWS = 9;
+
+    /**
+     * Number of components of 3D vectors.
+     */
+    private static final int COMPONENTS = 3;
+
+    /**
+     * Offset of timestamp within each epoch record.
+     */
+    private static final int TIMESTAMP_OFFSET = 0;
+
+    /**
+     * Offset of body to ECEF coordinate transformation matrix (stored in row-major order)
+     * within each epoch record.
+     */
+    private static final int ATTITUDE_OFFSET = TIMESTAMP_OFFSET + 1;
+
+    /**
+     * Offset of velocity within each epoch record.
+     */
+    private static final int VELOCITY_OFFSET = ATTITUDE_OFFSET + COMPONENTS * COMPONENTS;
+
+    /**
+     * Offset of position within each epoch record.
+     */
+    private static final int POSITION_OFFSET = VELOCITY_OFFSET + COMPONENTS;
+
+    /**
+     * Offset of accelerometer bias within each epoch record.
+     */
+    private static final int ACCELERATION_BIAS_OFFSET = POSITION_OFFSET + COMPONENTS;
+
+    /**
+     * Offset of gyroscope bias within each epoch record.
+     */
+    private static final int GYRO_BIAS_OFFSET = ACCELERATION_BIAS_OFFSET + COMPONENTS;
+
+    /**
+     * Offset of error state applied as closed-loop correction within each epoch record.
+     */
+    private static final int ERROR_STATE_OFFSET = GYRO_BIAS_OFFSET + COMPONENTS;
+
+    /**
+     * Offset of updated error covariance within each epoch record.
+     */
+    private static final int UPDATED_COVARIANCE_OFFSET = ERROR_STATE_OFFSET + N;
+
+    /**
+     * Offset of propagated error covariance within each epoch record.
+     */
+    private static final int PROPAGATED_COVARIANCE_OFFSET = UPDATED_COVARIANCE_OFFSET + SYMMETRIC_LENGTH;
+
+    /**
+     * Offset of transition matrix within each epoch record.
+     */
+    private static final int TRANSITION_OFFSET = PROPAGATED_COVARIANCE_OFFSET + SYMMETRIC_LENGTH;
+
+    /**
+     * Number of values stored for each epoch.
+     */
+    private static final int EPOCH_LENGTH = TRANSITION_OFFSET + TRANSITION_ROWS * N;
+
+    /**
+     * Lag expressed in number of epochs for fixed-lag mode, or zero if whole trajectory is kept.
+     */
+    private final int lag;
+
+    /**
+     * Blocks containing recorded epochs.
+     * When the whole trajectory is kept, blocks are appended as needed, otherwise a single
+     * block is used as a circular buffer.
+     */
+    private final List<double[]> blocks = new ArrayList<>();
+
+    /**
+     * Number of epochs that can be stored within each block.
+     */
+    private final int blockEpochs;
+
+    /**
+     * Listener to handle events raised by this smoother.
+     */
+    private INSLooselyCoupledKalmanSmootherListener listener;
+
+    /**
+     * Total number of epochs added since this smoother was created or reset.
+     */
+    private long numberOfEpochs;
+
+    /**
+     * Index of first epoch still stored.
+     */
+    private long firstStoredEpoch;
+
+    /**
+     * Index of first epoch whose smoothed state has not been notified yet in fixed-lag mode.
+     */
+    private long firstPendingEpoch;
+
+    /**
+     * Indicates whether smoother is running.
+     */
+    private boolean running;
+
+    /**
+     * Updated error covariance of current epoch during backward pass.
+     */
+    private final double[] updatedCovariance = new double[N * N];
+
+    /**
+     * Propagated error covariance of next epoch during backward pass.
+     */
+    private final double[] propagatedCovariance = new double[N * N];
+
+    /**
+     * Transition matrix from current epoch to next epoch during backward pass.
+     */
+    private final double[] transition = new double[N * N];
+
+    /**
+     * Smoother gain transposed during backward pass.
+     */
+    private final double[] gainTransposed = new double[N * N];
+
+    /**
+     * Temporary matrix used during backward pass.
+     */
+    private final double[] tmp = new double[N * N];
+
+    /**
+     * Smoothed error covariance of next epoch during backward pass.
+     */
+    private double[] smoothedCovariance = new double[N * N];
+
+    /**
+     * Smoothed error covariance of current epoch during backward pass.
+     */
+    private double[] previousSmoothedCovariance = new double[N * N];
+
+    /**
+     * Smoothed error state of next epoch with respect to its filtered state during backward pass.
+     */
+    private double[] smoothedError = new double[N];
+
+    /**
+     * Smoothed error state of current epoch with respect to its filtered state during backward
+     * pass.
+     */
+    private double[] previousSmoothedError = new double[N];
+
+    /**
+     * Error state of next epoch with respect to its propagated state during backward pass.
+     */
+    private final double[] error = new double[N];
+
+    /**
+     * Instance reused to notify smoothed states.
+     */
+    private INSLooselyCoupledKalmanState smoothedState;
+
+    /**
+     * Constructor.
+     * Whole trajectory is kept so that a full backward pass can be executed.
+     */
+    public INSLooselyCoupledKalmanSmoother() {
+        lag = 0;
+        blockEpochs = BLOCK_EPOCHS;
+    }
+
+    /**
+     * Constructor.
+     * Whole trajectory is kept so that a full backward pass can be executed.
+     *
+     * @param listener listener to handle events raised by this smoother.
+     */
+    public INSLooselyCoupledKalmanSmoother(final INSLooselyCoupledKalmanSmootherListener listener) {
+        this();
+        this.listener = listener;
+    }
+
+    /**
+     * Constructor for fixed-lag mode.
+     * Only the last lag + 1 epochs are kept, and each time a new epoch is added, the smoothed
+     * state of the epoch added lag epochs earlier is notified.
+     *
+     * @param lag lag expressed in number of epochs.
+     * @throws IllegalArgumentException if provided lag is less than {@link #MIN_LAG}.
+     */
+    public INSLooselyCoupledKalmanSmoother(final int lag) {
+        if (lag < MIN_LAG) {
+            throw new IllegalArgumentException();
+        }
+
+        this.lag = lag;
+        blockEpochs = lag + 1;
+    }
+
+    /**
+     * Constructor for fixed-lag mode.
+     * Only the last lag + 1 epochs are kept, and each time a new epoch is added, the smoothed
+     * state of the epoch added lag epochs earlier is notified.
+     *
+     * @param lag      lag expressed in number of epochs.
+     * @param listener listener to handle events raised by this smoother.
+     * @throws IllegalArgumentException if provided lag is less than {@link #MIN_LAG}.
+     */
+    public INSLooselyCoupledKalmanSmoother(final int lag, final INSLooselyCoupledKalmanSmootherListener listener) {
+        this(lag);
+        this.listener = listener;
+    }
+
+    /**
+     * Gets listener to handle events raised by this smoother.
+     *
+     * @return listener to handle events raised by this smoother.
+     */
+    public INSLooselyCoupledKalmanSmootherListener getListener() {
+        return listener;
+    }
+
+    /**
+     * Sets listener to handle events raised by this smoother.
+     *
+     * @param listener listener to handle events raised by this smoother.
+     * @throws LockedException if smoother is already running.
+     */
+    public void setListener(final INSLooselyCoupledKalmanSmootherListener listener) throws LockedException {
+        if (running) {
+            throw new LockedException();
+        }
+
+        this.listener = listener;
+    }
+
+    /**
+     * Indicates whether this smoother works in fixed-lag mode.
+     *
+     * @return true if fixed-lag mode is used, false if the whole trajectory is kept.
+     */
+    public boolean isFixedLag() {
+        return lag > 0;
+    }
+
+    /**
+     * Gets lag expressed in number of epochs for fixed-lag mode.
+     *
+     * @return lag expressed in number of epochs, or zero if the whole trajectory is kept.
+     */
+    public int getLag() {
+        return lag;
+    }
+
+    /**
+     * Gets total number of epochs added since this smoother was created or reset.
+     *
+     * @return total number of added epochs.
+     */
+    public long getNumberOfEpochs() {
+        return numberOfEpochs;
+    }
+
+    /**
+     * Gets number of epochs currently stored.
+     *
+     * @return number of stored epochs.
+     */
+    public int getNumberOfStoredEpochs() {
+        return (int) (numberOfEpochs - firstStoredEpoch);
+    }
+
+    /**
+     * Gets index of first epoch currently stored.
+     *
+     * @return index of first stored epoch.
+     */
+    public long getFirstStoredEpoch() {
+        return firstStoredEpoch;
+    }
+
+    /**
+     * Indicates whether smoother is running.
+     *
+     * @return true if smoother is running, false otherwise.
+     */
+    public boolean isRunning() {
+        return running;
+    }
+
+    /**
+     * Gets timestamp of a stored epoch.
+     *
+     * @param epoch index of epoch.
+     * @return timestamp expressed in seconds.
+     * @throws IllegalArgumentException if provided epoch is not stored.
+     */
+    public double getTimestamp(final long epoch) {
+        checkStored(epoch);
+        return getBlock(epoch)[getOffset(epoch) + TIMESTAMP_OFFSET];
+    }
+
+    /**
+     * Gets filtered state of a stored epoch.
+     *
+     * @param epoch  index of epoch.
+     * @param result instance where filtered state will be stored.
+     * @throws IllegalArgumentException if provided epoch is not stored.
+     */
+    public void getFilteredState(final long epoch, final INSLooselyCoupledKalmanState result) {
+        checkStored(epoch);
+        final var block = getBlock(epoch);
+        final var offset = getOffset(epoch);
+        unpackSymmetric(block, offset + UPDATED_COVARIANCE_OFFSET, updatedCovariance);
+        fillState(block, offset, null, updatedCovariance, result);
+    }
+
+    /**
+     * Adds an epoch processed by the Kalman filter.
+     * In fixed-lag mode, once more than lag epochs have been added, the smoothed state of the
+     * epoch added lag epochs earlier is notified to the listener.
+     *
+     * @param timestamp            timestamp of epoch.
+     * @param state                updated Kalman filter state of epoch.
+     * @param transition           15x15 transition matrix used to propagate the state from
+     *                             previous epoch.
+     * @param propagatedCovariance 15x15 propagated error covariance before the measurement
+     *                             update of epoch.
+     * @param errorState           15x1 estimated error state applied as closed-loop correction.
+     * @throws LockedException          if smoother is already running.
+     * @throws IllegalArgumentException if provided matrices do not have proper size or if
+     *                                  state has no attitude or covariance.
+     * @throws INSException             if smoothing fails due to numerical instabilities.
+     */
+    public void addEpoch(final Time timestamp, final INSLooselyCoupledKalmanState state,
+                         final Matrix transition, final Matrix propagatedCovariance, final Matrix errorState)
+            throws LockedException, INSException {
+        addEpoch(TimeConverter.convert(timestamp.getValue().doubleValue(), timestamp.getUnit(), TimeUnit.SECOND),
+                state, transition, propagatedCovariance, errorState);
+    }
+
+    /**
+     * Adds an epoch processed by the Kalman filter.
+     * In fixed-lag mode, once more than lag epochs have been added, the smoothed state of the
+     * epoch added lag epochs earlier is notified to the listener.
+     *
+     * @param timestamp            timestamp of epoch expressed in seconds.
+     * @param state                updated Kalman filter state of epoch.
+     * @param transition           15x15 transition matrix used to propagate the state from
+     *                             previous epoch.
+     * @param propagatedCovariance 15x15 propagated error covariance before the measurement
+     *                             update of epoch.
+     * @param errorState           15x1 estimated error state applied as closed-loop correction.
+     * @throws LockedException          if smoother is already running.
+     * @throws IllegalArgumentException if provided matrices do not have proper size or if
+     *                                  state has no attitude or covariance.
+     * @throws INSException             if smoothing fails due to numerical instabilities.
+     */
+    public void addEpoch(final double timestamp, final INSLooselyCoupledKalmanState state,
+                         final Matrix transition, final Matrix propagatedCovariance, final Matrix errorState)
+            throws LockedException, INSException {
+        if (running) {
+            throw new LockedException();
+        }
+
+        final var c = state.getBodyToEcefCoordinateTransformationMatrix();
+        final var updatedCovariance = state.getCovariance();
+        if (c == null || updatedCovariance == null
+                || transition.getRows() != N || transition.getColumns() != N
+                || propagatedCovariance.getRows() != N || propagatedCovariance.getColumns() != N
+                || errorState.getRows() * errorState.getColumns() != N) {
+            throw new IllegalArgumentException();
+        }
+
+        try {
+            running = true;
+
+            final var epoch = numberOfEpochs;
+            if (isFixedLag()) {
+                if (blocks.isEmpty()) {
+                    blocks.add(new double[blockEpochs * EPOCH_LENGTH]);
+                }
+                if (epoch - firstStoredEpoch == blockEpochs) {
+                    firstStoredEpoch++;
+                }
+            } else if (epoch == (long) blocks.size() * blockEpochs) {
+                blocks.add(new double[blockEpochs * EPOCH_LENGTH]);
+            }
+
+            final var block = getBlock(epoch);
+            final var offset = getOffset(epoch);
+
+            block[offset + TIMESTAMP_OFFSET] = timestamp;
+            for (int i = 0, pos = offset + ATTITUDE_OFFSET; i < COMPONENTS; i++) {
+                for (var j = 0; j < COMPONENTS; j++, pos++) {
+                    block[pos] = c.getElementAt(i, j);
+                }
+            }
+            block[offset + VELOCITY_OFFSET] = state.getVx();
+            block[offset + VELOCITY_OFFSET + 1] = state.getVy();
+            block[offset + VELOCITY_OFFSET + 2] = state.getVz();
+            block[offset + POSITION_OFFSET] = state.getX();
+            block[offset + POSITION_OFFSET + 1] = state.getY();
+            block[offset + POSITION_OFFSET + 2] = state.getZ();
+            block[offset + ACCELERATION_BIAS_OFFSET] = state.getAccelerationBiasX();
+            block[offset + ACCELERATION_BIAS_OFFSET + 1] = state.getAccelerationBiasY();
+            block[offset + ACCELERATION_BIAS_OFFSET + 2] = state.getAccelerationBiasZ();
+            block[offset + GYRO_BIAS_OFFSET] = state.getGyroBiasX();
+            block[offset + GYRO_BIAS_OFFSET + 1] = state.getGyroBiasY();
+            block[offset + GYRO_BIAS_OFFSET + 2] = state.getGyroBiasZ();
+
+            for (var i = 0; i < N; i++) {
+                block[offset + ERROR_STATE_OFFSET + i] = errorState.getElementAtIndex(i);
+            }
+
+            packSymmetric(updatedCovariance, block, offset + UPDATED_COVARIANCE_OFFSET);
+            packSymmetric(propagatedCovariance, block, offset + PROPAGATED_COVARIANCE_OFFSET);
+
+            for (int i = 0, pos = offset + TRANSITION_OFFSET; i < TRANSITION_ROWS; i++) {
+                for (var j = 0; j < N; j++, pos++) {
+                    block[pos] = transition.getElementAt(i, j);
+                }
+            }
+
+            numberOfEpochs++;
+
+            if (isFixedLag() && epoch >= lag) {
+                final var smoothedEpoch = epoch - lag;
+                if (smoothedEpoch >= firstPendingEpoch) {
+                    backwardPass(smoothedEpoch, smoothedEpoch);
+                    firstPendingEpoch = smoothedEpoch + 1;
+                }
+            }
+        } finally {
+            running = false;
+        }
+    }
+
+    /**
+     * Executes a backward pass through all stored epochs and notifies their smoothed states to
+     * the listener, starting at the last epoch and finishing at the first stored one.
+     * In fixed-lag mode, only stored epochs whose smoothed state has not been notified yet are
+     * notified, which allows flushing remaining epochs once no more data is available.
+     * Stored epochs are not modified, so that more epochs can be added and this method can be
+     * called again afterwards.
+     *
+     * @return true if any smoothed state was notified, false otherwise.
+     * @throws LockedException if smoother is already running.
+     * @throws INSException    if smoothing fails due to numerical instabilities.
+     */
+    public boolean smooth() throws LockedException, INSException {
+        if (running) {
+            throw new LockedException();
+        }
+
+        final var firstEpoch = isFixedLag() ? Math.max(firstStoredEpoch, firstPendingEpoch) : firstStoredEpoch;
+        if (firstEpoch >= numberOfEpochs) {
+            return false;
+        }
+
+        try {
+            running = true;
+            backwardPass(firstEpoch, numberOfEpochs - 1);
+            if (isFixedLag()) {
+                firstPendingEpoch = numberOfEpochs;
+            }
+        } finally {
+            running = false;
+        }
+
+        return true;
+    }
+
+    /**
+     * Resets this smoother by discarding all stored epochs.
+     * Storage already allocated is kept to be reused.
+     *
+     * @throws LockedException if smoother is already running.
+     */
+    public void reset() throws LockedException {
+        if (running) {
+            throw new LockedException();
+        }
+
+        running = true;
+        numberOfEpochs = 0;
+        firstStoredEpoch = 0;
+        firstPendingEpoch = 0;
+
+        if (listener != null) {
+            listener.onReset(this);
+        }
+
+        running = false;
+    }
+
+    /**
+     * Discards stored epochs added after provided number of epochs, so that epochs can be
+     * added again from an earlier point, as when the filter is rewound to apply delayed
+     * measurements.
+     * In fixed-lag mode, smoothed states of kept epochs that were notified using discarded
+     * epochs are notified again once enough epochs are added again.
+     * Storage already allocated is kept to be reused.
+     *
+     * @param numberOfEpochs number of epochs to keep.
+     * @throws LockedException          if smoother is already running.
+     * @throws IllegalArgumentException if provided value is less than first stored epoch or
+     *                                  greater than total number of added epochs.
+     */
+    public void truncate(final long numberOfEpochs) throws LockedException {
+        if (running) {
+            throw new LockedException();
+        }
+        if (numberOfEpochs < firstStoredEpoch || numberOfEpochs > this.numberOfEpochs) {
+            throw new IllegalArgumentException();
+        }
+
+        this.numberOfEpochs = numberOfEpochs;
+        if (isFixedLag()) {
+            firstPendingEpoch = Math.min(firstPendingEpoch, Math.max(firstStoredEpoch, numberOfEpochs - lag));
+        }
+    }
+
+    /**
+     * Gets number of stored epochs that have a timestamp earlier or equal than provided one,
+     * plus the number of epochs no longer stored.
+     * Epochs are assumed to be added in increasing timestamp order.
+     *
+     * @param timestamp timestamp expressed in seconds.
+     * @return number of epochs up to provided timestamp.
+     */
+    public long getNumberOfEpochsUntil(final double timestamp) {
+        var result = numberOfEpochs;
+        while (result > firstStoredEpoch && getTimestamp(result - 1) > timestamp) {
+            result--;
+        }
+        return result;
+    }
+
+    /**
+     * Executes a backward pass from last stored epoch down to provided first epoch to notify.
+     *
+     * @param firstNotifiedEpoch first epoch whose smoothed state is notified.
+     * @param lastNotifiedEpoch  last epoch whose smoothed state is notified.
+     * @throws INSException if smoothing fails due to numerical instabilities.
+     */
+    private void backwardPass(final long firstNotifiedEpoch, final long lastNotifiedEpoch) throws INSException {
+        final var lastEpoch = numberOfEpochs - 1;
+
+        // at last epoch smoothed estimation matches filtered one
+        var block = getBlock(lastEpoch);
+        var offset = getOffset(lastEpoch);
+        unpackSymmetric(block, offset + UPDATED_COVARIANCE_OFFSET, smoothedCovariance);
+        Arrays.fill(smoothedError, 0.0);
+        if (lastEpoch <= lastNotifiedEpoch) {
+            notifySmoothedState(lastEpoch, block, offset);
+        }
+
+        for (var epoch = lastEpoch - 1; epoch >= firstNotifiedEpoch; epoch--) {
+            final var nextBlock = block;
+            final var nextOffset = offset;
+            block = getBlock(epoch);
+            offset = getOffset(epoch);
+
+            step(block, offset, nextBlock, nextOffset);
+
+            if (epoch <= lastNotifiedEpoch) {
+                notifySmoothedState(epoch, block, offset);
+            }
+        }
+    }
+
+    /**
+     * Computes smoothed error state and covariance of an epoch from the smoothed estimation of
+     * the next epoch using the Rauch-Tung-Striebel recursion (3.68) - (3.70).
+     * Results replace currently smoothed error state and covariance.
+     *
+     * @param block      block containing current epoch.
+     * @param offset     offset of current epoch within its block.
+     * @param nextBlock  block containing next epoch.
+     * @param nextOffset offset of next epoch within its block.
+     * @throws INSException if propagated covariance of next epoch is not positive definite.
+     */
+    private void step(final double[] block, final int offset, final double[] nextBlock, final int nextOffset)
+            throws INSException {
+        unpackSymmetric(block, offset + UPDATED_COVARIANCE_OFFSET, updatedCovariance);
+        unpackSymmetric(nextBlock, nextOffset + PROPAGATED_COVARIANCE_OFFSET, propagatedCovariance);
+        unpackTransition(nextBlock, nextOffset + TRANSITION_OFFSET, transition);
+
+        // difference between smoothed and propagated covariances of next epoch
+        for (var i = 0; i < N * N; i++) {
+            smoothedCovariance[i] -= propagatedCovariance[i];
+        }
+
+        // gain A = P+ * Phi' * inv(P-), obtained as A' = inv(P-) * Phi * P+
+        multiply(transition, updatedCovariance, gainTransposed);
+        choleskyDecompose(propagatedCovariance);
+        choleskySolve(propagatedCovariance, gainTransposed);
+
+        // smoothed error of next epoch referred to its propagated state, taking into account
+        // the closed-loop correction applied by the filter
+        for (var i = 0; i < N; i++) {
+            error[i] = smoothedError[i] + nextBlock[nextOffset + ERROR_STATE_OFFSET + i];
+        }
+
+        // xs(k) = A * xs(k + 1)
+        for (var i = 0; i < N; i++) {
+            var sum = 0.0;
+            for (var j = 0; j < N; j++) {
+                sum += gainTransposed[j * N + i] * error[j];
+            }
+            previousSmoothedError[i] = sum;
+        }
+
+        // Ps(k) = P+(k) + A * (Ps(k + 1) - P-(k + 1)) * A'
+        multiply(smoothedCovariance, gainTransposed, tmp);
+        for (var i = 0; i < N; i++) {
+            for (var j = i; j < N; j++) {
+                var sum = updatedCovariance[i * N + j];
+                for (var l = 0; l < N; l++) {
+                    sum += gainTransposed[l * N + i] * tmp[l * N + j];
+                }
+                previousSmoothedCovariance[i * N + j] = sum;
+                previousSmoothedCovariance[j * N + i] = sum;
+            }
+        }
+
+        var swap = smoothedCovariance;
+        smoothedCovariance = previousSmoothedCovariance;
+        previousSmoothedCovariance = swap;
+
+        swap = smoothedError;
+        smoothedError = previousSmoothedError;
+        previousSmoothedError = swap;
+    }
+
+    /**
+     * Notifies smoothed state of an epoch to the listener, if any.
+     *
+     * @param epoch  index of epoch.
+     * @param block  block containing epoch.
+     * @param offset offset of epoch within its block.
+     */
+    private void notifySmoothedState(final long epoch, final double[] block, final int offset) {
+        if (listener == null) {
+            return;
+        }
+
+        if (smoothedState == null) {
+            smoothedState = new INSLooselyCoupledKalmanState();
+        }
+        fillState(block, offset, smoothedError, smoothedCovariance, smoothedState);
+
+        listener.onSmoothedState(this, epoch, block[offset + TIMESTAMP_OFFSET], smoothedState);
+    }
+
+    /**
+     * Fills a Kalman filter state from a stored epoch, optionally applying an error state in
+     * the same way the filter applies closed-loop corrections (14.7-9).
+     *
+     * @param block      block containing epoch.
+     * @param offset     offset of epoch within its block.
+     * @param errorState error state to be applied or null.
+     * @param covariance error covariance stored in row-major order.
+     * @param result     instance where state will be stored.
+     */
+    private static void fillState(final double[] block, final int offset, final double[] errorState,
+                                  final double[] covariance, final INSLooselyCoupledKalmanState result) {
+        var c = result.getBodyToEcefCoordinateTransformationMatrix();
+        var p = result.getCovariance();
+        try {
+            if (c == null) {
+                c = new Matrix(COMPONENTS, COMPONENTS);
+            }
+            if (p == null) {
+                p = new Matrix(N, N);
+            }
+        } catch (final AlgebraException ignore) {
+            // never happens
+        }
+
+        final var a = ATTITUDE_OFFSET + offset;
+        for (var i = 0; i < COMPONENTS; i++) {
+            for (var j = 0; j < COMPONENTS; j++) {
+                var value = block[a + i * COMPONENTS + j];
+                if (errorState != null) {
+                    // (I - [psi x]) * C
+                    final var psi0 = errorState[0];
+                    final var psi1 = errorState[1];
+                    final var psi2 = errorState[2];
+                    final var c0 = block[a + j];
+                    final var c1 = block[a + COMPONENTS + j];
+                    final var c2 = block[a + 2 * COMPONENTS + j];
+                    value -= switch (i) {
+                        case 0 -> -psi2 * c1 + psi1 * c2;
+                        case 1 -> psi2 * c0 - psi0 * c2;
+                        default -> -psi1 * c0 + psi0 * c1;
+                    };
+                }
+                c.setElementAt(i, j, value);
+            }
+        }
+
+        final var v = offset + VELOCITY_OFFSET;
+        final var r = offset + POSITION_OFFSET;
+        final var ba = offset + ACCELERATION_BIAS_OFFSET;
+        final var bg = offset + GYRO_BIAS_OFFSET;
+        if (errorState != null) {
+            result.setVelocityCoordinates(block[v] - errorState[3], block[v + 1] - errorState[4],
+                    block[v + 2] - errorState[5]);
+            result.setPositionCoordinates(block[r] - errorState[6], block[r + 1] - errorState[7],
+                    block[r + 2] - errorState[8]);
+            result.setAccelerationBiasCoordinates(block[ba] + errorState[9], block[ba + 1] + errorState[10],
+                    block[ba + 2] + errorState[11]);
+            result.setGyroBiasCoordinates(block[bg] + errorState[12], block[bg + 1] + errorState[13],
+                    block[bg + 2] + errorState[14]);
+        } else {
+            result.setVelocityCoordinates(block[v], block[v + 1], block[v + 2]);
+            result.setPositionCoordinates(block[r], block[r + 1], block[r + 2]);
+            result.setAccelerationBiasCoordinates(block[ba], block[ba + 1], block[ba + 2]);
+            result.setGyroBiasCoordinates(block[bg], block[bg + 1], block[bg + 2]);
+        }
+
+        for (var i = 0; i < N; i++) {
+            for (var j = 0; j < N; j++) {
+                p.setElementAt(i, j, covariance[i * N + j]);
+            }
+        }
+
+        result.setBodyToEcefCoordinateTransformationMatrix(c);
+        result.setCovariance(p);
+    }
+
+    /**
+     * Checks whether provided epoch is currently stored.
+     *
+     * @param epoch index of epoch.
+     * @throws IllegalArgumentException if epoch is not stored.
+     */
+    private void checkStored(final long epoch) {
+        if (epoch < firstStoredEpoch || epoch >= numberOfEpochs) {
+            throw new IllegalArgumentException();
+        }
+    }
+
+    /**
+     * Gets block containing provided epoch.
+     *
+     * @param epoch index of epoch.
+     * @return block containing epoch.
+     */
+    private double[] getBlock(final long epoch) {
+        return isFixedLag() ? blocks.get(0) : blocks.get((int) (epoch / blockEpochs));
+    }
+
+    /**
+     * Gets offset of provided epoch within its block.
+     *
+     * @param epoch index of epoch.
+     * @return offset of epoch.
+     */
+    private int getOffset(final long epoch) {
+        return (int) (epoch % blockEpochs) * EPOCH_LENGTH;
+    }
+
+    /**
+     * Stores upper triangle of a symmetric matrix.
+     *
+     * @param m      matrix to be stored.
+     * @param block  destination block.
+     * @param offset offset where values will be stored.
+     */
+    private static void packSymmetric(final Matrix m, final double[] block, final int offset) {
+        var pos = offset;
+        for (var i = 0; i < N; i++) {
+            for (var j = i; j < N; j++) {
+                block[pos++] = m.getElementAt(i, j);
+            }
+        }
+    }
+
+    /**
+     * Restores a symmetric matrix from its stored upper triangle.
+     *
+     * @param block  source block.
+     * @param offset offset where values are stored.
+     * @param result array where matrix will be stored in row-major order.
+     */
+    private static void unpackSymmetric(final double[] block, final int offset, final double[] result) {
+        var pos = offset;
+        for (var i = 0; i < N; i++) {
+            for (var j = i; j < N; j++) {
+                final var value = block[pos++];
+                result[i * N + j] = value;
+                result[j * N + i] = value;
+            }
+        }
+    }
+
+    /**
+     * Restores a transition matrix from its stored rows, taking into account that remaining
+     * rows are identity.
+     *
+     * @param block  source block.
+     * @param offset offset where values are stored.
+     * @param result array where matrix will be stored in row-major order.
+     */
+    private static void unpackTransition(final double[] block, final int offset, final double[] result) {
+        System.arraycopy(block, offset, result, 0, TRANSITION_ROWS * N);
+        Arrays.fill(result, TRANSITION_ROWS * N, N * N, 0.0);
+        for (var i = TRANSITION_ROWS; i < N; i++) {
+            result[i * N + i] = 1.0;
+        }
+    }
+
+    /**
+     * Multiplies two NxN matrices stored in row-major order.
+     *
+     * @param a      1st matrix.
+     * @param b      2nd matrix.
+     * @param result array where result will be stored.
+     */
+    private static void multiply(final double[] a, final double[] b, final double[] result) {
+        for (var i = 0; i < N; i++) {
+            for (var j = 0; j < N; j++) {
+                var sum = 0.0;
+                for (var l = 0; l < N; l++) {
+                    sum += a[i * N + l] * b[l * N + j];
+                }
+                result[i * N + j] = sum;
+            }
+        }
+    }
+
+    /**
+     * Computes in place the lower triangular Cholesky factor of a symmetric positive definite
+     * NxN matrix stored in row-major order.
+     *
+     * @param m matrix to be decomposed. Lower triangle is replaced by Cholesky factor.
+     * @throws INSException if matrix is not positive definite.
+     */
+    private static void choleskyDecompose(final double[] m) throws INSException {
+        for (var j = 0; j < N; j++) {
+            var d = m[j * N + j];
+            for (var k = 0; k < j; k++) {
+                d -= m[j * N + k] * m[j * N + k];
+            }
+            if (d <= 0.0) {
+                throw new INSException();
+            }
+            d = Math.sqrt(d);
+            m[j * N + j] = d;
+
+            for (var i = j + 1; i < N; i++) {
+                var s = m[i * N + j];
+                for (var k = 0; k < j; k++) {
+                    s -= m[i * N + k] * m[j * N + k];
+                }
+                m[i * N + j] = s / d;
+            }
+        }
+    }
+
+    /**
+     * Solves in place L * L' * X = B for all columns of B, where L is a Cholesky factor.
+     *
+     * @param l Cholesky factor stored in lower triangle.
+     * @param b right-hand side NxN matrix, replaced by solution.
+     */
+    private static void choleskySolve(final double[] l, final double[] b) {
+        for (var col = 0; col < N; col++) {
+            // forward substitution
+            for (var i = 0; i < N; i++) {
+                var s = b[i * N + col];
+                for (var k = 0; k < i; k++) {
+                    s -= l[i * N + k] * b[k * N + col];
+                }
+                b[i * N + col] = s / l[i * N + i];
+            }
+            // backward substitution
+            for (var i = N - 1; i >= 0; i--) {
+                var s = b[i * N + col];
+                for (var k = i + 1; k < N; k++) {
+                    s -= l[k * N + i] * b[k * N + col];
+                }
+                b[i * N + col] = s / l[i * N + i];
+            }
+        }
+    }
+}
@@ -0,0 +1,43 @@
+/*
+ * Copyright (C) 2026 Alberto Irurueta Carro (alberto@irurueta.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.irurueta.navigation.inertial;
+
+/**
+ * Listener defining events of INSLooselyCoupledKalmanSmoother.
+ */
+public interface INSLooselyCoupledKalmanSmootherListener {
+
+    /**
+     * Called when a smoothed state has been estimated for a given epoch.
+     * Provided state instance is reused by the smoother, hence its contents must be
+     * copied if they need to be kept after this method returns.
+     *
+     * @param smoother  smoother raising the event.
+     * @param epoch     index of smoothed epoch since the smoother was created or
+     *                  reset.
+     * @param timestamp timestamp of smoothed epoch expressed in seconds.
+     * @param state     smoothed Kalman filter state.
+     */
+    void onSmoothedState(final INSLooselyCoupledKalmanSmoother smoother, final long epoch, final double timestamp,
+                         final INSLooselyCoupledKalmanState state);
+
+    /**
+     * Called when smoother is reset.
+     *
+     * @param smoother smoother raising the event.
+     */
+    void onReset(final INSLooselyCoupledKalmanSmoother smoother);
+}
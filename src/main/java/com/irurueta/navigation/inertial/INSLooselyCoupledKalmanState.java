@@ -31,8 +31,12 @@ import com.irurueta.navigation.frames.InvalidSourceAndDestinationFrameTypeExcept
 import com.irurueta.navigation.gnss.ECEFPositionAndVelocity;
 import com.irurueta.units.*;
 
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
 import java.io.Serial;
 import java.io.Serializable;
+import java.nio.ByteBuffer;
 import java.util.Objects;
 
 /**
@@ -45,6 +49,31 @@ public class INSLooselyCoupledKalmanState implements Serializable, Cloneable {
      */
     public static final int NUM_PARAMS = 15;
 
+    /**
+     * Number of bytes of the fixed-layout binary encoding of a state.
+     * Encoding contains a format identifier, presence flags, the body to ECEF coordinate
+     * transformation matrix, velocity, position, acceleration bias, gyroscope bias
+     * and the upper triangle of the covariance matrix.
+     */
+    public static final int ENCODED_LENGTH = 2 + INSBinaryCodec.MATRIX3_BYTES
+            + 12 * INSBinaryCodec.DOUBLE_BYTES + INSBinaryCodec.upperTriangleBytes(NUM_PARAMS);
+
+    /**
+     * Identifier of binary encoding format.
+     */
+    private static final byte ENCODING_FORMAT = 1;
+
+    /**
+     * Flag indicating that body to ECEF coordinate transformation matrix is present
+     * in binary encoding.
+     */
+    private static final byte ENCODED_TRANSFORMATION_FLAG = 1;
+
+    /**
+     * Flag indicating that covariance matrix is present in binary encoding.
+     */
+    private static final byte ENCODED_COVARIANCE_FLAG = 2;
+
     /**
      * Serialization version. This is used to ensure compatibility of deserialization of permanently stored serialized
      * instances.
@@ -1898,6 +1927,152 @@ public class INSLooselyCoupledKalmanState implements Serializable, Cloneable {
         }
     }
 
+    /**
+     * Encodes this state into provided buffer using a fixed-layout binary format
+     * of {@link #ENCODED_LENGTH} bytes.
+     * Only the upper triangle of the covariance matrix is stored, since it is symmetric.
+     * Values are written using the byte order of provided buffer, which is advanced
+     * by the number of written bytes.
+     *
+     * @param buffer buffer where state will be written.
+     * @throws java.nio.BufferOverflowException if buffer has less than
+     *                                          {@link #ENCODED_LENGTH} remaining bytes.
+     * @throws java.nio.ReadOnlyBufferException if buffer is read-only.
+     */
+    public void encode(final ByteBuffer buffer) {
+        INSBinaryCodec.checkWritable(buffer, ENCODED_LENGTH);
+
+        var flags = 0;
+        if (bodyToEcefCoordinateTransformationMatrix != null) {
+            flags |= ENCODED_TRANSFORMATION_FLAG;
+        }
+        if (covariance != null) {
+            flags |= ENCODED_COVARIANCE_FLAG;
+        }
+
+        buffer.put(ENCODING_FORMAT);
+        buffer.put((byte) flags);
+        INSBinaryCodec.putMatrix(buffer, bodyToEcefCoordinateTransformationMatrix, 9);
+        buffer.putDouble(vx);
+        buffer.putDouble(vy);
+        buffer.putDouble(vz);
+        buffer.putDouble(x);
+        buffer.putDouble(y);
+        buffer.putDouble(z);
+        buffer.putDouble(accelerationBiasX);
+        buffer.putDouble(accelerationBiasY);
+        buffer.putDouble(accelerationBiasZ);
+        buffer.putDouble(gyroBiasX);
+        buffer.putDouble(gyroBiasY);
+        buffer.putDouble(gyroBiasZ);
+        INSBinaryCodec.putUpperTriangle(buffer, covariance, NUM_PARAMS);
+    }
+
+    /**
+     * Encodes this state into provided data output using a fixed-layout big-endian
+     * binary format of {@link #ENCODED_LENGTH} bytes.
+     *
+     * @param output data output where state will be written.
+     * @throws IOException if an I/O error occurs.
+     */
+    public void encode(final DataOutput output) throws IOException {
+        INSBinaryCodec.write(output, ENCODED_LENGTH, this::encode);
+    }
+
+    /**
+     * Encodes this state using a fixed-layout big-endian binary format.
+     *
+     * @return array of {@link #ENCODED_LENGTH} bytes containing encoded state.
+     */
+    public byte[] encode() {
+        final var result = new byte[ENCODED_LENGTH];
+        encode(ByteBuffer.wrap(result));
+        return result;
+    }
+
+    /**
+     * Decodes a state encoded with {@link #encode(ByteBuffer)} and stores it into
+     * this instance.
+     * Existing matrices of this instance are reused when possible.
+     * Values are read using the byte order of provided buffer, which is advanced by
+     * {@link #ENCODED_LENGTH} bytes.
+     *
+     * @param buffer buffer where state will be read from.
+     * @throws java.nio.BufferUnderflowException if buffer has less than
+     *                                           {@link #ENCODED_LENGTH} remaining bytes.
+     * @throws IllegalArgumentException          if buffer does not contain an encoded state.
+     */
+    public void decode(final ByteBuffer buffer) {
+        INSBinaryCodec.checkReadable(buffer, ENCODED_LENGTH);
+
+        final var start = buffer.position();
+        final var format = buffer.get();
+        final var flags = buffer.get();
+        if (format != ENCODING_FORMAT
+                || (flags & ~(ENCODED_TRANSFORMATION_FLAG | ENCODED_COVARIANCE_FLAG)) != 0) {
+            buffer.position(start);
+            throw new IllegalArgumentException();
+        }
+
+        if ((flags & ENCODED_TRANSFORMATION_FLAG) != 0) {
+            bodyToEcefCoordinateTransformationMatrix = INSBinaryCodec.reuseOrCreate(
+                    bodyToEcefCoordinateTransformationMatrix, CoordinateTransformation.ROWS,
+                    CoordinateTransformation.COLS);
+            INSBinaryCodec.getMatrix(buffer, bodyToEcefCoordinateTransformationMatrix);
+        } else {
+            bodyToEcefCoordinateTransformationMatrix = null;
+            INSBinaryCodec.skip(buffer, INSBinaryCodec.MATRIX3_BYTES);
+        }
+
+        vx = buffer.getDouble();
+        vy = buffer.getDouble();
+        vz = buffer.getDouble();
+        x = buffer.getDouble();
+        y = buffer.getDouble();
+        z = buffer.getDouble();
+        accelerationBiasX = buffer.getDouble();
+        accelerationBiasY = buffer.getDouble();
+        accelerationBiasZ = buffer.getDouble();
+        gyroBiasX = buffer.getDouble();
+        gyroBiasY = buffer.getDouble();
+        gyroBiasZ = buffer.getDouble();
+
+        if ((flags & ENCODED_COVARIANCE_FLAG) != 0) {
+            covariance = INSBinaryCodec.reuseOrCreate(covariance, NUM_PARAMS, NUM_PARAMS);
+            INSBinaryCodec.getUpperTriangle(buffer, covariance);
+        } else {
+            covariance = null;
+            INSBinaryCodec.skip(buffer, INSBinaryCodec.upperTriangleBytes(NUM_PARAMS));
+        }
+    }
+
+    /**
+     * Decodes a state encoded with {@link #encode(DataOutput)} and stores it into
+     * this instance.
+     *
+     * @param input data input where state will be read from.
+     * @throws IOException              if an I/O error occurs.
+     * @throws IllegalArgumentException if input does not contain an encoded state.
+     */
+    public void decode(final DataInput input) throws IOException {
+        INSBinaryCodec.read(input, ENCODED_LENGTH, this::decode);
+    }
+
+    /**
+     * Decodes a state encoded with {@link #encode(ByteBuffer)}.
+     *
+     * @param buffer buffer where state will be read from.
+     * @return decoded state.
+     * @throws java.nio.BufferUnderflowException if buffer has less than
+     *                                           {@link #ENCODED_LENGTH} remaining bytes.
+     * @throws IllegalArgumentException          if buffer does not contain an encoded state.
+     */
+    public static INSLooselyCoupledKalmanState fromEncoded(final ByteBuffer buffer) {
+        final var result = new INSLooselyCoupledKalmanState();
+        result.decode(buffer);
+        return result;
+    }
+
     /**
      * Computes and returns hash code for this instance. Hash codes are almost unique
      * values that are useful for fast classification and storage of objects in collections.
@@ -0,0 +1,198 @@
+/*
+ * Copyright (C) 2026 Alberto Irurueta Carro (alberto@irurueta.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.irurueta.navigation.inertial;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * Bounded lock-free ring buffer handing off items from a single producer thread to a
+ * single consumer thread.
+ * Slots are preallocated mutable instances that are reused, hence items are handed off
+ * without allocating: the producer claims the next free slot, fills it and publishes it,
+ * and the consumer peeks the oldest published slot, reads it and releases it.
+ * Published slots become visible to the consumer through release/acquire ordering of
+ * head and tail positions, and each side caches the last position of the other side to
+ * avoid reading shared memory when not needed.
+ * Claiming and publishing must only be done by the producer thread, while peeking and
+ * releasing must only be done by the consumer thread.
+ *
+ * @param <T> type of slots.
+ */
+class INSSpscRingBuffer<T> {
+
+    /**
+     * Minimum capacity.
+     */
+    static final int MIN_CAPACITY = 1;
+
+    /**
+     * Maximum capacity.
+     */
+    static final int MAX_CAPACITY = 1 << 30;
+
+    /**
+     * Preallocated slots.
+     */
+    private final T[] slots;
+
+    /**
+     * Mask to convert positions into slot indices.
+     */
+    private final int mask;
+
+    /**
+     * Position of next slot to be released by the consumer.
+     */
+    private final AtomicLong head = new AtomicLong();
+
+    /**
+     * Position of next slot to be published by the producer.
+     */
+    private final AtomicLong tail = new AtomicLong();
+
+    /**
+     * Last head position read by the producer.
+     * Only accessed from producer thread.
+     */
+    private long cachedHead;
+
+    /**
+     * Last tail position read by the consumer.
+     * Only accessed from consumer thread.
+     */
+    private long cachedTail;
+
+    /**
+     * Constructor.
+     *
+     * @param capacity minimum number of slots, which is rounded up to the next power of two.
+     * @param factory  creates the instances used as slots.
+     * @throws IllegalArgumentException if capacity is less than {@link #MIN_CAPACITY} or
+     *                                  greater than {@link #MAX_CAPACITY}.
+     */
+    @SuppressWarnings("unchecked")
+    INSSpscRingBuffer(final int capacity, final Supplier<T> factory) {
+        if (capacity < MIN_CAPACITY || capacity > MAX_CAPACITY) {
+            throw new IllegalArgumentException();
+        }
+
+        final var length = Integer.highestOneBit(capacity) == capacity ? capacity
+                : Integer.highestOneBit(capacity) << 1;
+        slots = (T[]) new Object[length];
+        for (var i = 0; i < length; i++) {
+            slots[i] = factory.get();
+        }
+        mask = length - 1;
+    }
+
+    /**
+     * Gets number of slots.
+     *
+     * @return number of slots.
+     */
+    int getCapacity() {
+        return slots.length;
+    }
+
+    /**
+     * Gets number of published slots not released yet.
+     * Result is only an estimation when called while producer or consumer are active.
+     *
+     * @return number of pending slots.
+     */
+    int size() {
+        final var h = head.get();
+        return (int) (tail.get() - h);
+    }
+
+    /**
+     * Gets number of slots published since this buffer was created.
+     *
+     * @return number of published slots.
+     */
+    long getPublishedCount() {
+        return tail.get();
+    }
+
+    /**
+     * Gets number of slots released since this buffer was created.
+     *
+     * @return number of released slots.
+     */
+    long getReleasedCount() {
+        return head.get();
+    }
+
+    /**
+     * Indicates whether there are no published slots pending to be released.
+     * Result is only an estimation when called while producer or consumer are active.
+     *
+     * @return true if empty, false otherwise.
+     */
+    boolean isEmpty() {
+        return size() == 0;
+    }
+
+    /**
+     * Claims next free slot to be filled by the producer.
+     * Claimed slot is not visible to the consumer until it is published, and claiming
+     * again before publishing returns the same slot.
+     *
+     * @return slot to be filled or null if buffer is full.
+     */
+    T claim() {
+        final var t = tail.getPlain();
+        if (t - cachedHead >= slots.length) {
+            cachedHead = head.getAcquire();
+            if (t - cachedHead >= slots.length) {
+                return null;
+            }
+        }
+        return slots[(int) t & mask];
+    }
+
+    /**
+     * Publishes last claimed slot, making it visible to the consumer.
+     */
+    void publish() {
+        tail.setRelease(tail.getPlain() + 1);
+    }
+
+    /**
+     * Gets oldest published slot without releasing it.
+     *
+     * @return oldest published slot or null if there are none.
+     */
+    T peek() {
+        final var h = head.getPlain();
+        if (h == cachedTail) {
+            cachedTail = tail.getAcquire();
+            if (h == cachedTail) {
+                return null;
+            }
+        }
+        return slots[(int) h & mask];
+    }
+
+    /**
+     * Releases oldest published slot once the consumer is done with it, so that it can be
+     * claimed again by the producer.
+     */
+    void release() {
+        head.setRelease(head.getPlain() + 1);
+    }
+}
@@ -85,6 +85,12 @@ public class INSTightlyCoupledKalmanConfig implements Serializable, Cloneable {
      */
     private double rangeRateSD;
 
+    /**
+     * Order of the state transition matrix and system noise covariance used to
+     * propagate the error covariance.
+     */
+    private INSKalmanTransitionOrder transitionOrder = INSKalmanTransitionOrder.FIRST_ORDER;
+
     /**
      * Constructor.
      */
@@ -446,6 +452,34 @@ public class INSTightlyCoupledKalmanConfig implements Serializable, Cloneable {
         setRangeRateSD(rangeRateSD);
     }
 
+    /**
+     * Gets order of the state transition matrix and system noise covariance used to
+     * propagate the error covariance.
+     * First order is the cheapest, but requires small propagation intervals to keep
+     * covariance accurate. Second order and exponential allow larger propagation
+     * intervals with equal accuracy, at a larger computational cost per epoch.
+     * By default, first order is used.
+     *
+     * @return order of transition matrix.
+     */
+    public INSKalmanTransitionOrder getTransitionOrder() {
+        return transitionOrder;
+    }
+
+    /**
+     * Sets order of the state transition matrix and system noise covariance used to
+     * propagate the error covariance.
+     *
+     * @param transitionOrder order of transition matrix.
+     * @throws IllegalArgumentException if provided value is null.
+     */
+    public void setTransitionOrder(final INSKalmanTransitionOrder transitionOrder) {
+        if (transitionOrder == null) {
+            throw new IllegalArgumentException();
+        }
+        this.transitionOrder = transitionOrder;
+    }
+
     /**
      * Copies this instance data into provided instance.
      *
@@ -460,6 +494,7 @@ public class INSTightlyCoupledKalmanConfig implements Serializable, Cloneable {
         output.clockPhasePSD = clockPhasePSD;
         output.pseudoRangeSD = pseudoRangeSD;
         output.rangeRateSD = rangeRateSD;
+        output.transitionOrder = transitionOrder;
     }
 
     /**
@@ -476,6 +511,7 @@ public class INSTightlyCoupledKalmanConfig implements Serializable, Cloneable {
         clockPhasePSD = input.clockPhasePSD;
         pseudoRangeSD = input.pseudoRangeSD;
         rangeRateSD = input.rangeRateSD;
+        transitionOrder = input.transitionOrder;
     }
 
     /**
@@ -487,7 +523,7 @@ public class INSTightlyCoupledKalmanConfig implements Serializable, Cloneable {
     @Override
     public int hashCode() {
         return Objects.hash(gyroNoisePSD, accelerometerNoisePSD, accelerometerBiasPSD, gyroBiasPSD, clockFrequencyPSD,
-                clockPhasePSD, pseudoRangeSD, rangeRateSD);
+                clockPhasePSD, pseudoRangeSD, rangeRateSD, transitionOrder);
     }
 
     /**
@@ -540,7 +576,8 @@ public class INSTightlyCoupledKalmanConfig implements Serializable, Cloneable {
                 && Math.abs(clockFrequencyPSD - other.clockFrequencyPSD) <= threshold
                 && Math.abs(clockPhasePSD - other.clockPhasePSD) <= threshold
                 && Math.abs(pseudoRangeSD - other.pseudoRangeSD) <= threshold
-                && Math.abs(rangeRateSD - other.rangeRateSD) <= threshold;
+                && Math.abs(rangeRateSD - other.rangeRateSD) <= threshold
+                && transitionOrder == other.transitionOrder;
     }
 
     /**
@@ -26,7 +26,6 @@ import com.irurueta.navigation.frames.NEDVelocity;
 import com.irurueta.navigation.frames.converters.ECEFtoNEDPositionVelocityConverter;
 import com.irurueta.navigation.geodesic.Constants;
 import com.irurueta.navigation.gnss.GNSSMeasurement;
-import com.irurueta.navigation.inertial.estimators.ECEFGravityEstimator;
 import com.irurueta.units.Angle;
 import com.irurueta.units.AngleConverter;
 import com.irurueta.units.AngleUnit;
@@ -34,6 +33,7 @@ import com.irurueta.units.Time;
 import com.irurueta.units.TimeConverter;
 import com.irurueta.units.TimeUnit;
 
+import java.util.Arrays;
 import java.util.Collection;
 
 /**
@@ -101,145 +101,64 @@ public class INSTightlyCoupledKalmanEpochEstimator {
             final INSTightlyCoupledKalmanState previousState, final double fx, final double fy, final double fz,
             final double previousLatitude, final INSTightlyCoupledKalmanConfig config,
             final INSTightlyCoupledKalmanState result) throws AlgebraException {
+        estimate(measurements, propagationInterval, previousState, fx, fy, fz, previousLatitude, config, result,
+                null);
+    }
 
-        // Skew symmetric matrix of Earth rate
-        final var omegaIe = Utils.skewMatrix(new double[]{0.0, 0.0, EARTH_ROTATION_RATE});
-
-        // SYSTEM PROPAGATION PHASE
-
-        // 1. Determine transition matrix using (14.50) (first-order approx)
-        final var phiMatrix = Matrix.identity(
-                INSTightlyCoupledKalmanState.NUM_PARAMS, INSTightlyCoupledKalmanState.NUM_PARAMS);
-
-        final var tmp1 = omegaIe.multiplyByScalarAndReturnNew(propagationInterval);
-        final var tmp2 = phiMatrix.getSubmatrix(0, 0, 2, 2);
-        tmp2.subtract(tmp1);
-
-        phiMatrix.setSubmatrix(0, 0, 2, 2, tmp2);
-
-        final var estCbeOld = previousState.getBodyToEcefCoordinateTransformationMatrix();
-        tmp1.copyFrom(estCbeOld);
-        tmp1.multiplyByScalar(propagationInterval);
-
-        phiMatrix.setSubmatrix(0, 12, 2, 14, tmp1);
-        phiMatrix.setSubmatrix(3, 9, 5, 11, tmp1);
-
-        final var measFibb = new Matrix(BodyKinematics.COMPONENTS, 1);
-        measFibb.setElementAtIndex(0, fx);
-        measFibb.setElementAtIndex(1, fy);
-        measFibb.setElementAtIndex(2, fz);
-
-        estCbeOld.multiply(measFibb, tmp1);
+    /**
+     * Estimates the update of Kalman filter state and covariance matrix for a single
+     * epoch, filling epoch metrics if required.
+     *
+     * @param measurements        satellite measurements data.
+     * @param propagationInterval propagation interval expressed in seconds (s).
+     * @param previousState       previous Kalman filter state.
+     * @param fx                  measured specific force resolved along body frame
+     *                            x-axis and expressed in meters per squared
+     *                            second (m/s^2).
+     * @param fy                  measured specific force resolved along body frame
+     *                            y-axis and expressed in meters per squared
+     *                            second (m/s^2).
+     * @param fz                  measured specific force resolved along body frame
+     *                            z-axis and expressed in meters per squared
+     *                            second (m/s^2).
+     * @param previousLatitude    previous latitude solution expressed in radians (rad).
+     * @param config              Tightly Coupled Kalman filter configuration.
+     * @param result              instance where new state of Kalman filter will be
+     *                            stored.
+     * @param metrics             instance where metrics of epoch will be stored, or
+     *                            null if not needed.
+     * @throws AlgebraException if there are numerical instabilities.
+     */
+    static void estimate(
+            final Collection<GNSSMeasurement> measurements, final double propagationInterval,
+            final INSTightlyCoupledKalmanState previousState, final double fx, final double fy, final double fz,
+            final double previousLatitude, final INSTightlyCoupledKalmanConfig config,
+            final INSTightlyCoupledKalmanState result, final INSKalmanEpochMetrics metrics)
+            throws AlgebraException {
 
-        Utils.skewMatrix(tmp1, tmp2);
-        tmp2.multiplyByScalar(-propagationInterval);
+        final var startNanos = metrics != null ? System.nanoTime() : 0L;
 
-        phiMatrix.setSubmatrix(3, 0, 5, 2, tmp2);
+        // SYSTEM PROPAGATION PHASE
+        final var xEstPropagated = new Matrix(INSTightlyCoupledKalmanState.NUM_PARAMS, 1);
+        final var pMatrixPropagated = propagate(propagationInterval, previousState, fx, fy, fz,
+                previousLatitude, config, xEstPropagated);
 
-        phiMatrix.getSubmatrix(3, 3, 5, 5, tmp1);
-        tmp2.copyFrom(omegaIe);
-        tmp2.multiplyByScalar(2.0 * propagationInterval);
-        tmp1.subtract(tmp2);
-        phiMatrix.setSubmatrix(3, 3, 5, 5, tmp1);
+        final var propagatedNanos = metrics != null ? System.nanoTime() : 0L;
 
-        final var sinPrevLat = Math.sin(previousLatitude);
-        final var cosPrevLat = Math.cos(previousLatitude);
-        final var sinPrevLat2 = sinPrevLat * sinPrevLat;
-        final var cosPrevLat2 = cosPrevLat * cosPrevLat;
+        // MEASUREMENT UPDATE PHASE
 
-        // From (2.137)
-        final var geocentricRadius = EARTH_EQUATORIAL_RADIUS_WGS84
-                / Math.sqrt(1.0 - Math.pow(EARTH_ECCENTRICITY * sinPrevLat, 2.0))
-                * Math.sqrt(cosPrevLat2 + Math.pow(1.0 - EARTH_ECCENTRICITY * EARTH_ECCENTRICITY, 2.0) * sinPrevLat2);
+        // Skew symmetric matrix of Earth rate
+        final var omegaIe = Utils.skewMatrix(new double[]{0.0, 0.0, EARTH_ROTATION_RATE});
 
         final var prevX = previousState.getX();
         final var prevY = previousState.getY();
         final var prevZ = previousState.getZ();
-        final var gravity = ECEFGravityEstimator.estimateGravityAndReturnNew(prevX, prevY, prevZ);
-
-        final var previousPositionNorm = Math.sqrt(prevX * prevX + prevY * prevY + prevZ * prevZ);
 
-        final var estRebeOld = new Matrix(com.irurueta.navigation.frames.ECEFPosition.COMPONENTS, 1);
+        final var estRebeOld = new Matrix(ECEFPosition.COMPONENTS, 1);
         estRebeOld.setElementAtIndex(0, prevX);
         estRebeOld.setElementAtIndex(1, prevY);
         estRebeOld.setElementAtIndex(2, prevZ);
 
-        final var g = gravity.asMatrix();
-        g.multiplyByScalar(-2.0 * propagationInterval / geocentricRadius);
-
-        final var estRebeOldTrans = estRebeOld.transposeAndReturnNew();
-        estRebeOldTrans.multiplyByScalar(1.0 / previousPositionNorm);
-
-        g.multiply(estRebeOldTrans, tmp1);
-
-        phiMatrix.setSubmatrix(3, 6, 5, 8, tmp1);
-
-        for (var i = 0; i < ECEFPosition.COMPONENTS; i++) {
-            phiMatrix.setElementAt(6 + i, 3 + i, propagationInterval);
-        }
-
-        phiMatrix.setElementAt(15, 16, propagationInterval);
-
-        // 2. Determine approximate system noise covariance matrix using (14.82)
-        final var qPrimeMatrix = new Matrix(
-                INSTightlyCoupledKalmanState.NUM_PARAMS, INSTightlyCoupledKalmanState.NUM_PARAMS);
-
-        final var gyroNoisePSD = config.getGyroNoisePSD();
-        final var gyroNoiseValue = gyroNoisePSD * propagationInterval;
-        for (var i = 0; i < 3; i++) {
-            qPrimeMatrix.setElementAt(i, i, gyroNoiseValue);
-        }
-
-        final var accelNoisePSD = config.getAccelerometerNoisePSD();
-        final var accelNoiseValue = accelNoisePSD * propagationInterval;
-        for (var i = 3; i < 6; i++) {
-            qPrimeMatrix.setElementAt(i, i, accelNoiseValue);
-        }
-
-        final var accelBiasPSD = config.getAccelerometerBiasPSD();
-        final var accelBiasValue = accelBiasPSD * propagationInterval;
-        for (var i = 9; i < 12; i++) {
-            qPrimeMatrix.setElementAt(i, i, accelBiasValue);
-        }
-
-        final var gyroBiasPSD = config.getGyroBiasPSD();
-        final var gyroBiasValue = gyroBiasPSD * propagationInterval;
-        for (var i = 12; i < 15; i++) {
-            qPrimeMatrix.setElementAt(i, i, gyroBiasValue);
-        }
-
-        final var clockPhasePSD = config.getClockPhasePSD();
-        final var clockPhaseValue = clockPhasePSD * propagationInterval;
-        qPrimeMatrix.setElementAt(15, 15, clockPhaseValue);
-
-        final var clockFreqPSD = config.getClockFrequencyPSD();
-        final var clockFreqValue = clockFreqPSD * propagationInterval;
-        qPrimeMatrix.setElementAt(16, 16, clockFreqValue);
-
-        // 3. Propagate state estimates using (3.14) noting that only the clock
-        // states are non-zero due to closed-loop correction
-        final var prevClockOffset = previousState.getReceiverClockOffset();
-        final var prevClockDrift = previousState.getReceiverClockDrift();
-
-        final var xEstPropagated = new Matrix(INSTightlyCoupledKalmanState.NUM_PARAMS, 1);
-        xEstPropagated.setElementAtIndex(15, prevClockOffset + prevClockDrift * propagationInterval);
-        xEstPropagated.setElementAtIndex(16, prevClockDrift);
-
-        // 4. Propagate state estimation error covariance matrix using (3.46)
-        final var pMatrixOld = previousState.getCovariance();
-
-        qPrimeMatrix.multiplyByScalar(0.5);
-
-        final var tmp3 = pMatrixOld.addAndReturnNew(qPrimeMatrix);
-        final var pMatrixPropagated = phiMatrix.multiplyAndReturnNew(tmp3);
-
-        phiMatrix.transpose();
-        pMatrixPropagated.multiply(phiMatrix);
-
-        pMatrixPropagated.add(qPrimeMatrix);
-
-        // MEASUREMENT UPDATE PHASE
-
         final var numberOfMeasurements = measurements.size();
         final var uAseT = new Matrix(numberOfMeasurements, 3);
         final var predMeas = new Matrix(numberOfMeasurements, 2);
@@ -323,39 +242,6 @@ public class INSTightlyCoupledKalmanEpochEstimator {
             j++;
         }
 
-        // 5. Set-up measurement matrix using (14.126)
-        final var h = new Matrix(2 * numberOfMeasurements, INSTightlyCoupledKalmanState.NUM_PARAMS);
-        for (int j1 = 0, j2 = numberOfMeasurements; j1 < numberOfMeasurements; j1++, j2++) {
-            for (int i1 = 0, i2 = 6, i3 = 3; i1 < CoordinateTransformation.ROWS; i1++, i2++, i3++) {
-                final var value = uAseT.getElementAt(j1, i1);
-
-                h.setElementAt(j1, i2, value);
-                h.setElementAt(j2, i3, value);
-            }
-            h.setElementAt(j1, 15, 1.0);
-            h.setElementAt(j2, 16, 1.0);
-        }
-
-        // 6. Set-up measurement noise covariance matrix assuming all measurements are independent
-        // and have equal variance for a given measurement type.
-        final var pseudoRangeSD = config.getPseudoRangeSD();
-        final var pseudoRangeSD2 = pseudoRangeSD * pseudoRangeSD;
-        final var rangeRateSD = config.getRangeRateSD();
-        final var rangeRateSD2 = rangeRateSD * rangeRateSD;
-        final var r = new Matrix(2 * numberOfMeasurements, 2 * numberOfMeasurements);
-        for (int i1 = 0, i2 = numberOfMeasurements; i1 < numberOfMeasurements; i1++, i2++) {
-            r.setElementAt(i1, i1, pseudoRangeSD2);
-            r.setElementAt(i2, i2, rangeRateSD2);
-        }
-
-        // 7. Calculate Kalman gain using (3.21)
-        final var hTransposed = h.transposeAndReturnNew();
-        final var tmp8b = h.multiplyAndReturnNew(pMatrixPropagated.multiplyAndReturnNew(hTransposed));
-        tmp8b.add(r);
-        final var tmp9b = Utils.inverse(tmp8b);
-        final var k = pMatrixPropagated.multiplyAndReturnNew(hTransposed);
-        k.multiply(tmp9b);
-
         // 8. Formulate measurement innovations using (14.119)
         final var deltaZ = new Matrix(2 * numberOfMeasurements, 1);
         var i1 = 0;
@@ -368,65 +254,13 @@ public class INSTightlyCoupledKalmanEpochEstimator {
             i2++;
         }
 
-        // 9. Update state estimates using (3.24)
-        xEstPropagated.add(k.multiplyAndReturnNew(deltaZ));
-
-        // xEstPropagated now contains updated state
+        update(numberOfMeasurements, uAseT, deltaZ, xEstPropagated, pMatrixPropagated, previousState, config,
+                result, metrics);
 
-        // 10. Update state estimation error covariance matrix using (3.25)
-        Matrix updatedCovariance = result.getCovariance();
-        if (updatedCovariance == null || updatedCovariance.getRows() != INSTightlyCoupledKalmanState.NUM_PARAMS
-                || updatedCovariance.getColumns() != INSTightlyCoupledKalmanState.NUM_PARAMS) {
-            updatedCovariance = Matrix.identity(
-                    INSTightlyCoupledKalmanState.NUM_PARAMS, INSTightlyCoupledKalmanState.NUM_PARAMS);
-        } else {
-            Matrix.identity(updatedCovariance);
+        if (metrics != null) {
+            metrics.propagationNanos = propagatedNanos - startNanos;
+            metrics.updateNanos = System.nanoTime() - propagatedNanos;
         }
-        k.multiply(h);
-        updatedCovariance.subtract(k);
-        updatedCovariance.multiply(pMatrixPropagated);
-
-        // CLOSED-LOOP CORRECTION
-
-        // Correct attitude, velocity, and position using (14.7-9)
-
-        final var estCbeNew = Matrix.identity(CoordinateTransformation.ROWS, CoordinateTransformation.COLS);
-
-        xEstPropagated.getSubmatrix(0, 0, 2, 0, tmp1b);
-        estCbeNew.subtract(Utils.skewMatrix(tmp1b));
-        estCbeNew.multiply(estCbeOld);
-
-
-        result.setBodyToEcefCoordinateTransformationMatrix(estCbeNew);
-        result.setVelocityCoordinates(
-                prevVx - xEstPropagated.getElementAtIndex(3),
-                prevVy - xEstPropagated.getElementAtIndex(4),
-                prevVz - xEstPropagated.getElementAtIndex(5));
-        result.setPositionCoordinates(
-                prevX - xEstPropagated.getElementAtIndex(6),
-                prevY - xEstPropagated.getElementAtIndex(7),
-                prevZ - xEstPropagated.getElementAtIndex(8));
-        result.setCovariance(updatedCovariance);
-
-        // Update IMU bias and GNSS receiver clock estimates
-        final var prevAccelBiasX = previousState.getAccelerationBiasX();
-        final var prevAccelBiasY = previousState.getAccelerationBiasY();
-        final var prevAccelBiasZ = previousState.getAccelerationBiasZ();
-        final var prevGyroBiasX = previousState.getGyroBiasX();
-        final var prevGyroBiasY = previousState.getGyroBiasY();
-        final var prevGyroBiasZ = previousState.getGyroBiasZ();
-
-        result.setAccelerationBiasCoordinates(
-                prevAccelBiasX + xEstPropagated.getElementAtIndex(9),
-                prevAccelBiasY + xEstPropagated.getElementAtIndex(10),
-                prevAccelBiasZ + xEstPropagated.getElementAtIndex(11));
-        result.setGyroBiasCoordinates(
-                prevGyroBiasX + xEstPropagated.getElementAtIndex(12),
-                prevGyroBiasY + xEstPropagated.getElementAtIndex(13),
-                prevGyroBiasZ + xEstPropagated.getElementAtIndex(14));
-
-        result.setReceiverClockOffset(xEstPropagated.getElementAtIndex(15));
-        result.setReceiverClockDrift(xEstPropagated.getElementAtIndex(16));
     }
 
     /**
@@ -459,6 +293,113 @@ public class INSTightlyCoupledKalmanEpochEstimator {
         return result;
     }
 
+    /**
+     * Estimates the update of Kalman filter state and covariance matrix for a single
+     * epoch using satellite measurements provided as a primitive array batch.
+     * Satellite geometry is predicted using provided cache, which keeps per satellite
+     * data across epochs and avoids allocation of temporary matrices.
+     *
+     * @param satelliteIds         identifiers of satellites of each measurement.
+     * @param measurements         measurement batch, where each measurement takes
+     *                             {@link INSTightlyCoupledKalmanGeometryCache#MEASUREMENT_STRIDE}
+     *                             consecutive values.
+     * @param numberOfMeasurements number of measurements within batch.
+     * @param cache                satellite geometry cache.
+     * @param propagationInterval  propagation interval expressed in seconds (s).
+     * @param previousState        previous Kalman filter state.
+     * @param fx                   measured specific force resolved along body frame
+     *                             x-axis and expressed in meters per squared
+     *                             second (m/s^2).
+     * @param fy                   measured specific force resolved along body frame
+     *                             y-axis and expressed in meters per squared
+     *                             second (m/s^2).
+     * @param fz                   measured specific force resolved along body frame
+     *                             z-axis and expressed in meters per squared
+     *                             second (m/s^2).
+     * @param previousLatitude     previous latitude solution expressed in radians (rad).
+     * @param config               Tightly Coupled Kalman filter configuration.
+     * @param result               instance where new state of Kalman filter will be
+     *                             stored.
+     * @throws AlgebraException         if there are numerical instabilities.
+     * @throws IllegalArgumentException if number of measurements exceeds maximum
+     *                                  number of satellites of cache, if arrays are too
+     *                                  short or if a satellite identifier is repeated.
+     */
+    public static void estimate(
+            final int[] satelliteIds, final double[] measurements, final int numberOfMeasurements,
+            final INSTightlyCoupledKalmanGeometryCache cache, final double propagationInterval,
+            final INSTightlyCoupledKalmanState previousState, final double fx, final double fy, final double fz,
+            final double previousLatitude, final INSTightlyCoupledKalmanConfig config,
+            final INSTightlyCoupledKalmanState result) throws AlgebraException {
+
+        // SYSTEM PROPAGATION PHASE
+        final var xEstPropagated = new Matrix(INSTightlyCoupledKalmanState.NUM_PARAMS, 1);
+        final var pMatrixPropagated = propagate(propagationInterval, previousState, fx, fy, fz,
+                previousLatitude, config, xEstPropagated);
+
+        // MEASUREMENT UPDATE PHASE
+        cache.predict(satelliteIds, measurements, numberOfMeasurements,
+                previousState.getX(), previousState.getY(), previousState.getZ(),
+                previousState.getVx(), previousState.getVy(), previousState.getVz(),
+                xEstPropagated.getElementAtIndex(15), xEstPropagated.getElementAtIndex(16));
+        final var predMeas = cache.getPredictions();
+
+        // 8. Formulate measurement innovations using (14.119)
+        final var deltaZ = new Matrix(2 * numberOfMeasurements, 1);
+        for (int i1 = 0, i2 = numberOfMeasurements; i1 < numberOfMeasurements; i1++, i2++) {
+            final var offset = i1 * INSTightlyCoupledKalmanGeometryCache.MEASUREMENT_STRIDE;
+            final var pseudoRange = measurements[offset + INSTightlyCoupledKalmanGeometryCache.PSEUDO_RANGE_OFFSET];
+            final var pseudoRate = measurements[offset + INSTightlyCoupledKalmanGeometryCache.PSEUDO_RATE_OFFSET];
+            deltaZ.setElementAtIndex(i1, pseudoRange - predMeas.getElementAt(i1, 0));
+            deltaZ.setElementAtIndex(i2, pseudoRate - predMeas.getElementAt(i1, 1));
+        }
+
+        update(numberOfMeasurements, cache.getLineOfSight(), deltaZ, xEstPropagated, pMatrixPropagated,
+                previousState, config, result, null);
+    }
+
+    /**
+     * Estimates the update of Kalman filter state and covariance matrix for a single
+     * epoch using satellite measurements provided as a primitive array batch.
+     * Satellite geometry is predicted using provided cache, which keeps per satellite
+     * data across epochs and avoids allocation of temporary matrices.
+     *
+     * @param satelliteIds         identifiers of satellites of each measurement.
+     * @param measurements         measurement batch, where each measurement takes
+     *                             {@link INSTightlyCoupledKalmanGeometryCache#MEASUREMENT_STRIDE}
+     *                             consecutive values.
+     * @param numberOfMeasurements number of measurements within batch.
+     * @param cache                satellite geometry cache.
+     * @param propagationInterval  propagation interval expressed in seconds (s).
+     * @param previousState        previous Kalman filter state.
+     * @param fx                   measured specific force resolved along body frame
+     *                             x-axis and expressed in meters per squared
+     *                             second (m/s^2).
+     * @param fy                   measured specific force resolved along body frame
+     *                             y-axis and expressed in meters per squared
+     *                             second (m/s^2).
+     * @param fz                   measured specific force resolved along body frame
+     *                             z-axis and expressed in meters per squared
+     *                             second (m/s^2).
+     * @param previousLatitude     previous latitude solution expressed in radians (rad).
+     * @param config               Tightly Coupled Kalman filter configuration.
+     * @return new state of Kalman filter.
+     * @throws AlgebraException         if there are numerical instabilities.
+     * @throws IllegalArgumentException if number of measurements exceeds maximum
+     *                                  number of satellites of cache, if arrays are too
+     *                                  short or if a satellite identifier is repeated.
+     */
+    public static INSTightlyCoupledKalmanState estimate(
+            final int[] satelliteIds, final double[] measurements, final int numberOfMeasurements,
+            final INSTightlyCoupledKalmanGeometryCache cache, final double propagationInterval,
+            final INSTightlyCoupledKalmanState previousState, final double fx, final double fy, final double fz,
+            final double previousLatitude, final INSTightlyCoupledKalmanConfig config) throws AlgebraException {
+        final var result = new INSTightlyCoupledKalmanState();
+        estimate(satelliteIds, measurements, numberOfMeasurements, cache, propagationInterval, previousState,
+                fx, fy, fz, previousLatitude, config, result);
+        return result;
+    }
+
     /**
      * Estimates the update of Kalman filter state and covariance matrix for a single
      * epoch.
@@ -544,6 +485,37 @@ public class INSTightlyCoupledKalmanEpochEstimator {
             final Collection<GNSSMeasurement> measurements, final double propagationInterval,
             final INSTightlyCoupledKalmanState previousState, final double fx, final double fy, final double fz,
             final INSTightlyCoupledKalmanConfig config, final INSTightlyCoupledKalmanState result) throws AlgebraException {
+        estimate(measurements, propagationInterval, previousState, fx, fy, fz, config, result, null);
+    }
+
+    /**
+     * Estimates the update of Kalman filter state and covariance matrix for a single
+     * epoch, filling epoch metrics if required.
+     *
+     * @param measurements        satellite measurements data.
+     * @param propagationInterval propagation interval expressed in seconds (s).
+     * @param previousState       previous Kalman filter state.
+     * @param fx                  measured specific force resolved along body frame
+     *                            x-axis and expressed in meters per squared
+     *                            second (m/s^2).
+     * @param fy                  measured specific force resolved along body frame
+     *                            y-axis and expressed in meters per squared
+     *                            second (m/s^2).
+     * @param fz                  measured specific force resolved along body frame
+     *                            z-axis and expressed in meters per squared
+     *                            second (m/s^2).
+     * @param config              Tightly Coupled Kalman filter configuration.
+     * @param result              instance where new state of Kalman filter will be
+     *                            stored.
+     * @param metrics             instance where metrics of epoch will be stored, or
+     *                            null if not needed.
+     * @throws AlgebraException if there are numerical instabilities.
+     */
+    static void estimate(
+            final Collection<GNSSMeasurement> measurements, final double propagationInterval,
+            final INSTightlyCoupledKalmanState previousState, final double fx, final double fy, final double fz,
+            final INSTightlyCoupledKalmanConfig config, final INSTightlyCoupledKalmanState result,
+            final INSKalmanEpochMetrics metrics) throws AlgebraException {
 
         final var prevNedPosition = new NEDPosition();
         final var prevNedVelocity = new NEDVelocity();
@@ -553,7 +525,8 @@ public class INSTightlyCoupledKalmanEpochEstimator {
 
         final var previousLatitude = prevNedPosition.getLatitude();
 
-        estimate(measurements, propagationInterval, previousState, fx, fy, fz, previousLatitude, config, result);
+        estimate(measurements, propagationInterval, previousState, fx, fy, fz, previousLatitude, config, result,
+                metrics);
     }
 
     /**
@@ -1040,6 +1013,219 @@ public class INSTightlyCoupledKalmanEpochEstimator {
                 convertAngle(previousLatitude), config);
     }
 
+    /**
+     * Propagates Kalman filter state and covariance matrix along propagation interval.
+     *
+     * @param propagationInterval propagation interval expressed in seconds (s).
+     * @param previousState       previous Kalman filter state.
+     * @param fx                  measured specific force resolved along body frame
+     *                            x-axis and expressed in meters per squared
+     *                            second (m/s^2).
+     * @param fy                  measured specific force resolved along body frame
+     *                            y-axis and expressed in meters per squared
+     *                            second (m/s^2).
+     * @param fz                  measured specific force resolved along body frame
+     *                            z-axis and expressed in meters per squared
+     *                            second (m/s^2).
+     * @param previousLatitude    previous latitude solution expressed in radians (rad).
+     * @param config              Tightly Coupled Kalman filter configuration.
+     * @param xEstPropagated      instance where propagated state estimates will be
+     *                            stored.
+     * @return propagated state estimation error covariance matrix.
+     * @throws AlgebraException if there are numerical instabilities.
+     */
+    private static Matrix propagate(
+            final double propagationInterval, final INSTightlyCoupledKalmanState previousState,
+            final double fx, final double fy, final double fz, final double previousLatitude,
+            final INSTightlyCoupledKalmanConfig config, final Matrix xEstPropagated) throws AlgebraException {
+
+        // SYSTEM PROPAGATION PHASE
+
+        // 1. Determine transition matrix using (14.50) (first-order approx)
+        final var phi = new INSBlockSparseTransition(true);
+        phi.setFirstOrder(propagationInterval, previousState.getBodyToEcefCoordinateTransformationMatrix(),
+                fx, fy, fz, previousState.getX(), previousState.getY(), previousState.getZ(), previousLatitude);
+
+        // 2. Determine approximate system noise covariance matrix using (14.82)
+        // (only half of its diagonal is kept)
+        final var qHalf = new double[INSTightlyCoupledKalmanState.NUM_PARAMS];
+
+        final var gyroNoisePSD = config.getGyroNoisePSD();
+        final var gyroNoiseValue = 0.5 * gyroNoisePSD * propagationInterval;
+        Arrays.fill(qHalf, 0, 3, gyroNoiseValue);
+
+        final var accelNoisePSD = config.getAccelerometerNoisePSD();
+        final var accelNoiseValue = 0.5 * accelNoisePSD * propagationInterval;
+        Arrays.fill(qHalf, 3, 6, accelNoiseValue);
+
+        final var accelBiasPSD = config.getAccelerometerBiasPSD();
+        final var accelBiasValue = 0.5 * accelBiasPSD * propagationInterval;
+        Arrays.fill(qHalf, 9, 12, accelBiasValue);
+
+        final var gyroBiasPSD = config.getGyroBiasPSD();
+        final var gyroBiasValue = 0.5 * gyroBiasPSD * propagationInterval;
+        Arrays.fill(qHalf, 12, 15, gyroBiasValue);
+
+        final var clockPhasePSD = config.getClockPhasePSD();
+        qHalf[15] = 0.5 * clockPhasePSD * propagationInterval;
+
+        final var clockFreqPSD = config.getClockFrequencyPSD();
+        qHalf[16] = 0.5 * clockFreqPSD * propagationInterval;
+
+        // 3. Propagate state estimates using (3.14) noting that only the clock
+        // states are non-zero due to closed-loop correction
+        final var prevClockOffset = previousState.getReceiverClockOffset();
+        final var prevClockDrift = previousState.getReceiverClockDrift();
+
+        xEstPropagated.setElementAtIndex(15, prevClockOffset + prevClockDrift * propagationInterval);
+        xEstPropagated.setElementAtIndex(16, prevClockDrift);
+
+        // 4. Propagate state estimation error covariance matrix using (3.46),
+        // using only non-trivial blocks of transition matrix, or using a higher-order
+        // transition matrix and system noise covariance if required
+        final var pMatrixPropagated = new Matrix(INSTightlyCoupledKalmanState.NUM_PARAMS,
+                INSTightlyCoupledKalmanState.NUM_PARAMS);
+        final var transitionOrder = config.getTransitionOrder();
+        if (transitionOrder == null || transitionOrder == INSKalmanTransitionOrder.FIRST_ORDER) {
+            phi.propagate(previousState.getCovariance(), qHalf, pMatrixPropagated);
+        } else {
+            final var discretizer = new INSKalmanTransitionDiscretizer(INSTightlyCoupledKalmanState.NUM_PARAMS);
+            discretizer.discretize(phi, qHalf, transitionOrder);
+            discretizer.propagate(previousState.getCovariance(), pMatrixPropagated);
+        }
+
+        return pMatrixPropagated;
+    }
+
+    /**
+     * Updates propagated Kalman filter state and covariance matrix with measurement
+     * innovations and applies closed-loop correction of all inertial states.
+     *
+     * @param numberOfMeasurements number of satellite measurements.
+     * @param uAseT                predicted line-of-sight unit vectors, one per row.
+     * @param deltaZ               measurement innovations containing pseudo-range
+     *                             innovations followed by pseudo-range rate
+     *                             innovations.
+     * @param xEstPropagated       propagated state estimates.
+     * @param pMatrixPropagated    propagated state estimation error covariance matrix.
+     * @param previousState        previous Kalman filter state.
+     * @param config               Tightly Coupled Kalman filter configuration.
+     * @param result               instance where new state of Kalman filter will be
+     *                             stored.
+     * @param metrics              instance where innovation statistics will be stored,
+     *                             or null if not needed.
+     * @throws AlgebraException if there are numerical instabilities.
+     */
+    private static void update(
+            final int numberOfMeasurements, final Matrix uAseT, final Matrix deltaZ, final Matrix xEstPropagated,
+            final Matrix pMatrixPropagated, final INSTightlyCoupledKalmanState previousState,
+            final INSTightlyCoupledKalmanConfig config, final INSTightlyCoupledKalmanState result,
+            final INSKalmanEpochMetrics metrics) throws AlgebraException {
+
+        // 5. Set-up measurement matrix using (14.126)
+        final var h = new Matrix(2 * numberOfMeasurements, INSTightlyCoupledKalmanState.NUM_PARAMS);
+        for (int j1 = 0, j2 = numberOfMeasurements; j1 < numberOfMeasurements; j1++, j2++) {
+            for (int i1 = 0, i2 = 6, i3 = 3; i1 < CoordinateTransformation.ROWS; i1++, i2++, i3++) {
+                final var value = uAseT.getElementAt(j1, i1);
+
+                h.setElementAt(j1, i2, value);
+                h.setElementAt(j2, i3, value);
+            }
+            h.setElementAt(j1, 15, 1.0);
+            h.setElementAt(j2, 16, 1.0);
+        }
+
+        // 6. Set-up measurement noise covariance matrix assuming all measurements are independent
+        // and have equal variance for a given measurement type.
+        final var pseudoRangeSD = config.getPseudoRangeSD();
+        final var pseudoRangeSD2 = pseudoRangeSD * pseudoRangeSD;
+        final var rangeRateSD = config.getRangeRateSD();
+        final var rangeRateSD2 = rangeRateSD * rangeRateSD;
+        final var r = new Matrix(2 * numberOfMeasurements, 2 * numberOfMeasurements);
+        for (int i1 = 0, i2 = numberOfMeasurements; i1 < numberOfMeasurements; i1++, i2++) {
+            r.setElementAt(i1, i1, pseudoRangeSD2);
+            r.setElementAt(i2, i2, rangeRateSD2);
+        }
+
+        // 7. Calculate Kalman gain using (3.21)
+        final var hTransposed = h.transposeAndReturnNew();
+        final var tmp8b = h.multiplyAndReturnNew(pMatrixPropagated.multiplyAndReturnNew(hTransposed));
+        tmp8b.add(r);
+        final var tmp9b = Utils.inverse(tmp8b);
+        final var k = pMatrixPropagated.multiplyAndReturnNew(hTransposed);
+        k.multiply(tmp9b);
+
+        if (metrics != null) {
+            metrics.setInnovation(deltaZ, tmp9b);
+        }
+
+        // 9. Update state estimates using (3.24)
+        xEstPropagated.add(k.multiplyAndReturnNew(deltaZ));
+
+        // xEstPropagated now contains updated state
+
+        // 10. Update state estimation error covariance matrix using (3.25)
+        Matrix updatedCovariance = result.getCovariance();
+        if (updatedCovariance == null || updatedCovariance.getRows() != INSTightlyCoupledKalmanState.NUM_PARAMS
+                || updatedCovariance.getColumns() != INSTightlyCoupledKalmanState.NUM_PARAMS) {
+            updatedCovariance = Matrix.identity(
+                    INSTightlyCoupledKalmanState.NUM_PARAMS, INSTightlyCoupledKalmanState.NUM_PARAMS);
+        } else {
+            Matrix.identity(updatedCovariance);
+        }
+        k.multiply(h);
+        updatedCovariance.subtract(k);
+        updatedCovariance.multiply(pMatrixPropagated);
+
+        // CLOSED-LOOP CORRECTION
+
+        // Correct attitude, velocity, and position using (14.7-9)
+
+        final var estCbeOld = previousState.getBodyToEcefCoordinateTransformationMatrix();
+        final var estCbeNew = Matrix.identity(CoordinateTransformation.ROWS, CoordinateTransformation.COLS);
+
+        estCbeNew.subtract(Utils.skewMatrix(xEstPropagated.getSubmatrix(0, 0, 2, 0)));
+        estCbeNew.multiply(estCbeOld);
+
+        final var prevVx = previousState.getVx();
+        final var prevVy = previousState.getVy();
+        final var prevVz = previousState.getVz();
+        final var prevX = previousState.getX();
+        final var prevY = previousState.getY();
+        final var prevZ = previousState.getZ();
+
+        result.setBodyToEcefCoordinateTransformationMatrix(estCbeNew);
+        result.setVelocityCoordinates(
+                prevVx - xEstPropagated.getElementAtIndex(3),
+                prevVy - xEstPropagated.getElementAtIndex(4),
+                prevVz - xEstPropagated.getElementAtIndex(5));
+        result.setPositionCoordinates(
+                prevX - xEstPropagated.getElementAtIndex(6),
+                prevY - xEstPropagated.getElementAtIndex(7),
+                prevZ - xEstPropagated.getElementAtIndex(8));
+        result.setCovariance(updatedCovariance);
+
+        // Update IMU bias and GNSS receiver clock estimates
+        final var prevAccelBiasX = previousState.getAccelerationBiasX();
+        final var prevAccelBiasY = previousState.getAccelerationBiasY();
+        final var prevAccelBiasZ = previousState.getAccelerationBiasZ();
+        final var prevGyroBiasX = previousState.getGyroBiasX();
+        final var prevGyroBiasY = previousState.getGyroBiasY();
+        final var prevGyroBiasZ = previousState.getGyroBiasZ();
+
+        result.setAccelerationBiasCoordinates(
+                prevAccelBiasX + xEstPropagated.getElementAtIndex(9),
+                prevAccelBiasY + xEstPropagated.getElementAtIndex(10),
+                prevAccelBiasZ + xEstPropagated.getElementAtIndex(11));
+        result.setGyroBiasCoordinates(
+                prevGyroBiasX + xEstPropagated.getElementAtIndex(12),
+                prevGyroBiasY + xEstPropagated.getElementAtIndex(13),
+                prevGyroBiasZ + xEstPropagated.getElementAtIndex(14));
+
+        result.setReceiverClockOffset(xEstPropagated.getElementAtIndex(15));
+        result.setReceiverClockDrift(xEstPropagated.getElementAtIndex(16));
+    }
+
     /**
      * Converts time instance into a value expressed in seconds.
      *
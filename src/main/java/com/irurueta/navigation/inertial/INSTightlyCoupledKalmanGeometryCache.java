@@ -0,0 +1,573 @@
+/*
+ * Copyright (C) 2026 Alberto Irurueta Carro (alberto@irurueta.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.irurueta.navigation.inertial;
+
+import com.irurueta.algebra.Matrix;
+import com.irurueta.algebra.WrongSizeException;
+
+/**
+ * Keeps satellite geometry across epochs of the tightly coupled INS/GNSS Kalman filter,
+ * so that predicted pseudo-ranges, pseudo-range rates and line-of-sight vectors can be
+ * computed by {@link INSTightlyCoupledKalmanEpochEstimator} without allocating
+ * temporary matrices for each satellite.
+ * Satellites are identified by an integer identifier (e.g. PRN) and each of them is
+ * assigned a preallocated slot while it is visible. Satellites entering or leaving
+ * view reuse slots of satellites not present on last epoch, hence no reallocation
+ * takes place as long as the number of satellites of an epoch does not exceed
+ * the maximum number of satellites of this cache.
+ * Between consecutive epochs, the approximate range used to compute the Sagnac
+ * correction during signal transit time is refined incrementally by projecting the
+ * relative displacement between satellite and receiver on the previous line-of-sight,
+ * instead of being recomputed. The approximate range is fully recomputed once the
+ * accumulated displacement exceeds a refinement threshold. Because the first-order
+ * refinement error is approximately the squared displacement divided by twice the
+ * range, and the Sagnac correction is about 1e-13 times the range, the effect on
+ * predicted pseudo-ranges is negligible for thresholds of a few kilometers.
+ * Predicted ranges and line-of-sight vectors are always computed exactly from
+ * Sagnac corrected satellite positions.
+ * GNSS measurements are provided as a primitive array batch where each measurement
+ * takes {@link #MEASUREMENT_STRIDE} consecutive values: pseudo-range, pseudo-range
+ * rate, satellite ECEF position x, y, z and satellite ECEF velocity x, y, z.
+ * This class is not thread-safe.
+ */
+public class INSTightlyCoupledKalmanGeometryCache {
+
+    /**
+     * Number of values of each measurement within a measurement batch.
+     */
+    public static final int MEASUREMENT_STRIDE = 8;
+
+    /**
+     * Offset of pseudo-range expressed in meters (m) within a measurement.
+     */
+    public static final int PSEUDO_RANGE_OFFSET = 0;
+
+    /**
+     * Offset of pseudo-range rate expressed in meters per second (m/s) within a
+     * measurement.
+     */
+    public static final int PSEUDO_RATE_OFFSET = 1;
+
+    /**
+     * Offset of satellite ECEF x coordinate expressed in meters (m) within a
+     * measurement.
+     */
+    public static final int X_OFFSET = 2;
+
+    /**
+     * Offset of satellite ECEF y coordinate expressed in meters (m) within a
+     * measurement.
+     */
+    public static final int Y_OFFSET = 3;
+
+    /**
+     * Offset of satellite ECEF z coordinate expressed in meters (m) within a
+     * measurement.
+     */
+    public static final int Z_OFFSET = 4;
+
+    /**
+     * Offset of satellite ECEF x velocity expressed in meters per second (m/s)
+     * within a measurement.
+     */
+    public static final int VX_OFFSET = 5;
+
+    /**
+     * Offset of satellite ECEF y velocity expressed in meters per second (m/s)
+     * within a measurement.
+     */
+    public static final int VY_OFFSET = 6;
+
+    /**
+     * Offset of satellite ECEF z velocity expressed in meters per second (m/s)
+     * within a measurement.
+     */
+    public static final int VZ_OFFSET = 7;
+
+    /**
+     * Default maximum number of satellites of an epoch.
+     */
+    public static final int DEFAULT_MAX_SATELLITES = 32;
+
+    /**
+     * Default accumulated displacement expressed in meters (m) after which the
+     * approximate range of a satellite is fully recomputed.
+     */
+    public static final double DEFAULT_REFINEMENT_THRESHOLD = 10000.0;
+
+    /**
+     * Earth rotation rate expressed in radians per second (rad/s).
+     */
+    private static final double EARTH_ROTATION_RATE = INSTightlyCoupledKalmanEpochEstimator.EARTH_ROTATION_RATE;
+
+    /**
+     * Speed of light in the vacuum expressed in meters per second (m/s).
+     */
+    private static final double SPEED_OF_LIGHT = INSTightlyCoupledKalmanEpochEstimator.SPEED_OF_LIGHT;
+
+    /**
+     * Identifiers of satellites assigned to each slot.
+     */
+    private final int[] ids;
+
+    /**
+     * Epoch when each slot was last used, or 0 if slot is free.
+     */
+    private final long[] epochs;
+
+    /**
+     * Satellite positions of last epoch for each slot.
+     */
+    private final double[] satellitePositions;
+
+    /**
+     * Receiver positions of last epoch for each slot.
+     */
+    private final double[] receiverPositions;
+
+    /**
+     * Approximate line-of-sight vectors, before Sagnac correction, of last epoch for
+     * each slot.
+     */
+    private final double[] approxLineOfSights;
+
+    /**
+     * Approximate ranges, before Sagnac correction, of last epoch for each slot.
+     */
+    private final double[] approxRanges;
+
+    /**
+     * Accumulated displacement since last full computation of approximate range for
+     * each slot.
+     */
+    private final double[] displacements;
+
+    /**
+     * Slot assigned to each measurement of current epoch.
+     */
+    private final int[] measurementSlots;
+
+    /**
+     * Accumulated displacement expressed in meters (m) after which the approximate
+     * range of a satellite is fully recomputed.
+     */
+    private double refinementThreshold;
+
+    /**
+     * Current epoch.
+     */
+    private long epoch;
+
+    /**
+     * Number of approximate ranges that have been incrementally refined.
+     */
+    private long numberOfRefinements;
+
+    /**
+     * Number of approximate ranges that have been fully computed.
+     */
+    private long numberOfFullComputations;
+
+    /**
+     * Line-of-sight unit vectors of last epoch, reused across epochs having the same
+     * number of measurements.
+     */
+    private Matrix lineOfSight;
+
+    /**
+     * Predicted pseudo-ranges and pseudo-range rates of last epoch, reused across
+     * epochs having the same number of measurements.
+     */
+    private Matrix predictions;
+
+    /**
+     * Constructor.
+     */
+    public INSTightlyCoupledKalmanGeometryCache() {
+        this(DEFAULT_MAX_SATELLITES);
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param maxSatellites maximum number of satellites of an epoch.
+     * @throws IllegalArgumentException if maximum number of satellites is less than 1.
+     */
+    public INSTightlyCoupledKalmanGeometryCache(final int maxSatellites) {
+        this(maxSatellites, DEFAULT_REFINEMENT_THRESHOLD);
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param maxSatellites       maximum number of satellites of an epoch.
+     * @param refinementThreshold accumulated displacement expressed in meters (m)
+     *                            after which the approximate range of a satellite is
+     *                            fully recomputed. Zero disables incremental
+     *                            refinement.
+     * @throws IllegalArgumentException if maximum number of satellites is less than 1
+     *                                  or if refinement threshold is negative.
+     */
+    public INSTightlyCoupledKalmanGeometryCache(final int maxSatellites, final double refinementThreshold) {
+        if (maxSatellites < 1) {
+            throw new IllegalArgumentException();
+        }
+
+        setRefinementThreshold(refinementThreshold);
+
+        ids = new int[maxSatellites];
+        epochs = new long[maxSatellites];
+        satellitePositions = new double[3 * maxSatellites];
+        receiverPositions = new double[3 * maxSatellites];
+        approxLineOfSights = new double[3 * maxSatellites];
+        approxRanges = new double[maxSatellites];
+        displacements = new double[maxSatellites];
+        measurementSlots = new int[maxSatellites];
+    }
+
+    /**
+     * Gets maximum number of satellites of an epoch.
+     *
+     * @return maximum number of satellites of an epoch.
+     */
+    public int getMaxSatellites() {
+        return ids.length;
+    }
+
+    /**
+     * Gets accumulated displacement expressed in meters (m) after which the
+     * approximate range of a satellite is fully recomputed.
+     *
+     * @return refinement threshold expressed in meters (m).
+     */
+    public double getRefinementThreshold() {
+        return refinementThreshold;
+    }
+
+    /**
+     * Sets accumulated displacement expressed in meters (m) after which the
+     * approximate range of a satellite is fully recomputed.
+     * Zero disables incremental refinement.
+     *
+     * @param refinementThreshold refinement threshold expressed in meters (m).
+     * @throws IllegalArgumentException if provided value is negative.
+     */
+    public void setRefinementThreshold(final double refinementThreshold) {
+        if (refinementThreshold < 0.0) {
+            throw new IllegalArgumentException();
+        }
+
+        this.refinementThreshold = refinementThreshold;
+    }
+
+    /**
+     * Gets number of satellites currently kept in this cache.
+     *
+     * @return number of cached satellites.
+     */
+    public int getNumberOfCachedSatellites() {
+        var result = 0;
+        for (final var e : epochs) {
+            if (e != 0) {
+                result++;
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Indicates whether a satellite is currently kept in this cache.
+     *
+     * @param id satellite identifier.
+     * @return true if satellite is cached, false otherwise.
+     */
+    public boolean isCached(final int id) {
+        return findSlot(id) >= 0;
+    }
+
+    /**
+     * Gets number of approximate ranges that have been incrementally refined.
+     *
+     * @return number of incremental refinements.
+     */
+    public long getNumberOfRefinements() {
+        return numberOfRefinements;
+    }
+
+    /**
+     * Gets number of approximate ranges that have been fully computed.
+     *
+     * @return number of full computations.
+     */
+    public long getNumberOfFullComputations() {
+        return numberOfFullComputations;
+    }
+
+    /**
+     * Removes all cached satellites and resets counters.
+     */
+    public void clear() {
+        for (var i = 0; i < epochs.length; i++) {
+            epochs[i] = 0;
+        }
+        epoch = 0;
+        numberOfRefinements = 0;
+        numberOfFullComputations = 0;
+    }
+
+    /**
+     * Predicts line-of-sight unit vectors, pseudo-ranges and pseudo-range rates of
+     * provided measurements from previous receiver position and velocity, and
+     * propagated receiver clock offset and drift, as defined in (9.165).
+     *
+     * @param ids                  identifiers of satellites of each measurement.
+     * @param measurements         measurement batch.
+     * @param numberOfMeasurements number of measurements within batch.
+     * @param x                    previous receiver ECEF x coordinate.
+     * @param y                    previous receiver ECEF y coordinate.
+     * @param z                    previous receiver ECEF z coordinate.
+     * @param vx                   previous receiver ECEF x velocity.
+     * @param vy                   previous receiver ECEF y velocity.
+     * @param vz                   previous receiver ECEF z velocity.
+     * @param clockOffset          propagated receiver clock offset.
+     * @param clockDrift           propagated receiver clock drift.
+     * @throws IllegalArgumentException if number of measurements exceeds maximum
+     *                                  number of satellites, if arrays are too short or
+     *                                  if a satellite identifier is repeated.
+     */
+    void predict(final int[] ids, final double[] measurements, final int numberOfMeasurements,
+                 final double x, final double y, final double z,
+                 final double vx, final double vy, final double vz,
+                 final double clockOffset, final double clockDrift) {
+        if (numberOfMeasurements > this.ids.length || ids.length < numberOfMeasurements
+                || measurements.length < numberOfMeasurements * MEASUREMENT_STRIDE) {
+            throw new IllegalArgumentException();
+        }
+
+        epoch++;
+        assignSlots(ids, numberOfMeasurements);
+
+        lineOfSight = reuseOrCreate(lineOfSight, numberOfMeasurements, 3);
+        predictions = reuseOrCreate(predictions, numberOfMeasurements, 2);
+
+        // receiver velocity plus Earth rotation, resolved in ECEF axes
+        final var rvx = vx - EARTH_ROTATION_RATE * y;
+        final var rvy = vy + EARTH_ROTATION_RATE * x;
+
+        for (var j = 0; j < numberOfMeasurements; j++) {
+            final var offset = j * MEASUREMENT_STRIDE;
+            final var measX = measurements[offset + X_OFFSET];
+            final var measY = measurements[offset + Y_OFFSET];
+            final var measZ = measurements[offset + Z_OFFSET];
+
+            // Predict approx range
+            final var approxRange = approxRange(measurementSlots[j], measX, measY, measZ, x, y, z);
+
+            // Calculate frame rotation during signal transit time using (8.36)
+            final var cei = EARTH_ROTATION_RATE * approxRange / SPEED_OF_LIGHT;
+
+            // Predict pseudo-range using (9.165)
+            final var deltaX = measX + cei * measY - x;
+            final var deltaY = -cei * measX + measY - y;
+            final var deltaZ = measZ - z;
+            final var range = Math.sqrt(deltaX * deltaX + deltaY * deltaY + deltaZ * deltaZ);
+
+            predictions.setElementAt(j, 0, range + clockOffset);
+
+            // Predict line of sight
+            final var ux = deltaX / range;
+            final var uy = deltaY / range;
+            final var uz = deltaZ / range;
+            lineOfSight.setElementAt(j, 0, ux);
+            lineOfSight.setElementAt(j, 1, uy);
+            lineOfSight.setElementAt(j, 2, uz);
+
+            // Predict pseudo-range rate using (9.165)
+            final var svx = measurements[offset + VX_OFFSET] - EARTH_ROTATION_RATE * measY;
+            final var svy = measurements[offset + VY_OFFSET] + EARTH_ROTATION_RATE * measX;
+            final var svz = measurements[offset + VZ_OFFSET];
+
+            final var rangeRate = ux * (svx + cei * svy - rvx) + uy * (-cei * svx + svy - rvy)
+                    + uz * (svz - vz);
+
+            predictions.setElementAt(j, 1, rangeRate + clockDrift);
+        }
+
+        releaseStaleSlots();
+    }
+
+    /**
+     * Gets line-of-sight unit vectors of last epoch, one per row.
+     *
+     * @return line-of-sight unit vectors.
+     */
+    Matrix getLineOfSight() {
+        return lineOfSight;
+    }
+
+    /**
+     * Gets predicted pseudo-ranges (first column) and pseudo-range rates (second
+     * column) of last epoch.
+     *
+     * @return predicted measurements.
+     */
+    Matrix getPredictions() {
+        return predictions;
+    }
+
+    /**
+     * Assigns a slot to each measurement of current epoch, reusing slots of satellites
+     * kept from previous epoch and taking free or stale slots for new satellites.
+     *
+     * @param ids                  identifiers of satellites of each measurement.
+     * @param numberOfMeasurements number of measurements.
+     * @throws IllegalArgumentException if a satellite identifier is repeated.
+     */
+    private void assignSlots(final int[] ids, final int numberOfMeasurements) {
+        // keep slots of satellites already in view
+        for (var j = 0; j < numberOfMeasurements; j++) {
+            final var slot = findSlot(ids[j]);
+            if (slot >= 0 && epochs[slot] == epoch) {
+                throw new IllegalArgumentException();
+            }
+            if (slot >= 0) {
+                epochs[slot] = epoch;
+            }
+            measurementSlots[j] = slot;
+        }
+
+        // assign slots of satellites not in view on last epoch to new satellites
+        var candidate = 0;
+        for (var j = 0; j < numberOfMeasurements; j++) {
+            if (measurementSlots[j] >= 0) {
+                continue;
+            }
+            if (findSlot(ids[j]) >= 0) {
+                // satellite has already been assigned a slot on current epoch
+                throw new IllegalArgumentException();
+            }
+
+            while (epochs[candidate] == epoch) {
+                candidate++;
+            }
+            this.ids[candidate] = ids[j];
+            epochs[candidate] = epoch;
+            displacements[candidate] = Double.POSITIVE_INFINITY;
+            measurementSlots[j] = candidate;
+        }
+    }
+
+    /**
+     * Releases slots of satellites not in view on current epoch.
+     */
+    private void releaseStaleSlots() {
+        for (var i = 0; i < epochs.length; i++) {
+            if (epochs[i] != epoch) {
+                epochs[i] = 0;
+            }
+        }
+    }
+
+    /**
+     * Finds slot of a cached satellite.
+     *
+     * @param id satellite identifier.
+     * @return slot of satellite or -1 if not found.
+     */
+    private int findSlot(final int id) {
+        for (var i = 0; i < ids.length; i++) {
+            if (epochs[i] != 0 && ids[i] == id) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Computes approximate range between a satellite and the receiver, before Sagnac
+     * correction, either incrementally from previous epoch or from scratch.
+     *
+     * @param slot  slot of satellite.
+     * @param measX satellite ECEF x coordinate.
+     * @param measY satellite ECEF y coordinate.
+     * @param measZ satellite ECEF z coordinate.
+     * @param x     receiver ECEF x coordinate.
+     * @param y     receiver ECEF y coordinate.
+     * @param z     receiver ECEF z coordinate.
+     * @return approximate range.
+     */
+    private double approxRange(final int slot, final double measX, final double measY, final double measZ,
+                               final double x, final double y, final double z) {
+        final var i = 3 * slot;
+        final var deltaX = measX - x;
+        final var deltaY = measY - y;
+        final var deltaZ = measZ - z;
+
+        // relative displacement since last epoch
+        final var dx = deltaX - (satellitePositions[i] - receiverPositions[i]);
+        final var dy = deltaY - (satellitePositions[i + 1] - receiverPositions[i + 1]);
+        final var dz = deltaZ - (satellitePositions[i + 2] - receiverPositions[i + 2]);
+
+        // L1 norm is an upper bound of displacement that does not require a square root
+        final var displacement = displacements[slot] + Math.abs(dx) + Math.abs(dy) + Math.abs(dz);
+
+        final double approxRange;
+        if (displacement <= refinementThreshold) {
+            approxRange = approxRanges[slot] + approxLineOfSights[i] * dx + approxLineOfSights[i + 1] * dy
+                    + approxLineOfSights[i + 2] * dz;
+            displacements[slot] = displacement;
+            numberOfRefinements++;
+        } else {
+            approxRange = Math.sqrt(deltaX * deltaX + deltaY * deltaY + deltaZ * deltaZ);
+            displacements[slot] = 0.0;
+            numberOfFullComputations++;
+        }
+
+        satellitePositions[i] = measX;
+        satellitePositions[i + 1] = measY;
+        satellitePositions[i + 2] = measZ;
+        receiverPositions[i] = x;
+        receiverPositions[i + 1] = y;
+        receiverPositions[i + 2] = z;
+        approxLineOfSights[i] = deltaX / approxRange;
+        approxLineOfSights[i + 1] = deltaY / approxRange;
+        approxLineOfSights[i + 2] = deltaZ / approxRange;
+        approxRanges[slot] = approxRange;
+
+        return approxRange;
+    }
+
+    /**
+     * Returns provided matrix if it has the expected size, or creates a new one
+     * otherwise.
+     *
+     * @param m       matrix to be reused or null.
+     * @param rows    expected number of rows.
+     * @param columns expected number of columns.
+     * @return a matrix having expected size.
+     */
+    private static Matrix reuseOrCreate(final Matrix m, final int rows, final int columns) {
+        if (m != null && m.getRows() == rows && m.getColumns() == columns) {
+            return m;
+        }
+
+        try {
+            return new Matrix(rows, columns);
+        } catch (final WrongSizeException e) {
+            throw new IllegalArgumentException(e);
+        }
+    }
+}
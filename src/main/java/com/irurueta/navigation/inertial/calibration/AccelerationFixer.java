@@ -24,6 +24,8 @@ import com.irurueta.units.Acceleration;
 import com.irurueta.units.AccelerationConverter;
 import com.irurueta.units.AccelerationUnit;
 
+import java.util.Objects;
+
 /**
  * Fixes acceleration values taking into account provided bias and cross coupling errors.
  */
@@ -74,6 +76,13 @@ public class AccelerationFixer {
      */
     private Matrix crossCouplingErrors;
 
+    /**
+     * Table containing calibration parameters at different temperatures, or null
+     * if fixing at a given temperature must use last provided bias and cross coupling
+     * errors.
+     */
+    private TemperatureCalibrationTable temperatureCalibrationTable;
+
     /**
      * Constructor.
      */
@@ -832,6 +841,62 @@ public class AccelerationFixer {
         tmp3.toArray(result);
     }
 
+    /**
+     * Fixes in place a range of measured specific force samples stored as
+     * primitive arrays (one array per coordinate) by undoing the errors
+     * introduced by the accelerometer model to restore the true specific
+     * force.
+     * This method uses last provided bias and cross coupling errors along with
+     * the cached inverse of (I + Ma), and neither creates objects nor performs
+     * unit conversions, so that whole buffers of raw samples can be corrected.
+     *
+     * @param fx     x-coordinates of measured specific force expressed in
+     *               meters per squared second (m/s^2). Restored values are
+     *               stored in place.
+     * @param fy     y-coordinates of measured specific force expressed in
+     *               meters per squared second (m/s^2). Restored values are
+     *               stored in place.
+     * @param fz     z-coordinates of measured specific force expressed in
+     *               meters per squared second (m/s^2). Restored values are
+     *               stored in place.
+     * @param offset position of first sample to be fixed.
+     * @param length number of samples to be fixed.
+     * @throws IndexOutOfBoundsException if provided range is not valid for
+     *                                   any of the arrays.
+     */
+    public void fix(final double[] fx, final double[] fy, final double[] fz, final int offset, final int length) {
+        Objects.checkFromIndexSize(offset, length, fx.length);
+        Objects.checkFromIndexSize(offset, length, fy.length);
+        Objects.checkFromIndexSize(offset, length, fz.length);
+
+        // ftrue = (I + Ma)^-1 * (fmeas - ba), where (I + Ma)^-1 is stored
+        // in column order
+        final var m = tmp2.getBuffer();
+        final var m00 = m[0];
+        final var m10 = m[1];
+        final var m20 = m[2];
+        final var m01 = m[3];
+        final var m11 = m[4];
+        final var m21 = m[5];
+        final var m02 = m[6];
+        final var m12 = m[7];
+        final var m22 = m[8];
+
+        final var bx = bias.getElementAtIndex(0);
+        final var by = bias.getElementAtIndex(1);
+        final var bz = bias.getElementAtIndex(2);
+
+        final var end = offset + length;
+        for (var i = offset; i < end; i++) {
+            final var dx = fx[i] - bx;
+            final var dy = fy[i] - by;
+            final var dz = fz[i] - bz;
+            fx[i] = m00 * dx + m01 * dy + m02 * dz;
+            fy[i] = m10 * dx + m11 * dy + m12 * dz;
+            fz[i] = m20 * dx + m21 * dy + m22 * dz;
+        }
+    }
+
     /**
      * Fixes provided measured specific force values by undoing the errors
      * introduced by the accelerometer model to restore the true specific
@@ -883,6 +948,7 @@ public class AccelerationFixer {
      * introduced by the accelerometer model to restore the true specific
      * force.
      * This method uses last provided bias and cross coupling errors.
+     * This method is allocation-free.
      *
      * @param measuredFx x-coordinate of measured specific force
      *                   expressed in meters per squared second
@@ -1235,6 +1301,64 @@ public class AccelerationFixer {
                 result.getBuffer());
     }
 
+    /**
+     * Gets table containing calibration parameters at different temperatures.
+     * When provided, methods fixing at a given temperature use this table instead
+     * of last provided bias and cross coupling errors.
+     *
+     * @return table containing calibration parameters at different temperatures or null.
+     */
+    public TemperatureCalibrationTable getTemperatureCalibrationTable() {
+        return temperatureCalibrationTable;
+    }
+
+    /**
+     * Sets table containing calibration parameters at different temperatures.
+     * When provided, methods fixing at a given temperature use this table instead
+     * of last provided bias and cross coupling errors.
+     *
+     * @param temperatureCalibrationTable table containing calibration parameters at
+     *                                    different temperatures or null.
+     */
+    public void setTemperatureCalibrationTable(final TemperatureCalibrationTable temperatureCalibrationTable) {
+        this.temperatureCalibrationTable = temperatureCalibrationTable;
+    }
+
+    /**
+     * Fixes provided measured specific force values obtained at provided temperature
+     * by undoing the errors introduced by the accelerometer model to restore the true
+     * specific force.
+     * If a temperature calibration table has been provided, bias and cross coupling
+     * errors are interpolated at provided temperature, otherwise last provided bias
+     * and cross coupling errors are used.
+     * This method is allocation-free.
+     *
+     * @param temperature temperature expressed in degrees Celsius (ºC).
+     * @param measuredFx  x-coordinate of measured specific force
+     *                    expressed in meters per squared second
+     *                    (m/s^2).
+     * @param measuredFy  y-coordinate of measured specific force
+     *                    expressed in meters per squared second
+     *                    (m/s^2).
+     * @param measuredFz  z-coordinate of measured specific force
+     *                    expressed in meters per squared second
+     *                    (m/s^2).
+     * @param result      instance where restored true specific force
+     *                    will be stored. Must have length 3.
+     * @throws AlgebraException         if there are numerical instabilities.
+     * @throws IllegalArgumentException if provided result array does not have
+     *                                  length 3.
+     */
+    public void fixAtTemperature(
+            final double temperature, final double measuredFx, final double measuredFy, final double measuredFz,
+            final double[] result) throws AlgebraException {
+        if (temperatureCalibrationTable != null) {
+            temperatureCalibrationTable.fixSpecificForce(temperature, measuredFx, measuredFy, measuredFz, result);
+        } else {
+            fix(measuredFx, measuredFy, measuredFz, result);
+        }
+    }
+
     /**
      * Fixes provided measured specific force values by undoing the errors
      * introduced by the accelerometer model to restore the true specific force.
@@ -27,6 +27,8 @@ import com.irurueta.units.AngularSpeed;
 import com.irurueta.units.AngularSpeedConverter;
 import com.irurueta.units.AngularSpeedUnit;
 
+import java.util.Objects;
+
 /**
  * Fixes angular rate values taking into
  * account provided bias, cross coupling errors and G-dependant errors.
@@ -98,6 +100,13 @@ public class AngularRateFixer {
      */
     private Matrix gDependantCrossBias;
 
+    /**
+     * Table containing calibration parameters at different temperatures, or null
+     * if fixing at a given temperature must use last provided bias and cross coupling
+     * errors.
+     */
+    private TemperatureCalibrationTable temperatureCalibrationTable;
+
     /**
      * Constructor.
      */
@@ -902,6 +911,88 @@ public class AngularRateFixer {
         tmp5.toArray(result);
     }
 
+    /**
+     * Fixes in place a range of measured angular rate samples stored as
+     * primitive arrays (one array per coordinate) by undoing the errors
+     * introduced by the gyroscope model to restore the true angular rate.
+     * This method uses last provided bias, cross coupling errors and
+     * g-dependant cross biases along with the cached inverse of (I + Mg), and
+     * neither creates objects nor performs unit conversions, so that whole
+     * buffers of raw samples can be corrected.
+     *
+     * @param angularRateX x-coordinates of measured angular rate expressed in
+     *                     radians per second (rad/s). Restored values are
+     *                     stored in place.
+     * @param angularRateY y-coordinates of measured angular rate expressed in
+     *                     radians per second (rad/s). Restored values are
+     *                     stored in place.
+     * @param angularRateZ z-coordinates of measured angular rate expressed in
+     *                     radians per second (rad/s). Restored values are
+     *                     stored in place.
+     * @param trueFx       x-coordinates of true (i.e. fixed) specific force
+     *                     expressed in meters per squared second (m/s^2).
+     * @param trueFy       y-coordinates of true (i.e. fixed) specific force
+     *                     expressed in meters per squared second (m/s^2).
+     * @param trueFz       z-coordinates of true (i.e. fixed) specific force
+     *                     expressed in meters per squared second (m/s^2).
+     * @param offset       position of first sample to be fixed.
+     * @param length       number of samples to be fixed.
+     * @throws IndexOutOfBoundsException if provided range is not valid for
+     *                                   any of the arrays.
+     */
+    public void fix(
+            final double[] angularRateX, final double[] angularRateY, final double[] angularRateZ,
+            final double[] trueFx, final double[] trueFy, final double[] trueFz, final int offset,
+            final int length) {
+        Objects.checkFromIndexSize(offset, length, angularRateX.length);
+        Objects.checkFromIndexSize(offset, length, angularRateY.length);
+        Objects.checkFromIndexSize(offset, length, angularRateZ.length);
+        Objects.checkFromIndexSize(offset, length, trueFx.length);
+        Objects.checkFromIndexSize(offset, length, trueFy.length);
+        Objects.checkFromIndexSize(offset, length, trueFz.length);
+
+        // Ωtrue = (I + Mg)^-1 * (Ωmeas - bg - Gg * ftrue), where (I + Mg)^-1
+        // and Gg are stored in column order
+        final var m = tmp2.getBuffer();
+        final var m00 = m[0];
+        final var m10 = m[1];
+        final var m20 = m[2];
+        final var m01 = m[3];
+        final var m11 = m[4];
+        final var m21 = m[5];
+        final var m02 = m[6];
+        final var m12 = m[7];
+        final var m22 = m[8];
+
+        final var g = gDependantCrossBias.getBuffer();
+        final var g00 = g[0];
+        final var g10 = g[1];
+        final var g20 = g[2];
+        final var g01 = g[3];
+        final var g11 = g[4];
+        final var g21 = g[5];
+        final var g02 = g[6];
+        final var g12 = g[7];
+        final var g22 = g[8];
+
+        final var bx = bias.getElementAtIndex(0);
+        final var by = bias.getElementAtIndex(1);
+        final var bz = bias.getElementAtIndex(2);
+
+        final var end = offset + length;
+        for (var i = offset; i < end; i++) {
+            final var fx = trueFx[i];
+            final var fy = trueFy[i];
+            final var fz = trueFz[i];
+            final var dx = angularRateX[i] - bx - (g00 * fx + g01 * fy + g02 * fz);
+            final var dy = angularRateY[i] - by - (g10 * fx + g11 * fy + g12 * fz);
+            final var dz = angularRateZ[i] - bz - (g20 * fx + g21 * fy + g22 * fz);
+            angularRateX[i] = m00 * dx + m01 * dy + m02 * dz;
+            angularRateY[i] = m10 * dx + m11 * dy + m12 * dz;
+            angularRateZ[i] = m20 * dx + m21 * dy + m22 * dz;
+        }
+    }
+
     /**
      * Fixes provided measured angular rate values by undoing the errors
      * introduced by the gyroscope model to restore the true angular
@@ -963,6 +1054,7 @@ public class AngularRateFixer {
      * introduced by the gyroscope model to restore the true angular
      * rate.
      * This method uses last provided bias and cross coupling errors.
+     * This method is allocation-free.
      *
      * @param measuredAngularRateX x-coordinate of measured angular rate
      *                             expressed in radians per second (rad/s).
@@ -1437,6 +1529,72 @@ public class AngularRateFixer {
                 g11, g21, g31, g12, g22, g32, g13, g23, g33, result.getBuffer());
     }
 
+    /**
+     * Gets table containing calibration parameters at different temperatures.
+     * When provided, methods fixing at a given temperature use this table instead
+     * of last provided bias and cross coupling errors.
+     *
+     * @return table containing calibration parameters at different temperatures or null.
+     */
+    public TemperatureCalibrationTable getTemperatureCalibrationTable() {
+        return temperatureCalibrationTable;
+    }
+
+    /**
+     * Sets table containing calibration parameters at different temperatures.
+     * When provided, methods fixing at a given temperature use this table instead
+     * of last provided bias and cross coupling errors.
+     *
+     * @param temperatureCalibrationTable table containing calibration parameters at
+     *                                    different temperatures or null.
+     */
+    public void setTemperatureCalibrationTable(final TemperatureCalibrationTable temperatureCalibrationTable) {
+        this.temperatureCalibrationTable = temperatureCalibrationTable;
+    }
+
+    /**
+     * Fixes provided measured angular rate values obtained at provided temperature
+     * by undoing the errors introduced by the gyroscope model to restore the true
+     * angular rate.
+     * If a temperature calibration table has been provided, bias, cross coupling
+     * errors and g-dependant cross biases are interpolated at provided temperature,
+     * otherwise last provided ones are used.
+     * This method is allocation-free.
+     *
+     * @param temperature          temperature expressed in degrees Celsius (ºC).
+     * @param measuredAngularRateX x-coordinate of measured angular rate
+     *                             expressed in radians per second (rad/s).
+     * @param measuredAngularRateY y-coordinate of measured angular rate
+     *                             expressed in radians per second (rad/s).
+     * @param measuredAngularRateZ z-coordinate of measured angular rate
+     *                             expressed in radians per second (rad/s).
+     * @param trueFx               x-coordinate of true (i.e. fixed)
+     *                             specific force expressed in meters per
+     *                             squared second (m/s^2).
+     * @param trueFy               y-coordinate of true (i.e. fixed)
+     *                             specific force expressed in meters per
+     *                             squared second (m/s^2).
+     * @param trueFz               z-coordinate of true (i.e. fixed)
+     *                             specific force expressed in meters per
+     *                             squared second (m/s^2).
+     * @param result               instance where restored true angular rate
+     *                             will be stored. Must have length 3.
+     * @throws AlgebraException         if there are numerical instabilities.
+     * @throws IllegalArgumentException if provided result array does not have
+     *                                  length 3.
+     */
+    public void fixAtTemperature(
+            final double temperature, final double measuredAngularRateX, final double measuredAngularRateY,
+            final double measuredAngularRateZ, final double trueFx, final double trueFy, final double trueFz,
+            final double[] result) throws AlgebraException {
+        if (temperatureCalibrationTable != null) {
+            temperatureCalibrationTable.fixAngularRate(temperature, measuredAngularRateX, measuredAngularRateY,
+                    measuredAngularRateZ, trueFx, trueFy, trueFz, result);
+        } else {
+            fix(measuredAngularRateX, measuredAngularRateY, measuredAngularRateZ, trueFx, trueFy, trueFz, result);
+        }
+    }
+
     /**
      * Fixes provided measured angular rate values by undoing the errors
      * introduced by the gyroscope model to restore the true angular rate.
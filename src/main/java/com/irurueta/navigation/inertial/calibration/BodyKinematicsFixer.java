@@ -57,6 +57,16 @@ public class BodyKinematicsFixer {
      */
     private final AngularSpeedTriad fixedAngularSpeed = new AngularSpeedTriad();
 
+    /**
+     * Contains fixed specific force to be reused.
+     */
+    private final double[] fixedF = new double[BodyKinematics.COMPONENTS];
+
+    /**
+     * Contains fixed angular rate to be reused.
+     */
+    private final double[] fixedAngularRate = new double[BodyKinematics.COMPONENTS];
+
     /**
      * Gets acceleration bias values expressed in meters per squared second (m/s^2).
      *
@@ -1202,6 +1212,100 @@ public class BodyKinematicsFixer {
         result.setAngularRateTriad(fixedAngularSpeed);
     }
 
+    /**
+     * Fixes in place a range of measured body kinematics samples stored as
+     * primitive arrays (one array per coordinate) by undoing the errors
+     * introduced by the accelerometer and gyroscope models to restore the true
+     * specific force and angular rate.
+     * Specific force is fixed first, so that g-dependant cross biases of the
+     * gyroscope are evaluated on the true specific force.
+     * This method neither creates objects nor performs unit conversions, so that
+     * whole buffers of raw samples can be corrected.
+     *
+     * @param fx           x-coordinates of measured specific force expressed
+     *                     in meters per squared second (m/s^2). Restored
+     *                     values are stored in place.
+     * @param fy           y-coordinates of measured specific force expressed
+     *                     in meters per squared second (m/s^2). Restored
+     *                     values are stored in place.
+     * @param fz           z-coordinates of measured specific force expressed
+     *                     in meters per squared second (m/s^2). Restored
+     *                     values are stored in place.
+     * @param angularRateX x-coordinates of measured angular rate expressed in
+     *                     radians per second (rad/s). Restored values are
+     *                     stored in place.
+     * @param angularRateY y-coordinates of measured angular rate expressed in
+     *                     radians per second (rad/s). Restored values are
+     *                     stored in place.
+     * @param angularRateZ z-coordinates of measured angular rate expressed in
+     *                     radians per second (rad/s). Restored values are
+     *                     stored in place.
+     * @param offset       position of first sample to be fixed.
+     * @param length       number of samples to be fixed.
+     * @throws IndexOutOfBoundsException if provided range is not valid for
+     *                                   any of the arrays.
+     */
+    public void fix(
+            final double[] fx, final double[] fy, final double[] fz, final double[] angularRateX,
+            final double[] angularRateY, final double[] angularRateZ, final int offset, final int length) {
+        accelerationFixer.fix(fx, fy, fz, offset, length);
+        angularRateFixer.fix(angularRateX, angularRateY, angularRateZ, fx, fy, fz, offset, length);
+    }
+
+    /**
+     * Gets table containing accelerometer and gyroscope calibration parameters at
+     * different temperatures.
+     * When provided, methods fixing at a given temperature use this table instead
+     * of last provided bias and cross coupling errors.
+     *
+     * @return table containing calibration parameters at different temperatures or null.
+     */
+    public TemperatureCalibrationTable getTemperatureCalibrationTable() {
+        return accelerationFixer.getTemperatureCalibrationTable();
+    }
+
+    /**
+     * Sets table containing accelerometer and gyroscope calibration parameters at
+     * different temperatures.
+     * When provided, methods fixing at a given temperature use this table instead
+     * of last provided bias and cross coupling errors.
+     *
+     * @param temperatureCalibrationTable table containing calibration parameters at
+     *                                    different temperatures or null.
+     */
+    public void setTemperatureCalibrationTable(final TemperatureCalibrationTable temperatureCalibrationTable) {
+        accelerationFixer.setTemperatureCalibrationTable(temperatureCalibrationTable);
+        angularRateFixer.setTemperatureCalibrationTable(temperatureCalibrationTable);
+    }
+
+    /**
+     * Fixes provided measured body kinematics obtained at provided temperature by
+     * undoing the errors introduced by the accelerometer and gyroscope models to
+     * restore the true body kinematics values.
+     * If a temperature calibration table has been provided, calibration parameters
+     * are interpolated at provided temperature, otherwise last provided accelerometer
+     * and gyroscope bias and cross coupling errors are used.
+     * This method is allocation-free.
+     *
+     * @param temperature        temperature expressed in degrees Celsius (ºC).
+     * @param measuredKinematics measured body kinematics to be fixed.
+     * @param result             instance where fixed body kinematics will be
+     *                           stored.
+     * @throws AlgebraException if there are numerical instabilities.
+     */
+    public void fixAtTemperature(
+            final double temperature, final BodyKinematics measuredKinematics, final BodyKinematics result)
+            throws AlgebraException {
+        accelerationFixer.fixAtTemperature(temperature, measuredKinematics.getFx(), measuredKinematics.getFy(),
+                measuredKinematics.getFz(), fixedF);
+        angularRateFixer.fixAtTemperature(temperature, measuredKinematics.getAngularRateX(),
+                measuredKinematics.getAngularRateY(), measuredKinematics.getAngularRateZ(),
+                fixedF[0], fixedF[1], fixedF[2], fixedAngularRate);
+
+        result.setSpecificForceCoordinates(fixedF[0], fixedF[1], fixedF[2]);
+        result.setAngularRateCoordinates(fixedAngularRate[0], fixedAngularRate[1], fixedAngularRate[2]);
+    }
+
     /**
      * Fixes provided measured body kinematics by undoing the errors introduced
      * by the accelerometer and gyroscope models to restore the true body
@@ -15,8 +15,6 @@
  */
 package com.irurueta.navigation.inertial.calibration;
 
-import com.irurueta.algebra.Matrix;
-import com.irurueta.algebra.WrongSizeException;
 import com.irurueta.navigation.inertial.BodyKinematics;
 import com.irurueta.units.Time;
 import com.irurueta.units.TimeConverter;
@@ -34,6 +32,9 @@ import java.util.Random;
  * <a href="https://github.com/ymjdz/MATLAB-Codes/blob/master/IMU_model.m">
  *     https://github.com/ymjdz/MATLAB-Codes/blob/master/IMU_model.m
  * </a>
+ * Methods taking primitive values expressed in SI units (m/s^2 for specific forces and rad/s
+ * for angular rates) along with a result instance are allocation-free, and every other method
+ * is routed through them.
  */
 @SuppressWarnings("DuplicatedCode")
 public class BodyKinematicsGenerator {
@@ -115,32 +116,11 @@ public class BodyKinematicsGenerator {
     public static void generate(
             final double timeInterval, final Collection<BodyKinematics> trueKinematics,
             final IMUErrors errors, final Random random, final Collection<BodyKinematics> result) {
-        try {
-            final var trueFibb = new Matrix(BodyKinematics.COMPONENTS, 1);
-            final var ma = errors.getAccelerometerScaleFactorAndCrossCouplingErrors();
-            final var ba = errors.getAccelerometerBiasesAsMatrix();
-            final var trueOmegaIbb = new Matrix(BodyKinematics.COMPONENTS, 1);
-            final var mg = errors.getGyroScaleFactorAndCrossCouplingErrors();
-            final var bg = errors.getGyroBiasesAsMatrix();
-            final var gg = errors.getGyroGDependentBiases();
-            final var identity = Matrix.identity(BodyKinematics.COMPONENTS, BodyKinematics.COMPONENTS);
-            final var tmp33 = new Matrix(BodyKinematics.COMPONENTS, BodyKinematics.COMPONENTS);
-            final var tmp31a = new Matrix(BodyKinematics.COMPONENTS, 1);
-            final var tmp31b = new Matrix(BodyKinematics.COMPONENTS, 1);
-
-            for (final var k : trueKinematics) {
-                final var r = new BodyKinematics();
-
-                internalGenerate(timeInterval, k, errors, random, null, r, null,
-                        trueFibb, ma, ba, trueOmegaIbb, mg, bg, gg, identity, tmp33, tmp31a, tmp31b);
-
-                result.add(r);
-            }
-
-        } catch (final WrongSizeException ignore) {
-            // never happens
+        for (final var k : trueKinematics) {
+            final var r = new BodyKinematics();
+            generate(timeInterval, k, errors, random, r);
+            result.add(r);
         }
-
     }
 
     /**
@@ -308,31 +288,60 @@ public class BodyKinematicsGenerator {
             final double timeInterval, final BodyKinematics trueKinematics, final IMUErrors errors, final Random random,
             final double[] oldQuantizationResiduals, final BodyKinematics result,
             final double[] quantizationResiduals) {
-        try {
-            final var trueFibb = new Matrix(BodyKinematics.COMPONENTS, 1);
-            final var ma = errors.getAccelerometerScaleFactorAndCrossCouplingErrors();
-            final var ba = errors.getAccelerometerBiasesAsMatrix();
-            final var trueOmegaIbb = new Matrix(BodyKinematics.COMPONENTS, 1);
-            final var mg = errors.getGyroScaleFactorAndCrossCouplingErrors();
-            final var bg = errors.getGyroBiasesAsMatrix();
-            final var gg = errors.getGyroGDependentBiases();
-            final var identity = Matrix.identity(BodyKinematics.COMPONENTS, BodyKinematics.COMPONENTS);
-            final var tmp33 = new Matrix(BodyKinematics.COMPONENTS, BodyKinematics.COMPONENTS);
-            final var tmp31a = new Matrix(BodyKinematics.COMPONENTS, 1);
-            final var tmp31b = new Matrix(BodyKinematics.COMPONENTS, 1);
-            internalGenerate(timeInterval, trueKinematics, errors, random, oldQuantizationResiduals, result,
-                    quantizationResiduals, trueFibb, ma, ba, trueOmegaIbb, mg, bg, gg, identity, tmp33, tmp31a, tmp31b);
-        } catch (final WrongSizeException ignore) {
-            // never happens
-        }
+        generate(timeInterval, trueKinematics.getFx(), trueKinematics.getFy(), trueKinematics.getFz(),
+                trueKinematics.getAngularRateX(), trueKinematics.getAngularRateY(), trueKinematics.getAngularRateZ(),
+                errors, random, oldQuantizationResiduals, result, quantizationResiduals);
+    }
+
+    /**
+     * Generates an uncalibrated body kinematics instance containing a certain level
+     * of noise for provided ground-truth specific force and angular rate and IMU errors.
+     * This method ignores IMU quantization levels.
+     * This method is allocation-free.
+     *
+     * @param timeInterval     time interval between epochs expressed in seconds (s).
+     * @param trueFx           ground-truth x coordinate of specific force expressed in
+     *                         meters per squared second (m/s^2).
+     * @param trueFy           ground-truth y coordinate of specific force expressed in
+     *                         meters per squared second (m/s^2).
+     * @param trueFz           ground-truth z coordinate of specific force expressed in
+     *                         meters per squared second (m/s^2).
+     * @param trueAngularRateX ground-truth x coordinate of angular rate expressed in
+     *                         radians per second (rad/s).
+     * @param trueAngularRateY ground-truth y coordinate of angular rate expressed in
+     *                         radians per second (rad/s).
+     * @param trueAngularRateZ ground-truth z coordinate of angular rate expressed in
+     *                         radians per second (rad/s).
+     * @param errors           IMU errors containing calibration data.
+     * @param random           a random number generator to generate noise.
+     * @param result           instance where uncalibrated body kinematics will be stored.
+     */
+    public static void generate(
+            final double timeInterval, final double trueFx, final double trueFy, final double trueFz,
+            final double trueAngularRateX, final double trueAngularRateY, final double trueAngularRateZ,
+            final IMUErrors errors, final Random random, final BodyKinematics result) {
+        generate(timeInterval, trueFx, trueFy, trueFz, trueAngularRateX, trueAngularRateY, trueAngularRateZ,
+                errors, random, null, result, null);
     }
 
     /**
-     * Internally generates an uncalibrated body kinematics instance containing a certain
-     * level of noise for provided ground-truth body kinematics and IMU errors.
+     * Generates an uncalibrated body kinematics instance containing a certain level
+     * of noise for provided ground-truth specific force and angular rate and IMU errors.
+     * This method is allocation-free.
      *
      * @param timeInterval             time interval between epochs expressed in seconds (s).
-     * @param trueKinematics           ground-truth kinematics.
+     * @param trueFx                   ground-truth x coordinate of specific force expressed in
+     *                                 meters per squared second (m/s^2).
+     * @param trueFy                   ground-truth y coordinate of specific force expressed in
+     *                                 meters per squared second (m/s^2).
+     * @param trueFz                   ground-truth z coordinate of specific force expressed in
+     *                                 meters per squared second (m/s^2).
+     * @param trueAngularRateX         ground-truth x coordinate of angular rate expressed in
+     *                                 radians per second (rad/s).
+     * @param trueAngularRateY         ground-truth y coordinate of angular rate expressed in
+     *                                 radians per second (rad/s).
+     * @param trueAngularRateZ         ground-truth z coordinate of angular rate expressed in
+     *                                 radians per second (rad/s).
      * @param errors                   IMU errors containing calibration data.
      * @param random                   a random number generator to generate noise.
      * @param oldQuantizationResiduals previous quantization residuals from previous
@@ -342,30 +351,14 @@ public class BodyKinematicsGenerator {
      * @param result                   instance where uncalibrated body kinematics will be stored.
      * @param quantizationResiduals    generated quantization residuals. Optional.
      *                                 If provided, must have length 6.
-     * @param trueFibb                 3x1 matrix to be reused for specific force storage.
-     * @param ma                       3x3 matrix to be reused for accelerometer scaling and
-     *                                 cross coupling errors.
-     * @param ba                       3x1 matrix to be reused for accelerometer biases.
-     * @param trueOmegaibb             3x1 matrix to be reused for angular rates storage.
-     * @param mg                       3x3 matrix to be reused for gyro scaling and cross
-     *                                 coupling errors.
-     * @param bg                       3x1 matrix to be reused for gyro biases.
-     * @param gg                       3x3 matrix to be reused for gyro dependant cross
-     *                                 coupling errors.
-     * @param identity                 3x3 identity matrix to be reused.
-     * @param tmp33                    3x3 matrix to be reused.
-     * @param tmp31a                   3x1 matrix to be reused.
-     * @param tmp31b                   3x1 matrix to be reused.
-     * @throws WrongSizeException       if any of provided matrices has invalid size.
      * @throws IllegalArgumentException if either oldQuantizationResiduals or
      *                                  quantizationResiduals are not length 6.
      */
-    private static void internalGenerate(
-            final double timeInterval, final BodyKinematics trueKinematics, final IMUErrors errors, final Random random,
-            final double[] oldQuantizationResiduals, final BodyKinematics result, final double[] quantizationResiduals,
-            final Matrix trueFibb, final Matrix ma, final Matrix ba, final Matrix trueOmegaibb, final Matrix mg,
-            final Matrix bg, final Matrix gg, final Matrix identity, final Matrix tmp33, final Matrix tmp31a,
-            final Matrix tmp31b) throws WrongSizeException {
+    public static void generate(
+            final double timeInterval, final double trueFx, final double trueFy, final double trueFz,
+            final double trueAngularRateX, final double trueAngularRateY, final double trueAngularRateZ,
+            final IMUErrors errors, final Random random, final double[] oldQuantizationResiduals,
+            final BodyKinematics result, final double[] quantizationResiduals) {
 
         final var comp2 = 2 * BodyKinematics.COMPONENTS;
         if (oldQuantizationResiduals != null && oldQuantizationResiduals.length != comp2) {
@@ -408,28 +401,37 @@ public class BodyKinematicsGenerator {
         }
 
         // Calculate accelerometer and gyro outputs using (4.16) and (4.17)
-        trueKinematics.asSpecificForceMatrix(trueFibb);
-        trueKinematics.asAngularRateMatrix(trueOmegaibb);
-
-        identity.add(ma, tmp33);
-        tmp33.multiply(trueFibb, tmp31a);
-        tmp31a.add(ba);
-
-        final var uqFibbX = tmp31a.getElementAtIndex(0) + accelNoiseX;
-        final var uqFibbY = tmp31a.getElementAtIndex(1) + accelNoiseY;
-        final var uqFibbZ = tmp31a.getElementAtIndex(2) + accelNoiseZ;
-
-        identity.add(mg, tmp33);
-        tmp33.multiply(trueOmegaibb, tmp31a);
-        tmp31a.add(bg);
-
-        gg.multiply(trueFibb, tmp31b);
-        tmp31a.add(tmp31b);
-
-        final var uqOmegaIbbX = tmp31a.getElementAtIndex(0) + gyroNoiseX;
-        final var uqOmegaIbbY = tmp31a.getElementAtIndex(1) + gyroNoiseY;
-        final var uqOmegaIbbZ = tmp31a.getElementAtIndex(2) + gyroNoiseZ;
-
+        // as f = (I + Ma) * f_true + ba and w = (I + Mg) * w_true + bg + Gg * f_true
+        final var ma = errors.getInternalAccelerometerScaleFactorAndCrossCouplingErrors();
+        final var ba = errors.getInternalAccelerometerBiases();
+
+        final var uqFibbX = (1.0 + ma.getElementAt(0, 0)) * trueFx + ma.getElementAt(0, 1) * trueFy
+                + ma.getElementAt(0, 2) * trueFz + ba[0] + accelNoiseX;
+        final var uqFibbY = ma.getElementAt(1, 0) * trueFx + (1.0 + ma.getElementAt(1, 1)) * trueFy
+                + ma.getElementAt(1, 2) * trueFz + ba[1] + accelNoiseY;
+        final var uqFibbZ = ma.getElementAt(2, 0) * trueFx + ma.getElementAt(2, 1) * trueFy
+                + (1.0 + ma.getElementAt(2, 2)) * trueFz + ba[2] + accelNoiseZ;
+
+        final var mg = errors.getInternalGyroScaleFactorAndCrossCouplingErrors();
+        final var bg = errors.getInternalGyroBiases();
+        final var gg = errors.getInternalGyroGDependentBiases();
+
+        final var ggFx = gg.getElementAt(0, 0) * trueFx + gg.getElementAt(0, 1) * trueFy
+                + gg.getElementAt(0, 2) * trueFz;
+        final var ggFy = gg.getElementAt(1, 0) * trueFx + gg.getElementAt(1, 1) * trueFy
+                + gg.getElementAt(1, 2) * trueFz;
+        final var ggFz = gg.getElementAt(2, 0) * trueFx + gg.getElementAt(2, 1) * trueFy
+                + gg.getElementAt(2, 2) * trueFz;
+
+        final var uqOmegaIbbX = (1.0 + mg.getElementAt(0, 0)) * trueAngularRateX
+                + mg.getElementAt(0, 1) * trueAngularRateY + mg.getElementAt(0, 2) * trueAngularRateZ
+                + bg[0] + ggFx + gyroNoiseX;
+        final var uqOmegaIbbY = mg.getElementAt(1, 0) * trueAngularRateX
+                + (1.0 + mg.getElementAt(1, 1)) * trueAngularRateY + mg.getElementAt(1, 2) * trueAngularRateZ
+                + bg[1] + ggFy + gyroNoiseY;
+        final var uqOmegaIbbZ = mg.getElementAt(2, 0) * trueAngularRateX
+                + mg.getElementAt(2, 1) * trueAngularRateY + (1.0 + mg.getElementAt(2, 2)) * trueAngularRateZ
+                + bg[2] + ggFz + gyroNoiseZ;
         // Quantize accelerometer outputs
         if (errors.getAccelerometerQuantizationLevel() > 0.0 && oldQuantizationResiduals != null) {
             final var accelQuantLevel = errors.getAccelerometerQuantizationLevel();
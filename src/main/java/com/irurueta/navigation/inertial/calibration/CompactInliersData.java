@@ -0,0 +1,162 @@
+/*
+ * Copyright (C) 2026 Alberto Irurueta Carro (alberto@irurueta.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.irurueta.navigation.inertial.calibration;
+
+import com.irurueta.numerical.robust.InliersData;
+
+import java.util.BitSet;
+
+/**
+ * Contains the inliers of a robust calibration over the whole set of its measurements,
+ * using a single bit per measurement.
+ * Residuals of the best hypothesis can be optionally kept using single precision.
+ */
+public class CompactInliersData {
+
+    /**
+     * Bits indicating whether each measurement is an inlier.
+     */
+    private final BitSet inliers;
+
+    /**
+     * Residuals of each measurement respect to the best hypothesis or null if they
+     * are not kept.
+     */
+    private final float[] residuals;
+
+    /**
+     * Total number of measurements.
+     */
+    private final int numMeasurements;
+
+    /**
+     * Number of inliers.
+     */
+    private final int numInliers;
+
+    /**
+     * Constructor.
+     *
+     * @param inliers         bits indicating whether each measurement is an inlier.
+     * @param numMeasurements total number of measurements.
+     * @throws IllegalArgumentException if number of measurements is negative or smaller
+     *                                  than the length of provided bits.
+     */
+    public CompactInliersData(final BitSet inliers, final int numMeasurements) {
+        this(inliers, null, numMeasurements);
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param inliers         bits indicating whether each measurement is an inlier.
+     * @param residuals       residuals of each measurement or null if they are not kept.
+     * @param numMeasurements total number of measurements.
+     * @throws IllegalArgumentException if number of measurements is negative or smaller
+     *                                  than the length of provided bits, or if the length of
+     *                                  provided residuals does not match the number of
+     *                                  measurements.
+     */
+    public CompactInliersData(final BitSet inliers, final float[] residuals, final int numMeasurements) {
+        if (numMeasurements < 0 || inliers.length() > numMeasurements
+                || (residuals != null && residuals.length != numMeasurements)) {
+            throw new IllegalArgumentException();
+        }
+
+        this.inliers = inliers;
+        this.residuals = residuals;
+        this.numMeasurements = numMeasurements;
+        numInliers = inliers.cardinality();
+    }
+
+    /**
+     * Creates compact inliers data from inliers data reported by a robust estimator.
+     * Inlier bits are shared with provided inliers data, whereas residuals are
+     * converted to single precision when kept.
+     *
+     * @param inliersData     inliers data reported by a robust estimator.
+     * @param numMeasurements total number of measurements.
+     * @param keepResiduals   true to keep residuals, false to drop them.
+     * @return compact inliers data.
+     * @throws IllegalArgumentException if number of measurements is not valid for
+     *                                  provided inliers data.
+     */
+    public static CompactInliersData from(
+            final InliersData inliersData, final int numMeasurements, final boolean keepResiduals) {
+        final var doubleResiduals = keepResiduals ? inliersData.getResiduals() : null;
+        float[] residuals = null;
+        if (doubleResiduals != null) {
+            residuals = new float[doubleResiduals.length];
+            for (var i = 0; i < doubleResiduals.length; i++) {
+                residuals[i] = (float) doubleResiduals[i];
+            }
+        }
+        return new CompactInliersData(inliersData.getInliers(), residuals, numMeasurements);
+    }
+
+    /**
+     * Gets bits indicating whether each measurement is an inlier.
+     * Returned instance is not copied and must not be modified.
+     *
+     * @return bits indicating whether each measurement is an inlier.
+     */
+    public BitSet getInliers() {
+        return inliers;
+    }
+
+    /**
+     * Indicates whether measurement at provided position is an inlier.
+     *
+     * @param index position of measurement.
+     * @return true if measurement is an inlier, false otherwise.
+     * @throws IndexOutOfBoundsException if index is negative or not less than the number
+     *                                   of measurements.
+     */
+    public boolean isInlier(final int index) {
+        if (index < 0 || index >= numMeasurements) {
+            throw new IndexOutOfBoundsException(index);
+        }
+        return inliers.get(index);
+    }
+
+    /**
+     * Gets residuals of each measurement respect to the best hypothesis.
+     * Returned array is not copied and must not be modified.
+     *
+     * @return residuals of each measurement or null if they are not kept.
+     */
+    public float[] getResiduals() {
+        return residuals;
+    }
+
+    /**
+     * Gets total number of measurements.
+     *
+     * @return total number of measurements.
+     */
+    public int getNumMeasurements() {
+        return numMeasurements;
+    }
+
+    /**
+     * Gets number of inliers.
+     *
+     * @return number of inliers.
+     */
+    public int getNumInliers() {
+        return numInliers;
+    }
+}
@@ -1236,6 +1236,60 @@ public class IMUErrors implements Serializable, Cloneable {
                 gyroQuantizationLevel, Arrays.hashCode(accelerometerBiases), Arrays.hashCode(gyroBiases));
     }
 
+    /**
+     * Gets internal array containing accelerometer biases expressed in meters per
+     * squared second (m/s^2) without copying it.
+     * Returned array must not be modified.
+     *
+     * @return internal array of accelerometer biases.
+     */
+    double[] getInternalAccelerometerBiases() {
+        return accelerometerBiases;
+    }
+
+    /**
+     * Gets internal array containing gyro biases expressed in radians per second
+     * (rad/s) without copying it.
+     * Returned array must not be modified.
+     *
+     * @return internal array of gyro biases.
+     */
+    double[] getInternalGyroBiases() {
+        return gyroBiases;
+    }
+
+    /**
+     * Gets internal matrix containing accelerometer scale factors and cross coupling
+     * errors without copying it.
+     * Returned matrix must not be modified.
+     *
+     * @return internal accelerometer scale factors and cross coupling errors.
+     */
+    Matrix getInternalAccelerometerScaleFactorAndCrossCouplingErrors() {
+        return accelerometerScaleFactorAndCrossCouplingErrors;
+    }
+
+    /**
+     * Gets internal matrix containing gyro scale factors and cross coupling errors
+     * without copying it.
+     * Returned matrix must not be modified.
+     *
+     * @return internal gyro scale factors and cross coupling errors.
+     */
+    Matrix getInternalGyroScaleFactorAndCrossCouplingErrors() {
+        return gyroScaleFactorAndCrossCouplingErrors;
+    }
+
+    /**
+     * Gets internal matrix containing gyro G-dependent biases without copying it.
+     * Returned matrix must not be modified.
+     *
+     * @return internal gyro G-dependent biases.
+     */
+    Matrix getInternalGyroGDependentBiases() {
+        return gyroGDependentBiases;
+    }
+
     /**
      * Checks if provided object is an IMUErrors instance having exactly the same
      * contents as this instance.
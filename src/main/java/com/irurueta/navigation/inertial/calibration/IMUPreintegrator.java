@@ -0,0 +1,1152 @@
+/*
+ * Copyright (C) 2026 Alberto Irurueta Carro (alberto@irurueta.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.irurueta.navigation.inertial.calibration;
+
+import com.irurueta.algebra.Matrix;
+import com.irurueta.algebra.WrongSizeException;
+import com.irurueta.geometry.Quaternion;
+import com.irurueta.geometry.RotationException;
+import com.irurueta.navigation.inertial.BodyKinematics;
+import com.irurueta.navigation.inertial.calibration.gyroscope.QuaternionStepIntegrator;
+import com.irurueta.navigation.inertial.calibration.gyroscope.QuaternionStepIntegratorType;
+import com.irurueta.units.AccelerationConverter;
+import com.irurueta.units.AccelerationUnit;
+import com.irurueta.units.AngularSpeedConverter;
+import com.irurueta.units.AngularSpeedUnit;
+
+import java.util.Arrays;
+
+/**
+ * Pre-integrates IMU samples between two keyframes on the manifold of rotations, so that
+ * relative rotation, velocity and position increments do not need to be re-integrated
+ * when bias estimates change.
+ * Besides increments, this class accumulates their first-order Jacobians respect
+ * accelerometer and gyroscope biases, along with the covariance of increment errors
+ * caused by accelerometer and gyroscope white noise.
+ * Once samples have been pre-integrated using a given bias estimate (linearization point),
+ * increments for a slightly different bias estimate can be cheaply obtained by means of
+ * a first-order correction.
+ * Increments are expressed respect the body frame at the first keyframe, and do not
+ * include gravity nor Earth rotation effects, which must be accounted for by the
+ * optimizer making use of them.
+ * Covariance uses the order: rotation error, velocity error and position error.
+ * This implementation is based on "On-Manifold Preintegration for Real-Time Visual-Inertial
+ * Odometry", C. Forster, L. Carlone, F. Dellaert and D. Scaramuzza, IEEE Transactions on
+ * Robotics, 2017.
+ */
+public class IMUPreintegrator {
+
+    /**
+     * Default type of quaternion step integrator used to integrate relative rotation.
+     */
+    public static final QuaternionStepIntegratorType DEFAULT_QUATERNION_STEP_INTEGRATOR_TYPE =
+            QuaternionStepIntegratorType.RUNGE_KUTTA;
+
+    /**
+     * Number of components of each increment.
+     */
+    public static final int COMPONENTS = BodyKinematics.COMPONENTS;
+
+    /**
+     * Length of error state (rotation, velocity and position) used by covariance.
+     */
+    public static final int STATE_LENGTH = 3 * COMPONENTS;
+
+    /**
+     * Threshold to use small angle approximations.
+     */
+    private static final double SMALL_ANGLE = 1e-8;
+
+    /**
+     * Number of elements of 3x3 matrices.
+     */
+    private static final int MATRIX_SIZE = COMPONENTS * COMPONENTS;
+
+    /**
+     * Type of quaternion step integrator used to integrate relative rotation.
+     */
+    private QuaternionStepIntegratorType quaternionStepIntegratorType = DEFAULT_QUATERNION_STEP_INTEGRATOR_TYPE;
+
+    /**
+     * Quaternion step integrator used to integrate relative rotation.
+     */
+    private QuaternionStepIntegrator quaternionStepIntegrator =
+            QuaternionStepIntegrator.create(DEFAULT_QUATERNION_STEP_INTEGRATOR_TYPE);
+
+    /**
+     * Accelerometer noise root PSD expressed in (m * s^-1.5).
+     */
+    private double accelerometerNoiseRootPsd;
+
+    /**
+     * Gyroscope noise root PSD expressed in (rad * s^-0.5).
+     */
+    private double gyroNoiseRootPsd;
+
+    /**
+     * Accelerometer bias used as linearization point expressed in meters per squared
+     * second (m/s^2).
+     */
+    private final double[] accelerometerBias = new double[COMPONENTS];
+
+    /**
+     * Gyroscope bias used as linearization point expressed in radians per second (rad/s).
+     */
+    private final double[] gyroBias = new double[COMPONENTS];
+
+    /**
+     * Relative rotation between keyframes.
+     */
+    private final Quaternion deltaRotation = new Quaternion();
+
+    /**
+     * Temporary quaternion to be reused.
+     */
+    private final Quaternion tmpQuaternion = new Quaternion();
+
+    /**
+     * Relative rotation between keyframes in matrix form (row-major).
+     */
+    private final double[] deltaRotationMatrix = new double[MATRIX_SIZE];
+
+    /**
+     * Relative velocity between keyframes expressed in meters per second (m/s).
+     */
+    private final double[] deltaVelocity = new double[COMPONENTS];
+
+    /**
+     * Relative position between keyframes expressed in meters (m).
+     */
+    private final double[] deltaPosition = new double[COMPONENTS];
+
+    /**
+     * Jacobian of relative rotation respect gyroscope bias (row-major).
+     */
+    private final double[] rotationGyroBiasJacobian = new double[MATRIX_SIZE];
+
+    /**
+     * Jacobian of relative velocity respect accelerometer bias (row-major).
+     */
+    private final double[] velocityAccelerometerBiasJacobian = new double[MATRIX_SIZE];
+
+    /**
+     * Jacobian of relative velocity respect gyroscope bias (row-major).
+     */
+    private final double[] velocityGyroBiasJacobian = new double[MATRIX_SIZE];
+
+    /**
+     * Jacobian of relative position respect accelerometer bias (row-major).
+     */
+    private final double[] positionAccelerometerBiasJacobian = new double[MATRIX_SIZE];
+
+    /**
+     * Jacobian of relative position respect gyroscope bias (row-major).
+     */
+    private final double[] positionGyroBiasJacobian = new double[MATRIX_SIZE];
+
+    /**
+     * Covariance of increment errors (row-major).
+     */
+    private final double[] covariance = new double[STATE_LENGTH * STATE_LENGTH];
+
+    /**
+     * Error state transition matrix of a single step (row-major).
+     */
+    private final double[] transition = new double[STATE_LENGTH * STATE_LENGTH];
+
+    /**
+     * Temporary matrix used to propagate covariance (row-major).
+     */
+    private final double[] tmpCovariance = new double[STATE_LENGTH * STATE_LENGTH];
+
+    /**
+     * Right Jacobian of rotation step (row-major).
+     */
+    private final double[] rightJacobian = new double[MATRIX_SIZE];
+
+    /**
+     * Rotation of a single step (row-major).
+     */
+    private final double[] stepRotation = new double[MATRIX_SIZE];
+
+    /**
+     * Product of relative rotation and skew matrix of acceleration (row-major).
+     */
+    private final double[] rotationAccelerationSkew = new double[MATRIX_SIZE];
+
+    /**
+     * Temporary 3x3 matrices to be reused (row-major).
+     */
+    private final double[] tmp1 = new double[MATRIX_SIZE];
+
+    /**
+     * Temporary 3x3 matrices to be reused (row-major).
+     */
+    private final double[] tmp2 = new double[MATRIX_SIZE];
+
+    /**
+     * Temporary vector to be reused.
+     */
+    private final double[] tmpVector = new double[COMPONENTS];
+
+    /**
+     * Bias corrected angular rate of previous sample.
+     */
+    private final double[] previousAngularRate = new double[COMPONENTS];
+
+    /**
+     * Time elapsed between keyframes expressed in seconds (s).
+     */
+    private double deltaTime;
+
+    /**
+     * Number of pre-integrated samples.
+     */
+    private int numberOfSamples;
+
+    /**
+     * Constructor.
+     */
+    public IMUPreintegrator() {
+        reset();
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param accelerometerNoiseRootPsd accelerometer noise root PSD expressed in
+     *                                  (m * s^-1.5).
+     * @param gyroNoiseRootPsd          gyroscope noise root PSD expressed in
+     *                                  (rad * s^-0.5).
+     * @throws IllegalArgumentException if any of provided values is negative.
+     */
+    public IMUPreintegrator(final double accelerometerNoiseRootPsd, final double gyroNoiseRootPsd) {
+        this();
+        setAccelerometerNoiseRootPsd(accelerometerNoiseRootPsd);
+        setGyroNoiseRootPsd(gyroNoiseRootPsd);
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param errors IMU errors containing accelerometer and gyroscope noise root PSD's.
+     */
+    public IMUPreintegrator(final IMUErrors errors) {
+        this(errors.getAccelerometerNoiseRootPSD(), errors.getGyroNoiseRootPSD());
+    }
+
+    /**
+     * Gets type of quaternion step integrator used to integrate relative rotation.
+     *
+     * @return type of quaternion step integrator.
+     */
+    public QuaternionStepIntegratorType getQuaternionStepIntegratorType() {
+        return quaternionStepIntegratorType;
+    }
+
+    /**
+     * Sets type of quaternion step integrator used to integrate relative rotation.
+     *
+     * @param quaternionStepIntegratorType type of quaternion step integrator.
+     */
+    public void setQuaternionStepIntegratorType(final QuaternionStepIntegratorType quaternionStepIntegratorType) {
+        if (this.quaternionStepIntegratorType != quaternionStepIntegratorType) {
+            quaternionStepIntegrator = QuaternionStepIntegrator.create(quaternionStepIntegratorType);
+        }
+        this.quaternionStepIntegratorType = quaternionStepIntegratorType;
+    }
+
+    /**
+     * Gets accelerometer noise root PSD expressed in (m * s^-1.5).
+     *
+     * @return accelerometer noise root PSD.
+     */
+    public double getAccelerometerNoiseRootPsd() {
+        return accelerometerNoiseRootPsd;
+    }
+
+    /**
+     * Sets accelerometer noise root PSD expressed in (m * s^-1.5).
+     *
+     * @param accelerometerNoiseRootPsd accelerometer noise root PSD.
+     * @throws IllegalArgumentException if provided value is negative.
+     */
+    public void setAccelerometerNoiseRootPsd(final double accelerometerNoiseRootPsd) {
+        if (accelerometerNoiseRootPsd < 0.0) {
+            throw new IllegalArgumentException();
+        }
+        this.accelerometerNoiseRootPsd = accelerometerNoiseRootPsd;
+    }
+
+    /**
+     * Gets gyroscope noise root PSD expressed in (rad * s^-0.5).
+     *
+     * @return gyroscope noise root PSD.
+     */
+    public double getGyroNoiseRootPsd() {
+        return gyroNoiseRootPsd;
+    }
+
+    /**
+     * Sets gyroscope noise root PSD expressed in (rad * s^-0.5).
+     *
+     * @param gyroNoiseRootPsd gyroscope noise root PSD.
+     * @throws IllegalArgumentException if provided value is negative.
+     */
+    public void setGyroNoiseRootPsd(final double gyroNoiseRootPsd) {
+        if (gyroNoiseRootPsd < 0.0) {
+            throw new IllegalArgumentException();
+        }
+        this.gyroNoiseRootPsd = gyroNoiseRootPsd;
+    }
+
+    /**
+     * Gets accelerometer bias used as linearization point expressed in meters per squared
+     * second (m/s^2).
+     *
+     * @param result array where accelerometer bias will be stored. Must have length 3.
+     * @throws IllegalArgumentException if provided array does not have length 3.
+     */
+    public void getAccelerometerBias(final double[] result) {
+        copyVector(accelerometerBias, result);
+    }
+
+    /**
+     * Gets accelerometer bias used as linearization point expressed in meters per squared
+     * second (m/s^2).
+     *
+     * @return accelerometer bias.
+     */
+    public double[] getAccelerometerBias() {
+        return accelerometerBias.clone();
+    }
+
+    /**
+     * Gets gyroscope bias used as linearization point expressed in radians per second
+     * (rad/s).
+     *
+     * @param result array where gyroscope bias will be stored. Must have length 3.
+     * @throws IllegalArgumentException if provided array does not have length 3.
+     */
+    public void getGyroBias(final double[] result) {
+        copyVector(gyroBias, result);
+    }
+
+    /**
+     * Gets gyroscope bias used as linearization point expressed in radians per second
+     * (rad/s).
+     *
+     * @return gyroscope bias.
+     */
+    public double[] getGyroBias() {
+        return gyroBias.clone();
+    }
+
+    /**
+     * Sets accelerometer and gyroscope biases to be used as linearization point.
+     * Because increments depend on biases, this method resets pre-integration.
+     *
+     * @param accelerometerBiasX x-coordinate of accelerometer bias expressed in meters
+     *                           per squared second (m/s^2).
+     * @param accelerometerBiasY y-coordinate of accelerometer bias expressed in meters
+     *                           per squared second (m/s^2).
+     * @param accelerometerBiasZ z-coordinate of accelerometer bias expressed in meters
+     *                           per squared second (m/s^2).
+     * @param gyroBiasX          x-coordinate of gyroscope bias expressed in radians per
+     *                           second (rad/s).
+     * @param gyroBiasY          y-coordinate of gyroscope bias expressed in radians per
+     *                           second (rad/s).
+     * @param gyroBiasZ          z-coordinate of gyroscope bias expressed in radians per
+     *                           second (rad/s).
+     */
+    public void setBiases(final double accelerometerBiasX, final double accelerometerBiasY,
+                          final double accelerometerBiasZ, final double gyroBiasX, final double gyroBiasY,
+                          final double gyroBiasZ) {
+        accelerometerBias[0] = accelerometerBiasX;
+        accelerometerBias[1] = accelerometerBiasY;
+        accelerometerBias[2] = accelerometerBiasZ;
+        gyroBias[0] = gyroBiasX;
+        gyroBias[1] = gyroBiasY;
+        gyroBias[2] = gyroBiasZ;
+        reset();
+    }
+
+    /**
+     * Sets accelerometer and gyroscope biases to be used as linearization point.
+     * Because increments depend on biases, this method resets pre-integration.
+     *
+     * @param accelerometerBias accelerometer bias.
+     * @param gyroBias          gyroscope bias.
+     */
+    public void setBiases(final AccelerationTriad accelerometerBias, final AngularSpeedTriad gyroBias) {
+        final var accelerometerUnit = accelerometerBias.getUnit();
+        final var gyroUnit = gyroBias.getUnit();
+        setBiases(AccelerationConverter.convert(accelerometerBias.getValueX(), accelerometerUnit,
+                        AccelerationUnit.METERS_PER_SQUARED_SECOND),
+                AccelerationConverter.convert(accelerometerBias.getValueY(), accelerometerUnit,
+                        AccelerationUnit.METERS_PER_SQUARED_SECOND),
+                AccelerationConverter.convert(accelerometerBias.getValueZ(), accelerometerUnit,
+                        AccelerationUnit.METERS_PER_SQUARED_SECOND),
+                AngularSpeedConverter.convert(gyroBias.getValueX(), gyroUnit, AngularSpeedUnit.RADIANS_PER_SECOND),
+                AngularSpeedConverter.convert(gyroBias.getValueY(), gyroUnit, AngularSpeedUnit.RADIANS_PER_SECOND),
+                AngularSpeedConverter.convert(gyroBias.getValueZ(), gyroUnit, AngularSpeedUnit.RADIANS_PER_SECOND));
+    }
+
+    /**
+     * Gets time elapsed between keyframes expressed in seconds (s).
+     *
+     * @return time elapsed between keyframes.
+     */
+    public double getDeltaTime() {
+        return deltaTime;
+    }
+
+    /**
+     * Gets number of pre-integrated samples since last reset.
+     *
+     * @return number of pre-integrated samples.
+     */
+    public int getNumberOfSamples() {
+        return numberOfSamples;
+    }
+
+    /**
+     * Gets relative rotation between keyframes, which converts coordinates from body frame
+     * at current sample into body frame at first keyframe.
+     *
+     * @param result instance where relative rotation will be stored.
+     */
+    public void getDeltaRotation(final Quaternion result) {
+        deltaRotation.copyTo(result);
+    }
+
+    /**
+     * Gets relative rotation between keyframes, which converts coordinates from body frame
+     * at current sample into body frame at first keyframe.
+     *
+     * @return relative rotation.
+     */
+    public Quaternion getDeltaRotation() {
+        return new Quaternion(deltaRotation);
+    }
+
+    /**
+     * Gets relative velocity between keyframes expressed in meters per second (m/s) and
+     * resolved in body frame at first keyframe.
+     *
+     * @param result array where relative velocity will be stored. Must have length 3.
+     * @throws IllegalArgumentException if provided array does not have length 3.
+     */
+    public void getDeltaVelocity(final double[] result) {
+        copyVector(deltaVelocity, result);
+    }
+
+    /**
+     * Gets relative velocity between keyframes expressed in meters per second (m/s) and
+     * resolved in body frame at first keyframe.
+     *
+     * @return relative velocity.
+     */
+    public double[] getDeltaVelocity() {
+        return deltaVelocity.clone();
+    }
+
+    /**
+     * Gets relative position between keyframes expressed in meters (m) and resolved in
+     * body frame at first keyframe.
+     *
+     * @param result array where relative position will be stored. Must have length 3.
+     * @throws IllegalArgumentException if provided array does not have length 3.
+     */
+    public void getDeltaPosition(final double[] result) {
+        copyVector(deltaPosition, result);
+    }
+
+    /**
+     * Gets relative position between keyframes expressed in meters (m) and resolved in
+     * body frame at first keyframe.
+     *
+     * @return relative position.
+     */
+    public double[] getDeltaPosition() {
+        return deltaPosition.clone();
+    }
+
+    /**
+     * Gets Jacobian of relative rotation respect gyroscope bias.
+     *
+     * @param result instance where Jacobian will be stored. If needed, it will be resized
+     *               to 3x3.
+     */
+    public void getRotationGyroBiasJacobian(final Matrix result) {
+        copyMatrix(rotationGyroBiasJacobian, COMPONENTS, result);
+    }
+
+    /**
+     * Gets Jacobian of relative rotation respect gyroscope bias.
+     *
+     * @return Jacobian of relative rotation respect gyroscope bias.
+     */
+    public Matrix getRotationGyroBiasJacobian() {
+        return copyMatrix(rotationGyroBiasJacobian, COMPONENTS);
+    }
+
+    /**
+     * Gets Jacobian of relative velocity respect accelerometer bias.
+     *
+     * @param result instance where Jacobian will be stored. If needed, it will be resized
+     *               to 3x3.
+     */
+    public void getVelocityAccelerometerBiasJacobian(final Matrix result) {
+        copyMatrix(velocityAccelerometerBiasJacobian, COMPONENTS, result);
+    }
+
+    /**
+     * Gets Jacobian of relative velocity respect accelerometer bias.
+     *
+     * @return Jacobian of relative velocity respect accelerometer bias.
+     */
+    public Matrix getVelocityAccelerometerBiasJacobian() {
+        return copyMatrix(velocityAccelerometerBiasJacobian, COMPONENTS);
+    }
+
+    /**
+     * Gets Jacobian of relative velocity respect gyroscope bias.
+     *
+     * @param result instance where Jacobian will be stored. If needed, it will be resized
+     *               to 3x3.
+     */
+    public void getVelocityGyroBiasJacobian(final Matrix result) {
+        copyMatrix(velocityGyroBiasJacobian, COMPONENTS, result);
+    }
+
+    /**
+     * Gets Jacobian of relative velocity respect gyroscope bias.
+     *
+     * @return Jacobian of relative velocity respect gyroscope bias.
+     */
+    public Matrix getVelocityGyroBiasJacobian() {
+        return copyMatrix(velocityGyroBiasJacobian, COMPONENTS);
+    }
+
+    /**
+     * Gets Jacobian of relative position respect accelerometer bias.
+     *
+     * @param result instance where Jacobian will be stored. If needed, it will be resized
+     *               to 3x3.
+     */
+    public void getPositionAccelerometerBiasJacobian(final Matrix result) {
+        copyMatrix(positionAccelerometerBiasJacobian, COMPONENTS, result);
+    }
+
+    /**
+     * Gets Jacobian of relative position respect accelerometer bias.
+     *
+     * @return Jacobian of relative position respect accelerometer bias.
+     */
+    public Matrix getPositionAccelerometerBiasJacobian() {
+        return copyMatrix(positionAccelerometerBiasJacobian, COMPONENTS);
+    }
+
+    /**
+     * Gets Jacobian of relative position respect gyroscope bias.
+     *
+     * @param result instance where Jacobian will be stored. If needed, it will be resized
+     *               to 3x3.
+     */
+    public void getPositionGyroBiasJacobian(final Matrix result) {
+        copyMatrix(positionGyroBiasJacobian, COMPONENTS, result);
+    }
+
+    /**
+     * Gets Jacobian of relative position respect gyroscope bias.
+     *
+     * @return Jacobian of relative position respect gyroscope bias.
+     */
+    public Matrix getPositionGyroBiasJacobian() {
+        return copyMatrix(positionGyroBiasJacobian, COMPONENTS);
+    }
+
+    /**
+     * Gets covariance of rotation, velocity and position increment errors.
+     *
+     * @param result instance where covariance will be stored. If needed, it will be resized
+     *               to 9x9.
+     */
+    public void getCovariance(final Matrix result) {
+        copyMatrix(covariance, STATE_LENGTH, result);
+    }
+
+    /**
+     * Gets covariance of rotation, velocity and position increment errors.
+     *
+     * @return covariance of increment errors.
+     */
+    public Matrix getCovariance() {
+        return copyMatrix(covariance, STATE_LENGTH);
+    }
+
+    /**
+     * Pre-integrates a body kinematics sample.
+     * Specific force and angular rate are assumed to be averages over provided time interval
+     * ending at current sample.
+     *
+     * @param kinematics   body kinematics sample to be pre-integrated.
+     * @param timeInterval time interval of sample expressed in seconds (s).
+     * @throws IllegalArgumentException if time interval is negative.
+     * @throws RotationException        if a numerical error occurs while integrating rotation.
+     */
+    public void addKinematics(final BodyKinematics kinematics, final double timeInterval)
+            throws RotationException {
+        addKinematics(kinematics.getFx(), kinematics.getFy(), kinematics.getFz(),
+                kinematics.getAngularRateX(), kinematics.getAngularRateY(), kinematics.getAngularRateZ(),
+                timeInterval);
+    }
+
+    /**
+     * Pre-integrates a body kinematics sample.
+     * Specific force and angular rate are assumed to be averages over provided time interval
+     * ending at current sample.
+     *
+     * @param fx           specific force x coordinate expressed in meters per squared
+     *                     second (m/s^2).
+     * @param fy           specific force y coordinate expressed in meters per squared
+     *                     second (m/s^2).
+     * @param fz           specific force z coordinate expressed in meters per squared
+     *                     second (m/s^2).
+     * @param angularRateX angular rate x coordinate expressed in radians per second (rad/s).
+     * @param angularRateY angular rate y coordinate expressed in radians per second (rad/s).
+     * @param angularRateZ angular rate z coordinate expressed in radians per second (rad/s).
+     * @param timeInterval time interval of sample expressed in seconds (s).
+     * @throws IllegalArgumentException if time interval is negative.
+     * @throws RotationException        if a numerical error occurs while integrating rotation.
+     */
+    public void addKinematics(final double fx, final double fy, final double fz,
+                              final double angularRateX, final double angularRateY, final double angularRateZ,
+                              final double timeInterval) throws RotationException {
+        if (timeInterval < 0.0) {
+            throw new IllegalArgumentException();
+        }
+
+        final var dt = timeInterval;
+        final var dt2 = dt * dt;
+
+        // bias corrected measurements
+        final var ax = fx - accelerometerBias[0];
+        final var ay = fy - accelerometerBias[1];
+        final var az = fz - accelerometerBias[2];
+        final var wx = angularRateX - gyroBias[0];
+        final var wy = angularRateY - gyroBias[1];
+        final var wz = angularRateZ - gyroBias[2];
+
+        if (numberOfSamples == 0) {
+            previousAngularRate[0] = wx;
+            previousAngularRate[1] = wy;
+            previousAngularRate[2] = wz;
+        }
+
+        // rotation step, its right Jacobian and rotation matrix (using average angular rate
+        // consistent with the quaternion step integrator)
+        final var phiX = 0.5 * (previousAngularRate[0] + wx) * dt;
+        final var phiY = 0.5 * (previousAngularRate[1] + wy) * dt;
+        final var phiZ = 0.5 * (previousAngularRate[2] + wz) * dt;
+        computeExpAndRightJacobian(phiX, phiY, phiZ, stepRotation, rightJacobian);
+
+        // R * [a]x
+        skew(ax, ay, az, tmp1);
+        multiply(deltaRotationMatrix, tmp1, rotationAccelerationSkew);
+
+        // covariance propagation (uses matrices of previous step)
+        propagateCovariance(dt);
+
+        // Jacobians respect biases (position first, since it depends on previous velocity
+        // Jacobians)
+        // dP/dba += dV/dba * dt - 0.5 * R * dt^2
+        // dP/dbg += dV/dbg * dt - 0.5 * R * [a]x * dR/dbg * dt^2
+        // dV/dba -= R * dt
+        // dV/dbg -= R * [a]x * dR/dbg * dt
+        multiply(rotationAccelerationSkew, rotationGyroBiasJacobian, tmp2);
+        for (var i = 0; i < MATRIX_SIZE; i++) {
+            positionAccelerometerBiasJacobian[i] += velocityAccelerometerBiasJacobian[i] * dt
+                    - 0.5 * deltaRotationMatrix[i] * dt2;
+            positionGyroBiasJacobian[i] += velocityGyroBiasJacobian[i] * dt - 0.5 * tmp2[i] * dt2;
+            velocityAccelerometerBiasJacobian[i] -= deltaRotationMatrix[i] * dt;
+            velocityGyroBiasJacobian[i] -= tmp2[i] * dt;
+        }
+
+        // dR/dbg = stepR^T * dR/dbg - Jr * dt
+        multiplyTransposed(stepRotation, rotationGyroBiasJacobian, tmp1);
+        for (var i = 0; i < MATRIX_SIZE; i++) {
+            rotationGyroBiasJacobian[i] = tmp1[i] - rightJacobian[i] * dt;
+        }
+
+        // increments
+        multiply(deltaRotationMatrix, ax, ay, az, tmpVector);
+        for (var i = 0; i < COMPONENTS; i++) {
+            deltaPosition[i] += deltaVelocity[i] * dt + 0.5 * tmpVector[i] * dt2;
+            deltaVelocity[i] += tmpVector[i] * dt;
+        }
+
+        quaternionStepIntegrator.integrate(deltaRotation, previousAngularRate[0], previousAngularRate[1],
+                previousAngularRate[2], wx, wy, wz, dt, tmpQuaternion);
+        tmpQuaternion.normalize();
+        tmpQuaternion.copyTo(deltaRotation);
+        toRotationMatrix(deltaRotation, deltaRotationMatrix);
+
+        previousAngularRate[0] = wx;
+        previousAngularRate[1] = wy;
+        previousAngularRate[2] = wz;
+
+        deltaTime += dt;
+        numberOfSamples++;
+    }
+
+    /**
+     * Gets relative rotation between keyframes corrected to first order for a new gyroscope
+     * bias estimate, without re-integrating samples.
+     *
+     * @param gyroBiasX x-coordinate of new gyroscope bias expressed in radians per second
+     *                  (rad/s).
+     * @param gyroBiasY y-coordinate of new gyroscope bias expressed in radians per second
+     *                  (rad/s).
+     * @param gyroBiasZ z-coordinate of new gyroscope bias expressed in radians per second
+     *                  (rad/s).
+     * @param result    instance where corrected relative rotation will be stored.
+     */
+    public void getCorrectedDeltaRotation(final double gyroBiasX, final double gyroBiasY, final double gyroBiasZ,
+                                          final Quaternion result) {
+        // R * Exp(dR/dbg * dbg)
+        final var rotationVector = new double[COMPONENTS];
+        multiply(rotationGyroBiasJacobian, gyroBiasX - gyroBias[0], gyroBiasY - gyroBias[1],
+                gyroBiasZ - gyroBias[2], rotationVector);
+        final var correction = new Quaternion();
+        Quaternion.rotationVectorToQuaternion(rotationVector, correction);
+        Quaternion.product(deltaRotation, correction, result);
+        result.normalize();
+    }
+
+    /**
+     * Gets relative velocity between keyframes corrected to first order for new bias
+     * estimates, without re-integrating samples.
+     *
+     * @param accelerometerBiasX x-coordinate of new accelerometer bias expressed in meters
+     *                           per squared second (m/s^2).
+     * @param accelerometerBiasY y-coordinate of new accelerometer bias expressed in meters
+     *                           per squared second (m/s^2).
+     * @param accelerometerBiasZ z-coordinate of new accelerometer bias expressed in meters
+     *                           per squared second (m/s^2).
+     * @param gyroBiasX          x-coordinate of new gyroscope bias expressed in radians per
+     *                           second (rad/s).
+     * @param gyroBiasY          y-coordinate of new gyroscope bias expressed in radians per
+     *                           second (rad/s).
+     * @param gyroBiasZ          z-coordinate of new gyroscope bias expressed in radians per
+     *                           second (rad/s).
+     * @param result             array where corrected relative velocity will be stored.
+     *                           Must have length 3.
+     * @throws IllegalArgumentException if provided array does not have length 3.
+     */
+    public void getCorrectedDeltaVelocity(
+            final double accelerometerBiasX, final double accelerometerBiasY, final double accelerometerBiasZ,
+            final double gyroBiasX, final double gyroBiasY, final double gyroBiasZ, final double[] result) {
+        correct(deltaVelocity, velocityAccelerometerBiasJacobian, velocityGyroBiasJacobian,
+                accelerometerBiasX, accelerometerBiasY, accelerometerBiasZ, gyroBiasX, gyroBiasY, gyroBiasZ,
+                result);
+    }
+
+    /**
+     * Gets relative position between keyframes corrected to first order for new bias
+     * estimates, without re-integrating samples.
+     *
+     * @param accelerometerBiasX x-coordinate of new accelerometer bias expressed in meters
+     *                           per squared second (m/s^2).
+     * @param accelerometerBiasY y-coordinate of new accelerometer bias expressed in meters
+     *                           per squared second (m/s^2).
+     * @param accelerometerBiasZ z-coordinate of new accelerometer bias expressed in meters
+     *                           per squared second (m/s^2).
+     * @param gyroBiasX          x-coordinate of new gyroscope bias expressed in radians per
+     *                           second (rad/s).
+     * @param gyroBiasY          y-coordinate of new gyroscope bias expressed in radians per
+     *                           second (rad/s).
+     * @param gyroBiasZ          z-coordinate of new gyroscope bias expressed in radians per
+     *                           second (rad/s).
+     * @param result             array where corrected relative position will be stored.
+     *                           Must have length 3.
+     * @throws IllegalArgumentException if provided array does not have length 3.
+     */
+    public void getCorrectedDeltaPosition(
+            final double accelerometerBiasX, final double accelerometerBiasY, final double accelerometerBiasZ,
+            final double gyroBiasX, final double gyroBiasY, final double gyroBiasZ, final double[] result) {
+        correct(deltaPosition, positionAccelerometerBiasJacobian, positionGyroBiasJacobian,
+                accelerometerBiasX, accelerometerBiasY, accelerometerBiasZ, gyroBiasX, gyroBiasY, gyroBiasZ,
+                result);
+    }
+
+    /**
+     * Resets pre-integration so that a new keyframe interval can start.
+     * Linearization biases and noise parameters are preserved.
+     */
+    public void reset() {
+        deltaRotation.setA(1.0);
+        deltaRotation.setB(0.0);
+        deltaRotation.setC(0.0);
+        deltaRotation.setD(0.0);
+        identity(deltaRotationMatrix);
+
+        for (var i = 0; i < COMPONENTS; i++) {
+            deltaVelocity[i] = 0.0;
+            deltaPosition[i] = 0.0;
+            previousAngularRate[i] = 0.0;
+        }
+
+        for (var i = 0; i < MATRIX_SIZE; i++) {
+            rotationGyroBiasJacobian[i] = 0.0;
+            velocityAccelerometerBiasJacobian[i] = 0.0;
+            velocityGyroBiasJacobian[i] = 0.0;
+            positionAccelerometerBiasJacobian[i] = 0.0;
+            positionGyroBiasJacobian[i] = 0.0;
+        }
+
+        Arrays.fill(covariance, 0.0);
+
+        deltaTime = 0.0;
+        numberOfSamples = 0;
+    }
+
+    /**
+     * Propagates covariance of increment errors for a single step.
+     * Covariance is propagated as A * P * A^T + B * Q * B^T, where:
+     * A = [stepR^T,            0,     0]
+     *     [-R * [a]x * dt,     I,     0]
+     *     [-0.5*R*[a]x*dt^2,   I*dt,  I]
+     * and gyroscope noise affects rotation through Jr * dt, while accelerometer noise affects
+     * velocity and position through R * dt and 0.5 * R * dt^2.
+     *
+     * @param dt time interval of step expressed in seconds (s).
+     */
+    private void propagateCovariance(final double dt) {
+        final var n = STATE_LENGTH;
+        Arrays.fill(transition, 0.0);
+        for (var i = 0; i < COMPONENTS; i++) {
+            for (var j = 0; j < COMPONENTS; j++) {
+                final var k = i * COMPONENTS + j;
+                // rotation block
+                transition[i * n + j] = stepRotation[j * COMPONENTS + i];
+                // velocity respect rotation
+                transition[(i + COMPONENTS) * n + j] = -rotationAccelerationSkew[k] * dt;
+                // position respect rotation
+                transition[(i + 2 * COMPONENTS) * n + j] = -0.5 * rotationAccelerationSkew[k] * dt * dt;
+            }
+            transition[(i + COMPONENTS) * n + i + COMPONENTS] = 1.0;
+            transition[(i + 2 * COMPONENTS) * n + i + COMPONENTS] = dt;
+            transition[(i + 2 * COMPONENTS) * n + i + 2 * COMPONENTS] = 1.0;
+        }
+
+        // tmp = A * P
+        for (var i = 0; i < n; i++) {
+            for (var j = 0; j < n; j++) {
+                var sum = 0.0;
+                for (var k = 0; k < n; k++) {
+                    sum += transition[i * n + k] * covariance[k * n + j];
+                }
+                tmpCovariance[i * n + j] = sum;
+            }
+        }
+        // P = tmp * A^T
+        for (var i = 0; i < n; i++) {
+            for (var j = 0; j < n; j++) {
+                var sum = 0.0;
+                for (var k = 0; k < n; k++) {
+                    sum += tmpCovariance[i * n + k] * transition[j * n + k];
+                }
+                covariance[i * n + j] = sum;
+            }
+        }
+
+        if (dt <= 0.0) {
+            return;
+        }
+
+        // discrete noise variances
+        final var gyroVariance = gyroNoiseRootPsd * gyroNoiseRootPsd / dt;
+        final var accelerometerVariance = accelerometerNoiseRootPsd * accelerometerNoiseRootPsd / dt;
+
+        // gyroscope noise: Jr * dt * Qg * (Jr * dt)^T
+        final var gyroScale = gyroVariance * dt * dt;
+        for (var i = 0; i < COMPONENTS; i++) {
+            for (var j = 0; j < COMPONENTS; j++) {
+                var sum = 0.0;
+                for (var k = 0; k < COMPONENTS; k++) {
+                    sum += rightJacobian[i * COMPONENTS + k] * rightJacobian[j * COMPONENTS + k];
+                }
+                covariance[i * n + j] += gyroScale * sum;
+            }
+        }
+
+        // accelerometer noise: [R*dt; 0.5*R*dt^2] * Qa * [R*dt; 0.5*R*dt^2]^T, where
+        // R * R^T = I
+        final var vv = accelerometerVariance * dt * dt;
+        final var vp = 0.5 * accelerometerVariance * dt * dt * dt;
+        final var pp = 0.25 * accelerometerVariance * dt * dt * dt * dt;
+        for (var i = 0; i < COMPONENTS; i++) {
+            final var v = i + COMPONENTS;
+            final var p = i + 2 * COMPONENTS;
+            covariance[v * n + v] += vv;
+            covariance[v * n + p] += vp;
+            covariance[p * n + v] += vp;
+            covariance[p * n + p] += pp;
+        }
+    }
+
+    /**
+     * Applies a first-order bias correction to an increment.
+     *
+     * @param increment                  increment to be corrected.
+     * @param accelerometerBiasJacobian  Jacobian of increment respect accelerometer bias.
+     * @param gyroBiasJacobian           Jacobian of increment respect gyroscope bias.
+     * @param accelerometerBiasX         x-coordinate of new accelerometer bias.
+     * @param accelerometerBiasY         y-coordinate of new accelerometer bias.
+     * @param accelerometerBiasZ         z-coordinate of new accelerometer bias.
+     * @param gyroBiasX                  x-coordinate of new gyroscope bias.
+     * @param gyroBiasY                  y-coordinate of new gyroscope bias.
+     * @param gyroBiasZ                  z-coordinate of new gyroscope bias.
+     * @param result                     array where corrected increment will be stored.
+     * @throws IllegalArgumentException if provided array does not have length 3.
+     */
+    private void correct(final double[] increment, final double[] accelerometerBiasJacobian,
+                         final double[] gyroBiasJacobian, final double accelerometerBiasX,
+                         final double accelerometerBiasY, final double accelerometerBiasZ,
+                         final double gyroBiasX, final double gyroBiasY, final double gyroBiasZ,
+                         final double[] result) {
+        if (result.length != COMPONENTS) {
+            throw new IllegalArgumentException();
+        }
+
+        final var dbax = accelerometerBiasX - accelerometerBias[0];
+        final var dbay = accelerometerBiasY - accelerometerBias[1];
+        final var dbaz = accelerometerBiasZ - accelerometerBias[2];
+        final var dbgx = gyroBiasX - gyroBias[0];
+        final var dbgy = gyroBiasY - gyroBias[1];
+        final var dbgz = gyroBiasZ - gyroBias[2];
+
+        for (var i = 0; i < COMPONENTS; i++) {
+            final var row = i * COMPONENTS;
+            result[i] = increment[i]
+                    + accelerometerBiasJacobian[row] * dbax
+                    + accelerometerBiasJacobian[row + 1] * dbay
+                    + accelerometerBiasJacobian[row + 2] * dbaz
+                    + gyroBiasJacobian[row] * dbgx
+                    + gyroBiasJacobian[row + 1] * dbgy
+                    + gyroBiasJacobian[row + 2] * dbgz;
+        }
+    }
+
+    /**
+     * Computes rotation matrix (exponential map) and right Jacobian of a rotation vector.
+     *
+     * @param phiX          x-coordinate of rotation vector.
+     * @param phiY          y-coordinate of rotation vector.
+     * @param phiZ          z-coordinate of rotation vector.
+     * @param rotation      array where row-major rotation matrix will be stored.
+     * @param rightJacobian array where row-major right Jacobian will be stored.
+     */
+    private void computeExpAndRightJacobian(
+            final double phiX, final double phiY, final double phiZ, final double[] rotation,
+            final double[] rightJacobian) {
+        final var theta2 = phiX * phiX + phiY * phiY + phiZ * phiZ;
+        final var theta = Math.sqrt(theta2);
+
+        final double a;
+        final double b;
+        final double c;
+        if (theta < SMALL_ANGLE) {
+            a = 1.0;
+            b = 0.5;
+            c = 1.0 / 6.0;
+        } else {
+            a = Math.sin(theta) / theta;
+            b = (1.0 - Math.cos(theta)) / theta2;
+            c = (theta - Math.sin(theta)) / (theta2 * theta);
+        }
+
+        // [phi]x and [phi]x^2
+        final var s = tmp1;
+        final var s2 = tmp2;
+        skew(phiX, phiY, phiZ, s);
+        multiply(s, s, s2);
+
+        for (var i = 0; i < MATRIX_SIZE; i++) {
+            final var id = (i % (COMPONENTS + 1) == 0) ? 1.0 : 0.0;
+            // Exp(phi) = I + sin/theta * S + (1 - cos)/theta^2 * S^2
+            rotation[i] = id + a * s[i] + b * s2[i];
+            // Jr(phi) = I - (1 - cos)/theta^2 * S + (theta - sin)/theta^3 * S^2
+            rightJacobian[i] = id - b * s[i] + c * s2[i];
+        }
+    }
+
+    /**
+     * Converts a quaternion into a row-major rotation matrix.
+     *
+     * @param q      quaternion to be converted.
+     * @param result array where rotation matrix will be stored.
+     */
+    private static void toRotationMatrix(final Quaternion q, final double[] result) {
+        final var a = q.getA();
+        final var b = q.getB();
+        final var c = q.getC();
+        final var d = q.getD();
+
+        result[0] = a * a + b * b - c * c - d * d;
+        result[1] = 2.0 * (b * c - a * d);
+        result[2] = 2.0 * (b * d + a * c);
+        result[3] = 2.0 * (b * c + a * d);
+        result[4] = a * a - b * b + c * c - d * d;
+        result[5] = 2.0 * (c * d - a * b);
+        result[6] = 2.0 * (b * d - a * c);
+        result[7] = 2.0 * (c * d + a * b);
+        result[8] = a * a - b * b - c * c + d * d;
+    }
+
+    /**
+     * Computes row-major skew matrix of a vector.
+     *
+     * @param x      x-coordinate of vector.
+     * @param y      y-coordinate of vector.
+     * @param z      z-coordinate of vector.
+     * @param result array where skew matrix will be stored.
+     */
+    private static void skew(final double x, final double y, final double z, final double[] result) {
+        result[0] = 0.0;
+        result[1] = -z;
+        result[2] = y;
+        result[3] = z;
+        result[4] = 0.0;
+        result[5] = -x;
+        result[6] = -y;
+        result[7] = x;
+        result[8] = 0.0;
+    }
+
+    /**
+     * Sets provided row-major 3x3 matrix to the identity.
+     *
+     * @param result matrix to be set.
+     */
+    private static void identity(final double[] result) {
+        for (var i = 0; i < MATRIX_SIZE; i++) {
+            result[i] = (i % (COMPONENTS + 1) == 0) ? 1.0 : 0.0;
+        }
+    }
+
+    /**
+     * Multiplies two row-major 3x3 matrices.
+     *
+     * @param a      1st matrix.
+     * @param b      2nd matrix.
+     * @param result array where a * b will be stored.
+     */
+    private static void multiply(final double[] a, final double[] b, final double[] result) {
+        for (var i = 0; i < COMPONENTS; i++) {
+            for (var j = 0; j < COMPONENTS; j++) {
+                result[i * COMPONENTS + j] = a[i * COMPONENTS] * b[j]
+                        + a[i * COMPONENTS + 1] * b[COMPONENTS + j]
+                        + a[i * COMPONENTS + 2] * b[2 * COMPONENTS + j];
+            }
+        }
+    }
+
+    /**
+     * Multiplies the transpose of a row-major 3x3 matrix by another one.
+     *
+     * @param a      1st matrix to be transposed.
+     * @param b      2nd matrix.
+     * @param result array where a^T * b will be stored.
+     */
+    private static void multiplyTransposed(final double[] a, final double[] b, final double[] result) {
+        for (var i = 0; i < COMPONENTS; i++) {
+            for (var j = 0; j < COMPONENTS; j++) {
+                result[i * COMPONENTS + j] = a[i] * b[j]
+                        + a[COMPONENTS + i] * b[COMPONENTS + j]
+                        + a[2 * COMPONENTS + i] * b[2 * COMPONENTS + j];
+            }
+        }
+    }
+
+    /**
+     * Multiplies a row-major 3x3 matrix by a vector.
+     *
+     * @param m      matrix.
+     * @param x      x-coordinate of vector.
+     * @param y      y-coordinate of vector.
+     * @param z      z-coordinate of vector.
+     * @param result array where m * v will be stored.
+     */
+    private static void multiply(final double[] m, final double x, final double y, final double z,
+                                 final double[] result) {
+        result[0] = m[0] * x + m[1] * y + m[2] * z;
+        result[1] = m[3] * x + m[4] * y + m[5] * z;
+        result[2] = m[6] * x + m[7] * y + m[8] * z;
+    }
+
+    /**
+     * Copies provided vector into result.
+     *
+     * @param vector vector to be copied.
+     * @param result array where vector will be copied.
+     * @throws IllegalArgumentException if result does not have length 3.
+     */
+    private static void copyVector(final double[] vector, final double[] result) {
+        if (result.length != COMPONENTS) {
+            throw new IllegalArgumentException();
+        }
+        System.arraycopy(vector, 0, result, 0, COMPONENTS);
+    }
+
+    /**
+     * Copies a row-major square matrix into provided matrix.
+     *
+     * @param values row-major values.
+     * @param size   number of rows and columns.
+     * @param result instance where values will be copied. If needed, it will be resized.
+     */
+    private static void copyMatrix(final double[] values, final int size, final Matrix result) {
+        try {
+            if (result.getRows() != size || result.getColumns() != size) {
+                result.resize(size, size);
+            }
+        } catch (final WrongSizeException ignore) {
+            // never happens
+        }
+        result.setSubmatrix(0, 0, size - 1, size - 1, values, false);
+    }
+
+    /**
+     * Copies a row-major square matrix into a new matrix.
+     *
+     * @param values row-major values.
+     * @param size   number of rows and columns.
+     * @return new matrix.
+     */
+    private static Matrix copyMatrix(final double[] values, final int size) {
+        try {
+            final var result = new Matrix(size, size);
+            copyMatrix(values, size, result);
+            return result;
+        } catch (final WrongSizeException ignore) {
+            // never happens
+            return null;
+        }
+    }
+}
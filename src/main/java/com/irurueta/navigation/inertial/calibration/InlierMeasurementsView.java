@@ -0,0 +1,109 @@
+/*
+ * Copyright (C) 2026 Alberto Irurueta Carro (alberto@irurueta.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.irurueta.navigation.inertial.calibration;
+
+import java.util.AbstractCollection;
+import java.util.BitSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+
+/**
+ * Read-only view of the inlier measurements of a robust calibration.
+ * Measurements are neither copied nor collected into a new list. Instead, they are
+ * obtained from the original list at the positions indicated by provided inlier bits
+ * every time this collection is iterated.
+ *
+ * @param <E> type of measurement.
+ */
+public class InlierMeasurementsView<E> extends AbstractCollection<E> {
+
+    /**
+     * Original list containing all measurements.
+     */
+    private final List<E> measurements;
+
+    /**
+     * Bits indicating whether each measurement is an inlier.
+     */
+    private final BitSet inliers;
+
+    /**
+     * Number of inlier measurements.
+     */
+    private final int size;
+
+    /**
+     * Constructor.
+     *
+     * @param measurements original list containing all measurements.
+     * @param inliers      bits indicating whether each measurement is an inlier.
+     * @throws IllegalArgumentException if any inlier bit is set beyond the number of
+     *                                  measurements.
+     */
+    public InlierMeasurementsView(final List<E> measurements, final BitSet inliers) {
+        if (inliers.length() > measurements.size()) {
+            throw new IllegalArgumentException();
+        }
+
+        this.measurements = measurements;
+        this.inliers = inliers;
+        size = inliers.cardinality();
+    }
+
+    /**
+     * Returns an iterator over inlier measurements, in the same order they have in the
+     * original list.
+     *
+     * @return iterator over inlier measurements.
+     */
+    @Override
+    public Iterator<E> iterator() {
+        return new Iterator<>() {
+
+            /**
+             * Position of next inlier measurement in the original list, or -1 if there
+             * are no more inliers.
+             */
+            private int next = inliers.nextSetBit(0);
+
+            @Override
+            public boolean hasNext() {
+                return next >= 0;
+            }
+
+            @Override
+            public E next() {
+                if (next < 0) {
+                    throw new NoSuchElementException();
+                }
+                final var result = measurements.get(next);
+                next = inliers.nextSetBit(next + 1);
+                return result;
+            }
+        };
+    }
+
+    /**
+     * Gets number of inlier measurements.
+     *
+     * @return number of inlier measurements.
+     */
+    @Override
+    public int size() {
+        return size;
+    }
+}
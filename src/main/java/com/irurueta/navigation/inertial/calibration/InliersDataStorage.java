@@ -0,0 +1,40 @@
+/*
+ * Copyright (C) 2026 Alberto Irurueta Carro (alberto@irurueta.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.irurueta.navigation.inertial.calibration;
+
+/**
+ * Indicates how inliers and residuals found by a robust calibrator are stored once
+ * calibration finishes.
+ */
+public enum InliersDataStorage {
+    /**
+     * Inliers data reported by the robust estimator is kept as is, including residuals
+     * stored as doubles when they are computed.
+     */
+    FULL,
+
+    /**
+     * Inliers are kept as a bit per measurement and residuals are converted to floats,
+     * releasing inliers data reported by the robust estimator.
+     */
+    COMPACT_FLOAT_RESIDUALS,
+
+    /**
+     * Inliers are kept as a bit per measurement and residuals are dropped, releasing
+     * inliers data reported by the robust estimator.
+     */
+    COMPACT_NO_RESIDUALS
+}
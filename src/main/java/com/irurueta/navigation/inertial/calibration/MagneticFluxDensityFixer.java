@@ -25,6 +25,8 @@ import com.irurueta.units.MagneticFluxDensity;
 import com.irurueta.units.MagneticFluxDensityConverter;
 import com.irurueta.units.MagneticFluxDensityUnit;
 
+import java.util.Objects;
+
 /**
  * Fixes magnetic flux density values taking into account provided bias and
  * cross coupling errors.
@@ -76,6 +78,13 @@ public class MagneticFluxDensityFixer {
      */
     private Matrix crossCouplingErrors;
 
+    /**
+     * Table containing calibration parameters at different temperatures, or null
+     * if fixing at a given temperature must use last provided bias and cross coupling
+     * errors.
+     */
+    private TemperatureCalibrationTable temperatureCalibrationTable;
+
     /**
      * Constructor.
      */
@@ -937,6 +946,60 @@ public class MagneticFluxDensityFixer {
         tmp3.toArray(result);
     }
 
+    /**
+     * Fixes in place a range of measured magnetic flux density samples stored
+     * as primitive arrays (one array per coordinate) by undoing the errors
+     * introduced by the magnetometer model to restore the true magnetic flux
+     * density.
+     * This method uses last provided hard iron (bias) and soft iron (cross
+     * coupling errors) along with the cached inverse of (I + Mm), and neither
+     * creates objects nor performs unit conversions, so that whole buffers of
+     * raw samples can be corrected.
+     *
+     * @param bx     x-coordinates of measured magnetic flux density expressed
+     *               in Teslas (T). Restored values are stored in place.
+     * @param by     y-coordinates of measured magnetic flux density expressed
+     *               in Teslas (T). Restored values are stored in place.
+     * @param bz     z-coordinates of measured magnetic flux density expressed
+     *               in Teslas (T). Restored values are stored in place.
+     * @param offset position of first sample to be fixed.
+     * @param length number of samples to be fixed.
+     * @throws IndexOutOfBoundsException if provided range is not valid for
+     *                                   any of the arrays.
+     */
+    public void fix(final double[] bx, final double[] by, final double[] bz, final int offset, final int length) {
+        Objects.checkFromIndexSize(offset, length, bx.length);
+        Objects.checkFromIndexSize(offset, length, by.length);
+        Objects.checkFromIndexSize(offset, length, bz.length);
+
+        // btrue = (I + Mm)^-1 * (bmeas - bm), where (I + Mm)^-1 is stored
+        // in column order
+        final var m = tmp2.getBuffer();
+        final var m00 = m[0];
+        final var m10 = m[1];
+        final var m20 = m[2];
+        final var m01 = m[3];
+        final var m11 = m[4];
+        final var m21 = m[5];
+        final var m02 = m[6];
+        final var m12 = m[7];
+        final var m22 = m[8];
+
+        final var hardIronX = bias.getElementAtIndex(0);
+        final var hardIronY = bias.getElementAtIndex(1);
+        final var hardIronZ = bias.getElementAtIndex(2);
+
+        final var end = offset + length;
+        for (var i = offset; i < end; i++) {
+            final var dx = bx[i] - hardIronX;
+            final var dy = by[i] - hardIronY;
+            final var dz = bz[i] - hardIronZ;
+            bx[i] = m00 * dx + m01 * dy + m02 * dz;
+            by[i] = m10 * dx + m11 * dy + m12 * dz;
+            bz[i] = m20 * dx + m21 * dy + m22 * dz;
+        }
+    }
+
     /**
      * Fixes provided measured body magnetic flux density values by undoing the
      * errors introduced by the magnetometer model to restore the true body
@@ -988,6 +1051,7 @@ public class MagneticFluxDensityFixer {
      * errors introduced by the magnetometer model to restore the true body
      * magnetic flux density.
      * This method uses last provided bias and cross coupling errors.
+     * This method is allocation-free.
      *
      * @param measuredBx x-coordinate of measured magnetic flux density expressed
      *                   in Teslas (T).
@@ -1313,6 +1377,61 @@ public class MagneticFluxDensityFixer {
                 result.getBuffer());
     }
 
+    /**
+     * Gets table containing calibration parameters at different temperatures.
+     * When provided, methods fixing at a given temperature use this table instead
+     * of last provided bias and cross coupling errors.
+     *
+     * @return table containing calibration parameters at different temperatures or null.
+     */
+    public TemperatureCalibrationTable getTemperatureCalibrationTable() {
+        return temperatureCalibrationTable;
+    }
+
+    /**
+     * Sets table containing calibration parameters at different temperatures.
+     * When provided, methods fixing at a given temperature use this table instead
+     * of last provided bias and cross coupling errors.
+     *
+     * @param temperatureCalibrationTable table containing calibration parameters at
+     *                                    different temperatures or null.
+     */
+    public void setTemperatureCalibrationTable(final TemperatureCalibrationTable temperatureCalibrationTable) {
+        this.temperatureCalibrationTable = temperatureCalibrationTable;
+    }
+
+    /**
+     * Fixes provided measured magnetic flux density values obtained at provided
+     * temperature by undoing the errors introduced by the magnetometer model to
+     * restore the true magnetic flux density.
+     * If a temperature calibration table has been provided, bias and cross coupling
+     * errors are interpolated at provided temperature, otherwise last provided bias
+     * and cross coupling errors are used.
+     * This method is allocation-free.
+     *
+     * @param temperature temperature expressed in degrees Celsius (ºC).
+     * @param measuredBx  x-coordinate of measured magnetic flux density
+     *                    expressed in Teslas (T).
+     * @param measuredBy  y-coordinate of measured magnetic flux density
+     *                    expressed in Teslas (T).
+     * @param measuredBz  z-coordinate of measured magnetic flux density
+     *                    expressed in Teslas (T).
+     * @param result      instance where restored true magnetic flux density
+     *                    will be stored. Must have length 3.
+     * @throws AlgebraException         if there are numerical instabilities.
+     * @throws IllegalArgumentException if provided result array does not have
+     *                                  length 3.
+     */
+    public void fixAtTemperature(
+            final double temperature, final double measuredBx, final double measuredBy, final double measuredBz,
+            final double[] result) throws AlgebraException {
+        if (temperatureCalibrationTable != null) {
+            temperatureCalibrationTable.fixMagneticFluxDensity(temperature, measuredBx, measuredBy, measuredBz, result);
+        } else {
+            fix(measuredBx, measuredBy, measuredBz, result);
+        }
+    }
+
     /**
      * Fixes provided measured body magnetic flux density values by undoing the
      * errors introduced by the magnetometer model to restore the true body
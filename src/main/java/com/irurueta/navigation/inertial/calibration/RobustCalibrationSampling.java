@@ -0,0 +1,211 @@
+/*
+ * Copyright (C) 2026 Alberto Irurueta Carro (alberto@irurueta.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.irurueta.navigation.inertial.calibration;
+
+import com.irurueta.numerical.robust.InliersData;
+import com.irurueta.numerical.robust.LMedSRobustEstimator;
+import com.irurueta.numerical.robust.PROMedSRobustEstimator;
+
+import java.util.BitSet;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.IntToDoubleFunction;
+
+/**
+ * Utility methods to robustly calibrate very large sets of measurements by scoring
+ * hypotheses on a fixed-size sample of measurements, and then checking only the best
+ * hypothesis against the whole set of measurements.
+ * Measurements are sampled using stratified sampling, where measurements are split into
+ * as many consecutive strata of equal size as the number of samples, and a random
+ * measurement is taken from each stratum. Because measurements are usually collected
+ * sequentially, this ensures that samples are spread along the whole recording.
+ */
+public class RobustCalibrationSampling {
+
+    /**
+     * Prevents instantiation of utility class.
+     */
+    private RobustCalibrationSampling() {
+    }
+
+    /**
+     * Takes a stratified sample of measurement positions.
+     *
+     * @param numMeasurements total number of measurements.
+     * @param sampleSize      number of samples to be taken.
+     * @param random          random number generator.
+     * @return positions of sampled measurements in ascending order.
+     * @throws IllegalArgumentException if sample size is not positive or is greater
+     *                                  than the number of measurements.
+     */
+    public static int[] stratifiedSample(final int numMeasurements, final int sampleSize, final Random random) {
+        if (sampleSize <= 0 || sampleSize > numMeasurements) {
+            throw new IllegalArgumentException();
+        }
+
+        final var result = new int[sampleSize];
+        for (var i = 0; i < sampleSize; i++) {
+            final var start = (int) ((long) i * numMeasurements / sampleSize);
+            final var end = (int) ((long) (i + 1) * numMeasurements / sampleSize);
+            result[i] = start + random.nextInt(end - start);
+        }
+        return result;
+    }
+
+    /**
+     * Samples positions of measurements used to score hypotheses if sampled scoring is
+     * enabled and there are more measurements than the scoring sample size.
+     *
+     * @param sampledScoring    true if hypotheses are scored on a sample of measurements.
+     * @param numMeasurements   total number of measurements.
+     * @param scoringSampleSize number of measurements sampled to score hypotheses.
+     * @return positions of sampled measurements in ascending order or null if hypotheses
+     * must be scored on all measurements.
+     */
+    public static int[] setupScoringSamples(final boolean sampledScoring, final int numMeasurements,
+                                            final int scoringSampleSize) {
+        return sampledScoring && numMeasurements > scoringSampleSize
+                ? stratifiedSample(numMeasurements, scoringSampleSize, ThreadLocalRandom.current()) : null;
+    }
+
+    /**
+     * Gets number of measurements used to score hypotheses.
+     *
+     * @param numMeasurements total number of measurements.
+     * @param scoringIndices  positions of sampled measurements or null if hypotheses are
+     *                        scored on all measurements.
+     * @return number of measurements used to score hypotheses.
+     */
+    public static int getScoringSamples(final int numMeasurements, final int[] scoringIndices) {
+        return scoringIndices != null ? scoringIndices.length : numMeasurements;
+    }
+
+    /**
+     * Gets measurement used to score hypotheses at provided position.
+     *
+     * @param measurements   all measurements.
+     * @param scoringIndices positions of sampled measurements or null if hypotheses are
+     *                       scored on all measurements.
+     * @param i              position of measurement among the ones used to score
+     *                       hypotheses.
+     * @param <M>            type of measurement.
+     * @return measurement.
+     */
+    public static <M> M getScoringMeasurement(final List<M> measurements, final int[] scoringIndices,
+                                              final int i) {
+        return measurements.get(scoringIndices != null ? scoringIndices[i] : i);
+    }
+
+    /**
+     * Gets quality scores of measurements used to score hypotheses.
+     *
+     * @param qualityScores  quality scores of all measurements.
+     * @param scoringIndices positions of sampled measurements or null if hypotheses are
+     *                       scored on all measurements.
+     * @return quality scores of measurements used to score hypotheses.
+     */
+    public static double[] sampleQualityScores(final double[] qualityScores, final int[] scoringIndices) {
+        if (scoringIndices == null || qualityScores == null) {
+            return qualityScores;
+        }
+
+        final var result = new double[scoringIndices.length];
+        for (var i = 0; i < scoringIndices.length; i++) {
+            result[i] = qualityScores[scoringIndices[i]];
+        }
+        return result;
+    }
+
+    /**
+     * Computes inliers among all measurements once robust estimation finishes.
+     * When hypotheses have been scored on a sample of measurements, the best hypothesis is
+     * checked against all measurements to find the inliers used for refinement.
+     * Otherwise, inliers data reported by the robust estimator is compacted if required by
+     * provided storage.
+     *
+     * @param numMeasurements    total number of measurements.
+     * @param scoringIndices     positions of sampled measurements or null if hypotheses
+     *                           were scored on all measurements.
+     * @param residuals          computes the residual of the best hypothesis for the
+     *                           measurement at each position.
+     * @param inliersData        inliers data reported by the robust estimator or null if
+     *                           not available.
+     * @param threshold          threshold to determine inliers when robust estimator does
+     *                           not estimate it.
+     * @param inliersDataStorage how inliers and residuals are stored.
+     * @return inliers among all measurements or null if neither sampled scoring nor
+     * compact storage are used.
+     */
+    public static CompactInliersData computeCompactInliersData(
+            final int numMeasurements, final int[] scoringIndices, final IntToDoubleFunction residuals,
+            final InliersData inliersData, final double threshold, final InliersDataStorage inliersDataStorage) {
+        final var keepResiduals = inliersDataStorage == InliersDataStorage.COMPACT_FLOAT_RESIDUALS;
+        if (scoringIndices != null) {
+            return verify(numMeasurements, residuals, getInlierThreshold(inliersData, threshold), keepResiduals);
+        } else if (inliersDataStorage != InliersDataStorage.FULL && inliersData != null
+                && inliersData.getInliers() != null) {
+            return CompactInliersData.from(inliersData, numMeasurements, keepResiduals);
+        } else {
+            return null;
+        }
+    }
+
+    /**
+     * Checks which measurements are inliers of a hypothesis in a single pass.
+     *
+     * @param numMeasurements total number of measurements.
+     * @param residuals       computes the residual of the measurement at each position.
+     * @param threshold       maximum residual of inliers.
+     * @param keepResiduals   true to keep residuals using single precision, false to
+     *                        drop them.
+     * @return inliers among all measurements.
+     */
+    public static CompactInliersData verify(final int numMeasurements, final IntToDoubleFunction residuals,
+                                            final double threshold, final boolean keepResiduals) {
+        final var inliers = new BitSet(numMeasurements);
+        final var keptResiduals = keepResiduals ? new float[numMeasurements] : null;
+        for (var i = 0; i < numMeasurements; i++) {
+            final var residual = residuals.applyAsDouble(i);
+            if (residual <= threshold) {
+                inliers.set(i);
+            }
+            if (keptResiduals != null) {
+                keptResiduals[i] = (float) residual;
+            }
+        }
+        return new CompactInliersData(inliers, keptResiduals, numMeasurements);
+    }
+
+    /**
+     * Gets threshold to determine inliers of a robust estimation.
+     * LMedS and PROMedS estimators determine their threshold from the median of
+     * residuals, while other estimators use a fixed threshold.
+     *
+     * @param inliersData inliers data of the robust estimation or null if not available.
+     * @param threshold   fixed threshold to be used when none has been estimated.
+     * @return threshold to determine inliers.
+     */
+    public static double getInlierThreshold(final InliersData inliersData, final double threshold) {
+        if (inliersData instanceof LMedSRobustEstimator.LMedSInliersData lmedsInliersData) {
+            return lmedsInliersData.getEstimatedThreshold();
+        } else if (inliersData instanceof PROMedSRobustEstimator.PROMedSInliersData promedsInliersData) {
+            return promedsInliersData.getEstimatedThreshold();
+        } else {
+            return threshold;
+        }
+    }
+}
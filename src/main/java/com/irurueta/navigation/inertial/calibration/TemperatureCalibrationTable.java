@@ -0,0 +1,581 @@
+/*
+ * Copyright (C) 2026 Alberto Irurueta Carro (alberto@irurueta.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.irurueta.navigation.inertial.calibration;
+
+import com.irurueta.algebra.AlgebraException;
+import com.irurueta.algebra.Matrix;
+import com.irurueta.algebra.Utils;
+import com.irurueta.navigation.inertial.BodyKinematics;
+
+import java.io.Serial;
+import java.io.Serializable;
+import java.util.Arrays;
+
+/**
+ * Contains accelerometer, gyroscope and magnetometer calibration parameters for a
+ * set of temperature bins, so that the calibration of MEMS sensors whose biases and
+ * scale factors drift with temperature can be applied at any temperature.
+ * For each bin this table contains:
+ * - Accelerometer biases (ba) and scale factors and cross coupling errors (Ma).
+ * - Gyroscope biases (bg), scale factors and cross coupling errors (Mg) and G-dependent
+ * cross biases (Gg).
+ * - Magnetometer hard iron (bm) and soft iron (Mm).
+ * Along with the inverses of (I + Ma), (I + Mg) and (I + Mm), which are computed once
+ * when the table is created.
+ * At runtime, parameters at a given temperature are linearly interpolated between the
+ * two enclosing bins (or taken from the closest bin if temperature is out of range).
+ * Interpolating the cached inverses instead of inverting interpolated matrices makes
+ * correcting a sample cost a few multiply-adds instead of a 3x3 inversion. Both are
+ * exact at bin temperatures, and because scale and cross coupling errors are small,
+ * the difference between both in between bins is of second order.
+ * Temperatures are expressed in degrees Celsius (ºC).
+ * Instances of this class are immutable and can be safely shared among fixers and threads.
+ * Instances are created using {@link TemperatureCalibrationTableCreator}.
+ */
+public class TemperatureCalibrationTable implements Serializable {
+
+    /**
+     * Number of components of measured triads.
+     */
+    private static final int COMPONENTS = BodyKinematics.COMPONENTS;
+
+    /**
+     * Number of elements of 3x3 matrices.
+     */
+    private static final int MATRIX_ELEMENTS = COMPONENTS * COMPONENTS;
+
+    /**
+     * Serialization version. This is used to ensure compatibility of deserialization of permanently stored serialized
+     * instances.
+     */
+    @Serial
+    private static final long serialVersionUID = 0L;
+
+    /**
+     * Temperature of each bin expressed in degrees Celsius (ºC) and sorted in
+     * ascending order.
+     */
+    private final double[] temperatures;
+
+    /**
+     * Accelerometer biases of each bin expressed in meters per squared second (m/s^2).
+     */
+    private final double[] accelerometerBiases;
+
+    /**
+     * Accelerometer scale factors and cross coupling errors of each bin stored in
+     * column order.
+     */
+    private final double[] accelerometerCrossCouplingErrors;
+
+    /**
+     * Inverse of (I + Ma) of each bin stored in column order.
+     */
+    private final double[] accelerometerInverses;
+
+    /**
+     * Gyroscope biases of each bin expressed in radians per second (rad/s).
+     */
+    private final double[] gyroBiases;
+
+    /**
+     * Gyroscope scale factors and cross coupling errors of each bin stored in
+     * column order.
+     */
+    private final double[] gyroCrossCouplingErrors;
+
+    /**
+     * Inverse of (I + Mg) of each bin stored in column order.
+     */
+    private final double[] gyroInverses;
+
+    /**
+     * Gyroscope G-dependent cross biases of each bin stored in column order and
+     * expressed in (rad-sec/m).
+     */
+    private final double[] gyroGDependentBiases;
+
+    /**
+     * Magnetometer hard iron of each bin expressed in Teslas (T).
+     */
+    private final double[] hardIrons;
+
+    /**
+     * Magnetometer soft iron of each bin stored in column order.
+     */
+    private final double[] softIrons;
+
+    /**
+     * Inverse of (I + Mm) of each bin stored in column order.
+     */
+    private final double[] magnetometerInverses;
+
+    /**
+     * Indicates whether this table contains accelerometer calibration.
+     */
+    private final boolean accelerometerCalibrated;
+
+    /**
+     * Indicates whether this table contains gyroscope calibration.
+     */
+    private final boolean gyroCalibrated;
+
+    /**
+     * Indicates whether this table contains magnetometer calibration.
+     */
+    private final boolean magnetometerCalibrated;
+
+    /**
+     * Constructor.
+     * Provided arrays are owned by this instance and must not be modified afterward.
+     * Matrices are stored in column order for each bin. Sensors without calibration
+     * must be provided as null arrays, in which case zero biases and cross coupling
+     * errors are assumed.
+     *
+     * @param temperatures                     temperature of each bin expressed in degrees
+     *                                         Celsius (ºC) sorted in ascending order.
+     * @param accelerometerBiases              accelerometer biases of each bin.
+     * @param accelerometerCrossCouplingErrors accelerometer cross coupling errors of each bin.
+     * @param gyroBiases                       gyroscope biases of each bin.
+     * @param gyroCrossCouplingErrors          gyroscope cross coupling errors of each bin.
+     * @param gyroGDependentBiases             gyroscope G-dependent cross biases of each bin.
+     * @param hardIrons                        magnetometer hard iron of each bin.
+     * @param softIrons                        magnetometer soft iron of each bin.
+     * @throws AlgebraException if (I + M) is singular for any bin and sensor.
+     */
+    TemperatureCalibrationTable(
+            final double[] temperatures, final double[] accelerometerBiases,
+            final double[] accelerometerCrossCouplingErrors, final double[] gyroBiases,
+            final double[] gyroCrossCouplingErrors, final double[] gyroGDependentBiases,
+            final double[] hardIrons, final double[] softIrons) throws AlgebraException {
+        final var bins = temperatures.length;
+        this.temperatures = temperatures;
+
+        accelerometerCalibrated = accelerometerBiases != null;
+        this.accelerometerBiases = accelerometerCalibrated ? accelerometerBiases : new double[bins * COMPONENTS];
+        this.accelerometerCrossCouplingErrors = accelerometerCalibrated ? accelerometerCrossCouplingErrors
+                : new double[bins * MATRIX_ELEMENTS];
+        accelerometerInverses = computeInverses(this.accelerometerCrossCouplingErrors);
+
+        gyroCalibrated = gyroBiases != null;
+        this.gyroBiases = gyroCalibrated ? gyroBiases : new double[bins * COMPONENTS];
+        this.gyroCrossCouplingErrors = gyroCalibrated ? gyroCrossCouplingErrors
+                : new double[bins * MATRIX_ELEMENTS];
+        this.gyroGDependentBiases = gyroCalibrated ? gyroGDependentBiases : new double[bins * MATRIX_ELEMENTS];
+        gyroInverses = computeInverses(this.gyroCrossCouplingErrors);
+
+        magnetometerCalibrated = hardIrons != null;
+        this.hardIrons = magnetometerCalibrated ? hardIrons : new double[bins * COMPONENTS];
+        this.softIrons = magnetometerCalibrated ? softIrons : new double[bins * MATRIX_ELEMENTS];
+        magnetometerInverses = computeInverses(this.softIrons);
+    }
+
+    /**
+     * Gets number of temperature bins.
+     *
+     * @return number of temperature bins.
+     */
+    public int getNumberOfBins() {
+        return temperatures.length;
+    }
+
+    /**
+     * Gets temperature of each bin expressed in degrees Celsius (ºC) sorted in
+     * ascending order.
+     *
+     * @return temperature of each bin.
+     */
+    public double[] getTemperatures() {
+        return Arrays.copyOf(temperatures, temperatures.length);
+    }
+
+    /**
+     * Gets minimum temperature contained in this table expressed in degrees Celsius (ºC).
+     * Below this temperature, calibration of first bin is used.
+     *
+     * @return minimum temperature.
+     */
+    public double getMinTemperature() {
+        return temperatures[0];
+    }
+
+    /**
+     * Gets maximum temperature contained in this table expressed in degrees Celsius (ºC).
+     * Above this temperature, calibration of last bin is used.
+     *
+     * @return maximum temperature.
+     */
+    public double getMaxTemperature() {
+        return temperatures[temperatures.length - 1];
+    }
+
+    /**
+     * Indicates whether this table contains accelerometer calibration.
+     * If not, zero biases and cross coupling errors are assumed.
+     *
+     * @return true if table contains accelerometer calibration, false otherwise.
+     */
+    public boolean isAccelerometerCalibrated() {
+        return accelerometerCalibrated;
+    }
+
+    /**
+     * Indicates whether this table contains gyroscope calibration.
+     * If not, zero biases and cross coupling errors are assumed.
+     *
+     * @return true if table contains gyroscope calibration, false otherwise.
+     */
+    public boolean isGyroCalibrated() {
+        return gyroCalibrated;
+    }
+
+    /**
+     * Indicates whether this table contains magnetometer calibration.
+     * If not, zero hard iron and soft iron are assumed.
+     *
+     * @return true if table contains magnetometer calibration, false otherwise.
+     */
+    public boolean isMagnetometerCalibrated() {
+        return magnetometerCalibrated;
+    }
+
+    /**
+     * Gets accelerometer biases at provided temperature expressed in meters per
+     * squared second (m/s^2).
+     *
+     * @param temperature temperature expressed in degrees Celsius (ºC).
+     * @param result      instance where interpolated biases will be stored. Must have length 3.
+     * @throws IllegalArgumentException if provided result does not have length 3.
+     */
+    public void getAccelerometerBiases(final double temperature, final double[] result) {
+        interpolate(accelerometerBiases, COMPONENTS, temperature, result);
+    }
+
+    /**
+     * Gets accelerometer scale factors and cross coupling errors (Ma) at provided
+     * temperature.
+     *
+     * @param temperature temperature expressed in degrees Celsius (ºC).
+     * @param result      instance where interpolated matrix will be stored. Must be 3x3.
+     * @throws IllegalArgumentException if provided result is not 3x3.
+     */
+    public void getAccelerometerScaleFactorAndCrossCouplingErrors(final double temperature, final Matrix result) {
+        interpolate(accelerometerCrossCouplingErrors, temperature, result);
+    }
+
+    /**
+     * Gets gyroscope biases at provided temperature expressed in radians per second (rad/s).
+     *
+     * @param temperature temperature expressed in degrees Celsius (ºC).
+     * @param result      instance where interpolated biases will be stored. Must have length 3.
+     * @throws IllegalArgumentException if provided result does not have length 3.
+     */
+    public void getGyroBiases(final double temperature, final double[] result) {
+        interpolate(gyroBiases, COMPONENTS, temperature, result);
+    }
+
+    /**
+     * Gets gyroscope scale factors and cross coupling errors (Mg) at provided temperature.
+     *
+     * @param temperature temperature expressed in degrees Celsius (ºC).
+     * @param result      instance where interpolated matrix will be stored. Must be 3x3.
+     * @throws IllegalArgumentException if provided result is not 3x3.
+     */
+    public void getGyroScaleFactorAndCrossCouplingErrors(final double temperature, final Matrix result) {
+        interpolate(gyroCrossCouplingErrors, temperature, result);
+    }
+
+    /**
+     * Gets gyroscope G-dependent cross biases (Gg) at provided temperature expressed in
+     * (rad-sec/m).
+     *
+     * @param temperature temperature expressed in degrees Celsius (ºC).
+     * @param result      instance where interpolated matrix will be stored. Must be 3x3.
+     * @throws IllegalArgumentException if provided result is not 3x3.
+     */
+    public void getGyroGDependentBiases(final double temperature, final Matrix result) {
+        interpolate(gyroGDependentBiases, temperature, result);
+    }
+
+    /**
+     * Gets magnetometer hard iron at provided temperature expressed in Teslas (T).
+     *
+     * @param temperature temperature expressed in degrees Celsius (ºC).
+     * @param result      instance where interpolated hard iron will be stored. Must have length 3.
+     * @throws IllegalArgumentException if provided result does not have length 3.
+     */
+    public void getMagnetometerHardIron(final double temperature, final double[] result) {
+        interpolate(hardIrons, COMPONENTS, temperature, result);
+    }
+
+    /**
+     * Gets magnetometer soft iron (Mm) at provided temperature.
+     *
+     * @param temperature temperature expressed in degrees Celsius (ºC).
+     * @param result      instance where interpolated matrix will be stored. Must be 3x3.
+     * @throws IllegalArgumentException if provided result is not 3x3.
+     */
+    public void getMagnetometerSoftIron(final double temperature, final Matrix result) {
+        interpolate(softIrons, temperature, result);
+    }
+
+    /**
+     * Fixes provided measured specific force at provided temperature by undoing the
+     * errors introduced by the accelerometer model to restore the true specific force.
+     * This method is allocation-free.
+     *
+     * @param temperature temperature expressed in degrees Celsius (ºC).
+     * @param measuredFx  x-coordinate of measured specific force expressed in meters per
+     *                    squared second (m/s^2).
+     * @param measuredFy  y-coordinate of measured specific force expressed in meters per
+     *                    squared second (m/s^2).
+     * @param measuredFz  z-coordinate of measured specific force expressed in meters per
+     *                    squared second (m/s^2).
+     * @param result      instance where restored true specific force will be stored.
+     *                    Must have length 3.
+     * @throws IllegalArgumentException if provided result does not have length 3.
+     */
+    public void fixSpecificForce(
+            final double temperature, final double measuredFx, final double measuredFy, final double measuredFz,
+            final double[] result) {
+        // ftrue = (I + Ma)^-1 * (fmeas - ba)
+        final var bin = findBin(temperature);
+        final var weight = getWeight(bin, temperature);
+        fix(accelerometerBiases, accelerometerInverses, bin, weight, measuredFx, measuredFy, measuredFz, result);
+    }
+
+    /**
+     * Fixes provided measured angular rate at provided temperature by undoing the errors
+     * introduced by the gyroscope model to restore the true angular rate.
+     * This method is allocation-free.
+     *
+     * @param temperature          temperature expressed in degrees Celsius (ºC).
+     * @param measuredAngularRateX x-coordinate of measured angular rate expressed in
+     *                             radians per second (rad/s).
+     * @param measuredAngularRateY y-coordinate of measured angular rate expressed in
+     *                             radians per second (rad/s).
+     * @param measuredAngularRateZ z-coordinate of measured angular rate expressed in
+     *                             radians per second (rad/s).
+     * @param trueFx               x-coordinate of true (i.e. fixed) specific force
+     *                             expressed in meters per squared second (m/s^2).
+     * @param trueFy               y-coordinate of true (i.e. fixed) specific force
+     *                             expressed in meters per squared second (m/s^2).
+     * @param trueFz               z-coordinate of true (i.e. fixed) specific force
+     *                             expressed in meters per squared second (m/s^2).
+     * @param result               instance where restored true angular rate will be
+     *                             stored. Must have length 3.
+     * @throws IllegalArgumentException if provided result does not have length 3.
+     */
+    public void fixAngularRate(
+            final double temperature, final double measuredAngularRateX, final double measuredAngularRateY,
+            final double measuredAngularRateZ, final double trueFx, final double trueFy, final double trueFz,
+            final double[] result) {
+        // Ωtrue = (I + Mg)^-1 * (Ωmeas - bg - Gg * ftrue)
+        final var bin = findBin(temperature);
+        final var weight = getWeight(bin, temperature);
+
+        final var pos = bin * MATRIX_ELEMENTS;
+        final var gg = gyroGDependentBiases;
+        final var ggFx = lerp(gg, pos, MATRIX_ELEMENTS, weight) * trueFx
+                + lerp(gg, pos + 3, MATRIX_ELEMENTS, weight) * trueFy
+                + lerp(gg, pos + 6, MATRIX_ELEMENTS, weight) * trueFz;
+        final var ggFy = lerp(gg, pos + 1, MATRIX_ELEMENTS, weight) * trueFx
+                + lerp(gg, pos + 4, MATRIX_ELEMENTS, weight) * trueFy
+                + lerp(gg, pos + 7, MATRIX_ELEMENTS, weight) * trueFz;
+        final var ggFz = lerp(gg, pos + 2, MATRIX_ELEMENTS, weight) * trueFx
+                + lerp(gg, pos + 5, MATRIX_ELEMENTS, weight) * trueFy
+                + lerp(gg, pos + 8, MATRIX_ELEMENTS, weight) * trueFz;
+
+        fix(gyroBiases, gyroInverses, bin, weight, measuredAngularRateX - ggFx, measuredAngularRateY - ggFy,
+                measuredAngularRateZ - ggFz, result);
+    }
+
+    /**
+     * Fixes provided measured magnetic flux density at provided temperature by undoing
+     * the errors introduced by the magnetometer model to restore the true magnetic flux
+     * density.
+     * This method is allocation-free.
+     *
+     * @param temperature temperature expressed in degrees Celsius (ºC).
+     * @param measuredBx  x-coordinate of measured magnetic flux density expressed in Teslas (T).
+     * @param measuredBy  y-coordinate of measured magnetic flux density expressed in Teslas (T).
+     * @param measuredBz  z-coordinate of measured magnetic flux density expressed in Teslas (T).
+     * @param result      instance where restored true magnetic flux density will be stored.
+     *                    Must have length 3.
+     * @throws IllegalArgumentException if provided result does not have length 3.
+     */
+    public void fixMagneticFluxDensity(
+            final double temperature, final double measuredBx, final double measuredBy, final double measuredBz,
+            final double[] result) {
+        // btrue = (I + Mm)^-1 * (bmeas - bm)
+        final var bin = findBin(temperature);
+        final var weight = getWeight(bin, temperature);
+        fix(hardIrons, magnetometerInverses, bin, weight, measuredBx, measuredBy, measuredBz, result);
+    }
+
+    /**
+     * Finds bin whose temperature is the closest one below or equal to provided temperature.
+     * If provided temperature is below the minimum one, first bin is returned.
+     *
+     * @param temperature temperature expressed in degrees Celsius (ºC).
+     * @return position of bin.
+     */
+    private int findBin(final double temperature) {
+        final var pos = Arrays.binarySearch(temperatures, temperature);
+        if (pos >= 0) {
+            return pos;
+        }
+
+        // pos = -(insertion point) - 1
+        return Math.max(-pos - 2, 0);
+    }
+
+    /**
+     * Gets interpolation weight of next bin for provided temperature.
+     *
+     * @param bin         position of bin whose temperature is below or equal to provided one.
+     * @param temperature temperature expressed in degrees Celsius (ºC).
+     * @return interpolation weight between 0.0 and 1.0.
+     */
+    private double getWeight(final int bin, final double temperature) {
+        if (bin >= temperatures.length - 1 || temperature <= temperatures[bin]) {
+            return 0.0;
+        }
+
+        final var t0 = temperatures[bin];
+        return (temperature - t0) / (temperatures[bin + 1] - t0);
+    }
+
+    /**
+     * Linearly interpolates values of two consecutive bins.
+     *
+     * @param values values of all bins.
+     * @param pos    position of value within bin.
+     * @param stride number of values of each bin.
+     * @param weight interpolation weight of next bin.
+     * @return interpolated value.
+     */
+    private static double lerp(final double[] values, final int pos, final int stride, final double weight) {
+        final var v0 = values[pos];
+        return weight > 0.0 ? v0 + weight * (values[pos + stride] - v0) : v0;
+    }
+
+    /**
+     * Undoes the errors of a sensor model having provided biases and (I + M) inverses.
+     *
+     * @param biases   biases of all bins.
+     * @param inverses (I + M) inverses of all bins.
+     * @param bin      position of bin.
+     * @param weight   interpolation weight of next bin.
+     * @param x        x-coordinate of measurement.
+     * @param y        y-coordinate of measurement.
+     * @param z        z-coordinate of measurement.
+     * @param result   instance where fixed values will be stored.
+     * @throws IllegalArgumentException if provided result does not have length 3.
+     */
+    private static void fix(
+            final double[] biases, final double[] inverses, final int bin, final double weight,
+            final double x, final double y, final double z, final double[] result) {
+        if (result.length != COMPONENTS) {
+            throw new IllegalArgumentException();
+        }
+
+        final var b = bin * COMPONENTS;
+        final var dx = x - lerp(biases, b, COMPONENTS, weight);
+        final var dy = y - lerp(biases, b + 1, COMPONENTS, weight);
+        final var dz = z - lerp(biases, b + 2, COMPONENTS, weight);
+
+        // inverses are stored in column order
+        final var m = bin * MATRIX_ELEMENTS;
+        final var m00 = lerp(inverses, m, MATRIX_ELEMENTS, weight);
+        final var m10 = lerp(inverses, m + 1, MATRIX_ELEMENTS, weight);
+        final var m20 = lerp(inverses, m + 2, MATRIX_ELEMENTS, weight);
+        final var m01 = lerp(inverses, m + 3, MATRIX_ELEMENTS, weight);
+        final var m11 = lerp(inverses, m + 4, MATRIX_ELEMENTS, weight);
+        final var m21 = lerp(inverses, m + 5, MATRIX_ELEMENTS, weight);
+        final var m02 = lerp(inverses, m + 6, MATRIX_ELEMENTS, weight);
+        final var m12 = lerp(inverses, m + 7, MATRIX_ELEMENTS, weight);
+        final var m22 = lerp(inverses, m + 8, MATRIX_ELEMENTS, weight);
+
+        result[0] = m00 * dx + m01 * dy + m02 * dz;
+        result[1] = m10 * dx + m11 * dy + m12 * dz;
+        result[2] = m20 * dx + m21 * dy + m22 * dz;
+    }
+
+    /**
+     * Interpolates values of all bins at provided temperature.
+     *
+     * @param values      values of all bins.
+     * @param stride      number of values of each bin.
+     * @param temperature temperature expressed in degrees Celsius (ºC).
+     * @param result      instance where interpolated values will be stored.
+     * @throws IllegalArgumentException if provided result does not have length equal to stride.
+     */
+    private void interpolate(final double[] values, final int stride, final double temperature,
+                             final double[] result) {
+        if (result.length != stride) {
+            throw new IllegalArgumentException();
+        }
+
+        final var bin = findBin(temperature);
+        final var weight = getWeight(bin, temperature);
+        final var pos = bin * stride;
+        for (var i = 0; i < stride; i++) {
+            result[i] = lerp(values, pos + i, stride, weight);
+        }
+    }
+
+    /**
+     * Interpolates 3x3 matrices of all bins at provided temperature.
+     *
+     * @param values      matrices of all bins stored in column order.
+     * @param temperature temperature expressed in degrees Celsius (ºC).
+     * @param result      instance where interpolated matrix will be stored.
+     * @throws IllegalArgumentException if provided result is not 3x3.
+     */
+    private void interpolate(final double[] values, final double temperature, final Matrix result) {
+        if (result.getRows() != COMPONENTS || result.getColumns() != COMPONENTS) {
+            throw new IllegalArgumentException();
+        }
+
+        interpolate(values, MATRIX_ELEMENTS, temperature, result.getBuffer());
+    }
+
+    /**
+     * Computes inverses of (I + M) for the matrices of all bins.
+     *
+     * @param matrices matrices of all bins stored in column order.
+     * @return inverses of all bins stored in column order.
+     * @throws AlgebraException if (I + M) is singular for any bin.
+     */
+    private static double[] computeInverses(final double[] matrices) throws AlgebraException {
+        final var result = new double[matrices.length];
+        final var m = new Matrix(COMPONENTS, COMPONENTS);
+        final var inv = new Matrix(COMPONENTS, COMPONENTS);
+        final var buffer = m.getBuffer();
+        for (var pos = 0; pos < matrices.length; pos += MATRIX_ELEMENTS) {
+            System.arraycopy(matrices, pos, buffer, 0, MATRIX_ELEMENTS);
+            buffer[0] += 1.0;
+            buffer[4] += 1.0;
+            buffer[8] += 1.0;
+
+            Utils.inverse(m, inv);
+            System.arraycopy(inv.getBuffer(), 0, result, pos, MATRIX_ELEMENTS);
+        }
+
+        return result;
+    }
+}
@@ -0,0 +1,459 @@
+/*
+ * Copyright (C) 2026 Alberto Irurueta Carro (alberto@irurueta.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.irurueta.navigation.inertial.calibration;
+
+import com.irurueta.algebra.AlgebraException;
+import com.irurueta.algebra.Matrix;
+import com.irurueta.navigation.NotReadyException;
+import com.irurueta.navigation.inertial.BodyKinematics;
+import com.irurueta.navigation.inertial.calibration.magnetometer.MagnetometerCalibrator;
+import com.irurueta.navigation.inertial.calibration.magnetometer.UnknownHardIronMagnetometerCalibrator;
+import com.irurueta.units.Temperature;
+import com.irurueta.units.TemperatureConverter;
+import com.irurueta.units.TemperatureUnit;
+
+import java.util.TreeMap;
+
+/**
+ * Utility class to create {@link TemperatureCalibrationTable} by combining calibrations
+ * estimated at different temperatures.
+ * Each calibration is stored in the bin of the temperature it was estimated at. Calibrations
+ * can be provided by any accelerometer calibrator implementing
+ * {@link AccelerometerCalibrationSource}, any gyroscope calibrator implementing
+ * {@link GyroscopeCalibrationSource}, any magnetometer calibrator estimating hard iron,
+ * any {@link IMUErrors} instance, or directly as arrays and matrices.
+ * In order to create a table, each sensor must be calibrated either at all bins or at none.
+ * Provided values are copied, hence sources can be reused for the calibration at the next
+ * temperature.
+ */
+public class TemperatureCalibrationTableCreator {
+
+    /**
+     * Number of components of measured triads.
+     */
+    private static final int COMPONENTS = BodyKinematics.COMPONENTS;
+
+    /**
+     * Number of elements of 3x3 matrices.
+     */
+    private static final int MATRIX_ELEMENTS = COMPONENTS * COMPONENTS;
+
+    /**
+     * Calibration bins indexed by temperature expressed in degrees Celsius (ºC).
+     */
+    private final TreeMap<Double, Bin> bins = new TreeMap<>();
+
+    /**
+     * Constructor.
+     */
+    public TemperatureCalibrationTableCreator() {
+    }
+
+    /**
+     * Gets number of temperature bins added so far.
+     *
+     * @return number of temperature bins.
+     */
+    public int getNumberOfBins() {
+        return bins.size();
+    }
+
+    /**
+     * Removes all added calibrations.
+     */
+    public void clear() {
+        bins.clear();
+    }
+
+    /**
+     * Adds accelerometer calibration estimated at provided temperature.
+     * Any previous accelerometer calibration at the same temperature is replaced.
+     *
+     * @param temperature temperature expressed in degrees Celsius (ºC).
+     * @param biases      accelerometer biases expressed in meters per squared second (m/s^2).
+     *                    Must have length 3.
+     * @param ma          accelerometer scale factors and cross coupling errors. Must be 3x3.
+     * @throws IllegalArgumentException if any provided value has invalid size or temperature
+     *                                  is not finite.
+     */
+    public void addAccelerometerCalibration(final double temperature, final double[] biases, final Matrix ma) {
+        checkTriad(biases);
+        checkMatrix(ma);
+        final var bin = getOrCreateBin(temperature);
+        bin.accelerometerBiases = biases.clone();
+        bin.accelerometerCrossCouplingErrors = ma.getBuffer().clone();
+    }
+
+    /**
+     * Adds accelerometer calibration estimated at provided temperature.
+     * Any previous accelerometer calibration at the same temperature is replaced.
+     *
+     * @param temperature temperature.
+     * @param biases      accelerometer biases expressed in meters per squared second (m/s^2).
+     *                    Must have length 3.
+     * @param ma          accelerometer scale factors and cross coupling errors. Must be 3x3.
+     * @throws IllegalArgumentException if any provided value has invalid size or temperature
+     *                                  is not finite.
+     */
+    public void addAccelerometerCalibration(final Temperature temperature, final double[] biases, final Matrix ma) {
+        addAccelerometerCalibration(convertTemperature(temperature), biases, ma);
+    }
+
+    /**
+     * Adds accelerometer calibration estimated by provided source at provided temperature.
+     * Any previous accelerometer calibration at the same temperature is replaced.
+     *
+     * @param temperature temperature expressed in degrees Celsius (ºC).
+     * @param source      source of estimated accelerometer calibration parameters.
+     * @throws NotReadyException        if source has not estimated calibration parameters yet.
+     * @throws IllegalArgumentException if temperature is not finite.
+     */
+    public void addAccelerometerCalibration(final double temperature, final AccelerometerCalibrationSource source)
+            throws NotReadyException {
+        final var biases = source.getEstimatedBiases();
+        final var ma = source.getEstimatedMa();
+        if (biases == null || ma == null) {
+            throw new NotReadyException();
+        }
+        addAccelerometerCalibration(temperature, biases, ma);
+    }
+
+    /**
+     * Adds accelerometer calibration estimated by provided source at provided temperature.
+     * Any previous accelerometer calibration at the same temperature is replaced.
+     *
+     * @param temperature temperature.
+     * @param source      source of estimated accelerometer calibration parameters.
+     * @throws NotReadyException        if source has not estimated calibration parameters yet.
+     * @throws IllegalArgumentException if temperature is not finite.
+     */
+    public void addAccelerometerCalibration(
+            final Temperature temperature, final AccelerometerCalibrationSource source) throws NotReadyException {
+        addAccelerometerCalibration(convertTemperature(temperature), source);
+    }
+
+    /**
+     * Adds gyroscope calibration estimated at provided temperature.
+     * Any previous gyroscope calibration at the same temperature is replaced.
+     *
+     * @param temperature temperature expressed in degrees Celsius (ºC).
+     * @param biases      gyroscope biases expressed in radians per second (rad/s).
+     *                    Must have length 3.
+     * @param mg          gyroscope scale factors and cross coupling errors. Must be 3x3.
+     * @param gg          gyroscope G-dependent cross biases. Must be 3x3.
+     * @throws IllegalArgumentException if any provided value has invalid size or temperature
+     *                                  is not finite.
+     */
+    public void addGyroscopeCalibration(
+            final double temperature, final double[] biases, final Matrix mg, final Matrix gg) {
+        checkTriad(biases);
+        checkMatrix(mg);
+        checkMatrix(gg);
+        final var bin = getOrCreateBin(temperature);
+        bin.gyroBiases = biases.clone();
+        bin.gyroCrossCouplingErrors = mg.getBuffer().clone();
+        bin.gyroGDependentBiases = gg.getBuffer().clone();
+    }
+
+    /**
+     * Adds gyroscope calibration estimated at provided temperature.
+     * Any previous gyroscope calibration at the same temperature is replaced.
+     *
+     * @param temperature temperature.
+     * @param biases      gyroscope biases expressed in radians per second (rad/s).
+     *                    Must have length 3.
+     * @param mg          gyroscope scale factors and cross coupling errors. Must be 3x3.
+     * @param gg          gyroscope G-dependent cross biases. Must be 3x3.
+     * @throws IllegalArgumentException if any provided value has invalid size or temperature
+     *                                  is not finite.
+     */
+    public void addGyroscopeCalibration(
+            final Temperature temperature, final double[] biases, final Matrix mg, final Matrix gg) {
+        addGyroscopeCalibration(convertTemperature(temperature), biases, mg, gg);
+    }
+
+    /**
+     * Adds gyroscope calibration estimated by provided source at provided temperature.
+     * Any previous gyroscope calibration at the same temperature is replaced.
+     *
+     * @param temperature temperature expressed in degrees Celsius (ºC).
+     * @param source      source of estimated gyroscope calibration parameters.
+     * @throws NotReadyException        if source has not estimated calibration parameters yet.
+     * @throws IllegalArgumentException if temperature is not finite.
+     */
+    public void addGyroscopeCalibration(final double temperature, final GyroscopeCalibrationSource source)
+            throws NotReadyException {
+        final var biases = source.getEstimatedBiases();
+        final var mg = source.getEstimatedMg();
+        final var gg = source.getEstimatedGg();
+        if (biases == null || mg == null || gg == null) {
+            throw new NotReadyException();
+        }
+        addGyroscopeCalibration(temperature, biases, mg, gg);
+    }
+
+    /**
+     * Adds gyroscope calibration estimated by provided source at provided temperature.
+     * Any previous gyroscope calibration at the same temperature is replaced.
+     *
+     * @param temperature temperature.
+     * @param source      source of estimated gyroscope calibration parameters.
+     * @throws NotReadyException        if source has not estimated calibration parameters yet.
+     * @throws IllegalArgumentException if temperature is not finite.
+     */
+    public void addGyroscopeCalibration(final Temperature temperature, final GyroscopeCalibrationSource source)
+            throws NotReadyException {
+        addGyroscopeCalibration(convertTemperature(temperature), source);
+    }
+
+    /**
+     * Adds magnetometer calibration estimated at provided temperature.
+     * Any previous magnetometer calibration at the same temperature is replaced.
+     *
+     * @param temperature temperature expressed in degrees Celsius (ºC).
+     * @param hardIron    magnetometer hard iron expressed in Teslas (T). Must have length 3.
+     * @param mm          magnetometer soft iron. Must be 3x3.
+     * @throws IllegalArgumentException if any provided value has invalid size or temperature
+     *                                  is not finite.
+     */
+    public void addMagnetometerCalibration(final double temperature, final double[] hardIron, final Matrix mm) {
+        checkTriad(hardIron);
+        checkMatrix(mm);
+        final var bin = getOrCreateBin(temperature);
+        bin.hardIron = hardIron.clone();
+        bin.softIron = mm.getBuffer().clone();
+    }
+
+    /**
+     * Adds magnetometer calibration estimated at provided temperature.
+     * Any previous magnetometer calibration at the same temperature is replaced.
+     *
+     * @param temperature temperature.
+     * @param hardIron    magnetometer hard iron expressed in Teslas (T). Must have length 3.
+     * @param mm          magnetometer soft iron. Must be 3x3.
+     * @throws IllegalArgumentException if any provided value has invalid size or temperature
+     *                                  is not finite.
+     */
+    public void addMagnetometerCalibration(final Temperature temperature, final double[] hardIron, final Matrix mm) {
+        addMagnetometerCalibration(convertTemperature(temperature), hardIron, mm);
+    }
+
+    /**
+     * Adds magnetometer calibration estimated by provided calibrator at provided temperature.
+     * Any previous magnetometer calibration at the same temperature is replaced.
+     *
+     * @param temperature temperature expressed in degrees Celsius (ºC).
+     * @param calibrator  a magnetometer calibrator estimating both hard iron and soft iron.
+     * @param <C>         type of calibrator.
+     * @throws NotReadyException        if calibrator has not estimated calibration parameters yet.
+     * @throws IllegalArgumentException if temperature is not finite.
+     */
+    public <C extends MagnetometerCalibrator & UnknownHardIronMagnetometerCalibrator> void
+    addMagnetometerCalibration(final double temperature, final C calibrator) throws NotReadyException {
+        final var hardIron = calibrator.getEstimatedHardIron();
+        final var mm = calibrator.getEstimatedMm();
+        if (hardIron == null || mm == null) {
+            throw new NotReadyException();
+        }
+        addMagnetometerCalibration(temperature, hardIron, mm);
+    }
+
+    /**
+     * Adds magnetometer calibration estimated by provided calibrator at provided temperature.
+     * Any previous magnetometer calibration at the same temperature is replaced.
+     *
+     * @param temperature temperature.
+     * @param calibrator  a magnetometer calibrator estimating both hard iron and soft iron.
+     * @param <C>         type of calibrator.
+     * @throws NotReadyException        if calibrator has not estimated calibration parameters yet.
+     * @throws IllegalArgumentException if temperature is not finite.
+     */
+    public <C extends MagnetometerCalibrator & UnknownHardIronMagnetometerCalibrator> void
+    addMagnetometerCalibration(final Temperature temperature, final C calibrator) throws NotReadyException {
+        addMagnetometerCalibration(convertTemperature(temperature), calibrator);
+    }
+
+    /**
+     * Adds accelerometer and gyroscope calibration contained in provided IMU errors,
+     * estimated at provided temperature.
+     * Any previous accelerometer and gyroscope calibration at the same temperature is replaced.
+     *
+     * @param temperature temperature expressed in degrees Celsius (ºC).
+     * @param errors      IMU errors.
+     * @throws IllegalArgumentException if temperature is not finite.
+     */
+    public void addImuCalibration(final double temperature, final IMUErrors errors) {
+        addAccelerometerCalibration(temperature, errors.getInternalAccelerometerBiases(),
+                errors.getInternalAccelerometerScaleFactorAndCrossCouplingErrors());
+        addGyroscopeCalibration(temperature, errors.getInternalGyroBiases(),
+                errors.getInternalGyroScaleFactorAndCrossCouplingErrors(), errors.getInternalGyroGDependentBiases());
+    }
+
+    /**
+     * Adds accelerometer and gyroscope calibration contained in provided IMU errors,
+     * estimated at provided temperature.
+     * Any previous accelerometer and gyroscope calibration at the same temperature is replaced.
+     *
+     * @param temperature temperature.
+     * @param errors      IMU errors.
+     * @throws IllegalArgumentException if temperature is not finite.
+     */
+    public void addImuCalibration(final Temperature temperature, final IMUErrors errors) {
+        addImuCalibration(convertTemperature(temperature), errors);
+    }
+
+    /**
+     * Indicates whether enough calibrations have been provided in order to be able to
+     * create a {@link TemperatureCalibrationTable}.
+     * At least one bin is required, and each sensor must be calibrated either at all bins
+     * or at none of them.
+     *
+     * @return true if creator is ready, false otherwise.
+     */
+    public boolean isReady() {
+        if (bins.isEmpty()) {
+            return false;
+        }
+
+        final var first = bins.firstEntry().getValue();
+        final var accelerometer = first.accelerometerBiases != null;
+        final var gyro = first.gyroBiases != null;
+        final var magnetometer = first.hardIron != null;
+        for (final var bin : bins.values()) {
+            if ((bin.accelerometerBiases != null) != accelerometer || (bin.gyroBiases != null) != gyro
+                    || (bin.hardIron != null) != magnetometer) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Creates a {@link TemperatureCalibrationTable} containing all added calibrations.
+     *
+     * @return a new temperature calibration table.
+     * @throws NotReadyException if creator is not ready.
+     * @throws AlgebraException  if (I + M) is singular for any added calibration.
+     */
+    public TemperatureCalibrationTable create() throws NotReadyException, AlgebraException {
+        if (!isReady()) {
+            throw new NotReadyException();
+        }
+
+        final var n = bins.size();
+        final var first = bins.firstEntry().getValue();
+        final var accelerometer = first.accelerometerBiases != null;
+        final var gyro = first.gyroBiases != null;
+        final var magnetometer = first.hardIron != null;
+
+        final var temperatures = new double[n];
+        final var ba = accelerometer ? new double[n * COMPONENTS] : null;
+        final var ma = accelerometer ? new double[n * MATRIX_ELEMENTS] : null;
+        final var bg = gyro ? new double[n * COMPONENTS] : null;
+        final var mg = gyro ? new double[n * MATRIX_ELEMENTS] : null;
+        final var gg = gyro ? new double[n * MATRIX_ELEMENTS] : null;
+        final var bm = magnetometer ? new double[n * COMPONENTS] : null;
+        final var mm = magnetometer ? new double[n * MATRIX_ELEMENTS] : null;
+
+        var i = 0;
+        for (final var entry : bins.entrySet()) {
+            final var bin = entry.getValue();
+            final var triadPos = i * COMPONENTS;
+            final var matrixPos = i * MATRIX_ELEMENTS;
+            temperatures[i] = entry.getKey();
+            if (accelerometer) {
+                System.arraycopy(bin.accelerometerBiases, 0, ba, triadPos, COMPONENTS);
+                System.arraycopy(bin.accelerometerCrossCouplingErrors, 0, ma, matrixPos, MATRIX_ELEMENTS);
+            }
+            if (gyro) {
+                System.arraycopy(bin.gyroBiases, 0, bg, triadPos, COMPONENTS);
+                System.arraycopy(bin.gyroCrossCouplingErrors, 0, mg, matrixPos, MATRIX_ELEMENTS);
+                System.arraycopy(bin.gyroGDependentBiases, 0, gg, matrixPos, MATRIX_ELEMENTS);
+            }
+            if (magnetometer) {
+                System.arraycopy(bin.hardIron, 0, bm, triadPos, COMPONENTS);
+                System.arraycopy(bin.softIron, 0, mm, matrixPos, MATRIX_ELEMENTS);
+            }
+            i++;
+        }
+
+        return new TemperatureCalibrationTable(temperatures, ba, ma, bg, mg, gg, bm, mm);
+    }
+
+    /**
+     * Gets bin for provided temperature, creating it if needed.
+     *
+     * @param temperature temperature expressed in degrees Celsius (ºC).
+     * @return bin for provided temperature.
+     * @throws IllegalArgumentException if temperature is not finite.
+     */
+    private Bin getOrCreateBin(final double temperature) {
+        if (!Double.isFinite(temperature)) {
+            throw new IllegalArgumentException();
+        }
+        // normalize negative zero so that it shares bin with positive zero
+        return bins.computeIfAbsent(temperature + 0.0, t -> new Bin());
+    }
+
+    /**
+     * Converts provided temperature to degrees Celsius (ºC).
+     *
+     * @param temperature temperature to be converted.
+     * @return temperature expressed in degrees Celsius (ºC).
+     */
+    private static double convertTemperature(final Temperature temperature) {
+        return TemperatureConverter.convert(temperature.getValue().doubleValue(), temperature.getUnit(),
+                TemperatureUnit.CELSIUS);
+    }
+
+    /**
+     * Checks that provided array has length 3.
+     *
+     * @param values array to be checked.
+     * @throws IllegalArgumentException if length is not 3.
+     */
+    private static void checkTriad(final double[] values) {
+        if (values.length != COMPONENTS) {
+            throw new IllegalArgumentException();
+        }
+    }
+
+    /**
+     * Checks that provided matrix is 3x3.
+     *
+     * @param m matrix to be checked.
+     * @throws IllegalArgumentException if matrix is not 3x3.
+     */
+    private static void checkMatrix(final Matrix m) {
+        if (m.getRows() != COMPONENTS || m.getColumns() != COMPONENTS) {
+            throw new IllegalArgumentException();
+        }
+    }
+
+    /**
+     * Calibration parameters estimated at a given temperature.
+     * Matrices are stored in column order.
+     */
+    private static class Bin {
+        private double[] accelerometerBiases;
+        private double[] accelerometerCrossCouplingErrors;
+        private double[] gyroBiases;
+        private double[] gyroCrossCouplingErrors;
+        private double[] gyroGDependentBiases;
+        private double[] hardIron;
+        private double[] softIron;
+    }
+}
@@ -25,6 +25,7 @@ import com.irurueta.navigation.inertial.BodyKinematics;
 import com.irurueta.navigation.inertial.calibration.AccelerationTriad;
 import com.irurueta.navigation.inertial.calibration.CalibrationException;
 import com.irurueta.navigation.inertial.calibration.StandardDeviationBodyKinematics;
+import com.irurueta.navigation.inertial.metrics.InertialMetrics;
 import com.irurueta.numerical.EvaluationException;
 import com.irurueta.numerical.GradientEstimator;
 import com.irurueta.numerical.fitting.FittingException;
@@ -5000,7 +5001,7 @@ public abstract class BaseBiasGravityNormAccelerometerCalibrator<
 
         setInputData();
 
-        fitter.fit();
+        InertialMetrics.fit(this, fitter);
 
         final var result = fitter.getA();
 
@@ -5136,7 +5137,7 @@ public abstract class BaseBiasGravityNormAccelerometerCalibrator<
 
         setInputData();
 
-        fitter.fit();
+        InertialMetrics.fit(this, fitter);
 
         final var result = fitter.getA();
 
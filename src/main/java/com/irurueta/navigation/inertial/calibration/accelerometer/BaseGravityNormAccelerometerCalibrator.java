@@ -29,6 +29,7 @@ import com.irurueta.navigation.inertial.calibration.AccelerometerBiasUncertainty
 import com.irurueta.navigation.inertial.calibration.AccelerometerCalibrationSource;
 import com.irurueta.navigation.inertial.calibration.CalibrationException;
 import com.irurueta.navigation.inertial.calibration.StandardDeviationBodyKinematics;
+import com.irurueta.navigation.inertial.metrics.InertialMetrics;
 import com.irurueta.numerical.EvaluationException;
 import com.irurueta.numerical.GradientEstimator;
 import com.irurueta.numerical.fitting.FittingException;
@@ -5830,7 +5831,7 @@ public abstract class BaseGravityNormAccelerometerCalibrator<C extends BaseGravi
 
         setInputData();
 
-        fitter.fit();
+        InertialMetrics.fit(this, fitter);
 
         final var result = fitter.getA();
 
@@ -6085,7 +6086,7 @@ public abstract class BaseGravityNormAccelerometerCalibrator<C extends BaseGravi
 
         setInputData();
 
-        fitter.fit();
+        InertialMetrics.fit(this, fitter);
 
         final var result = fitter.getA();
 
@@ -25,6 +25,7 @@ import com.irurueta.navigation.inertial.calibration.AccelerationTriad;
 import com.irurueta.navigation.inertial.calibration.CalibrationException;
 import com.irurueta.navigation.inertial.calibration.StandardDeviationFrameBodyKinematics;
 import com.irurueta.navigation.inertial.estimators.ECEFKinematicsEstimator;
+import com.irurueta.navigation.inertial.metrics.InertialMetrics;
 import com.irurueta.numerical.fitting.FittingException;
 import com.irurueta.numerical.fitting.LevenbergMarquardtMultiVariateFitter;
 import com.irurueta.numerical.fitting.LevenbergMarquardtMultiVariateFunctionEvaluator;
@@ -3083,7 +3084,7 @@ public class KnownBiasAndFrameAccelerometerNonLinearLeastSquaresCalibrator imple
 
         setInputData();
 
-        fitter.fit();
+        InertialMetrics.fit(this, fitter);
 
         final var result = fitter.getA();
 
@@ -3317,7 +3318,7 @@ public class KnownBiasAndFrameAccelerometerNonLinearLeastSquaresCalibrator imple
 
         setInputData();
 
-        fitter.fit();
+        InertialMetrics.fit(this, fitter);
 
         final var result = fitter.getA();
 
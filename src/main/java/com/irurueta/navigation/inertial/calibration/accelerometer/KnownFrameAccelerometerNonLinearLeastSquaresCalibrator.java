@@ -29,6 +29,7 @@ import com.irurueta.navigation.inertial.calibration.AccelerometerCalibrationSour
 import com.irurueta.navigation.inertial.calibration.CalibrationException;
 import com.irurueta.navigation.inertial.calibration.StandardDeviationFrameBodyKinematics;
 import com.irurueta.navigation.inertial.estimators.ECEFKinematicsEstimator;
+import com.irurueta.navigation.inertial.metrics.InertialMetrics;
 import com.irurueta.numerical.fitting.FittingException;
 import com.irurueta.numerical.fitting.LevenbergMarquardtMultiVariateFitter;
 import com.irurueta.numerical.fitting.LevenbergMarquardtMultiVariateFunctionEvaluator;
@@ -3817,7 +3818,7 @@ public class KnownFrameAccelerometerNonLinearLeastSquaresCalibrator implements
 
         setInputData();
 
-        fitter.fit();
+        InertialMetrics.fit(this, fitter);
 
         final var result = fitter.getA();
 
@@ -4094,7 +4095,7 @@ public class KnownFrameAccelerometerNonLinearLeastSquaresCalibrator implements
 
         setInputData();
 
-        fitter.fit();
+        InertialMetrics.fit(this, fitter);
 
         final var result = fitter.getA();
 
@@ -20,6 +20,7 @@ import com.irurueta.navigation.LockedException;
 import com.irurueta.navigation.NotReadyException;
 import com.irurueta.navigation.inertial.calibration.CalibrationException;
 import com.irurueta.navigation.inertial.calibration.StandardDeviationFrameBodyKinematics;
+import com.irurueta.navigation.inertial.metrics.InertialMetrics;
 import com.irurueta.numerical.robust.LMedSRobustEstimator;
 import com.irurueta.numerical.robust.LMedSRobustEstimatorListener;
 import com.irurueta.numerical.robust.RobustEstimator;
@@ -784,7 +785,7 @@ public class LMedSRobustKnownBiasAndFrameAccelerometerCalibrator extends
         final var innerEstimator = new LMedSRobustEstimator<>(new LMedSRobustEstimatorListener<Matrix>() {
             @Override
             public int getTotalSamples() {
-                return measurements.size();
+                return getScoringSamples();
             }
 
             @Override
@@ -799,7 +800,7 @@ public class LMedSRobustKnownBiasAndFrameAccelerometerCalibrator extends
 
             @Override
             public double computeResidual(final Matrix currentEstimation, final int i) {
-                return computeError(measurements.get(i), currentEstimation);
+                return computeError(getScoringMeasurement(i), currentEstimation);
             }
 
             @Override
@@ -842,12 +843,15 @@ public class LMedSRobustKnownBiasAndFrameAccelerometerCalibrator extends
             }
 
             inliersData = null;
+            setupScoringSamples();
             innerEstimator.setConfidence(confidence);
             innerEstimator.setMaxIterations(maxIterations);
             innerEstimator.setProgressDelta(progressDelta);
             innerEstimator.setStopThreshold(stopThreshold);
             final var preliminaryResult = innerEstimator.estimate();
             inliersData = innerEstimator.getInliersData();
+            updateCompactInliersData(preliminaryResult, stopThreshold);
+            InertialMetrics.robustEstimation(this, innerEstimator);
 
             attemptRefine(preliminaryResult);
 
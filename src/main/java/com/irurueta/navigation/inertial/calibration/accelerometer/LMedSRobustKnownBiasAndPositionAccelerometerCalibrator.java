@@ -22,6 +22,7 @@ import com.irurueta.navigation.frames.ECEFPosition;
 import com.irurueta.navigation.frames.NEDPosition;
 import com.irurueta.navigation.inertial.calibration.CalibrationException;
 import com.irurueta.navigation.inertial.calibration.StandardDeviationBodyKinematics;
+import com.irurueta.navigation.inertial.metrics.InertialMetrics;
 import com.irurueta.numerical.robust.LMedSRobustEstimator;
 import com.irurueta.numerical.robust.LMedSRobustEstimatorListener;
 import com.irurueta.numerical.robust.RobustEstimator;
@@ -908,6 +909,7 @@ public class LMedSRobustKnownBiasAndPositionAccelerometerCalibrator extends
             innerEstimator.setStopThreshold(stopThreshold);
             final var preliminaryResult = innerEstimator.estimate();
             inliersData = innerEstimator.getInliersData();
+            InertialMetrics.robustEstimation(this, innerEstimator);
 
             attemptRefine(preliminaryResult);
 
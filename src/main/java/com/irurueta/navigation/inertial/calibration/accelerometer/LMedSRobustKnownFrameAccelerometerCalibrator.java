@@ -19,6 +19,7 @@ import com.irurueta.navigation.LockedException;
 import com.irurueta.navigation.NotReadyException;
 import com.irurueta.navigation.inertial.calibration.CalibrationException;
 import com.irurueta.navigation.inertial.calibration.StandardDeviationFrameBodyKinematics;
+import com.irurueta.navigation.inertial.metrics.InertialMetrics;
 import com.irurueta.numerical.robust.LMedSRobustEstimator;
 import com.irurueta.numerical.robust.LMedSRobustEstimatorListener;
 import com.irurueta.numerical.robust.RobustEstimator;
@@ -265,7 +266,7 @@ public class LMedSRobustKnownFrameAccelerometerCalibrator extends RobustKnownFra
         final var innerEstimator = new LMedSRobustEstimator<>(new LMedSRobustEstimatorListener<PreliminaryResult>() {
             @Override
             public int getTotalSamples() {
-                return measurements.size();
+                return getScoringSamples();
             }
 
             @Override
@@ -281,7 +282,7 @@ public class LMedSRobustKnownFrameAccelerometerCalibrator extends RobustKnownFra
 
             @Override
             public double computeResidual(final PreliminaryResult currentEstimation, final int i) {
-                return computeError(measurements.get(i), currentEstimation);
+                return computeError(getScoringMeasurement(i), currentEstimation);
             }
 
             @Override
@@ -326,12 +327,15 @@ public class LMedSRobustKnownFrameAccelerometerCalibrator extends RobustKnownFra
             }
 
             inliersData = null;
+            setupScoringSamples();
             innerEstimator.setConfidence(confidence);
             innerEstimator.setMaxIterations(maxIterations);
             innerEstimator.setProgressDelta(progressDelta);
             innerEstimator.setStopThreshold(stopThreshold);
             final var preliminaryResult = innerEstimator.estimate();
             inliersData = innerEstimator.getInliersData();
+            updateCompactInliersData(preliminaryResult, stopThreshold);
+            InertialMetrics.robustEstimation(this, innerEstimator);
 
             attemptRefine(preliminaryResult);
 
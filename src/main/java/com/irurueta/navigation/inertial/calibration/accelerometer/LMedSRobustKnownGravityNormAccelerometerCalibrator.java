@@ -20,6 +20,7 @@ import com.irurueta.navigation.LockedException;
 import com.irurueta.navigation.NotReadyException;
 import com.irurueta.navigation.inertial.calibration.CalibrationException;
 import com.irurueta.navigation.inertial.calibration.StandardDeviationBodyKinematics;
+import com.irurueta.navigation.inertial.metrics.InertialMetrics;
 import com.irurueta.numerical.robust.LMedSRobustEstimator;
 import com.irurueta.numerical.robust.LMedSRobustEstimatorListener;
 import com.irurueta.numerical.robust.RobustEstimator;
@@ -969,6 +970,7 @@ public class LMedSRobustKnownGravityNormAccelerometerCalibrator extends RobustKn
             innerEstimator.setStopThreshold(stopThreshold);
             final var preliminaryResult = innerEstimator.estimate();
             inliersData = innerEstimator.getInliersData();
+            InertialMetrics.robustEstimation(this, innerEstimator);
 
             attemptRefine(preliminaryResult);
 
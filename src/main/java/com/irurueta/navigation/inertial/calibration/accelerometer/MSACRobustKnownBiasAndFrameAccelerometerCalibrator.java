@@ -20,6 +20,7 @@ import com.irurueta.navigation.LockedException;
 import com.irurueta.navigation.NotReadyException;
 import com.irurueta.navigation.inertial.calibration.CalibrationException;
 import com.irurueta.navigation.inertial.calibration.StandardDeviationFrameBodyKinematics;
+import com.irurueta.navigation.inertial.metrics.InertialMetrics;
 import com.irurueta.numerical.robust.MSACRobustEstimator;
 import com.irurueta.numerical.robust.MSACRobustEstimatorListener;
 import com.irurueta.numerical.robust.RobustEstimator;
@@ -735,7 +736,7 @@ public class MSACRobustKnownBiasAndFrameAccelerometerCalibrator extends RobustKn
 
             @Override
             public int getTotalSamples() {
-                return measurements.size();
+                return getScoringSamples();
             }
 
             @Override
@@ -750,7 +751,7 @@ public class MSACRobustKnownBiasAndFrameAccelerometerCalibrator extends RobustKn
 
             @Override
             public double computeResidual(final Matrix currentEstimation, final int i) {
-                return computeError(measurements.get(i), currentEstimation);
+                return computeError(getScoringMeasurement(i), currentEstimation);
             }
 
             @Override
@@ -793,11 +794,14 @@ public class MSACRobustKnownBiasAndFrameAccelerometerCalibrator extends RobustKn
             }
 
             inliersData = null;
+            setupScoringSamples();
             innerEstimator.setConfidence(confidence);
             innerEstimator.setMaxIterations(maxIterations);
             innerEstimator.setProgressDelta(progressDelta);
             final var preliminaryResult = innerEstimator.estimate();
             inliersData = innerEstimator.getInliersData();
+            updateCompactInliersData(preliminaryResult, threshold);
+            InertialMetrics.robustEstimation(this, innerEstimator);
 
             attemptRefine(preliminaryResult);
 
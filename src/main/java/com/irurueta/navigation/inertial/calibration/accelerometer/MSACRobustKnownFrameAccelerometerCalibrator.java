@@ -19,6 +19,7 @@ import com.irurueta.navigation.LockedException;
 import com.irurueta.navigation.NotReadyException;
 import com.irurueta.navigation.inertial.calibration.CalibrationException;
 import com.irurueta.navigation.inertial.calibration.StandardDeviationFrameBodyKinematics;
+import com.irurueta.navigation.inertial.metrics.InertialMetrics;
 import com.irurueta.numerical.robust.MSACRobustEstimator;
 import com.irurueta.numerical.robust.MSACRobustEstimatorListener;
 import com.irurueta.numerical.robust.RobustEstimator;
@@ -217,7 +218,7 @@ public class MSACRobustKnownFrameAccelerometerCalibrator extends RobustKnownFram
 
             @Override
             public int getTotalSamples() {
-                return measurements.size();
+                return getScoringSamples();
             }
 
             @Override
@@ -233,7 +234,7 @@ public class MSACRobustKnownFrameAccelerometerCalibrator extends RobustKnownFram
 
             @Override
             public double computeResidual(final PreliminaryResult currentEstimation, final int i) {
-                return computeError(measurements.get(i), currentEstimation);
+                return computeError(getScoringMeasurement(i), currentEstimation);
             }
 
             @Override
@@ -278,11 +279,14 @@ public class MSACRobustKnownFrameAccelerometerCalibrator extends RobustKnownFram
             }
 
             inliersData = null;
+            setupScoringSamples();
             innerEstimator.setConfidence(confidence);
             innerEstimator.setMaxIterations(maxIterations);
             innerEstimator.setProgressDelta(progressDelta);
             final var preliminaryResult = innerEstimator.estimate();
             inliersData = innerEstimator.getInliersData();
+            updateCompactInliersData(preliminaryResult, threshold);
+            InertialMetrics.robustEstimation(this, innerEstimator);
 
             attemptRefine(preliminaryResult);
 
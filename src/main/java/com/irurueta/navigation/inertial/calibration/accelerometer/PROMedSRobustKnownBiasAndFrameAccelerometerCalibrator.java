@@ -20,6 +20,7 @@ import com.irurueta.navigation.LockedException;
 import com.irurueta.navigation.NotReadyException;
 import com.irurueta.navigation.inertial.calibration.CalibrationException;
 import com.irurueta.navigation.inertial.calibration.StandardDeviationFrameBodyKinematics;
+import com.irurueta.navigation.inertial.metrics.InertialMetrics;
 import com.irurueta.numerical.robust.PROMedSRobustEstimator;
 import com.irurueta.numerical.robust.PROMedSRobustEstimatorListener;
 import com.irurueta.numerical.robust.RobustEstimator;
@@ -1624,7 +1625,7 @@ public class PROMedSRobustKnownBiasAndFrameAccelerometerCalibrator extends
         final var innerEstimator = new PROMedSRobustEstimator<>(new PROMedSRobustEstimatorListener<Matrix>() {
             @Override
             public double[] getQualityScores() {
-                return qualityScores;
+                return sampleQualityScores(qualityScores);
             }
 
             @Override
@@ -1634,7 +1635,7 @@ public class PROMedSRobustKnownBiasAndFrameAccelerometerCalibrator extends
 
             @Override
             public int getTotalSamples() {
-                return measurements.size();
+                return getScoringSamples();
             }
 
             @Override
@@ -1649,7 +1650,7 @@ public class PROMedSRobustKnownBiasAndFrameAccelerometerCalibrator extends
 
             @Override
             public double computeResidual(final Matrix currentEstimation, final int i) {
-                return computeError(measurements.get(i), currentEstimation);
+                return computeError(getScoringMeasurement(i), currentEstimation);
             }
 
             @Override
@@ -1693,12 +1694,15 @@ public class PROMedSRobustKnownBiasAndFrameAccelerometerCalibrator extends
             }
 
             inliersData = null;
+            setupScoringSamples();
             innerEstimator.setUseInlierThresholds(true);
             innerEstimator.setConfidence(confidence);
             innerEstimator.setMaxIterations(maxIterations);
             innerEstimator.setProgressDelta(progressDelta);
             final var preliminaryResult = innerEstimator.estimate();
             inliersData = innerEstimator.getInliersData();
+            updateCompactInliersData(preliminaryResult, stopThreshold);
+            InertialMetrics.robustEstimation(this, innerEstimator);
 
             attemptRefine(preliminaryResult);
 
@@ -19,6 +19,7 @@ import com.irurueta.navigation.LockedException;
 import com.irurueta.navigation.NotReadyException;
 import com.irurueta.navigation.inertial.calibration.CalibrationException;
 import com.irurueta.navigation.inertial.calibration.StandardDeviationFrameBodyKinematics;
+import com.irurueta.navigation.inertial.metrics.InertialMetrics;
 import com.irurueta.numerical.robust.PROMedSRobustEstimator;
 import com.irurueta.numerical.robust.PROMedSRobustEstimatorListener;
 import com.irurueta.numerical.robust.RobustEstimator;
@@ -456,7 +457,7 @@ public class PROMedSRobustKnownFrameAccelerometerCalibrator extends RobustKnownF
                 new PROMedSRobustEstimatorListener<>() {
                     @Override
                     public double[] getQualityScores() {
-                        return qualityScores;
+                        return sampleQualityScores(qualityScores);
                     }
 
                     @Override
@@ -466,7 +467,7 @@ public class PROMedSRobustKnownFrameAccelerometerCalibrator extends RobustKnownF
 
                     @Override
                     public int getTotalSamples() {
-                        return measurements.size();
+                        return getScoringSamples();
                     }
 
                     @Override
@@ -482,7 +483,7 @@ public class PROMedSRobustKnownFrameAccelerometerCalibrator extends RobustKnownF
 
                     @Override
                     public double computeResidual(final PreliminaryResult currentEstimation, final int i) {
-                        return computeError(measurements.get(i), currentEstimation);
+                        return computeError(getScoringMeasurement(i), currentEstimation);
                     }
 
                     @Override
@@ -527,12 +528,15 @@ public class PROMedSRobustKnownFrameAccelerometerCalibrator extends RobustKnownF
             }
 
             inliersData = null;
+            setupScoringSamples();
             innerEstimator.setUseInlierThresholds(true);
             innerEstimator.setConfidence(confidence);
             innerEstimator.setMaxIterations(maxIterations);
             innerEstimator.setProgressDelta(progressDelta);
             final var preliminaryResult = innerEstimator.estimate();
             inliersData = innerEstimator.getInliersData();
+            updateCompactInliersData(preliminaryResult, stopThreshold);
+            InertialMetrics.robustEstimation(this, innerEstimator);
 
             attemptRefine(preliminaryResult);
 
@@ -20,6 +20,7 @@ import com.irurueta.navigation.LockedException;
 import com.irurueta.navigation.NotReadyException;
 import com.irurueta.navigation.inertial.calibration.CalibrationException;
 import com.irurueta.navigation.inertial.calibration.StandardDeviationFrameBodyKinematics;
+import com.irurueta.navigation.inertial.metrics.InertialMetrics;
 import com.irurueta.numerical.robust.PROSACRobustEstimator;
 import com.irurueta.numerical.robust.PROSACRobustEstimatorListener;
 import com.irurueta.numerical.robust.RobustEstimator;
@@ -1645,7 +1646,7 @@ public class PROSACRobustKnownBiasAndFrameAccelerometerCalibrator extends
         final var innerEstimator = new PROSACRobustEstimator<>(new PROSACRobustEstimatorListener<Matrix>() {
             @Override
             public double[] getQualityScores() {
-                return qualityScores;
+                return sampleQualityScores(qualityScores);
             }
 
             @Override
@@ -1655,7 +1656,7 @@ public class PROSACRobustKnownBiasAndFrameAccelerometerCalibrator extends
 
             @Override
             public int getTotalSamples() {
-                return measurements.size();
+                return getScoringSamples();
             }
 
             @Override
@@ -1670,7 +1671,7 @@ public class PROSACRobustKnownBiasAndFrameAccelerometerCalibrator extends
 
             @Override
             public double computeResidual(final Matrix currentEstimation, final int i) {
-                return computeError(measurements.get(i), currentEstimation);
+                return computeError(getScoringMeasurement(i), currentEstimation);
             }
 
             @Override
@@ -1714,6 +1715,7 @@ public class PROSACRobustKnownBiasAndFrameAccelerometerCalibrator extends
             }
 
             inliersData = null;
+            setupScoringSamples();
             innerEstimator.setComputeAndKeepInliersEnabled(computeAndKeepInliers || refineResult);
             innerEstimator.setComputeAndKeepResidualsEnabled(computeAndKeepResiduals || refineResult);
             innerEstimator.setConfidence(confidence);
@@ -1721,6 +1723,8 @@ public class PROSACRobustKnownBiasAndFrameAccelerometerCalibrator extends
             innerEstimator.setProgressDelta(progressDelta);
             final var preliminaryResult = innerEstimator.estimate();
             inliersData = innerEstimator.getInliersData();
+            updateCompactInliersData(preliminaryResult, threshold);
+            InertialMetrics.robustEstimation(this, innerEstimator);
 
             attemptRefine(preliminaryResult);
 
@@ -19,6 +19,7 @@ import com.irurueta.navigation.LockedException;
 import com.irurueta.navigation.NotReadyException;
 import com.irurueta.navigation.inertial.calibration.CalibrationException;
 import com.irurueta.navigation.inertial.calibration.StandardDeviationFrameBodyKinematics;
+import com.irurueta.navigation.inertial.metrics.InertialMetrics;
 import com.irurueta.numerical.robust.PROSACRobustEstimator;
 import com.irurueta.numerical.robust.PROSACRobustEstimatorListener;
 import com.irurueta.numerical.robust.RobustEstimator;
@@ -474,7 +475,7 @@ public class PROSACRobustKnownFrameAccelerometerCalibrator extends RobustKnownFr
         final var innerEstimator = new PROSACRobustEstimator<>(new PROSACRobustEstimatorListener<PreliminaryResult>() {
             @Override
             public double[] getQualityScores() {
-                return qualityScores;
+                return sampleQualityScores(qualityScores);
             }
 
             @Override
@@ -484,7 +485,7 @@ public class PROSACRobustKnownFrameAccelerometerCalibrator extends RobustKnownFr
 
             @Override
             public int getTotalSamples() {
-                return measurements.size();
+                return getScoringSamples();
             }
 
             @Override
@@ -500,7 +501,7 @@ public class PROSACRobustKnownFrameAccelerometerCalibrator extends RobustKnownFr
 
             @Override
             public double computeResidual(final PreliminaryResult currentEstimation, final int i) {
-                return computeError(measurements.get(i), currentEstimation);
+                return computeError(getScoringMeasurement(i), currentEstimation);
             }
 
             @Override
@@ -545,6 +546,7 @@ public class PROSACRobustKnownFrameAccelerometerCalibrator extends RobustKnownFr
             }
 
             inliersData = null;
+            setupScoringSamples();
             innerEstimator.setComputeAndKeepInliersEnabled(computeAndKeepInliers || refineResult);
             innerEstimator.setComputeAndKeepResidualsEnabled(computeAndKeepResiduals || refineResult);
             innerEstimator.setConfidence(confidence);
@@ -552,6 +554,8 @@ public class PROSACRobustKnownFrameAccelerometerCalibrator extends RobustKnownFr
             innerEstimator.setProgressDelta(progressDelta);
             final var preliminaryResult = innerEstimator.estimate();
             inliersData = innerEstimator.getInliersData();
+            updateCompactInliersData(preliminaryResult, threshold);
+            InertialMetrics.robustEstimation(this, innerEstimator);
 
             attemptRefine(preliminaryResult);
 
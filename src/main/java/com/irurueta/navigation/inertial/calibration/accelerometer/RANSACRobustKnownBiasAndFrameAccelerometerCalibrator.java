@@ -20,6 +20,7 @@ import com.irurueta.navigation.LockedException;
 import com.irurueta.navigation.NotReadyException;
 import com.irurueta.navigation.inertial.calibration.CalibrationException;
 import com.irurueta.navigation.inertial.calibration.StandardDeviationFrameBodyKinematics;
+import com.irurueta.navigation.inertial.metrics.InertialMetrics;
 import com.irurueta.numerical.robust.RANSACRobustEstimator;
 import com.irurueta.numerical.robust.RANSACRobustEstimatorListener;
 import com.irurueta.numerical.robust.RobustEstimator;
@@ -808,7 +809,7 @@ public class RANSACRobustKnownBiasAndFrameAccelerometerCalibrator extends
 
             @Override
             public int getTotalSamples() {
-                return measurements.size();
+                return getScoringSamples();
             }
 
             @Override
@@ -823,7 +824,7 @@ public class RANSACRobustKnownBiasAndFrameAccelerometerCalibrator extends
 
             @Override
             public double computeResidual(final Matrix currentEstimation, final int i) {
-                return computeError(measurements.get(i), currentEstimation);
+                return computeError(getScoringMeasurement(i), currentEstimation);
             }
 
             @Override
@@ -867,6 +868,7 @@ public class RANSACRobustKnownBiasAndFrameAccelerometerCalibrator extends
             }
 
             inliersData = null;
+            setupScoringSamples();
             innerEstimator.setComputeAndKeepInliersEnabled(computeAndKeepInliers || refineResult);
             innerEstimator.setComputeAndKeepResidualsEnabled(computeAndKeepResiduals || refineResult);
             innerEstimator.setConfidence(confidence);
@@ -874,6 +876,8 @@ public class RANSACRobustKnownBiasAndFrameAccelerometerCalibrator extends
             innerEstimator.setProgressDelta(progressDelta);
             final var preliminaryResult = innerEstimator.estimate();
             inliersData = innerEstimator.getInliersData();
+            updateCompactInliersData(preliminaryResult, threshold);
+            InertialMetrics.robustEstimation(this, innerEstimator);
 
             attemptRefine(preliminaryResult);
 
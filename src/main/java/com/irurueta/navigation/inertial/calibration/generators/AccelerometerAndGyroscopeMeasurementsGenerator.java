@@ -16,6 +16,7 @@
 package com.irurueta.navigation.inertial.calibration.generators;
 
 import com.irurueta.navigation.LockedException;
+import com.irurueta.navigation.inertial.BodyKinematics;
 import com.irurueta.navigation.inertial.calibration.AccelerometerNoiseRootPsdSource;
 import com.irurueta.navigation.inertial.calibration.AngularSpeedTriad;
 import com.irurueta.navigation.inertial.calibration.BodyKinematicsSequence;
@@ -24,6 +25,7 @@ import com.irurueta.navigation.inertial.calibration.StandardDeviationBodyKinemat
 import com.irurueta.navigation.inertial.calibration.StandardDeviationTimedBodyKinematics;
 import com.irurueta.navigation.inertial.calibration.TimedBodyKinematics;
 import com.irurueta.navigation.inertial.calibration.intervals.TriadStaticIntervalDetector;
+import com.irurueta.navigation.inertial.calibration.io.IMULogSlice;
 import com.irurueta.units.Acceleration;
 import com.irurueta.units.AngularSpeed;
 import com.irurueta.units.Time;
@@ -207,6 +209,11 @@ public class AccelerometerAndGyroscopeMeasurementsGenerator
      */
     private boolean running;
 
+    /**
+     * Sample instance to be reused when processing slices of binary IMU logs.
+     */
+    private final TimedBodyKinematics sliceSample = new TimedBodyKinematics(new BodyKinematics());
+
     /**
      * Constructor.
      */
@@ -724,6 +731,27 @@ public class AccelerometerAndGyroscopeMeasurementsGenerator
         }
     }
 
+    /**
+     * Processes samples contained in provided slice of a binary IMU log.
+     * Each sample is copied into a reused instance, so that no object is created per
+     * processed sample.
+     * Processing stops at the first sample that is skipped because generator failed.
+     *
+     * @param slice slice containing samples to be processed.
+     * @return number of processed samples.
+     * @throws LockedException if generator is busy processing a previous sample.
+     */
+    public int processSlice(final IMULogSlice slice) throws LockedException {
+        final var size = slice.getSize();
+        for (var i = 0; i < size; i++) {
+            slice.getTimedKinematics(i, sliceSample);
+            if (!process(sliceSample)) {
+                return i;
+            }
+        }
+        return size;
+    }
+
     /**
      * Resets this generator.
      *
@@ -15,8 +15,10 @@
  */
 package com.irurueta.navigation.inertial.calibration.generators;
 
+import com.irurueta.navigation.LockedException;
 import com.irurueta.navigation.inertial.BodyKinematics;
 import com.irurueta.navigation.inertial.calibration.StandardDeviationBodyKinematics;
+import com.irurueta.navigation.inertial.calibration.io.IMULogSlice;
 
 /**
  * Generates measurements for the calibration of accelerometers by alternating
@@ -42,6 +44,11 @@ public class AccelerometerMeasurementsGenerator extends
         MeasurementsGenerator<StandardDeviationBodyKinematics, AccelerometerMeasurementsGenerator,
                 AccelerometerMeasurementsGeneratorListener, BodyKinematics> {
 
+    /**
+     * Sample instance to be reused when processing slices of binary IMU logs.
+     */
+    private final BodyKinematics sliceSample = new BodyKinematics();
+
     /**
      * Constructor.
      */
@@ -58,6 +65,27 @@ public class AccelerometerMeasurementsGenerator extends
         super(listener);
     }
 
+    /**
+     * Processes samples contained in provided slice of a binary IMU log.
+     * Each sample is copied into a reused instance, so that no object is created per
+     * processed sample.
+     * Processing stops at the first sample that is skipped because generator failed.
+     *
+     * @param slice slice containing samples to be processed.
+     * @return number of processed samples.
+     * @throws LockedException if generator is busy processing a previous sample.
+     */
+    public int processSlice(final IMULogSlice slice) throws LockedException {
+        final var size = slice.getSize();
+        for (var i = 0; i < size; i++) {
+            slice.getKinematics(i, sliceSample);
+            if (!process(sliceSample)) {
+                return i;
+            }
+        }
+        return size;
+    }
+
     /**
      * Post process provided input sample.
      *
@@ -23,6 +23,7 @@ import com.irurueta.navigation.inertial.calibration.GyroscopeNoiseRootPsdSource;
 import com.irurueta.navigation.inertial.calibration.StandardDeviationTimedBodyKinematics;
 import com.irurueta.navigation.inertial.calibration.TimedBodyKinematics;
 import com.irurueta.navigation.inertial.calibration.intervals.TriadStaticIntervalDetector;
+import com.irurueta.navigation.inertial.calibration.io.IMULogSlice;
 import com.irurueta.navigation.inertial.calibration.noise.AccumulatedAngularSpeedTriadNoiseEstimator;
 import com.irurueta.units.AngularSpeed;
 import com.irurueta.units.AngularSpeedUnit;
@@ -128,6 +129,11 @@ public class GyroscopeMeasurementsGenerator extends
      */
     private TriadStaticIntervalDetector.Status previousStatus;
 
+    /**
+     * Sample instance to be reused when processing slices of binary IMU logs.
+     */
+    private final TimedBodyKinematics sliceSample = new TimedBodyKinematics(new BodyKinematics());
+
     /**
      * Constructor.
      */
@@ -278,6 +284,27 @@ public class GyroscopeMeasurementsGenerator extends
         return angularSpeedNoiseRootPsd;
     }
 
+    /**
+     * Processes samples contained in provided slice of a binary IMU log.
+     * Each sample is copied into a reused instance, so that no object is created per
+     * processed sample.
+     * Processing stops at the first sample that is skipped because generator failed.
+     *
+     * @param slice slice containing samples to be processed.
+     * @return number of processed samples.
+     * @throws LockedException if generator is busy processing a previous sample.
+     */
+    public int processSlice(final IMULogSlice slice) throws LockedException {
+        final var size = slice.getSize();
+        for (var i = 0; i < size; i++) {
+            slice.getTimedKinematics(i, sliceSample);
+            if (!process(sliceSample)) {
+                return i;
+            }
+        }
+        return size;
+    }
+
     /**
      * Post process provided input sample.
      *
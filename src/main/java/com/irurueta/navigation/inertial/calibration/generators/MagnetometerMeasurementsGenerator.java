@@ -16,10 +16,12 @@
 package com.irurueta.navigation.inertial.calibration.generators;
 
 import com.irurueta.navigation.LockedException;
+import com.irurueta.navigation.inertial.BodyKinematics;
 import com.irurueta.navigation.inertial.BodyKinematicsAndMagneticFluxDensity;
 import com.irurueta.navigation.inertial.BodyMagneticFluxDensity;
 import com.irurueta.navigation.inertial.calibration.StandardDeviationBodyMagneticFluxDensity;
 import com.irurueta.navigation.inertial.calibration.intervals.TriadStaticIntervalDetector;
+import com.irurueta.navigation.inertial.calibration.io.IMULogSlice;
 import com.irurueta.navigation.inertial.calibration.noise.AccumulatedMagneticFluxDensityTriadNoiseEstimator;
 
 /**
@@ -70,6 +72,12 @@ public class MagnetometerMeasurementsGenerator extends
      */
     private double stdBNorm;
 
+    /**
+     * Sample instance to be reused when processing slices of binary IMU logs.
+     */
+    private final BodyKinematicsAndMagneticFluxDensity sliceSample =
+            new BodyKinematicsAndMagneticFluxDensity(new BodyKinematics(), new BodyMagneticFluxDensity());
+
     /**
      * Constructor.
      */
@@ -98,6 +106,27 @@ public class MagnetometerMeasurementsGenerator extends
         accumulatedEstimator.reset();
     }
 
+    /**
+     * Processes samples contained in provided slice of a binary IMU log.
+     * Each sample is copied into a reused instance, so that no object is created per
+     * processed sample.
+     * Processing stops at the first sample that is skipped because generator failed.
+     *
+     * @param slice slice containing samples to be processed.
+     * @return number of processed samples.
+     * @throws LockedException if generator is busy processing a previous sample.
+     */
+    public int processSlice(final IMULogSlice slice) throws LockedException {
+        final var size = slice.getSize();
+        for (var i = 0; i < size; i++) {
+            slice.getKinematicsAndMagneticFluxDensity(i, sliceSample);
+            if (!process(sliceSample)) {
+                return i;
+            }
+        }
+        return size;
+    }
+
     /**
      * Post process provided input sample.
      *
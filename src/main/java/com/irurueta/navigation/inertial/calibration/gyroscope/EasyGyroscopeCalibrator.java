@@ -35,6 +35,7 @@ import com.irurueta.navigation.inertial.calibration.CalibrationException;
 import com.irurueta.navigation.inertial.calibration.GyroscopeBiasUncertaintySource;
 import com.irurueta.navigation.inertial.calibration.GyroscopeCalibrationSource;
 import com.irurueta.navigation.inertial.calibration.StandardDeviationTimedBodyKinematics;
+import com.irurueta.navigation.inertial.metrics.InertialMetrics;
 import com.irurueta.numerical.EvaluationException;
 import com.irurueta.numerical.GradientEstimator;
 import com.irurueta.numerical.fitting.FittingException;
@@ -3651,7 +3652,7 @@ public class EasyGyroscopeCalibrator implements
 
         setInputData();
 
-        fitter.fit();
+        InertialMetrics.fit(this, fitter);
 
         final var result = fitter.getA();
 
@@ -3962,7 +3963,7 @@ public class EasyGyroscopeCalibrator implements
 
         setInputData();
 
-        fitter.fit();
+        InertialMetrics.fit(this, fitter);
 
         final var result = fitter.getA();
 
@@ -4316,7 +4317,7 @@ public class EasyGyroscopeCalibrator implements
 
         setInputData();
 
-        fitter.fit();
+        InertialMetrics.fit(this, fitter);
 
         final var result = fitter.getA();
 
@@ -4554,7 +4555,7 @@ public class EasyGyroscopeCalibrator implements
 
         setInputData();
 
-        fitter.fit();
+        InertialMetrics.fit(this, fitter);
 
         final var result = fitter.getA();
 
@@ -39,6 +39,7 @@ import com.irurueta.navigation.inertial.calibration.AngularSpeedTriad;
 import com.irurueta.navigation.inertial.calibration.CalibrationException;
 import com.irurueta.navigation.inertial.calibration.StandardDeviationBodyKinematics;
 import com.irurueta.navigation.inertial.estimators.ECEFKinematicsEstimator;
+import com.irurueta.navigation.inertial.metrics.InertialMetrics;
 import com.irurueta.numerical.EvaluationException;
 import com.irurueta.numerical.GradientEstimator;
 import com.irurueta.numerical.fitting.FittingException;
@@ -4433,7 +4434,7 @@ public class KnownBiasTurntableGyroscopeCalibrator implements GyroscopeNonLinear
 
         setInputDataWithGDependentCrossBiases();
 
-        fitter.fit();
+        InertialMetrics.fit(this, fitter);
 
         final var result = fitter.getA();
 
@@ -4729,7 +4730,7 @@ public class KnownBiasTurntableGyroscopeCalibrator implements GyroscopeNonLinear
 
         setInputDataWithGDependentCrossBiases();
 
-        fitter.fit();
+        InertialMetrics.fit(this, fitter);
 
         final var result = fitter.getA();
 
@@ -5042,7 +5043,7 @@ public class KnownBiasTurntableGyroscopeCalibrator implements GyroscopeNonLinear
 
         setInputData();
 
-        fitter.fit();
+        InertialMetrics.fit(this, fitter);
 
         final var result = fitter.getA();
 
@@ -5243,7 +5244,7 @@ public class KnownBiasTurntableGyroscopeCalibrator implements GyroscopeNonLinear
 
         setInputData();
 
-        fitter.fit();
+        InertialMetrics.fit(this, fitter);
 
         final var result = fitter.getA();
 
@@ -20,6 +20,7 @@ import com.irurueta.navigation.LockedException;
 import com.irurueta.navigation.NotReadyException;
 import com.irurueta.navigation.inertial.calibration.CalibrationException;
 import com.irurueta.navigation.inertial.calibration.StandardDeviationFrameBodyKinematics;
+import com.irurueta.navigation.inertial.metrics.InertialMetrics;
 import com.irurueta.numerical.robust.PROMedSRobustEstimator;
 import com.irurueta.numerical.robust.PROMedSRobustEstimatorListener;
 import com.irurueta.numerical.robust.RobustEstimator;
@@ -1633,7 +1634,7 @@ public class PROMedSRobustKnownBiasAndFrameGyroscopeCalibrator extends RobustKno
                 new PROMedSRobustEstimatorListener<PreliminaryResult>() {
                     @Override
                     public double[] getQualityScores() {
-                        return qualityScores;
+                        return sampleQualityScores(qualityScores);
                     }
 
                     @Override
@@ -1643,7 +1644,7 @@ public class PROMedSRobustKnownBiasAndFrameGyroscopeCalibrator extends RobustKno
 
                     @Override
                     public int getTotalSamples() {
-                        return measurements.size();
+                        return getScoringSamples();
                     }
 
                     @Override
@@ -1659,7 +1660,7 @@ public class PROMedSRobustKnownBiasAndFrameGyroscopeCalibrator extends RobustKno
 
                     @Override
                     public double computeResidual(final PreliminaryResult currentEstimation, final int i) {
-                        return computeError(measurements.get(i), currentEstimation);
+                        return computeError(getScoringMeasurement(i), currentEstimation);
                     }
 
                     @Override
@@ -1704,12 +1705,15 @@ public class PROMedSRobustKnownBiasAndFrameGyroscopeCalibrator extends RobustKno
             }
 
             inliersData = null;
+            setupScoringSamples();
             innerEstimator.setUseInlierThresholds(true);
             innerEstimator.setConfidence(confidence);
             innerEstimator.setMaxIterations(maxIterations);
             innerEstimator.setProgressDelta(progressDelta);
             final var preliminaryResult = innerEstimator.estimate();
             inliersData = innerEstimator.getInliersData();
+            updateCompactInliersData(preliminaryResult, stopThreshold);
+            InertialMetrics.robustEstimation(this, innerEstimator);
 
             attemptRefine(preliminaryResult);
 
@@ -19,6 +19,7 @@ import com.irurueta.navigation.LockedException;
 import com.irurueta.navigation.NotReadyException;
 import com.irurueta.navigation.inertial.calibration.CalibrationException;
 import com.irurueta.navigation.inertial.calibration.StandardDeviationFrameBodyKinematics;
+import com.irurueta.navigation.inertial.metrics.InertialMetrics;
 import com.irurueta.numerical.robust.PROMedSRobustEstimator;
 import com.irurueta.numerical.robust.PROMedSRobustEstimatorListener;
 import com.irurueta.numerical.robust.RobustEstimator;
@@ -460,7 +461,7 @@ public class PROMedSRobustKnownFrameGyroscopeCalibrator extends RobustKnownFrame
                 new PROMedSRobustEstimatorListener<PreliminaryResult>() {
                     @Override
                     public double[] getQualityScores() {
-                        return qualityScores;
+                        return sampleQualityScores(qualityScores);
                     }
 
                     @Override
@@ -470,7 +471,7 @@ public class PROMedSRobustKnownFrameGyroscopeCalibrator extends RobustKnownFrame
 
                     @Override
                     public int getTotalSamples() {
-                        return measurements.size();
+                        return getScoringSamples();
                     }
 
                     @Override
@@ -486,7 +487,7 @@ public class PROMedSRobustKnownFrameGyroscopeCalibrator extends RobustKnownFrame
 
                     @Override
                     public double computeResidual(final PreliminaryResult currentEstimation, final int i) {
-                        return computeError(measurements.get(i), currentEstimation);
+                        return computeError(getScoringMeasurement(i), currentEstimation);
                     }
 
                     @Override
@@ -531,12 +532,15 @@ public class PROMedSRobustKnownFrameGyroscopeCalibrator extends RobustKnownFrame
             }
 
             inliersData = null;
+            setupScoringSamples();
             innerEstimator.setUseInlierThresholds(true);
             innerEstimator.setConfidence(confidence);
             innerEstimator.setMaxIterations(maxIterations);
             innerEstimator.setProgressDelta(progressDelta);
             final var preliminaryResult = innerEstimator.estimate();
             inliersData = innerEstimator.getInliersData();
+            updateCompactInliersData(preliminaryResult, stopThreshold);
+            InertialMetrics.robustEstimation(this, innerEstimator);
 
             attemptRefine(preliminaryResult);
 
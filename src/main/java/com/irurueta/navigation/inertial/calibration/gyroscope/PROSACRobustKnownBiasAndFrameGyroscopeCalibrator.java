@@ -20,6 +20,7 @@ import com.irurueta.navigation.LockedException;
 import com.irurueta.navigation.NotReadyException;
 import com.irurueta.navigation.inertial.calibration.CalibrationException;
 import com.irurueta.navigation.inertial.calibration.StandardDeviationFrameBodyKinematics;
+import com.irurueta.navigation.inertial.metrics.InertialMetrics;
 import com.irurueta.numerical.robust.PROSACRobustEstimator;
 import com.irurueta.numerical.robust.PROSACRobustEstimatorListener;
 import com.irurueta.numerical.robust.RobustEstimator;
@@ -1649,7 +1650,7 @@ public class PROSACRobustKnownBiasAndFrameGyroscopeCalibrator extends RobustKnow
         final var innerEstimator = new PROSACRobustEstimator<>(new PROSACRobustEstimatorListener<PreliminaryResult>() {
             @Override
             public double[] getQualityScores() {
-                return qualityScores;
+                return sampleQualityScores(qualityScores);
             }
 
             @Override
@@ -1659,7 +1660,7 @@ public class PROSACRobustKnownBiasAndFrameGyroscopeCalibrator extends RobustKnow
 
             @Override
             public int getTotalSamples() {
-                return measurements.size();
+                return getScoringSamples();
             }
 
             @Override
@@ -1675,7 +1676,7 @@ public class PROSACRobustKnownBiasAndFrameGyroscopeCalibrator extends RobustKnow
 
             @Override
             public double computeResidual(final PreliminaryResult currentEstimation, final int i) {
-                return computeError(measurements.get(i), currentEstimation);
+                return computeError(getScoringMeasurement(i), currentEstimation);
             }
 
             @Override
@@ -1720,6 +1721,7 @@ public class PROSACRobustKnownBiasAndFrameGyroscopeCalibrator extends RobustKnow
             }
 
             inliersData = null;
+            setupScoringSamples();
             innerEstimator.setComputeAndKeepInliersEnabled(computeAndKeepInliers || refineResult);
             innerEstimator.setComputeAndKeepResidualsEnabled(computeAndKeepResiduals || refineResult);
             innerEstimator.setConfidence(confidence);
@@ -1727,6 +1729,8 @@ public class PROSACRobustKnownBiasAndFrameGyroscopeCalibrator extends RobustKnow
             innerEstimator.setProgressDelta(progressDelta);
             final var preliminaryResult = innerEstimator.estimate();
             inliersData = innerEstimator.getInliersData();
+            updateCompactInliersData(preliminaryResult, threshold);
+            InertialMetrics.robustEstimation(this, innerEstimator);
 
             attemptRefine(preliminaryResult);
 
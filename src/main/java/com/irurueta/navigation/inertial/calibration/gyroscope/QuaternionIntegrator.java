@@ -19,6 +19,9 @@ import com.irurueta.geometry.Quaternion;
 import com.irurueta.geometry.RotationException;
 import com.irurueta.navigation.inertial.calibration.BodyKinematicsSequence;
 import com.irurueta.navigation.inertial.calibration.StandardDeviationTimedBodyKinematics;
+import com.irurueta.navigation.inertial.calibration.io.IMULogSlice;
+
+import java.util.Objects;
 
 /**
  * Class in charge of performing integration steps of rotations.
@@ -163,4 +166,96 @@ public class QuaternionIntegrator {
         integrateGyroSequence(sequence, type, result);
         return result;
     }
+
+    /**
+     * Integrates a range of gyroscope measurements stored as primitive arrays, such as
+     * slices read from binary IMU logs, starting at an initial attitude to obtain a final
+     * attitude.
+     * Measurements must be sorted by timestamp.
+     *
+     * @param timestamps      timestamps expressed in seconds.
+     * @param angularRatesX   x-coordinates of angular rate expressed in radians per second (rad/s).
+     * @param angularRatesY   y-coordinates of angular rate expressed in radians per second (rad/s).
+     * @param angularRatesZ   z-coordinates of angular rate expressed in radians per second (rad/s).
+     * @param offset          position of first measurement to be integrated.
+     * @param length          number of measurements to be integrated.
+     * @param initialAttitude (optional) initial attitude to be used. If null, then the
+     *                        identity attitude will be used.
+     * @param type            type of step integrator to be used.
+     * @param result          resulting rotation after integration.
+     * @throws RotationException         if a numerical error occurs.
+     * @throws IndexOutOfBoundsException if provided range is not valid for any of the arrays.
+     */
+    public static void integrateGyroSequence(
+            final double[] timestamps, final double[] angularRatesX, final double[] angularRatesY,
+            final double[] angularRatesZ, final int offset, final int length, final Quaternion initialAttitude,
+            final QuaternionStepIntegratorType type, final Quaternion result) throws RotationException {
+        Objects.checkFromIndexSize(offset, length, timestamps.length);
+        Objects.checkFromIndexSize(offset, length, angularRatesX.length);
+        Objects.checkFromIndexSize(offset, length, angularRatesY.length);
+        Objects.checkFromIndexSize(offset, length, angularRatesZ.length);
+
+        if (initialAttitude != null) {
+            // if provided initial attitude
+            result.fromRotation(initialAttitude);
+        } else {
+            // if no initial attitude is provided, we use the identity
+            result.setA(1.0);
+            result.setB(0.0);
+            result.setC(0.0);
+            result.setD(0.0);
+        }
+
+        if (length == 0) {
+            return;
+        }
+
+        final var stepIntegrator = QuaternionStepIntegrator.create(type);
+
+        final var end = offset + length;
+        for (var i = offset + 1; i < end; i++) {
+            final var dt = timestamps[i] - timestamps[i - 1];
+            stepIntegrator.integrate(result, angularRatesX[i - 1], angularRatesY[i - 1], angularRatesZ[i - 1],
+                    angularRatesX[i], angularRatesY[i], angularRatesZ[i], dt, result);
+        }
+    }
+
+    /**
+     * Integrates gyroscope measurements contained in a slice of a binary IMU log,
+     * starting at an initial attitude to obtain a final attitude.
+     * Measurements must be sorted by timestamp.
+     *
+     * @param slice           slice containing measurements to be integrated.
+     * @param initialAttitude (optional) initial attitude to be used. If null, then the
+     *                        identity attitude will be used.
+     * @param type            type of step integrator to be used.
+     * @param result          resulting rotation after integration.
+     * @throws RotationException if a numerical error occurs.
+     */
+    public static void integrateGyroSlice(
+            final IMULogSlice slice, final Quaternion initialAttitude, final QuaternionStepIntegratorType type,
+            final Quaternion result) throws RotationException {
+        integrateGyroSequence(slice.getTimestamps(), slice.getAngularRatesX(), slice.getAngularRatesY(),
+                slice.getAngularRatesZ(), 0, slice.getSize(), initialAttitude, type, result);
+    }
+
+    /**
+     * Integrates gyroscope measurements contained in a slice of a binary IMU log,
+     * starting at an initial attitude to obtain a final attitude.
+     * Measurements must be sorted by timestamp.
+     *
+     * @param slice           slice containing measurements to be integrated.
+     * @param initialAttitude (optional) initial attitude to be used. If null, then the
+     *                        identity attitude will be used.
+     * @param type            type of step integrator to be used.
+     * @return resulting rotation after integration.
+     * @throws RotationException if a numerical error occurs.
+     */
+    public static Quaternion integrateGyroSliceAndReturnNew(
+            final IMULogSlice slice, final Quaternion initialAttitude, final QuaternionStepIntegratorType type)
+            throws RotationException {
+        final var result = new Quaternion();
+        integrateGyroSlice(slice, initialAttitude, type, result);
+        return result;
+    }
 }
@@ -24,8 +24,12 @@ import com.irurueta.navigation.inertial.INSLooselyCoupledKalmanInitializerConfig
 import com.irurueta.navigation.inertial.INSTightlyCoupledKalmanInitializerConfig;
 import com.irurueta.navigation.inertial.calibration.AngularSpeedTriad;
 import com.irurueta.navigation.inertial.calibration.CalibrationException;
+import com.irurueta.navigation.inertial.calibration.CompactInliersData;
 import com.irurueta.navigation.inertial.calibration.GyroscopeBiasUncertaintySource;
 import com.irurueta.navigation.inertial.calibration.GyroscopeCalibrationSource;
+import com.irurueta.navigation.inertial.calibration.InlierMeasurementsView;
+import com.irurueta.navigation.inertial.calibration.InliersDataStorage;
+import com.irurueta.navigation.inertial.calibration.RobustCalibrationSampling;
 import com.irurueta.navigation.inertial.calibration.StandardDeviationFrameBodyKinematics;
 import com.irurueta.navigation.inertial.estimators.ECEFKinematicsEstimator;
 import com.irurueta.numerical.robust.InliersData;
@@ -152,6 +156,21 @@ public abstract class RobustKnownFrameGyroscopeCalibrator implements
      */
     public static final int MIN_ITERATIONS = 1;
 
+    /**
+     * Indicates by default whether hypotheses are scored on a sample of measurements.
+     */
+    public static final boolean DEFAULT_SAMPLED_SCORING = false;
+
+    /**
+     * Default number of measurements sampled to score hypotheses.
+     */
+    public static final int DEFAULT_SCORING_SAMPLE_SIZE = 1000;
+
+    /**
+     * Default way to store inliers and residuals once calibration finishes.
+     */
+    public static final InliersDataStorage DEFAULT_INLIERS_DATA_STORAGE = InliersDataStorage.FULL;
+
     /**
      * Contains a list of body kinematics measurements taken at different
      * frames (positions, orientations and velocities) and containing the standard
@@ -216,6 +235,35 @@ public abstract class RobustKnownFrameGyroscopeCalibrator implements
      */
     protected int preliminarySubsetSize = MINIMUM_MEASUREMENTS;
 
+    /**
+     * Indicates whether hypotheses are scored on a fixed-size stratified sample of
+     * measurements instead of all of them.
+     */
+    private boolean sampledScoring = DEFAULT_SAMPLED_SCORING;
+
+    /**
+     * Number of measurements sampled to score hypotheses.
+     */
+    private int scoringSampleSize = DEFAULT_SCORING_SAMPLE_SIZE;
+
+    /**
+     * Indicates how inliers and residuals are stored once calibration finishes.
+     */
+    private InliersDataStorage inliersDataStorage = DEFAULT_INLIERS_DATA_STORAGE;
+
+    /**
+     * Positions of measurements sampled to score hypotheses during last calibration or
+     * null if hypotheses were scored on all measurements.
+     */
+    protected int[] scoringIndices;
+
+    /**
+     * Inliers among all measurements using a bit per measurement, found by checking the
+     * best hypothesis against every measurement after calibrating with sampled scoring,
+     * or by compacting inliers data reported by the robust estimator.
+     */
+    protected CompactInliersData compactInliersData;
+
     /**
      * This flag indicates whether z-axis is assumed to be common for accelerometer
      * and gyroscope.
@@ -1614,6 +1662,21 @@ public abstract class RobustKnownFrameGyroscopeCalibrator implements
         return inliersData;
     }
 
+    /**
+     * Gets inliers among all measurements using a bit per measurement.
+     * These are found by checking the best hypothesis against every measurement after
+     * calibrating with sampled scoring, in which case {@link #getInliersData()} only
+     * refers to sampled measurements, or by compacting inliers data reported by the
+     * robust estimator when a compact {@link InliersDataStorage} is used, in which case
+     * {@link #getInliersData()} is released.
+     *
+     * @return inliers among all measurements or null if neither sampled scoring nor
+     * compact storage were used.
+     */
+    public CompactInliersData getCompactInliersData() {
+        return compactInliersData;
+    }
+
     /**
      * Indicates whether result must be refined using a non-linear solver over found inliers.
      *
@@ -2386,6 +2449,95 @@ public abstract class RobustKnownFrameGyroscopeCalibrator implements
         this.preliminarySubsetSize = preliminarySubsetSize;
     }
 
+    /**
+     * Indicates whether hypotheses are scored on a fixed-size stratified sample of
+     * measurements instead of all of them.
+     * When enabled and there are more measurements than the scoring sample size, only
+     * the best hypothesis is checked against all measurements in a single pass to find
+     * the inliers used for refinement, which bounds the cost of each scoring pass and the
+     * memory used to keep inliers and residuals of hypotheses.
+     *
+     * @return true if hypotheses are scored on a sample of measurements, false otherwise.
+     */
+    public boolean isSampledScoring() {
+        return sampledScoring;
+    }
+
+    /**
+     * Specifies whether hypotheses are scored on a fixed-size stratified sample of
+     * measurements instead of all of them.
+     *
+     * @param sampledScoring true if hypotheses are scored on a sample of measurements,
+     *                       false otherwise.
+     * @throws LockedException if calibrator is currently running.
+     */
+    public void setSampledScoring(final boolean sampledScoring) throws LockedException {
+        if (running) {
+            throw new LockedException();
+        }
+
+        this.sampledScoring = sampledScoring;
+    }
+
+    /**
+     * Gets number of measurements sampled to score hypotheses when sampled scoring is
+     * enabled.
+     * This has to be at least {@link #MINIMUM_MEASUREMENTS}.
+     *
+     * @return number of measurements sampled to score hypotheses.
+     */
+    public int getScoringSampleSize() {
+        return scoringSampleSize;
+    }
+
+    /**
+     * Sets number of measurements sampled to score hypotheses when sampled scoring is
+     * enabled.
+     * This has to be at least {@link #MINIMUM_MEASUREMENTS}.
+     *
+     * @param scoringSampleSize number of measurements sampled to score hypotheses.
+     * @throws LockedException          if calibrator is currently running.
+     * @throws IllegalArgumentException if provided value is less than {@link #MINIMUM_MEASUREMENTS}.
+     */
+    public void setScoringSampleSize(final int scoringSampleSize) throws LockedException {
+        if (running) {
+            throw new LockedException();
+        }
+        if (scoringSampleSize < MINIMUM_MEASUREMENTS) {
+            throw new IllegalArgumentException();
+        }
+
+        this.scoringSampleSize = scoringSampleSize;
+    }
+
+    /**
+     * Gets how inliers and residuals are stored once calibration finishes.
+     * Compact storage keeps a bit per measurement to indicate inliers, and optionally
+     * residuals using single precision, releasing inliers data reported by the robust
+     * estimator, which reduces the memory retained by calibrators after calibration.
+     *
+     * @return how inliers and residuals are stored.
+     */
+    public InliersDataStorage getInliersDataStorage() {
+        return inliersDataStorage;
+    }
+
+    /**
+     * Sets how inliers and residuals are stored once calibration finishes.
+     * Compaction requires inliers to be computed, either because they are kept or
+     * because result is refined.
+     *
+     * @param inliersDataStorage how inliers and residuals are stored.
+     * @throws LockedException if calibrator is currently running.
+     */
+    public void setInliersDataStorage(final InliersDataStorage inliersDataStorage) throws LockedException {
+        if (running) {
+            throw new LockedException();
+        }
+
+        this.inliersDataStorage = inliersDataStorage;
+    }
+
     /**
      * Returns method being used for robust estimation.
      *
@@ -2989,6 +3141,66 @@ public abstract class RobustKnownFrameGyroscopeCalibrator implements
     }
 
 
+    /**
+     * Samples measurements used to score hypotheses if sampled scoring is enabled and
+     * there are more measurements than the scoring sample size.
+     * This must be called before starting robust estimation.
+     */
+    protected void setupScoringSamples() {
+        compactInliersData = null;
+        scoringIndices = RobustCalibrationSampling.setupScoringSamples(sampledScoring, measurements.size(),
+                scoringSampleSize);
+    }
+
+    /**
+     * Gets number of measurements used to score hypotheses.
+     *
+     * @return number of measurements used to score hypotheses.
+     */
+    protected int getScoringSamples() {
+        return RobustCalibrationSampling.getScoringSamples(measurements.size(), scoringIndices);
+    }
+
+    /**
+     * Gets measurement used to score hypotheses at provided position.
+     *
+     * @param i position of measurement among the ones used to score hypotheses.
+     * @return measurement.
+     */
+    protected StandardDeviationFrameBodyKinematics getScoringMeasurement(final int i) {
+        return RobustCalibrationSampling.getScoringMeasurement(measurements, scoringIndices, i);
+    }
+
+    /**
+     * Gets quality scores of measurements used to score hypotheses.
+     *
+     * @param qualityScores quality scores of all measurements.
+     * @return quality scores of measurements used to score hypotheses.
+     */
+    protected double[] sampleQualityScores(final double[] qualityScores) {
+        return RobustCalibrationSampling.sampleQualityScores(qualityScores, scoringIndices);
+    }
+
+    /**
+     * Updates inliers among all measurements once robust estimation finishes.
+     * When hypotheses have been scored on a sample of measurements, the best hypothesis is
+     * checked against all measurements to find the inliers used for refinement.
+     * Otherwise, inliers data reported by the robust estimator is compacted if required by
+     * current {@link InliersDataStorage}.
+     *
+     * @param preliminaryResult best hypothesis found by robust estimation.
+     * @param threshold         threshold to determine inliers when robust estimator does
+     *                          not estimate it.
+     */
+    protected void updateCompactInliersData(final PreliminaryResult preliminaryResult, final double threshold) {
+        compactInliersData = RobustCalibrationSampling.computeCompactInliersData(measurements.size(),
+                scoringIndices, i -> computeError(measurements.get(i), preliminaryResult), inliersData,
+                threshold, inliersDataStorage);
+        if (inliersDataStorage != InliersDataStorage.FULL && compactInliersData != null) {
+            inliersData = null;
+        }
+    }
+
     /**
      * Computes error of a preliminary result respect a given measurement.
      *
@@ -3080,7 +3292,7 @@ public abstract class RobustKnownFrameGyroscopeCalibrator implements
         final var meas = new ArrayList<StandardDeviationFrameBodyKinematics>();
 
         for (final var samplesIndex : samplesIndices) {
-            meas.add(this.measurements.get(samplesIndex));
+            meas.add(getScoringMeasurement(samplesIndex));
         }
 
         try {
@@ -3095,8 +3307,8 @@ public abstract class RobustKnownFrameGyroscopeCalibrator implements
                 linearCalibrator.calibrate();
 
                 linearCalibrator.getEstimatedBiases(result.estimatedBiases);
-                result.estimatedMg = linearCalibrator.getEstimatedMg();
-                result.estimatedGg = linearCalibrator.getEstimatedGg();
+                linearCalibrator.getEstimatedMg().copyTo(result.estimatedMg);
+                linearCalibrator.getEstimatedGg().copyTo(result.estimatedGg);
             }
 
             if (refinePreliminarySolutions) {
@@ -3108,8 +3320,8 @@ public abstract class RobustKnownFrameGyroscopeCalibrator implements
                 nonLinearCalibrator.calibrate();
 
                 nonLinearCalibrator.getEstimatedBiases(result.estimatedBiases);
-                result.estimatedMg = nonLinearCalibrator.getEstimatedMg();
-                result.estimatedGg = nonLinearCalibrator.getEstimatedGg();
+                nonLinearCalibrator.getEstimatedMg().copyTo(result.estimatedMg);
+                nonLinearCalibrator.getEstimatedGg().copyTo(result.estimatedGg);
 
                 if (keepCovariance) {
                     result.covariance = nonLinearCalibrator.getEstimatedCovariance();
@@ -3137,17 +3349,11 @@ public abstract class RobustKnownFrameGyroscopeCalibrator implements
      * @param preliminaryResult a preliminary result.
      */
     protected void attemptRefine(final PreliminaryResult preliminaryResult) {
-        if (refineResult && inliersData != null) {
-            final var inliers = inliersData.getInliers();
-            final var nSamples = measurements.size();
-
-            final var inlierMeasurements = new ArrayList<StandardDeviationFrameBodyKinematics>();
-            for (var i = 0; i < nSamples; i++) {
-                if (inliers.get(i)) {
-                    // sample is inlier
-                    inlierMeasurements.add(measurements.get(i));
-                }
-            }
+        if (refineResult && (compactInliersData != null || inliersData != null)) {
+            final var inliers = compactInliersData != null ? compactInliersData.getInliers()
+                    : inliersData.getInliers();
+            // inlier measurements are iterated from the original list without copying them
+            final var inlierMeasurements = new InlierMeasurementsView<>(measurements, inliers);
 
             try {
                 nonLinearCalibrator.setInitialBias(preliminaryResult.estimatedBiases);
@@ -43,6 +43,7 @@ import com.irurueta.navigation.inertial.calibration.GyroscopeBiasUncertaintySour
 import com.irurueta.navigation.inertial.calibration.GyroscopeCalibrationSource;
 import com.irurueta.navigation.inertial.calibration.StandardDeviationBodyKinematics;
 import com.irurueta.navigation.inertial.estimators.ECEFKinematicsEstimator;
+import com.irurueta.navigation.inertial.metrics.InertialMetrics;
 import com.irurueta.numerical.EvaluationException;
 import com.irurueta.numerical.GradientEstimator;
 import com.irurueta.numerical.fitting.FittingException;
@@ -4970,7 +4971,7 @@ public class TurntableGyroscopeCalibrator implements GyroscopeNonLinearCalibrato
 
         setInputDataWithGDependentCrossBiases();
 
-        fitter.fit();
+        InertialMetrics.fit(this, fitter);
 
         final var result = fitter.getA();
 
@@ -5312,7 +5313,7 @@ public class TurntableGyroscopeCalibrator implements GyroscopeNonLinearCalibrato
 
         setInputDataWithGDependentCrossBiases();
 
-        fitter.fit();
+        InertialMetrics.fit(this, fitter);
 
         final var result = fitter.getA();
 
@@ -5679,7 +5680,7 @@ public class TurntableGyroscopeCalibrator implements GyroscopeNonLinearCalibrato
 
         setInputData();
 
-        fitter.fit();
+        InertialMetrics.fit(this, fitter);
 
         final var result = fitter.getA();
 
@@ -5936,7 +5937,7 @@ public class TurntableGyroscopeCalibrator implements GyroscopeNonLinearCalibrato
 
         setInputData();
 
-        fitter.fit();
+        InertialMetrics.fit(this, fitter);
 
         final var result = fitter.getA();
 
@@ -15,8 +15,10 @@
  */
 package com.irurueta.navigation.inertial.calibration.intervals;
 
+import com.irurueta.navigation.LockedException;
 import com.irurueta.navigation.inertial.calibration.AccelerationTriad;
 import com.irurueta.navigation.inertial.calibration.AccelerometerNoiseRootPsdSource;
+import com.irurueta.navigation.inertial.calibration.io.IMULogSlice;
 import com.irurueta.navigation.inertial.calibration.noise.AccumulatedAccelerationTriadNoiseEstimator;
 import com.irurueta.navigation.inertial.calibration.noise.WindowedAccelerationTriadNoiseEstimator;
 import com.irurueta.units.Acceleration;
@@ -111,4 +113,17 @@ public class AccelerationTriadStaticIntervalDetector extends TriadStaticInterval
     public double getAccelerometerBaseNoiseLevelRootPsd() {
         return getBaseNoiseLevelRootPsd();
     }
+
+    /**
+     * Processes specific force samples contained in provided slice of a binary IMU log.
+     * Processing stops at the first sample that is skipped because detector failed.
+     *
+     * @param slice slice containing samples to be processed.
+     * @return number of processed samples.
+     * @throws LockedException if detector is busy processing a previous sample.
+     */
+    public int processSlice(final IMULogSlice slice) throws LockedException {
+        return process(slice.getSpecificForcesX(), slice.getSpecificForcesY(), slice.getSpecificForcesZ(),
+                0, slice.getSize());
+    }
 }
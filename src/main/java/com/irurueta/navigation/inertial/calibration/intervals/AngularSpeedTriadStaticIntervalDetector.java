@@ -15,8 +15,10 @@
  */
 package com.irurueta.navigation.inertial.calibration.intervals;
 
+import com.irurueta.navigation.LockedException;
 import com.irurueta.navigation.inertial.calibration.AngularSpeedTriad;
 import com.irurueta.navigation.inertial.calibration.GyroscopeNoiseRootPsdSource;
+import com.irurueta.navigation.inertial.calibration.io.IMULogSlice;
 import com.irurueta.navigation.inertial.calibration.noise.AccumulatedAngularSpeedTriadNoiseEstimator;
 import com.irurueta.navigation.inertial.calibration.noise.WindowedAngularSpeedTriadNoiseEstimator;
 import com.irurueta.units.AngularSpeed;
@@ -110,4 +112,17 @@ public class AngularSpeedTriadStaticIntervalDetector extends TriadStaticInterval
     public double getGyroscopeBaseNoiseLevelRootPsd() {
         return getBaseNoiseLevelRootPsd();
     }
+
+    /**
+     * Processes angular rate samples contained in provided slice of a binary IMU log.
+     * Processing stops at the first sample that is skipped because detector failed.
+     *
+     * @param slice slice containing samples to be processed.
+     * @return number of processed samples.
+     * @throws LockedException if detector is busy processing a previous sample.
+     */
+    public int processSlice(final IMULogSlice slice) throws LockedException {
+        return process(slice.getAngularRatesX(), slice.getAngularRatesY(), slice.getAngularRatesZ(),
+                0, slice.getSize());
+    }
 }
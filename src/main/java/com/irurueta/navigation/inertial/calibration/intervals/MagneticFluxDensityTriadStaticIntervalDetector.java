@@ -15,7 +15,9 @@
  */
 package com.irurueta.navigation.inertial.calibration.intervals;
 
+import com.irurueta.navigation.LockedException;
 import com.irurueta.navigation.inertial.calibration.MagneticFluxDensityTriad;
+import com.irurueta.navigation.inertial.calibration.io.IMULogSlice;
 import com.irurueta.navigation.inertial.calibration.noise.AccumulatedMagneticFluxDensityTriadNoiseEstimator;
 import com.irurueta.navigation.inertial.calibration.noise.WindowedMagneticFluxDensityTriadNoiseEstimator;
 import com.irurueta.units.MagneticFluxDensity;
@@ -101,4 +103,17 @@ public class MagneticFluxDensityTriadStaticIntervalDetector extends
             final double valueX, final double valueY, final double valueZ, final MagneticFluxDensityUnit unit) {
         return new MagneticFluxDensityTriad(unit, valueX, valueY, valueZ);
     }
+
+    /**
+     * Processes magnetic flux density samples contained in provided slice of a binary IMU log.
+     * Processing stops at the first sample that is skipped because detector failed.
+     *
+     * @param slice slice containing samples to be processed.
+     * @return number of processed samples.
+     * @throws LockedException if detector is busy processing a previous sample.
+     */
+    public int processSlice(final IMULogSlice slice) throws LockedException {
+        return process(slice.getMagneticFluxDensitiesX(), slice.getMagneticFluxDensitiesY(),
+                slice.getMagneticFluxDensitiesZ(), 0, slice.getSize());
+    }
 }
@@ -18,12 +18,16 @@ package com.irurueta.navigation.inertial.calibration.intervals;
 import com.irurueta.navigation.LockedException;
 import com.irurueta.navigation.inertial.calibration.Triad;
 import com.irurueta.navigation.inertial.calibration.noise.AccumulatedTriadNoiseEstimator;
+import com.irurueta.navigation.inertial.calibration.noise.WelchTriadNoiseEstimator;
 import com.irurueta.navigation.inertial.calibration.noise.WindowedTriadNoiseEstimator;
+import com.irurueta.navigation.inertial.metrics.InertialMetrics;
 import com.irurueta.units.Measurement;
 import com.irurueta.units.Time;
 import com.irurueta.units.TimeConverter;
 import com.irurueta.units.TimeUnit;
 
+import java.util.Objects;
+
 /**
  * Abstract base class for detectors in charge of determining when a static period of
  * measurements starts and finishes.
@@ -284,6 +288,12 @@ public abstract class TriadStaticIntervalDetector<U extends Enum<?>, M extends M
      */
     private final AccumulatedTriadNoiseEstimator<U, M, T, ?, ?> accumulatedNoiseEstimator;
 
+    /**
+     * Optional estimator of PSD's (Power Spectral Densities) as a function of frequency,
+     * which is only fed with samples belonging to static intervals.
+     */
+    private WelchTriadNoiseEstimator<U, M, T, ?, ?> psdEstimator;
+
     /**
      * Constructor.
      *
@@ -550,6 +560,40 @@ public abstract class TriadStaticIntervalDetector<U extends Enum<?>, M extends M
         this.listener = listener;
     }
 
+    /**
+     * Gets optional estimator of PSD's (Power Spectral Densities) as a function of
+     * frequency, which is only fed with samples of the initial static period and of
+     * detected static intervals.
+     *
+     * @return PSD estimator or null if not set.
+     */
+    public WelchTriadNoiseEstimator<U, M, T, ?, ?> getPsdEstimator() {
+        return psdEstimator;
+    }
+
+    /**
+     * Sets optional estimator of PSD's (Power Spectral Densities) as a function of
+     * frequency, which is only fed with samples of the initial static period and of
+     * detected static intervals.
+     * Samples of different static intervals are never mixed within the same segment, since
+     * incomplete segments are discarded when a static interval finishes.
+     * Time interval of provided estimator is updated to match the one of this detector.
+     *
+     * @param psdEstimator PSD estimator or null to disable PSD estimation.
+     * @throws LockedException if detector or provided estimator are busy.
+     */
+    public void setPsdEstimator(final WelchTriadNoiseEstimator<U, M, T, ?, ?> psdEstimator)
+            throws LockedException {
+        if (running) {
+            throw new LockedException();
+        }
+
+        if (psdEstimator != null) {
+            psdEstimator.setTimeInterval(getTimeInterval());
+        }
+        this.psdEstimator = psdEstimator;
+    }
+
     /**
      * Gets time interval between triad samples expressed in seconds (s).
      *
@@ -578,6 +622,9 @@ public abstract class TriadStaticIntervalDetector<U extends Enum<?>, M extends M
 
         windowedNoiseEstimator.setTimeInterval(timeInterval);
         accumulatedNoiseEstimator.setTimeInterval(timeInterval);
+        if (psdEstimator != null) {
+            psdEstimator.setTimeInterval(timeInterval);
+        }
     }
 
     /**
@@ -1335,6 +1382,7 @@ public abstract class TriadStaticIntervalDetector<U extends Enum<?>, M extends M
      * Processes a new measurement triad sample.
      * Provided measurement coordinates are expressed in meters per squared second (m/s^2) for acceleration,
      * radians per second (rad/s) for angular speed or Teslas (T) for magnetic flux density.
+     * This method is allocation-free.
      *
      * @param valueX x-coordinate of sensed measurement.
      * @param valueY y-coordinate of sensed measurement.
@@ -1384,6 +1432,9 @@ public abstract class TriadStaticIntervalDetector<U extends Enum<?>, M extends M
         if (status == Status.INITIALIZING) {
             // process sample during initialization
             accumulatedNoiseEstimator.addTriad(valueX, valueY, valueZ);
+            if (psdEstimator != null) {
+                psdEstimator.addTriad(valueX, valueY, valueZ);
+            }
             final var accumulatedStdNorm = accumulatedNoiseEstimator.getStandardDeviationNorm();
 
             if (processedSamples < initialStaticSamples) {
@@ -1458,10 +1509,15 @@ public abstract class TriadStaticIntervalDetector<U extends Enum<?>, M extends M
                 // while we are in static interval, keep adding samples to estimate
                 // accumulated average measurement triad
                 accumulatedNoiseEstimator.addTriad(valueX, valueY, valueZ);
+                if (psdEstimator != null) {
+                    psdEstimator.addTriad(valueX, valueY, valueZ);
+                }
             }
 
             if (previousStatus != status) {
                 // static/dynamic period change detected
+                InertialMetrics.staticIntervalTransition(this, previousStatus, status, processedSamples);
+
                 if (status == Status.STATIC_INTERVAL && listener != null) {
                     //noinspection unchecked
                     listener.onStaticIntervalDetected((D) this,
@@ -1481,6 +1537,11 @@ public abstract class TriadStaticIntervalDetector<U extends Enum<?>, M extends M
                     // reset accumulated estimator when switching to dynamic period
                     accumulatedNoiseEstimator.reset();
 
+                    // PSD segments must only contain contiguous static samples
+                    if (psdEstimator != null) {
+                        psdEstimator.discardPartialSegment();
+                    }
+
                     if (listener != null) {
                         //noinspection unchecked
                         listener.onDynamicIntervalDetected((D) this,
@@ -1497,6 +1558,37 @@ public abstract class TriadStaticIntervalDetector<U extends Enum<?>, M extends M
         return true;
     }
 
+    /**
+     * Processes a range of measurement samples stored as primitive arrays, such as
+     * slices read from binary IMU logs.
+     * Provided measurement coordinates are expressed in meters per squared second (m/s^2) for acceleration,
+     * radians per second (rad/s) for angular speed or Teslas (T) for magnetic flux density.
+     * Processing stops at the first sample that is skipped because detector failed.
+     *
+     * @param valuesX x-coordinates of sensed measurements.
+     * @param valuesY y-coordinates of sensed measurements.
+     * @param valuesZ z-coordinates of sensed measurements.
+     * @param offset  position of first sample to be processed.
+     * @param length  number of samples to be processed.
+     * @return number of processed samples.
+     * @throws LockedException           if detector is busy processing a previous sample.
+     * @throws IndexOutOfBoundsException if provided range is not valid for any of the arrays.
+     */
+    public int process(final double[] valuesX, final double[] valuesY, final double[] valuesZ,
+                       final int offset, final int length) throws LockedException {
+        Objects.checkFromIndexSize(offset, length, valuesX.length);
+        Objects.checkFromIndexSize(offset, length, valuesY.length);
+        Objects.checkFromIndexSize(offset, length, valuesZ.length);
+
+        final var end = offset + length;
+        for (var i = offset; i < end; i++) {
+            if (!process(valuesX[i], valuesY[i], valuesZ[i])) {
+                return i - offset;
+            }
+        }
+        return length;
+    }
+
     /**
      * Resets this detector so that it is initialized again when new samples are added.
      *
@@ -1516,6 +1608,9 @@ public abstract class TriadStaticIntervalDetector<U extends Enum<?>, M extends M
 
         windowedNoiseEstimator.reset();
         accumulatedNoiseEstimator.reset();
+        if (psdEstimator != null) {
+            psdEstimator.reset();
+        }
 
         if (listener != null) {
             //noinspection unchecked
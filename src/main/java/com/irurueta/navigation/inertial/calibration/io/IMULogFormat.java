@@ -0,0 +1,153 @@
+/*
+ * Copyright (C) 2026 Alberto Irurueta Carro (alberto@irurueta.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.irurueta.navigation.inertial.calibration.io;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+
+/**
+ * Describes the layout of binary IMU logs.
+ * A log consists of a fixed-size header followed by fixed-size records, all of them
+ * encoded in little-endian byte order.
+ * The header contains:
+ * <ul>
+ *     <li>Magic number identifying the format (4 bytes).</li>
+ *     <li>Format version (2 bytes).</li>
+ *     <li>Precision of values (1 byte).</li>
+ *     <li>Reserved byte.</li>
+ *     <li>Number of bytes of each record (4 bytes).</li>
+ *     <li>Reserved bytes (4 bytes).</li>
+ * </ul>
+ * Each record contains the timestamp expressed in seconds as a 64-bit floating point
+ * value, followed by the specific force expressed in meters per squared second (m/s^2),
+ * the angular rate expressed in radians per second (rad/s) and the magnetic flux
+ * density expressed in Teslas (T), all of them resolved around body axes and stored
+ * with the precision indicated in the header.
+ * Any trailing bytes not completing a record (e.g. due to an interrupted write) are
+ * ignored.
+ */
+public final class IMULogFormat {
+
+    /**
+     * Magic number identifying IMU logs ("IMUL" in ASCII).
+     */
+    public static final int MAGIC = 0x4C554D49;
+
+    /**
+     * Current format version.
+     */
+    public static final short VERSION = 1;
+
+    /**
+     * Number of bytes of the header.
+     */
+    public static final int HEADER_BYTES = 16;
+
+    /**
+     * Number of values stored in each record besides the timestamp.
+     */
+    public static final int VALUES_PER_RECORD = 9;
+
+    /**
+     * Byte order of encoded data.
+     */
+    static final ByteOrder BYTE_ORDER = ByteOrder.LITTLE_ENDIAN;
+
+    /**
+     * Prevents instantiation of utility class.
+     */
+    private IMULogFormat() {
+    }
+
+    /**
+     * Gets number of bytes of each record for provided precision.
+     *
+     * @param precision precision of stored values.
+     * @return number of bytes of each record.
+     */
+    public static int getRecordBytes(final IMULogPrecision precision) {
+        return Double.BYTES + VALUES_PER_RECORD * precision.getValueBytes();
+    }
+
+    /**
+     * Gets number of complete records contained in a log having provided size.
+     *
+     * @param fileSize  size of log expressed in bytes.
+     * @param precision precision of stored values.
+     * @return number of complete records.
+     */
+    public static long getRecordCount(final long fileSize, final IMULogPrecision precision) {
+        return Math.max(fileSize - HEADER_BYTES, 0L) / getRecordBytes(precision);
+    }
+
+    /**
+     * Writes a header into provided buffer at its current position.
+     *
+     * @param precision precision of stored values.
+     * @param buffer    buffer where header will be written.
+     */
+    static void writeHeader(final IMULogPrecision precision, final ByteBuffer buffer) {
+        final var order = buffer.order();
+        buffer.order(BYTE_ORDER);
+        buffer.putInt(MAGIC);
+        buffer.putShort(VERSION);
+        buffer.put((byte) precision.ordinal());
+        buffer.put((byte) 0);
+        buffer.putInt(getRecordBytes(precision));
+        buffer.putInt(0);
+        buffer.order(order);
+    }
+
+    /**
+     * Reads a header from provided buffer at its current position.
+     *
+     * @param buffer buffer containing a header.
+     * @return precision of stored values.
+     * @throws IOException if header is not valid.
+     */
+    static IMULogPrecision readHeader(final ByteBuffer buffer) throws IOException {
+        if (buffer.remaining() < HEADER_BYTES) {
+            throw new IOException("Truncated IMU log header");
+        }
+
+        final var order = buffer.order();
+        try {
+            buffer.order(BYTE_ORDER);
+            if (buffer.getInt() != MAGIC) {
+                throw new IOException("Not an IMU log");
+            }
+            final var version = buffer.getShort();
+            if (version != VERSION) {
+                throw new IOException("Unsupported IMU log version " + version);
+            }
+            final var ordinal = buffer.get();
+            final var precisions = IMULogPrecision.values();
+            if (ordinal < 0 || ordinal >= precisions.length) {
+                throw new IOException("Unsupported IMU log precision " + ordinal);
+            }
+            final var precision = precisions[ordinal];
+            buffer.get();
+            if (buffer.getInt() != getRecordBytes(precision)) {
+                throw new IOException("Inconsistent IMU log record size");
+            }
+            buffer.getInt();
+            return precision;
+        } finally {
+            buffer.order(order);
+        }
+    }
+}
@@ -0,0 +1,57 @@
+/*
+ * Copyright (C) 2026 Alberto Irurueta Carro (alberto@irurueta.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.irurueta.navigation.inertial.calibration.io;
+
+/**
+ * Indicates the precision used to store specific force, angular rate and magnetic
+ * flux density values within an IMU log.
+ * Timestamps are always stored as 64-bit floating point values.
+ */
+public enum IMULogPrecision {
+    /**
+     * Values are stored as 64-bit floating point values.
+     */
+    DOUBLE(Double.BYTES),
+
+    /**
+     * Values are stored as 32-bit floating point values, halving the size of
+     * logs at the expense of precision.
+     */
+    FLOAT(Float.BYTES);
+
+    /**
+     * Number of bytes of each stored value.
+     */
+    private final int valueBytes;
+
+    /**
+     * Constructor.
+     *
+     * @param valueBytes number of bytes of each stored value.
+     */
+    IMULogPrecision(final int valueBytes) {
+        this.valueBytes = valueBytes;
+    }
+
+    /**
+     * Gets number of bytes of each stored value.
+     *
+     * @return number of bytes of each stored value.
+     */
+    public int getValueBytes() {
+        return valueBytes;
+    }
+}
@@ -0,0 +1,292 @@
+/*
+ * Copyright (C) 2026 Alberto Irurueta Carro (alberto@irurueta.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.irurueta.navigation.inertial.calibration.io;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Reads IMU logs by mapping them into memory, so that records are decoded directly
+ * from the operating system page cache without intermediate copies or per-record
+ * object creation.
+ * Records can be accessed either through reusable {@link IMULogRecord} flyweight views
+ * or by copying ranges of records into reusable {@link IMULogSlice} primitive arrays.
+ * Logs larger than the maximum size of a mapped buffer are mapped as several segments,
+ * each one containing a whole number of records.
+ * Closing this reader closes the underlying file channel. Mapped memory is released once
+ * this reader and any view obtained from it are no longer referenced.
+ * This class is not thread-safe, however several readers can be opened on the same log.
+ */
+public class IMULogReader implements Closeable {
+
+    /**
+     * Maximum number of bytes of each mapped segment.
+     */
+    static final int MAX_SEGMENT_BYTES = Integer.MAX_VALUE;
+
+    /**
+     * Channel of mapped log.
+     */
+    private final FileChannel channel;
+
+    /**
+     * Precision of stored values.
+     */
+    private final IMULogPrecision precision;
+
+    /**
+     * Indicates whether values are stored as 64-bit floating point values.
+     */
+    private final boolean doublePrecision;
+
+    /**
+     * Number of bytes of each record.
+     */
+    private final int recordBytes;
+
+    /**
+     * Number of bytes of each stored value.
+     */
+    private final int valueBytes;
+
+    /**
+     * Number of complete records in the log.
+     */
+    private final long recordCount;
+
+    /**
+     * Maximum number of records contained in each mapped segment.
+     */
+    private final int recordsPerSegment;
+
+    /**
+     * Mapped segments.
+     */
+    private final ByteBuffer[] segments;
+
+    /**
+     * Constructor.
+     *
+     * @param file log to be read.
+     * @throws IOException if log cannot be read or is not valid.
+     */
+    public IMULogReader(final Path file) throws IOException {
+        this(file, MAX_SEGMENT_BYTES);
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param file            log to be read.
+     * @param maxSegmentBytes maximum number of bytes of each mapped segment.
+     * @throws IOException if log cannot be read or is not valid.
+     */
+    IMULogReader(final Path file, final int maxSegmentBytes) throws IOException {
+        channel = FileChannel.open(file, StandardOpenOption.READ);
+        try {
+            final var size = channel.size();
+            final var header = ByteBuffer.allocate(IMULogFormat.HEADER_BYTES);
+            while (header.hasRemaining() && channel.read(header, header.position()) >= 0) {
+                // keep reading until header is complete or end of file is reached
+            }
+            header.flip();
+            precision = IMULogFormat.readHeader(header);
+            doublePrecision = precision == IMULogPrecision.DOUBLE;
+            recordBytes = IMULogFormat.getRecordBytes(precision);
+            valueBytes = precision.getValueBytes();
+            recordCount = IMULogFormat.getRecordCount(size, precision);
+            recordsPerSegment = Math.max(maxSegmentBytes / recordBytes, 1);
+
+            final var numSegments = (int) ((recordCount + recordsPerSegment - 1) / recordsPerSegment);
+            segments = new ByteBuffer[numSegments];
+            for (var i = 0; i < numSegments; i++) {
+                final var firstRecord = (long) i * recordsPerSegment;
+                final var records = Math.min(recordsPerSegment, recordCount - firstRecord);
+                segments[i] = channel.map(FileChannel.MapMode.READ_ONLY,
+                        IMULogFormat.HEADER_BYTES + firstRecord * recordBytes, records * recordBytes)
+                        .order(IMULogFormat.BYTE_ORDER);
+            }
+        } catch (final IOException | RuntimeException e) {
+            channel.close();
+            throw e;
+        }
+    }
+
+    /**
+     * Gets precision of stored values.
+     *
+     * @return precision of stored values.
+     */
+    public IMULogPrecision getPrecision() {
+        return precision;
+    }
+
+    /**
+     * Gets number of complete records in the log.
+     *
+     * @return number of records.
+     */
+    public long getRecordCount() {
+        return recordCount;
+    }
+
+    /**
+     * Creates a new flyweight view to access records of this log.
+     * Returned view must be moved to a record before reading any value.
+     *
+     * @return a new record view.
+     */
+    public IMULogRecord createRecord() {
+        return new IMULogRecord(this);
+    }
+
+    /**
+     * Copies as many consecutive records as fit in provided slice.
+     *
+     * @param start index of first record to be read.
+     * @param slice instance where records will be stored.
+     * @return number of read records, which is zero when start is at the end of the log.
+     * @throws IndexOutOfBoundsException if start is negative or exceeds number of records.
+     */
+    public int read(final long start, final IMULogSlice slice) {
+        return read(start, slice.getCapacity(), slice);
+    }
+
+    /**
+     * Copies up to provided number of consecutive records into provided slice.
+     *
+     * @param start  index of first record to be read.
+     * @param length maximum number of records to be read.
+     * @param slice  instance where records will be stored.
+     * @return number of read records, which is zero when start is at the end of the log.
+     * @throws IndexOutOfBoundsException if start is negative or exceeds number of records.
+     * @throws IllegalArgumentException  if length is negative or exceeds slice capacity.
+     */
+    public int read(final long start, final int length, final IMULogSlice slice) {
+        if (start < 0 || start > recordCount) {
+            throw new IndexOutOfBoundsException("Index out of range: " + start);
+        }
+        if (length < 0 || length > slice.getCapacity()) {
+            throw new IllegalArgumentException();
+        }
+
+        final var count = (int) Math.min(length, recordCount - start);
+        final var t = slice.getTimestamps();
+        final var fx = slice.getSpecificForcesX();
+        final var fy = slice.getSpecificForcesY();
+        final var fz = slice.getSpecificForcesZ();
+        final var wx = slice.getAngularRatesX();
+        final var wy = slice.getAngularRatesY();
+        final var wz = slice.getAngularRatesZ();
+        final var bx = slice.getMagneticFluxDensitiesX();
+        final var by = slice.getMagneticFluxDensitiesY();
+        final var bz = slice.getMagneticFluxDensitiesZ();
+
+        var i = 0;
+        while (i < count) {
+            final var index = start + i;
+            final var segment = segments[(int) (index / recordsPerSegment)];
+            final var first = (int) (index % recordsPerSegment);
+            final var end = Math.min(recordsPerSegment, first + count - i);
+
+            var offset = first * recordBytes;
+            for (var r = first; r < end; r++, i++, offset += recordBytes) {
+                t[i] = segment.getDouble(offset);
+                if (doublePrecision) {
+                    final var o = offset + Double.BYTES;
+                    fx[i] = segment.getDouble(o);
+                    fy[i] = segment.getDouble(o + 8);
+                    fz[i] = segment.getDouble(o + 16);
+                    wx[i] = segment.getDouble(o + 24);
+                    wy[i] = segment.getDouble(o + 32);
+                    wz[i] = segment.getDouble(o + 40);
+                    bx[i] = segment.getDouble(o + 48);
+                    by[i] = segment.getDouble(o + 56);
+                    bz[i] = segment.getDouble(o + 64);
+                } else {
+                    final var o = offset + Double.BYTES;
+                    fx[i] = segment.getFloat(o);
+                    fy[i] = segment.getFloat(o + 4);
+                    fz[i] = segment.getFloat(o + 8);
+                    wx[i] = segment.getFloat(o + 12);
+                    wy[i] = segment.getFloat(o + 16);
+                    wz[i] = segment.getFloat(o + 20);
+                    bx[i] = segment.getFloat(o + 24);
+                    by[i] = segment.getFloat(o + 28);
+                    bz[i] = segment.getFloat(o + 32);
+                }
+            }
+        }
+
+        slice.setSize(count);
+        return count;
+    }
+
+    /**
+     * Closes the underlying file channel.
+     *
+     * @throws IOException if an I/O error occurs.
+     */
+    @Override
+    public void close() throws IOException {
+        channel.close();
+    }
+
+    /**
+     * Gets number of bytes of each record.
+     *
+     * @return number of bytes of each record.
+     */
+    int getRecordBytes() {
+        return recordBytes;
+    }
+
+    /**
+     * Gets maximum number of records contained in each mapped segment.
+     *
+     * @return maximum number of records per segment.
+     */
+    int getRecordsPerSegment() {
+        return recordsPerSegment;
+    }
+
+    /**
+     * Gets mapped segment at provided position.
+     *
+     * @param index position of segment.
+     * @return mapped segment.
+     */
+    ByteBuffer getSegment(final int index) {
+        return segments[index];
+    }
+
+    /**
+     * Decodes a value of a record.
+     *
+     * @param segment  segment containing the record.
+     * @param offset   offset of record within segment.
+     * @param position position of value, excluding timestamp.
+     * @return decoded value.
+     */
+    double decode(final ByteBuffer segment, final int offset, final int position) {
+        final var o = offset + Double.BYTES + position * valueBytes;
+        return doublePrecision ? segment.getDouble(o) : segment.getFloat(o);
+    }
+}
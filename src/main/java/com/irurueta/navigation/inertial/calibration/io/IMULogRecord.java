@@ -0,0 +1,232 @@
+/*
+ * Copyright (C) 2026 Alberto Irurueta Carro (alberto@irurueta.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.irurueta.navigation.inertial.calibration.io;
+
+import com.irurueta.navigation.inertial.BodyKinematics;
+import com.irurueta.navigation.inertial.BodyMagneticFluxDensity;
+import com.irurueta.navigation.inertial.calibration.TimedBodyKinematicsAndMagneticFluxDensity;
+
+import java.nio.ByteBuffer;
+
+/**
+ * Flyweight view of a single record of an IMU log.
+ * Values are decoded on demand from the memory-mapped log, so that no object is
+ * created per record while iterating.
+ * Instances are obtained through {@link IMULogReader#createRecord()} and can be moved
+ * to any record of the log.
+ */
+public class IMULogRecord {
+
+    /**
+     * Reader owning the log.
+     */
+    private final IMULogReader reader;
+
+    /**
+     * Mapped segment containing current record.
+     */
+    private ByteBuffer segment;
+
+    /**
+     * Offset of current record within its segment.
+     */
+    private int offset;
+
+    /**
+     * Index of current record.
+     */
+    private long index = -1L;
+
+    /**
+     * Constructor.
+     *
+     * @param reader reader owning the log.
+     */
+    IMULogRecord(final IMULogReader reader) {
+        this.reader = reader;
+    }
+
+    /**
+     * Gets index of current record, or -1 if view has not been moved to any record yet.
+     *
+     * @return index of current record.
+     */
+    public long getIndex() {
+        return index;
+    }
+
+    /**
+     * Moves this view to provided record.
+     *
+     * @param index index of record.
+     * @throws IndexOutOfBoundsException if index is not within the log.
+     */
+    public void moveTo(final long index) {
+        if (index < 0 || index >= reader.getRecordCount()) {
+            throw new IndexOutOfBoundsException("Index out of range: " + index);
+        }
+
+        final var recordsPerSegment = reader.getRecordsPerSegment();
+        segment = reader.getSegment((int) (index / recordsPerSegment));
+        offset = (int) (index % recordsPerSegment) * reader.getRecordBytes();
+        this.index = index;
+    }
+
+    /**
+     * Moves this view to next record, if available.
+     *
+     * @return true if view was moved, false if there are no more records.
+     */
+    public boolean next() {
+        final var nextIndex = index + 1;
+        if (nextIndex >= reader.getRecordCount()) {
+            return false;
+        }
+
+        final var recordBytes = reader.getRecordBytes();
+        if (segment != null && offset + 2L * recordBytes <= segment.limit()) {
+            offset += recordBytes;
+            index = nextIndex;
+        } else {
+            moveTo(nextIndex);
+        }
+        return true;
+    }
+
+    /**
+     * Gets timestamp expressed in seconds.
+     *
+     * @return timestamp.
+     */
+    public double getTimestampSeconds() {
+        return segment.getDouble(offset);
+    }
+
+    /**
+     * Gets x-coordinate of specific force expressed in meters per squared second (m/s^2).
+     *
+     * @return x-coordinate of specific force.
+     */
+    public double getFx() {
+        return value(0);
+    }
+
+    /**
+     * Gets y-coordinate of specific force expressed in meters per squared second (m/s^2).
+     *
+     * @return y-coordinate of specific force.
+     */
+    public double getFy() {
+        return value(1);
+    }
+
+    /**
+     * Gets z-coordinate of specific force expressed in meters per squared second (m/s^2).
+     *
+     * @return z-coordinate of specific force.
+     */
+    public double getFz() {
+        return value(2);
+    }
+
+    /**
+     * Gets x-coordinate of angular rate expressed in radians per second (rad/s).
+     *
+     * @return x-coordinate of angular rate.
+     */
+    public double getAngularRateX() {
+        return value(3);
+    }
+
+    /**
+     * Gets y-coordinate of angular rate expressed in radians per second (rad/s).
+     *
+     * @return y-coordinate of angular rate.
+     */
+    public double getAngularRateY() {
+        return value(4);
+    }
+
+    /**
+     * Gets z-coordinate of angular rate expressed in radians per second (rad/s).
+     *
+     * @return z-coordinate of angular rate.
+     */
+    public double getAngularRateZ() {
+        return value(5);
+    }
+
+    /**
+     * Gets x-coordinate of magnetic flux density expressed in Teslas (T).
+     *
+     * @return x-coordinate of magnetic flux density.
+     */
+    public double getBx() {
+        return value(6);
+    }
+
+    /**
+     * Gets y-coordinate of magnetic flux density expressed in Teslas (T).
+     *
+     * @return y-coordinate of magnetic flux density.
+     */
+    public double getBy() {
+        return value(7);
+    }
+
+    /**
+     * Gets z-coordinate of magnetic flux density expressed in Teslas (T).
+     *
+     * @return z-coordinate of magnetic flux density.
+     */
+    public double getBz() {
+        return value(8);
+    }
+
+    /**
+     * Copies current record into provided instance.
+     * Contained body kinematics and magnetic flux density instances are reused when present.
+     *
+     * @param result instance where record will be stored.
+     */
+    public void toTimedKinematicsAndMagneticFluxDensity(final TimedBodyKinematicsAndMagneticFluxDensity result) {
+        var kinematics = result.getKinematics();
+        if (kinematics == null) {
+            kinematics = new BodyKinematics();
+            result.setKinematics(kinematics);
+        }
+        var magneticFluxDensity = result.getMagneticFluxDensity();
+        if (magneticFluxDensity == null) {
+            magneticFluxDensity = new BodyMagneticFluxDensity();
+            result.setMagneticFluxDensity(magneticFluxDensity);
+        }
+
+        kinematics.setSpecificForceCoordinates(getFx(), getFy(), getFz());
+        kinematics.setAngularRateCoordinates(getAngularRateX(), getAngularRateY(), getAngularRateZ());
+        magneticFluxDensity.setCoordinates(getBx(), getBy(), getBz());
+        result.setTimestampSeconds(getTimestampSeconds());
+    }
+
+    /**
+     * Decodes value at provided position of current record.
+     *
+     * @param position position of value, excluding timestamp.
+     * @return decoded value.
+     */
+    private double value(final int position) {
+        return reader.decode(segment, offset, position);
+    }
+}
@@ -0,0 +1,413 @@
+/*
+ * Copyright (C) 2026 Alberto Irurueta Carro (alberto@irurueta.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.irurueta.navigation.inertial.calibration.io;
+
+import com.irurueta.navigation.inertial.BodyKinematics;
+import com.irurueta.navigation.inertial.BodyKinematicsAndMagneticFluxDensity;
+import com.irurueta.navigation.inertial.BodyMagneticFluxDensity;
+import com.irurueta.navigation.inertial.calibration.TimedBodyKinematics;
+import com.irurueta.navigation.inertial.calibration.TimedBodyKinematicsAndMagneticFluxDensity;
+
+/**
+ * Contains a contiguous range of samples of an IMU log stored as primitive arrays,
+ * one array per coordinate, so that they can be processed in bulk without creating
+ * an object per sample.
+ * Specific force is expressed in meters per squared second (m/s^2), angular rate
+ * in radians per second (rad/s) and magnetic flux density in Teslas (T), all of them
+ * resolved around body axes.
+ * Instances are meant to be reused across reads.
+ */
+public class IMULogSlice {
+
+    /**
+     * Timestamps expressed in seconds.
+     */
+    private final double[] timestamps;
+
+    /**
+     * X-coordinates of specific force.
+     */
+    private final double[] specificForcesX;
+
+    /**
+     * Y-coordinates of specific force.
+     */
+    private final double[] specificForcesY;
+
+    /**
+     * Z-coordinates of specific force.
+     */
+    private final double[] specificForcesZ;
+
+    /**
+     * X-coordinates of angular rate.
+     */
+    private final double[] angularRatesX;
+
+    /**
+     * Y-coordinates of angular rate.
+     */
+    private final double[] angularRatesY;
+
+    /**
+     * Z-coordinates of angular rate.
+     */
+    private final double[] angularRatesZ;
+
+    /**
+     * X-coordinates of magnetic flux density.
+     */
+    private final double[] magneticFluxDensitiesX;
+
+    /**
+     * Y-coordinates of magnetic flux density.
+     */
+    private final double[] magneticFluxDensitiesY;
+
+    /**
+     * Z-coordinates of magnetic flux density.
+     */
+    private final double[] magneticFluxDensitiesZ;
+
+    /**
+     * Number of valid samples.
+     */
+    private int size;
+
+    /**
+     * Constructor.
+     *
+     * @param capacity maximum number of samples that can be contained.
+     * @throws IllegalArgumentException if capacity is not positive.
+     */
+    public IMULogSlice(final int capacity) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException();
+        }
+
+        timestamps = new double[capacity];
+        specificForcesX = new double[capacity];
+        specificForcesY = new double[capacity];
+        specificForcesZ = new double[capacity];
+        angularRatesX = new double[capacity];
+        angularRatesY = new double[capacity];
+        angularRatesZ = new double[capacity];
+        magneticFluxDensitiesX = new double[capacity];
+        magneticFluxDensitiesY = new double[capacity];
+        magneticFluxDensitiesZ = new double[capacity];
+    }
+
+    /**
+     * Gets maximum number of samples that can be contained.
+     *
+     * @return maximum number of samples.
+     */
+    public int getCapacity() {
+        return timestamps.length;
+    }
+
+    /**
+     * Gets number of valid samples.
+     * Only the first values of each array up to this size are valid.
+     *
+     * @return number of valid samples.
+     */
+    public int getSize() {
+        return size;
+    }
+
+    /**
+     * Sets number of valid samples.
+     *
+     * @param size number of valid samples.
+     * @throws IllegalArgumentException if size is negative or exceeds capacity.
+     */
+    public void setSize(final int size) {
+        if (size < 0 || size > getCapacity()) {
+            throw new IllegalArgumentException();
+        }
+        this.size = size;
+    }
+
+    /**
+     * Indicates whether this slice contains no samples.
+     *
+     * @return true if slice is empty, false otherwise.
+     */
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Removes all samples.
+     */
+    public void clear() {
+        size = 0;
+    }
+
+    /**
+     * Adds a sample at the end of this slice.
+     *
+     * @param timestampSeconds timestamp expressed in seconds.
+     * @param fx               x-coordinate of specific force expressed in meters per squared second (m/s^2).
+     * @param fy               y-coordinate of specific force expressed in meters per squared second (m/s^2).
+     * @param fz               z-coordinate of specific force expressed in meters per squared second (m/s^2).
+     * @param angularRateX     x-coordinate of angular rate expressed in radians per second (rad/s).
+     * @param angularRateY     y-coordinate of angular rate expressed in radians per second (rad/s).
+     * @param angularRateZ     z-coordinate of angular rate expressed in radians per second (rad/s).
+     * @param bx               x-coordinate of magnetic flux density expressed in Teslas (T).
+     * @param by               y-coordinate of magnetic flux density expressed in Teslas (T).
+     * @param bz               z-coordinate of magnetic flux density expressed in Teslas (T).
+     * @return true if sample was added, false if slice is full.
+     */
+    public boolean add(final double timestampSeconds, final double fx, final double fy, final double fz,
+                       final double angularRateX, final double angularRateY, final double angularRateZ,
+                       final double bx, final double by, final double bz) {
+        if (size == getCapacity()) {
+            return false;
+        }
+
+        set(size++, timestampSeconds, fx, fy, fz, angularRateX, angularRateY, angularRateZ, bx, by, bz);
+        return true;
+    }
+
+    /**
+     * Gets timestamps expressed in seconds.
+     *
+     * @return timestamps.
+     */
+    public double[] getTimestamps() {
+        return timestamps;
+    }
+
+    /**
+     * Gets x-coordinates of specific force expressed in meters per squared second (m/s^2).
+     *
+     * @return x-coordinates of specific force.
+     */
+    public double[] getSpecificForcesX() {
+        return specificForcesX;
+    }
+
+    /**
+     * Gets y-coordinates of specific force expressed in meters per squared second (m/s^2).
+     *
+     * @return y-coordinates of specific force.
+     */
+    public double[] getSpecificForcesY() {
+        return specificForcesY;
+    }
+
+    /**
+     * Gets z-coordinates of specific force expressed in meters per squared second (m/s^2).
+     *
+     * @return z-coordinates of specific force.
+     */
+    public double[] getSpecificForcesZ() {
+        return specificForcesZ;
+    }
+
+    /**
+     * Gets x-coordinates of angular rate expressed in radians per second (rad/s).
+     *
+     * @return x-coordinates of angular rate.
+     */
+    public double[] getAngularRatesX() {
+        return angularRatesX;
+    }
+
+    /**
+     * Gets y-coordinates of angular rate expressed in radians per second (rad/s).
+     *
+     * @return y-coordinates of angular rate.
+     */
+    public double[] getAngularRatesY() {
+        return angularRatesY;
+    }
+
+    /**
+     * Gets z-coordinates of angular rate expressed in radians per second (rad/s).
+     *
+     * @return z-coordinates of angular rate.
+     */
+    public double[] getAngularRatesZ() {
+        return angularRatesZ;
+    }
+
+    /**
+     * Gets x-coordinates of magnetic flux density expressed in Teslas (T).
+     *
+     * @return x-coordinates of magnetic flux density.
+     */
+    public double[] getMagneticFluxDensitiesX() {
+        return magneticFluxDensitiesX;
+    }
+
+    /**
+     * Gets y-coordinates of magnetic flux density expressed in Teslas (T).
+     *
+     * @return y-coordinates of magnetic flux density.
+     */
+    public double[] getMagneticFluxDensitiesY() {
+        return magneticFluxDensitiesY;
+    }
+
+    /**
+     * Gets z-coordinates of magnetic flux density expressed in Teslas (T).
+     *
+     * @return z-coordinates of magnetic flux density.
+     */
+    public double[] getMagneticFluxDensitiesZ() {
+        return magneticFluxDensitiesZ;
+    }
+
+    /**
+     * Copies sample at provided position into provided body kinematics.
+     *
+     * @param index  position of sample.
+     * @param result instance where specific force and angular rate will be stored.
+     * @throws IndexOutOfBoundsException if index is not within valid samples.
+     */
+    public void getKinematics(final int index, final BodyKinematics result) {
+        checkIndex(index);
+        result.setSpecificForceCoordinates(specificForcesX[index], specificForcesY[index], specificForcesZ[index]);
+        result.setAngularRateCoordinates(angularRatesX[index], angularRatesY[index], angularRatesZ[index]);
+    }
+
+    /**
+     * Copies sample at provided position into provided body magnetic flux density.
+     *
+     * @param index  position of sample.
+     * @param result instance where magnetic flux density will be stored.
+     * @throws IndexOutOfBoundsException if index is not within valid samples.
+     */
+    public void getMagneticFluxDensity(final int index, final BodyMagneticFluxDensity result) {
+        checkIndex(index);
+        result.setCoordinates(magneticFluxDensitiesX[index], magneticFluxDensitiesY[index],
+                magneticFluxDensitiesZ[index]);
+    }
+
+    /**
+     * Copies sample at provided position into provided timed body kinematics.
+     * Provided instance must contain a body kinematics instance, which will be reused.
+     *
+     * @param index  position of sample.
+     * @param result instance where timestamp, specific force and angular rate will be stored.
+     * @throws IndexOutOfBoundsException if index is not within valid samples.
+     */
+    public void getTimedKinematics(final int index, final TimedBodyKinematics result) {
+        getKinematics(index, kinematicsOf(result));
+        result.setTimestampSeconds(timestamps[index]);
+    }
+
+    /**
+     * Copies sample at provided position into provided body kinematics and magnetic flux
+     * density.
+     * Contained body kinematics and magnetic flux density instances are reused when present.
+     *
+     * @param index  position of sample.
+     * @param result instance where sample will be stored.
+     * @throws IndexOutOfBoundsException if index is not within valid samples.
+     */
+    public void getKinematicsAndMagneticFluxDensity(final int index,
+                                                    final BodyKinematicsAndMagneticFluxDensity result) {
+        var kinematics = result.getKinematics();
+        if (kinematics == null) {
+            kinematics = new BodyKinematics();
+            result.setKinematics(kinematics);
+        }
+        var magneticFluxDensity = result.getMagneticFluxDensity();
+        if (magneticFluxDensity == null) {
+            magneticFluxDensity = new BodyMagneticFluxDensity();
+            result.setMagneticFluxDensity(magneticFluxDensity);
+        }
+        getKinematics(index, kinematics);
+        getMagneticFluxDensity(index, magneticFluxDensity);
+    }
+
+    /**
+     * Copies sample at provided position into provided timed body kinematics and magnetic
+     * flux density.
+     * Contained body kinematics and magnetic flux density instances are reused when present.
+     *
+     * @param index  position of sample.
+     * @param result instance where sample will be stored.
+     * @throws IndexOutOfBoundsException if index is not within valid samples.
+     */
+    public void getTimedKinematicsAndMagneticFluxDensity(
+            final int index, final TimedBodyKinematicsAndMagneticFluxDensity result) {
+        getKinematicsAndMagneticFluxDensity(index, result);
+        result.setTimestampSeconds(timestamps[index]);
+    }
+
+    /**
+     * Sets sample at provided position, which must be lower than capacity.
+     *
+     * @param index            position of sample.
+     * @param timestampSeconds timestamp expressed in seconds.
+     * @param fx               x-coordinate of specific force.
+     * @param fy               y-coordinate of specific force.
+     * @param fz               z-coordinate of specific force.
+     * @param angularRateX     x-coordinate of angular rate.
+     * @param angularRateY     y-coordinate of angular rate.
+     * @param angularRateZ     z-coordinate of angular rate.
+     * @param bx               x-coordinate of magnetic flux density.
+     * @param by               y-coordinate of magnetic flux density.
+     * @param bz               z-coordinate of magnetic flux density.
+     */
+    void set(final int index, final double timestampSeconds, final double fx, final double fy, final double fz,
+             final double angularRateX, final double angularRateY, final double angularRateZ,
+             final double bx, final double by, final double bz) {
+        timestamps[index] = timestampSeconds;
+        specificForcesX[index] = fx;
+        specificForcesY[index] = fy;
+        specificForcesZ[index] = fz;
+        angularRatesX[index] = angularRateX;
+        angularRatesY[index] = angularRateY;
+        angularRatesZ[index] = angularRateZ;
+        magneticFluxDensitiesX[index] = bx;
+        magneticFluxDensitiesY[index] = by;
+        magneticFluxDensitiesZ[index] = bz;
+    }
+
+    /**
+     * Checks that provided index refers to a valid sample.
+     *
+     * @param index index to be checked.
+     * @throws IndexOutOfBoundsException if index is not within valid samples.
+     */
+    private void checkIndex(final int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException(index);
+        }
+    }
+
+    /**
+     * Gets body kinematics contained in provided timed body kinematics, setting a new
+     * instance if none is available.
+     *
+     * @param timedKinematics timed body kinematics.
+     * @return contained body kinematics.
+     */
+    private static BodyKinematics kinematicsOf(final TimedBodyKinematics timedKinematics) {
+        var kinematics = timedKinematics.getKinematics();
+        if (kinematics == null) {
+            kinematics = new BodyKinematics();
+            timedKinematics.setKinematics(kinematics);
+        }
+        return kinematics;
+    }
+}
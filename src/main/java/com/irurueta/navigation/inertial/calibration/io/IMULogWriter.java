@@ -0,0 +1,343 @@
+/*
+ * Copyright (C) 2026 Alberto Irurueta Carro (alberto@irurueta.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.irurueta.navigation.inertial.calibration.io;
+
+import com.irurueta.navigation.inertial.calibration.TimedBodyKinematics;
+import com.irurueta.navigation.inertial.calibration.TimedBodyKinematicsAndMagneticFluxDensity;
+
+import java.io.Closeable;
+import java.io.Flushable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.ClosedChannelException;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Appends records to IMU logs.
+ * Records are encoded into a direct buffer and written to the underlying file channel
+ * in batches, either when the buffer is full, when {@link #flush()} is called or when
+ * this writer is closed.
+ * When appending to an existing log, its precision must match the requested one and any
+ * trailing incomplete record left by an interrupted write is discarded.
+ * This class is not thread-safe.
+ */
+public class IMULogWriter implements Closeable, Flushable {
+
+    /**
+     * Default number of records buffered before being written.
+     */
+    public static final int DEFAULT_BUFFER_RECORDS = 4096;
+
+    /**
+     * Channel where records are written.
+     */
+    private final FileChannel channel;
+
+    /**
+     * Precision of stored values.
+     */
+    private final IMULogPrecision precision;
+
+    /**
+     * Indicates whether values are stored as 64-bit floating point values.
+     */
+    private final boolean doublePrecision;
+
+    /**
+     * Buffer containing encoded records pending to be written.
+     */
+    private final ByteBuffer buffer;
+
+    /**
+     * Number of records in the log, including buffered ones.
+     */
+    private long recordCount;
+
+    /**
+     * Constructor.
+     * Creates a new log storing values as 64-bit floating point values, replacing any
+     * existing file.
+     *
+     * @param file log to be written.
+     * @throws IOException if log cannot be created.
+     */
+    public IMULogWriter(final Path file) throws IOException {
+        this(file, IMULogPrecision.DOUBLE);
+    }
+
+    /**
+     * Constructor.
+     * Creates a new log, replacing any existing file.
+     *
+     * @param file      log to be written.
+     * @param precision precision of stored values.
+     * @throws IOException if log cannot be created.
+     */
+    public IMULogWriter(final Path file, final IMULogPrecision precision) throws IOException {
+        this(file, precision, false);
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param file      log to be written.
+     * @param precision precision of stored values.
+     * @param append    true to append records to an existing log, false to replace it.
+     * @throws IOException if log cannot be opened or an existing log is not valid or has
+     *                     a different precision.
+     */
+    public IMULogWriter(final Path file, final IMULogPrecision precision, final boolean append)
+            throws IOException {
+        this(file, precision, append, DEFAULT_BUFFER_RECORDS);
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param file          log to be written.
+     * @param precision     precision of stored values.
+     * @param append        true to append records to an existing log, false to replace it.
+     * @param bufferRecords number of records buffered before being written.
+     * @throws IOException              if log cannot be opened or an existing log is not
+     *                                  valid or has a different precision.
+     * @throws IllegalArgumentException if number of buffered records is not positive.
+     */
+    public IMULogWriter(final Path file, final IMULogPrecision precision, final boolean append,
+                        final int bufferRecords) throws IOException {
+        if (bufferRecords <= 0) {
+            throw new IllegalArgumentException();
+        }
+
+        this.precision = precision;
+        doublePrecision = precision == IMULogPrecision.DOUBLE;
+        final var recordBytes = IMULogFormat.getRecordBytes(precision);
+        buffer = ByteBuffer.allocateDirect(Math.max(bufferRecords * recordBytes, IMULogFormat.HEADER_BYTES))
+                .order(IMULogFormat.BYTE_ORDER);
+
+        if (append) {
+            channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.READ,
+                    StandardOpenOption.WRITE);
+        } else {
+            channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                    StandardOpenOption.TRUNCATE_EXISTING);
+        }
+
+        try {
+            final var size = channel.size();
+            if (size == 0) {
+                IMULogFormat.writeHeader(precision, buffer);
+                drain();
+            } else {
+                final var header = ByteBuffer.allocate(IMULogFormat.HEADER_BYTES);
+                while (header.hasRemaining() && channel.read(header, header.position()) >= 0) {
+                    // keep reading until header is complete or end of file is reached
+                }
+                header.flip();
+                if (IMULogFormat.readHeader(header) != precision) {
+                    throw new IOException("IMU log precision mismatch");
+                }
+
+                recordCount = IMULogFormat.getRecordCount(size, precision);
+                final var end = IMULogFormat.HEADER_BYTES + recordCount * recordBytes;
+                channel.truncate(end);
+                channel.position(end);
+            }
+        } catch (final IOException | RuntimeException e) {
+            channel.close();
+            throw e;
+        }
+    }
+
+    /**
+     * Gets precision of stored values.
+     *
+     * @return precision of stored values.
+     */
+    public IMULogPrecision getPrecision() {
+        return precision;
+    }
+
+    /**
+     * Gets number of records in the log, including records pending to be written.
+     *
+     * @return number of records.
+     */
+    public long getRecordCount() {
+        return recordCount;
+    }
+
+    /**
+     * Appends a record.
+     *
+     * @param timestampSeconds timestamp expressed in seconds.
+     * @param fx               x-coordinate of specific force expressed in meters per squared second (m/s^2).
+     * @param fy               y-coordinate of specific force expressed in meters per squared second (m/s^2).
+     * @param fz               z-coordinate of specific force expressed in meters per squared second (m/s^2).
+     * @param angularRateX     x-coordinate of angular rate expressed in radians per second (rad/s).
+     * @param angularRateY     y-coordinate of angular rate expressed in radians per second (rad/s).
+     * @param angularRateZ     z-coordinate of angular rate expressed in radians per second (rad/s).
+     * @param bx               x-coordinate of magnetic flux density expressed in Teslas (T).
+     * @param by               y-coordinate of magnetic flux density expressed in Teslas (T).
+     * @param bz               z-coordinate of magnetic flux density expressed in Teslas (T).
+     * @throws IOException if an I/O error occurs or writer is closed.
+     */
+    public void append(final double timestampSeconds, final double fx, final double fy, final double fz,
+                       final double angularRateX, final double angularRateY, final double angularRateZ,
+                       final double bx, final double by, final double bz) throws IOException {
+        if (!channel.isOpen()) {
+            throw new ClosedChannelException();
+        }
+        if (buffer.remaining() < IMULogFormat.getRecordBytes(precision)) {
+            drain();
+        }
+
+        buffer.putDouble(timestampSeconds);
+        if (doublePrecision) {
+            buffer.putDouble(fx);
+            buffer.putDouble(fy);
+            buffer.putDouble(fz);
+            buffer.putDouble(angularRateX);
+            buffer.putDouble(angularRateY);
+            buffer.putDouble(angularRateZ);
+            buffer.putDouble(bx);
+            buffer.putDouble(by);
+            buffer.putDouble(bz);
+        } else {
+            buffer.putFloat((float) fx);
+            buffer.putFloat((float) fy);
+            buffer.putFloat((float) fz);
+            buffer.putFloat((float) angularRateX);
+            buffer.putFloat((float) angularRateY);
+            buffer.putFloat((float) angularRateZ);
+            buffer.putFloat((float) bx);
+            buffer.putFloat((float) by);
+            buffer.putFloat((float) bz);
+        }
+        recordCount++;
+    }
+
+    /**
+     * Appends a record containing provided timed body kinematics and no magnetic flux
+     * density.
+     *
+     * @param sample sample to be appended.
+     * @throws IOException if an I/O error occurs or writer is closed.
+     */
+    public void append(final TimedBodyKinematics sample) throws IOException {
+        final var kinematics = sample.getKinematics();
+        if (kinematics != null) {
+            append(sample.getTimestampSeconds(), kinematics.getFx(), kinematics.getFy(), kinematics.getFz(),
+                    kinematics.getAngularRateX(), kinematics.getAngularRateY(), kinematics.getAngularRateZ(),
+                    0.0, 0.0, 0.0);
+        } else {
+            append(sample.getTimestampSeconds(), 0.0, 0.0, 0.0, 0.0, 0.0, 0.0, 0.0, 0.0, 0.0);
+        }
+    }
+
+    /**
+     * Appends a record containing provided timed body kinematics and magnetic flux density.
+     * Missing kinematics or magnetic flux density are stored as zero.
+     *
+     * @param sample sample to be appended.
+     * @throws IOException if an I/O error occurs or writer is closed.
+     */
+    public void append(final TimedBodyKinematicsAndMagneticFluxDensity sample) throws IOException {
+        final var kinematics = sample.getKinematics();
+        final var b = sample.getMagneticFluxDensity();
+        final var hasKinematics = kinematics != null;
+        final var hasB = b != null;
+        append(sample.getTimestampSeconds(),
+                hasKinematics ? kinematics.getFx() : 0.0,
+                hasKinematics ? kinematics.getFy() : 0.0,
+                hasKinematics ? kinematics.getFz() : 0.0,
+                hasKinematics ? kinematics.getAngularRateX() : 0.0,
+                hasKinematics ? kinematics.getAngularRateY() : 0.0,
+                hasKinematics ? kinematics.getAngularRateZ() : 0.0,
+                hasB ? b.getBx() : 0.0,
+                hasB ? b.getBy() : 0.0,
+                hasB ? b.getBz() : 0.0);
+    }
+
+    /**
+     * Appends all valid samples contained in provided slice.
+     *
+     * @param slice slice containing samples to be appended.
+     * @throws IOException if an I/O error occurs or writer is closed.
+     */
+    public void append(final IMULogSlice slice) throws IOException {
+        final var t = slice.getTimestamps();
+        final var fx = slice.getSpecificForcesX();
+        final var fy = slice.getSpecificForcesY();
+        final var fz = slice.getSpecificForcesZ();
+        final var wx = slice.getAngularRatesX();
+        final var wy = slice.getAngularRatesY();
+        final var wz = slice.getAngularRatesZ();
+        final var bx = slice.getMagneticFluxDensitiesX();
+        final var by = slice.getMagneticFluxDensitiesY();
+        final var bz = slice.getMagneticFluxDensitiesZ();
+        final var size = slice.getSize();
+        for (var i = 0; i < size; i++) {
+            append(t[i], fx[i], fy[i], fz[i], wx[i], wy[i], wz[i], bx[i], by[i], bz[i]);
+        }
+    }
+
+    /**
+     * Writes all buffered records into the log.
+     *
+     * @throws IOException if an I/O error occurs or writer is closed.
+     */
+    @Override
+    public void flush() throws IOException {
+        if (!channel.isOpen()) {
+            throw new ClosedChannelException();
+        }
+        drain();
+    }
+
+    /**
+     * Writes all buffered records and closes the log.
+     * Closing an already closed writer has no effect.
+     *
+     * @throws IOException if an I/O error occurs.
+     */
+    @Override
+    public void close() throws IOException {
+        if (!channel.isOpen()) {
+            return;
+        }
+
+        try {
+            drain();
+        } finally {
+            channel.close();
+        }
+    }
+
+    /**
+     * Writes buffered data into the channel.
+     *
+     * @throws IOException if an I/O error occurs.
+     */
+    private void drain() throws IOException {
+        buffer.flip();
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+        buffer.clear();
+    }
+}
@@ -20,6 +20,7 @@ import com.irurueta.navigation.LockedException;
 import com.irurueta.navigation.NotReadyException;
 import com.irurueta.navigation.inertial.calibration.CalibrationException;
 import com.irurueta.navigation.inertial.calibration.StandardDeviationBodyMagneticFluxDensity;
+import com.irurueta.navigation.inertial.metrics.InertialMetrics;
 import com.irurueta.numerical.robust.LMedSRobustEstimator;
 import com.irurueta.numerical.robust.LMedSRobustEstimatorListener;
 import com.irurueta.numerical.robust.RobustEstimator;
@@ -980,7 +981,7 @@ public class LMedSRobustKnownMagneticFluxDensityNormMagnetometerCalibrator exten
         final var innerEstimator = new LMedSRobustEstimator<>(new LMedSRobustEstimatorListener<PreliminaryResult>() {
             @Override
             public int getTotalSamples() {
-                return measurements.size();
+                return getScoringSamples();
             }
 
             @Override
@@ -996,7 +997,7 @@ public class LMedSRobustKnownMagneticFluxDensityNormMagnetometerCalibrator exten
 
             @Override
             public double computeResidual(final PreliminaryResult currentEstimation, final int i) {
-                return computeError(measurements.get(i), currentEstimation);
+                return computeError(getScoringMeasurement(i), currentEstimation);
             }
 
             @Override
@@ -1041,6 +1042,7 @@ public class LMedSRobustKnownMagneticFluxDensityNormMagnetometerCalibrator exten
             }
 
             inliersData = null;
+            setupScoringSamples();
 
             innerEstimator.setConfidence(confidence);
             innerEstimator.setMaxIterations(maxIterations);
@@ -1048,6 +1050,8 @@ public class LMedSRobustKnownMagneticFluxDensityNormMagnetometerCalibrator exten
             innerEstimator.setStopThreshold(stopThreshold);
             final var preliminaryResult = innerEstimator.estimate();
             inliersData = innerEstimator.getInliersData();
+            updateCompactInliersData(preliminaryResult, stopThreshold);
+            InertialMetrics.robustEstimation(this, innerEstimator);
 
             attemptRefine(preliminaryResult);
 
@@ -20,6 +20,7 @@ import com.irurueta.navigation.LockedException;
 import com.irurueta.navigation.NotReadyException;
 import com.irurueta.navigation.inertial.calibration.CalibrationException;
 import com.irurueta.navigation.inertial.calibration.StandardDeviationBodyMagneticFluxDensity;
+import com.irurueta.navigation.inertial.metrics.InertialMetrics;
 import com.irurueta.numerical.robust.PROMedSRobustEstimator;
 import com.irurueta.numerical.robust.PROMedSRobustEstimatorListener;
 import com.irurueta.numerical.robust.RobustEstimator;
@@ -2058,7 +2059,7 @@ public class PROMedSRobustKnownMagneticFluxDensityNormMagnetometerCalibrator ext
                 new PROMedSRobustEstimatorListener<PreliminaryResult>() {
                     @Override
                     public double[] getQualityScores() {
-                        return qualityScores;
+                        return sampleQualityScores(qualityScores);
                     }
 
                     @Override
@@ -2068,7 +2069,7 @@ public class PROMedSRobustKnownMagneticFluxDensityNormMagnetometerCalibrator ext
 
                     @Override
                     public int getTotalSamples() {
-                        return measurements.size();
+                        return getScoringSamples();
                     }
 
                     @Override
@@ -2084,7 +2085,7 @@ public class PROMedSRobustKnownMagneticFluxDensityNormMagnetometerCalibrator ext
 
                     @Override
                     public double computeResidual(final PreliminaryResult currentEstimation, final int i) {
-                        return computeError(measurements.get(i), currentEstimation);
+                        return computeError(getScoringMeasurement(i), currentEstimation);
                     }
 
                     @Override
@@ -2131,6 +2132,7 @@ public class PROMedSRobustKnownMagneticFluxDensityNormMagnetometerCalibrator ext
             }
 
             inliersData = null;
+            setupScoringSamples();
 
             innerEstimator.setUseInlierThresholds(true);
             innerEstimator.setConfidence(confidence);
@@ -2138,6 +2140,8 @@ public class PROMedSRobustKnownMagneticFluxDensityNormMagnetometerCalibrator ext
             innerEstimator.setProgressDelta(progressDelta);
             final var preliminaryResult = innerEstimator.estimate();
             inliersData = innerEstimator.getInliersData();
+            updateCompactInliersData(preliminaryResult, stopThreshold);
+            InertialMetrics.robustEstimation(this, innerEstimator);
 
             attemptRefine(preliminaryResult);
 
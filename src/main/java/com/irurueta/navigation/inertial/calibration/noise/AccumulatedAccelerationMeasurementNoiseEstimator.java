@@ -21,6 +21,8 @@ import com.irurueta.units.Acceleration;
 import com.irurueta.units.AccelerationConverter;
 import com.irurueta.units.AccelerationUnit;
 
+import java.util.stream.Collector;
+
 /**
  * Estimates accumulated acceleration noise variances and PSD's (Power Spectral Densities)
  * along with their average values.
@@ -61,6 +63,29 @@ public class AccumulatedAccelerationMeasurementNoiseEstimator extends
         super(listener);
     }
 
+    /**
+     * Creates a collector to accumulate a stream of accelerations using default time
+     * interval between samples.
+     * Collector supports parallel streams, in which case partial results are merged.
+     *
+     * @return a collector of accelerations.
+     */
+    public static Collector<Acceleration, ?, AccumulatedAccelerationMeasurementNoiseEstimator> collector() {
+        return collector(DEFAULT_TIME_INTERVAL_SECONDS);
+    }
+
+    /**
+     * Creates a collector to accumulate a stream of accelerations.
+     * Collector supports parallel streams, in which case partial results are merged.
+     *
+     * @param timeInterval time interval between samples expressed in seconds (s).
+     * @return a collector of accelerations.
+     * @throws IllegalArgumentException if provided time interval is negative.
+     */
+    public static Collector<Acceleration, ?, AccumulatedAccelerationMeasurementNoiseEstimator> collector(final double timeInterval) {
+        return createCollector(AccumulatedAccelerationMeasurementNoiseEstimator::new, timeInterval);
+    }
+
     /**
      * Gets default unit for a measurement.
      *
@@ -22,6 +22,8 @@ import com.irurueta.units.Acceleration;
 import com.irurueta.units.AccelerationConverter;
 import com.irurueta.units.AccelerationUnit;
 
+import java.util.stream.Collector;
+
 /**
  * Estimates accumulated acceleration noise variances and PSD's (Power Spectral Densities)
  * along with their average values.
@@ -66,6 +68,29 @@ public class AccumulatedAccelerationTriadNoiseEstimator extends
         super(listener);
     }
 
+    /**
+     * Creates a collector to accumulate a stream of acceleration triads using default time
+     * interval between samples.
+     * Collector supports parallel streams, in which case partial results are merged.
+     *
+     * @return a collector of acceleration triads.
+     */
+    public static Collector<AccelerationTriad, ?, AccumulatedAccelerationTriadNoiseEstimator> collector() {
+        return collector(DEFAULT_TIME_INTERVAL_SECONDS);
+    }
+
+    /**
+     * Creates a collector to accumulate a stream of acceleration triads.
+     * Collector supports parallel streams, in which case partial results are merged.
+     *
+     * @param timeInterval time interval between triad samples expressed in seconds (s).
+     * @return a collector of acceleration triads.
+     * @throws IllegalArgumentException if provided time interval is negative.
+     */
+    public static Collector<AccelerationTriad, ?, AccumulatedAccelerationTriadNoiseEstimator> collector(final double timeInterval) {
+        return createCollector(AccumulatedAccelerationTriadNoiseEstimator::new, timeInterval);
+    }
+
     /**
      * Creates a triad with provided values and unit.
      *
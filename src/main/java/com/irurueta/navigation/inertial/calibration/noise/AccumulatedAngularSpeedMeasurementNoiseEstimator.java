@@ -21,6 +21,8 @@ import com.irurueta.units.AngularSpeed;
 import com.irurueta.units.AngularSpeedConverter;
 import com.irurueta.units.AngularSpeedUnit;
 
+import java.util.stream.Collector;
+
 /**
  * Estimates accumulated angular speed noise variances and PSD's (Power Spectral Densities)
  * along with their average values.
@@ -62,6 +64,29 @@ public class AccumulatedAngularSpeedMeasurementNoiseEstimator extends
         super(listener);
     }
 
+    /**
+     * Creates a collector to accumulate a stream of angular speeds using default time
+     * interval between samples.
+     * Collector supports parallel streams, in which case partial results are merged.
+     *
+     * @return a collector of angular speeds.
+     */
+    public static Collector<AngularSpeed, ?, AccumulatedAngularSpeedMeasurementNoiseEstimator> collector() {
+        return collector(DEFAULT_TIME_INTERVAL_SECONDS);
+    }
+
+    /**
+     * Creates a collector to accumulate a stream of angular speeds.
+     * Collector supports parallel streams, in which case partial results are merged.
+     *
+     * @param timeInterval time interval between samples expressed in seconds (s).
+     * @return a collector of angular speeds.
+     * @throws IllegalArgumentException if provided time interval is negative.
+     */
+    public static Collector<AngularSpeed, ?, AccumulatedAngularSpeedMeasurementNoiseEstimator> collector(final double timeInterval) {
+        return createCollector(AccumulatedAngularSpeedMeasurementNoiseEstimator::new, timeInterval);
+    }
+
     /**
      * Gets default unit for a measurement.
      *
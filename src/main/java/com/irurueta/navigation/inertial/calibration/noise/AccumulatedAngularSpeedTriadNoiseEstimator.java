@@ -22,6 +22,8 @@ import com.irurueta.units.AngularSpeed;
 import com.irurueta.units.AngularSpeedConverter;
 import com.irurueta.units.AngularSpeedUnit;
 
+import java.util.stream.Collector;
+
 /**
  * Estimates accumulated angular speed noise variances and PSD's (Power Spectral Densities)
  * along with their average values.
@@ -65,6 +67,29 @@ public class AccumulatedAngularSpeedTriadNoiseEstimator extends
         super(listener);
     }
 
+    /**
+     * Creates a collector to accumulate a stream of angular speed triads using default time
+     * interval between samples.
+     * Collector supports parallel streams, in which case partial results are merged.
+     *
+     * @return a collector of angular speed triads.
+     */
+    public static Collector<AngularSpeedTriad, ?, AccumulatedAngularSpeedTriadNoiseEstimator> collector() {
+        return collector(DEFAULT_TIME_INTERVAL_SECONDS);
+    }
+
+    /**
+     * Creates a collector to accumulate a stream of angular speed triads.
+     * Collector supports parallel streams, in which case partial results are merged.
+     *
+     * @param timeInterval time interval between triad samples expressed in seconds (s).
+     * @return a collector of angular speed triads.
+     * @throws IllegalArgumentException if provided time interval is negative.
+     */
+    public static Collector<AngularSpeedTriad, ?, AccumulatedAngularSpeedTriadNoiseEstimator> collector(final double timeInterval) {
+        return createCollector(AccumulatedAngularSpeedTriadNoiseEstimator::new, timeInterval);
+    }
+
     /**
      * Creates a triad with provided values and unit.
      *
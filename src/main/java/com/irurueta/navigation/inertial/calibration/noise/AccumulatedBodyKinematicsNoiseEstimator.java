@@ -30,6 +30,8 @@ import com.irurueta.units.AngularSpeedConverter;
 import com.irurueta.units.AngularSpeedUnit;
 import com.irurueta.units.Time;
 
+import java.util.stream.Collector;
+
 /**
  * Estimates accumulated acceleration and angular speed noise variances and PSD's
  * (Power Spectral Densities) along with their average values.
@@ -1155,6 +1157,7 @@ public class AccumulatedBodyKinematicsNoiseEstimator implements AccelerometerNoi
 
     /**
      * Adds body kinematics measurement samples.
+     * This method is allocation-free.
      *
      * @param specificForceX x coordinate of specific force expressed in meters per squared second (m/s^2).
      * @param specificForceY y coordinate of specific force expressed in meters per squared second (m/s^2).
@@ -1270,6 +1273,103 @@ public class AccumulatedBodyKinematicsNoiseEstimator implements AccelerometerNoi
         return result;
     }
 
+    /**
+     * Merges the statistics accumulated by provided estimator into this estimator.
+     * Averages and variances of specific force and angular rate are combined using the
+     * parallel variance formula, so that long recordings can be split into chunks,
+     * processed by independent estimators (e.g. on different threads) and later combined.
+     * Merged variances only match the ones of a serial pass up to the approximation of
+     * variances updated one sample at a time, as described in
+     * {@link AccumulatedTriadNoiseEstimator#merge(AccumulatedTriadNoiseEstimator)}.
+     * Samples processed by provided estimator are assumed to follow the ones processed by
+     * this estimator, hence last body kinematics is taken from provided estimator if
+     * available.
+     * Provided estimator is not modified and no listener events are raised.
+     *
+     * @param other estimator to be merged into this one.
+     * @throws LockedException          if this estimator is currently running.
+     * @throws IllegalArgumentException if provided estimator has a different time interval.
+     */
+    public void merge(final AccumulatedBodyKinematicsNoiseEstimator other) throws LockedException {
+        if (running) {
+            throw new LockedException();
+        }
+
+        if (other.getTimeInterval() != getTimeInterval()) {
+            throw new IllegalArgumentException();
+        }
+
+        if (other.lastBodyKinematics == null) {
+            return;
+        }
+
+        running = true;
+
+        accelerationEstimator.merge(other.accelerationEstimator);
+        angularSpeedEstimator.merge(other.angularSpeedEstimator);
+
+        if (lastBodyKinematics == null) {
+            lastBodyKinematics = new BodyKinematics(other.lastBodyKinematics);
+        } else {
+            other.lastBodyKinematics.copyTo(lastBodyKinematics);
+        }
+
+        running = false;
+    }
+
+    /**
+     * Creates a collector to accumulate a stream of body kinematics using default time
+     * interval between samples.
+     * Collector supports parallel streams, in which case partial results are merged.
+     *
+     * @return a collector of body kinematics.
+     */
+    public static Collector<BodyKinematics, ?, AccumulatedBodyKinematicsNoiseEstimator> collector() {
+        return collector(DEFAULT_TIME_INTERVAL_SECONDS);
+    }
+
+    /**
+     * Creates a collector to accumulate a stream of body kinematics.
+     * Collector supports parallel streams, in which case partial results are merged
+     * using {@link #merge(AccumulatedBodyKinematicsNoiseEstimator)}, hence averages are the
+     * same as the ones of a serial pass (up to numerical precision), and variances match up
+     * to the approximation of serial updates described there.
+     *
+     * @param timeInterval time interval between body kinematics samples expressed in
+     *                     seconds (s).
+     * @return a collector of body kinematics.
+     * @throws IllegalArgumentException if provided time interval is negative.
+     */
+    public static Collector<BodyKinematics, ?, AccumulatedBodyKinematicsNoiseEstimator> collector(
+            final double timeInterval) {
+        if (timeInterval < 0.0) {
+            throw new IllegalArgumentException();
+        }
+
+        return Collector.of(() -> {
+            final var estimator = new AccumulatedBodyKinematicsNoiseEstimator();
+            try {
+                estimator.setTimeInterval(timeInterval);
+            } catch (final LockedException ignore) {
+                // never happens
+            }
+            return estimator;
+        }, (estimator, kinematics) -> {
+            try {
+                estimator.addBodyKinematics(kinematics);
+            } catch (final LockedException ignore) {
+                // never happens
+            }
+        }, (estimator1, estimator2) -> {
+            try {
+                estimator1.merge(estimator2);
+            } catch (final LockedException ignore) {
+                // never happens
+            }
+            return estimator1;
+        }, Collector.Characteristics.IDENTITY_FINISH);
+    }
+
     /**
      * Converts an acceleration instance to meters per squared seconds (m/s^2).
      *
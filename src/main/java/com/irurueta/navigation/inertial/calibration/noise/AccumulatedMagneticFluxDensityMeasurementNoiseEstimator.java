@@ -20,6 +20,8 @@ import com.irurueta.units.MagneticFluxDensity;
 import com.irurueta.units.MagneticFluxDensityConverter;
 import com.irurueta.units.MagneticFluxDensityUnit;
 
+import java.util.stream.Collector;
+
 /**
  * Estimates accumulated magnetometer noise variances and PSD's (Power Spectral Densities)
  * along with their average values.
@@ -61,6 +63,29 @@ public class AccumulatedMagneticFluxDensityMeasurementNoiseEstimator extends
         super(listener);
     }
 
+    /**
+     * Creates a collector to accumulate a stream of magnetic flux densities using default time
+     * interval between samples.
+     * Collector supports parallel streams, in which case partial results are merged.
+     *
+     * @return a collector of magnetic flux densities.
+     */
+    public static Collector<MagneticFluxDensity, ?, AccumulatedMagneticFluxDensityMeasurementNoiseEstimator> collector() {
+        return collector(DEFAULT_TIME_INTERVAL_SECONDS);
+    }
+
+    /**
+     * Creates a collector to accumulate a stream of magnetic flux densities.
+     * Collector supports parallel streams, in which case partial results are merged.
+     *
+     * @param timeInterval time interval between samples expressed in seconds (s).
+     * @return a collector of magnetic flux densities.
+     * @throws IllegalArgumentException if provided time interval is negative.
+     */
+    public static Collector<MagneticFluxDensity, ?, AccumulatedMagneticFluxDensityMeasurementNoiseEstimator> collector(final double timeInterval) {
+        return createCollector(AccumulatedMagneticFluxDensityMeasurementNoiseEstimator::new, timeInterval);
+    }
+
     /**
      * Gets default unit for a measurement.
      *
@@ -21,6 +21,8 @@ import com.irurueta.units.MagneticFluxDensity;
 import com.irurueta.units.MagneticFluxDensityConverter;
 import com.irurueta.units.MagneticFluxDensityUnit;
 
+import java.util.stream.Collector;
+
 /**
  * Estimates accumulated magnetometer noise variances and PSD's (Power Spectral Densities)
  * along with their average values.
@@ -64,6 +66,29 @@ public class AccumulatedMagneticFluxDensityTriadNoiseEstimator extends
         super(listener);
     }
 
+    /**
+     * Creates a collector to accumulate a stream of magnetic flux density triads using default time
+     * interval between samples.
+     * Collector supports parallel streams, in which case partial results are merged.
+     *
+     * @return a collector of magnetic flux density triads.
+     */
+    public static Collector<MagneticFluxDensityTriad, ?, AccumulatedMagneticFluxDensityTriadNoiseEstimator> collector() {
+        return collector(DEFAULT_TIME_INTERVAL_SECONDS);
+    }
+
+    /**
+     * Creates a collector to accumulate a stream of magnetic flux density triads.
+     * Collector supports parallel streams, in which case partial results are merged.
+     *
+     * @param timeInterval time interval between triad samples expressed in seconds (s).
+     * @return a collector of magnetic flux density triads.
+     * @throws IllegalArgumentException if provided time interval is negative.
+     */
+    public static Collector<MagneticFluxDensityTriad, ?, AccumulatedMagneticFluxDensityTriadNoiseEstimator> collector(final double timeInterval) {
+        return createCollector(AccumulatedMagneticFluxDensityTriadNoiseEstimator::new, timeInterval);
+    }
+
     /**
      * Creates a triad with provided values and unit.
      *
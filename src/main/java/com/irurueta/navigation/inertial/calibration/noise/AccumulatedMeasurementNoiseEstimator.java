@@ -22,6 +22,9 @@ import com.irurueta.units.Time;
 import com.irurueta.units.TimeConverter;
 import com.irurueta.units.TimeUnit;
 
+import java.util.function.Supplier;
+import java.util.stream.Collector;
+
 /**
  * Base class to estimate measurement noise variances and PSD's (Power Spectral Densities)
  * along with their average values.
@@ -61,9 +64,15 @@ public abstract class AccumulatedMeasurementNoiseEstimator<U extends Enum<?>,
     private L listener;
 
     /**
-     * Last provided measurement.
+     * Last provided measurement value expressed in its default unit
+     * (m/s^2 for acceleration, rad/s for angular speed or T for magnetic flux density).
+     */
+    private double lastMeasurement;
+
+    /**
+     * Indicates whether a last provided measurement is available.
      */
-    private M lastMeasurement;
+    private boolean lastMeasurementAvailable;
 
     /**
      * Contains estimated average of measurement expressed in its default unit
@@ -197,7 +206,7 @@ public abstract class AccumulatedMeasurementNoiseEstimator<U extends Enum<?>,
      * @return last provided measurement or null.
      */
     public M getLastMeasurement() {
-        return lastMeasurement;
+        return lastMeasurementAvailable ? createMeasurement(lastMeasurement, getDefaultUnit()) : null;
     }
 
     /**
@@ -207,9 +216,9 @@ public abstract class AccumulatedMeasurementNoiseEstimator<U extends Enum<?>,
      * @return true if result instance was updated, false otherwise.
      */
     public boolean getLastMeasurement(final M result) {
-        if (lastMeasurement != null) {
-            result.setValue(lastMeasurement.getValue());
-            result.setUnit(lastMeasurement.getUnit());
+        if (lastMeasurementAvailable) {
+            result.setValue(lastMeasurement);
+            result.setUnit(getDefaultUnit());
             return true;
         } else {
             return false;
@@ -330,6 +339,7 @@ public abstract class AccumulatedMeasurementNoiseEstimator<U extends Enum<?>,
     /**
      * Adds a measurement value expressed in its default unit (m/s^2 for acceleration, rad/s for
      * angular speed or T for magnetic flux density).
+     * This method is allocation-free.
      *
      * @param value value to be added.
      * @throws LockedException if estimator is currently running.
@@ -342,7 +352,7 @@ public abstract class AccumulatedMeasurementNoiseEstimator<U extends Enum<?>,
 
         running = true;
 
-        if (lastMeasurement == null && listener != null) {
+        if (!lastMeasurementAvailable && listener != null) {
             //noinspection unchecked
             listener.onStart((E) this);
         }
@@ -357,12 +367,8 @@ public abstract class AccumulatedMeasurementNoiseEstimator<U extends Enum<?>,
 
         variance = variance * tmp + diff2 / numberOfProcessedSamplesPlusOne;
 
-        if (lastMeasurement == null) {
-            lastMeasurement = createMeasurement(value, getDefaultUnit());
-        } else {
-            lastMeasurement.setValue(value);
-            lastMeasurement.setUnit(getDefaultUnit());
-        }
+        lastMeasurement = value;
+        lastMeasurementAvailable = true;
 
         numberOfProcessedSamples++;
         numberOfProcessedSamplesPlusOne++;
@@ -401,7 +407,8 @@ public abstract class AccumulatedMeasurementNoiseEstimator<U extends Enum<?>,
         }
 
         running = true;
-        lastMeasurement = null;
+        lastMeasurement = 0.0;
+        lastMeasurementAvailable = false;
         avg = 0.0;
         variance = 0.0;
         numberOfProcessedSamples = 0;
@@ -417,6 +424,108 @@ public abstract class AccumulatedMeasurementNoiseEstimator<U extends Enum<?>,
         return true;
     }
 
+    /**
+     * Merges the statistics accumulated by provided estimator into this estimator.
+     * Average and variance are combined using the parallel variance formula, so that
+     * long recordings can be split into chunks, processed by independent estimators
+     * (e.g. on different threads) and later combined.
+     * Merged variance is exact for the combined statistics, whereas variance obtained by
+     * adding samples one at a time is updated respect the average of samples processed so
+     * far, which slightly underestimates it for small numbers of samples. Consequently,
+     * merged variance only matches the one of a serial pass up to that approximation,
+     * which vanishes as the number of samples increases.
+     * Samples processed by provided estimator are assumed to follow the ones processed by
+     * this estimator, hence last measurement is taken from provided estimator if available.
+     * Provided estimator is not modified and no listener events are raised.
+     *
+     * @param other estimator to be merged into this one.
+     * @throws LockedException          if this estimator is currently running.
+     * @throws IllegalArgumentException if provided estimator has a different time interval.
+     */
+    public void merge(final E other) throws LockedException {
+        if (running) {
+            throw new LockedException();
+        }
+
+        final AccumulatedMeasurementNoiseEstimator<U, M, E, L> o = other;
+        if (o.timeInterval != timeInterval) {
+            throw new IllegalArgumentException();
+        }
+
+        final var otherSamples = o.numberOfProcessedSamples;
+        if (otherSamples == 0) {
+            return;
+        }
+
+        running = true;
+
+        final var n = (double) (numberOfProcessedSamples + otherSamples);
+        final var w1 = numberOfProcessedSamples / n;
+        final var w2 = otherSamples / n;
+
+        // combine average and variance
+        final var delta = o.avg - avg;
+        variance = w1 * variance + w2 * o.variance + delta * delta * w1 * w2;
+        avg += delta * w2;
+
+        lastMeasurement = o.lastMeasurement;
+        lastMeasurementAvailable = true;
+
+        numberOfProcessedSamples += otherSamples;
+        numberOfProcessedSamplesPlusOne = numberOfProcessedSamples + 1;
+
+        running = false;
+    }
+
+    /**
+     * Creates a collector to accumulate streams of measurements into estimators created by
+     * provided supplier.
+     * Partial results obtained on parallel streams are combined using
+     * {@link #merge(AccumulatedMeasurementNoiseEstimator)}, hence averages are the same as the ones
+     * of a serial pass (up to numerical precision), and variances match up to the
+     * approximation of serial updates described there.
+     *
+     * @param supplier     supplier of new estimator instances.
+     * @param timeInterval time interval between measurement samples expressed in seconds (s).
+     * @param <U>          a measurement unit type.
+     * @param <M>          a measurement type.
+     * @param <E>          an estimator type.
+     * @param <L>          a listener type.
+     * @return a collector of measurements.
+     * @throws IllegalArgumentException if provided time interval is negative.
+     */
+    protected static <U extends Enum<?>, M extends Measurement<U>,
+            E extends AccumulatedMeasurementNoiseEstimator<U, M, E, L>,
+            L extends AccumulatedMeasurementNoiseEstimatorListener<U, M, E>> Collector<M, E, E> createCollector(
+            final Supplier<E> supplier, final double timeInterval) {
+        if (timeInterval < 0.0) {
+            throw new IllegalArgumentException();
+        }
+
+        return Collector.of(() -> {
+            final var estimator = supplier.get();
+            try {
+                estimator.setTimeInterval(timeInterval);
+            } catch (final LockedException ignore) {
+                // never happens
+            }
+            return estimator;
+        }, (estimator, measurement) -> {
+            try {
+                estimator.addMeasurement(measurement);
+            } catch (final LockedException ignore) {
+                // never happens
+            }
+        }, (estimator1, estimator2) -> {
+            try {
+                estimator1.merge(estimator2);
+            } catch (final LockedException ignore) {
+                // never happens
+            }
+            return estimator1;
+        }, Collector.Characteristics.IDENTITY_FINISH);
+    }
+
     /**
      * Gets default unit for a measurement.
      *
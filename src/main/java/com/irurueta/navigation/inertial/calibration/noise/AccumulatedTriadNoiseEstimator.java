@@ -23,6 +23,9 @@ import com.irurueta.units.Time;
 import com.irurueta.units.TimeConverter;
 import com.irurueta.units.TimeUnit;
 
+import java.util.function.Supplier;
+import java.util.stream.Collector;
+
 /**
  * Base class to estimate measurement noise variances and PSD's (Power Spectral Densities)
  * along with their average values.
@@ -739,6 +742,7 @@ public abstract class AccumulatedTriadNoiseEstimator<U extends Enum<?>,
      * Adds a triad of measurement samples.
      * Values are expressed in measurement default unit (m/s^2 for acceleration, rad/s for
      * angular speed or T for magnetic flux density).
+     * This method is allocation-free.
      *
      * @param valueX x coordinate of measurement to be added and processed.
      * @param valueY y coordinate of measurement to be added and processed.
@@ -856,6 +860,126 @@ public abstract class AccumulatedTriadNoiseEstimator<U extends Enum<?>,
         return true;
     }
 
+    /**
+     * Merges the statistics accumulated by provided estimator into this estimator.
+     * Averages and variances are combined using the parallel variance formula, so that
+     * long recordings can be split into chunks, processed by independent estimators
+     * (e.g. on different threads) and later combined.
+     * Merged variances are exact for the combined statistics, whereas variances obtained
+     * by adding samples one at a time are updated respect the averages of samples
+     * processed so far, which slightly underestimates them for small numbers of samples.
+     * Consequently, merged variances only match the ones of a serial pass up to that
+     * approximation, which vanishes as the number of samples increases.
+     * Samples processed by provided estimator are assumed to follow the ones processed by
+     * this estimator, hence last triad is taken from provided estimator if available.
+     * Provided estimator is not modified and no listener events are raised.
+     *
+     * @param other estimator to be merged into this one.
+     * @throws LockedException          if this estimator is currently running.
+     * @throws IllegalArgumentException if provided estimator has a different time interval.
+     */
+    @SuppressWarnings("DuplicatedCode")
+    public void merge(final E other) throws LockedException {
+        if (running) {
+            throw new LockedException();
+        }
+
+        final AccumulatedTriadNoiseEstimator<U, M, T, E, L> o = other;
+        if (o.timeInterval != timeInterval) {
+            throw new IllegalArgumentException();
+        }
+
+        final var otherSamples = o.numberOfProcessedSamples;
+        if (otherSamples == 0) {
+            return;
+        }
+
+        running = true;
+
+        final var n1 = (double) numberOfProcessedSamples;
+        final var n2 = (double) otherSamples;
+        final var n = n1 + n2;
+        final var w1 = n1 / n;
+        final var w2 = n2 / n;
+        final var w12 = w1 * w2;
+
+        // combine averages and variances
+        final var deltaX = o.avgX - avgX;
+        final var deltaY = o.avgY - avgY;
+        final var deltaZ = o.avgZ - avgZ;
+
+        varianceX = w1 * varianceX + w2 * o.varianceX + deltaX * deltaX * w12;
+        varianceY = w1 * varianceY + w2 * o.varianceY + deltaY * deltaY * w12;
+        varianceZ = w1 * varianceZ + w2 * o.varianceZ + deltaZ * deltaZ * w12;
+
+        avgX += deltaX * w2;
+        avgY += deltaY * w2;
+        avgZ += deltaZ * w2;
+
+        final var otherLastTriad = o.lastTriad;
+        if (lastTriad == null) {
+            lastTriad = createTriad(otherLastTriad.getValueX(), otherLastTriad.getValueY(),
+                    otherLastTriad.getValueZ(), otherLastTriad.getUnit());
+        } else {
+            otherLastTriad.copyTo(lastTriad);
+        }
+
+        numberOfProcessedSamples += otherSamples;
+        numberOfProcessedSamplesPlusOne = numberOfProcessedSamples + 1;
+
+        running = false;
+    }
+
+    /**
+     * Creates a collector to accumulate streams of triads into estimators created by
+     * provided supplier.
+     * Partial results obtained on parallel streams are combined using
+     * {@link #merge(AccumulatedTriadNoiseEstimator)}, hence averages are the same as the ones
+     * of a serial pass (up to numerical precision), and variances match up to the
+     * approximation of serial updates described there.
+     *
+     * @param supplier     supplier of new estimator instances.
+     * @param timeInterval time interval between triad samples expressed in seconds (s).
+     * @param <U>          a measurement unit type.
+     * @param <M>          a measurement type.
+     * @param <T>          a triad type.
+     * @param <E>          an estimator type.
+     * @param <L>          a listener type.
+     * @return a collector of triads.
+     * @throws IllegalArgumentException if provided time interval is negative.
+     */
+    protected static <U extends Enum<?>, M extends Measurement<U>, T extends Triad<U, M>,
+            E extends AccumulatedTriadNoiseEstimator<U, M, T, E, L>,
+            L extends AccumulatedTriadNoiseEstimatorListener<U, M, T, E>> Collector<T, E, E> createCollector(
+            final Supplier<E> supplier, final double timeInterval) {
+        if (timeInterval < 0.0) {
+            throw new IllegalArgumentException();
+        }
+
+        return Collector.of(() -> {
+            final var estimator = supplier.get();
+            try {
+                estimator.setTimeInterval(timeInterval);
+            } catch (final LockedException ignore) {
+                // never happens
+            }
+            return estimator;
+        }, (estimator, triad) -> {
+            try {
+                estimator.addTriad(triad);
+            } catch (final LockedException ignore) {
+                // never happens
+            }
+        }, (estimator1, estimator2) -> {
+            try {
+                estimator1.merge(estimator2);
+            } catch (final LockedException ignore) {
+                // never happens
+            }
+            return estimator1;
+        }, Collector.Characteristics.IDENTITY_FINISH);
+    }
+
     /**
      * Creates a triad with provided values and unit.
      *
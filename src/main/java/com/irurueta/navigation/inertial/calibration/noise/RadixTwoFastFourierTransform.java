@@ -0,0 +1,146 @@
+/*
+ * Copyright (C) 2026 Alberto Irurueta Carro (alberto@irurueta.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.irurueta.navigation.inertial.calibration.noise;
+
+/**
+ * Computes in-place forward Discrete Fourier Transforms of complex sequences having a
+ * power of two length using the iterative radix-2 Cooley-Tukey algorithm.
+ * Twiddle factors and bit-reversal permutation indices are computed once on construction,
+ * so that no memory is allocated when transforms are computed.
+ * Instances of this class are not thread-safe.
+ */
+final class RadixTwoFastFourierTransform {
+
+    /**
+     * Minimum allowed transform length.
+     */
+    static final int MIN_LENGTH = 2;
+
+    /**
+     * Length of transformed sequences.
+     */
+    private final int length;
+
+    /**
+     * Cosines of twiddle factors.
+     */
+    private final double[] cosTable;
+
+    /**
+     * Sines of twiddle factors.
+     */
+    private final double[] sinTable;
+
+    /**
+     * Bit-reversed position of each index.
+     */
+    private final int[] bitReversedIndices;
+
+    /**
+     * Constructor.
+     *
+     * @param length length of transformed sequences. Must be a power of two.
+     * @throws IllegalArgumentException if provided length is not a power of two or is
+     *                                  smaller than {@link #MIN_LENGTH}.
+     */
+    RadixTwoFastFourierTransform(final int length) {
+        if (!isPowerOfTwo(length)) {
+            throw new IllegalArgumentException();
+        }
+
+        this.length = length;
+
+        final var halfLength = length / 2;
+        cosTable = new double[halfLength];
+        sinTable = new double[halfLength];
+        for (var k = 0; k < halfLength; k++) {
+            final var angle = 2.0 * Math.PI * k / length;
+            cosTable[k] = Math.cos(angle);
+            sinTable[k] = Math.sin(angle);
+        }
+
+        final var shift = Integer.SIZE - Integer.numberOfTrailingZeros(length);
+        bitReversedIndices = new int[length];
+        for (var i = 0; i < length; i++) {
+            bitReversedIndices[i] = Integer.reverse(i) >>> shift;
+        }
+    }
+
+    /**
+     * Indicates whether provided value is a power of two valid as a transform length.
+     *
+     * @param value value to be checked.
+     * @return true if value is a valid transform length, false otherwise.
+     */
+    static boolean isPowerOfTwo(final int value) {
+        return value >= MIN_LENGTH && Integer.bitCount(value) == 1;
+    }
+
+    /**
+     * Gets length of transformed sequences.
+     *
+     * @return length of transformed sequences.
+     */
+    int getLength() {
+        return length;
+    }
+
+    /**
+     * Computes the forward transform X[k] = sum(x[n] * exp(-2 * pi * i * k * n / N)) of
+     * provided complex sequence in place.
+     *
+     * @param re real parts of sequence. Must have transform length.
+     * @param im imaginary parts of sequence. Must have transform length.
+     */
+    void transform(final double[] re, final double[] im) {
+        // bit-reversal permutation
+        for (var i = 0; i < length; i++) {
+            final var j = bitReversedIndices[i];
+            if (j > i) {
+                final var tmpRe = re[i];
+                re[i] = re[j];
+                re[j] = tmpRe;
+
+                final var tmpIm = im[i];
+                im[i] = im[j];
+                im[j] = tmpIm;
+            }
+        }
+
+        // butterflies
+        for (var size = 2; size <= length; size <<= 1) {
+            final var half = size >> 1;
+            final var step = length / size;
+            for (var start = 0; start < length; start += size) {
+                for (int k = 0, t = 0; k < half; k++, t += step) {
+                    final var wRe = cosTable[t];
+                    final var wIm = -sinTable[t];
+
+                    final var pos1 = start + k;
+                    final var pos2 = pos1 + half;
+
+                    final var tRe = wRe * re[pos2] - wIm * im[pos2];
+                    final var tIm = wRe * im[pos2] + wIm * re[pos2];
+
+                    re[pos2] = re[pos1] - tRe;
+                    im[pos2] = im[pos1] - tIm;
+                    re[pos1] += tRe;
+                    im[pos1] += tIm;
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,78 @@
+/*
+ * Copyright (C) 2026 Alberto Irurueta Carro (alberto@irurueta.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.irurueta.navigation.inertial.calibration.noise;
+
+import com.irurueta.navigation.inertial.calibration.AngularSpeedTriad;
+import com.irurueta.navigation.inertial.calibration.TimeIntervalEstimator;
+import com.irurueta.units.AngularSpeed;
+import com.irurueta.units.AngularSpeedConverter;
+import com.irurueta.units.AngularSpeedUnit;
+
+/**
+ * Estimates angular speed noise PSD's (Power Spectral Densities) as a function of
+ * frequency using Welch's method.
+ * This estimator must be used when the body where the gyroscope is attached
+ * remains static on the same position with zero velocity and constant (or zero) angular speed while capturing data.
+ * To compute PSD's, this estimator assumes that measurement samples are obtained
+ * at a constant provided rate equal to {@link #getTimeInterval()} seconds.
+ * If not available, gyroscope sampling rate average can be estimated using
+ * {@link TimeIntervalEstimator}.
+ * This implementation of noise estimator will use the following units:
+ * - radians per second (rad/s) for angular speed values.
+ * - (rad^2/s) for gyroscope PSD (Power Spectral Density).
+ */
+public class WelchAngularSpeedTriadNoiseEstimator extends
+        WelchTriadNoiseEstimator<AngularSpeedUnit, AngularSpeed, AngularSpeedTriad, WelchAngularSpeedTriadNoiseEstimator,
+                WelchAngularSpeedTriadNoiseEstimatorListener> {
+
+    /**
+     * Constructor.
+     */
+    public WelchAngularSpeedTriadNoiseEstimator() {
+        super();
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param listener listener to handle events raised by this estimator.
+     */
+    public WelchAngularSpeedTriadNoiseEstimator(final WelchAngularSpeedTriadNoiseEstimatorListener listener) {
+        super(listener);
+    }
+
+    /**
+     * Gets default unit for a measurement.
+     *
+     * @return default unit for a measurement.
+     */
+    @Override
+    protected AngularSpeedUnit getDefaultUnit() {
+        return AngularSpeedUnit.RADIANS_PER_SECOND;
+    }
+
+    /**
+     * Converts provided value and unit into default unit.
+     *
+     * @param value measurement value to be converted.
+     * @param unit  unit of measurement value to be converted.
+     * @return converted value.
+     */
+    @Override
+    protected double convertToDefaultUnit(final double value, final AngularSpeedUnit unit) {
+        return AngularSpeedConverter.convert(value, unit, getDefaultUnit());
+    }
+}
@@ -0,0 +1,78 @@
+/*
+ * Copyright (C) 2026 Alberto Irurueta Carro (alberto@irurueta.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.irurueta.navigation.inertial.calibration.noise;
+
+import com.irurueta.navigation.inertial.calibration.MagneticFluxDensityTriad;
+import com.irurueta.navigation.inertial.calibration.TimeIntervalEstimator;
+import com.irurueta.units.MagneticFluxDensity;
+import com.irurueta.units.MagneticFluxDensityConverter;
+import com.irurueta.units.MagneticFluxDensityUnit;
+
+/**
+ * Estimates magnetic flux density noise PSD's (Power Spectral Densities) as a function of
+ * frequency using Welch's method.
+ * This estimator must be used when the body where the magnetometer is attached
+ * remains static on the same position and orientation with zero velocity while capturing data.
+ * To compute PSD's, this estimator assumes that measurement samples are obtained
+ * at a constant provided rate equal to {@link #getTimeInterval()} seconds.
+ * If not available, magnetometer sampling rate average can be estimated using
+ * {@link TimeIntervalEstimator}.
+ * This implementation of noise estimator will use the following units:
+ * - Teslas (T) for magnetic flux density values.
+ * - (T^2 * s) for magnetometer PSD (Power Spectral Density).
+ */
+public class WelchMagneticFluxDensityTriadNoiseEstimator extends
+        WelchTriadNoiseEstimator<MagneticFluxDensityUnit, MagneticFluxDensity, MagneticFluxDensityTriad, WelchMagneticFluxDensityTriadNoiseEstimator,
+                WelchMagneticFluxDensityTriadNoiseEstimatorListener> {
+
+    /**
+     * Constructor.
+     */
+    public WelchMagneticFluxDensityTriadNoiseEstimator() {
+        super();
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param listener listener to handle events raised by this estimator.
+     */
+    public WelchMagneticFluxDensityTriadNoiseEstimator(final WelchMagneticFluxDensityTriadNoiseEstimatorListener listener) {
+        super(listener);
+    }
+
+    /**
+     * Gets default unit for a measurement.
+     *
+     * @return default unit for a measurement.
+     */
+    @Override
+    protected MagneticFluxDensityUnit getDefaultUnit() {
+        return MagneticFluxDensityUnit.TESLA;
+    }
+
+    /**
+     * Converts provided value and unit into default unit.
+     *
+     * @param value measurement value to be converted.
+     * @param unit  unit of measurement value to be converted.
+     * @return converted value.
+     */
+    @Override
+    protected double convertToDefaultUnit(final double value, final MagneticFluxDensityUnit unit) {
+        return MagneticFluxDensityConverter.convert(value, unit, getDefaultUnit());
+    }
+}
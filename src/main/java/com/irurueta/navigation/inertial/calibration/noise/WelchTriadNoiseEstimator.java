@@ -0,0 +1,840 @@
+/*
+ * Copyright (C) 2026 Alberto Irurueta Carro (alberto@irurueta.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.irurueta.navigation.inertial.calibration.noise;
+
+import com.irurueta.navigation.LockedException;
+import com.irurueta.navigation.inertial.calibration.TimeIntervalEstimator;
+import com.irurueta.navigation.inertial.calibration.Triad;
+import com.irurueta.units.Measurement;
+import com.irurueta.units.Time;
+import com.irurueta.units.TimeConverter;
+import com.irurueta.units.TimeUnit;
+
+import java.util.Arrays;
+
+/**
+ * Base class to estimate the full PSD (Power Spectral Density) shape of measurement
+ * triads using Welch's method.
+ * Unlike accumulated or windowed estimators, which assume white noise and estimate a
+ * single flat PSD level from variance and time interval, this estimator averages the
+ * periodograms of fixed-size overlapping segments, so that vibration lines, aliasing or
+ * coloured noise can be identified.
+ * Samples are processed in a streaming fashion: each time enough samples have been
+ * received to complete a new segment, the segment is detrended (its mean is removed),
+ * multiplied by a Hann window and transformed using a radix-2 FFT. All buffers, window
+ * and twiddle tables are preallocated, hence no memory is allocated per sample.
+ * Estimated PSD's are expressed consistently with {@link AccumulatedTriadNoiseEstimator#getPsdX()}
+ * and {@link WindowedTriadNoiseEstimator#getPsdX()}, so that white noise produces a flat
+ * spectrum equal to its variance multiplied by the time interval between samples, expressed
+ * in (m^2 * s^-3) for accelerometer, (rad^2/s) for gyroscope or (T^2 * s) for magnetometer.
+ * To compute PSD's, this estimator assumes that measurement samples are obtained
+ * at a constant provided rate equal to {@link #getTimeInterval()} seconds.
+ * If not available, sampling rate average can be estimated using
+ * {@link TimeIntervalEstimator}.
+ *
+ * @param <U> a measurement unit type.
+ * @param <M> a measurement type.
+ * @param <T> a triad type.
+ * @param <E> an estimator type.
+ * @param <L> a listener type.
+ */
+@SuppressWarnings("DuplicatedCode")
+public abstract class WelchTriadNoiseEstimator<U extends Enum<?>,
+        M extends Measurement<U>, T extends Triad<U, M>,
+        E extends WelchTriadNoiseEstimator<U, M, T, E, L>,
+        L extends WelchTriadNoiseEstimatorListener<U, M, T, E>> {
+
+    /**
+     * Default number of samples of each segment.
+     */
+    public static final int DEFAULT_SEGMENT_LENGTH = 256;
+
+    /**
+     * Minimum allowed number of samples of each segment.
+     */
+    public static final int MIN_SEGMENT_LENGTH = 4;
+
+    /**
+     * Default number of samples shared by consecutive segments (50% overlap).
+     */
+    public static final int DEFAULT_OVERLAP = DEFAULT_SEGMENT_LENGTH / 2;
+
+    /**
+     * Default time interval between samples expressed in seconds (s).
+     */
+    public static final double DEFAULT_TIME_INTERVAL_SECONDS = 0.02;
+
+    /**
+     * Number of samples of each segment. Must be a power of two.
+     */
+    private int segmentLength = DEFAULT_SEGMENT_LENGTH;
+
+    /**
+     * Number of samples shared by consecutive segments.
+     */
+    private int overlap = DEFAULT_OVERLAP;
+
+    /**
+     * Time interval expressed in seconds (s) between consecutive samples.
+     */
+    private double timeInterval = DEFAULT_TIME_INTERVAL_SECONDS;
+
+    /**
+     * Listener to handle events raised by this estimator.
+     */
+    private L listener;
+
+    /**
+     * Transform used to compute the periodogram of each segment.
+     */
+    private RadixTwoFastFourierTransform fft;
+
+    /**
+     * Hann window applied to each segment.
+     */
+    private double[] window;
+
+    /**
+     * Sum of squared window values.
+     */
+    private double windowPowerSum;
+
+    /**
+     * Circular buffer containing x coordinates of latest samples.
+     */
+    private double[] bufferX;
+
+    /**
+     * Circular buffer containing y coordinates of latest samples.
+     */
+    private double[] bufferY;
+
+    /**
+     * Circular buffer containing z coordinates of latest samples.
+     */
+    private double[] bufferZ;
+
+    /**
+     * Real parts of transformed data.
+     */
+    private double[] re;
+
+    /**
+     * Imaginary parts of transformed data.
+     */
+    private double[] im;
+
+    /**
+     * Accumulated squared magnitudes of x coordinate transforms for each frequency bin.
+     */
+    private double[] periodogramSumX;
+
+    /**
+     * Accumulated squared magnitudes of y coordinate transforms for each frequency bin.
+     */
+    private double[] periodogramSumY;
+
+    /**
+     * Accumulated squared magnitudes of z coordinate transforms for each frequency bin.
+     */
+    private double[] periodogramSumZ;
+
+    /**
+     * Position in circular buffers where next sample will be stored.
+     */
+    private int bufferPosition;
+
+    /**
+     * Number of contiguous samples currently stored in circular buffers.
+     */
+    private int bufferedSamples;
+
+    /**
+     * Number of samples received since last processed segment.
+     */
+    private int samplesSinceLastSegment;
+
+    /**
+     * Number of processed samples.
+     */
+    private int numberOfProcessedSamples;
+
+    /**
+     * Number of processed segments.
+     */
+    private int numberOfProcessedSegments;
+
+    /**
+     * Indicates that estimator is running.
+     */
+    private boolean running;
+
+    /**
+     * Constructor.
+     */
+    protected WelchTriadNoiseEstimator() {
+        allocate();
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param listener listener to handle events raised by this estimator.
+     */
+    protected WelchTriadNoiseEstimator(final L listener) {
+        this();
+        this.listener = listener;
+    }
+
+    /**
+     * Gets number of samples of each segment.
+     *
+     * @return number of samples of each segment.
+     */
+    public int getSegmentLength() {
+        return segmentLength;
+    }
+
+    /**
+     * Sets number of samples of each segment.
+     * Segment length determines frequency resolution of estimated PSD's.
+     * Setting a new value resets this estimator.
+     *
+     * @param segmentLength number of samples of each segment. Must be a power of two
+     *                      greater than current overlap.
+     * @throws IllegalArgumentException if provided value is not a power of two, is less
+     *                                  than {@link #MIN_SEGMENT_LENGTH} or is not greater
+     *                                  than current overlap.
+     * @throws LockedException          if estimator is currently running.
+     */
+    public void setSegmentLength(final int segmentLength) throws LockedException {
+        setSegmentLengthAndOverlap(segmentLength, overlap);
+    }
+
+    /**
+     * Gets number of samples shared by consecutive segments.
+     *
+     * @return number of samples shared by consecutive segments.
+     */
+    public int getOverlap() {
+        return overlap;
+    }
+
+    /**
+     * Sets number of samples shared by consecutive segments.
+     * Setting a new value resets this estimator.
+     *
+     * @param overlap number of samples shared by consecutive segments.
+     * @throws IllegalArgumentException if provided value is negative or is not less than
+     *                                  current segment length.
+     * @throws LockedException          if estimator is currently running.
+     */
+    public void setOverlap(final int overlap) throws LockedException {
+        setSegmentLengthAndOverlap(segmentLength, overlap);
+    }
+
+    /**
+     * Sets number of samples of each segment and number of samples shared by
+     * consecutive segments.
+     * Setting new values resets this estimator.
+     *
+     * @param segmentLength number of samples of each segment. Must be a power of two.
+     * @param overlap       number of samples shared by consecutive segments.
+     * @throws IllegalArgumentException if segment length is not a power of two or is less
+     *                                  than {@link #MIN_SEGMENT_LENGTH}, or if overlap is
+     *                                  negative or not less than segment length.
+     * @throws LockedException          if estimator is currently running.
+     */
+    public void setSegmentLengthAndOverlap(final int segmentLength, final int overlap) throws LockedException {
+        if (running) {
+            throw new LockedException();
+        }
+
+        if (segmentLength < MIN_SEGMENT_LENGTH || !RadixTwoFastFourierTransform.isPowerOfTwo(segmentLength)) {
+            throw new IllegalArgumentException();
+        }
+        if (overlap < 0 || overlap >= segmentLength) {
+            throw new IllegalArgumentException();
+        }
+
+        final var changedLength = this.segmentLength != segmentLength;
+        this.segmentLength = segmentLength;
+        this.overlap = overlap;
+
+        if (changedLength) {
+            allocate();
+        }
+        reset();
+    }
+
+    /**
+     * Gets time interval between triad samples expressed in seconds (s).
+     *
+     * @return time interval between triad samples.
+     */
+    public double getTimeInterval() {
+        return timeInterval;
+    }
+
+    /**
+     * Sets time interval between triad samples expressed in seconds (s).
+     *
+     * @param timeInterval time interval between triad samples.
+     * @throws IllegalArgumentException if provided value is negative.
+     * @throws LockedException          if estimator is currently running.
+     */
+    public void setTimeInterval(final double timeInterval) throws LockedException {
+        if (running) {
+            throw new LockedException();
+        }
+
+        if (timeInterval < 0.0) {
+            throw new IllegalArgumentException();
+        }
+
+        this.timeInterval = timeInterval;
+    }
+
+    /**
+     * Gets time interval between triad samples.
+     *
+     * @return time interval between triad samples.
+     */
+    public Time getTimeIntervalAsTime() {
+        return new Time(timeInterval, TimeUnit.SECOND);
+    }
+
+    /**
+     * Gets time interval between triad samples.
+     *
+     * @param result instance where time interval will be stored.
+     */
+    public void getTimeIntervalAsTime(final Time result) {
+        result.setValue(timeInterval);
+        result.setUnit(TimeUnit.SECOND);
+    }
+
+    /**
+     * Sets time interval between triad samples.
+     *
+     * @param timeInterval time interval between triad samples.
+     * @throws LockedException if estimator is currently running.
+     */
+    public void setTimeInterval(final Time timeInterval) throws LockedException {
+        setTimeInterval(TimeConverter.convert(timeInterval.getValue().doubleValue(), timeInterval.getUnit(),
+                TimeUnit.SECOND));
+    }
+
+    /**
+     * Gets listener to handle events raised by this estimator.
+     *
+     * @return listener to handle events raised by this estimator.
+     */
+    public L getListener() {
+        return listener;
+    }
+
+    /**
+     * Sets listener to handle events raised by this estimator.
+     *
+     * @param listener listener to handle events raised by this estimator.
+     * @throws LockedException if this estimator is running.
+     */
+    public void setListener(final L listener) throws LockedException {
+        if (running) {
+            throw new LockedException();
+        }
+
+        this.listener = listener;
+    }
+
+    /**
+     * Gets number of frequency bins of estimated PSD's.
+     * Bins range from zero frequency up to the Nyquist frequency.
+     *
+     * @return number of frequency bins.
+     */
+    public int getNumberOfFrequencyBins() {
+        return segmentLength / 2 + 1;
+    }
+
+    /**
+     * Gets frequency resolution (separation between consecutive frequency bins)
+     * expressed in Hertz (Hz).
+     *
+     * @return frequency resolution.
+     */
+    public double getFrequencyResolution() {
+        return 1.0 / (segmentLength * timeInterval);
+    }
+
+    /**
+     * Gets frequency of provided bin expressed in Hertz (Hz).
+     *
+     * @param bin index of frequency bin.
+     * @return frequency of bin.
+     * @throws IllegalArgumentException if bin is negative or exceeds number of bins.
+     */
+    public double getFrequency(final int bin) {
+        checkBin(bin);
+        return bin * getFrequencyResolution();
+    }
+
+    /**
+     * Gets frequencies of all bins expressed in Hertz (Hz).
+     *
+     * @param result array where frequencies will be stored. Must have
+     *               {@link #getNumberOfFrequencyBins()} length.
+     * @throws IllegalArgumentException if provided array does not have the expected length.
+     */
+    public void getFrequencies(final double[] result) {
+        checkLength(result);
+        final var resolution = getFrequencyResolution();
+        for (var k = 0; k < result.length; k++) {
+            result[k] = k * resolution;
+        }
+    }
+
+    /**
+     * Gets frequencies of all bins expressed in Hertz (Hz).
+     *
+     * @return frequencies of all bins.
+     */
+    public double[] getFrequencies() {
+        final var result = new double[getNumberOfFrequencyBins()];
+        getFrequencies(result);
+        return result;
+    }
+
+    /**
+     * Gets estimated PSD of x coordinate of measurements for each frequency bin.
+     * If no segment has been processed yet, all values are zero.
+     *
+     * @param result array where estimated PSD will be stored. Must have
+     *               {@link #getNumberOfFrequencyBins()} length.
+     * @throws IllegalArgumentException if provided array does not have the expected length.
+     */
+    public void getPsdX(final double[] result) {
+        copyPsd(periodogramSumX, result);
+    }
+
+    /**
+     * Gets estimated PSD of x coordinate of measurements for each frequency bin.
+     *
+     * @return estimated PSD of x coordinate.
+     */
+    public double[] getPsdX() {
+        final var result = new double[getNumberOfFrequencyBins()];
+        getPsdX(result);
+        return result;
+    }
+
+    /**
+     * Gets estimated PSD of y coordinate of measurements for each frequency bin.
+     * If no segment has been processed yet, all values are zero.
+     *
+     * @param result array where estimated PSD will be stored. Must have
+     *               {@link #getNumberOfFrequencyBins()} length.
+     * @throws IllegalArgumentException if provided array does not have the expected length.
+     */
+    public void getPsdY(final double[] result) {
+        copyPsd(periodogramSumY, result);
+    }
+
+    /**
+     * Gets estimated PSD of y coordinate of measurements for each frequency bin.
+     *
+     * @return estimated PSD of y coordinate.
+     */
+    public double[] getPsdY() {
+        final var result = new double[getNumberOfFrequencyBins()];
+        getPsdY(result);
+        return result;
+    }
+
+    /**
+     * Gets estimated PSD of z coordinate of measurements for each frequency bin.
+     * If no segment has been processed yet, all values are zero.
+     *
+     * @param result array where estimated PSD will be stored. Must have
+     *               {@link #getNumberOfFrequencyBins()} length.
+     * @throws IllegalArgumentException if provided array does not have the expected length.
+     */
+    public void getPsdZ(final double[] result) {
+        copyPsd(periodogramSumZ, result);
+    }
+
+    /**
+     * Gets estimated PSD of z coordinate of measurements for each frequency bin.
+     *
+     * @return estimated PSD of z coordinate.
+     */
+    public double[] getPsdZ() {
+        final var result = new double[getNumberOfFrequencyBins()];
+        getPsdZ(result);
+        return result;
+    }
+
+    /**
+     * Gets average of estimated PSD's among x,y,z coordinates for each frequency bin.
+     *
+     * @param result array where average PSD will be stored. Must have
+     *               {@link #getNumberOfFrequencyBins()} length.
+     * @throws IllegalArgumentException if provided array does not have the expected length.
+     */
+    public void getAvgPsd(final double[] result) {
+        checkLength(result);
+        final var scale = getPsdScale() / 3.0;
+        for (var k = 0; k < result.length; k++) {
+            result[k] = (periodogramSumX[k] + periodogramSumY[k] + periodogramSumZ[k]) * scale;
+        }
+    }
+
+    /**
+     * Gets average of estimated PSD's among x,y,z coordinates for each frequency bin.
+     *
+     * @return average PSD.
+     */
+    public double[] getAvgPsd() {
+        final var result = new double[getNumberOfFrequencyBins()];
+        getAvgPsd(result);
+        return result;
+    }
+
+    /**
+     * Gets number of samples that have been processed so far.
+     *
+     * @return number of samples that have been processed so far.
+     */
+    public int getNumberOfProcessedSamples() {
+        return numberOfProcessedSamples;
+    }
+
+    /**
+     * Gets number of segments whose periodograms have been averaged so far.
+     *
+     * @return number of processed segments.
+     */
+    public int getNumberOfProcessedSegments() {
+        return numberOfProcessedSegments;
+    }
+
+    /**
+     * Indicates whether estimator is currently running or not.
+     *
+     * @return true if estimator is running, false otherwise.
+     */
+    public boolean isRunning() {
+        return running;
+    }
+
+    /**
+     * Adds a triad of measurement samples.
+     * Values are expressed in measurement default unit (m/s^2 for acceleration, rad/s for
+     * angular speed or T for magnetic flux density).
+     * This method is allocation-free.
+     *
+     * @param valueX x coordinate of measurement to be added and processed.
+     * @param valueY y coordinate of measurement to be added and processed.
+     * @param valueZ z coordinate of measurement to be added and processed.
+     * @throws LockedException if estimator is currently running.
+     */
+    public void addTriad(final double valueX, final double valueY, final double valueZ) throws LockedException {
+        if (running) {
+            throw new LockedException();
+        }
+
+        running = true;
+
+        if (numberOfProcessedSamples == 0 && listener != null) {
+            //noinspection unchecked
+            listener.onStart((E) this);
+        }
+
+        bufferX[bufferPosition] = valueX;
+        bufferY[bufferPosition] = valueY;
+        bufferZ[bufferPosition] = valueZ;
+
+        bufferPosition++;
+        if (bufferPosition == segmentLength) {
+            bufferPosition = 0;
+        }
+        if (bufferedSamples < segmentLength) {
+            bufferedSamples++;
+        }
+        samplesSinceLastSegment++;
+        numberOfProcessedSamples++;
+
+        if (listener != null) {
+            //noinspection unchecked
+            listener.onTriadAdded((E) this);
+        }
+
+        if (bufferedSamples == segmentLength && samplesSinceLastSegment >= segmentLength - overlap) {
+            processSegment();
+            samplesSinceLastSegment = 0;
+            numberOfProcessedSegments++;
+
+            if (listener != null) {
+                //noinspection unchecked
+                listener.onSegmentProcessed((E) this);
+            }
+        }
+
+        running = false;
+    }
+
+    /**
+     * Adds a triad of measurement samples.
+     *
+     * @param triad measurement triad to be added and processed.
+     * @throws LockedException if estimator is currently running.
+     */
+    public void addTriad(final T triad) throws LockedException {
+        addTriad(convertToDefaultUnit(triad.getValueX(), triad.getUnit()),
+                convertToDefaultUnit(triad.getValueY(), triad.getUnit()),
+                convertToDefaultUnit(triad.getValueZ(), triad.getUnit()));
+    }
+
+    /**
+     * Adds a triad of measurement samples.
+     *
+     * @param valueX x coordinate of measurement to be added and processed.
+     * @param valueY y coordinate of measurement to be added and processed.
+     * @param valueZ z coordinate of measurement to be added and processed.
+     * @throws LockedException if estimator is currently running.
+     */
+    public void addTriad(final M valueX, final M valueY, final M valueZ) throws LockedException {
+        addTriad(convertToDefaultUnit(valueX.getValue().doubleValue(), valueX.getUnit()),
+                convertToDefaultUnit(valueY.getValue().doubleValue(), valueY.getUnit()),
+                convertToDefaultUnit(valueZ.getValue().doubleValue(), valueZ.getUnit()));
+    }
+
+    /**
+     * Discards buffered samples of current incomplete segment while keeping averaged
+     * periodograms of already processed segments.
+     * This must be called whenever a discontinuity occurs in the stream of samples
+     * (e.g. when a static interval ends), so that next segments only contain contiguous
+     * samples.
+     *
+     * @throws LockedException if estimator is currently running.
+     */
+    public void discardPartialSegment() throws LockedException {
+        if (running) {
+            throw new LockedException();
+        }
+
+        bufferPosition = 0;
+        bufferedSamples = 0;
+        samplesSinceLastSegment = 0;
+    }
+
+    /**
+     * Resets current estimator.
+     *
+     * @return true if estimator was successfully reset, false if no reset was needed.
+     * @throws LockedException if estimator is currently running.
+     */
+    public boolean reset() throws LockedException {
+        if (running) {
+            throw new LockedException();
+        }
+
+        if (numberOfProcessedSamples == 0) {
+            return false;
+        }
+
+        running = true;
+
+        bufferPosition = 0;
+        bufferedSamples = 0;
+        samplesSinceLastSegment = 0;
+        numberOfProcessedSamples = 0;
+        numberOfProcessedSegments = 0;
+        Arrays.fill(periodogramSumX, 0.0);
+        Arrays.fill(periodogramSumY, 0.0);
+        Arrays.fill(periodogramSumZ, 0.0);
+
+        if (listener != null) {
+            //noinspection unchecked
+            listener.onReset((E) this);
+        }
+
+        running = false;
+
+        return true;
+    }
+
+    /**
+     * Gets default unit for a measurement.
+     *
+     * @return default unit for a measurement.
+     */
+    protected abstract U getDefaultUnit();
+
+    /**
+     * Converts provided value and unit into default unit.
+     *
+     * @param value measurement value to be converted.
+     * @param unit  unit of measurement value to be converted.
+     * @return converted value.
+     */
+    protected abstract double convertToDefaultUnit(final double value, final U unit);
+
+    /**
+     * Allocates buffers, window and transform tables for current segment length.
+     */
+    private void allocate() {
+        fft = new RadixTwoFastFourierTransform(segmentLength);
+
+        window = new double[segmentLength];
+        windowPowerSum = 0.0;
+        for (var i = 0; i < segmentLength; i++) {
+            // periodic Hann window
+            final var w = 0.5 - 0.5 * Math.cos(2.0 * Math.PI * i / segmentLength);
+            window[i] = w;
+            windowPowerSum += w * w;
+        }
+
+        bufferX = new double[segmentLength];
+        bufferY = new double[segmentLength];
+        bufferZ = new double[segmentLength];
+        re = new double[segmentLength];
+        im = new double[segmentLength];
+
+        final var bins = getNumberOfFrequencyBins();
+        periodogramSumX = new double[bins];
+        periodogramSumY = new double[bins];
+        periodogramSumZ = new double[bins];
+    }
+
+    /**
+     * Processes samples contained in circular buffers as a new segment and accumulates
+     * its periodogram.
+     * Because input data is real, x and y coordinates are packed into a single complex
+     * sequence, so that only two transforms are needed for the three coordinates.
+     */
+    private void processSegment() {
+        final var n = segmentLength;
+
+        // compute segment means to remove them (oldest sample is at current buffer position)
+        var meanX = 0.0;
+        var meanY = 0.0;
+        var meanZ = 0.0;
+        for (var i = 0; i < n; i++) {
+            meanX += bufferX[i];
+            meanY += bufferY[i];
+            meanZ += bufferZ[i];
+        }
+        meanX /= n;
+        meanY /= n;
+        meanZ /= n;
+
+        // x + i*y
+        var pos = bufferPosition;
+        for (var i = 0; i < n; i++) {
+            final var w = window[i];
+            re[i] = (bufferX[pos] - meanX) * w;
+            im[i] = (bufferY[pos] - meanY) * w;
+            pos++;
+            if (pos == n) {
+                pos = 0;
+            }
+        }
+        fft.transform(re, im);
+
+        // separate transforms of x and y using conjugate symmetry of real sequences:
+        // X[k] = (C[k] + conj(C[N-k])) / 2, Y[k] = (C[k] - conj(C[N-k])) / 2i
+        final var bins = getNumberOfFrequencyBins();
+        for (var k = 0; k < bins; k++) {
+            final var nk = k == 0 ? 0 : n - k;
+            final var sumRe = re[k] + re[nk];
+            final var sumIm = im[k] - im[nk];
+            final var diffRe = re[k] - re[nk];
+            final var diffIm = im[k] + im[nk];
+            periodogramSumX[k] += 0.25 * (sumRe * sumRe + sumIm * sumIm);
+            periodogramSumY[k] += 0.25 * (diffRe * diffRe + diffIm * diffIm);
+        }
+
+        // z
+        pos = bufferPosition;
+        for (var i = 0; i < n; i++) {
+            re[i] = (bufferZ[pos] - meanZ) * window[i];
+            im[i] = 0.0;
+            pos++;
+            if (pos == n) {
+                pos = 0;
+            }
+        }
+        fft.transform(re, im);
+
+        for (var k = 0; k < bins; k++) {
+            periodogramSumZ[k] += re[k] * re[k] + im[k] * im[k];
+        }
+    }
+
+    /**
+     * Gets scale factor to convert accumulated squared transform magnitudes into
+     * averaged PSD values.
+     *
+     * @return scale factor.
+     */
+    private double getPsdScale() {
+        if (numberOfProcessedSegments == 0) {
+            return 0.0;
+        }
+        return timeInterval / (windowPowerSum * numberOfProcessedSegments);
+    }
+
+    /**
+     * Copies accumulated periodogram into provided array scaled as PSD values.
+     *
+     * @param periodogramSum accumulated periodogram.
+     * @param result         array where PSD will be stored.
+     * @throws IllegalArgumentException if provided array does not have the expected length.
+     */
+    private void copyPsd(final double[] periodogramSum, final double[] result) {
+        checkLength(result);
+        final var scale = getPsdScale();
+        for (var k = 0; k < result.length; k++) {
+            result[k] = periodogramSum[k] * scale;
+        }
+    }
+
+    /**
+     * Checks that provided array has as many elements as frequency bins.
+     *
+     * @param result array to be checked.
+     * @throws IllegalArgumentException if provided array does not have the expected length.
+     */
+    private void checkLength(final double[] result) {
+        if (result.length != getNumberOfFrequencyBins()) {
+            throw new IllegalArgumentException();
+        }
+    }
+
+    /**
+     * Checks that provided bin index is valid.
+     *
+     * @param bin index of frequency bin.
+     * @throws IllegalArgumentException if bin is negative or exceeds number of bins.
+     */
+    private void checkBin(final int bin) {
+        if (bin < 0 || bin >= getNumberOfFrequencyBins()) {
+            throw new IllegalArgumentException();
+        }
+    }
+}
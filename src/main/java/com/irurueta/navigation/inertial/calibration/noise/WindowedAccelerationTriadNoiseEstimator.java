@@ -19,6 +19,7 @@ import com.irurueta.navigation.inertial.calibration.AccelerationTriad;
 import com.irurueta.navigation.inertial.calibration.AccelerometerNoiseRootPsdSource;
 import com.irurueta.navigation.inertial.calibration.TimeIntervalEstimator;
 import com.irurueta.units.Acceleration;
+import com.irurueta.units.AccelerationConverter;
 import com.irurueta.units.AccelerationUnit;
 
 /**
@@ -65,17 +66,6 @@ public class WindowedAccelerationTriadNoiseEstimator extends
         super(listener);
     }
 
-    /**
-     * Creates a copy of a triad.
-     *
-     * @param input triad to be copied.
-     * @return copy of a triad.
-     */
-    @Override
-    protected AccelerationTriad copyTriad(final AccelerationTriad input) {
-        return new AccelerationTriad(input);
-    }
-
     /**
      * Creates a triad with provided values and unit.
      *
@@ -127,6 +117,18 @@ public class WindowedAccelerationTriadNoiseEstimator extends
         return new Acceleration(value, unit);
     }
 
+    /**
+     * Converts provided value and unit into default unit.
+     *
+     * @param value measurement value to be converted.
+     * @param unit  unit of measurement value to be converted.
+     * @return converted value.
+     */
+    @Override
+    protected double convertToDefaultUnit(final double value, final AccelerationUnit unit) {
+        return AccelerationConverter.convert(value, unit, getDefaultUnit());
+    }
+
     /**
      * Gets accelerometer base noise level root PSD (Power Spectral Density)
      * expressed in (m * s^-1.5).
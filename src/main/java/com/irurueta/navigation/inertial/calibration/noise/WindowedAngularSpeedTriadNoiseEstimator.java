@@ -19,6 +19,7 @@ import com.irurueta.navigation.inertial.calibration.AngularSpeedTriad;
 import com.irurueta.navigation.inertial.calibration.GyroscopeNoiseRootPsdSource;
 import com.irurueta.navigation.inertial.calibration.TimeIntervalEstimator;
 import com.irurueta.units.AngularSpeed;
+import com.irurueta.units.AngularSpeedConverter;
 import com.irurueta.units.AngularSpeedUnit;
 
 /**
@@ -66,17 +67,6 @@ public class WindowedAngularSpeedTriadNoiseEstimator extends
         super(listener);
     }
 
-    /**
-     * Creates a copy of a triad.
-     *
-     * @param input triad to be copied.
-     * @return copy of a triad.
-     */
-    @Override
-    protected AngularSpeedTriad copyTriad(final AngularSpeedTriad input) {
-        return new AngularSpeedTriad(input);
-    }
-
     /**
      * Creates a triad with provided values and unit.
      *
@@ -128,6 +118,18 @@ public class WindowedAngularSpeedTriadNoiseEstimator extends
         return new AngularSpeed(value, unit);
     }
 
+    /**
+     * Converts provided value and unit into default unit.
+     *
+     * @param value measurement value to be converted.
+     * @param unit  unit of measurement value to be converted.
+     * @return converted value.
+     */
+    @Override
+    protected double convertToDefaultUnit(final double value, final AngularSpeedUnit unit) {
+        return AngularSpeedConverter.convert(value, unit, getDefaultUnit());
+    }
+
     /**
      * Gets gyroscope base noise level root PSD (Power Spectral Density)
      * expressed in (rad * s^-0.5)
@@ -30,7 +30,7 @@ import com.irurueta.units.Time;
 import com.irurueta.units.TimeConverter;
 import com.irurueta.units.TimeUnit;
 
-import java.util.LinkedList;
+import java.util.Arrays;
 
 /**
  * Estimates accelerometer and angular speed noise variances and PSD's
@@ -86,9 +86,55 @@ public class WindowedBodyKinematicsNoiseEstimator implements AccelerometerNoiseR
     private double timeInterval = DEFAULT_TIME_INTERVAL_SECONDS;
 
     /**
-     * Keeps the list of body kinematics samples that remain within the window.
+     * Keeps x coordinate of specific force of windowed samples expressed in meters per
+     * squared second (m/s^2).
      */
-    private final LinkedList<BodyKinematics> windowedSamples = new LinkedList<>();
+    private double[] windowedFx = new double[DEFAULT_WINDOW_SIZE];
+
+    /**
+     * Keeps y coordinate of specific force of windowed samples expressed in meters per
+     * squared second (m/s^2).
+     */
+    private double[] windowedFy = new double[DEFAULT_WINDOW_SIZE];
+
+    /**
+     * Keeps z coordinate of specific force of windowed samples expressed in meters per
+     * squared second (m/s^2).
+     */
+    private double[] windowedFz = new double[DEFAULT_WINDOW_SIZE];
+
+    /**
+     * Keeps x coordinate of angular rate of windowed samples expressed in radians per
+     * second (rad/s).
+     */
+    private double[] windowedWx = new double[DEFAULT_WINDOW_SIZE];
+
+    /**
+     * Keeps y coordinate of angular rate of windowed samples expressed in radians per
+     * second (rad/s).
+     */
+    private double[] windowedWy = new double[DEFAULT_WINDOW_SIZE];
+
+    /**
+     * Keeps z coordinate of angular rate of windowed samples expressed in radians per
+     * second (rad/s).
+     */
+    private double[] windowedWz = new double[DEFAULT_WINDOW_SIZE];
+
+    /**
+     * Indicates position of first element in window.
+     */
+    private int firstCursor;
+
+    /**
+     * Indicates position of last element in window.
+     */
+    private int lastCursor;
+
+    /**
+     * Number of added body kinematics samples.
+     */
+    private int numberOfAddedSamples;
 
     /**
      * Listener to handle events raised by this estimator.
@@ -222,6 +268,15 @@ public class WindowedBodyKinematicsNoiseEstimator implements AccelerometerNoiseR
         }
 
         this.windowSize = windowSize;
+        windowedFx = new double[windowSize];
+        windowedFy = new double[windowSize];
+        windowedFz = new double[windowSize];
+        windowedWx = new double[windowSize];
+        windowedWy = new double[windowSize];
+        windowedWz = new double[windowSize];
+        firstCursor = 0;
+        lastCursor = 0;
+        numberOfAddedSamples = 0;
         reset();
     }
 
@@ -315,7 +370,13 @@ public class WindowedBodyKinematicsNoiseEstimator implements AccelerometerNoiseR
      * available.
      */
     public BodyKinematics getFirstWindowedBodyKinematics() {
-        return windowedSamples.isEmpty() ? null : windowedSamples.getFirst();
+        if (numberOfAddedSamples == 0) {
+            return null;
+        }
+
+        final var result = new BodyKinematics();
+        copyWindowedSample(firstCursor, result);
+        return result;
     }
 
     /**
@@ -325,10 +386,10 @@ public class WindowedBodyKinematicsNoiseEstimator implements AccelerometerNoiseR
      * @return true if result instance was updated, false otherwise.
      */
     public boolean getFirstWindowedBodyKinematics(final BodyKinematics result) {
-        if (windowedSamples.isEmpty()) {
+        if (numberOfAddedSamples == 0) {
             return false;
         } else {
-            result.copyFrom(windowedSamples.getFirst());
+            copyWindowedSample(firstCursor, result);
             return true;
         }
     }
@@ -340,7 +401,13 @@ public class WindowedBodyKinematicsNoiseEstimator implements AccelerometerNoiseR
      * available.
      */
     public BodyKinematics getLastWindowedBodyKinematics() {
-        return windowedSamples.isEmpty() ? null : windowedSamples.getLast();
+        if (numberOfAddedSamples == 0) {
+            return null;
+        }
+
+        final var result = new BodyKinematics();
+        copyWindowedSample(getLastPosition(), result);
+        return result;
     }
 
     /**
@@ -350,10 +417,10 @@ public class WindowedBodyKinematicsNoiseEstimator implements AccelerometerNoiseR
      * @return true if result instance was updated, false otherwise.
      */
     public boolean getLastWindowedBodyKinematics(final BodyKinematics result) {
-        if (windowedSamples.isEmpty()) {
+        if (numberOfAddedSamples == 0) {
             return false;
         } else {
-            result.copyFrom(windowedSamples.getLast());
+            copyWindowedSample(getLastPosition(), result);
             return true;
         }
     }
@@ -1344,7 +1411,7 @@ public class WindowedBodyKinematicsNoiseEstimator implements AccelerometerNoiseR
      * @return number of samples within the window.
      */
     public int getNumberOfSamplesInWindow() {
-        return windowedSamples.size();
+        return Math.min(numberOfAddedSamples, windowSize);
     }
 
     /**
@@ -1367,6 +1434,7 @@ public class WindowedBodyKinematicsNoiseEstimator implements AccelerometerNoiseR
 
     /**
      * Adds a body kinematics measurement and processes current window.
+     * This method is allocation-free.
      *
      * @param specificForceX x coordinate of specific force expressed in meters per squared second (m/s^2).
      * @param specificForceY y coordinate of specific force expressed in meters per squared second (m/s^2).
@@ -1381,8 +1449,8 @@ public class WindowedBodyKinematicsNoiseEstimator implements AccelerometerNoiseR
     public boolean addBodyKinematicsAndProcess(
             final double specificForceX, final double specificForceY, final double specificForceZ,
             final double angularRateX, final double angularRateY, final double angularRateZ) throws LockedException {
-        return addBodyKinematicsAndProcess(new BodyKinematics(specificForceX, specificForceY, specificForceZ,
-                angularRateX, angularRateY, angularRateZ));
+        return internalAdd(specificForceX, specificForceY, specificForceZ, angularRateX, angularRateY, angularRateZ,
+                true);
     }
 
     /**
@@ -1429,11 +1497,17 @@ public class WindowedBodyKinematicsNoiseEstimator implements AccelerometerNoiseR
      * @throws LockedException if estimator is currently running.
      */
     public boolean addBodyKinematicsAndProcess(final BodyKinematics kinematics) throws LockedException {
-        return internalAdd(kinematics, true);
+        if (running) {
+            throw new LockedException();
+        }
+
+        return internalAdd(kinematics.getFx(), kinematics.getFy(), kinematics.getFz(),
+                kinematics.getAngularRateX(), kinematics.getAngularRateY(), kinematics.getAngularRateZ(), true);
     }
 
     /**
      * Adds a body kinematics measurement.
+     * This method is allocation-free.
      *
      * @param specificForceX x coordinate of specific force expressed in meters per squared second (m/s^2).
      * @param specificForceY y coordinate of specific force expressed in meters per squared second (m/s^2).
@@ -1446,8 +1520,7 @@ public class WindowedBodyKinematicsNoiseEstimator implements AccelerometerNoiseR
     public void addBodyKinematics(
             final double specificForceX, final double specificForceY, final double specificForceZ,
             final double angularRateX, final double angularRateY, final double angularRateZ) throws LockedException {
-        addBodyKinematics(new BodyKinematics(specificForceX, specificForceY, specificForceZ,
-                angularRateX, angularRateY, angularRateZ));
+        internalAdd(specificForceX, specificForceY, specificForceZ, angularRateX, angularRateY, angularRateZ, false);
     }
 
     /**
@@ -1488,7 +1561,12 @@ public class WindowedBodyKinematicsNoiseEstimator implements AccelerometerNoiseR
      * @throws LockedException if estimator is currently running.
      */
     public void addBodyKinematics(final BodyKinematics kinematics) throws LockedException {
-        internalAdd(kinematics, false);
+        if (running) {
+            throw new LockedException();
+        }
+
+        internalAdd(kinematics.getFx(), kinematics.getFy(), kinematics.getFz(),
+                kinematics.getAngularRateX(), kinematics.getAngularRateY(), kinematics.getAngularRateZ(), false);
     }
 
     /**
@@ -1506,7 +1584,14 @@ public class WindowedBodyKinematicsNoiseEstimator implements AccelerometerNoiseR
             return false;
         }
 
-        windowedSamples.clear();
+        Arrays.fill(windowedFx, 0.0);
+        Arrays.fill(windowedFy, 0.0);
+        Arrays.fill(windowedFz, 0.0);
+        Arrays.fill(windowedWx, 0.0);
+        Arrays.fill(windowedWy, 0.0);
+        Arrays.fill(windowedWz, 0.0);
+        firstCursor = 0;
+        lastCursor = 0;
         avgSpecificForceX = 0.0;
         avgSpecificForceY = 0.0;
         avgSpecificForceZ = 0.0;
@@ -1520,6 +1605,7 @@ public class WindowedBodyKinematicsNoiseEstimator implements AccelerometerNoiseR
         varianceAngularRateY = 0.0;
         varianceAngularRateZ = 0.0;
         numberOfProcessedSamples = 0;
+        numberOfAddedSamples = 0;
 
         if (listener != null) {
             listener.onReset(this);
@@ -1531,30 +1617,45 @@ public class WindowedBodyKinematicsNoiseEstimator implements AccelerometerNoiseR
     /**
      * Internally adds a body kinematics measurement and processes current window if indicated.
      *
-     * @param kinematics body kinematics to be added.
-     * @param process    true if window of samples must also be processed, false otherwise.
+     * @param fx      x coordinate of specific force expressed in meters per squared second (m/s^2).
+     * @param fy      y coordinate of specific force expressed in meters per squared second (m/s^2).
+     * @param fz      z coordinate of specific force expressed in meters per squared second (m/s^2).
+     * @param wx      x coordinate of angular rate expressed in radians per second (rad/s).
+     * @param wy      y coordinate of angular rate expressed in radians per second (rad/s).
+     * @param wz      z coordinate of angular rate expressed in radians per second (rad/s).
+     * @param process true if window of samples must also be processed, false otherwise.
      * @return true if result values were updated, false if not enough samples are available yet
      * and no average or variance values have been computed yet.
      * @throws LockedException if estimator is currently running.
      */
-    private boolean internalAdd(final BodyKinematics kinematics, boolean process) throws LockedException {
+    private boolean internalAdd(
+            final double fx, final double fy, final double fz, final double wx, final double wy, final double wz,
+            final boolean process) throws LockedException {
         if (running) {
             throw new LockedException();
         }
 
         running = true;
 
-        if (windowedSamples.isEmpty() && listener != null) {
+        if (numberOfAddedSamples == 0 && listener != null) {
             listener.onStart(this);
         }
 
         final var wasFilled = isWindowFilled();
         if (wasFilled) {
             // remove first sample
-            windowedSamples.removeFirst();
+            firstCursor = (firstCursor + 1) % windowSize;
         }
 
-        windowedSamples.addLast(new BodyKinematics(kinematics));
+        windowedFx[lastCursor] = fx;
+        windowedFy[lastCursor] = fy;
+        windowedFz[lastCursor] = fz;
+        windowedWx[lastCursor] = wx;
+        windowedWy[lastCursor] = wy;
+        windowedWz[lastCursor] = wz;
+        lastCursor = (lastCursor + 1) % windowSize;
+
+        numberOfAddedSamples++;
 
         // process window
         final var result = process && processWindow();
@@ -1581,7 +1682,7 @@ public class WindowedBodyKinematicsNoiseEstimator implements AccelerometerNoiseR
     private boolean processWindow() {
         numberOfProcessedSamples++;
 
-        final var n = windowedSamples.size();
+        final var n = getNumberOfSamplesInWindow();
         if (n <= 1) {
             return false;
         }
@@ -1593,20 +1694,15 @@ public class WindowedBodyKinematicsNoiseEstimator implements AccelerometerNoiseR
         var avgWx = 0.0;
         var avgWy = 0.0;
         var avgWz = 0.0;
-        for (final var kinematics : windowedSamples) {
-            final var fx = kinematics.getFx();
-            final var fy = kinematics.getFy();
-            final var fz = kinematics.getFz();
-            final var wx = kinematics.getAngularRateX();
-            final var wy = kinematics.getAngularRateY();
-            final var wz = kinematics.getAngularRateZ();
-
-            avgFx += fx;
-            avgFy += fy;
-            avgFz += fz;
-            avgWx += wx;
-            avgWy += wy;
-            avgWz += wz;
+        for (int i = 0, pos = firstCursor; i < n; i++) {
+            avgFx += windowedFx[pos];
+            avgFy += windowedFy[pos];
+            avgFz += windowedFz[pos];
+            avgWx += windowedWx[pos];
+            avgWy += windowedWy[pos];
+            avgWz += windowedWz[pos];
+
+            pos = (pos + 1) % windowSize;
         }
 
         avgFx /= n;
@@ -1623,20 +1719,13 @@ public class WindowedBodyKinematicsNoiseEstimator implements AccelerometerNoiseR
         var varWx = 0.0;
         var varWy = 0.0;
         var varWz = 0.0;
-        for (final var kinematics : windowedSamples) {
-            final var fx = kinematics.getFx();
-            final var fy = kinematics.getFy();
-            final var fz = kinematics.getFz();
-            final var wx = kinematics.getAngularRateX();
-            final var wy = kinematics.getAngularRateY();
-            final var wz = kinematics.getAngularRateZ();
-
-            final var diffFx = fx - avgFx;
-            final var diffFy = fy - avgFy;
-            final var diffFz = fz - avgFz;
-            final var diffWx = wx - avgWx;
-            final var diffWy = wy - avgWy;
-            final var diffWz = wz - avgWz;
+        for (int i = 0, pos = firstCursor; i < n; i++) {
+            final var diffFx = windowedFx[pos] - avgFx;
+            final var diffFy = windowedFy[pos] - avgFy;
+            final var diffFz = windowedFz[pos] - avgFz;
+            final var diffWx = windowedWx[pos] - avgWx;
+            final var diffWy = windowedWy[pos] - avgWy;
+            final var diffWz = windowedWz[pos] - avgWz;
 
             final var diffFx2 = diffFx * diffFx;
             final var diffFy2 = diffFy * diffFy;
@@ -1651,6 +1740,8 @@ public class WindowedBodyKinematicsNoiseEstimator implements AccelerometerNoiseR
             varWx += diffWx2;
             varWy += diffWy2;
             varWz += diffWz2;
+
+            pos = (pos + 1) % windowSize;
         }
 
         final var nMinusOne = n - 1;
@@ -1679,6 +1770,26 @@ public class WindowedBodyKinematicsNoiseEstimator implements AccelerometerNoiseR
         return true;
     }
 
+    /**
+     * Gets position of last added element in window.
+     *
+     * @return position of last added element.
+     */
+    private int getLastPosition() {
+        return lastCursor == 0 ? windowSize - 1 : lastCursor - 1;
+    }
+
+    /**
+     * Copies windowed sample at provided position into provided instance.
+     *
+     * @param pos    position of windowed sample.
+     * @param result instance where windowed sample will be stored.
+     */
+    private void copyWindowedSample(final int pos, final BodyKinematics result) {
+        result.setSpecificForceCoordinates(windowedFx[pos], windowedFy[pos], windowedFz[pos]);
+        result.setAngularRateCoordinates(windowedWx[pos], windowedWy[pos], windowedWz[pos]);
+    }
+
     /**
      * Gets accelerometer base noise level root PSD (Power Spectral Density)
      * expressed in (m * s^-1.5).
@@ -18,6 +18,7 @@ package com.irurueta.navigation.inertial.calibration.noise;
 import com.irurueta.navigation.inertial.calibration.MagneticFluxDensityTriad;
 import com.irurueta.navigation.inertial.calibration.TimeIntervalEstimator;
 import com.irurueta.units.MagneticFluxDensity;
+import com.irurueta.units.MagneticFluxDensityConverter;
 import com.irurueta.units.MagneticFluxDensityUnit;
 
 /**
@@ -66,17 +67,6 @@ public class WindowedMagneticFluxDensityTriadNoiseEstimator extends
         super(listener);
     }
 
-    /**
-     * Creates a copy of a triad.
-     *
-     * @param input triad to be copied.
-     * @return copy of a triad.
-     */
-    @Override
-    protected MagneticFluxDensityTriad copyTriad(final MagneticFluxDensityTriad input) {
-        return new MagneticFluxDensityTriad(input);
-    }
-
     /**
      * Creates a triad with provided values and unit.
      *
@@ -127,4 +117,16 @@ public class WindowedMagneticFluxDensityTriadNoiseEstimator extends
     protected MagneticFluxDensity createMeasurement(final double value, final MagneticFluxDensityUnit unit) {
         return new MagneticFluxDensity(value, unit);
     }
+
+    /**
+     * Converts provided value and unit into default unit.
+     *
+     * @param value measurement value to be converted.
+     * @param unit  unit of measurement value to be converted.
+     * @return converted value.
+     */
+    @Override
+    protected double convertToDefaultUnit(final double value, final MagneticFluxDensityUnit unit) {
+        return MagneticFluxDensityConverter.convert(value, unit, getDefaultUnit());
+    }
 }
@@ -491,6 +491,7 @@ public abstract class WindowedMeasurementNoiseEstimator<U extends Enum<?>,
      * Notice that if there are less than {@link #getWindowSize()} processed
      * samples in the window, the remaining ones are considered to be zero
      * when average values and standard deviation is estimated.
+     * This method is allocation-free.
      *
      * @param value value to be added.
      * @throws LockedException if estimator is currently running.
@@ -518,6 +519,7 @@ public abstract class WindowedMeasurementNoiseEstimator<U extends Enum<?>,
      * Notice that if there are less than {@link #getWindowSize()} processed
      * samples in the window, the remaining ones are considered to be zero
      * when average values and standard deviation is estimated.
+     * This method is allocation-free.
      *
      * @param value value to be added.
      * @throws LockedException if estimator is currently running.
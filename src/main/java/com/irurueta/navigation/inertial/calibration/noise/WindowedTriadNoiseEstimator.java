@@ -23,7 +23,7 @@ import com.irurueta.units.Time;
 import com.irurueta.units.TimeConverter;
 import com.irurueta.units.TimeUnit;
 
-import java.util.LinkedList;
+import java.util.Arrays;
 
 /**
  * Base class to estimate measurement noise variances and PSD's (Power Spectral Densities)
@@ -42,6 +42,10 @@ import java.util.LinkedList;
  * Notice that if there are less than {@link #getWindowSize()} processed
  * samples in the window, this estimator will assume that the remaining ones
  * until the window is completed have zero values.
+ * Windowed samples are internally kept in a ring buffer of primitive values
+ * expressed in their default unit, so that methods taking primitive values
+ * (such as {@link #addTriadAndProcess(double, double, double)}) are
+ * allocation-free.
  *
  * @param <U> a measurement unit type.
  * @param <M> a measurement type.
@@ -89,9 +93,22 @@ public abstract class WindowedTriadNoiseEstimator<U extends Enum<?>,
     private double timeInterval = DEFAULT_TIME_INTERVAL_SECONDS;
 
     /**
-     * Keeps the list of triad samples that remain within the window.
+     * Keeps x coordinate of the window of measurements expressed in their default units.
+     * (m/s^2 for acceleration, rad/s for angular speed or T for magnetic flux density).
      */
-    private final LinkedList<T> windowedSamples = new LinkedList<>();
+    private double[] windowedX = new double[DEFAULT_WINDOW_SIZE];
+
+    /**
+     * Keeps y coordinate of the window of measurements expressed in their default units.
+     * (m/s^2 for acceleration, rad/s for angular speed or T for magnetic flux density).
+     */
+    private double[] windowedY = new double[DEFAULT_WINDOW_SIZE];
+
+    /**
+     * Keeps z coordinate of the window of measurements expressed in their default units.
+     * (m/s^2 for acceleration, rad/s for angular speed or T for magnetic flux density).
+     */
+    private double[] windowedZ = new double[DEFAULT_WINDOW_SIZE];
 
     /**
      * Listener to handle events raised by this estimator.
@@ -137,11 +154,26 @@ public abstract class WindowedTriadNoiseEstimator<U extends Enum<?>,
      */
     private double varianceZ;
 
+    /**
+     * Indicates position of first element in window.
+     */
+    private int firstCursor;
+
+    /**
+     * Indicates position of last element in window.
+     */
+    private int lastCursor;
+
     /**
      * Number of processed acceleration triad samples.
      */
     private int numberOfProcessedSamples;
 
+    /**
+     * Number of added triad samples.
+     */
+    private int numberOfAddedSamples;
+
     /**
      * Indicates whether estimator is running or not.
      */
@@ -199,6 +231,12 @@ public abstract class WindowedTriadNoiseEstimator<U extends Enum<?>,
         }
 
         this.windowSize = windowSize;
+        windowedX = new double[windowSize];
+        windowedY = new double[windowSize];
+        windowedZ = new double[windowSize];
+        firstCursor = 0;
+        lastCursor = 0;
+        numberOfAddedSamples = 0;
         reset();
     }
 
@@ -292,7 +330,9 @@ public abstract class WindowedTriadNoiseEstimator<U extends Enum<?>,
      * available.
      */
     public T getFirstWindowedTriad() {
-        return windowedSamples.isEmpty() ? null : windowedSamples.getFirst();
+        return numberOfAddedSamples == 0 ? null
+                : createTriad(windowedX[firstCursor], windowedY[firstCursor], windowedZ[firstCursor],
+                getDefaultUnit());
     }
 
     /**
@@ -302,10 +342,11 @@ public abstract class WindowedTriadNoiseEstimator<U extends Enum<?>,
      * @return true if result instance was updated, false otherwise.
      */
     public boolean getFirstWindowedTriad(final T result) {
-        if (windowedSamples.isEmpty()) {
+        if (numberOfAddedSamples == 0) {
             return false;
         } else {
-            result.copyFrom(windowedSamples.getFirst());
+            result.setValueCoordinatesAndUnit(windowedX[firstCursor], windowedY[firstCursor],
+                    windowedZ[firstCursor], getDefaultUnit());
             return true;
         }
     }
@@ -317,7 +358,12 @@ public abstract class WindowedTriadNoiseEstimator<U extends Enum<?>,
      * available.
      */
     public T getLastWindowedTriad() {
-        return windowedSamples.isEmpty() ? null : windowedSamples.getLast();
+        if (numberOfAddedSamples == 0) {
+            return null;
+        }
+
+        final var pos = getLastPosition();
+        return createTriad(windowedX[pos], windowedY[pos], windowedZ[pos], getDefaultUnit());
     }
 
     /**
@@ -327,10 +373,11 @@ public abstract class WindowedTriadNoiseEstimator<U extends Enum<?>,
      * @return true if result instance was updated, false otherwise.
      */
     public boolean getLastWindowedTriad(final T result) {
-        if (windowedSamples.isEmpty()) {
+        if (numberOfAddedSamples == 0) {
             return false;
         } else {
-            result.copyFrom(windowedSamples.getLast());
+            final var pos = getLastPosition();
+            result.setValueCoordinatesAndUnit(windowedX[pos], windowedY[pos], windowedZ[pos], getDefaultUnit());
             return true;
         }
     }
@@ -818,7 +865,7 @@ public abstract class WindowedTriadNoiseEstimator<U extends Enum<?>,
      * @return number of samples within the window.
      */
     public int getNumberOfSamplesInWindow() {
-        return windowedSamples.size();
+        return Math.min(numberOfAddedSamples, windowSize);
     }
 
     /**
@@ -849,7 +896,13 @@ public abstract class WindowedTriadNoiseEstimator<U extends Enum<?>,
      * @throws LockedException if estimator is currently running.
      */
     public void addTriadAndProcess(final T triad) throws LockedException {
-        internalAdd(triad, true);
+        if (running) {
+            throw new LockedException();
+        }
+
+        final var unit = triad.getUnit();
+        internalAdd(convertToDefaultUnit(triad.getValueX(), unit), convertToDefaultUnit(triad.getValueY(), unit),
+                convertToDefaultUnit(triad.getValueZ(), unit), true);
     }
 
     /**
@@ -859,6 +912,7 @@ public abstract class WindowedTriadNoiseEstimator<U extends Enum<?>,
      * Notice that if there are less than {@link #getWindowSize()} processed
      * samples in the window, the remaining ones are considered to be zero
      * when average values and standard deviation is estimated.
+     * This method is allocation-free.
      *
      * @param valueX x coordinate of measurement to be added and processed.
      * @param valueY y coordinate of measurement to be added and processed.
@@ -867,7 +921,7 @@ public abstract class WindowedTriadNoiseEstimator<U extends Enum<?>,
      */
     public void addTriadAndProcess(final double valueX, final double valueY, final double valueZ)
             throws LockedException {
-        addTriadAndProcess(createTriad(valueX, valueY, valueZ, getDefaultUnit()));
+        internalAdd(valueX, valueY, valueZ, true);
     }
 
     /**
@@ -882,7 +936,7 @@ public abstract class WindowedTriadNoiseEstimator<U extends Enum<?>,
      * @throws LockedException if estimator is currently running.
      */
     public void addTriadAndProcess(final M valueX, final M valueY, final M valueZ) throws LockedException {
-        addTriadAndProcess(createTriad(valueX, valueY, valueZ));
+        internalAdd(convertToDefaultUnit(valueX), convertToDefaultUnit(valueY), convertToDefaultUnit(valueZ), true);
     }
 
     /**
@@ -896,7 +950,13 @@ public abstract class WindowedTriadNoiseEstimator<U extends Enum<?>,
      * @throws LockedException if estimator is currently running.
      */
     public void addTriad(final T triad) throws LockedException {
-        internalAdd(triad, false);
+        if (running) {
+            throw new LockedException();
+        }
+
+        final var unit = triad.getUnit();
+        internalAdd(convertToDefaultUnit(triad.getValueX(), unit), convertToDefaultUnit(triad.getValueY(), unit),
+                convertToDefaultUnit(triad.getValueZ(), unit), false);
     }
 
     /**
@@ -907,6 +967,7 @@ public abstract class WindowedTriadNoiseEstimator<U extends Enum<?>,
      * Notice that if there are less than {@link #getWindowSize()} processed
      * samples in the window, the remaining ones are considered to be zero
      * when average values and standard deviation is estimated.
+     * This method is allocation-free.
      *
      * @param valueX x coordinate of measurement to be added.
      * @param valueY y coordinate of measurement to be added.
@@ -914,7 +975,7 @@ public abstract class WindowedTriadNoiseEstimator<U extends Enum<?>,
      * @throws LockedException if estimator is currently running.
      */
     public void addTriad(final double valueX, final double valueY, final double valueZ) throws LockedException {
-        addTriad(createTriad(valueX, valueY, valueZ, getDefaultUnit()));
+        internalAdd(valueX, valueY, valueZ, false);
     }
 
     /**
@@ -930,7 +991,7 @@ public abstract class WindowedTriadNoiseEstimator<U extends Enum<?>,
      * @throws LockedException if estimator is currently running.
      */
     public void addTriad(final M valueX, final M valueY, final M valueZ) throws LockedException {
-        addTriad(createTriad(valueX, valueY, valueZ));
+        internalAdd(convertToDefaultUnit(valueX), convertToDefaultUnit(valueY), convertToDefaultUnit(valueZ), false);
     }
 
     /**
@@ -948,7 +1009,11 @@ public abstract class WindowedTriadNoiseEstimator<U extends Enum<?>,
             return false;
         }
 
-        windowedSamples.clear();
+        Arrays.fill(windowedX, 0.0);
+        Arrays.fill(windowedY, 0.0);
+        Arrays.fill(windowedZ, 0.0);
+        firstCursor = 0;
+        lastCursor = 0;
         avgX = 0.0;
         avgY = 0.0;
         avgZ = 0.0;
@@ -956,6 +1021,7 @@ public abstract class WindowedTriadNoiseEstimator<U extends Enum<?>,
         varianceY = 0.0;
         varianceZ = 0.0;
         numberOfProcessedSamples = 0;
+        numberOfAddedSamples = 0;
 
         if (listener != null) {
             //noinspection unchecked
@@ -965,14 +1031,6 @@ public abstract class WindowedTriadNoiseEstimator<U extends Enum<?>,
         return true;
     }
 
-    /**
-     * Creates a copy of a triad.
-     *
-     * @param input triad to be copied.
-     * @return copy of a triad.
-     */
-    protected abstract T copyTriad(final T input);
-
     /**
      * Creates a triad with provided values and unit.
      *
@@ -1010,21 +1068,52 @@ public abstract class WindowedTriadNoiseEstimator<U extends Enum<?>,
      */
     protected abstract M createMeasurement(final double value, final U unit);
 
+    /**
+     * Converts provided value and unit into default unit.
+     *
+     * @param value value to be converted.
+     * @param unit  unit of value to be converted.
+     * @return converted value expressed in default unit.
+     */
+    protected abstract double convertToDefaultUnit(final double value, final U unit);
+
+    /**
+     * Converts provided measurement into default unit.
+     *
+     * @param value measurement to be converted.
+     * @return converted value expressed in default unit.
+     */
+    private double convertToDefaultUnit(final M value) {
+        return convertToDefaultUnit(value.getValue().doubleValue(), value.getUnit());
+    }
+
+    /**
+     * Gets position of last added element in window.
+     *
+     * @return position of last added element.
+     */
+    private int getLastPosition() {
+        return lastCursor == 0 ? windowSize - 1 : lastCursor - 1;
+    }
+
     /**
      * Internally adds a triad of measurement samples and processes current window if indicated.
      *
-     * @param triad   measurement triad to be added.
+     * @param valueX  x coordinate of measurement to be added, expressed in default unit.
+     * @param valueY  y coordinate of measurement to be added, expressed in default unit.
+     * @param valueZ  z coordinate of measurement to be added, expressed in default unit.
      * @param process true if window of samples must also be processed, false otherwise.
      * @throws LockedException if estimator is currently running.
      */
-    private void internalAdd(final T triad, final boolean process) throws LockedException {
+    private void internalAdd(final double valueX, final double valueY, final double valueZ, final boolean process)
+            throws LockedException {
         if (running) {
             throw new LockedException();
         }
 
         running = true;
 
-        if (windowedSamples.isEmpty() && listener != null) {
+        if (numberOfAddedSamples == 0 && listener != null) {
             //noinspection unchecked
             listener.onStart((E) this);
         }
@@ -1032,10 +1121,15 @@ public abstract class WindowedTriadNoiseEstimator<U extends Enum<?>,
         final var wasFilled = isWindowFilled();
         if (wasFilled) {
             // remove first sample
-            windowedSamples.removeFirst();
+            firstCursor = (firstCursor + 1) % windowSize;
         }
 
-        windowedSamples.addLast(copyTriad(triad));
+        windowedX[lastCursor] = valueX;
+        windowedY[lastCursor] = valueY;
+        windowedZ[lastCursor] = valueZ;
+        lastCursor = (lastCursor + 1) % windowSize;
+
+        numberOfAddedSamples++;
 
         // process window
         if (process) {
@@ -1062,18 +1156,18 @@ public abstract class WindowedTriadNoiseEstimator<U extends Enum<?>,
 
         numberOfProcessedSamples++;
 
-        // compute averages
+        final var n = getNumberOfSamplesInWindow();
+
+        // compute averages (samples are visited from oldest to newest)
         var averageX = 0.0;
         var averageY = 0.0;
         var averageZ = 0.0;
-        for (final var triad : windowedSamples) {
-            final var valueX = triad.getValueX();
-            final var valueY = triad.getValueY();
-            final var valueZ = triad.getValueZ();
-
-            averageX += valueX;
-            averageY += valueY;
-            averageZ += valueZ;
+        for (int i = 0, pos = firstCursor; i < n; i++) {
+            averageX += windowedX[pos];
+            averageY += windowedY[pos];
+            averageZ += windowedZ[pos];
+
+            pos = (pos + 1) % windowSize;
         }
 
         averageX /= windowSize;
@@ -1084,14 +1178,10 @@ public abstract class WindowedTriadNoiseEstimator<U extends Enum<?>,
         var varX = 0.0;
         var varY = 0.0;
         var varZ = 0.0;
-        for (final var triad : windowedSamples) {
-            final var fx = triad.getValueX();
-            final var fy = triad.getValueY();
-            final var fz = triad.getValueZ();
-
-            final var diffX = fx - averageX;
-            final var diffY = fy - averageY;
-            final var diffZ = fz - averageZ;
+        for (int i = 0, pos = firstCursor; i < n; i++) {
+            final var diffX = windowedX[pos] - averageX;
+            final var diffY = windowedY[pos] - averageY;
+            final var diffZ = windowedZ[pos] - averageZ;
 
             final var diffX2 = diffX * diffX;
             final var diffY2 = diffY * diffY;
@@ -1100,6 +1190,8 @@ public abstract class WindowedTriadNoiseEstimator<U extends Enum<?>,
             varX += diffX2;
             varY += diffY2;
             varZ += diffZ2;
+
+            pos = (pos + 1) % windowSize;
         }
 
         final var m = windowSize - 1;
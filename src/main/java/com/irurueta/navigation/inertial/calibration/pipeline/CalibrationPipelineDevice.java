@@ -0,0 +1,53 @@
+/*
+ * Copyright (C) 2026 Alberto Irurueta Carro (alberto@irurueta.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.irurueta.navigation.inertial.calibration.pipeline;
+
+import com.irurueta.navigation.inertial.calibration.TimedBodyKinematicsAndMagneticFluxDensity;
+
+/**
+ * Device to be calibrated by a {@link CalibrationPipelineRunner}.
+ * A device provides the samples recorded while it is placed at several static
+ * orientations separated by rotations, along with the ground-truth norms of gravity
+ * and Earth magnetic flux density at the location where samples were recorded.
+ * Samples of each device are read from a single thread.
+ */
+public interface CalibrationPipelineDevice {
+
+    /**
+     * Gets ground-truth gravity norm at the location where samples were recorded
+     * expressed in meters per squared second (m/s^2).
+     *
+     * @return ground-truth gravity norm.
+     */
+    double getGroundTruthGravityNorm();
+
+    /**
+     * Gets ground-truth Earth magnetic flux density norm at the location where samples
+     * were recorded expressed in Teslas (T).
+     *
+     * @return ground-truth magnetic flux density norm.
+     */
+    double getGroundTruthMagneticFluxDensityNorm();
+
+    /**
+     * Gets recorded samples in timestamp order.
+     * Returned instances are only used until the next sample is requested, hence
+     * implementations can reuse the same instance for all samples.
+     *
+     * @return recorded samples.
+     */
+    Iterable<TimedBodyKinematicsAndMagneticFluxDensity> getSamples();
+}
@@ -0,0 +1,254 @@
+/*
+ * Copyright (C) 2026 Alberto Irurueta Carro (alberto@irurueta.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.irurueta.navigation.inertial.calibration.pipeline;
+
+import com.irurueta.algebra.Matrix;
+import com.irurueta.navigation.inertial.calibration.IMUErrors;
+
+/**
+ * Result of calibrating a device with a {@link CalibrationPipelineRunner}.
+ * When calibration succeeds, estimated accelerometer and gyroscope errors are
+ * aggregated into {@link IMUErrors}, along with the estimated magnetometer hard-iron
+ * and soft-iron errors.
+ */
+public class CalibrationPipelineResult {
+
+    /**
+     * Status of a device once its calibration finishes.
+     */
+    public enum Status {
+        /**
+         * Accelerometer, gyroscope and magnetometer were calibrated.
+         */
+        CALIBRATED,
+
+        /**
+         * Static interval detection or any calibrator failed.
+         */
+        FAILED,
+
+        /**
+         * Device did not finish within the timeout of the runner.
+         */
+        TIMED_OUT,
+
+        /**
+         * Run was cancelled before device finished.
+         */
+        CANCELLED
+    }
+
+    /**
+     * Calibrated device.
+     */
+    private final CalibrationPipelineDevice device;
+
+    /**
+     * Status of device.
+     */
+    private final Status status;
+
+    /**
+     * Estimated accelerometer and gyroscope errors or null if device was not calibrated.
+     */
+    private final IMUErrors errors;
+
+    /**
+     * Estimated magnetometer hard-iron expressed in Teslas (T) or null if device was not
+     * calibrated.
+     */
+    private final double[] magnetometerHardIron;
+
+    /**
+     * Estimated magnetometer soft-iron matrix or null if device was not calibrated.
+     */
+    private final Matrix magnetometerSoftIron;
+
+    /**
+     * Number of generated accelerometer measurements.
+     */
+    private final int accelerometerMeasurements;
+
+    /**
+     * Number of generated gyroscope sequences.
+     */
+    private final int gyroscopeSequences;
+
+    /**
+     * Number of generated magnetometer measurements.
+     */
+    private final int magnetometerMeasurements;
+
+    /**
+     * Cause of failure or null if device did not fail.
+     */
+    private final Exception failure;
+
+    /**
+     * Elapsed time since device started expressed in nanoseconds.
+     */
+    private final long elapsedNanos;
+
+    /**
+     * Time waiting for calibrations of other devices to finish expressed in nanoseconds.
+     */
+    private final long calibrationWaitNanos;
+
+    /**
+     * Constructor.
+     *
+     * @param device                    calibrated device.
+     * @param status                    status of device.
+     * @param errors                    estimated accelerometer and gyroscope errors or null.
+     * @param magnetometerHardIron      estimated magnetometer hard-iron or null.
+     * @param magnetometerSoftIron      estimated magnetometer soft-iron matrix or null.
+     * @param accelerometerMeasurements number of generated accelerometer measurements.
+     * @param gyroscopeSequences        number of generated gyroscope sequences.
+     * @param magnetometerMeasurements  number of generated magnetometer measurements.
+     * @param failure                   cause of failure or null.
+     * @param elapsedNanos              elapsed time since device started.
+     * @param calibrationWaitNanos      time waiting for calibrations of other devices.
+     */
+    CalibrationPipelineResult(
+            final CalibrationPipelineDevice device, final Status status, final IMUErrors errors,
+            final double[] magnetometerHardIron, final Matrix magnetometerSoftIron,
+            final int accelerometerMeasurements, final int gyroscopeSequences, final int magnetometerMeasurements,
+            final Exception failure, final long elapsedNanos, final long calibrationWaitNanos) {
+        this.device = device;
+        this.status = status;
+        this.errors = errors;
+        this.magnetometerHardIron = magnetometerHardIron;
+        this.magnetometerSoftIron = magnetometerSoftIron;
+        this.accelerometerMeasurements = accelerometerMeasurements;
+        this.gyroscopeSequences = gyroscopeSequences;
+        this.magnetometerMeasurements = magnetometerMeasurements;
+        this.failure = failure;
+        this.elapsedNanos = elapsedNanos;
+        this.calibrationWaitNanos = calibrationWaitNanos;
+    }
+
+    /**
+     * Gets calibrated device.
+     *
+     * @return calibrated device.
+     */
+    public CalibrationPipelineDevice getDevice() {
+        return device;
+    }
+
+    /**
+     * Gets status of device.
+     *
+     * @return status of device.
+     */
+    public Status getStatus() {
+        return status;
+    }
+
+    /**
+     * Indicates whether device was calibrated.
+     *
+     * @return true if device was calibrated, false otherwise.
+     */
+    public boolean isCalibrated() {
+        return status == Status.CALIBRATED;
+    }
+
+    /**
+     * Gets estimated accelerometer and gyroscope errors.
+     * Noise root PSDs are the ones estimated during static interval detection, and
+     * quantization levels are zero.
+     *
+     * @return estimated errors or null if device was not calibrated.
+     */
+    public IMUErrors getErrors() {
+        return errors;
+    }
+
+    /**
+     * Gets estimated magnetometer hard-iron expressed in Teslas (T).
+     *
+     * @return a copy of estimated hard-iron or null if device was not calibrated.
+     */
+    public double[] getMagnetometerHardIron() {
+        return magnetometerHardIron != null ? magnetometerHardIron.clone() : null;
+    }
+
+    /**
+     * Gets estimated magnetometer soft-iron matrix.
+     *
+     * @return a copy of estimated soft-iron matrix or null if device was not calibrated.
+     */
+    public Matrix getMagnetometerSoftIron() {
+        return magnetometerSoftIron != null ? new Matrix(magnetometerSoftIron) : null;
+    }
+
+    /**
+     * Gets number of generated accelerometer measurements.
+     *
+     * @return number of generated accelerometer measurements.
+     */
+    public int getAccelerometerMeasurements() {
+        return accelerometerMeasurements;
+    }
+
+    /**
+     * Gets number of generated gyroscope sequences.
+     *
+     * @return number of generated gyroscope sequences.
+     */
+    public int getGyroscopeSequences() {
+        return gyroscopeSequences;
+    }
+
+    /**
+     * Gets number of generated magnetometer measurements.
+     *
+     * @return number of generated magnetometer measurements.
+     */
+    public int getMagnetometerMeasurements() {
+        return magnetometerMeasurements;
+    }
+
+    /**
+     * Gets cause of failure.
+     *
+     * @return cause of failure or null if device did not fail.
+     */
+    public Exception getFailure() {
+        return failure;
+    }
+
+    /**
+     * Gets elapsed time since device started expressed in nanoseconds.
+     *
+     * @return elapsed time.
+     */
+    public long getElapsedNanos() {
+        return elapsedNanos;
+    }
+
+    /**
+     * Gets time waiting for calibrations of other devices to finish expressed in
+     * nanoseconds.
+     * This can be used to tune the maximum number of concurrent calibrations.
+     *
+     * @return time waiting for calibrations of other devices.
+     */
+    public long getCalibrationWaitNanos() {
+        return calibrationWaitNanos;
+    }
+}
@@ -0,0 +1,1015 @@
+/*
+ * Copyright (C) 2026 Alberto Irurueta Carro (alberto@irurueta.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.irurueta.navigation.inertial.calibration.pipeline;
+
+import com.irurueta.algebra.Matrix;
+import com.irurueta.navigation.LockedException;
+import com.irurueta.navigation.inertial.calibration.BodyKinematicsSequence;
+import com.irurueta.navigation.inertial.calibration.CalibrationException;
+import com.irurueta.navigation.inertial.calibration.IMUErrors;
+import com.irurueta.navigation.inertial.calibration.StandardDeviationBodyKinematics;
+import com.irurueta.navigation.inertial.calibration.StandardDeviationBodyMagneticFluxDensity;
+import com.irurueta.navigation.inertial.calibration.StandardDeviationTimedBodyKinematics;
+import com.irurueta.navigation.inertial.calibration.accelerometer.RobustKnownGravityNormAccelerometerCalibrator;
+import com.irurueta.navigation.inertial.calibration.generators.AccelerometerGyroscopeAndMagnetometerMeasurementsGenerator;
+import com.irurueta.navigation.inertial.calibration.generators.AccelerometerGyroscopeAndMagnetometerMeasurementsGeneratorListener;
+import com.irurueta.navigation.inertial.calibration.gyroscope.EasyGyroscopeCalibrator;
+import com.irurueta.navigation.inertial.calibration.gyroscope.RobustEasyGyroscopeCalibrator;
+import com.irurueta.navigation.inertial.calibration.intervals.TriadStaticIntervalDetector;
+import com.irurueta.navigation.inertial.calibration.magnetometer.RobustKnownMagneticFluxDensityNormMagnetometerCalibrator;
+import com.irurueta.navigation.inertial.calibration.noise.WindowedTriadNoiseEstimator;
+import com.irurueta.numerical.robust.RobustEstimatorMethod;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Calibrates the accelerometer, gyroscope and magnetometer of many devices concurrently.
+ * For each device, static intervals are detected and measurements are generated from its
+ * samples using an {@link AccelerometerGyroscopeAndMagnetometerMeasurementsGenerator}, and
+ * then robust calibrators estimate accelerometer, gyroscope and magnetometer errors.
+ * Generators and calibrators are not thread-safe, hence each device is processed by its
+ * own thread using its own instances, and at most a maximum number of devices are in
+ * flight at the same time.
+ * Robust calibrations are CPU-heavy, hence a semaphore bounds the number of calibrations
+ * executed concurrently among all devices, so that devices can keep detecting static
+ * intervals while other devices are being calibrated without oversubscribing processors.
+ * A run does not finish until all its devices finish, even when it is cancelled or its
+ * calling thread is interrupted, so that no device outlives the run that started it.
+ * Devices not finishing within a timeout are reported as timed out. Since calibrators
+ * cannot be interrupted, timeouts and cancellations are checked between samples and
+ * between calibrations.
+ * Device threads are created using a {@link ThreadFactory}, which allows using virtual
+ * threads on runtimes supporting them.
+ */
+public class CalibrationPipelineRunner {
+
+    /**
+     * Default robust estimator method.
+     */
+    public static final RobustEstimatorMethod DEFAULT_ROBUST_METHOD = RobustEstimatorMethod.LMEDS;
+
+    /**
+     * Indicates whether z-axis is assumed to be common for accelerometer, gyroscope and
+     * magnetometer by default.
+     */
+    public static final boolean DEFAULT_USE_COMMON_Z_AXIS = false;
+
+    /**
+     * Indicates whether gyroscope G-dependent cross biases are estimated by default.
+     */
+    public static final boolean DEFAULT_ESTIMATE_G_DEPENDENT_CROSS_BIASES =
+            EasyGyroscopeCalibrator.DEFAULT_ESTIMATE_G_DEPENDENT_CROSS_BIASES;
+
+    /**
+     * Default time interval between samples expressed in seconds (s).
+     */
+    public static final double DEFAULT_TIME_INTERVAL_SECONDS =
+            WindowedTriadNoiseEstimator.DEFAULT_TIME_INTERVAL_SECONDS;
+
+    /**
+     * Default maximum number of iterations of each robust calibration.
+     */
+    public static final int DEFAULT_MAX_ITERATIONS = RobustEasyGyroscopeCalibrator.DEFAULT_MAX_ITERATIONS;
+
+    /**
+     * Minimum allowed number of iterations of each robust calibration.
+     */
+    public static final int MIN_ITERATIONS = RobustEasyGyroscopeCalibrator.MIN_ITERATIONS;
+
+    /**
+     * Default amount of confidence of each robust calibration.
+     */
+    public static final double DEFAULT_CONFIDENCE = RobustEasyGyroscopeCalibrator.DEFAULT_CONFIDENCE;
+
+    /**
+     * Minimum allowed amount of confidence of each robust calibration.
+     */
+    public static final double MIN_CONFIDENCE = RobustEasyGyroscopeCalibrator.MIN_CONFIDENCE;
+
+    /**
+     * Maximum allowed amount of confidence of each robust calibration.
+     */
+    public static final double MAX_CONFIDENCE = RobustEasyGyroscopeCalibrator.MAX_CONFIDENCE;
+
+    /**
+     * Minimum number of devices in flight or of concurrent calibrations.
+     */
+    public static final int MIN_CONCURRENCY = 1;
+
+    /**
+     * Maximum number of devices being processed at the same time.
+     */
+    private final int maxConcurrentDevices;
+
+    /**
+     * Maximum number of robust calibrations executed at the same time.
+     */
+    private final int maxConcurrentCalibrations;
+
+    /**
+     * Factory to create device threads or null to use daemon platform threads.
+     */
+    private final ThreadFactory threadFactory;
+
+    /**
+     * Permits to execute robust calibrations.
+     */
+    private final Semaphore calibrationPermits;
+
+    /**
+     * Threads of devices being processed in current run.
+     */
+    private final List<Thread> threads = new ArrayList<>();
+
+    /**
+     * Robust estimator method.
+     */
+    private RobustEstimatorMethod robustMethod = DEFAULT_ROBUST_METHOD;
+
+    /**
+     * Maximum number of iterations of each robust calibration.
+     */
+    private int maxIterations = DEFAULT_MAX_ITERATIONS;
+
+    /**
+     * Amount of confidence of each robust calibration.
+     */
+    private double confidence = DEFAULT_CONFIDENCE;
+
+    /**
+     * Indicates whether z-axis is assumed to be common for accelerometer, gyroscope and
+     * magnetometer.
+     */
+    private boolean commonAxisUsed = DEFAULT_USE_COMMON_Z_AXIS;
+
+    /**
+     * Indicates whether gyroscope G-dependent cross biases are estimated.
+     */
+    private boolean estimateGDependentCrossBiases = DEFAULT_ESTIMATE_G_DEPENDENT_CROSS_BIASES;
+
+    /**
+     * Time interval between samples expressed in seconds (s).
+     */
+    private double timeInterval = DEFAULT_TIME_INTERVAL_SECONDS;
+
+    /**
+     * Number of samples processed initially while devices are static to find their base
+     * noise level.
+     */
+    private int initialStaticSamples = TriadStaticIntervalDetector.DEFAULT_INITIAL_STATIC_SAMPLES;
+
+    /**
+     * Maximum time allowed for each device to finish expressed in seconds (s).
+     */
+    private double deviceTimeout = Double.POSITIVE_INFINITY;
+
+    /**
+     * Listener to handle events raised by this runner.
+     */
+    private volatile CalibrationPipelineRunnerListener listener;
+
+    /**
+     * Indicates whether this runner is running.
+     */
+    private volatile boolean running;
+
+    /**
+     * Indicates whether current run has been cancelled.
+     */
+    private volatile boolean cancelled;
+
+    /**
+     * Constructor.
+     * One device and one calibration are processed at the same time for each available
+     * processor.
+     */
+    public CalibrationPipelineRunner() {
+        this(Runtime.getRuntime().availableProcessors(), Runtime.getRuntime().availableProcessors());
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param maxConcurrentDevices      maximum number of devices being processed at the same
+     *                                  time.
+     * @param maxConcurrentCalibrations maximum number of robust calibrations executed at the
+     *                                  same time.
+     * @throws IllegalArgumentException if any value is less than {@link #MIN_CONCURRENCY}.
+     */
+    public CalibrationPipelineRunner(final int maxConcurrentDevices, final int maxConcurrentCalibrations) {
+        this(maxConcurrentDevices, maxConcurrentCalibrations, null);
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param maxConcurrentDevices      maximum number of devices being processed at the same
+     *                                  time.
+     * @param maxConcurrentCalibrations maximum number of robust calibrations executed at the
+     *                                  same time.
+     * @param threadFactory             factory to create device threads or null to use daemon
+     *                                  platform threads.
+     * @throws IllegalArgumentException if any value is less than {@link #MIN_CONCURRENCY}.
+     */
+    public CalibrationPipelineRunner(final int maxConcurrentDevices, final int maxConcurrentCalibrations,
+                                     final ThreadFactory threadFactory) {
+        if (maxConcurrentDevices < MIN_CONCURRENCY || maxConcurrentCalibrations < MIN_CONCURRENCY) {
+            throw new IllegalArgumentException();
+        }
+
+        this.maxConcurrentDevices = maxConcurrentDevices;
+        this.maxConcurrentCalibrations = maxConcurrentCalibrations;
+        this.threadFactory = threadFactory;
+        calibrationPermits = new Semaphore(maxConcurrentCalibrations, true);
+    }
+
+    /**
+     * Gets maximum number of devices being processed at the same time.
+     *
+     * @return maximum number of devices being processed at the same time.
+     */
+    public int getMaxConcurrentDevices() {
+        return maxConcurrentDevices;
+    }
+
+    /**
+     * Gets maximum number of robust calibrations executed at the same time.
+     *
+     * @return maximum number of robust calibrations executed at the same time.
+     */
+    public int getMaxConcurrentCalibrations() {
+        return maxConcurrentCalibrations;
+    }
+
+    /**
+     * Gets robust estimator method.
+     *
+     * @return robust estimator method.
+     */
+    public RobustEstimatorMethod getRobustMethod() {
+        return robustMethod;
+    }
+
+    /**
+     * Sets robust estimator method.
+     * Only methods not requiring quality scores are supported.
+     *
+     * @param robustMethod robust estimator method.
+     * @throws LockedException          if runner is running.
+     * @throws NullPointerException     if provided method is null.
+     * @throws IllegalArgumentException if provided method requires quality scores.
+     */
+    public void setRobustMethod(final RobustEstimatorMethod robustMethod) throws LockedException {
+        if (running) {
+            throw new LockedException();
+        }
+        switch (robustMethod) {
+            case RANSAC, LMEDS, MSAC -> this.robustMethod = robustMethod;
+            default -> throw new IllegalArgumentException();
+        }
+    }
+
+    /**
+     * Gets maximum number of iterations of each robust calibration.
+     *
+     * @return maximum number of iterations of each robust calibration.
+     */
+    public int getMaxIterations() {
+        return maxIterations;
+    }
+
+    /**
+     * Sets maximum number of iterations of each robust calibration.
+     * Each iteration of gyroscope calibration integrates all sequences of a subset
+     * several times, hence limiting iterations bounds the time that each device keeps a
+     * calibration permit.
+     *
+     * @param maxIterations maximum number of iterations of each robust calibration.
+     * @throws LockedException          if runner is running.
+     * @throws IllegalArgumentException if provided value is less than {@link #MIN_ITERATIONS}.
+     */
+    public void setMaxIterations(final int maxIterations) throws LockedException {
+        if (running) {
+            throw new LockedException();
+        }
+        if (maxIterations < MIN_ITERATIONS) {
+            throw new IllegalArgumentException();
+        }
+        this.maxIterations = maxIterations;
+    }
+
+    /**
+     * Gets amount of confidence of each robust calibration expressed as a value between
+     * 0.0 and 1.0.
+     *
+     * @return amount of confidence of each robust calibration.
+     */
+    public double getConfidence() {
+        return confidence;
+    }
+
+    /**
+     * Sets amount of confidence of each robust calibration expressed as a value between
+     * 0.0 and 1.0.
+     * Robust calibrations stop before reaching the maximum number of iterations once the
+     * probability of having found a subset without outliers reaches this value.
+     *
+     * @param confidence amount of confidence of each robust calibration.
+     * @throws LockedException          if runner is running.
+     * @throws IllegalArgumentException if provided value is not between {@link #MIN_CONFIDENCE}
+     *                                  and {@link #MAX_CONFIDENCE}.
+     */
+    public void setConfidence(final double confidence) throws LockedException {
+        if (running) {
+            throw new LockedException();
+        }
+        if (confidence < MIN_CONFIDENCE || confidence > MAX_CONFIDENCE) {
+            throw new IllegalArgumentException();
+        }
+        this.confidence = confidence;
+    }
+
+    /**
+     * Indicates whether z-axis is assumed to be common for accelerometer, gyroscope and
+     * magnetometer.
+     *
+     * @return true if z-axis is assumed to be common, false otherwise.
+     */
+    public boolean isCommonAxisUsed() {
+        return commonAxisUsed;
+    }
+
+    /**
+     * Specifies whether z-axis is assumed to be common for accelerometer, gyroscope and
+     * magnetometer.
+     *
+     * @param commonAxisUsed true if z-axis is assumed to be common, false otherwise.
+     * @throws LockedException if runner is running.
+     */
+    public void setCommonAxisUsed(final boolean commonAxisUsed) throws LockedException {
+        if (running) {
+            throw new LockedException();
+        }
+        this.commonAxisUsed = commonAxisUsed;
+    }
+
+    /**
+     * Indicates whether gyroscope G-dependent cross biases are estimated.
+     *
+     * @return true if G-dependent cross biases are estimated, false otherwise.
+     */
+    public boolean isGDependentCrossBiasesEstimated() {
+        return estimateGDependentCrossBiases;
+    }
+
+    /**
+     * Specifies whether gyroscope G-dependent cross biases are estimated.
+     *
+     * @param estimateGDependentCrossBiases true if G-dependent cross biases are estimated,
+     *                                      false otherwise.
+     * @throws LockedException if runner is running.
+     */
+    public void setGDependentCrossBiasesEstimated(final boolean estimateGDependentCrossBiases)
+            throws LockedException {
+        if (running) {
+            throw new LockedException();
+        }
+        this.estimateGDependentCrossBiases = estimateGDependentCrossBiases;
+    }
+
+    /**
+     * Gets time interval between samples expressed in seconds (s).
+     *
+     * @return time interval between samples.
+     */
+    public double getTimeInterval() {
+        return timeInterval;
+    }
+
+    /**
+     * Sets time interval between samples expressed in seconds (s).
+     *
+     * @param timeInterval time interval between samples.
+     * @throws LockedException          if runner is running.
+     * @throws IllegalArgumentException if provided value is negative.
+     */
+    public void setTimeInterval(final double timeInterval) throws LockedException {
+        if (running) {
+            throw new LockedException();
+        }
+        if (timeInterval < 0.0) {
+            throw new IllegalArgumentException();
+        }
+        this.timeInterval = timeInterval;
+    }
+
+    /**
+     * Gets number of samples processed initially while devices are static to find their
+     * base noise level.
+     *
+     * @return number of initial static samples.
+     */
+    public int getInitialStaticSamples() {
+        return initialStaticSamples;
+    }
+
+    /**
+     * Sets number of samples processed initially while devices are static to find their
+     * base noise level.
+     *
+     * @param initialStaticSamples number of initial static samples.
+     * @throws LockedException          if runner is running.
+     * @throws IllegalArgumentException if provided value is less than
+     *                                  {@link TriadStaticIntervalDetector#MINIMUM_INITIAL_STATIC_SAMPLES}.
+     */
+    public void setInitialStaticSamples(final int initialStaticSamples) throws LockedException {
+        if (running) {
+            throw new LockedException();
+        }
+        if (initialStaticSamples < TriadStaticIntervalDetector.MINIMUM_INITIAL_STATIC_SAMPLES) {
+            throw new IllegalArgumentException();
+        }
+        this.initialStaticSamples = initialStaticSamples;
+    }
+
+    /**
+     * Gets maximum time allowed for each device to finish expressed in seconds (s).
+     *
+     * @return maximum time allowed for each device or infinity if there is no timeout.
+     */
+    public double getDeviceTimeout() {
+        return deviceTimeout;
+    }
+
+    /**
+     * Sets maximum time allowed for each device to finish expressed in seconds (s).
+     * Time spent waiting for other devices to finish before a device starts is not taken
+     * into account.
+     *
+     * @param deviceTimeout maximum time allowed for each device or infinity if there is no
+     *                      timeout.
+     * @throws LockedException          if runner is running.
+     * @throws IllegalArgumentException if provided value is not positive.
+     */
+    public void setDeviceTimeout(final double deviceTimeout) throws LockedException {
+        if (running) {
+            throw new LockedException();
+        }
+        if (!(deviceTimeout > 0.0)) {
+            throw new IllegalArgumentException();
+        }
+        this.deviceTimeout = deviceTimeout;
+    }
+
+    /**
+     * Gets listener to handle events raised by this runner.
+     *
+     * @return listener to handle events raised by this runner.
+     */
+    public CalibrationPipelineRunnerListener getListener() {
+        return listener;
+    }
+
+    /**
+     * Sets listener to handle events raised by this runner.
+     *
+     * @param listener listener to handle events raised by this runner.
+     * @throws LockedException if runner is running.
+     */
+    public void setListener(final CalibrationPipelineRunnerListener listener) throws LockedException {
+        if (running) {
+            throw new LockedException();
+        }
+        this.listener = listener;
+    }
+
+    /**
+     * Indicates whether this runner is running.
+     *
+     * @return true if running, false otherwise.
+     */
+    public boolean isRunning() {
+        return running;
+    }
+
+    /**
+     * Indicates whether current or last run was cancelled.
+     *
+     * @return true if cancelled, false otherwise.
+     */
+    public boolean isCancelled() {
+        return cancelled;
+    }
+
+    /**
+     * Calibrates provided devices and waits until all of them finish.
+     * If the calling thread is interrupted, the run is cancelled, and this method waits
+     * for all started devices to finish before throwing.
+     *
+     * @param devices devices to be calibrated.
+     * @return results of devices in the same order as provided devices.
+     * @throws LockedException      if runner is already running.
+     * @throws NullPointerException if provided list or any device is null.
+     * @throws InterruptedException if calling thread is interrupted.
+     */
+    public List<CalibrationPipelineResult> run(final List<? extends CalibrationPipelineDevice> devices)
+            throws LockedException, InterruptedException {
+        for (final var device : devices) {
+            Objects.requireNonNull(device);
+        }
+
+        synchronized (this) {
+            if (running) {
+                throw new LockedException();
+            }
+            running = true;
+            cancelled = false;
+        }
+
+        final var results = new CalibrationPipelineResult[devices.size()];
+        final var devicePermits = new Semaphore(maxConcurrentDevices);
+        InterruptedException interruption = null;
+        try {
+            for (var i = 0; i < results.length; i++) {
+                devicePermits.acquire();
+                if (cancelled) {
+                    break;
+                }
+
+                final var index = i;
+                final var device = devices.get(i);
+                final Runnable task = () -> {
+                    try {
+                        results[index] = new DeviceCalibration(device).calibrate();
+                        final var l = listener;
+                        if (l != null) {
+                            l.onDeviceFinished(this, results[index]);
+                        }
+                    } finally {
+                        devicePermits.release();
+                    }
+                };
+                startThread(task, i);
+            }
+        } catch (final InterruptedException e) {
+            interruption = e;
+            cancel();
+        }
+
+        try {
+            interruption = joinThreads(interruption);
+        } finally {
+            synchronized (threads) {
+                threads.clear();
+            }
+            running = false;
+        }
+
+        for (var i = 0; i < results.length; i++) {
+            if (results[i] == null) {
+                results[i] = new CalibrationPipelineResult(devices.get(i), CalibrationPipelineResult.Status.CANCELLED,
+                        null, null, null, 0, 0, 0, null, 0L, 0L);
+            }
+        }
+
+        if (interruption != null) {
+            throw interruption;
+        }
+
+        return Collections.unmodifiableList(Arrays.asList(results));
+    }
+
+    /**
+     * Cancels current run.
+     * Devices not started yet are not started, and started devices stop as soon as they
+     * check for cancellation. Cancelled devices are reported with
+     * {@link CalibrationPipelineResult.Status#CANCELLED} status.
+     */
+    public void cancel() {
+        if (!running) {
+            return;
+        }
+
+        cancelled = true;
+        synchronized (threads) {
+            for (final var thread : threads) {
+                thread.interrupt();
+            }
+        }
+    }
+
+    /**
+     * Creates and starts the thread processing a device.
+     *
+     * @param task  task processing device.
+     * @param index index of device.
+     */
+    private void startThread(final Runnable task, final int index) {
+        final Thread thread;
+        if (threadFactory != null) {
+            thread = threadFactory.newThread(task);
+        } else {
+            thread = new Thread(task, "calibration-pipeline-device-" + index);
+            thread.setDaemon(true);
+        }
+
+        synchronized (threads) {
+            threads.add(thread);
+        }
+
+        // a device started after cancellation stops as soon as it checks for it
+        thread.start();
+        if (cancelled) {
+            thread.interrupt();
+        }
+    }
+
+    /**
+     * Waits for all started threads to finish.
+     * If calling thread is interrupted while waiting, current run is cancelled and
+     * threads are waited again.
+     *
+     * @param interruption previous interruption of calling thread or null.
+     * @return interruption of calling thread or null if it was never interrupted.
+     */
+    private InterruptedException joinThreads(final InterruptedException interruption) {
+        final List<Thread> started;
+        synchronized (threads) {
+            started = new ArrayList<>(threads);
+        }
+
+        var result = interruption;
+        for (final var thread : started) {
+            while (thread.isAlive()) {
+                try {
+                    thread.join();
+                } catch (final InterruptedException e) {
+                    if (result == null) {
+                        result = e;
+                    }
+                    cancel();
+                }
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Calibration of a single device, which collects the measurements generated from its
+     * samples and then calibrates its sensors.
+     */
+    private class DeviceCalibration implements AccelerometerGyroscopeAndMagnetometerMeasurementsGeneratorListener {
+
+        /**
+         * Device being calibrated.
+         */
+        private final CalibrationPipelineDevice device;
+
+        /**
+         * Generated accelerometer measurements.
+         */
+        private final List<StandardDeviationBodyKinematics> accelerometerMeasurements = new ArrayList<>();
+
+        /**
+         * Generated gyroscope sequences.
+         */
+        private final List<BodyKinematicsSequence<StandardDeviationTimedBodyKinematics>> gyroscopeSequences =
+                new ArrayList<>();
+
+        /**
+         * Generated magnetometer measurements.
+         */
+        private final List<StandardDeviationBodyMagneticFluxDensity> magnetometerMeasurements =
+                new ArrayList<>();
+
+        /**
+         * Time when device started expressed in nanoseconds.
+         */
+        private final long startNanos;
+
+        /**
+         * Time when device times out expressed in nanoseconds, or start time if there is
+         * no timeout.
+         */
+        private final long deadlineNanos;
+
+        /**
+         * Indicates whether device has a timeout.
+         */
+        private final boolean timed;
+
+        /**
+         * Reason why static interval detection failed or null if it did not fail.
+         */
+        private TriadStaticIntervalDetector.ErrorReason errorReason;
+
+        /**
+         * Time waiting for calibrations of other devices to finish expressed in nanoseconds.
+         */
+        private long calibrationWaitNanos;
+
+        /**
+         * Constructor.
+         *
+         * @param device device to be calibrated.
+         */
+        DeviceCalibration(final CalibrationPipelineDevice device) {
+            this.device = device;
+            startNanos = System.nanoTime();
+            timed = Double.isFinite(deviceTimeout);
+            deadlineNanos = timed ? startNanos + (long) (deviceTimeout * 1e9) : startNanos;
+        }
+
+        /**
+         * Detects static intervals, generates measurements and calibrates device.
+         *
+         * @return result of device.
+         */
+        CalibrationPipelineResult calibrate() {
+            try {
+                final var generator = new AccelerometerGyroscopeAndMagnetometerMeasurementsGenerator(this);
+                generator.setTimeInterval(timeInterval);
+                generator.setInitialStaticSamples(initialStaticSamples);
+
+                for (final var sample : device.getSamples()) {
+                    checkDeadline();
+                    generator.process(sample);
+                    if (errorReason != null) {
+                        throw new CalibrationException("Static interval detection failed: " + errorReason);
+                    }
+                }
+
+                // accelerometer calibration is required to calibrate gyroscope
+                acquireCalibrationPermit();
+                final RobustKnownGravityNormAccelerometerCalibrator accelerometerCalibrator;
+                try {
+                    accelerometerCalibrator = RobustKnownGravityNormAccelerometerCalibrator.create(
+                            device.getGroundTruthGravityNorm(), accelerometerMeasurements, commonAxisUsed,
+                            robustMethod);
+                    accelerometerCalibrator.setMaxIterations(maxIterations);
+                    accelerometerCalibrator.setConfidence(confidence);
+                    accelerometerCalibrator.calibrate();
+                } finally {
+                    calibrationPermits.release();
+                }
+
+                // initial gyroscope bias is the average angular rate during initialization
+                acquireCalibrationPermit();
+                final RobustEasyGyroscopeCalibrator gyroscopeCalibrator;
+                try {
+                    gyroscopeCalibrator = RobustEasyGyroscopeCalibrator.create(gyroscopeSequences,
+                            commonAxisUsed, estimateGDependentCrossBiases,
+                            generator.getInitialAvgAngularSpeedTriad().getValuesAsMatrix(), new Matrix(3, 3),
+                            new Matrix(3, 3), accelerometerCalibrator.getEstimatedBiasesAsMatrix(),
+                            accelerometerCalibrator.getEstimatedMa(), robustMethod);
+                    // default subset size assumes that G-dependent cross biases are estimated
+                    gyroscopeCalibrator.setPreliminarySubsetSize(
+                            gyroscopeCalibrator.getMinimumRequiredMeasurementsOrSequences());
+                    gyroscopeCalibrator.setMaxIterations(maxIterations);
+                    gyroscopeCalibrator.setConfidence(confidence);
+                    gyroscopeCalibrator.calibrate();
+                } finally {
+                    calibrationPermits.release();
+                }
+
+                acquireCalibrationPermit();
+                final RobustKnownMagneticFluxDensityNormMagnetometerCalibrator magnetometerCalibrator;
+                try {
+                    magnetometerCalibrator = RobustKnownMagneticFluxDensityNormMagnetometerCalibrator.create(
+                            device.getGroundTruthMagneticFluxDensityNorm(), magnetometerMeasurements,
+                            commonAxisUsed, robustMethod);
+                    magnetometerCalibrator.setMaxIterations(maxIterations);
+                    magnetometerCalibrator.setConfidence(confidence);
+                    magnetometerCalibrator.calibrate();
+                } finally {
+                    calibrationPermits.release();
+                }
+
+                final var errors = new IMUErrors(accelerometerCalibrator.getEstimatedBiases(),
+                        gyroscopeCalibrator.getEstimatedBiases(), accelerometerCalibrator.getEstimatedMa(),
+                        gyroscopeCalibrator.getEstimatedMg(), gyroscopeCalibrator.getEstimatedGg(),
+                        generator.getAccelerometerBaseNoiseLevelRootPsd(),
+                        generator.getGyroscopeBaseNoiseLevelRootPsd(), 0.0, 0.0);
+
+                return createResult(CalibrationPipelineResult.Status.CALIBRATED, errors,
+                        magnetometerCalibrator.getEstimatedHardIron(), magnetometerCalibrator.getEstimatedMm(),
+                        null);
+            } catch (final TimeoutException e) {
+                return createResult(CalibrationPipelineResult.Status.TIMED_OUT, null, null, null, null);
+            } catch (final CancellationException | InterruptedException e) {
+                return createResult(CalibrationPipelineResult.Status.CANCELLED, null, null, null, null);
+            } catch (final Exception e) {
+                return createResult(CalibrationPipelineResult.Status.FAILED, null, null, null, e);
+            }
+        }
+
+        /**
+         * Called when initialization starts.
+         *
+         * @param generator generator raising the event.
+         */
+        @Override
+        public void onInitializationStarted(
+                final AccelerometerGyroscopeAndMagnetometerMeasurementsGenerator generator) {
+            // no action needed
+        }
+
+        /**
+         * Called when initialization completes.
+         *
+         * @param generator                   generator raising the event.
+         * @param accelerometerBaseNoiseLevel base accelerometer noise level.
+         */
+        @Override
+        public void onInitializationCompleted(
+                final AccelerometerGyroscopeAndMagnetometerMeasurementsGenerator generator,
+                final double accelerometerBaseNoiseLevel) {
+            // no action needed
+        }
+
+        /**
+         * Called when an error occurs.
+         *
+         * @param generator generator raising the event.
+         * @param reason    reason of error.
+         */
+        @Override
+        public void onError(
+                final AccelerometerGyroscopeAndMagnetometerMeasurementsGenerator generator,
+                final TriadStaticIntervalDetector.ErrorReason reason) {
+            errorReason = reason;
+        }
+
+        /**
+         * Called when a static interval is detected.
+         *
+         * @param generator generator raising the event.
+         */
+        @Override
+        public void onStaticIntervalDetected(
+                final AccelerometerGyroscopeAndMagnetometerMeasurementsGenerator generator) {
+            // no action needed
+        }
+
+        /**
+         * Called when a dynamic interval is detected.
+         *
+         * @param generator generator raising the event.
+         */
+        @Override
+        public void onDynamicIntervalDetected(
+                final AccelerometerGyroscopeAndMagnetometerMeasurementsGenerator generator) {
+            // no action needed
+        }
+
+        /**
+         * Called when a static interval is skipped.
+         *
+         * @param generator generator raising the event.
+         */
+        @Override
+        public void onStaticIntervalSkipped(
+                final AccelerometerGyroscopeAndMagnetometerMeasurementsGenerator generator) {
+            // no action needed
+        }
+
+        /**
+         * Called when a dynamic interval is skipped.
+         *
+         * @param generator generator raising the event.
+         */
+        @Override
+        public void onDynamicIntervalSkipped(
+                final AccelerometerGyroscopeAndMagnetometerMeasurementsGenerator generator) {
+            // no action needed
+        }
+
+        /**
+         * Called when an accelerometer measurement is generated.
+         *
+         * @param generator   generator raising the event.
+         * @param measurement generated measurement.
+         */
+        @Override
+        public void onGeneratedAccelerometerMeasurement(
+                final AccelerometerGyroscopeAndMagnetometerMeasurementsGenerator generator,
+                final StandardDeviationBodyKinematics measurement) {
+            accelerometerMeasurements.add(measurement);
+        }
+
+        /**
+         * Called when a gyroscope sequence is generated.
+         *
+         * @param generator   generator raising the event.
+         * @param measurement generated sequence.
+         */
+        @Override
+        public void onGeneratedGyroscopeMeasurement(
+                final AccelerometerGyroscopeAndMagnetometerMeasurementsGenerator generator,
+                final BodyKinematicsSequence<StandardDeviationTimedBodyKinematics> measurement) {
+            gyroscopeSequences.add(measurement);
+        }
+
+        /**
+         * Called when a magnetometer measurement is generated.
+         *
+         * @param generator   generator raising the event.
+         * @param measurement generated measurement.
+         */
+        @Override
+        public void onGeneratedMagnetometerMeasurement(
+                final AccelerometerGyroscopeAndMagnetometerMeasurementsGenerator generator,
+                final StandardDeviationBodyMagneticFluxDensity measurement) {
+            magnetometerMeasurements.add(measurement);
+        }
+
+        /**
+         * Called when generator is reset.
+         *
+         * @param generator generator raising the event.
+         */
+        @Override
+        public void onReset(final AccelerometerGyroscopeAndMagnetometerMeasurementsGenerator generator) {
+            // no action needed
+        }
+
+        /**
+         * Checks whether run has been cancelled or device has timed out.
+         *
+         * @throws CancellationException if run has been cancelled.
+         * @throws TimeoutException      if device has timed out.
+         */
+        private void checkDeadline() throws TimeoutException {
+            if (cancelled) {
+                throw new CancellationException();
+            }
+            if (timed && System.nanoTime() - deadlineNanos >= 0) {
+                throw new TimeoutException();
+            }
+        }
+
+        /**
+         * Waits until a robust calibration can be executed.
+         *
+         * @throws CancellationException if run has been cancelled.
+         * @throws TimeoutException      if device times out before a calibration can be executed.
+         * @throws InterruptedException  if thread is interrupted while waiting.
+         */
+        private void acquireCalibrationPermit() throws TimeoutException, InterruptedException {
+            checkDeadline();
+
+            final var waitStart = System.nanoTime();
+            try {
+                if (timed) {
+                    if (!calibrationPermits.tryAcquire(deadlineNanos - waitStart, TimeUnit.NANOSECONDS)) {
+                        throw new TimeoutException();
+                    }
+                } else {
+                    calibrationPermits.acquire();
+                }
+            } finally {
+                calibrationWaitNanos += System.nanoTime() - waitStart;
+            }
+        }
+
+        /**
+         * Creates result of device.
+         *
+         * @param status               status of device.
+         * @param errors               estimated accelerometer and gyroscope errors or null.
+         * @param magnetometerHardIron estimated magnetometer hard-iron or null.
+         * @param magnetometerSoftIron estimated magnetometer soft-iron matrix or null.
+         * @param failure              cause of failure or null.
+         * @return result of device.
+         */
+        private CalibrationPipelineResult createResult(
+                final CalibrationPipelineResult.Status status, final IMUErrors errors,
+                final double[] magnetometerHardIron, final Matrix magnetometerSoftIron, final Exception failure) {
+            return new CalibrationPipelineResult(device, status, errors, magnetometerHardIron, magnetometerSoftIron,
+                    accelerometerMeasurements.size(), gyroscopeSequences.size(), magnetometerMeasurements.size(),
+                    failure, System.nanoTime() - startNanos, calibrationWaitNanos);
+        }
+    }
+}
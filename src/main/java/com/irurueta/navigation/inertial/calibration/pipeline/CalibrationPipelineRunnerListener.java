@@ -0,0 +1,33 @@
+/*
+ * Copyright (C) 2026 Alberto Irurueta Carro (alberto@irurueta.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.irurueta.navigation.inertial.calibration.pipeline;
+
+/**
+ * Listener defining events of CalibrationPipelineRunner.
+ * Events are raised on the thread calibrating each device, hence implementations must
+ * be thread-safe.
+ */
+public interface CalibrationPipelineRunnerListener {
+
+    /**
+     * Called when a device finishes, either because it was calibrated, failed, timed out
+     * or was cancelled.
+     *
+     * @param runner runner raising the event.
+     * @param result result of device.
+     */
+    void onDeviceFinished(final CalibrationPipelineRunner runner, final CalibrationPipelineResult result);
+}
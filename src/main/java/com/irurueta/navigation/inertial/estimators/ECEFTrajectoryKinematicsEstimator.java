@@ -0,0 +1,461 @@
+/*
+ * Copyright (C) 2026 Alberto Irurueta Carro (alberto@irurueta.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.irurueta.navigation.inertial.estimators;
+
+import com.irurueta.navigation.inertial.ECEFGravity;
+import com.irurueta.units.Time;
+import com.irurueta.units.TimeConverter;
+import com.irurueta.units.TimeUnit;
+
+import java.util.Objects;
+import java.util.stream.IntStream;
+
+/**
+ * Estimates body kinematics (specific force applied to a body and its angular rates) for a whole
+ * trajectory sampled at a constant rate and stored as primitive arrays.
+ * This is equivalent to calling
+ * {@link ECEFKinematicsEstimator#estimateKinematics(double, com.irurueta.navigation.frames.CoordinateTransformation,
+ * com.irurueta.navigation.frames.CoordinateTransformation, double, double, double, double, double, double, double,
+ * double, double, com.irurueta.navigation.inertial.BodyKinematics)} for each pair of consecutive epochs, but:
+ * <ul>
+ *     <li>Rotation matrices are inverted by transposition, and the averaged body-to-ECEF-frame transformation
+ *     (which is not orthonormal) is solved in closed form instead of using a general matrix inverse.</li>
+ *     <li>Rotation angle scaling and averaging coefficients are evaluated using Taylor series for small
+ *     angles, which is always the case for high-rate trajectories.</li>
+ *     <li>No objects are created for each epoch.</li>
+ *     <li>Since pairs of epochs are independent, trajectories can be optionally processed in parallel
+ *     chunks.</li>
+ * </ul>
+ * Attitudes are provided as body-to-ECEF-frame coordinate transformation matrices, stored for each epoch
+ * as 9 consecutive values in column order (i.e. the same layout as the buffer of a
+ * {@link com.irurueta.algebra.Matrix}).
+ * Estimated kinematics are stored at the position of the most recent epoch of each pair, so that
+ * kinematics at position k are the ones measured by an ideal IMU between epochs k - 1 and k.
+ */
+public class ECEFTrajectoryKinematicsEstimator {
+
+    /**
+     * Earth rotation rate expressed in radians per second (rad/s).
+     */
+    public static final double EARTH_ROTATION_RATE = ECEFKinematicsEstimator.EARTH_ROTATION_RATE;
+
+    /**
+     * Number of values stored for each body-to-ECEF-frame coordinate transformation matrix.
+     */
+    public static final int ATTITUDE_LENGTH = 9;
+
+    /**
+     * Default number of epochs processed by each parallel chunk.
+     */
+    public static final int DEFAULT_CHUNK_SIZE = 8192;
+
+    /**
+     * Angle threshold below which Taylor series are used.
+     * At this threshold, truncation errors of the series are below double precision.
+     */
+    private static final double SERIES_THRESHOLD = 1e-2;
+
+    /**
+     * Constructor.
+     * Prevents instantiation of utility class.
+     */
+    private ECEFTrajectoryKinematicsEstimator() {
+    }
+
+    /**
+     * Estimates body kinematics for a trajectory.
+     * Kinematics are estimated for epochs within range (offset, offset + length) using the previous epoch of
+     * each one, and are stored at the same positions of result arrays. Results at position offset are left
+     * untouched.
+     *
+     * @param timeInterval time interval between epochs expressed in seconds (s).
+     * @param x            cartesian x coordinates of body position expressed in meters (m) and resolved along
+     *                     ECEF-frame axes.
+     * @param y            cartesian y coordinates of body position expressed in meters (m) and resolved along
+     *                     ECEF-frame axes.
+     * @param z            cartesian z coordinates of body position expressed in meters (m) and resolved along
+     *                     ECEF-frame axes.
+     * @param vx           x coordinates of body velocity expressed in meters per second (m/s) and resolved
+     *                     along ECEF-frame axes.
+     * @param vy           y coordinates of body velocity expressed in meters per second (m/s) and resolved
+     *                     along ECEF-frame axes.
+     * @param vz           z coordinates of body velocity expressed in meters per second (m/s) and resolved
+     *                     along ECEF-frame axes.
+     * @param cbe          body-to-ECEF-frame coordinate transformation matrices, containing 9 values in column
+     *                     order for each epoch.
+     * @param offset       position of first epoch.
+     * @param length       number of epochs.
+     * @param fx           instance where estimated x coordinates of specific force expressed in meters per
+     *                     squared second (m/s^2) and resolved along body-frame axes will be stored.
+     * @param fy           instance where estimated y coordinates of specific force expressed in meters per
+     *                     squared second (m/s^2) and resolved along body-frame axes will be stored.
+     * @param fz           instance where estimated z coordinates of specific force expressed in meters per
+     *                     squared second (m/s^2) and resolved along body-frame axes will be stored.
+     * @param angularRateX instance where estimated x coordinates of angular rate expressed in radians per
+     *                     second (rad/s) and resolved along body-frame axes will be stored.
+     * @param angularRateY instance where estimated y coordinates of angular rate expressed in radians per
+     *                     second (rad/s) and resolved along body-frame axes will be stored.
+     * @param angularRateZ instance where estimated z coordinates of angular rate expressed in radians per
+     *                     second (rad/s) and resolved along body-frame axes will be stored.
+     * @throws IllegalArgumentException  if provided time interval is negative or length is negative.
+     * @throws IndexOutOfBoundsException if provided range is not valid for any of the arrays.
+     */
+    public static void estimateKinematics(
+            final double timeInterval, final double[] x, final double[] y, final double[] z,
+            final double[] vx, final double[] vy, final double[] vz, final double[] cbe,
+            final int offset, final int length, final double[] fx, final double[] fy, final double[] fz,
+            final double[] angularRateX, final double[] angularRateY, final double[] angularRateZ) {
+        estimateKinematics(timeInterval, x, y, z, vx, vy, vz, cbe, offset, length, fx, fy, fz,
+                angularRateX, angularRateY, angularRateZ, false);
+    }
+
+    /**
+     * Estimates body kinematics for a trajectory.
+     * Kinematics are estimated for epochs within range (offset, offset + length) using the previous epoch of
+     * each one, and are stored at the same positions of result arrays. Results at position offset are left
+     * untouched.
+     *
+     * @param timeInterval time interval between epochs expressed in seconds (s).
+     * @param x            cartesian x coordinates of body position expressed in meters (m) and resolved along
+     *                     ECEF-frame axes.
+     * @param y            cartesian y coordinates of body position expressed in meters (m) and resolved along
+     *                     ECEF-frame axes.
+     * @param z            cartesian z coordinates of body position expressed in meters (m) and resolved along
+     *                     ECEF-frame axes.
+     * @param vx           x coordinates of body velocity expressed in meters per second (m/s) and resolved
+     *                     along ECEF-frame axes.
+     * @param vy           y coordinates of body velocity expressed in meters per second (m/s) and resolved
+     *                     along ECEF-frame axes.
+     * @param vz           z coordinates of body velocity expressed in meters per second (m/s) and resolved
+     *                     along ECEF-frame axes.
+     * @param cbe          body-to-ECEF-frame coordinate transformation matrices, containing 9 values in column
+     *                     order for each epoch.
+     * @param offset       position of first epoch.
+     * @param length       number of epochs.
+     * @param fx           instance where estimated x coordinates of specific force expressed in meters per
+     *                     squared second (m/s^2) and resolved along body-frame axes will be stored.
+     * @param fy           instance where estimated y coordinates of specific force expressed in meters per
+     *                     squared second (m/s^2) and resolved along body-frame axes will be stored.
+     * @param fz           instance where estimated z coordinates of specific force expressed in meters per
+     *                     squared second (m/s^2) and resolved along body-frame axes will be stored.
+     * @param angularRateX instance where estimated x coordinates of angular rate expressed in radians per
+     *                     second (rad/s) and resolved along body-frame axes will be stored.
+     * @param angularRateY instance where estimated y coordinates of angular rate expressed in radians per
+     *                     second (rad/s) and resolved along body-frame axes will be stored.
+     * @param angularRateZ instance where estimated z coordinates of angular rate expressed in radians per
+     *                     second (rad/s) and resolved along body-frame axes will be stored.
+     * @param parallel     true to process the trajectory in parallel chunks of {@link #DEFAULT_CHUNK_SIZE}
+     *                     epochs using the common fork-join pool, false to process it in the calling thread.
+     * @throws IllegalArgumentException  if provided time interval is negative or length is negative.
+     * @throws IndexOutOfBoundsException if provided range is not valid for any of the arrays.
+     */
+    public static void estimateKinematics(
+            final double timeInterval, final double[] x, final double[] y, final double[] z,
+            final double[] vx, final double[] vy, final double[] vz, final double[] cbe,
+            final int offset, final int length, final double[] fx, final double[] fy, final double[] fz,
+            final double[] angularRateX, final double[] angularRateY, final double[] angularRateZ,
+            final boolean parallel) {
+        if (timeInterval < 0.0 || length < 0) {
+            throw new IllegalArgumentException();
+        }
+
+        Objects.checkFromIndexSize(offset, length, x.length);
+        Objects.checkFromIndexSize(offset, length, y.length);
+        Objects.checkFromIndexSize(offset, length, z.length);
+        Objects.checkFromIndexSize(offset, length, vx.length);
+        Objects.checkFromIndexSize(offset, length, vy.length);
+        Objects.checkFromIndexSize(offset, length, vz.length);
+        Objects.checkFromIndexSize((long) offset * ATTITUDE_LENGTH, (long) length * ATTITUDE_LENGTH,
+                cbe.length);
+        Objects.checkFromIndexSize(offset, length, fx.length);
+        Objects.checkFromIndexSize(offset, length, fy.length);
+        Objects.checkFromIndexSize(offset, length, fz.length);
+        Objects.checkFromIndexSize(offset, length, angularRateX.length);
+        Objects.checkFromIndexSize(offset, length, angularRateY.length);
+        Objects.checkFromIndexSize(offset, length, angularRateZ.length);
+
+        final var start = offset + 1;
+        final var end = offset + length;
+        if (start >= end) {
+            return;
+        }
+
+        if (parallel && end - start > DEFAULT_CHUNK_SIZE) {
+            final var chunks = (end - start + DEFAULT_CHUNK_SIZE - 1) / DEFAULT_CHUNK_SIZE;
+            IntStream.range(0, chunks).parallel().forEach(chunk -> {
+                final var chunkStart = start + chunk * DEFAULT_CHUNK_SIZE;
+                final var chunkEnd = Math.min(chunkStart + DEFAULT_CHUNK_SIZE, end);
+                estimateRange(timeInterval, x, y, z, vx, vy, vz, cbe, chunkStart, chunkEnd, fx, fy, fz,
+                        angularRateX, angularRateY, angularRateZ);
+            });
+        } else {
+            estimateRange(timeInterval, x, y, z, vx, vy, vz, cbe, start, end, fx, fy, fz,
+                    angularRateX, angularRateY, angularRateZ);
+        }
+    }
+
+    /**
+     * Estimates body kinematics for a trajectory.
+     * Kinematics are estimated for epochs within range (offset, offset + length) using the previous epoch of
+     * each one, and are stored at the same positions of result arrays. Results at position offset are left
+     * untouched.
+     *
+     * @param timeInterval time interval between epochs.
+     * @param x            cartesian x coordinates of body position expressed in meters (m) and resolved along
+     *                     ECEF-frame axes.
+     * @param y            cartesian y coordinates of body position expressed in meters (m) and resolved along
+     *                     ECEF-frame axes.
+     * @param z            cartesian z coordinates of body position expressed in meters (m) and resolved along
+     *                     ECEF-frame axes.
+     * @param vx           x coordinates of body velocity expressed in meters per second (m/s) and resolved
+     *                     along ECEF-frame axes.
+     * @param vy           y coordinates of body velocity expressed in meters per second (m/s) and resolved
+     *                     along ECEF-frame axes.
+     * @param vz           z coordinates of body velocity expressed in meters per second (m/s) and resolved
+     *                     along ECEF-frame axes.
+     * @param cbe          body-to-ECEF-frame coordinate transformation matrices, containing 9 values in column
+     *                     order for each epoch.
+     * @param offset       position of first epoch.
+     * @param length       number of epochs.
+     * @param fx           instance where estimated x coordinates of specific force expressed in meters per
+     *                     squared second (m/s^2) and resolved along body-frame axes will be stored.
+     * @param fy           instance where estimated y coordinates of specific force expressed in meters per
+     *                     squared second (m/s^2) and resolved along body-frame axes will be stored.
+     * @param fz           instance where estimated z coordinates of specific force expressed in meters per
+     *                     squared second (m/s^2) and resolved along body-frame axes will be stored.
+     * @param angularRateX instance where estimated x coordinates of angular rate expressed in radians per
+     *                     second (rad/s) and resolved along body-frame axes will be stored.
+     * @param angularRateY instance where estimated y coordinates of angular rate expressed in radians per
+     *                     second (rad/s) and resolved along body-frame axes will be stored.
+     * @param angularRateZ instance where estimated z coordinates of angular rate expressed in radians per
+     *                     second (rad/s) and resolved along body-frame axes will be stored.
+     * @param parallel     true to process the trajectory in parallel chunks of {@link #DEFAULT_CHUNK_SIZE}
+     *                     epochs using the common fork-join pool, false to process it in the calling thread.
+     * @throws IllegalArgumentException  if provided time interval is negative or length is negative.
+     * @throws IndexOutOfBoundsException if provided range is not valid for any of the arrays.
+     */
+    public static void estimateKinematics(
+            final Time timeInterval, final double[] x, final double[] y, final double[] z,
+            final double[] vx, final double[] vy, final double[] vz, final double[] cbe,
+            final int offset, final int length, final double[] fx, final double[] fy, final double[] fz,
+            final double[] angularRateX, final double[] angularRateY, final double[] angularRateZ,
+            final boolean parallel) {
+        estimateKinematics(TimeConverter.convert(timeInterval.getValue().doubleValue(), timeInterval.getUnit(),
+                        TimeUnit.SECOND), x, y, z, vx, vy, vz, cbe, offset, length, fx, fy, fz,
+                angularRateX, angularRateY, angularRateZ, parallel);
+    }
+
+    /**
+     * Estimates body kinematics for epochs within range [start, end), using the previous epoch of each one.
+     *
+     * @param timeInterval time interval between epochs expressed in seconds (s).
+     * @param x            cartesian x coordinates of body position.
+     * @param y            cartesian y coordinates of body position.
+     * @param z            cartesian z coordinates of body position.
+     * @param vx           x coordinates of body velocity.
+     * @param vy           y coordinates of body velocity.
+     * @param vz           z coordinates of body velocity.
+     * @param cbe          body-to-ECEF-frame coordinate transformation matrices.
+     * @param start        position of first epoch to be estimated (inclusive).
+     * @param end          position of last epoch to be estimated (exclusive).
+     * @param fx           instance where estimated x coordinates of specific force will be stored.
+     * @param fy           instance where estimated y coordinates of specific force will be stored.
+     * @param fz           instance where estimated z coordinates of specific force will be stored.
+     * @param angularRateX instance where estimated x coordinates of angular rate will be stored.
+     * @param angularRateY instance where estimated y coordinates of angular rate will be stored.
+     * @param angularRateZ instance where estimated z coordinates of angular rate will be stored.
+     */
+    private static void estimateRange(
+            final double timeInterval, final double[] x, final double[] y, final double[] z,
+            final double[] vx, final double[] vy, final double[] vz, final double[] cbe,
+            final int start, final int end, final double[] fx, final double[] fy, final double[] fz,
+            final double[] angularRateX, final double[] angularRateY, final double[] angularRateZ) {
+        if (timeInterval == 0.0) {
+            // If time interval is zero, set angular rate and specific force to zero
+            for (var k = start; k < end; k++) {
+                fx[k] = 0.0;
+                fy[k] = 0.0;
+                fz[k] = 0.0;
+                angularRateX[k] = 0.0;
+                angularRateY[k] = 0.0;
+                angularRateZ[k] = 0.0;
+            }
+            return;
+        }
+
+        // Earth rotation over the update interval (2.145), which is the same for all epochs
+        final var alpha = EARTH_ROTATION_RATE * timeInterval;
+        final var cosAlpha = Math.cos(alpha);
+        final var sinAlpha = Math.sin(alpha);
+        final var halfAlpha = 0.5 * alpha;
+        final var twoOmega = 2.0 * EARTH_ROTATION_RATE;
+        final var invTimeInterval = 1.0 / timeInterval;
+
+        final var gravity = new ECEFGravity();
+
+        for (var k = start; k < end; k++) {
+            final var p = k - 1;
+            final var o = p * ATTITUDE_LENGTH;
+            final var n = k * ATTITUDE_LENGTH;
+
+            // previous body-to-ECEF-frame matrix (column order)
+            final var o00 = cbe[o];
+            final var o10 = cbe[o + 1];
+            final var o20 = cbe[o + 2];
+            final var o01 = cbe[o + 3];
+            final var o11 = cbe[o + 4];
+            final var o21 = cbe[o + 5];
+            final var o02 = cbe[o + 6];
+            final var o12 = cbe[o + 7];
+            final var o22 = cbe[o + 8];
+
+            // current body-to-ECEF-frame matrix (column order)
+            final var n00 = cbe[n];
+            final var n10 = cbe[n + 1];
+            final var n20 = cbe[n + 2];
+            final var n01 = cbe[n + 3];
+            final var n11 = cbe[n + 4];
+            final var n21 = cbe[n + 5];
+            final var n02 = cbe[n + 6];
+            final var n12 = cbe[n + 7];
+            final var n22 = cbe[n + 8];
+
+            // e = cEarth * oldCbe
+            final var e00 = cosAlpha * o00 + sinAlpha * o10;
+            final var e01 = cosAlpha * o01 + sinAlpha * o11;
+            final var e02 = cosAlpha * o02 + sinAlpha * o12;
+            final var e10 = cosAlpha * o10 - sinAlpha * o00;
+            final var e11 = cosAlpha * o11 - sinAlpha * o01;
+            final var e12 = cosAlpha * o12 - sinAlpha * o02;
+
+            // cOldNew = cBe^T * cEarth * oldCbe, where the transpose is used to invert the rotation.
+            // Only the diagonal and off-diagonal differences are required
+            final var m00 = n00 * e00 + n10 * e10 + n20 * o20;
+            final var m11 = n01 * e01 + n11 * e11 + n21 * o21;
+            final var m22 = n02 * e02 + n12 * e12 + n22 * o22;
+            final var m01 = n00 * e01 + n10 * e11 + n20 * o21;
+            final var m10 = n01 * e00 + n11 * e10 + n21 * o20;
+            final var m02 = n00 * e02 + n10 * e12 + n20 * o22;
+            final var m20 = n02 * e00 + n12 * e10 + n22 * o20;
+            final var m12 = n01 * e02 + n11 * e12 + n21 * o22;
+            final var m21 = n02 * e01 + n12 * e11 + n22 * o21;
+
+            // Calculate the approximate angular rate with respect an inertial frame
+            var alphaX = 0.5 * (m12 - m21);
+            var alphaY = 0.5 * (m20 - m02);
+            var alphaZ = 0.5 * (m01 - m10);
+
+            // Calculate and apply the scaling factor theta / sin(theta), where the norm of the skew symmetric
+            // part is sin(theta)
+            final var sin2 = alphaX * alphaX + alphaY * alphaY + alphaZ * alphaZ;
+            final var cos = 0.5 * (m00 + m11 + m22 - 1.0);
+            final double scale;
+            if (sin2 < SERIES_THRESHOLD * SERIES_THRESHOLD && cos > 0.0) {
+                // asin(s) / s = 1 + s^2 / 6 + 3 s^4 / 40 + 5 s^6 / 112 + ...
+                scale = 1.0 + sin2 * (1.0 / 6.0 + sin2 * (3.0 / 40.0 + sin2 * (5.0 / 112.0)));
+            } else {
+                final var sin = Math.sqrt(sin2);
+                scale = sin > 0.0 ? Math.atan2(sin, cos) / sin : 1.0;
+            }
+            alphaX *= scale;
+            alphaY *= scale;
+            alphaZ *= scale;
+
+            // Calculate the angular rate
+            angularRateX[k] = alphaX * invTimeInterval;
+            angularRateY[k] = alphaY * invTimeInterval;
+            angularRateZ[k] = alphaZ * invTimeInterval;
+
+            // Calculate the specific force resolved about ECEF-frame axes using (5.36)
+            ECEFGravityEstimator.estimateGravity(x[k], y[k], z[k], gravity);
+            final var oldVx = vx[p];
+            final var oldVy = vy[p];
+            final var oldVz = vz[p];
+            final var fex = (vx[k] - oldVx) * invTimeInterval - gravity.getGx() - twoOmega * oldVy;
+            final var fey = (vy[k] - oldVy) * invTimeInterval - gravity.getGy() + twoOmega * oldVx;
+            final var fez = (vz[k] - oldVz) * invTimeInterval - gravity.getGz();
+
+            // Calculate the average body-to-ECEF-frame coordinate transformation matrix over the update
+            // interval using (5.84) and (5.85), where:
+            // I + value1 * [alpha x] + value2 * [alpha x]^2 =
+            // (1 - value2 * |alpha|^2) * I + value1 * [alpha x] + value2 * alpha * alpha^T
+            final var alphaNorm2 = alphaX * alphaX + alphaY * alphaY + alphaZ * alphaZ;
+            final double value1;
+            final double value2;
+            if (alphaNorm2 < SERIES_THRESHOLD * SERIES_THRESHOLD) {
+                // (1 - cos(a)) / a^2 = 1/2 - a^2 / 24 + a^4 / 720 - ...
+                value1 = 0.5 - alphaNorm2 * (1.0 / 24.0 - alphaNorm2 * (1.0 / 720.0));
+                // (1 - sin(a) / a) / a^2 = 1/6 - a^2 / 120 + a^4 / 5040 - ...
+                value2 = 1.0 / 6.0 - alphaNorm2 * (1.0 / 120.0 - alphaNorm2 * (1.0 / 5040.0));
+            } else {
+                final var alphaNorm = Math.sqrt(alphaNorm2);
+                value1 = (1.0 - Math.cos(alphaNorm)) / alphaNorm2;
+                value2 = (1.0 - Math.sin(alphaNorm) / alphaNorm) / alphaNorm2;
+            }
+
+            final var d = 1.0 - value2 * alphaNorm2;
+            final var a00 = d + value2 * alphaX * alphaX;
+            final var a11 = d + value2 * alphaY * alphaY;
+            final var a22 = d + value2 * alphaZ * alphaZ;
+            final var xy = value2 * alphaX * alphaY;
+            final var xz = value2 * alphaX * alphaZ;
+            final var yz = value2 * alphaY * alphaZ;
+            final var a01 = xy - value1 * alphaZ;
+            final var a10 = xy + value1 * alphaZ;
+            final var a02 = xz + value1 * alphaY;
+            final var a20 = xz - value1 * alphaY;
+            final var a12 = yz - value1 * alphaX;
+            final var a21 = yz + value1 * alphaX;
+
+            // b = oldCbe * a
+            final var b00 = o00 * a00 + o01 * a10 + o02 * a20;
+            final var b01 = o00 * a01 + o01 * a11 + o02 * a21;
+            final var b02 = o00 * a02 + o01 * a12 + o02 * a22;
+            final var b10 = o10 * a00 + o11 * a10 + o12 * a20;
+            final var b11 = o10 * a01 + o11 * a11 + o12 * a21;
+            final var b12 = o10 * a02 + o11 * a12 + o12 * a22;
+            final var b20 = o20 * a00 + o21 * a10 + o22 * a20;
+            final var b21 = o20 * a01 + o21 * a11 + o22 * a21;
+            final var b22 = o20 * a02 + o21 * a12 + o22 * a22;
+
+            // aveCbe = b - 0.5 * [earth rotation x] * b
+            final var c00 = b00 + halfAlpha * b10;
+            final var c01 = b01 + halfAlpha * b11;
+            final var c02 = b02 + halfAlpha * b12;
+            final var c10 = b10 - halfAlpha * b00;
+            final var c11 = b11 - halfAlpha * b01;
+            final var c12 = b12 - halfAlpha * b02;
+
+            // Transform specific force to body-frame resolving axes using (5.81) by solving
+            // aveCbe * f = fe in closed form (the average matrix is not orthonormal).
+            // Rows of the inverse are the cross products of columns of aveCbe divided by its determinant
+            final var i00 = c11 * b22 - b21 * c12;
+            final var i01 = b21 * c02 - c01 * b22;
+            final var i02 = c01 * c12 - c11 * c02;
+            final var i10 = c12 * b20 - b22 * c10;
+            final var i11 = b22 * c00 - c02 * b20;
+            final var i12 = c02 * c10 - c12 * c00;
+            final var i20 = c10 * b21 - b20 * c11;
+            final var i21 = b20 * c01 - c00 * b21;
+            final var i22 = c00 * c11 - c10 * c01;
+            final var invDet = 1.0 / (c00 * i00 + c10 * i01 + b20 * i02);
+
+            fx[k] = (i00 * fex + i01 * fey + i02 * fez) * invDet;
+            fy[k] = (i10 * fex + i11 * fey + i12 * fez) * invDet;
+            fz[k] = (i20 * fex + i21 * fey + i22 * fez) * invDet;
+        }
+    }
+}
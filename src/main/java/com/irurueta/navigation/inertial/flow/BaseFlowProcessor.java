@@ -0,0 +1,427 @@
+/*
+ * Copyright (C) 2026 Alberto Irurueta Carro (alberto@irurueta.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.irurueta.navigation.inertial.flow;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Flow;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.SubmissionPublisher;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Base class for {@link Flow.Processor} implementations adapting components that are
+ * not thread-safe (static interval detectors, measurement generators and filtered
+ * estimators) so that they can be composed into reactive pipelines.
+ * Received items are processed sequentially on the thread delivering them, and results
+ * are published to subscribers through a {@link SubmissionPublisher} having a bounded
+ * buffer for each subscriber.
+ * Backpressure is propagated both ways:
+ * - At most a buffer capacity of items is requested from upstream, and more items are
+ * only requested once at least half of them have been processed.
+ * - When the buffer of any subscriber is full, publishing blocks until the subscriber
+ * consumes items, which in turn stops requesting items from upstream.
+ * Hence, memory remains bounded during ingestion spikes.
+ * Batches of items can be consumed through {@link #getBatchSubscriber()} to amortize
+ * the per-signal overhead, and results can be grouped into batches by subscribing a
+ * {@link FlowBatchingProcessor}.
+ * If processing an item fails, upstream subscription is cancelled and subscribers are
+ * notified of the error.
+ *
+ * @param <T> type of consumed items.
+ * @param <R> type of published items.
+ */
+public abstract class BaseFlowProcessor<T, R> implements Flow.Processor<T, R>, AutoCloseable {
+
+    /**
+     * Default maximum number of items buffered for upstream and for each subscriber.
+     */
+    public static final int DEFAULT_BUFFER_CAPACITY = Flow.defaultBufferSize();
+
+    /**
+     * Minimum buffer capacity.
+     */
+    public static final int MIN_BUFFER_CAPACITY = 1;
+
+    /**
+     * Publisher of processed results.
+     */
+    private final SubmissionPublisher<R> publisher;
+
+    /**
+     * Maximum number of items requested from upstream and not yet processed.
+     */
+    private final int bufferCapacity;
+
+    /**
+     * Number of processed signals after which more items are requested from upstream.
+     */
+    private final int requestThreshold;
+
+    /**
+     * Upstream subscription.
+     */
+    private final AtomicReference<Flow.Subscription> subscription = new AtomicReference<>();
+
+    /**
+     * Subscriber consuming batches of items.
+     */
+    private final Flow.Subscriber<List<T>> batchSubscriber = new BatchSubscriber();
+
+    /**
+     * Number of signals processed since items were last requested from upstream.
+     * This is only accessed from the thread delivering signals.
+     */
+    private long pendingRequests;
+
+    /**
+     * Number of processed items.
+     */
+    private final LongAdder processedItems = new LongAdder();
+
+    /**
+     * Number of published items.
+     */
+    private final LongAdder publishedItems = new LongAdder();
+
+    /**
+     * Indicates whether this processor has been closed, either because upstream
+     * completed, failed or because it was explicitly closed.
+     */
+    private volatile boolean closed;
+
+    /**
+     * Constructor.
+     * Results are delivered to subscribers using the common fork join pool.
+     */
+    protected BaseFlowProcessor() {
+        this(ForkJoinPool.commonPool(), DEFAULT_BUFFER_CAPACITY);
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param executor       executor delivering results to subscribers.
+     * @param bufferCapacity maximum number of items buffered for upstream and for each
+     *                       subscriber.
+     * @throws NullPointerException     if executor is null.
+     * @throws IllegalArgumentException if buffer capacity is less than {@link #MIN_BUFFER_CAPACITY}.
+     */
+    protected BaseFlowProcessor(final Executor executor, final int bufferCapacity) {
+        if (bufferCapacity < MIN_BUFFER_CAPACITY) {
+            throw new IllegalArgumentException();
+        }
+
+        this.publisher = new SubmissionPublisher<>(Objects.requireNonNull(executor), bufferCapacity);
+        this.bufferCapacity = bufferCapacity;
+        this.requestThreshold = Math.max(1, bufferCapacity / 2);
+    }
+
+    /**
+     * Gets maximum number of items buffered for upstream and for each subscriber.
+     *
+     * @return buffer capacity.
+     */
+    public int getBufferCapacity() {
+        return bufferCapacity;
+    }
+
+    /**
+     * Gets subscriber consuming batches of items.
+     * Each batch is processed as a single signal, hence buffer capacity is expressed in
+     * number of batches when items are consumed through this subscriber.
+     * Either this subscriber or this processor can be subscribed to a publisher, but not both.
+     *
+     * @return subscriber consuming batches of items.
+     */
+    public Flow.Subscriber<List<T>> getBatchSubscriber() {
+        return batchSubscriber;
+    }
+
+    /**
+     * Gets number of processed items.
+     *
+     * @return number of processed items.
+     */
+    public long getNumberOfProcessedItems() {
+        return processedItems.sum();
+    }
+
+    /**
+     * Gets number of published items.
+     *
+     * @return number of published items.
+     */
+    public long getNumberOfPublishedItems() {
+        return publishedItems.sum();
+    }
+
+    /**
+     * Gets current number of subscribers.
+     *
+     * @return number of subscribers.
+     */
+    public int getNumberOfSubscribers() {
+        return publisher.getNumberOfSubscribers();
+    }
+
+    /**
+     * Gets an estimate of the maximum number of items published but not yet consumed
+     * among all subscribers.
+     * This can be used to monitor how close subscribers are to exert backpressure.
+     * Notice that this method waits while publishing is blocked on a full subscriber buffer.
+     *
+     * @return estimated maximum lag.
+     */
+    public int estimateMaximumLag() {
+        return publisher.estimateMaximumLag();
+    }
+
+    /**
+     * Indicates whether this processor has been closed, either because upstream
+     * completed, failed or because it was explicitly closed.
+     *
+     * @return true if closed, false otherwise.
+     */
+    public boolean isClosed() {
+        return closed;
+    }
+
+    /**
+     * Adds provided subscriber to receive published results.
+     *
+     * @param subscriber subscriber to be added.
+     * @throws NullPointerException if subscriber is null.
+     */
+    @Override
+    public void subscribe(final Flow.Subscriber<? super R> subscriber) {
+        publisher.subscribe(subscriber);
+    }
+
+    /**
+     * Called when this processor is subscribed to a publisher.
+     * Only one upstream subscription is allowed. Any further subscription is cancelled.
+     *
+     * @param subscription upstream subscription.
+     * @throws NullPointerException if subscription is null.
+     */
+    @Override
+    public void onSubscribe(final Flow.Subscription subscription) {
+        Objects.requireNonNull(subscription);
+        if (closed || !this.subscription.compareAndSet(null, subscription)) {
+            subscription.cancel();
+            return;
+        }
+
+        subscription.request(bufferCapacity);
+    }
+
+    /**
+     * Processes an item received from upstream.
+     *
+     * @param item item to be processed.
+     * @throws NullPointerException if item is null.
+     */
+    @Override
+    public void onNext(final T item) {
+        Objects.requireNonNull(item);
+        if (closed) {
+            return;
+        }
+
+        try {
+            process(item);
+            processedItems.increment();
+        } catch (final Exception e) {
+            fail(e);
+            return;
+        }
+
+        requestMore();
+    }
+
+    /**
+     * Called when upstream fails. Failure is forwarded to subscribers.
+     *
+     * @param throwable upstream failure.
+     */
+    @Override
+    public void onError(final Throwable throwable) {
+        if (closed) {
+            return;
+        }
+
+        closed = true;
+        publisher.closeExceptionally(throwable);
+    }
+
+    /**
+     * Called when upstream completes. Any pending result is published and subscribers are
+     * notified of completion.
+     */
+    @Override
+    public void onComplete() {
+        if (closed) {
+            return;
+        }
+
+        try {
+            flush();
+        } catch (final Exception e) {
+            fail(e);
+            return;
+        }
+
+        closed = true;
+        publisher.close();
+    }
+
+    /**
+     * Closes this processor by cancelling upstream subscription and notifying
+     * subscribers of completion.
+     * Items already buffered for subscribers are still delivered.
+     * If publishing is blocked on a full subscriber buffer, this method waits until the
+     * subscriber consumes items.
+     */
+    @Override
+    public void close() {
+        closed = true;
+        final var s = subscription.get();
+        if (s != null) {
+            s.cancel();
+        }
+        publisher.close();
+    }
+
+    /**
+     * Processes an item received from upstream.
+     * This method is called sequentially from the thread delivering items.
+     *
+     * @param item item to be processed.
+     * @throws Exception if processing fails.
+     */
+    protected abstract void process(final T item) throws Exception;
+
+    /**
+     * Publishes any pending result when upstream completes.
+     * By default, nothing is done.
+     *
+     * @throws Exception if publishing fails.
+     */
+    protected void flush() throws Exception {
+    }
+
+    /**
+     * Publishes a result to all current subscribers.
+     * If the buffer of any subscriber is full, this method blocks until the subscriber
+     * consumes items. Published results must not be modified afterward, since they are
+     * shared with subscribers running on other threads.
+     *
+     * @param item result to be published.
+     */
+    protected void publish(final R item) {
+        publisher.submit(item);
+        publishedItems.increment();
+    }
+
+    /**
+     * Requests more items from upstream once enough signals have been processed.
+     */
+    private void requestMore() {
+        if (++pendingRequests >= requestThreshold) {
+            final var s = subscription.get();
+            if (s != null) {
+                s.request(pendingRequests);
+            }
+            pendingRequests = 0;
+        }
+    }
+
+    /**
+     * Cancels upstream subscription and notifies subscribers of provided failure.
+     *
+     * @param e failure.
+     */
+    private void fail(final Exception e) {
+        closed = true;
+        final var s = subscription.get();
+        if (s != null) {
+            s.cancel();
+        }
+        publisher.closeExceptionally(e);
+    }
+
+    /**
+     * Subscriber consuming batches of items.
+     */
+    private final class BatchSubscriber implements Flow.Subscriber<List<T>> {
+
+        /**
+         * Called when subscribed to a publisher of batches.
+         *
+         * @param subscription upstream subscription.
+         */
+        @Override
+        public void onSubscribe(final Flow.Subscription subscription) {
+            BaseFlowProcessor.this.onSubscribe(subscription);
+        }
+
+        /**
+         * Processes all items of a batch received from upstream.
+         *
+         * @param batch batch of items to be processed.
+         */
+        @Override
+        public void onNext(final List<T> batch) {
+            Objects.requireNonNull(batch);
+            if (closed) {
+                return;
+            }
+
+            try {
+                for (final var item : batch) {
+                    process(item);
+                    processedItems.increment();
+                }
+            } catch (final Exception e) {
+                fail(e);
+                return;
+            }
+
+            requestMore();
+        }
+
+        /**
+         * Called when upstream fails.
+         *
+         * @param throwable upstream failure.
+         */
+        @Override
+        public void onError(final Throwable throwable) {
+            BaseFlowProcessor.this.onError(throwable);
+        }
+
+        /**
+         * Called when upstream completes.
+         */
+        @Override
+        public void onComplete() {
+            BaseFlowProcessor.this.onComplete();
+        }
+    }
+}
@@ -0,0 +1,133 @@
+/*
+ * Copyright (C) 2026 Alberto Irurueta Carro (alberto@irurueta.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.irurueta.navigation.inertial.flow;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * Groups consumed items into batches of up to a maximum size, so that downstream
+ * subscribers (e.g. the batch subscriber of another {@link BaseFlowProcessor}) receive
+ * many items per signal, which amortizes per-item overhead.
+ * Any incomplete batch is published when upstream completes.
+ * Published batches are unmodifiable.
+ *
+ * @param <T> type of batched items.
+ */
+public class FlowBatchingProcessor<T> extends BaseFlowProcessor<T, List<T>> {
+
+    /**
+     * Default maximum number of items of each batch.
+     */
+    public static final int DEFAULT_MAX_BATCH_SIZE = 64;
+
+    /**
+     * Minimum batch size.
+     */
+    public static final int MIN_MAX_BATCH_SIZE = 1;
+
+    /**
+     * Maximum number of items of each batch.
+     */
+    private final int maxBatchSize;
+
+    /**
+     * Batch being filled.
+     */
+    private List<T> batch;
+
+    /**
+     * Constructor.
+     */
+    public FlowBatchingProcessor() {
+        this(DEFAULT_MAX_BATCH_SIZE);
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param maxBatchSize maximum number of items of each batch.
+     * @throws IllegalArgumentException if maximum batch size is less than {@link #MIN_MAX_BATCH_SIZE}.
+     */
+    public FlowBatchingProcessor(final int maxBatchSize) {
+        this(maxBatchSize, ForkJoinPool.commonPool(), DEFAULT_BUFFER_CAPACITY);
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param maxBatchSize   maximum number of items of each batch.
+     * @param executor       executor delivering batches to subscribers.
+     * @param bufferCapacity maximum number of items buffered for upstream and of batches
+     *                       buffered for each subscriber.
+     * @throws NullPointerException     if executor is null.
+     * @throws IllegalArgumentException if maximum batch size or buffer capacity are less
+     *                                  than their minimum allowed values.
+     */
+    public FlowBatchingProcessor(final int maxBatchSize, final Executor executor, final int bufferCapacity) {
+        super(executor, bufferCapacity);
+        if (maxBatchSize < MIN_MAX_BATCH_SIZE) {
+            throw new IllegalArgumentException();
+        }
+
+        this.maxBatchSize = maxBatchSize;
+        batch = new ArrayList<>(maxBatchSize);
+    }
+
+    /**
+     * Gets maximum number of items of each batch.
+     *
+     * @return maximum number of items of each batch.
+     */
+    public int getMaxBatchSize() {
+        return maxBatchSize;
+    }
+
+    /**
+     * Adds provided item to current batch and publishes it once full.
+     *
+     * @param item item to be processed.
+     */
+    @Override
+    protected void process(final T item) {
+        batch.add(item);
+        if (batch.size() >= maxBatchSize) {
+            publishBatch();
+        }
+    }
+
+    /**
+     * Publishes current batch if not empty.
+     */
+    @Override
+    protected void flush() {
+        if (!batch.isEmpty()) {
+            publishBatch();
+        }
+    }
+
+    /**
+     * Publishes current batch and starts a new one.
+     */
+    private void publishBatch() {
+        final var full = batch;
+        batch = new ArrayList<>(maxBatchSize);
+        publish(Collections.unmodifiableList(full));
+    }
+}
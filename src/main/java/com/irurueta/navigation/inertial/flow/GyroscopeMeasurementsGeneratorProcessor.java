@@ -0,0 +1,126 @@
+/*
+ * Copyright (C) 2026 Alberto Irurueta Carro (alberto@irurueta.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.irurueta.navigation.inertial.flow;
+
+import com.irurueta.navigation.LockedException;
+import com.irurueta.navigation.inertial.calibration.BodyKinematicsSequence;
+import com.irurueta.navigation.inertial.calibration.StandardDeviationTimedBodyKinematics;
+import com.irurueta.navigation.inertial.calibration.TimedBodyKinematics;
+import com.irurueta.navigation.inertial.calibration.generators.GyroscopeMeasurementsGenerator;
+import com.irurueta.navigation.inertial.calibration.generators.GyroscopeMeasurementsGeneratorListener;
+import com.irurueta.navigation.inertial.calibration.intervals.TriadStaticIntervalDetector;
+
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * Consumes timed body kinematics samples with a {@link GyroscopeMeasurementsGenerator}
+ * and publishes the generated sequences of gyroscope measurements, which can be used
+ * to calibrate gyroscopes.
+ */
+public class GyroscopeMeasurementsGeneratorProcessor extends MeasurementsGeneratorProcessor<
+        BodyKinematicsSequence<StandardDeviationTimedBodyKinematics>, GyroscopeMeasurementsGenerator,
+        GyroscopeMeasurementsGeneratorListener, TimedBodyKinematics> {
+
+    /**
+     * Constructor.
+     *
+     * @param generator measurements generator.
+     * @throws LockedException      if generator is already running.
+     * @throws NullPointerException if generator is null.
+     */
+    public GyroscopeMeasurementsGeneratorProcessor(final GyroscopeMeasurementsGenerator generator)
+            throws LockedException {
+        this(generator, ForkJoinPool.commonPool(), DEFAULT_BUFFER_CAPACITY);
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param generator      measurements generator.
+     * @param executor       executor delivering measurements to subscribers.
+     * @param bufferCapacity maximum number of items buffered for upstream and for each
+     *                       subscriber.
+     * @throws LockedException          if generator is already running.
+     * @throws NullPointerException     if generator or executor are null.
+     * @throws IllegalArgumentException if buffer capacity is less than {@link #MIN_BUFFER_CAPACITY}.
+     */
+    public GyroscopeMeasurementsGeneratorProcessor(
+            final GyroscopeMeasurementsGenerator generator, final Executor executor, final int bufferCapacity)
+            throws LockedException {
+        super(generator, executor, bufferCapacity);
+    }
+
+    /**
+     * Creates the listener of generator.
+     *
+     * @return listener of generator.
+     */
+    @Override
+    protected GyroscopeMeasurementsGeneratorListener createListener() {
+        return new GyroscopeMeasurementsGeneratorListener() {
+            @Override
+            public void onInitializationStarted(final GyroscopeMeasurementsGenerator generator) {
+                // no action needed
+            }
+
+            @Override
+            public void onInitializationCompleted(
+                    final GyroscopeMeasurementsGenerator generator, final double baseNoiseLevel) {
+                // no action needed
+            }
+
+            @Override
+            public void onError(
+                    final GyroscopeMeasurementsGenerator generator,
+                    final TriadStaticIntervalDetector.ErrorReason reason) {
+                GyroscopeMeasurementsGeneratorProcessor.this.onError(reason);
+            }
+
+            @Override
+            public void onStaticIntervalDetected(final GyroscopeMeasurementsGenerator generator) {
+                // no action needed
+            }
+
+            @Override
+            public void onDynamicIntervalDetected(final GyroscopeMeasurementsGenerator generator) {
+                // no action needed
+            }
+
+            @Override
+            public void onStaticIntervalSkipped(final GyroscopeMeasurementsGenerator generator) {
+                // no action needed
+            }
+
+            @Override
+            public void onDynamicIntervalSkipped(final GyroscopeMeasurementsGenerator generator) {
+                // no action needed
+            }
+
+            @Override
+            public void onGeneratedMeasurement(
+                    final GyroscopeMeasurementsGenerator generator,
+                    final BodyKinematicsSequence<StandardDeviationTimedBodyKinematics> measurement) {
+                GyroscopeMeasurementsGeneratorProcessor.this.onGeneratedMeasurement(measurement);
+            }
+
+            @Override
+            public void onReset(final GyroscopeMeasurementsGenerator generator) {
+                // no action needed
+            }
+        };
+    }
+}
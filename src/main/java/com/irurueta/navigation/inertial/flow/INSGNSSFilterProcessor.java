@@ -0,0 +1,146 @@
+/*
+ * Copyright (C) 2026 Alberto Irurueta Carro (alberto@irurueta.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.irurueta.navigation.inertial.flow;
+
+import com.irurueta.navigation.LockedException;
+import com.irurueta.navigation.NotReadyException;
+import com.irurueta.navigation.gnss.GNSSMeasurement;
+import com.irurueta.navigation.inertial.BodyKinematics;
+import com.irurueta.navigation.inertial.INSGNSSException;
+
+import java.util.Collection;
+import java.util.concurrent.Executor;
+
+/**
+ * Base class for processors consuming IMU and GNSS updates with an INS/GNSS filtered
+ * estimator and publishing a copy of the filter state every time it is updated.
+ * Updates are applied in the same order they are received.
+ * Provided estimator must not be used elsewhere while the processor is subscribed.
+ * If an update fails, the stream fails with the corresponding exception.
+ *
+ * @param <E> type of filtered estimator.
+ * @param <S> type of filter state.
+ */
+public abstract class INSGNSSFilterProcessor<E, S> extends BaseFlowProcessor<INSGNSSFilterUpdate, S> {
+
+    /**
+     * INS/GNSS filtered estimator.
+     */
+    private final E estimator;
+
+    /**
+     * Constructor.
+     *
+     * @param estimator      INS/GNSS filtered estimator.
+     * @param executor       executor delivering states to subscribers.
+     * @param bufferCapacity maximum number of items buffered for upstream and for each
+     *                       subscriber.
+     * @throws NullPointerException     if estimator or executor are null.
+     * @throws IllegalArgumentException if buffer capacity is less than {@link #MIN_BUFFER_CAPACITY}.
+     */
+    protected INSGNSSFilterProcessor(final E estimator, final Executor executor, final int bufferCapacity) {
+        super(executor, bufferCapacity);
+        if (estimator == null) {
+            throw new NullPointerException();
+        }
+        this.estimator = estimator;
+    }
+
+    /**
+     * Gets INS/GNSS filtered estimator.
+     *
+     * @return INS/GNSS filtered estimator.
+     */
+    public E getEstimator() {
+        return estimator;
+    }
+
+    /**
+     * Applies provided update and publishes a copy of the filter state if the
+     * estimator was updated.
+     *
+     * @param update update to be applied.
+     * @throws LockedException   if estimator is already running.
+     * @throws NotReadyException if estimator is not ready for measurement updates.
+     * @throws INSGNSSException  if estimation fails due to numerical instabilities.
+     */
+    @Override
+    protected void process(final INSGNSSFilterUpdate update)
+            throws LockedException, NotReadyException, INSGNSSException {
+        final var timestamp = update.getTimestamp();
+        final var updated = switch (update.getType()) {
+            case BODY_KINEMATICS -> updateBodyKinematics(estimator, update.getKinematics(), timestamp);
+            case GNSS_MEASUREMENTS -> updateMeasurements(estimator, update.getMeasurements(), timestamp);
+            case PROPAGATION -> propagate(estimator, timestamp);
+        };
+
+        if (updated) {
+            final var state = getState(estimator);
+            if (state != null) {
+                publish(state);
+            }
+        }
+    }
+
+    /**
+     * Updates specific force and angular rate.
+     *
+     * @param estimator  filtered estimator.
+     * @param kinematics body kinematics.
+     * @param timestamp  timestamp expressed in seconds.
+     * @return true if estimator was updated, false otherwise.
+     * @throws LockedException  if estimator is already running.
+     * @throws INSGNSSException if estimation fails due to numerical instabilities.
+     */
+    protected abstract boolean updateBodyKinematics(
+            final E estimator, final BodyKinematics kinematics, final double timestamp)
+            throws LockedException, INSGNSSException;
+
+    /**
+     * Updates GNSS measurements.
+     *
+     * @param estimator    filtered estimator.
+     * @param measurements GNSS measurements.
+     * @param timestamp    timestamp expressed in seconds.
+     * @return true if estimator was updated, false otherwise.
+     * @throws LockedException   if estimator is already running.
+     * @throws NotReadyException if estimator is not ready for measurement updates.
+     * @throws INSGNSSException  if estimation fails due to numerical instabilities.
+     */
+    protected abstract boolean updateMeasurements(
+            final E estimator, final Collection<GNSSMeasurement> measurements, final double timestamp)
+            throws LockedException, NotReadyException, INSGNSSException;
+
+    /**
+     * Propagates Kalman filter state.
+     *
+     * @param estimator filtered estimator.
+     * @param timestamp timestamp expressed in seconds.
+     * @return true if state was propagated, false otherwise.
+     * @throws LockedException  if estimator is already running.
+     * @throws INSGNSSException if estimation fails due to numerical instabilities.
+     */
+    protected abstract boolean propagate(final E estimator, final double timestamp)
+            throws LockedException, INSGNSSException;
+
+    /**
+     * Gets a new copy of current filter state.
+     *
+     * @param estimator filtered estimator.
+     * @return a new copy of current filter state, or null if not available.
+     */
+    protected abstract S getState(final E estimator);
+}
@@ -0,0 +1,173 @@
+/*
+ * Copyright (C) 2026 Alberto Irurueta Carro (alberto@irurueta.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.irurueta.navigation.inertial.flow;
+
+import com.irurueta.navigation.gnss.GNSSMeasurement;
+import com.irurueta.navigation.inertial.BodyKinematics;
+import com.irurueta.navigation.inertial.calibration.TimedBodyKinematics;
+
+import java.util.Collection;
+import java.util.Objects;
+
+/**
+ * An update consumed by an {@link INSGNSSFilterProcessor}, containing either IMU body
+ * kinematics, GNSS measurements or a request to propagate the filter state, along with
+ * its timestamp.
+ * Contained kinematics and measurements must not be modified once the update is
+ * submitted, since they are processed on another thread.
+ */
+public class INSGNSSFilterUpdate {
+
+    /**
+     * Type of update.
+     */
+    public enum Type {
+        /**
+         * Update containing IMU specific force and angular rate.
+         */
+        BODY_KINEMATICS,
+
+        /**
+         * Update containing GNSS measurements.
+         */
+        GNSS_MEASUREMENTS,
+
+        /**
+         * Request to propagate filter state up to the update timestamp.
+         */
+        PROPAGATION
+    }
+
+    /**
+     * Type of update.
+     */
+    private final Type type;
+
+    /**
+     * Body kinematics, or null if this is not a body kinematics update.
+     */
+    private final BodyKinematics kinematics;
+
+    /**
+     * GNSS measurements, or null if this is not a GNSS measurements update.
+     */
+    private final Collection<GNSSMeasurement> measurements;
+
+    /**
+     * Timestamp expressed in seconds.
+     */
+    private final double timestamp;
+
+    /**
+     * Constructor.
+     *
+     * @param type         type of update.
+     * @param kinematics   body kinematics.
+     * @param measurements GNSS measurements.
+     * @param timestamp    timestamp expressed in seconds.
+     */
+    private INSGNSSFilterUpdate(final Type type, final BodyKinematics kinematics,
+                                final Collection<GNSSMeasurement> measurements, final double timestamp) {
+        this.type = type;
+        this.kinematics = kinematics;
+        this.measurements = measurements;
+        this.timestamp = timestamp;
+    }
+
+    /**
+     * Creates an update containing IMU specific force and angular rate.
+     *
+     * @param kinematics body kinematics.
+     * @param timestamp  timestamp expressed in seconds.
+     * @return a new update.
+     * @throws NullPointerException if kinematics is null.
+     */
+    public static INSGNSSFilterUpdate createBodyKinematicsUpdate(
+            final BodyKinematics kinematics, final double timestamp) {
+        return new INSGNSSFilterUpdate(Type.BODY_KINEMATICS, Objects.requireNonNull(kinematics), null, timestamp);
+    }
+
+    /**
+     * Creates an update containing IMU specific force and angular rate.
+     *
+     * @param kinematics timed body kinematics.
+     * @return a new update.
+     * @throws NullPointerException if kinematics or its body kinematics are null.
+     */
+    public static INSGNSSFilterUpdate createBodyKinematicsUpdate(final TimedBodyKinematics kinematics) {
+        return createBodyKinematicsUpdate(kinematics.getKinematics(), kinematics.getTimestampSeconds());
+    }
+
+    /**
+     * Creates an update containing GNSS measurements.
+     *
+     * @param measurements GNSS measurements.
+     * @param timestamp    timestamp expressed in seconds.
+     * @return a new update.
+     * @throws NullPointerException if measurements are null.
+     */
+    public static INSGNSSFilterUpdate createMeasurementsUpdate(
+            final Collection<GNSSMeasurement> measurements, final double timestamp) {
+        return new INSGNSSFilterUpdate(Type.GNSS_MEASUREMENTS, null, Objects.requireNonNull(measurements),
+                timestamp);
+    }
+
+    /**
+     * Creates a request to propagate filter state up to provided timestamp.
+     *
+     * @param timestamp timestamp expressed in seconds.
+     * @return a new update.
+     */
+    public static INSGNSSFilterUpdate createPropagation(final double timestamp) {
+        return new INSGNSSFilterUpdate(Type.PROPAGATION, null, null, timestamp);
+    }
+
+    /**
+     * Gets type of update.
+     *
+     * @return type of update.
+     */
+    public Type getType() {
+        return type;
+    }
+
+    /**
+     * Gets body kinematics.
+     *
+     * @return body kinematics, or null if this is not a body kinematics update.
+     */
+    public BodyKinematics getKinematics() {
+        return kinematics;
+    }
+
+    /**
+     * Gets GNSS measurements.
+     *
+     * @return GNSS measurements, or null if this is not a GNSS measurements update.
+     */
+    public Collection<GNSSMeasurement> getMeasurements() {
+        return measurements;
+    }
+
+    /**
+     * Gets timestamp expressed in seconds.
+     *
+     * @return timestamp expressed in seconds.
+     */
+    public double getTimestamp() {
+        return timestamp;
+    }
+}
@@ -0,0 +1,126 @@
+/*
+ * Copyright (C) 2026 Alberto Irurueta Carro (alberto@irurueta.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.irurueta.navigation.inertial.flow;
+
+import com.irurueta.navigation.LockedException;
+import com.irurueta.navigation.NotReadyException;
+import com.irurueta.navigation.gnss.GNSSMeasurement;
+import com.irurueta.navigation.inertial.BodyKinematics;
+import com.irurueta.navigation.inertial.INSGNSSException;
+import com.irurueta.navigation.inertial.INSGNSSTightlyCoupledKalmanFilteredEstimator;
+import com.irurueta.navigation.inertial.INSTightlyCoupledKalmanState;
+
+import java.util.Collection;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * Consumes IMU and GNSS updates with an
+ * {@link INSGNSSTightlyCoupledKalmanFilteredEstimator} and publishes a copy of the tightly coupled
+ * Kalman filter state every time it is updated.
+ */
+public class INSGNSSTightlyCoupledFilterProcessor extends
+        INSGNSSFilterProcessor<INSGNSSTightlyCoupledKalmanFilteredEstimator, INSTightlyCoupledKalmanState> {
+
+    /**
+     * Constructor.
+     *
+     * @param estimator INS/GNSS filtered estimator.
+     * @throws NullPointerException if estimator is null.
+     */
+    public INSGNSSTightlyCoupledFilterProcessor(final INSGNSSTightlyCoupledKalmanFilteredEstimator estimator) {
+        this(estimator, ForkJoinPool.commonPool(), DEFAULT_BUFFER_CAPACITY);
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param estimator      INS/GNSS filtered estimator.
+     * @param executor       executor delivering states to subscribers.
+     * @param bufferCapacity maximum number of items buffered for upstream and for each
+     *                       subscriber.
+     * @throws NullPointerException     if estimator or executor are null.
+     * @throws IllegalArgumentException if buffer capacity is less than {@link #MIN_BUFFER_CAPACITY}.
+     */
+    public INSGNSSTightlyCoupledFilterProcessor(
+            final INSGNSSTightlyCoupledKalmanFilteredEstimator estimator, final Executor executor,
+            final int bufferCapacity) {
+        super(estimator, executor, bufferCapacity);
+    }
+
+    /**
+     * Updates specific force and angular rate.
+     *
+     * @param estimator  filtered estimator.
+     * @param kinematics body kinematics.
+     * @param timestamp  timestamp expressed in seconds.
+     * @return true if estimator was updated, false otherwise.
+     * @throws LockedException  if estimator is already running.
+     * @throws INSGNSSException if estimation fails due to numerical instabilities.
+     */
+    @Override
+    protected boolean updateBodyKinematics(
+            final INSGNSSTightlyCoupledKalmanFilteredEstimator estimator, final BodyKinematics kinematics,
+            final double timestamp) throws LockedException, INSGNSSException {
+        return estimator.updateBodyKinematics(kinematics, timestamp);
+    }
+
+    /**
+     * Updates GNSS measurements.
+     *
+     * @param estimator    filtered estimator.
+     * @param measurements GNSS measurements.
+     * @param timestamp    timestamp expressed in seconds.
+     * @return true if estimator was updated, false otherwise.
+     * @throws LockedException   if estimator is already running.
+     * @throws NotReadyException if estimator is not ready for measurement updates.
+     * @throws INSGNSSException  if estimation fails due to numerical instabilities.
+     */
+    @Override
+    protected boolean updateMeasurements(
+            final INSGNSSTightlyCoupledKalmanFilteredEstimator estimator,
+            final Collection<GNSSMeasurement> measurements, final double timestamp)
+            throws LockedException, NotReadyException, INSGNSSException {
+        return estimator.updateMeasurements(measurements, timestamp);
+    }
+
+    /**
+     * Propagates Kalman filter state.
+     *
+     * @param estimator filtered estimator.
+     * @param timestamp timestamp expressed in seconds.
+     * @return true if state was propagated, false otherwise.
+     * @throws LockedException  if estimator is already running.
+     * @throws INSGNSSException if estimation fails due to numerical instabilities.
+     */
+    @Override
+    protected boolean propagate(
+            final INSGNSSTightlyCoupledKalmanFilteredEstimator estimator, final double timestamp)
+            throws LockedException, INSGNSSException {
+        return estimator.propagate(timestamp);
+    }
+
+    /**
+     * Gets a new copy of current filter state.
+     *
+     * @param estimator filtered estimator.
+     * @return a new copy of current filter state, or null if not available.
+     */
+    @Override
+    protected INSTightlyCoupledKalmanState getState(final INSGNSSTightlyCoupledKalmanFilteredEstimator estimator) {
+        return estimator.getState();
+    }
+}
@@ -0,0 +1,125 @@
+/*
+ * Copyright (C) 2026 Alberto Irurueta Carro (alberto@irurueta.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.irurueta.navigation.inertial.flow;
+
+import com.irurueta.navigation.LockedException;
+import com.irurueta.navigation.inertial.BodyKinematicsAndMagneticFluxDensity;
+import com.irurueta.navigation.inertial.calibration.StandardDeviationBodyMagneticFluxDensity;
+import com.irurueta.navigation.inertial.calibration.generators.MagnetometerMeasurementsGenerator;
+import com.irurueta.navigation.inertial.calibration.generators.MagnetometerMeasurementsGeneratorListener;
+import com.irurueta.navigation.inertial.calibration.intervals.TriadStaticIntervalDetector;
+
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * Consumes body kinematics and magnetic flux density samples with a
+ * {@link MagnetometerMeasurementsGenerator} and publishes the generated magnetometer
+ * measurements, which can be used to calibrate magnetometers.
+ */
+public class MagnetometerMeasurementsGeneratorProcessor extends MeasurementsGeneratorProcessor<
+        StandardDeviationBodyMagneticFluxDensity, MagnetometerMeasurementsGenerator,
+        MagnetometerMeasurementsGeneratorListener, BodyKinematicsAndMagneticFluxDensity> {
+
+    /**
+     * Constructor.
+     *
+     * @param generator measurements generator.
+     * @throws LockedException      if generator is already running.
+     * @throws NullPointerException if generator is null.
+     */
+    public MagnetometerMeasurementsGeneratorProcessor(final MagnetometerMeasurementsGenerator generator)
+            throws LockedException {
+        this(generator, ForkJoinPool.commonPool(), DEFAULT_BUFFER_CAPACITY);
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param generator      measurements generator.
+     * @param executor       executor delivering measurements to subscribers.
+     * @param bufferCapacity maximum number of items buffered for upstream and for each
+     *                       subscriber.
+     * @throws LockedException          if generator is already running.
+     * @throws NullPointerException     if generator or executor are null.
+     * @throws IllegalArgumentException if buffer capacity is less than {@link #MIN_BUFFER_CAPACITY}.
+     */
+    public MagnetometerMeasurementsGeneratorProcessor(
+            final MagnetometerMeasurementsGenerator generator, final Executor executor, final int bufferCapacity)
+            throws LockedException {
+        super(generator, executor, bufferCapacity);
+    }
+
+    /**
+     * Creates the listener of generator.
+     *
+     * @return listener of generator.
+     */
+    @Override
+    protected MagnetometerMeasurementsGeneratorListener createListener() {
+        return new MagnetometerMeasurementsGeneratorListener() {
+            @Override
+            public void onInitializationStarted(final MagnetometerMeasurementsGenerator generator) {
+                // no action needed
+            }
+
+            @Override
+            public void onInitializationCompleted(
+                    final MagnetometerMeasurementsGenerator generator, final double baseNoiseLevel) {
+                // no action needed
+            }
+
+            @Override
+            public void onError(
+                    final MagnetometerMeasurementsGenerator generator,
+                    final TriadStaticIntervalDetector.ErrorReason reason) {
+                MagnetometerMeasurementsGeneratorProcessor.this.onError(reason);
+            }
+
+            @Override
+            public void onStaticIntervalDetected(final MagnetometerMeasurementsGenerator generator) {
+                // no action needed
+            }
+
+            @Override
+            public void onDynamicIntervalDetected(final MagnetometerMeasurementsGenerator generator) {
+                // no action needed
+            }
+
+            @Override
+            public void onStaticIntervalSkipped(final MagnetometerMeasurementsGenerator generator) {
+                // no action needed
+            }
+
+            @Override
+            public void onDynamicIntervalSkipped(final MagnetometerMeasurementsGenerator generator) {
+                // no action needed
+            }
+
+            @Override
+            public void onGeneratedMeasurement(
+                    final MagnetometerMeasurementsGenerator generator,
+                    final StandardDeviationBodyMagneticFluxDensity measurement) {
+                MagnetometerMeasurementsGeneratorProcessor.this.onGeneratedMeasurement(measurement);
+            }
+
+            @Override
+            public void onReset(final MagnetometerMeasurementsGenerator generator) {
+                // no action needed
+            }
+        };
+    }
+}
@@ -0,0 +1,120 @@
+/*
+ * Copyright (C) 2026 Alberto Irurueta Carro (alberto@irurueta.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.irurueta.navigation.inertial.flow;
+
+import com.irurueta.navigation.LockedException;
+import com.irurueta.navigation.inertial.InertialException;
+import com.irurueta.navigation.inertial.calibration.generators.MeasurementsGenerator;
+import com.irurueta.navigation.inertial.calibration.generators.MeasurementsGeneratorListener;
+import com.irurueta.navigation.inertial.calibration.intervals.TriadStaticIntervalDetector;
+
+import java.util.concurrent.Executor;
+
+/**
+ * Base class for processors consuming samples with a measurements generator and
+ * publishing the generated measurements.
+ * Processors replace the listener of provided generator, and provided generator must not
+ * be used elsewhere while the processor is subscribed.
+ * If static interval detection of the generator fails during initialization, the stream
+ * fails with an {@link InertialException}.
+ *
+ * @param <T> type of generated measurement.
+ * @param <G> type of generator.
+ * @param <L> type of listener of generator.
+ * @param <I> type of consumed samples.
+ */
+public abstract class MeasurementsGeneratorProcessor<T, G extends MeasurementsGenerator<T, G, L, I>,
+        L extends MeasurementsGeneratorListener<T, G, L, I>, I> extends BaseFlowProcessor<I, T> {
+
+    /**
+     * Measurements generator.
+     */
+    private final G generator;
+
+    /**
+     * Reason why static interval detection failed, or null if it has not failed.
+     */
+    private TriadStaticIntervalDetector.ErrorReason errorReason;
+
+    /**
+     * Constructor.
+     *
+     * @param generator      measurements generator.
+     * @param executor       executor delivering measurements to subscribers.
+     * @param bufferCapacity maximum number of items buffered for upstream and for each
+     *                       subscriber.
+     * @throws LockedException          if generator is already running.
+     * @throws NullPointerException     if generator or executor are null.
+     * @throws IllegalArgumentException if buffer capacity is less than {@link #MIN_BUFFER_CAPACITY}.
+     */
+    protected MeasurementsGeneratorProcessor(
+            final G generator, final Executor executor, final int bufferCapacity) throws LockedException {
+        super(executor, bufferCapacity);
+        generator.setListener(createListener());
+        this.generator = generator;
+    }
+
+    /**
+     * Gets measurements generator.
+     *
+     * @return measurements generator.
+     */
+    public G getGenerator() {
+        return generator;
+    }
+
+    /**
+     * Processes provided sample and publishes any measurement generated by it.
+     *
+     * @param sample sample to be processed.
+     * @throws LockedException   if generator is already running.
+     * @throws InertialException if static interval detection failed.
+     */
+    @Override
+    protected void process(final I sample) throws LockedException, InertialException {
+        generator.process(sample);
+        if (errorReason != null) {
+            throw new InertialException("Static interval detection failed: " + errorReason);
+        }
+    }
+
+    /**
+     * Creates the listener of generator.
+     * Implementations must call {@link #onGeneratedMeasurement(Object)} and
+     * {@link #onError(TriadStaticIntervalDetector.ErrorReason)}.
+     *
+     * @return listener of generator.
+     */
+    protected abstract L createListener();
+
+    /**
+     * Publishes a generated measurement.
+     *
+     * @param measurement generated measurement.
+     */
+    protected void onGeneratedMeasurement(final T measurement) {
+        publish(measurement);
+    }
+
+    /**
+     * Notifies that static interval detection failed.
+     *
+     * @param reason reason why static interval detection failed.
+     */
+    protected void onError(final TriadStaticIntervalDetector.ErrorReason reason) {
+        errorReason = reason;
+    }
+}
@@ -0,0 +1,100 @@
+/*
+ * Copyright (C) 2026 Alberto Irurueta Carro (alberto@irurueta.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.irurueta.navigation.inertial.flow;
+
+import com.irurueta.navigation.LockedException;
+import com.irurueta.navigation.inertial.calibration.Triad;
+import com.irurueta.navigation.inertial.calibration.intervals.TriadStaticIntervalDetector;
+
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * Processes consumed triads with a static interval detector and publishes a
+ * {@link TriadStaticIntervalEvent} every time the status of the detector changes to
+ * {@link TriadStaticIntervalDetector.Status#INITIALIZATION_COMPLETED},
+ * {@link TriadStaticIntervalDetector.Status#STATIC_INTERVAL},
+ * {@link TriadStaticIntervalDetector.Status#DYNAMIC_INTERVAL} or
+ * {@link TriadStaticIntervalDetector.Status#FAILED}.
+ * Status changes are detected after each processed sample, hence any listener already
+ * set on the detector keeps being notified.
+ * Provided detector must not be used elsewhere while this processor is subscribed.
+ *
+ * @param <T> type of triad.
+ */
+public class TriadStaticIntervalDetectorProcessor<T extends Triad<?, ?>>
+        extends BaseFlowProcessor<T, TriadStaticIntervalEvent> {
+
+    /**
+     * Static interval detector.
+     */
+    private final TriadStaticIntervalDetector<?, ?, T, ?, ?> detector;
+
+    /**
+     * Constructor.
+     *
+     * @param detector static interval detector.
+     * @throws NullPointerException if detector is null.
+     */
+    public TriadStaticIntervalDetectorProcessor(final TriadStaticIntervalDetector<?, ?, T, ?, ?> detector) {
+        this(detector, ForkJoinPool.commonPool(), DEFAULT_BUFFER_CAPACITY);
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param detector       static interval detector.
+     * @param executor       executor delivering events to subscribers.
+     * @param bufferCapacity maximum number of items buffered for upstream and for each
+     *                       subscriber.
+     * @throws NullPointerException     if detector or executor are null.
+     * @throws IllegalArgumentException if buffer capacity is less than {@link #MIN_BUFFER_CAPACITY}.
+     */
+    public TriadStaticIntervalDetectorProcessor(
+            final TriadStaticIntervalDetector<?, ?, T, ?, ?> detector, final Executor executor,
+            final int bufferCapacity) {
+        super(executor, bufferCapacity);
+        if (detector == null) {
+            throw new NullPointerException();
+        }
+        this.detector = detector;
+    }
+
+    /**
+     * Gets static interval detector.
+     *
+     * @return static interval detector.
+     */
+    public TriadStaticIntervalDetector<?, ?, T, ?, ?> getDetector() {
+        return detector;
+    }
+
+    /**
+     * Processes provided triad and publishes an event if status of detector changes.
+     *
+     * @param triad triad to be processed.
+     * @throws LockedException if detector is already running.
+     */
+    @Override
+    protected void process(final T triad) throws LockedException {
+        final var previousStatus = detector.getStatus();
+        detector.process(triad);
+        final var status = detector.getStatus();
+        if (status != previousStatus && status != TriadStaticIntervalDetector.Status.INITIALIZING) {
+            publish(new TriadStaticIntervalEvent(detector));
+        }
+    }
+}
@@ -0,0 +1,278 @@
+/*
+ * Copyright (C) 2026 Alberto Irurueta Carro (alberto@irurueta.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.irurueta.navigation.inertial.flow;
+
+import com.irurueta.navigation.inertial.calibration.intervals.TriadStaticIntervalDetector;
+
+/**
+ * Event published by a {@link TriadStaticIntervalDetectorProcessor} when the status of
+ * its detector changes.
+ * Contains the new status along with the values estimated by the detector when the
+ * change occurred, expressed in the default unit of the detector (i.e. meters per squared
+ * second (m/s^2) for accelerometers, radians per second (rad/s) for gyroscopes and
+ * Teslas (T) for magnetometers).
+ * Instances of this class are immutable.
+ */
+public class TriadStaticIntervalEvent {
+
+    /**
+     * New status of detector.
+     */
+    private final TriadStaticIntervalDetector.Status status;
+
+    /**
+     * Number of samples processed by detector when status changed.
+     */
+    private final int processedSamples;
+
+    /**
+     * Base noise level estimated during initialization.
+     */
+    private final double baseNoiseLevel;
+
+    /**
+     * Threshold to distinguish static and dynamic intervals.
+     */
+    private final double threshold;
+
+    /**
+     * Average x-coordinate of the samples in the last window.
+     */
+    private final double instantaneousAvgX;
+
+    /**
+     * Average y-coordinate of the samples in the last window.
+     */
+    private final double instantaneousAvgY;
+
+    /**
+     * Average z-coordinate of the samples in the last window.
+     */
+    private final double instantaneousAvgZ;
+
+    /**
+     * Standard deviation of x-coordinate of the samples in the last window.
+     */
+    private final double instantaneousStdX;
+
+    /**
+     * Standard deviation of y-coordinate of the samples in the last window.
+     */
+    private final double instantaneousStdY;
+
+    /**
+     * Standard deviation of z-coordinate of the samples in the last window.
+     */
+    private final double instantaneousStdZ;
+
+    /**
+     * Average x-coordinate accumulated during last static interval.
+     */
+    private final double accumulatedAvgX;
+
+    /**
+     * Average y-coordinate accumulated during last static interval.
+     */
+    private final double accumulatedAvgY;
+
+    /**
+     * Average z-coordinate accumulated during last static interval.
+     */
+    private final double accumulatedAvgZ;
+
+    /**
+     * Standard deviation of x-coordinate accumulated during last static interval.
+     */
+    private final double accumulatedStdX;
+
+    /**
+     * Standard deviation of y-coordinate accumulated during last static interval.
+     */
+    private final double accumulatedStdY;
+
+    /**
+     * Standard deviation of z-coordinate accumulated during last static interval.
+     */
+    private final double accumulatedStdZ;
+
+    /**
+     * Constructor.
+     *
+     * @param detector detector whose status has changed.
+     */
+    TriadStaticIntervalEvent(final TriadStaticIntervalDetector<?, ?, ?, ?, ?> detector) {
+        status = detector.getStatus();
+        processedSamples = detector.getProcessedSamples();
+        baseNoiseLevel = detector.getBaseNoiseLevel();
+        threshold = detector.getThreshold();
+        instantaneousAvgX = detector.getInstantaneousAvgX();
+        instantaneousAvgY = detector.getInstantaneousAvgY();
+        instantaneousAvgZ = detector.getInstantaneousAvgZ();
+        instantaneousStdX = detector.getInstantaneousStdX();
+        instantaneousStdY = detector.getInstantaneousStdY();
+        instantaneousStdZ = detector.getInstantaneousStdZ();
+        accumulatedAvgX = detector.getAccumulatedAvgX();
+        accumulatedAvgY = detector.getAccumulatedAvgY();
+        accumulatedAvgZ = detector.getAccumulatedAvgZ();
+        accumulatedStdX = detector.getAccumulatedStdX();
+        accumulatedStdY = detector.getAccumulatedStdY();
+        accumulatedStdZ = detector.getAccumulatedStdZ();
+    }
+
+    /**
+     * Gets new status of detector.
+     *
+     * @return new status of detector.
+     */
+    public TriadStaticIntervalDetector.Status getStatus() {
+        return status;
+    }
+
+    /**
+     * Gets number of samples processed by detector when status changed.
+     *
+     * @return number of processed samples.
+     */
+    public int getProcessedSamples() {
+        return processedSamples;
+    }
+
+    /**
+     * Gets base noise level estimated during initialization.
+     *
+     * @return base noise level.
+     */
+    public double getBaseNoiseLevel() {
+        return baseNoiseLevel;
+    }
+
+    /**
+     * Gets threshold to distinguish static and dynamic intervals.
+     *
+     * @return threshold.
+     */
+    public double getThreshold() {
+        return threshold;
+    }
+
+    /**
+     * Gets average x-coordinate of the samples in the last window.
+     *
+     * @return average x-coordinate of the samples in the last window.
+     */
+    public double getInstantaneousAvgX() {
+        return instantaneousAvgX;
+    }
+
+    /**
+     * Gets average y-coordinate of the samples in the last window.
+     *
+     * @return average y-coordinate of the samples in the last window.
+     */
+    public double getInstantaneousAvgY() {
+        return instantaneousAvgY;
+    }
+
+    /**
+     * Gets average z-coordinate of the samples in the last window.
+     *
+     * @return average z-coordinate of the samples in the last window.
+     */
+    public double getInstantaneousAvgZ() {
+        return instantaneousAvgZ;
+    }
+
+    /**
+     * Gets standard deviation of x-coordinate of the samples in the last window.
+     *
+     * @return standard deviation of x-coordinate of the samples in the last window.
+     */
+    public double getInstantaneousStdX() {
+        return instantaneousStdX;
+    }
+
+    /**
+     * Gets standard deviation of y-coordinate of the samples in the last window.
+     *
+     * @return standard deviation of y-coordinate of the samples in the last window.
+     */
+    public double getInstantaneousStdY() {
+        return instantaneousStdY;
+    }
+
+    /**
+     * Gets standard deviation of z-coordinate of the samples in the last window.
+     *
+     * @return standard deviation of z-coordinate of the samples in the last window.
+     */
+    public double getInstantaneousStdZ() {
+        return instantaneousStdZ;
+    }
+
+    /**
+     * Gets average x-coordinate accumulated during last static interval.
+     *
+     * @return average x-coordinate accumulated during last static interval.
+     */
+    public double getAccumulatedAvgX() {
+        return accumulatedAvgX;
+    }
+
+    /**
+     * Gets average y-coordinate accumulated during last static interval.
+     *
+     * @return average y-coordinate accumulated during last static interval.
+     */
+    public double getAccumulatedAvgY() {
+        return accumulatedAvgY;
+    }
+
+    /**
+     * Gets average z-coordinate accumulated during last static interval.
+     *
+     * @return average z-coordinate accumulated during last static interval.
+     */
+    public double getAccumulatedAvgZ() {
+        return accumulatedAvgZ;
+    }
+
+    /**
+     * Gets standard deviation of x-coordinate accumulated during last static interval.
+     *
+     * @return standard deviation of x-coordinate accumulated during last static interval.
+     */
+    public double getAccumulatedStdX() {
+        return accumulatedStdX;
+    }
+
+    /**
+     * Gets standard deviation of y-coordinate accumulated during last static interval.
+     *
+     * @return standard deviation of y-coordinate accumulated during last static interval.
+     */
+    public double getAccumulatedStdY() {
+        return accumulatedStdY;
+    }
+
+    /**
+     * Gets standard deviation of z-coordinate accumulated during last static interval.
+     *
+     * @return standard deviation of z-coordinate accumulated during last static interval.
+     */
+    public double getAccumulatedStdZ() {
+        return accumulatedStdZ;
+    }
+}
@@ -0,0 +1,303 @@
+/*
+ * Copyright (C) 2026 Alberto Irurueta Carro (alberto@irurueta.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.irurueta.navigation.inertial.metrics;
+
+import com.irurueta.algebra.Matrix;
+import com.irurueta.navigation.inertial.calibration.intervals.TriadStaticIntervalDetector;
+import com.irurueta.numerical.EvaluationException;
+import com.irurueta.numerical.NotReadyException;
+import com.irurueta.numerical.fitting.FittingException;
+import com.irurueta.numerical.fitting.LevenbergMarquardtMultiDimensionFitter;
+import com.irurueta.numerical.fitting.LevenbergMarquardtMultiDimensionFunctionEvaluator;
+import com.irurueta.numerical.fitting.LevenbergMarquardtMultiVariateFitter;
+import com.irurueta.numerical.fitting.LevenbergMarquardtMultiVariateFunctionEvaluator;
+import com.irurueta.numerical.robust.LMedSRobustEstimator;
+import com.irurueta.numerical.robust.LMedSRobustEstimatorListener;
+import com.irurueta.numerical.robust.MSACRobustEstimator;
+import com.irurueta.numerical.robust.PROMedSRobustEstimator;
+import com.irurueta.numerical.robust.PROSACRobustEstimator;
+import com.irurueta.numerical.robust.RANSACRobustEstimator;
+import com.irurueta.numerical.robust.RobustEstimator;
+
+/**
+ * Entry point of hot-path instrumentation.
+ * Instrumentation is disabled by default. It is enabled for every filter,
+ * navigator, calibrator and detector of this library by setting a sink
+ * different from {@link MetricsSink#NONE}, such as {@link JfrMetricsSink}.
+ * When disabled, instrumented components only pay the cost of reading a
+ * volatile field, and no time measurement or metric computation is made.
+ */
+public final class InertialMetrics {
+
+    /**
+     * Sink currently receiving metrics.
+     */
+    private static volatile MetricsSink sink = MetricsSink.NONE;
+
+    /**
+     * Constructor.
+     * Prevents instantiation of utility class.
+     */
+    private InertialMetrics() {
+    }
+
+    /**
+     * Gets sink currently receiving metrics.
+     *
+     * @return sink receiving metrics, or {@link MetricsSink#NONE} if
+     * instrumentation is disabled.
+     */
+    public static MetricsSink getSink() {
+        return sink;
+    }
+
+    /**
+     * Sets sink to receive metrics.
+     *
+     * @param sink sink to receive metrics, or null to disable instrumentation.
+     */
+    public static void setSink(final MetricsSink sink) {
+        InertialMetrics.sink = sink != null ? sink : MetricsSink.NONE;
+    }
+
+    /**
+     * Indicates whether instrumentation is enabled.
+     *
+     * @return true if instrumentation is enabled, false otherwise.
+     */
+    public static boolean isEnabled() {
+        return sink != MetricsSink.NONE;
+    }
+
+    /**
+     * Fits provided Levenberg-Marquardt fitter and notifies the number of
+     * iterations and function evaluations to current sink, if any.
+     * When instrumentation is enabled, function evaluator of fitter is wrapped
+     * to count evaluations, which restores the initial parameters of the
+     * evaluator before fitting.
+     *
+     * @param source instrumented calibrator.
+     * @param fitter fitter to be fitted.
+     * @throws FittingException  if fitting fails.
+     * @throws NotReadyException if fitter is not ready.
+     */
+    public static void fit(final Object source, final LevenbergMarquardtMultiDimensionFitter fitter)
+            throws FittingException, NotReadyException {
+        final var currentSink = sink;
+        if (currentSink == MetricsSink.NONE) {
+            fitter.fit();
+            return;
+        }
+
+        final var evaluator = new CountingMultiDimensionFunctionEvaluator(fitter.getFunctionEvaluator());
+        fitter.setFunctionEvaluator(evaluator);
+        fitter.fit();
+        currentSink.onNonLinearFit(source, Math.max(evaluator.sweeps - 1, 0), evaluator.evaluations);
+    }
+
+    /**
+     * Fits provided Levenberg-Marquardt fitter and notifies the number of
+     * iterations and function evaluations to current sink, if any.
+     * When instrumentation is enabled, function evaluator of fitter is wrapped
+     * to count evaluations, which restores the initial parameters of the
+     * evaluator before fitting.
+     *
+     * @param source instrumented calibrator.
+     * @param fitter fitter to be fitted.
+     * @throws FittingException  if fitting fails.
+     * @throws NotReadyException if fitter is not ready.
+     */
+    public static void fit(final Object source, final LevenbergMarquardtMultiVariateFitter fitter)
+            throws FittingException, NotReadyException {
+        final var currentSink = sink;
+        if (currentSink == MetricsSink.NONE) {
+            fitter.fit();
+            return;
+        }
+
+        final var evaluator = new CountingMultiVariateFunctionEvaluator(fitter.getFunctionEvaluator());
+        fitter.setFunctionEvaluator(evaluator);
+        fitter.fit();
+        currentSink.onNonLinearFit(source, Math.max(evaluator.sweeps - 1, 0), evaluator.evaluations);
+    }
+
+    /**
+     * Notifies the result of a finished robust estimation to current sink, if any.
+     *
+     * @param source    instrumented calibrator.
+     * @param estimator robust estimator that has finished its estimation.
+     */
+    public static void robustEstimation(final Object source, final RobustEstimator<?> estimator) {
+        final var currentSink = sink;
+        if (currentSink == MetricsSink.NONE) {
+            return;
+        }
+
+        final int iterations;
+        if (estimator instanceof RANSACRobustEstimator<?> ransac) {
+            iterations = ransac.getNIters();
+        } else if (estimator instanceof LMedSRobustEstimator<?> lmeds) {
+            iterations = lmeds.getNIters();
+        } else if (estimator instanceof MSACRobustEstimator<?> msac) {
+            iterations = msac.getNIters();
+        } else if (estimator instanceof PROSACRobustEstimator<?> prosac) {
+            iterations = prosac.getNIters();
+        } else if (estimator instanceof PROMedSRobustEstimator<?> promeds) {
+            iterations = promeds.getNIters();
+        } else {
+            iterations = -1;
+        }
+
+        final var inliersData = estimator.getInliersData();
+        final var inliers = inliersData != null ? inliersData.getNumInliers() : -1;
+        final var samples = estimator.getListener() instanceof LMedSRobustEstimatorListener<?> listener
+                ? listener.getTotalSamples() : -1;
+
+        currentSink.onRobustEstimation(source, estimator.getMethod(), iterations, inliers, samples);
+    }
+
+    /**
+     * Notifies a static/dynamic interval transition to current sink, if any.
+     *
+     * @param source           instrumented detector.
+     * @param previousStatus   status before processing last sample.
+     * @param status           status after processing last sample.
+     * @param processedSamples number of samples processed so far.
+     */
+    public static void staticIntervalTransition(
+            final Object source, final TriadStaticIntervalDetector.Status previousStatus,
+            final TriadStaticIntervalDetector.Status status, final int processedSamples) {
+        final var currentSink = sink;
+        if (currentSink != MetricsSink.NONE) {
+            currentSink.onStaticIntervalTransition(source, previousStatus, status, processedSamples);
+        }
+    }
+
+    /**
+     * Function evaluator counting evaluations of a wrapped evaluator.
+     * Levenberg-Marquardt fitters evaluate all points once initially and once per
+     * iteration, starting at point zero, hence the number of iterations is the
+     * number of sweeps minus one.
+     */
+    private static final class CountingMultiDimensionFunctionEvaluator
+            implements LevenbergMarquardtMultiDimensionFunctionEvaluator {
+
+        /**
+         * Wrapped evaluator.
+         */
+        private final LevenbergMarquardtMultiDimensionFunctionEvaluator evaluator;
+
+        /**
+         * Number of evaluations at a single point.
+         */
+        private int evaluations;
+
+        /**
+         * Number of evaluations of all points.
+         */
+        private int sweeps;
+
+        /**
+         * Constructor.
+         *
+         * @param evaluator wrapped evaluator.
+         */
+        private CountingMultiDimensionFunctionEvaluator(
+                final LevenbergMarquardtMultiDimensionFunctionEvaluator evaluator) {
+            this.evaluator = evaluator;
+        }
+
+        @Override
+        public int getNumberOfDimensions() {
+            return evaluator.getNumberOfDimensions();
+        }
+
+        @Override
+        public double[] createInitialParametersArray() {
+            return evaluator.createInitialParametersArray();
+        }
+
+        @Override
+        public double evaluate(final int i, final double[] point, final double[] params, final double[] derivatives)
+                throws EvaluationException {
+            evaluations++;
+            if (i == 0) {
+                sweeps++;
+            }
+            return evaluator.evaluate(i, point, params, derivatives);
+        }
+    }
+
+    /**
+     * Function evaluator counting evaluations of a wrapped evaluator.
+     * Levenberg-Marquardt fitters evaluate all points once initially and once per
+     * iteration, starting at point zero, hence the number of iterations is the
+     * number of sweeps minus one.
+     */
+    private static final class CountingMultiVariateFunctionEvaluator
+            implements LevenbergMarquardtMultiVariateFunctionEvaluator {
+
+        /**
+         * Wrapped evaluator.
+         */
+        private final LevenbergMarquardtMultiVariateFunctionEvaluator evaluator;
+
+        /**
+         * Number of evaluations at a single point.
+         */
+        private int evaluations;
+
+        /**
+         * Number of evaluations of all points.
+         */
+        private int sweeps;
+
+        /**
+         * Constructor.
+         *
+         * @param evaluator wrapped evaluator.
+         */
+        private CountingMultiVariateFunctionEvaluator(
+                final LevenbergMarquardtMultiVariateFunctionEvaluator evaluator) {
+            this.evaluator = evaluator;
+        }
+
+        @Override
+        public int getNumberOfDimensions() {
+            return evaluator.getNumberOfDimensions();
+        }
+
+        @Override
+        public int getNumberOfVariables() {
+            return evaluator.getNumberOfVariables();
+        }
+
+        @Override
+        public double[] createInitialParametersArray() {
+            return evaluator.createInitialParametersArray();
+        }
+
+        @Override
+        public void evaluate(final int i, final double[] point, final double[] result, final double[] params,
+                             final Matrix jacobian) throws EvaluationException {
+            evaluations++;
+            if (i == 0) {
+                sweeps++;
+            }
+            evaluator.evaluate(i, point, result, params, jacobian);
+        }
+    }
+}
@@ -0,0 +1,44 @@
+/*
+ * Copyright (C) 2026 Alberto Irurueta Carro (alberto@irurueta.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.irurueta.navigation.inertial.metrics;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Timespan;
+
+/**
+ * Update of an inertial navigation solution with a new IMU sample.
+ */
+@Name("com.irurueta.navigation.inertial.InertialUpdate")
+@Label("Inertial Update")
+@Category({"Navigation", "Inertial"})
+@Description("Update of an inertial navigation solution with a new IMU sample.")
+@StackTrace(false)
+final class InertialUpdateEvent extends Event {
+
+    @Label("Source")
+    @Description("Class of instrumented component")
+    Class<?> source;
+
+    @Label("Duration")
+    @Description("Time spent updating inertial navigation solution")
+    @Timespan(Timespan.NANOSECONDS)
+    long durationNanos;
+}
@@ -0,0 +1,143 @@
+/*
+ * Copyright (C) 2026 Alberto Irurueta Carro (alberto@irurueta.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.irurueta.navigation.inertial.metrics;
+
+import com.irurueta.navigation.inertial.calibration.intervals.TriadStaticIntervalDetector;
+import com.irurueta.numerical.robust.RobustEstimatorMethod;
+
+/**
+ * Sink committing received metrics as JDK Flight Recorder (JFR) events.
+ * Events are only committed when they are enabled in an active recording, for
+ * instance when starting the JVM with
+ * {@code -XX:StartFlightRecording:filename=recording.jfr}. Events belong to the
+ * "Navigation / Inertial" category and their names start with
+ * {@code com.irurueta.navigation.inertial}.
+ */
+public class JfrMetricsSink implements MetricsSink {
+
+    /**
+     * Called when an estimator has updated its inertial navigation solution with
+     * a new IMU sample.
+     *
+     * @param source        instrumented estimator.
+     * @param durationNanos time spent to update inertial navigation solution
+     *                      expressed in nanoseconds.
+     */
+    @Override
+    public void onInertialUpdate(final Object source, final long durationNanos) {
+        final var event = new InertialUpdateEvent();
+        if (event.shouldCommit()) {
+            event.source = source.getClass();
+            event.durationNanos = durationNanos;
+            event.commit();
+        }
+    }
+
+    /**
+     * Called when an estimator has processed a Kalman filter epoch.
+     *
+     * @param source                      instrumented estimator.
+     * @param propagationNanos            time spent on system propagation phase
+     *                                    expressed in nanoseconds.
+     * @param updateNanos                 time spent on measurement update phase
+     *                                    expressed in nanoseconds.
+     * @param innovations                 number of components of innovation vector.
+     * @param innovationNorm              Euclidean norm of innovation vector.
+     * @param normalizedInnovationSquared normalized innovation squared (NIS).
+     */
+    @Override
+    public void onKalmanEpoch(final Object source, final long propagationNanos, final long updateNanos,
+                              final int innovations, final double innovationNorm,
+                              final double normalizedInnovationSquared) {
+        final var event = new KalmanEpochEvent();
+        if (event.shouldCommit()) {
+            event.source = source.getClass();
+            event.propagationNanos = propagationNanos;
+            event.updateNanos = updateNanos;
+            event.innovations = innovations;
+            event.innovationNorm = innovationNorm;
+            event.normalizedInnovationSquared = normalizedInnovationSquared;
+            event.commit();
+        }
+    }
+
+    /**
+     * Called when a Levenberg-Marquardt fit of a non-linear calibrator finishes.
+     *
+     * @param source              instrumented calibrator.
+     * @param iterations          number of Levenberg-Marquardt iterations.
+     * @param functionEvaluations number of times the function being fitted has been
+     *                            evaluated at a single point.
+     */
+    @Override
+    public void onNonLinearFit(final Object source, final int iterations, final int functionEvaluations) {
+        final var event = new NonLinearFitEvent();
+        if (event.shouldCommit()) {
+            event.source = source.getClass();
+            event.iterations = iterations;
+            event.functionEvaluations = functionEvaluations;
+            event.commit();
+        }
+    }
+
+    /**
+     * Called when the robust estimation of a robust calibrator finishes.
+     *
+     * @param source     instrumented calibrator.
+     * @param method     robust estimation method.
+     * @param iterations number of iterations of robust estimator.
+     * @param inliers    number of inliers, or -1 if inliers were not kept.
+     * @param samples    total number of samples.
+     */
+    @Override
+    public void onRobustEstimation(final Object source, final RobustEstimatorMethod method, final int iterations,
+                                   final int inliers, final int samples) {
+        final var event = new RobustEstimationEvent();
+        if (event.shouldCommit()) {
+            event.source = source.getClass();
+            event.method = method != null ? method.name() : null;
+            event.iterations = iterations;
+            event.inliers = inliers;
+            event.samples = samples;
+            event.inlierRatio = inliers >= 0 && samples > 0 ? (double) inliers / (double) samples : Double.NaN;
+            event.commit();
+        }
+    }
+
+    /**
+     * Called when a static interval detector switches between static and dynamic
+     * intervals.
+     *
+     * @param source           instrumented detector.
+     * @param previousStatus   status before processing last sample.
+     * @param status           status after processing last sample.
+     * @param processedSamples number of samples processed so far.
+     */
+    @Override
+    public void onStaticIntervalTransition(final Object source,
+                                           final TriadStaticIntervalDetector.Status previousStatus,
+                                           final TriadStaticIntervalDetector.Status status,
+                                           final int processedSamples) {
+        final var event = new StaticIntervalTransitionEvent();
+        if (event.shouldCommit()) {
+            event.source = source.getClass();
+            event.previousStatus = previousStatus != null ? previousStatus.name() : null;
+            event.status = status != null ? status.name() : null;
+            event.processedSamples = processedSamples;
+            event.commit();
+        }
+    }
+}
@@ -0,0 +1,61 @@
+/*
+ * Copyright (C) 2026 Alberto Irurueta Carro (alberto@irurueta.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.irurueta.navigation.inertial.metrics;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Timespan;
+
+/**
+ * Kalman filter epoch processed by an estimator.
+ */
+@Name("com.irurueta.navigation.inertial.KalmanEpoch")
+@Label("Kalman Epoch")
+@Category({"Navigation", "Inertial"})
+@Description("Kalman filter epoch processed by an estimator.")
+@StackTrace(false)
+final class KalmanEpochEvent extends Event {
+
+    @Label("Source")
+    @Description("Class of instrumented component")
+    Class<?> source;
+
+    @Label("Propagation Duration")
+    @Description("Time spent on system propagation phase")
+    @Timespan(Timespan.NANOSECONDS)
+    long propagationNanos;
+
+    @Label("Update Duration")
+    @Description("Time spent on measurement update phase")
+    @Timespan(Timespan.NANOSECONDS)
+    long updateNanos;
+
+    @Label("Innovations")
+    @Description("Number of components of innovation vector")
+    int innovations;
+
+    @Label("Innovation Norm")
+    @Description("Euclidean norm of innovation vector")
+    double innovationNorm;
+
+    @Label("NIS")
+    @Description("Normalized innovation squared")
+    double normalizedInnovationSquared;
+}
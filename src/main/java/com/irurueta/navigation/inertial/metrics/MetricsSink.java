@@ -0,0 +1,110 @@
+/*
+ * Copyright (C) 2026 Alberto Irurueta Carro (alberto@irurueta.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.irurueta.navigation.inertial.metrics;
+
+import com.irurueta.navigation.inertial.calibration.intervals.TriadStaticIntervalDetector;
+import com.irurueta.numerical.robust.RobustEstimatorMethod;
+
+/**
+ * Receives hot-path metrics of filters, navigators, calibrators and detectors.
+ * All methods have an empty default implementation, so that implementations
+ * only need to override the metrics they are interested in.
+ * Methods are called synchronously from the thread performing the
+ * instrumented operation, hence implementations must be fast and thread-safe
+ * if instrumented components are used from several threads.
+ *
+ * @see InertialMetrics#setSink(MetricsSink)
+ */
+public interface MetricsSink {
+
+    /**
+     * Sink discarding all metrics.
+     * When this sink is set, instrumented components skip any metric
+     * computation.
+     */
+    MetricsSink NONE = new MetricsSink() {
+    };
+
+    /**
+     * Called when an estimator has updated its inertial navigation solution with
+     * a new IMU sample.
+     *
+     * @param source        instrumented estimator.
+     * @param durationNanos time spent to update inertial navigation solution
+     *                      expressed in nanoseconds.
+     */
+    default void onInertialUpdate(final Object source, final long durationNanos) {
+    }
+
+    /**
+     * Called when an estimator has processed a Kalman filter epoch.
+     *
+     * @param source                      instrumented estimator.
+     * @param propagationNanos            time spent on system propagation phase
+     *                                    expressed in nanoseconds.
+     * @param updateNanos                 time spent on measurement update phase
+     *                                    expressed in nanoseconds.
+     * @param innovations                 number of components of innovation vector.
+     * @param innovationNorm              Euclidean norm of innovation vector.
+     * @param normalizedInnovationSquared normalized innovation squared (NIS), which
+     *                                    follows a chi-squared distribution with as
+     *                                    many degrees of freedom as innovation
+     *                                    components when filter is consistent.
+     */
+    default void onKalmanEpoch(final Object source, final long propagationNanos, final long updateNanos,
+                               final int innovations, final double innovationNorm,
+                               final double normalizedInnovationSquared) {
+    }
+
+    /**
+     * Called when a Levenberg-Marquardt fit of a non-linear calibrator finishes.
+     *
+     * @param source              instrumented calibrator.
+     * @param iterations          number of Levenberg-Marquardt iterations.
+     * @param functionEvaluations number of times the function being fitted has been
+     *                            evaluated at a single point.
+     */
+    default void onNonLinearFit(final Object source, final int iterations, final int functionEvaluations) {
+    }
+
+    /**
+     * Called when the robust estimation of a robust calibrator finishes.
+     *
+     * @param source     instrumented calibrator.
+     * @param method     robust estimation method.
+     * @param iterations number of iterations of robust estimator.
+     * @param inliers    number of inliers, or -1 if inliers were not kept.
+     * @param samples    total number of samples.
+     */
+    default void onRobustEstimation(final Object source, final RobustEstimatorMethod method, final int iterations,
+                                    final int inliers, final int samples) {
+    }
+
+    /**
+     * Called when a static interval detector switches between static and dynamic
+     * intervals.
+     *
+     * @param source           instrumented detector.
+     * @param previousStatus   status before processing last sample.
+     * @param status           status after processing last sample.
+     * @param processedSamples number of samples processed so far.
+     */
+    default void onStaticIntervalTransition(final Object source,
+                                            final TriadStaticIntervalDetector.Status previousStatus,
+                                            final TriadStaticIntervalDetector.Status status,
+                                            final int processedSamples) {
+    }
+}
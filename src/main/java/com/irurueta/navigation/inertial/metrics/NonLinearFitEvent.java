@@ -0,0 +1,46 @@
+/*
+ * Copyright (C) 2026 Alberto Irurueta Carro (alberto@irurueta.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.irurueta.navigation.inertial.metrics;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Levenberg-Marquardt fit of a non-linear calibrator.
+ */
+@Name("com.irurueta.navigation.inertial.NonLinearFit")
+@Label("Non-Linear Fit")
+@Category({"Navigation", "Inertial"})
+@Description("Levenberg-Marquardt fit of a non-linear calibrator.")
+@StackTrace(false)
+final class NonLinearFitEvent extends Event {
+
+    @Label("Source")
+    @Description("Class of instrumented component")
+    Class<?> source;
+
+    @Label("Iterations")
+    @Description("Number of Levenberg-Marquardt iterations")
+    int iterations;
+
+    @Label("Function Evaluations")
+    @Description("Number of evaluations of fitted function at a single point")
+    int functionEvaluations;
+}
@@ -0,0 +1,58 @@
+/*
+ * Copyright (C) 2026 Alberto Irurueta Carro (alberto@irurueta.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.irurueta.navigation.inertial.metrics;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Robust estimation of a robust calibrator.
+ */
+@Name("com.irurueta.navigation.inertial.RobustEstimation")
+@Label("Robust Estimation")
+@Category({"Navigation", "Inertial"})
+@Description("Robust estimation of a robust calibrator.")
+@StackTrace(false)
+final class RobustEstimationEvent extends Event {
+
+    @Label("Source")
+    @Description("Class of instrumented component")
+    Class<?> source;
+
+    @Label("Method")
+    @Description("Robust estimation method")
+    String method;
+
+    @Label("Iterations")
+    @Description("Number of iterations of robust estimator")
+    int iterations;
+
+    @Label("Inliers")
+    @Description("Number of inliers, or -1 if inliers were not kept")
+    int inliers;
+
+    @Label("Samples")
+    @Description("Total number of samples")
+    int samples;
+
+    @Label("Inlier Ratio")
+    @Description("Ratio of inliers over total number of samples, or NaN if not available")
+    double inlierRatio;
+}
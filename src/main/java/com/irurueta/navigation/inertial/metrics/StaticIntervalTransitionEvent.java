@@ -0,0 +1,50 @@
+/*
+ * Copyright (C) 2026 Alberto Irurueta Carro (alberto@irurueta.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.irurueta.navigation.inertial.metrics;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Switch of a static interval detector between static and dynamic intervals.
+ */
+@Name("com.irurueta.navigation.inertial.StaticIntervalTransition")
+@Label("Static Interval Transition")
+@Category({"Navigation", "Inertial"})
+@Description("Switch of a static interval detector between static and dynamic intervals.")
+@StackTrace(false)
+final class StaticIntervalTransitionEvent extends Event {
+
+    @Label("Source")
+    @Description("Class of instrumented component")
+    Class<?> source;
+
+    @Label("Previous Status")
+    @Description("Status before processing last sample")
+    String previousStatus;
+
+    @Label("Status")
+    @Description("Status after processing last sample")
+    String status;
+
+    @Label("Processed Samples")
+    @Description("Number of samples processed so far")
+    int processedSamples;
+}
@@ -0,0 +1,730 @@
+/*
+ * Copyright (C) 2026 Alberto Irurueta Carro (alberto@irurueta.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.irurueta.navigation.inertial.navigators;
+
+import com.irurueta.navigation.LockedException;
+import com.irurueta.navigation.inertial.BodyKinematics;
+import com.irurueta.units.Time;
+import com.irurueta.units.TimeConverter;
+import com.irurueta.units.TimeUnit;
+
+/**
+ * Pre-integrates body kinematics sampled at a high rate into equivalent body kinematics
+ * at a lower rate, so that inertial navigation equations can be run less often without
+ * loss of accuracy.
+ * Delta-angles and delta-velocities of consecutive samples are accumulated using Savage's
+ * recursive coning and sculling compensation algorithms, which account for the
+ * non-commutativity of rotations and for the rotation of the body while specific force
+ * is being integrated.
+ * Each time {@link #getDecimationFactor()} samples have been accumulated, an equivalent
+ * body kinematics instance is generated, which can be directly provided to
+ * {@link ECEFInertialNavigator}, {@link NEDInertialNavigator}, {@link ECIInertialNavigator}
+ * or {@link com.irurueta.navigation.inertial.INSLooselyCoupledKalmanFilteredEstimator}
+ * using {@link #getOutputTimeInterval()} as time interval between epochs.
+ * Equivalent specific force is corrected so that navigators, which assume that specific
+ * force and angular rate remain constant within an epoch, reproduce the compensated
+ * delta-velocity.
+ * This implementation is based on "Strapdown Inertial Navigation Integration Algorithm
+ * Design Part 1: Attitude Algorithms" and "Part 2: Velocity and Position Algorithms",
+ * Paul G. Savage, Journal of Guidance, Control and Dynamics, 1998.
+ */
+public class ConingScullingIntegrator {
+
+    /**
+     * Default time interval between input body kinematics samples expressed in seconds
+     * (s). This is equivalent to a 1 kHz sampling rate.
+     */
+    public static final double DEFAULT_TIME_INTERVAL_SECONDS = 0.001;
+
+    /**
+     * Default number of input samples integrated for each generated output.
+     * By default, outputs are generated at 100 Hz.
+     */
+    public static final int DEFAULT_DECIMATION_FACTOR = 10;
+
+    /**
+     * Minimum allowed decimation factor.
+     */
+    public static final int MIN_DECIMATION_FACTOR = 1;
+
+    /**
+     * Threshold to use small angle approximations.
+     */
+    private static final double SMALL_ANGLE = 1e-6;
+
+    /**
+     * Time interval between input body kinematics samples expressed in seconds (s).
+     */
+    private double timeInterval = DEFAULT_TIME_INTERVAL_SECONDS;
+
+    /**
+     * Number of input samples integrated for each generated output.
+     */
+    private int decimationFactor = DEFAULT_DECIMATION_FACTOR;
+
+    /**
+     * Listener to handle events raised by this integrator.
+     */
+    private ConingScullingIntegratorListener listener;
+
+    /**
+     * Accumulated (uncompensated) delta-angle within current output interval.
+     */
+    private final double[] alpha = new double[BodyKinematics.COMPONENTS];
+
+    /**
+     * Accumulated (uncompensated) delta-velocity within current output interval.
+     */
+    private final double[] velocity = new double[BodyKinematics.COMPONENTS];
+
+    /**
+     * Accumulated coning correction within current output interval.
+     */
+    private final double[] coning = new double[BodyKinematics.COMPONENTS];
+
+    /**
+     * Accumulated sculling correction within current output interval.
+     */
+    private final double[] sculling = new double[BodyKinematics.COMPONENTS];
+
+    /**
+     * Delta-angle of previous input sample.
+     */
+    private final double[] previousDeltaAngle = new double[BodyKinematics.COMPONENTS];
+
+    /**
+     * Delta-velocity of previous input sample.
+     */
+    private final double[] previousDeltaVelocity = new double[BodyKinematics.COMPONENTS];
+
+    /**
+     * Delta-angle of current input sample.
+     */
+    private final double[] deltaAngle = new double[BodyKinematics.COMPONENTS];
+
+    /**
+     * Delta-velocity of current input sample.
+     */
+    private final double[] deltaVelocity = new double[BodyKinematics.COMPONENTS];
+
+    /**
+     * Compensated delta-angle (rotation vector) of last output interval.
+     */
+    private final double[] outputDeltaAngle = new double[BodyKinematics.COMPONENTS];
+
+    /**
+     * Compensated delta-velocity of last output interval, resolved in body frame at the
+     * start of the interval.
+     */
+    private final double[] outputDeltaVelocity = new double[BodyKinematics.COMPONENTS];
+
+    /**
+     * Temporary vectors to compute cross products.
+     */
+    private final double[] tmp1 = new double[BodyKinematics.COMPONENTS];
+
+    /**
+     * Temporary vectors to compute cross products.
+     */
+    private final double[] tmp2 = new double[BodyKinematics.COMPONENTS];
+
+    /**
+     * Equivalent body kinematics of last output interval.
+     */
+    private final BodyKinematics outputKinematics = new BodyKinematics();
+
+    /**
+     * Number of input samples accumulated within current output interval.
+     */
+    private int numberOfAccumulatedSamples;
+
+    /**
+     * Total number of processed input samples.
+     */
+    private long numberOfProcessedSamples;
+
+    /**
+     * Number of generated outputs.
+     */
+    private long numberOfOutputs;
+
+    /**
+     * Indicates that integrator is running.
+     */
+    private boolean running;
+
+    /**
+     * Constructor.
+     */
+    public ConingScullingIntegrator() {
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param listener listener to handle events raised by this integrator.
+     */
+    public ConingScullingIntegrator(final ConingScullingIntegratorListener listener) {
+        this.listener = listener;
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param timeInterval     time interval between input body kinematics samples expressed
+     *                         in seconds (s).
+     * @param decimationFactor number of input samples integrated for each generated output.
+     * @throws IllegalArgumentException if time interval is negative or decimation factor is
+     *                                  less than {@link #MIN_DECIMATION_FACTOR}.
+     */
+    public ConingScullingIntegrator(final double timeInterval, final int decimationFactor) {
+        try {
+            setTimeInterval(timeInterval);
+            setDecimationFactor(decimationFactor);
+        } catch (final LockedException ignore) {
+            // never happens
+        }
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param timeInterval     time interval between input body kinematics samples expressed
+     *                         in seconds (s).
+     * @param decimationFactor number of input samples integrated for each generated output.
+     * @param listener         listener to handle events raised by this integrator.
+     * @throws IllegalArgumentException if time interval is negative or decimation factor is
+     *                                  less than {@link #MIN_DECIMATION_FACTOR}.
+     */
+    public ConingScullingIntegrator(final double timeInterval, final int decimationFactor,
+                                    final ConingScullingIntegratorListener listener) {
+        this(timeInterval, decimationFactor);
+        this.listener = listener;
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param timeInterval     time interval between input body kinematics samples.
+     * @param decimationFactor number of input samples integrated for each generated output.
+     * @throws IllegalArgumentException if time interval is negative or decimation factor is
+     *                                  less than {@link #MIN_DECIMATION_FACTOR}.
+     */
+    public ConingScullingIntegrator(final Time timeInterval, final int decimationFactor) {
+        this(convertTime(timeInterval), decimationFactor);
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param timeInterval     time interval between input body kinematics samples.
+     * @param decimationFactor number of input samples integrated for each generated output.
+     * @param listener         listener to handle events raised by this integrator.
+     * @throws IllegalArgumentException if time interval is negative or decimation factor is
+     *                                  less than {@link #MIN_DECIMATION_FACTOR}.
+     */
+    public ConingScullingIntegrator(final Time timeInterval, final int decimationFactor,
+                                    final ConingScullingIntegratorListener listener) {
+        this(convertTime(timeInterval), decimationFactor, listener);
+    }
+
+    /**
+     * Gets time interval between input body kinematics samples expressed in seconds (s).
+     *
+     * @return time interval between input body kinematics samples.
+     */
+    public double getTimeInterval() {
+        return timeInterval;
+    }
+
+    /**
+     * Sets time interval between input body kinematics samples expressed in seconds (s).
+     *
+     * @param timeInterval time interval between input body kinematics samples.
+     * @throws IllegalArgumentException if provided value is negative.
+     * @throws LockedException          if integrator is currently running.
+     */
+    public void setTimeInterval(final double timeInterval) throws LockedException {
+        if (running) {
+            throw new LockedException();
+        }
+
+        if (timeInterval < 0.0) {
+            throw new IllegalArgumentException();
+        }
+
+        this.timeInterval = timeInterval;
+    }
+
+    /**
+     * Gets time interval between input body kinematics samples.
+     *
+     * @return time interval between input body kinematics samples.
+     */
+    public Time getTimeIntervalAsTime() {
+        return new Time(timeInterval, TimeUnit.SECOND);
+    }
+
+    /**
+     * Gets time interval between input body kinematics samples.
+     *
+     * @param result instance where time interval will be stored.
+     */
+    public void getTimeIntervalAsTime(final Time result) {
+        result.setValue(timeInterval);
+        result.setUnit(TimeUnit.SECOND);
+    }
+
+    /**
+     * Sets time interval between input body kinematics samples.
+     *
+     * @param timeInterval time interval between input body kinematics samples.
+     * @throws IllegalArgumentException if provided value is negative.
+     * @throws LockedException          if integrator is currently running.
+     */
+    public void setTimeInterval(final Time timeInterval) throws LockedException {
+        setTimeInterval(convertTime(timeInterval));
+    }
+
+    /**
+     * Gets number of input samples integrated for each generated output.
+     *
+     * @return number of input samples integrated for each generated output.
+     */
+    public int getDecimationFactor() {
+        return decimationFactor;
+    }
+
+    /**
+     * Sets number of input samples integrated for each generated output.
+     *
+     * @param decimationFactor number of input samples integrated for each generated output.
+     * @throws IllegalArgumentException if provided value is less than
+     *                                  {@link #MIN_DECIMATION_FACTOR}.
+     * @throws LockedException          if integrator is currently running.
+     */
+    public void setDecimationFactor(final int decimationFactor) throws LockedException {
+        if (running) {
+            throw new LockedException();
+        }
+
+        if (decimationFactor < MIN_DECIMATION_FACTOR) {
+            throw new IllegalArgumentException();
+        }
+
+        this.decimationFactor = decimationFactor;
+    }
+
+    /**
+     * Gets time interval between generated outputs expressed in seconds (s).
+     * This is the time interval that must be used by navigators when processing
+     * generated outputs.
+     *
+     * @return time interval between generated outputs.
+     */
+    public double getOutputTimeInterval() {
+        return timeInterval * decimationFactor;
+    }
+
+    /**
+     * Gets time interval between generated outputs.
+     *
+     * @return time interval between generated outputs.
+     */
+    public Time getOutputTimeIntervalAsTime() {
+        return new Time(getOutputTimeInterval(), TimeUnit.SECOND);
+    }
+
+    /**
+     * Gets time interval between generated outputs.
+     *
+     * @param result instance where time interval will be stored.
+     */
+    public void getOutputTimeIntervalAsTime(final Time result) {
+        result.setValue(getOutputTimeInterval());
+        result.setUnit(TimeUnit.SECOND);
+    }
+
+    /**
+     * Gets listener to handle events raised by this integrator.
+     *
+     * @return listener to handle events raised by this integrator.
+     */
+    public ConingScullingIntegratorListener getListener() {
+        return listener;
+    }
+
+    /**
+     * Sets listener to handle events raised by this integrator.
+     *
+     * @param listener listener to handle events raised by this integrator.
+     * @throws LockedException if integrator is currently running.
+     */
+    public void setListener(final ConingScullingIntegratorListener listener) throws LockedException {
+        if (running) {
+            throw new LockedException();
+        }
+
+        this.listener = listener;
+    }
+
+    /**
+     * Gets number of input samples accumulated within current output interval.
+     *
+     * @return number of input samples accumulated within current output interval.
+     */
+    public int getNumberOfAccumulatedSamples() {
+        return numberOfAccumulatedSamples;
+    }
+
+    /**
+     * Gets total number of processed input samples.
+     *
+     * @return total number of processed input samples.
+     */
+    public long getNumberOfProcessedSamples() {
+        return numberOfProcessedSamples;
+    }
+
+    /**
+     * Gets number of generated outputs.
+     *
+     * @return number of generated outputs.
+     */
+    public long getNumberOfOutputs() {
+        return numberOfOutputs;
+    }
+
+    /**
+     * Indicates whether at least one output has been generated.
+     *
+     * @return true if an output is available, false otherwise.
+     */
+    public boolean isOutputAvailable() {
+        return numberOfOutputs > 0;
+    }
+
+    /**
+     * Gets equivalent body kinematics of last output interval.
+     *
+     * @param result instance where equivalent body kinematics will be stored.
+     * @return true if result was updated, false if no output is available yet.
+     */
+    public boolean getOutputKinematics(final BodyKinematics result) {
+        if (numberOfOutputs > 0) {
+            outputKinematics.copyTo(result);
+            return true;
+        } else {
+            return false;
+        }
+    }
+
+    /**
+     * Gets equivalent body kinematics of last output interval.
+     *
+     * @return equivalent body kinematics or null if no output is available yet.
+     */
+    public BodyKinematics getOutputKinematics() {
+        return numberOfOutputs > 0 ? new BodyKinematics(outputKinematics) : null;
+    }
+
+    /**
+     * Gets coning compensated delta-angle (rotation vector) of last output interval
+     * expressed in radians (rad).
+     *
+     * @param result array where delta-angle will be stored. Must have length 3.
+     * @throws IllegalArgumentException if provided array does not have length 3.
+     */
+    public void getOutputDeltaAngle(final double[] result) {
+        copyVector(outputDeltaAngle, result);
+    }
+
+    /**
+     * Gets coning compensated delta-angle (rotation vector) of last output interval
+     * expressed in radians (rad).
+     *
+     * @return delta-angle of last output interval.
+     */
+    public double[] getOutputDeltaAngle() {
+        return outputDeltaAngle.clone();
+    }
+
+    /**
+     * Gets rotation and sculling compensated delta-velocity of last output interval,
+     * resolved in body frame at the start of the interval and expressed in meters per
+     * second (m/s).
+     *
+     * @param result array where delta-velocity will be stored. Must have length 3.
+     * @throws IllegalArgumentException if provided array does not have length 3.
+     */
+    public void getOutputDeltaVelocity(final double[] result) {
+        copyVector(outputDeltaVelocity, result);
+    }
+
+    /**
+     * Gets rotation and sculling compensated delta-velocity of last output interval,
+     * resolved in body frame at the start of the interval and expressed in meters per
+     * second (m/s).
+     *
+     * @return delta-velocity of last output interval.
+     */
+    public double[] getOutputDeltaVelocity() {
+        return outputDeltaVelocity.clone();
+    }
+
+    /**
+     * Adds a body kinematics sample.
+     * Specific force and angular rate are assumed to be averages over the time interval
+     * ending at current sample.
+     *
+     * @param kinematics body kinematics sample to be added.
+     * @return true if a new output has been generated, false otherwise.
+     * @throws LockedException if integrator is currently running.
+     */
+    public boolean addKinematics(final BodyKinematics kinematics) throws LockedException {
+        return addKinematics(kinematics.getFx(), kinematics.getFy(), kinematics.getFz(),
+                kinematics.getAngularRateX(), kinematics.getAngularRateY(), kinematics.getAngularRateZ());
+    }
+
+    /**
+     * Adds a body kinematics sample.
+     * Specific force and angular rate are assumed to be averages over the time interval
+     * ending at current sample.
+     *
+     * @param fx           specific force x coordinate expressed in meters per squared
+     *                     second (m/s^2).
+     * @param fy           specific force y coordinate expressed in meters per squared
+     *                     second (m/s^2).
+     * @param fz           specific force z coordinate expressed in meters per squared
+     *                     second (m/s^2).
+     * @param angularRateX angular rate x coordinate expressed in radians per second (rad/s).
+     * @param angularRateY angular rate y coordinate expressed in radians per second (rad/s).
+     * @param angularRateZ angular rate z coordinate expressed in radians per second (rad/s).
+     * @return true if a new output has been generated, false otherwise.
+     * @throws LockedException if integrator is currently running.
+     */
+    public boolean addKinematics(final double fx, final double fy, final double fz,
+                                 final double angularRateX, final double angularRateY,
+                                 final double angularRateZ) throws LockedException {
+        if (running) {
+            throw new LockedException();
+        }
+
+        running = true;
+
+        if (numberOfProcessedSamples == 0 && listener != null) {
+            listener.onStart(this);
+        }
+
+        deltaAngle[0] = angularRateX * timeInterval;
+        deltaAngle[1] = angularRateY * timeInterval;
+        deltaAngle[2] = angularRateZ * timeInterval;
+
+        deltaVelocity[0] = fx * timeInterval;
+        deltaVelocity[1] = fy * timeInterval;
+        deltaVelocity[2] = fz * timeInterval;
+
+        // coning: beta += 0.5 * (alpha + prevDeltaAngle / 6) x deltaAngle
+        for (var i = 0; i < BodyKinematics.COMPONENTS; i++) {
+            tmp1[i] = alpha[i] + previousDeltaAngle[i] / 6.0;
+        }
+        accumulateHalfCross(tmp1, deltaAngle, coning);
+
+        // sculling: scul += 0.5 * ((alpha + prevDeltaAngle / 6) x deltaVelocity
+        //                  + (velocity + prevDeltaVelocity / 6) x deltaAngle)
+        accumulateHalfCross(tmp1, deltaVelocity, sculling);
+        for (var i = 0; i < BodyKinematics.COMPONENTS; i++) {
+            tmp2[i] = velocity[i] + previousDeltaVelocity[i] / 6.0;
+        }
+        accumulateHalfCross(tmp2, deltaAngle, sculling);
+
+        for (var i = 0; i < BodyKinematics.COMPONENTS; i++) {
+            alpha[i] += deltaAngle[i];
+            velocity[i] += deltaVelocity[i];
+            previousDeltaAngle[i] = deltaAngle[i];
+            previousDeltaVelocity[i] = deltaVelocity[i];
+        }
+
+        numberOfAccumulatedSamples++;
+        numberOfProcessedSamples++;
+
+        var result = false;
+        if (numberOfAccumulatedSamples >= decimationFactor) {
+            generateOutput();
+            result = true;
+        }
+
+        running = false;
+
+        if (result && listener != null) {
+            listener.onOutput(this, outputKinematics);
+        }
+
+        return result;
+    }
+
+    /**
+     * Resets this integrator to its initial state, discarding accumulated samples and
+     * generated outputs.
+     *
+     * @return true if integrator was successfully reset, false if no reset was needed.
+     * @throws LockedException if integrator is currently running.
+     */
+    public boolean reset() throws LockedException {
+        if (running) {
+            throw new LockedException();
+        }
+
+        if (numberOfProcessedSamples == 0) {
+            return false;
+        }
+
+        running = true;
+
+        clearInterval();
+        for (var i = 0; i < BodyKinematics.COMPONENTS; i++) {
+            previousDeltaAngle[i] = 0.0;
+            previousDeltaVelocity[i] = 0.0;
+            outputDeltaAngle[i] = 0.0;
+            outputDeltaVelocity[i] = 0.0;
+        }
+        outputKinematics.setSpecificForceCoordinates(0.0, 0.0, 0.0);
+        outputKinematics.setAngularRateCoordinates(0.0, 0.0, 0.0);
+        numberOfProcessedSamples = 0;
+        numberOfOutputs = 0;
+
+        if (listener != null) {
+            listener.onReset(this);
+        }
+
+        running = false;
+
+        return true;
+    }
+
+    /**
+     * Generates compensated increments and equivalent body kinematics of current output
+     * interval and starts a new interval.
+     */
+    private void generateOutput() {
+        // rotation vector
+        for (var i = 0; i < BodyKinematics.COMPONENTS; i++) {
+            outputDeltaAngle[i] = alpha[i] + coning[i];
+        }
+
+        // delta-velocity: velocity + 0.5 * alpha x velocity + sculling
+        for (var i = 0; i < BodyKinematics.COMPONENTS; i++) {
+            outputDeltaVelocity[i] = velocity[i] + sculling[i];
+        }
+        accumulateHalfCross(alpha, velocity, outputDeltaVelocity);
+
+        final var interval = timeInterval * numberOfAccumulatedSamples;
+
+        // Navigators assume constant specific force in rotating body frame, and hence
+        // internally apply the SO(3) left Jacobian of the rotation vector to it.
+        // Equivalent specific force is obtained by applying the inverse Jacobian.
+        final var phiX = outputDeltaAngle[0];
+        final var phiY = outputDeltaAngle[1];
+        final var phiZ = outputDeltaAngle[2];
+        final var phi2 = phiX * phiX + phiY * phiY + phiZ * phiZ;
+        final var phi = Math.sqrt(phi2);
+
+        final double k;
+        if (phi < SMALL_ANGLE) {
+            k = 1.0 / 12.0;
+        } else {
+            k = 1.0 / phi2 - (1.0 + Math.cos(phi)) / (2.0 * phi * Math.sin(phi));
+        }
+
+        final var dvX = outputDeltaVelocity[0];
+        final var dvY = outputDeltaVelocity[1];
+        final var dvZ = outputDeltaVelocity[2];
+
+        // phi x dv
+        final var c1X = phiY * dvZ - phiZ * dvY;
+        final var c1Y = phiZ * dvX - phiX * dvZ;
+        final var c1Z = phiX * dvY - phiY * dvX;
+
+        // phi x (phi x dv)
+        final var c2X = phiY * c1Z - phiZ * c1Y;
+        final var c2Y = phiZ * c1X - phiX * c1Z;
+        final var c2Z = phiX * c1Y - phiY * c1X;
+
+        if (interval > 0.0) {
+            outputKinematics.setSpecificForceCoordinates(
+                    (dvX - 0.5 * c1X + k * c2X) / interval,
+                    (dvY - 0.5 * c1Y + k * c2Y) / interval,
+                    (dvZ - 0.5 * c1Z + k * c2Z) / interval);
+            outputKinematics.setAngularRateCoordinates(phiX / interval, phiY / interval, phiZ / interval);
+        } else {
+            outputKinematics.setSpecificForceCoordinates(0.0, 0.0, 0.0);
+            outputKinematics.setAngularRateCoordinates(0.0, 0.0, 0.0);
+        }
+
+        numberOfOutputs++;
+        clearInterval();
+    }
+
+    /**
+     * Clears accumulated increments of current output interval.
+     */
+    private void clearInterval() {
+        for (var i = 0; i < BodyKinematics.COMPONENTS; i++) {
+            alpha[i] = 0.0;
+            velocity[i] = 0.0;
+            coning[i] = 0.0;
+            sculling[i] = 0.0;
+        }
+        numberOfAccumulatedSamples = 0;
+    }
+
+    /**
+     * Adds half the cross product of provided vectors into result.
+     *
+     * @param a      1st vector.
+     * @param b      2nd vector.
+     * @param result vector where 0.5 * (a x b) will be accumulated.
+     */
+    private static void accumulateHalfCross(final double[] a, final double[] b, final double[] result) {
+        result[0] += 0.5 * (a[1] * b[2] - a[2] * b[1]);
+        result[1] += 0.5 * (a[2] * b[0] - a[0] * b[2]);
+        result[2] += 0.5 * (a[0] * b[1] - a[1] * b[0]);
+    }
+
+    /**
+     * Copies provided vector into result.
+     *
+     * @param vector vector to be copied.
+     * @param result array where vector will be copied.
+     * @throws IllegalArgumentException if result does not have length 3.
+     */
+    private static void copyVector(final double[] vector, final double[] result) {
+        if (result.length != BodyKinematics.COMPONENTS) {
+            throw new IllegalArgumentException();
+        }
+        System.arraycopy(vector, 0, result, 0, BodyKinematics.COMPONENTS);
+    }
+
+    /**
+     * Converts provided time instance into seconds.
+     *
+     * @param time time to be converted.
+     * @return converted value expressed in seconds.
+     */
+    private static double convertTime(final Time time) {
+        return TimeConverter.convert(time.getValue().doubleValue(), time.getUnit(), TimeUnit.SECOND);
+    }
+}
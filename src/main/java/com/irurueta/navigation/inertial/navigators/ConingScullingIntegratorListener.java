@@ -0,0 +1,48 @@
+/*
+ * Copyright (C) 2026 Alberto Irurueta Carro (alberto@irurueta.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.irurueta.navigation.inertial.navigators;
+
+import com.irurueta.navigation.inertial.BodyKinematics;
+
+/**
+ * Listener for {@link ConingScullingIntegrator} to handle generated events.
+ */
+public interface ConingScullingIntegratorListener {
+
+    /**
+     * Called when integration starts.
+     *
+     * @param integrator integrator that raised the event.
+     */
+    void onStart(final ConingScullingIntegrator integrator);
+
+    /**
+     * Called when a new output interval has been integrated.
+     * Provided kinematics instance is reused by the integrator, and must be copied
+     * if it needs to be kept.
+     *
+     * @param integrator integrator that raised the event.
+     * @param kinematics equivalent body kinematics of integrated interval.
+     */
+    void onOutput(final ConingScullingIntegrator integrator, final BodyKinematics kinematics);
+
+    /**
+     * Called when integration is reset.
+     *
+     * @param integrator integrator that raised the event.
+     */
+    void onReset(final ConingScullingIntegrator integrator);
+}
@@ -0,0 +1,154 @@
+/*
+ * Copyright (C) 2026 Alberto Irurueta Carro (alberto@irurueta.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.irurueta.navigation.inertial.simulation;
+
+import com.irurueta.algebra.Matrix;
+import com.irurueta.navigation.inertial.calibration.IMUErrors;
+import com.irurueta.navigation.inertial.calibration.StandardDeviationFrameBodyKinematics;
+
+import java.util.List;
+
+/**
+ * Synthetic data of a Monte Carlo trial to evaluate known frame accelerometer and gyroscope
+ * calibrators.
+ * Contains ground-truth IMU errors and measurements taken at known frames, and computes the
+ * errors of estimated calibration parameters using the following layout:
+ * biases (x, y, z), scale factors (sx, sy, sz) and cross couplings (mxy, mxz, myx, myz, mzx, mzy),
+ * followed, for gyroscopes, by the 9 g-dependant cross biases in column order.
+ */
+public class KnownFrameCalibrationData {
+
+    /**
+     * Number of parameters of accelerometer calibration errors.
+     */
+    public static final int ACCELEROMETER_PARAMETERS = 12;
+
+    /**
+     * Number of parameters of gyroscope calibration errors.
+     */
+    public static final int GYROSCOPE_PARAMETERS = 21;
+
+    /**
+     * Ground-truth IMU errors.
+     */
+    private final IMUErrors errors;
+
+    /**
+     * Measurements taken at known frames.
+     */
+    private final List<StandardDeviationFrameBodyKinematics> measurements;
+
+    /**
+     * Constructor.
+     *
+     * @param errors       ground-truth IMU errors.
+     * @param measurements measurements taken at known frames.
+     */
+    public KnownFrameCalibrationData(final IMUErrors errors,
+                                     final List<StandardDeviationFrameBodyKinematics> measurements) {
+        this.errors = errors;
+        this.measurements = measurements;
+    }
+
+    /**
+     * Gets ground-truth IMU errors.
+     *
+     * @return ground-truth IMU errors.
+     */
+    public IMUErrors getErrors() {
+        return errors;
+    }
+
+    /**
+     * Gets measurements taken at known frames.
+     *
+     * @return measurements.
+     */
+    public List<StandardDeviationFrameBodyKinematics> getMeasurements() {
+        return measurements;
+    }
+
+    /**
+     * Computes errors of estimated accelerometer calibration parameters.
+     *
+     * @param estimatedBiases estimated accelerometer biases expressed in meters per squared second (m/s^2).
+     * @param estimatedMa     estimated accelerometer scale factors and cross coupling errors.
+     * @param result          array where errors will be stored. Must have at least length 12.
+     * @throws IllegalArgumentException if result is too short.
+     */
+    public void computeAccelerometerErrors(final double[] estimatedBiases, final Matrix estimatedMa,
+                                           final double[] result) {
+        if (result.length < ACCELEROMETER_PARAMETERS) {
+            throw new IllegalArgumentException();
+        }
+        computeErrors(errors.getAccelerometerBiases(), errors.getAccelerometerScaleFactorAndCrossCouplingErrors(),
+                estimatedBiases, estimatedMa, result);
+    }
+
+    /**
+     * Computes errors of estimated gyroscope calibration parameters.
+     *
+     * @param estimatedBiases estimated gyroscope biases expressed in radians per second (rad/s).
+     * @param estimatedMg     estimated gyroscope scale factors and cross coupling errors.
+     * @param estimatedGg     estimated g-dependant cross biases.
+     * @param result          array where errors will be stored. Must have at least length 21.
+     * @throws IllegalArgumentException if result is too short.
+     */
+    public void computeGyroscopeErrors(final double[] estimatedBiases, final Matrix estimatedMg,
+                                       final Matrix estimatedGg, final double[] result) {
+        if (result.length < GYROSCOPE_PARAMETERS) {
+            throw new IllegalArgumentException();
+        }
+        computeErrors(errors.getGyroBiases(), errors.getGyroScaleFactorAndCrossCouplingErrors(),
+                estimatedBiases, estimatedMg, result);
+
+        final var expected = errors.getGyroGDependentBiases().getBuffer();
+        final var estimated = estimatedGg.getBuffer();
+        for (var i = 0; i < expected.length; i++) {
+            result[ACCELEROMETER_PARAMETERS + i] = estimated[i] - expected[i];
+        }
+    }
+
+    /**
+     * Computes errors of biases, scale factors and cross couplings.
+     *
+     * @param expectedBiases  ground-truth biases.
+     * @param expectedM       ground-truth scale factors and cross coupling errors.
+     * @param estimatedBiases estimated biases.
+     * @param estimatedM      estimated scale factors and cross coupling errors.
+     * @param result          array where errors will be stored.
+     */
+    private static void computeErrors(final double[] expectedBiases, final Matrix expectedM,
+                                      final double[] estimatedBiases, final Matrix estimatedM,
+                                      final double[] result) {
+        result[0] = estimatedBiases[0] - expectedBiases[0];
+        result[1] = estimatedBiases[1] - expectedBiases[1];
+        result[2] = estimatedBiases[2] - expectedBiases[2];
+
+        // scale factors
+        result[3] = estimatedM.getElementAt(0, 0) - expectedM.getElementAt(0, 0);
+        result[4] = estimatedM.getElementAt(1, 1) - expectedM.getElementAt(1, 1);
+        result[5] = estimatedM.getElementAt(2, 2) - expectedM.getElementAt(2, 2);
+
+        // cross couplings
+        result[6] = estimatedM.getElementAt(0, 1) - expectedM.getElementAt(0, 1);
+        result[7] = estimatedM.getElementAt(0, 2) - expectedM.getElementAt(0, 2);
+        result[8] = estimatedM.getElementAt(1, 0) - expectedM.getElementAt(1, 0);
+        result[9] = estimatedM.getElementAt(1, 2) - expectedM.getElementAt(1, 2);
+        result[10] = estimatedM.getElementAt(2, 0) - expectedM.getElementAt(2, 0);
+        result[11] = estimatedM.getElementAt(2, 1) - expectedM.getElementAt(2, 1);
+    }
+}
@@ -0,0 +1,214 @@
+/*
+ * Copyright (C) 2026 Alberto Irurueta Carro (alberto@irurueta.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.irurueta.navigation.inertial.simulation;
+
+import com.irurueta.navigation.NotReadyException;
+import com.irurueta.navigation.frames.CoordinateTransformation;
+import com.irurueta.navigation.frames.FrameType;
+import com.irurueta.navigation.frames.NEDFrame;
+import com.irurueta.navigation.frames.NEDPosition;
+import com.irurueta.navigation.frames.converters.NEDtoECEFFrameConverter;
+import com.irurueta.navigation.inertial.calibration.BodyKinematicsGenerator;
+import com.irurueta.navigation.inertial.calibration.IMUErrors;
+import com.irurueta.navigation.inertial.calibration.IMUErrorsCreator;
+import com.irurueta.navigation.inertial.calibration.StandardDeviationFrameBodyKinematics;
+import com.irurueta.navigation.inertial.estimators.ECEFKinematicsEstimator;
+
+import java.util.ArrayList;
+import java.util.Random;
+
+/**
+ * Generates data of Monte Carlo trials to evaluate known frame accelerometer and gyroscope
+ * calibrators.
+ * Each trial contains a number of measurements of a static body at a known position and
+ * random attitudes, whose ground-truth kinematics are corrupted with provided IMU errors
+ * using {@link BodyKinematicsGenerator}.
+ */
+public class KnownFrameCalibrationDataGenerator implements MonteCarloDataGenerator<KnownFrameCalibrationData> {
+
+    /**
+     * Default number of measurements of each trial.
+     */
+    public static final int DEFAULT_MEASUREMENTS = 100;
+
+    /**
+     * Default time interval between IMU samples expressed in seconds (s).
+     */
+    public static final double DEFAULT_TIME_INTERVAL = 0.02;
+
+    /**
+     * Default maximum absolute value of random Euler angles expressed in radians (rad).
+     */
+    public static final double DEFAULT_MAX_ANGLE = Math.toRadians(180.0);
+
+    /**
+     * Ground-truth IMU errors.
+     */
+    private final IMUErrors errors;
+
+    /**
+     * Body position.
+     */
+    private final NEDPosition position;
+
+    /**
+     * Number of measurements of each trial.
+     */
+    private final int measurements;
+
+    /**
+     * Time interval between IMU samples expressed in seconds (s).
+     */
+    private final double timeInterval;
+
+    /**
+     * Maximum absolute value of random Euler angles expressed in radians (rad).
+     */
+    private final double maxAngle;
+
+    /**
+     * Constructor.
+     *
+     * @param errors       ground-truth IMU errors.
+     * @param position     body position.
+     * @param measurements number of measurements of each trial.
+     * @param timeInterval time interval between IMU samples expressed in seconds (s).
+     * @param maxAngle     maximum absolute value of random Euler angles expressed in radians (rad).
+     * @throws NullPointerException     if errors or position are null.
+     * @throws IllegalArgumentException if number of measurements is negative, if time interval
+     *                                  is not positive or if maximum angle is negative.
+     */
+    public KnownFrameCalibrationDataGenerator(
+            final IMUErrors errors, final NEDPosition position, final int measurements,
+            final double timeInterval, final double maxAngle) {
+        if (errors == null || position == null) {
+            throw new NullPointerException();
+        }
+        if (measurements < 0 || timeInterval <= 0.0 || maxAngle < 0.0) {
+            throw new IllegalArgumentException();
+        }
+        this.errors = errors;
+        this.position = position;
+        this.measurements = measurements;
+        this.timeInterval = timeInterval;
+        this.maxAngle = maxAngle;
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param errors   ground-truth IMU errors.
+     * @param position body position.
+     * @throws NullPointerException if any argument is null.
+     */
+    public KnownFrameCalibrationDataGenerator(final IMUErrors errors, final NEDPosition position) {
+        this(errors, position, DEFAULT_MEASUREMENTS, DEFAULT_TIME_INTERVAL, DEFAULT_MAX_ANGLE);
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param creator  creator of ground-truth IMU errors.
+     * @param position body position.
+     * @throws NotReadyException    if creator is not ready.
+     * @throws NullPointerException if position is null.
+     */
+    public KnownFrameCalibrationDataGenerator(final IMUErrorsCreator creator, final NEDPosition position)
+            throws NotReadyException {
+        this(creator.create(), position);
+    }
+
+    /**
+     * Gets ground-truth IMU errors.
+     *
+     * @return ground-truth IMU errors.
+     */
+    public IMUErrors getErrors() {
+        return errors;
+    }
+
+    /**
+     * Gets body position.
+     *
+     * @return body position.
+     */
+    public NEDPosition getPosition() {
+        return position;
+    }
+
+    /**
+     * Gets number of measurements of each trial.
+     *
+     * @return number of measurements.
+     */
+    public int getMeasurements() {
+        return measurements;
+    }
+
+    /**
+     * Gets time interval between IMU samples expressed in seconds (s).
+     *
+     * @return time interval between IMU samples.
+     */
+    public double getTimeInterval() {
+        return timeInterval;
+    }
+
+    /**
+     * Gets maximum absolute value of random Euler angles expressed in radians (rad).
+     *
+     * @return maximum absolute value of random Euler angles.
+     */
+    public double getMaxAngle() {
+        return maxAngle;
+    }
+
+    /**
+     * Generates the data of a trial.
+     *
+     * @param trial  index of trial.
+     * @param random random generator seeded for provided trial.
+     * @return generated data.
+     * @throws Exception if data cannot be generated.
+     */
+    @Override
+    public KnownFrameCalibrationData generate(final int trial, final Random random) throws Exception {
+        final var sqrtTimeInterval = Math.sqrt(timeInterval);
+        final var specificForceStandardDeviation = errors.getAccelerometerNoiseRootPSD() / sqrtTimeInterval;
+        final var angularRateStandardDeviation = errors.getGyroNoiseRootPSD() / sqrtTimeInterval;
+
+        final var result = new ArrayList<StandardDeviationFrameBodyKinematics>(measurements);
+        for (var i = 0; i < measurements; i++) {
+            final var roll = maxAngle * (2.0 * random.nextDouble() - 1.0);
+            final var pitch = maxAngle * (2.0 * random.nextDouble() - 1.0);
+            final var yaw = maxAngle * (2.0 * random.nextDouble() - 1.0);
+            final var nedC = new CoordinateTransformation(roll, pitch, yaw, FrameType.BODY_FRAME,
+                    FrameType.LOCAL_NAVIGATION_FRAME);
+
+            final var nedFrame = new NEDFrame(position, nedC);
+            final var ecefFrame = NEDtoECEFFrameConverter.convertNEDtoECEFAndReturnNew(nedFrame);
+
+            final var trueKinematics = ECEFKinematicsEstimator.estimateKinematicsAndReturnNew(timeInterval,
+                    ecefFrame, ecefFrame);
+            final var measuredKinematics = BodyKinematicsGenerator.generate(timeInterval, trueKinematics, errors,
+                    random);
+
+            result.add(new StandardDeviationFrameBodyKinematics(measuredKinematics, ecefFrame, ecefFrame,
+                    timeInterval, specificForceStandardDeviation, angularRateStandardDeviation));
+        }
+        return new KnownFrameCalibrationData(errors, result);
+    }
+}
@@ -0,0 +1,39 @@
+/*
+ * Copyright (C) 2026 Alberto Irurueta Carro (alberto@irurueta.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.irurueta.navigation.inertial.simulation;
+
+import java.util.Random;
+
+/**
+ * Generates the synthetic data of each trial of a Monte Carlo evaluation.
+ * Implementations must only use provided random generator, so that the data of a trial only
+ * depends on its seed, and they must be safe to be called concurrently from different threads.
+ *
+ * @param <D> type of generated data.
+ */
+@FunctionalInterface
+public interface MonteCarloDataGenerator<D> {
+
+    /**
+     * Generates the data of a trial.
+     *
+     * @param trial  index of trial.
+     * @param random random generator seeded for provided trial.
+     * @return generated data.
+     * @throws Exception if data cannot be generated, which makes the trial fail.
+     */
+    D generate(final int trial, final Random random) throws Exception;
+}
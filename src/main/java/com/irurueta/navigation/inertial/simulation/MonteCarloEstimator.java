@@ -0,0 +1,37 @@
+/*
+ * Copyright (C) 2026 Alberto Irurueta Carro (alberto@irurueta.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.irurueta.navigation.inertial.simulation;
+
+/**
+ * Estimator evaluated on each trial of a Monte Carlo evaluation, typically wrapping a calibrator
+ * or a filter.
+ *
+ * @param <D> type of data of each trial.
+ */
+@FunctionalInterface
+public interface MonteCarloEstimator<D> {
+
+    /**
+     * Estimates parameters from the data of a trial and computes their errors respect to the
+     * ground-truth values.
+     *
+     * @param data   data of a trial.
+     * @param errors array where the error of each estimated parameter (estimated minus
+     *               ground-truth value) must be stored.
+     * @throws Exception if estimation fails, which makes the trial fail.
+     */
+    void estimate(final D data, final double[] errors) throws Exception;
+}
@@ -0,0 +1,34 @@
+/*
+ * Copyright (C) 2026 Alberto Irurueta Carro (alberto@irurueta.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.irurueta.navigation.inertial.simulation;
+
+/**
+ * Creates the estimators evaluated by a Monte Carlo harness.
+ * A new estimator is created for each trial, since calibrators and filters are not
+ * thread-safe and trials are executed concurrently.
+ *
+ * @param <D> type of data of each trial.
+ */
+@FunctionalInterface
+public interface MonteCarloEstimatorFactory<D> {
+
+    /**
+     * Creates a new estimator.
+     *
+     * @return a new estimator.
+     */
+    MonteCarloEstimator<D> create();
+}
@@ -0,0 +1,364 @@
+/*
+ * Copyright (C) 2026 Alberto Irurueta Carro (alberto@irurueta.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.irurueta.navigation.inertial.simulation;
+
+import com.irurueta.navigation.LockedException;
+
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+
+/**
+ * Evaluates an estimator, such as a calibrator or a filter, on many trials of synthetic data
+ * executed in parallel on a fork-join pool, and collects statistics of estimation errors,
+ * wall time and heap allocations.
+ * Each trial uses a {@link Random} generator seeded with {@link TrajectorySimulator#getRunSeed(long, int)},
+ * so that its data only depends on the base seed and the trial index.
+ * Trials are split into blocks of a fixed size, each block accumulates its trials in order,
+ * and block results are merged in block order. Consequently, error statistics are bitwise
+ * reproducible regardless of the number of threads of the pool, while wall time and allocation
+ * statistics are measurements and may vary between evaluations.
+ *
+ * @param <D> type of data of each trial.
+ */
+public class MonteCarloHarness<D> {
+
+    /**
+     * Default number of trials.
+     */
+    public static final int DEFAULT_TRIALS = 1000;
+
+    /**
+     * Default number of consecutive trials evaluated by a single task.
+     */
+    public static final int DEFAULT_BLOCK_SIZE = 16;
+
+    /**
+     * Default base seed.
+     */
+    public static final long DEFAULT_SEED = 0L;
+
+    /**
+     * Thread management bean used to measure allocations, or null if not supported.
+     */
+    private static final com.sun.management.ThreadMXBean ALLOCATION_BEAN = findAllocationBean();
+
+    /**
+     * Factory of evaluated estimators.
+     */
+    private final MonteCarloEstimatorFactory<D> estimatorFactory;
+
+    /**
+     * Generator of data of each trial.
+     */
+    private final MonteCarloDataGenerator<D> dataGenerator;
+
+    /**
+     * Number of parameters estimated on each trial.
+     */
+    private final int numberOfParameters;
+
+    /**
+     * Number of trials.
+     */
+    private int trials = DEFAULT_TRIALS;
+
+    /**
+     * Base seed.
+     */
+    private long seed = DEFAULT_SEED;
+
+    /**
+     * Number of consecutive trials evaluated by a single task.
+     */
+    private int blockSize = DEFAULT_BLOCK_SIZE;
+
+    /**
+     * Pool where trials are executed, or null to use the common pool.
+     */
+    private ForkJoinPool pool;
+
+    /**
+     * Indicates whether heap allocations of each trial are measured.
+     */
+    private boolean allocationMeasured = true;
+
+    /**
+     * Indicates whether this harness is running.
+     */
+    private boolean running;
+
+    /**
+     * Constructor.
+     *
+     * @param estimatorFactory   factory of evaluated estimators.
+     * @param dataGenerator      generator of data of each trial.
+     * @param numberOfParameters number of parameters estimated on each trial.
+     * @throws NullPointerException     if factory or generator are null.
+     * @throws IllegalArgumentException if number of parameters is negative.
+     */
+    public MonteCarloHarness(final MonteCarloEstimatorFactory<D> estimatorFactory,
+                             final MonteCarloDataGenerator<D> dataGenerator, final int numberOfParameters) {
+        if (estimatorFactory == null || dataGenerator == null) {
+            throw new NullPointerException();
+        }
+        if (numberOfParameters < 0) {
+            throw new IllegalArgumentException();
+        }
+        this.estimatorFactory = estimatorFactory;
+        this.dataGenerator = dataGenerator;
+        this.numberOfParameters = numberOfParameters;
+    }
+
+    /**
+     * Gets factory of evaluated estimators.
+     *
+     * @return factory of evaluated estimators.
+     */
+    public MonteCarloEstimatorFactory<D> getEstimatorFactory() {
+        return estimatorFactory;
+    }
+
+    /**
+     * Gets generator of data of each trial.
+     *
+     * @return generator of data.
+     */
+    public MonteCarloDataGenerator<D> getDataGenerator() {
+        return dataGenerator;
+    }
+
+    /**
+     * Gets number of parameters estimated on each trial.
+     *
+     * @return number of parameters.
+     */
+    public int getNumberOfParameters() {
+        return numberOfParameters;
+    }
+
+    /**
+     * Gets number of trials.
+     *
+     * @return number of trials.
+     */
+    public int getTrials() {
+        return trials;
+    }
+
+    /**
+     * Sets number of trials.
+     *
+     * @param trials number of trials.
+     * @throws LockedException          if harness is running.
+     * @throws IllegalArgumentException if number of trials is negative.
+     */
+    public void setTrials(final int trials) throws LockedException {
+        if (running) {
+            throw new LockedException();
+        }
+        if (trials < 0) {
+            throw new IllegalArgumentException();
+        }
+        this.trials = trials;
+    }
+
+    /**
+     * Gets base seed.
+     *
+     * @return base seed.
+     */
+    public long getSeed() {
+        return seed;
+    }
+
+    /**
+     * Sets base seed.
+     *
+     * @param seed base seed.
+     * @throws LockedException if harness is running.
+     */
+    public void setSeed(final long seed) throws LockedException {
+        if (running) {
+            throw new LockedException();
+        }
+        this.seed = seed;
+    }
+
+    /**
+     * Gets number of consecutive trials evaluated by a single task.
+     * Error statistics depend on this value, since it determines the order in which
+     * partial results are merged.
+     *
+     * @return block size.
+     */
+    public int getBlockSize() {
+        return blockSize;
+    }
+
+    /**
+     * Sets number of consecutive trials evaluated by a single task.
+     *
+     * @param blockSize block size.
+     * @throws LockedException          if harness is running.
+     * @throws IllegalArgumentException if block size is less than 1.
+     */
+    public void setBlockSize(final int blockSize) throws LockedException {
+        if (running) {
+            throw new LockedException();
+        }
+        if (blockSize < 1) {
+            throw new IllegalArgumentException();
+        }
+        this.blockSize = blockSize;
+    }
+
+    /**
+     * Gets pool where trials are executed.
+     *
+     * @return pool where trials are executed, or null if the common pool is used.
+     */
+    public ForkJoinPool getPool() {
+        return pool;
+    }
+
+    /**
+     * Sets pool where trials are executed.
+     *
+     * @param pool pool where trials are executed, or null to use the common pool.
+     * @throws LockedException if harness is running.
+     */
+    public void setPool(final ForkJoinPool pool) throws LockedException {
+        if (running) {
+            throw new LockedException();
+        }
+        this.pool = pool;
+    }
+
+    /**
+     * Indicates whether heap allocations of each trial are measured.
+     * Allocations are only measured when supported by the JVM.
+     *
+     * @return true if allocations are measured, false otherwise.
+     */
+    public boolean isAllocationMeasured() {
+        return allocationMeasured;
+    }
+
+    /**
+     * Specifies whether heap allocations of each trial are measured.
+     *
+     * @param allocationMeasured true if allocations are measured, false otherwise.
+     * @throws LockedException if harness is running.
+     */
+    public void setAllocationMeasured(final boolean allocationMeasured) throws LockedException {
+        if (running) {
+            throw new LockedException();
+        }
+        this.allocationMeasured = allocationMeasured;
+    }
+
+    /**
+     * Indicates whether this harness is running.
+     *
+     * @return true if harness is running, false otherwise.
+     */
+    public boolean isRunning() {
+        return running;
+    }
+
+    /**
+     * Evaluates all trials and waits for them to finish.
+     *
+     * @return collected statistics.
+     * @throws LockedException if harness is already running.
+     */
+    public MonteCarloResult run() throws LockedException {
+        if (running) {
+            throw new LockedException();
+        }
+
+        try {
+            running = true;
+
+            final var executor = pool != null ? pool : ForkJoinPool.commonPool();
+            final var measureAllocations = allocationMeasured && ALLOCATION_BEAN != null;
+            final var blocks = (trials + blockSize - 1) / blockSize;
+            final var tasks = new ArrayList<ForkJoinTask<MonteCarloResult>>(blocks);
+            for (var b = 0; b < blocks; b++) {
+                final var first = b * blockSize;
+                final var last = Math.min(trials, first + blockSize);
+                tasks.add(executor.submit(() -> runBlock(first, last, measureAllocations)));
+            }
+
+            // merge in block order so that results do not depend on scheduling
+            final var result = new MonteCarloResult(numberOfParameters);
+            for (final var task : tasks) {
+                result.merge(task.join());
+            }
+            return result;
+        } finally {
+            running = false;
+        }
+    }
+
+    /**
+     * Evaluates a block of consecutive trials in order.
+     *
+     * @param first              index of first trial (inclusive).
+     * @param last               index of last trial (exclusive).
+     * @param measureAllocations true to measure allocations.
+     * @return statistics of block.
+     */
+    private MonteCarloResult runBlock(final int first, final int last, final boolean measureAllocations) {
+        final var result = new MonteCarloResult(numberOfParameters);
+        final var errors = new double[numberOfParameters];
+        for (var trial = first; trial < last; trial++) {
+            try {
+                final var random = new Random(TrajectorySimulator.getRunSeed(seed, trial));
+                final var data = dataGenerator.generate(trial, random);
+                final var estimator = estimatorFactory.create();
+
+                final var startBytes = measureAllocations ? ALLOCATION_BEAN.getCurrentThreadAllocatedBytes() : -1L;
+                final var startNanos = System.nanoTime();
+                estimator.estimate(data, errors);
+                final var wallTimeNanos = System.nanoTime() - startNanos;
+                final var allocatedBytes = measureAllocations
+                        ? ALLOCATION_BEAN.getCurrentThreadAllocatedBytes() - startBytes : -1L;
+
+                result.addTrial(errors, wallTimeNanos, allocatedBytes);
+            } catch (final Exception e) {
+                result.addFailedTrial();
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Finds thread management bean able to measure allocations of current thread.
+     *
+     * @return thread management bean or null if not supported.
+     */
+    private static com.sun.management.ThreadMXBean findAllocationBean() {
+        if (ManagementFactory.getThreadMXBean() instanceof com.sun.management.ThreadMXBean bean
+                && bean.isThreadAllocatedMemorySupported() && bean.isThreadAllocatedMemoryEnabled()) {
+            return bean;
+        }
+        return null;
+    }
+}
@@ -0,0 +1,172 @@
+/*
+ * Copyright (C) 2026 Alberto Irurueta Carro (alberto@irurueta.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.irurueta.navigation.inertial.simulation;
+
+/**
+ * Statistics collected by a Monte Carlo evaluation.
+ * Contains the statistics of the error of each estimated parameter, along with the wall
+ * time and heap allocations of each trial. Failed trials only count as failures and do
+ * not contribute to any statistics.
+ * Results of disjoint sets of trials can be merged, so that trials can be evaluated in
+ * parallel.
+ */
+public class MonteCarloResult {
+
+    /**
+     * Statistics of the error of each estimated parameter.
+     */
+    private final MonteCarloStatistics[] parameterErrors;
+
+    /**
+     * Statistics of wall time of each trial expressed in nanoseconds.
+     */
+    private final MonteCarloStatistics wallTimeNanos = new MonteCarloStatistics();
+
+    /**
+     * Statistics of bytes allocated on the heap by each trial.
+     */
+    private final MonteCarloStatistics allocatedBytes = new MonteCarloStatistics();
+
+    /**
+     * Number of evaluated trials, including failed ones.
+     */
+    private int trials;
+
+    /**
+     * Number of failed trials.
+     */
+    private int failedTrials;
+
+    /**
+     * Constructor.
+     *
+     * @param numberOfParameters number of estimated parameters.
+     * @throws IllegalArgumentException if number of parameters is negative.
+     */
+    public MonteCarloResult(final int numberOfParameters) {
+        if (numberOfParameters < 0) {
+            throw new IllegalArgumentException();
+        }
+
+        parameterErrors = new MonteCarloStatistics[numberOfParameters];
+        for (var i = 0; i < numberOfParameters; i++) {
+            parameterErrors[i] = new MonteCarloStatistics();
+        }
+    }
+
+    /**
+     * Gets number of estimated parameters.
+     *
+     * @return number of estimated parameters.
+     */
+    public int getNumberOfParameters() {
+        return parameterErrors.length;
+    }
+
+    /**
+     * Gets statistics of the error of a parameter.
+     *
+     * @param parameter index of parameter.
+     * @return statistics of the error of the parameter.
+     * @throws IndexOutOfBoundsException if index is not valid.
+     */
+    public MonteCarloStatistics getParameterError(final int parameter) {
+        return parameterErrors[parameter];
+    }
+
+    /**
+     * Gets statistics of wall time of each successful trial expressed in nanoseconds.
+     *
+     * @return statistics of wall time.
+     */
+    public MonteCarloStatistics getWallTimeNanos() {
+        return wallTimeNanos;
+    }
+
+    /**
+     * Gets statistics of bytes allocated on the heap by each successful trial.
+     * No values are accumulated if the JVM does not support measuring thread allocations.
+     *
+     * @return statistics of allocated bytes.
+     */
+    public MonteCarloStatistics getAllocatedBytes() {
+        return allocatedBytes;
+    }
+
+    /**
+     * Gets number of evaluated trials, including failed ones.
+     *
+     * @return number of evaluated trials.
+     */
+    public int getTrials() {
+        return trials;
+    }
+
+    /**
+     * Gets number of failed trials.
+     *
+     * @return number of failed trials.
+     */
+    public int getFailedTrials() {
+        return failedTrials;
+    }
+
+    /**
+     * Merges statistics of another result into this instance.
+     *
+     * @param other result to be merged.
+     * @throws IllegalArgumentException if results do not have the same number of parameters.
+     */
+    public void merge(final MonteCarloResult other) {
+        if (other.parameterErrors.length != parameterErrors.length) {
+            throw new IllegalArgumentException();
+        }
+
+        for (var i = 0; i < parameterErrors.length; i++) {
+            parameterErrors[i].merge(other.parameterErrors[i]);
+        }
+        wallTimeNanos.merge(other.wallTimeNanos);
+        allocatedBytes.merge(other.allocatedBytes);
+        trials += other.trials;
+        failedTrials += other.failedTrials;
+    }
+
+    /**
+     * Adds a successful trial.
+     *
+     * @param errors         error of each estimated parameter.
+     * @param wallTimeNanos  wall time of trial expressed in nanoseconds.
+     * @param allocatedBytes bytes allocated by trial, or a negative value if unknown.
+     */
+    void addTrial(final double[] errors, final long wallTimeNanos, final long allocatedBytes) {
+        for (var i = 0; i < parameterErrors.length; i++) {
+            parameterErrors[i].add(errors[i]);
+        }
+        this.wallTimeNanos.add(wallTimeNanos);
+        if (allocatedBytes >= 0) {
+            this.allocatedBytes.add(allocatedBytes);
+        }
+        trials++;
+    }
+
+    /**
+     * Adds a failed trial.
+     */
+    void addFailedTrial() {
+        trials++;
+        failedTrials++;
+    }
+}
@@ -0,0 +1,179 @@
+/*
+ * Copyright (C) 2026 Alberto Irurueta Carro (alberto@irurueta.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.irurueta.navigation.inertial.simulation;
+
+/**
+ * Accumulates count, mean, variance, minimum and maximum of a sequence of values in a
+ * single pass, using Welford's update for each value.
+ * Two accumulators can be merged using Chan's parallel formula, so that values can be
+ * accumulated in parallel by different threads and combined afterwards.
+ * Since floating point addition is not associative, results are bitwise reproducible as
+ * long as values are added and accumulators merged in the same order.
+ */
+public class MonteCarloStatistics {
+
+    /**
+     * Number of accumulated values.
+     */
+    private long count;
+
+    /**
+     * Mean of accumulated values.
+     */
+    private double mean;
+
+    /**
+     * Sum of squared differences respect to the mean.
+     */
+    private double m2;
+
+    /**
+     * Minimum accumulated value.
+     */
+    private double min = Double.POSITIVE_INFINITY;
+
+    /**
+     * Maximum accumulated value.
+     */
+    private double max = Double.NEGATIVE_INFINITY;
+
+    /**
+     * Constructor.
+     */
+    public MonteCarloStatistics() {
+    }
+
+    /**
+     * Copy constructor.
+     *
+     * @param input instance to copy data from.
+     */
+    public MonteCarloStatistics(final MonteCarloStatistics input) {
+        count = input.count;
+        mean = input.mean;
+        m2 = input.m2;
+        min = input.min;
+        max = input.max;
+    }
+
+    /**
+     * Adds a value.
+     *
+     * @param value value to be added.
+     */
+    public void add(final double value) {
+        count++;
+        final var delta = value - mean;
+        mean += delta / count;
+        m2 += delta * (value - mean);
+        if (value < min) {
+            min = value;
+        }
+        if (value > max) {
+            max = value;
+        }
+    }
+
+    /**
+     * Merges values accumulated by another instance into this instance.
+     *
+     * @param other instance to be merged.
+     */
+    public void merge(final MonteCarloStatistics other) {
+        if (other.count == 0) {
+            return;
+        }
+        if (count == 0) {
+            count = other.count;
+            mean = other.mean;
+            m2 = other.m2;
+            min = other.min;
+            max = other.max;
+            return;
+        }
+
+        final var n = count + other.count;
+        final var delta = other.mean - mean;
+        mean += delta * other.count / n;
+        m2 += other.m2 + delta * delta * count * other.count / n;
+        count = n;
+        min = Math.min(min, other.min);
+        max = Math.max(max, other.max);
+    }
+
+    /**
+     * Gets number of accumulated values.
+     *
+     * @return number of accumulated values.
+     */
+    public long getCount() {
+        return count;
+    }
+
+    /**
+     * Gets mean of accumulated values.
+     *
+     * @return mean or zero if no value has been accumulated.
+     */
+    public double getMean() {
+        return mean;
+    }
+
+    /**
+     * Gets unbiased variance of accumulated values.
+     *
+     * @return variance or zero if less than two values have been accumulated.
+     */
+    public double getVariance() {
+        return count > 1 ? m2 / (count - 1) : 0.0;
+    }
+
+    /**
+     * Gets unbiased standard deviation of accumulated values.
+     *
+     * @return standard deviation or zero if less than two values have been accumulated.
+     */
+    public double getStandardDeviation() {
+        return Math.sqrt(getVariance());
+    }
+
+    /**
+     * Gets root mean square of accumulated values.
+     *
+     * @return root mean square or zero if no value has been accumulated.
+     */
+    public double getRootMeanSquare() {
+        return count > 0 ? Math.sqrt(mean * mean + m2 / count) : 0.0;
+    }
+
+    /**
+     * Gets minimum accumulated value.
+     *
+     * @return minimum value or positive infinity if no value has been accumulated.
+     */
+    public double getMin() {
+        return min;
+    }
+
+    /**
+     * Gets maximum accumulated value.
+     *
+     * @return maximum value or negative infinity if no value has been accumulated.
+     */
+    public double getMax() {
+        return max;
+    }
+}
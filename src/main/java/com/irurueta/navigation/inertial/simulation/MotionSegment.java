@@ -0,0 +1,178 @@
+/*
+ * Copyright (C) 2026 Alberto Irurueta Carro (alberto@irurueta.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.irurueta.navigation.inertial.simulation;
+
+/**
+ * Segment of a reference trajectory where a body moves with constant acceleration
+ * resolved along local navigation (NED) frame axes and constant Euler angle rates
+ * during a given amount of time.
+ * Segments are used to build a {@link ReferenceTrajectory}.
+ */
+public class MotionSegment {
+
+    /**
+     * Duration of segment expressed in seconds (s).
+     */
+    private final double duration;
+
+    /**
+     * North acceleration expressed in meters per squared second (m/s^2).
+     */
+    private final double accelerationNorth;
+
+    /**
+     * East acceleration expressed in meters per squared second (m/s^2).
+     */
+    private final double accelerationEast;
+
+    /**
+     * Down acceleration expressed in meters per squared second (m/s^2).
+     */
+    private final double accelerationDown;
+
+    /**
+     * Roll Euler angle rate expressed in radians per second (rad/s).
+     */
+    private final double rollRate;
+
+    /**
+     * Pitch Euler angle rate expressed in radians per second (rad/s).
+     */
+    private final double pitchRate;
+
+    /**
+     * Yaw Euler angle rate expressed in radians per second (rad/s).
+     */
+    private final double yawRate;
+
+    /**
+     * Constructor.
+     *
+     * @param duration          duration of segment expressed in seconds (s).
+     * @param accelerationNorth north acceleration expressed in meters per squared second (m/s^2).
+     * @param accelerationEast  east acceleration expressed in meters per squared second (m/s^2).
+     * @param accelerationDown  down acceleration expressed in meters per squared second (m/s^2).
+     * @param rollRate          roll Euler angle rate expressed in radians per second (rad/s).
+     * @param pitchRate         pitch Euler angle rate expressed in radians per second (rad/s).
+     * @param yawRate           yaw Euler angle rate expressed in radians per second (rad/s).
+     * @throws IllegalArgumentException if duration is negative.
+     */
+    public MotionSegment(
+            final double duration, final double accelerationNorth, final double accelerationEast,
+            final double accelerationDown, final double rollRate, final double pitchRate, final double yawRate) {
+        if (duration < 0.0) {
+            throw new IllegalArgumentException();
+        }
+
+        this.duration = duration;
+        this.accelerationNorth = accelerationNorth;
+        this.accelerationEast = accelerationEast;
+        this.accelerationDown = accelerationDown;
+        this.rollRate = rollRate;
+        this.pitchRate = pitchRate;
+        this.yawRate = yawRate;
+    }
+
+    /**
+     * Creates a segment where body keeps its velocity and attitude.
+     *
+     * @param duration duration of segment expressed in seconds (s).
+     * @return a new segment.
+     * @throws IllegalArgumentException if duration is negative.
+     */
+    public static MotionSegment createConstantVelocity(final double duration) {
+        return new MotionSegment(duration, 0.0, 0.0, 0.0, 0.0, 0.0, 0.0);
+    }
+
+    /**
+     * Creates a segment where body keeps its velocity and changes its attitude at
+     * constant Euler angle rates.
+     *
+     * @param duration  duration of segment expressed in seconds (s).
+     * @param rollRate  roll Euler angle rate expressed in radians per second (rad/s).
+     * @param pitchRate pitch Euler angle rate expressed in radians per second (rad/s).
+     * @param yawRate   yaw Euler angle rate expressed in radians per second (rad/s).
+     * @return a new segment.
+     * @throws IllegalArgumentException if duration is negative.
+     */
+    public static MotionSegment createRotation(
+            final double duration, final double rollRate, final double pitchRate, final double yawRate) {
+        return new MotionSegment(duration, 0.0, 0.0, 0.0, rollRate, pitchRate, yawRate);
+    }
+
+    /**
+     * Gets duration of segment expressed in seconds (s).
+     *
+     * @return duration of segment.
+     */
+    public double getDuration() {
+        return duration;
+    }
+
+    /**
+     * Gets north acceleration expressed in meters per squared second (m/s^2).
+     *
+     * @return north acceleration.
+     */
+    public double getAccelerationNorth() {
+        return accelerationNorth;
+    }
+
+    /**
+     * Gets east acceleration expressed in meters per squared second (m/s^2).
+     *
+     * @return east acceleration.
+     */
+    public double getAccelerationEast() {
+        return accelerationEast;
+    }
+
+    /**
+     * Gets down acceleration expressed in meters per squared second (m/s^2).
+     *
+     * @return down acceleration.
+     */
+    public double getAccelerationDown() {
+        return accelerationDown;
+    }
+
+    /**
+     * Gets roll Euler angle rate expressed in radians per second (rad/s).
+     *
+     * @return roll Euler angle rate.
+     */
+    public double getRollRate() {
+        return rollRate;
+    }
+
+    /**
+     * Gets pitch Euler angle rate expressed in radians per second (rad/s).
+     *
+     * @return pitch Euler angle rate.
+     */
+    public double getPitchRate() {
+        return pitchRate;
+    }
+
+    /**
+     * Gets yaw Euler angle rate expressed in radians per second (rad/s).
+     *
+     * @return yaw Euler angle rate.
+     */
+    public double getYawRate() {
+        return yawRate;
+    }
+}
@@ -0,0 +1,598 @@
+/*
+ * Copyright (C) 2026 Alberto Irurueta Carro (alberto@irurueta.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.irurueta.navigation.inertial.simulation;
+
+import com.irurueta.algebra.Matrix;
+import com.irurueta.algebra.WrongSizeException;
+import com.irurueta.navigation.frames.CoordinateTransformation;
+import com.irurueta.navigation.frames.ECEFPosition;
+import com.irurueta.navigation.frames.ECEFVelocity;
+import com.irurueta.navigation.frames.FrameType;
+import com.irurueta.navigation.frames.NEDPosition;
+import com.irurueta.navigation.frames.NEDVelocity;
+import com.irurueta.navigation.frames.converters.ECEFtoNEDPositionVelocityConverter;
+import com.irurueta.navigation.frames.converters.NEDtoECEFPositionVelocityConverter;
+import com.irurueta.navigation.inertial.RadiiOfCurvature;
+import com.irurueta.navigation.inertial.estimators.ECEFTrajectoryKinematicsEstimator;
+import com.irurueta.navigation.inertial.estimators.RadiiOfCurvatureEstimator;
+import com.irurueta.navigation.inertial.wmm.NEDMagneticFluxDensity;
+import com.irurueta.navigation.inertial.wmm.WMMEarthMagneticFluxDensityEstimator;
+
+import java.util.List;
+
+/**
+ * Ground-truth trajectory of a body sampled at a constant rate and stored as primitive arrays.
+ * Each epoch contains body position and velocity resolved along ECEF-frame axes, and the
+ * body-to-ECEF-frame coordinate transformation matrix stored as 9 consecutive values in
+ * column order.
+ * True specific force and angular rate of each epoch are derived from the previous epoch using
+ * {@link ECEFTrajectoryKinematicsEstimator}, so that they are the values that an ideal IMU would
+ * measure. Since the first epoch has no previous one, it takes the kinematics of the second epoch.
+ * Optionally, true magnetic flux density resolved along body-frame axes can be computed for each
+ * epoch using the World Magnetic Model.
+ * Instances are not modified by {@link TrajectorySimulator}, hence the same trajectory can be
+ * shared by many simulated runs executed concurrently.
+ */
+public class ReferenceTrajectory {
+
+    /**
+     * Number of values stored for each body-to-ECEF-frame coordinate transformation matrix.
+     */
+    public static final int ATTITUDE_LENGTH = ECEFTrajectoryKinematicsEstimator.ATTITUDE_LENGTH;
+
+    /**
+     * Default number of epochs between evaluations of the World Magnetic Model.
+     * Earth magnetic field resolved along NED-frame axes barely changes between close epochs,
+     * hence it is kept constant within this number of epochs, while body attitude is applied
+     * at every epoch.
+     */
+    public static final int DEFAULT_MAGNETIC_FIELD_STRIDE = 100;
+
+    /**
+     * Time interval between epochs expressed in seconds (s).
+     */
+    private final double timeInterval;
+
+    /**
+     * Number of epochs.
+     */
+    private final int epochs;
+
+    /**
+     * Cartesian x coordinates of body position expressed in meters (m).
+     */
+    private final double[] x;
+
+    /**
+     * Cartesian y coordinates of body position expressed in meters (m).
+     */
+    private final double[] y;
+
+    /**
+     * Cartesian z coordinates of body position expressed in meters (m).
+     */
+    private final double[] z;
+
+    /**
+     * x coordinates of body velocity expressed in meters per second (m/s).
+     */
+    private final double[] vx;
+
+    /**
+     * y coordinates of body velocity expressed in meters per second (m/s).
+     */
+    private final double[] vy;
+
+    /**
+     * z coordinates of body velocity expressed in meters per second (m/s).
+     */
+    private final double[] vz;
+
+    /**
+     * Body-to-ECEF-frame coordinate transformation matrices.
+     */
+    private final double[] cbe;
+
+    /**
+     * True x coordinates of specific force expressed in meters per squared second (m/s^2).
+     */
+    private final double[] fx;
+
+    /**
+     * True y coordinates of specific force expressed in meters per squared second (m/s^2).
+     */
+    private final double[] fy;
+
+    /**
+     * True z coordinates of specific force expressed in meters per squared second (m/s^2).
+     */
+    private final double[] fz;
+
+    /**
+     * True x coordinates of angular rate expressed in radians per second (rad/s).
+     */
+    private final double[] angularRateX;
+
+    /**
+     * True y coordinates of angular rate expressed in radians per second (rad/s).
+     */
+    private final double[] angularRateY;
+
+    /**
+     * True z coordinates of angular rate expressed in radians per second (rad/s).
+     */
+    private final double[] angularRateZ;
+
+    /**
+     * True x coordinates of magnetic flux density expressed in Teslas (T), or null if not computed.
+     */
+    private double[] bx;
+
+    /**
+     * True y coordinates of magnetic flux density expressed in Teslas (T), or null if not computed.
+     */
+    private double[] by;
+
+    /**
+     * True z coordinates of magnetic flux density expressed in Teslas (T), or null if not computed.
+     */
+    private double[] bz;
+
+    /**
+     * Constructor.
+     * Provided arrays are not copied, and true kinematics are computed for all of their epochs.
+     *
+     * @param timeInterval time interval between epochs expressed in seconds (s).
+     * @param x            cartesian x coordinates of body position expressed in meters (m) and resolved along
+     *                     ECEF-frame axes.
+     * @param y            cartesian y coordinates of body position expressed in meters (m) and resolved along
+     *                     ECEF-frame axes.
+     * @param z            cartesian z coordinates of body position expressed in meters (m) and resolved along
+     *                     ECEF-frame axes.
+     * @param vx           x coordinates of body velocity expressed in meters per second (m/s) and resolved
+     *                     along ECEF-frame axes.
+     * @param vy           y coordinates of body velocity expressed in meters per second (m/s) and resolved
+     *                     along ECEF-frame axes.
+     * @param vz           z coordinates of body velocity expressed in meters per second (m/s) and resolved
+     *                     along ECEF-frame axes.
+     * @param cbe          body-to-ECEF-frame coordinate transformation matrices, containing 9 values in column
+     *                     order for each epoch.
+     * @throws IllegalArgumentException if time interval is not positive, if there are less than 2 epochs or if
+     *                                  arrays do not have matching lengths.
+     */
+    public ReferenceTrajectory(
+            final double timeInterval, final double[] x, final double[] y, final double[] z,
+            final double[] vx, final double[] vy, final double[] vz, final double[] cbe) {
+        final var n = x.length;
+        if (timeInterval <= 0.0 || n < 2 || y.length != n || z.length != n || vx.length != n
+                || vy.length != n || vz.length != n || cbe.length != n * ATTITUDE_LENGTH) {
+            throw new IllegalArgumentException();
+        }
+
+        this.timeInterval = timeInterval;
+        this.epochs = n;
+        this.x = x;
+        this.y = y;
+        this.z = z;
+        this.vx = vx;
+        this.vy = vy;
+        this.vz = vz;
+        this.cbe = cbe;
+
+        fx = new double[n];
+        fy = new double[n];
+        fz = new double[n];
+        angularRateX = new double[n];
+        angularRateY = new double[n];
+        angularRateZ = new double[n];
+
+        ECEFTrajectoryKinematicsEstimator.estimateKinematics(timeInterval, x, y, z, vx, vy, vz, cbe, 0, n,
+                fx, fy, fz, angularRateX, angularRateY, angularRateZ, true);
+
+        // first epoch has no previous one
+        fx[0] = fx[1];
+        fy[0] = fy[1];
+        fz[0] = fz[1];
+        angularRateX[0] = angularRateX[1];
+        angularRateY[0] = angularRateY[1];
+        angularRateZ[0] = angularRateZ[1];
+    }
+
+    /**
+     * Creates a trajectory by applying a sequence of motion segments to an initial position, velocity and
+     * attitude.
+     * Velocity and Euler angles are integrated at each epoch using the acceleration and rates of the
+     * segment containing such epoch, and position is integrated using the average velocity between epochs.
+     *
+     * @param timeInterval time interval between epochs expressed in seconds (s).
+     * @param position     initial body position.
+     * @param velocity     initial body velocity resolved along NED-frame axes.
+     * @param roll         initial roll Euler angle of body expressed in radians (rad).
+     * @param pitch        initial pitch Euler angle of body expressed in radians (rad).
+     * @param yaw          initial yaw Euler angle of body expressed in radians (rad).
+     * @param segments     motion segments to be applied in order.
+     * @return a new trajectory.
+     * @throws IllegalArgumentException if time interval is not positive or if segments span less than one
+     *                                  time interval.
+     */
+    public static ReferenceTrajectory create(
+            final double timeInterval, final NEDPosition position, final NEDVelocity velocity,
+            final double roll, final double pitch, final double yaw, final List<MotionSegment> segments) {
+        if (timeInterval <= 0.0) {
+            throw new IllegalArgumentException();
+        }
+
+        final var steps = new int[segments.size()];
+        var n = 1;
+        for (var i = 0; i < steps.length; i++) {
+            steps[i] = (int) Math.round(segments.get(i).getDuration() / timeInterval);
+            n += steps[i];
+        }
+        if (n < 2) {
+            throw new IllegalArgumentException();
+        }
+
+        final var x = new double[n];
+        final var y = new double[n];
+        final var z = new double[n];
+        final var vx = new double[n];
+        final var vy = new double[n];
+        final var vz = new double[n];
+        final var cbe = new double[n * ATTITUDE_LENGTH];
+
+        final var ecefPosition = new ECEFPosition();
+        final var ecefVelocity = new ECEFVelocity();
+        final var radii = new RadiiOfCurvature();
+        final var cnb = new CoordinateTransformation(FrameType.LOCAL_NAVIGATION_FRAME, FrameType.BODY_FRAME);
+        try {
+            final var cnbMatrix = new Matrix(CoordinateTransformation.ROWS, CoordinateTransformation.COLS);
+            final var cbnMatrix = new Matrix(CoordinateTransformation.ROWS, CoordinateTransformation.COLS);
+            final var cneMatrix = new Matrix(CoordinateTransformation.ROWS, CoordinateTransformation.COLS);
+            final var cbeMatrix = new Matrix(CoordinateTransformation.ROWS, CoordinateTransformation.COLS);
+
+            var latitude = position.getLatitude();
+            var longitude = position.getLongitude();
+            var height = position.getHeight();
+            var vn = velocity.getVn();
+            var ve = velocity.getVe();
+            var vd = velocity.getVd();
+            var currentRoll = roll;
+            var currentPitch = pitch;
+            var currentYaw = yaw;
+
+            var k = 0;
+            var segment = 0;
+            var remaining = steps.length > 0 ? steps[0] : 0;
+            while (true) {
+                NEDtoECEFPositionVelocityConverter.convertNEDtoECEF(latitude, longitude, height, vn, ve, vd,
+                        ecefPosition, ecefVelocity);
+                x[k] = ecefPosition.getX();
+                y[k] = ecefPosition.getY();
+                z[k] = ecefPosition.getZ();
+                vx[k] = ecefVelocity.getVx();
+                vy[k] = ecefVelocity.getVy();
+                vz[k] = ecefVelocity.getVz();
+
+                // Euler angles define the NED-to-body-frame transformation
+                cnb.setEulerAngles(currentRoll, currentPitch, currentYaw);
+                cnb.getMatrix(cnbMatrix);
+                cnbMatrix.transpose(cbnMatrix);
+                CoordinateTransformation.nedToEcefMatrix(latitude, longitude, cneMatrix);
+                cneMatrix.multiply(cbnMatrix, cbeMatrix);
+                System.arraycopy(cbeMatrix.getBuffer(), 0, cbe, k * ATTITUDE_LENGTH, ATTITUDE_LENGTH);
+
+                if (++k == n) {
+                    break;
+                }
+
+                // move to segment containing next epoch
+                while (remaining == 0) {
+                    remaining = steps[++segment];
+                }
+                remaining--;
+                final var s = segments.get(segment);
+
+                final var oldVn = vn;
+                final var oldVe = ve;
+                final var oldVd = vd;
+                vn += s.getAccelerationNorth() * timeInterval;
+                ve += s.getAccelerationEast() * timeInterval;
+                vd += s.getAccelerationDown() * timeInterval;
+
+                RadiiOfCurvatureEstimator.estimateRadiiOfCurvature(latitude, radii);
+                final var oldRn = radii.getRn();
+                final var oldRe = radii.getRe();
+                final var oldLatitude = latitude;
+                final var oldHeight = height;
+                height -= 0.5 * (oldVd + vd) * timeInterval;
+                latitude += 0.5 * (oldVn / (oldRn + oldHeight) + vn / (oldRn + height)) * timeInterval;
+                RadiiOfCurvatureEstimator.estimateRadiiOfCurvature(latitude, radii);
+                longitude += 0.5 * (oldVe / ((oldRe + oldHeight) * Math.cos(oldLatitude))
+                        + ve / ((radii.getRe() + height) * Math.cos(latitude))) * timeInterval;
+
+                currentRoll += s.getRollRate() * timeInterval;
+                currentPitch += s.getPitchRate() * timeInterval;
+                currentYaw += s.getYawRate() * timeInterval;
+            }
+        } catch (final WrongSizeException ignore) {
+            // never happens
+        }
+
+        return new ReferenceTrajectory(timeInterval, x, y, z, vx, vy, vz, cbe);
+    }
+
+    /**
+     * Computes true magnetic flux density resolved along body-frame axes for each epoch using the World
+     * Magnetic Model evaluated every {@link #DEFAULT_MAGNETIC_FIELD_STRIDE} epochs.
+     *
+     * @param estimator Earth magnetic flux density estimator.
+     * @param year      decimal year when trajectory takes place.
+     */
+    public void computeMagneticFluxDensity(final WMMEarthMagneticFluxDensityEstimator estimator,
+                                           final double year) {
+        computeMagneticFluxDensity(estimator, year, DEFAULT_MAGNETIC_FIELD_STRIDE);
+    }
+
+    /**
+     * Computes true magnetic flux density resolved along body-frame axes for each epoch using the World
+     * Magnetic Model.
+     * Earth magnetic flux density resolved along ECEF-frame axes is evaluated every provided number of
+     * epochs, and it is transformed to body-frame axes using the attitude of each epoch.
+     *
+     * @param estimator Earth magnetic flux density estimator.
+     * @param year      decimal year when trajectory takes place.
+     * @param stride    number of epochs between evaluations of the World Magnetic Model.
+     * @throws IllegalArgumentException if stride is less than 1.
+     */
+    public void computeMagneticFluxDensity(final WMMEarthMagneticFluxDensityEstimator estimator,
+                                           final double year, final int stride) {
+        if (stride < 1) {
+            throw new IllegalArgumentException();
+        }
+
+        final var resultX = new double[epochs];
+        final var resultY = new double[epochs];
+        final var resultZ = new double[epochs];
+
+        final var nedPosition = new NEDPosition();
+        final var nedVelocity = new NEDVelocity();
+        final var earthB = new NEDMagneticFluxDensity();
+        final var cne = new double[ATTITUDE_LENGTH];
+        double bex = 0.0;
+        double bey = 0.0;
+        double bez = 0.0;
+        try {
+            final var cneMatrix = new Matrix(CoordinateTransformation.ROWS, CoordinateTransformation.COLS);
+            for (var k = 0; k < epochs; k++) {
+                if (k % stride == 0) {
+                    ECEFtoNEDPositionVelocityConverter.convertECEFtoNED(x[k], y[k], z[k], vx[k], vy[k], vz[k],
+                            nedPosition, nedVelocity);
+                    estimator.estimate(nedPosition, year, earthB);
+
+                    // resolve Earth magnetic flux density along ECEF-frame axes
+                    CoordinateTransformation.nedToEcefMatrix(nedPosition.getLatitude(),
+                            nedPosition.getLongitude(), cneMatrix);
+                    System.arraycopy(cneMatrix.getBuffer(), 0, cne, 0, ATTITUDE_LENGTH);
+                    final var bn = earthB.getBn();
+                    final var be = earthB.getBe();
+                    final var bd = earthB.getBd();
+                    bex = cne[0] * bn + cne[3] * be + cne[6] * bd;
+                    bey = cne[1] * bn + cne[4] * be + cne[7] * bd;
+                    bez = cne[2] * bn + cne[5] * be + cne[8] * bd;
+                }
+
+                // resolve along body-frame axes using the transpose of body-to-ECEF matrix
+                final var o = k * ATTITUDE_LENGTH;
+                resultX[k] = cbe[o] * bex + cbe[o + 1] * bey + cbe[o + 2] * bez;
+                resultY[k] = cbe[o + 3] * bex + cbe[o + 4] * bey + cbe[o + 5] * bez;
+                resultZ[k] = cbe[o + 6] * bex + cbe[o + 7] * bey + cbe[o + 8] * bez;
+            }
+        } catch (final WrongSizeException ignore) {
+            // never happens
+        }
+
+        bx = resultX;
+        by = resultY;
+        bz = resultZ;
+    }
+
+    /**
+     * Gets time interval between epochs expressed in seconds (s).
+     *
+     * @return time interval between epochs.
+     */
+    public double getTimeInterval() {
+        return timeInterval;
+    }
+
+    /**
+     * Gets number of epochs.
+     *
+     * @return number of epochs.
+     */
+    public int getEpochs() {
+        return epochs;
+    }
+
+    /**
+     * Gets cartesian x coordinates of body position expressed in meters (m) and resolved along ECEF-frame
+     * axes. Returned array must not be modified.
+     *
+     * @return x coordinates of body position.
+     */
+    public double[] getX() {
+        return x;
+    }
+
+    /**
+     * Gets cartesian y coordinates of body position expressed in meters (m) and resolved along ECEF-frame
+     * axes. Returned array must not be modified.
+     *
+     * @return y coordinates of body position.
+     */
+    public double[] getY() {
+        return y;
+    }
+
+    /**
+     * Gets cartesian z coordinates of body position expressed in meters (m) and resolved along ECEF-frame
+     * axes. Returned array must not be modified.
+     *
+     * @return z coordinates of body position.
+     */
+    public double[] getZ() {
+        return z;
+    }
+
+    /**
+     * Gets x coordinates of body velocity expressed in meters per second (m/s) and resolved along ECEF-frame
+     * axes. Returned array must not be modified.
+     *
+     * @return x coordinates of body velocity.
+     */
+    public double[] getVx() {
+        return vx;
+    }
+
+    /**
+     * Gets y coordinates of body velocity expressed in meters per second (m/s) and resolved along ECEF-frame
+     * axes. Returned array must not be modified.
+     *
+     * @return y coordinates of body velocity.
+     */
+    public double[] getVy() {
+        return vy;
+    }
+
+    /**
+     * Gets z coordinates of body velocity expressed in meters per second (m/s) and resolved along ECEF-frame
+     * axes. Returned array must not be modified.
+     *
+     * @return z coordinates of body velocity.
+     */
+    public double[] getVz() {
+        return vz;
+    }
+
+    /**
+     * Gets body-to-ECEF-frame coordinate transformation matrices, containing 9 values in column order for
+     * each epoch. Returned array must not be modified.
+     *
+     * @return body-to-ECEF-frame coordinate transformation matrices.
+     */
+    public double[] getCbe() {
+        return cbe;
+    }
+
+    /**
+     * Gets true x coordinates of specific force expressed in meters per squared second (m/s^2) and resolved
+     * along body-frame axes. Returned array must not be modified.
+     *
+     * @return true x coordinates of specific force.
+     */
+    public double[] getFx() {
+        return fx;
+    }
+
+    /**
+     * Gets true y coordinates of specific force expressed in meters per squared second (m/s^2) and resolved
+     * along body-frame axes. Returned array must not be modified.
+     *
+     * @return true y coordinates of specific force.
+     */
+    public double[] getFy() {
+        return fy;
+    }
+
+    /**
+     * Gets true z coordinates of specific force expressed in meters per squared second (m/s^2) and resolved
+     * along body-frame axes. Returned array must not be modified.
+     *
+     * @return true z coordinates of specific force.
+     */
+    public double[] getFz() {
+        return fz;
+    }
+
+    /**
+     * Gets true x coordinates of angular rate expressed in radians per second (rad/s) and resolved along
+     * body-frame axes. Returned array must not be modified.
+     *
+     * @return true x coordinates of angular rate.
+     */
+    public double[] getAngularRateX() {
+        return angularRateX;
+    }
+
+    /**
+     * Gets true y coordinates of angular rate expressed in radians per second (rad/s) and resolved along
+     * body-frame axes. Returned array must not be modified.
+     *
+     * @return true y coordinates of angular rate.
+     */
+    public double[] getAngularRateY() {
+        return angularRateY;
+    }
+
+    /**
+     * Gets true z coordinates of angular rate expressed in radians per second (rad/s) and resolved along
+     * body-frame axes. Returned array must not be modified.
+     *
+     * @return true z coordinates of angular rate.
+     */
+    public double[] getAngularRateZ() {
+        return angularRateZ;
+    }
+
+    /**
+     * Indicates whether true magnetic flux density has been computed.
+     *
+     * @return true if true magnetic flux density is available, false otherwise.
+     */
+    public boolean hasMagneticFluxDensity() {
+        return bx != null;
+    }
+
+    /**
+     * Gets true x coordinates of magnetic flux density expressed in Teslas (T) and resolved along body-frame
+     * axes. Returned array must not be modified.
+     *
+     * @return true x coordinates of magnetic flux density or null if not computed.
+     */
+    public double[] getBx() {
+        return bx;
+    }
+
+    /**
+     * Gets true y coordinates of magnetic flux density expressed in Teslas (T) and resolved along body-frame
+     * axes. Returned array must not be modified.
+     *
+     * @return true y coordinates of magnetic flux density or null if not computed.
+     */
+    public double[] getBy() {
+        return by;
+    }
+
+    /**
+     * Gets true z coordinates of magnetic flux density expressed in Teslas (T) and resolved along body-frame
+     * axes. Returned array must not be modified.
+     *
+     * @return true z coordinates of magnetic flux density or null if not computed.
+     */
+    public double[] getBz() {
+        return bz;
+    }
+}
@@ -0,0 +1,412 @@
+/*
+ * Copyright (C) 2026 Alberto Irurueta Carro (alberto@irurueta.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.irurueta.navigation.inertial.simulation;
+
+/**
+ * Primitive buffers containing the outputs of a single simulated run along a reference trajectory:
+ * measured specific force and angular rate for every epoch, measured magnetic flux density for every
+ * epoch (if enabled), and GNSS position and velocity fixes taken at a lower rate.
+ * Instances can be reused between runs on the same trajectory to avoid allocating new buffers.
+ * Returned arrays are the internal buffers of this instance and are not copied.
+ */
+public class SimulatedRun {
+
+    /**
+     * Number of epochs.
+     */
+    private final int epochs;
+
+    /**
+     * Maximum number of GNSS fixes.
+     */
+    private final int gnssCapacity;
+
+    /**
+     * Measured x coordinates of specific force expressed in meters per squared second (m/s^2).
+     */
+    private final double[] fx;
+
+    /**
+     * Measured y coordinates of specific force expressed in meters per squared second (m/s^2).
+     */
+    private final double[] fy;
+
+    /**
+     * Measured z coordinates of specific force expressed in meters per squared second (m/s^2).
+     */
+    private final double[] fz;
+
+    /**
+     * Measured x coordinates of angular rate expressed in radians per second (rad/s).
+     */
+    private final double[] angularRateX;
+
+    /**
+     * Measured y coordinates of angular rate expressed in radians per second (rad/s).
+     */
+    private final double[] angularRateY;
+
+    /**
+     * Measured z coordinates of angular rate expressed in radians per second (rad/s).
+     */
+    private final double[] angularRateZ;
+
+    /**
+     * Measured x coordinates of magnetic flux density expressed in Teslas (T).
+     */
+    private final double[] bx;
+
+    /**
+     * Measured y coordinates of magnetic flux density expressed in Teslas (T).
+     */
+    private final double[] by;
+
+    /**
+     * Measured z coordinates of magnetic flux density expressed in Teslas (T).
+     */
+    private final double[] bz;
+
+    /**
+     * Epochs where each GNSS fix was taken.
+     */
+    private final int[] gnssEpochs;
+
+    /**
+     * Measured x coordinates of GNSS position expressed in meters (m).
+     */
+    private final double[] gnssX;
+
+    /**
+     * Measured y coordinates of GNSS position expressed in meters (m).
+     */
+    private final double[] gnssY;
+
+    /**
+     * Measured z coordinates of GNSS position expressed in meters (m).
+     */
+    private final double[] gnssZ;
+
+    /**
+     * Measured x coordinates of GNSS velocity expressed in meters per second (m/s).
+     */
+    private final double[] gnssVx;
+
+    /**
+     * Measured y coordinates of GNSS velocity expressed in meters per second (m/s).
+     */
+    private final double[] gnssVy;
+
+    /**
+     * Measured z coordinates of GNSS velocity expressed in meters per second (m/s).
+     */
+    private final double[] gnssVz;
+
+    /**
+     * Index of simulated run.
+     */
+    private int run;
+
+    /**
+     * Seed used to generate random noise of this run.
+     */
+    private long seed;
+
+    /**
+     * Indicates whether magnetic flux density has been simulated.
+     */
+    private boolean magneticFluxDensityAvailable;
+
+    /**
+     * Number of GNSS fixes.
+     */
+    private int gnssCount;
+
+    /**
+     * Constructor.
+     *
+     * @param epochs       number of epochs.
+     * @param gnssCapacity maximum number of GNSS fixes.
+     * @throws IllegalArgumentException if any value is negative.
+     */
+    public SimulatedRun(final int epochs, final int gnssCapacity) {
+        if (epochs < 0 || gnssCapacity < 0) {
+            throw new IllegalArgumentException();
+        }
+
+        this.epochs = epochs;
+        this.gnssCapacity = gnssCapacity;
+
+        fx = new double[epochs];
+        fy = new double[epochs];
+        fz = new double[epochs];
+        angularRateX = new double[epochs];
+        angularRateY = new double[epochs];
+        angularRateZ = new double[epochs];
+        bx = new double[epochs];
+        by = new double[epochs];
+        bz = new double[epochs];
+
+        gnssEpochs = new int[gnssCapacity];
+        gnssX = new double[gnssCapacity];
+        gnssY = new double[gnssCapacity];
+        gnssZ = new double[gnssCapacity];
+        gnssVx = new double[gnssCapacity];
+        gnssVy = new double[gnssCapacity];
+        gnssVz = new double[gnssCapacity];
+    }
+
+    /**
+     * Gets number of epochs.
+     *
+     * @return number of epochs.
+     */
+    public int getEpochs() {
+        return epochs;
+    }
+
+    /**
+     * Gets maximum number of GNSS fixes.
+     *
+     * @return maximum number of GNSS fixes.
+     */
+    public int getGnssCapacity() {
+        return gnssCapacity;
+    }
+
+    /**
+     * Gets index of simulated run.
+     *
+     * @return index of simulated run.
+     */
+    public int getRun() {
+        return run;
+    }
+
+    /**
+     * Gets seed used to generate random noise of this run.
+     *
+     * @return seed of this run.
+     */
+    public long getSeed() {
+        return seed;
+    }
+
+    /**
+     * Gets measured x coordinates of specific force expressed in meters per squared second (m/s^2) and
+     * resolved along body-frame axes.
+     *
+     * @return measured x coordinates of specific force.
+     */
+    public double[] getFx() {
+        return fx;
+    }
+
+    /**
+     * Gets measured y coordinates of specific force expressed in meters per squared second (m/s^2) and
+     * resolved along body-frame axes.
+     *
+     * @return measured y coordinates of specific force.
+     */
+    public double[] getFy() {
+        return fy;
+    }
+
+    /**
+     * Gets measured z coordinates of specific force expressed in meters per squared second (m/s^2) and
+     * resolved along body-frame axes.
+     *
+     * @return measured z coordinates of specific force.
+     */
+    public double[] getFz() {
+        return fz;
+    }
+
+    /**
+     * Gets measured x coordinates of angular rate expressed in radians per second (rad/s) and resolved
+     * along body-frame axes.
+     *
+     * @return measured x coordinates of angular rate.
+     */
+    public double[] getAngularRateX() {
+        return angularRateX;
+    }
+
+    /**
+     * Gets measured y coordinates of angular rate expressed in radians per second (rad/s) and resolved
+     * along body-frame axes.
+     *
+     * @return measured y coordinates of angular rate.
+     */
+    public double[] getAngularRateY() {
+        return angularRateY;
+    }
+
+    /**
+     * Gets measured z coordinates of angular rate expressed in radians per second (rad/s) and resolved
+     * along body-frame axes.
+     *
+     * @return measured z coordinates of angular rate.
+     */
+    public double[] getAngularRateZ() {
+        return angularRateZ;
+    }
+
+    /**
+     * Indicates whether magnetic flux density has been simulated.
+     *
+     * @return true if magnetic flux density is available, false otherwise.
+     */
+    public boolean isMagneticFluxDensityAvailable() {
+        return magneticFluxDensityAvailable;
+    }
+
+    /**
+     * Gets measured x coordinates of magnetic flux density expressed in Teslas (T) and resolved along
+     * body-frame axes.
+     *
+     * @return measured x coordinates of magnetic flux density.
+     */
+    public double[] getBx() {
+        return bx;
+    }
+
+    /**
+     * Gets measured y coordinates of magnetic flux density expressed in Teslas (T) and resolved along
+     * body-frame axes.
+     *
+     * @return measured y coordinates of magnetic flux density.
+     */
+    public double[] getBy() {
+        return by;
+    }
+
+    /**
+     * Gets measured z coordinates of magnetic flux density expressed in Teslas (T) and resolved along
+     * body-frame axes.
+     *
+     * @return measured z coordinates of magnetic flux density.
+     */
+    public double[] getBz() {
+        return bz;
+    }
+
+    /**
+     * Gets number of GNSS fixes.
+     *
+     * @return number of GNSS fixes.
+     */
+    public int getGnssCount() {
+        return gnssCount;
+    }
+
+    /**
+     * Gets epochs where each GNSS fix was taken.
+     *
+     * @return epochs of GNSS fixes.
+     */
+    public int[] getGnssEpochs() {
+        return gnssEpochs;
+    }
+
+    /**
+     * Gets measured x coordinates of GNSS position expressed in meters (m) and resolved along ECEF-frame
+     * axes.
+     *
+     * @return measured x coordinates of GNSS position.
+     */
+    public double[] getGnssX() {
+        return gnssX;
+    }
+
+    /**
+     * Gets measured y coordinates of GNSS position expressed in meters (m) and resolved along ECEF-frame
+     * axes.
+     *
+     * @return measured y coordinates of GNSS position.
+     */
+    public double[] getGnssY() {
+        return gnssY;
+    }
+
+    /**
+     * Gets measured z coordinates of GNSS position expressed in meters (m) and resolved along ECEF-frame
+     * axes.
+     *
+     * @return measured z coordinates of GNSS position.
+     */
+    public double[] getGnssZ() {
+        return gnssZ;
+    }
+
+    /**
+     * Gets measured x coordinates of GNSS velocity expressed in meters per second (m/s) and resolved along
+     * ECEF-frame axes.
+     *
+     * @return measured x coordinates of GNSS velocity.
+     */
+    public double[] getGnssVx() {
+        return gnssVx;
+    }
+
+    /**
+     * Gets measured y coordinates of GNSS velocity expressed in meters per second (m/s) and resolved along
+     * ECEF-frame axes.
+     *
+     * @return measured y coordinates of GNSS velocity.
+     */
+    public double[] getGnssVy() {
+        return gnssVy;
+    }
+
+    /**
+     * Gets measured z coordinates of GNSS velocity expressed in meters per second (m/s) and resolved along
+     * ECEF-frame axes.
+     *
+     * @return measured z coordinates of GNSS velocity.
+     */
+    public double[] getGnssVz() {
+        return gnssVz;
+    }
+
+    /**
+     * Sets identification of simulated run.
+     *
+     * @param run  index of simulated run.
+     * @param seed seed used to generate random noise of this run.
+     */
+    void setRun(final int run, final long seed) {
+        this.run = run;
+        this.seed = seed;
+    }
+
+    /**
+     * Specifies whether magnetic flux density has been simulated.
+     *
+     * @param magneticFluxDensityAvailable true if magnetic flux density is available.
+     */
+    void setMagneticFluxDensityAvailable(final boolean magneticFluxDensityAvailable) {
+        this.magneticFluxDensityAvailable = magneticFluxDensityAvailable;
+    }
+
+    /**
+     * Sets number of GNSS fixes.
+     *
+     * @param gnssCount number of GNSS fixes.
+     */
+    void setGnssCount(final int gnssCount) {
+        this.gnssCount = gnssCount;
+    }
+}
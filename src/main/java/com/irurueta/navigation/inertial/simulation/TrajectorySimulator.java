@@ -0,0 +1,578 @@
+/*
+ * Copyright (C) 2026 Alberto Irurueta Carro (alberto@irurueta.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.irurueta.navigation.inertial.simulation;
+
+import com.irurueta.algebra.Matrix;
+import com.irurueta.algebra.WrongSizeException;
+import com.irurueta.navigation.inertial.BodyMagneticFluxDensity;
+import com.irurueta.navigation.inertial.calibration.IMUErrors;
+
+import java.util.SplittableRandom;
+import java.util.stream.IntStream;
+
+/**
+ * Simulates the outputs of an IMU, a magnetometer and a GNSS receiver moving along a reference
+ * trajectory.
+ * True kinematics of the trajectory are corrupted with the biases, scaling and cross coupling errors,
+ * g-dependant cross biases, noise and quantization contained in provided {@link IMUErrors}, using
+ * the same model as {@link com.irurueta.navigation.inertial.calibration.BodyKinematicsGenerator}.
+ * True magnetic flux density (if computed on the trajectory) is corrupted with hard iron, soft iron
+ * and noise, using the same model as
+ * {@link com.irurueta.navigation.inertial.calibration.BodyMagneticFluxDensityGenerator}. GNSS fixes
+ * are obtained by adding noise to true position and velocity at a lower rate.
+ * Each run uses a {@link SplittableRandom} whose seed only depends on a base seed and the index of
+ * the run, hence runs are reproducible and can be generated in any order and in parallel.
+ * Independent random streams are used for IMU, magnetometer and GNSS noise, so that enabling or
+ * disabling one of them does not change the noise of the others.
+ * Simulation does not modify the trajectory nor this simulator, hence many runs can be simulated
+ * concurrently, as long as configuration is not modified meanwhile.
+ */
+public class TrajectorySimulator {
+
+    /**
+     * Default time interval between GNSS fixes expressed in seconds (s).
+     */
+    public static final double DEFAULT_GNSS_TIME_INTERVAL = 1.0;
+
+    /**
+     * Default standard deviation of GNSS position coordinates expressed in meters (m).
+     */
+    public static final double DEFAULT_GNSS_POSITION_STANDARD_DEVIATION = 2.5;
+
+    /**
+     * Default standard deviation of GNSS velocity coordinates expressed in meters per second (m/s).
+     */
+    public static final double DEFAULT_GNSS_VELOCITY_STANDARD_DEVIATION = 0.1;
+
+    /**
+     * Golden ratio increment used to derive seeds of consecutive runs.
+     */
+    private static final long GOLDEN_GAMMA = 0x9e3779b97f4a7c15L;
+
+    /**
+     * Number of components of a 3x3 matrix.
+     */
+    private static final int MATRIX_LENGTH = 9;
+
+    /**
+     * Reference trajectory.
+     */
+    private final ReferenceTrajectory trajectory;
+
+    /**
+     * IMU errors.
+     */
+    private IMUErrors errors;
+
+    /**
+     * Magnetometer hard iron expressed in Teslas (T).
+     */
+    private final double[] magnetometerHardIron = new double[BodyMagneticFluxDensity.COMPONENTS];
+
+    /**
+     * Magnetometer soft iron and cross couplings, stored in column order.
+     */
+    private final double[] magnetometerSoftIron = new double[MATRIX_LENGTH];
+
+    /**
+     * Standard deviation of magnetometer noise expressed in Teslas (T).
+     */
+    private double magnetometerNoiseStandardDeviation;
+
+    /**
+     * Number of epochs between GNSS fixes, or zero if GNSS is disabled.
+     */
+    private int gnssInterval;
+
+    /**
+     * Standard deviation of GNSS position coordinates expressed in meters (m).
+     */
+    private double gnssPositionStandardDeviation = DEFAULT_GNSS_POSITION_STANDARD_DEVIATION;
+
+    /**
+     * Standard deviation of GNSS velocity coordinates expressed in meters per second (m/s).
+     */
+    private double gnssVelocityStandardDeviation = DEFAULT_GNSS_VELOCITY_STANDARD_DEVIATION;
+
+    /**
+     * Constructor.
+     *
+     * @param trajectory reference trajectory.
+     * @param errors     IMU errors.
+     * @throws NullPointerException if any argument is null.
+     */
+    public TrajectorySimulator(final ReferenceTrajectory trajectory, final IMUErrors errors) {
+        if (trajectory == null || errors == null) {
+            throw new NullPointerException();
+        }
+        this.trajectory = trajectory;
+        this.errors = errors;
+        gnssInterval = Math.max(1, (int) Math.round(DEFAULT_GNSS_TIME_INTERVAL / trajectory.getTimeInterval()));
+    }
+
+    /**
+     * Gets seed of a run, which only depends on provided base seed and run index.
+     * Seeds of consecutive runs are decorrelated using the SplitMix64 mixing function.
+     *
+     * @param seed base seed.
+     * @param run  index of run.
+     * @return seed of run.
+     */
+    public static long getRunSeed(final long seed, final int run) {
+        var z = seed + (run + 1L) * GOLDEN_GAMMA;
+        z = (z ^ (z >>> 30)) * 0xbf58476d1ce4e5b9L;
+        z = (z ^ (z >>> 27)) * 0x94d049bb133111ebL;
+        return z ^ (z >>> 31);
+    }
+
+    /**
+     * Gets reference trajectory.
+     *
+     * @return reference trajectory.
+     */
+    public ReferenceTrajectory getTrajectory() {
+        return trajectory;
+    }
+
+    /**
+     * Gets IMU errors.
+     *
+     * @return IMU errors.
+     */
+    public IMUErrors getErrors() {
+        return errors;
+    }
+
+    /**
+     * Sets IMU errors.
+     *
+     * @param errors IMU errors.
+     * @throws NullPointerException if provided errors are null.
+     */
+    public void setErrors(final IMUErrors errors) {
+        if (errors == null) {
+            throw new NullPointerException();
+        }
+        this.errors = errors;
+    }
+
+    /**
+     * Gets magnetometer hard iron expressed in Teslas (T).
+     *
+     * @return magnetometer hard iron.
+     */
+    public double[] getMagnetometerHardIron() {
+        return magnetometerHardIron.clone();
+    }
+
+    /**
+     * Sets magnetometer hard iron expressed in Teslas (T).
+     *
+     * @param magnetometerHardIron magnetometer hard iron. Must have length 3.
+     * @throws IllegalArgumentException if provided array does not have length 3.
+     */
+    public void setMagnetometerHardIron(final double[] magnetometerHardIron) {
+        if (magnetometerHardIron.length != BodyMagneticFluxDensity.COMPONENTS) {
+            throw new IllegalArgumentException();
+        }
+        System.arraycopy(magnetometerHardIron, 0, this.magnetometerHardIron, 0,
+                BodyMagneticFluxDensity.COMPONENTS);
+    }
+
+    /**
+     * Gets magnetometer soft iron and cross couplings.
+     *
+     * @return magnetometer soft iron.
+     */
+    public Matrix getMagnetometerSoftIron() {
+        try {
+            final var result = new Matrix(BodyMagneticFluxDensity.COMPONENTS, BodyMagneticFluxDensity.COMPONENTS);
+            result.fromArray(magnetometerSoftIron);
+            return result;
+        } catch (final WrongSizeException ignore) {
+            // never happens
+            return null;
+        }
+    }
+
+    /**
+     * Sets magnetometer soft iron and cross couplings.
+     *
+     * @param magnetometerSoftIron magnetometer soft iron. Must be 3x3.
+     * @throws IllegalArgumentException if provided matrix is not 3x3.
+     */
+    public void setMagnetometerSoftIron(final Matrix magnetometerSoftIron) {
+        if (magnetometerSoftIron.getRows() != BodyMagneticFluxDensity.COMPONENTS
+                || magnetometerSoftIron.getColumns() != BodyMagneticFluxDensity.COMPONENTS) {
+            throw new IllegalArgumentException();
+        }
+        System.arraycopy(magnetometerSoftIron.getBuffer(), 0, this.magnetometerSoftIron, 0, MATRIX_LENGTH);
+    }
+
+    /**
+     * Gets standard deviation of magnetometer noise expressed in Teslas (T).
+     *
+     * @return standard deviation of magnetometer noise.
+     */
+    public double getMagnetometerNoiseStandardDeviation() {
+        return magnetometerNoiseStandardDeviation;
+    }
+
+    /**
+     * Sets standard deviation of magnetometer noise expressed in Teslas (T).
+     *
+     * @param magnetometerNoiseStandardDeviation standard deviation of magnetometer noise.
+     * @throws IllegalArgumentException if provided value is negative.
+     */
+    public void setMagnetometerNoiseStandardDeviation(final double magnetometerNoiseStandardDeviation) {
+        if (magnetometerNoiseStandardDeviation < 0.0) {
+            throw new IllegalArgumentException();
+        }
+        this.magnetometerNoiseStandardDeviation = magnetometerNoiseStandardDeviation;
+    }
+
+    /**
+     * Gets number of epochs between GNSS fixes. Zero indicates that GNSS is disabled.
+     * By default, one GNSS fix is taken every {@link #DEFAULT_GNSS_TIME_INTERVAL} seconds.
+     *
+     * @return number of epochs between GNSS fixes.
+     */
+    public int getGnssInterval() {
+        return gnssInterval;
+    }
+
+    /**
+     * Sets number of epochs between GNSS fixes. Zero disables GNSS.
+     *
+     * @param gnssInterval number of epochs between GNSS fixes.
+     * @throws IllegalArgumentException if provided value is negative.
+     */
+    public void setGnssInterval(final int gnssInterval) {
+        if (gnssInterval < 0) {
+            throw new IllegalArgumentException();
+        }
+        this.gnssInterval = gnssInterval;
+    }
+
+    /**
+     * Gets standard deviation of GNSS position coordinates expressed in meters (m).
+     *
+     * @return standard deviation of GNSS position.
+     */
+    public double getGnssPositionStandardDeviation() {
+        return gnssPositionStandardDeviation;
+    }
+
+    /**
+     * Sets standard deviation of GNSS position coordinates expressed in meters (m).
+     *
+     * @param gnssPositionStandardDeviation standard deviation of GNSS position.
+     * @throws IllegalArgumentException if provided value is negative.
+     */
+    public void setGnssPositionStandardDeviation(final double gnssPositionStandardDeviation) {
+        if (gnssPositionStandardDeviation < 0.0) {
+            throw new IllegalArgumentException();
+        }
+        this.gnssPositionStandardDeviation = gnssPositionStandardDeviation;
+    }
+
+    /**
+     * Gets standard deviation of GNSS velocity coordinates expressed in meters per second (m/s).
+     *
+     * @return standard deviation of GNSS velocity.
+     */
+    public double getGnssVelocityStandardDeviation() {
+        return gnssVelocityStandardDeviation;
+    }
+
+    /**
+     * Sets standard deviation of GNSS velocity coordinates expressed in meters per second (m/s).
+     *
+     * @param gnssVelocityStandardDeviation standard deviation of GNSS velocity.
+     * @throws IllegalArgumentException if provided value is negative.
+     */
+    public void setGnssVelocityStandardDeviation(final double gnssVelocityStandardDeviation) {
+        if (gnssVelocityStandardDeviation < 0.0) {
+            throw new IllegalArgumentException();
+        }
+        this.gnssVelocityStandardDeviation = gnssVelocityStandardDeviation;
+    }
+
+    /**
+     * Gets number of GNSS fixes of each run with current configuration.
+     *
+     * @return number of GNSS fixes.
+     */
+    public int getGnssFixes() {
+        return gnssInterval > 0 ? (trajectory.getEpochs() - 1) / gnssInterval + 1 : 0;
+    }
+
+    /**
+     * Creates buffers suitable to store runs of this simulator.
+     *
+     * @return new buffers.
+     */
+    public SimulatedRun createRun() {
+        return new SimulatedRun(trajectory.getEpochs(), getGnssFixes());
+    }
+
+    /**
+     * Simulates a run.
+     *
+     * @param seed base seed.
+     * @param run  index of run.
+     * @return simulated run.
+     */
+    public SimulatedRun simulate(final long seed, final int run) {
+        final var result = createRun();
+        simulate(seed, run, result);
+        return result;
+    }
+
+    /**
+     * Simulates a run and stores its outputs into provided buffers.
+     *
+     * @param seed   base seed.
+     * @param run    index of run.
+     * @param result instance where simulated outputs will be stored.
+     * @throws IllegalArgumentException if provided buffers do not have the number of epochs of the trajectory
+     *                                  or cannot hold all GNSS fixes.
+     */
+    public void simulate(final long seed, final int run, final SimulatedRun result) {
+        if (result.getEpochs() != trajectory.getEpochs() || result.getGnssCapacity() < getGnssFixes()) {
+            throw new IllegalArgumentException();
+        }
+
+        final var runSeed = getRunSeed(seed, run);
+        final var random = new SplittableRandom(runSeed);
+        final var imuRandom = random.split();
+        final var magnetometerRandom = random.split();
+        final var gnssRandom = random.split();
+
+        result.setRun(run, runSeed);
+        simulateImu(imuRandom, result);
+        simulateMagnetometer(magnetometerRandom, result);
+        simulateGnss(gnssRandom, result);
+    }
+
+    /**
+     * Simulates consecutive runs.
+     *
+     * @param seed     base seed.
+     * @param firstRun index of first run.
+     * @param runs     number of runs.
+     * @param parallel true to simulate runs in parallel using the common fork-join pool, false to simulate
+     *                 them in the calling thread. Results are the same in both cases.
+     * @return simulated runs.
+     * @throws IllegalArgumentException if number of runs is negative.
+     */
+    public SimulatedRun[] simulate(final long seed, final int firstRun, final int runs, final boolean parallel) {
+        if (runs < 0) {
+            throw new IllegalArgumentException();
+        }
+
+        final var result = new SimulatedRun[runs];
+        var stream = IntStream.range(0, runs);
+        if (parallel) {
+            stream = stream.parallel();
+        }
+        stream.forEach(i -> result[i] = simulate(seed, firstRun + i));
+        return result;
+    }
+
+    /**
+     * Simulates IMU outputs using (4.16) and (4.17).
+     *
+     * @param random random generator.
+     * @param result instance where simulated outputs will be stored.
+     */
+    private void simulateImu(final SplittableRandom random, final SimulatedRun result) {
+        final var ba = errors.getAccelerometerBiases();
+        final var ma = errors.getAccelerometerScaleFactorAndCrossCouplingErrors().getBuffer();
+        final var bg = errors.getGyroBiases();
+        final var mg = errors.getGyroScaleFactorAndCrossCouplingErrors().getBuffer();
+        final var gg = errors.getGyroGDependentBiases().getBuffer();
+
+        final var sqrtTimeInterval = Math.sqrt(trajectory.getTimeInterval());
+        final var accelStd = errors.getAccelerometerNoiseRootPSD() / sqrtTimeInterval;
+        final var gyroStd = errors.getGyroNoiseRootPSD() / sqrtTimeInterval;
+        final var accelQuantLevel = errors.getAccelerometerQuantizationLevel();
+        final var gyroQuantLevel = errors.getGyroQuantizationLevel();
+
+        final var trueFx = trajectory.getFx();
+        final var trueFy = trajectory.getFy();
+        final var trueFz = trajectory.getFz();
+        final var trueWx = trajectory.getAngularRateX();
+        final var trueWy = trajectory.getAngularRateY();
+        final var trueWz = trajectory.getAngularRateZ();
+
+        final var fx = result.getFx();
+        final var fy = result.getFy();
+        final var fz = result.getFz();
+        final var wx = result.getAngularRateX();
+        final var wy = result.getAngularRateY();
+        final var wz = result.getAngularRateZ();
+
+        // quantization residuals
+        var rfx = 0.0;
+        var rfy = 0.0;
+        var rfz = 0.0;
+        var rwx = 0.0;
+        var rwy = 0.0;
+        var rwz = 0.0;
+
+        final var epochs = trajectory.getEpochs();
+        for (var k = 0; k < epochs; k++) {
+            final var f0 = trueFx[k];
+            final var f1 = trueFy[k];
+            final var f2 = trueFz[k];
+            final var w0 = trueWx[k];
+            final var w1 = trueWy[k];
+            final var w2 = trueWz[k];
+
+            // matrices are stored in column order
+            var ufx = ba[0] + f0 + ma[0] * f0 + ma[3] * f1 + ma[6] * f2 + random.nextGaussian() * accelStd;
+            var ufy = ba[1] + f1 + ma[1] * f0 + ma[4] * f1 + ma[7] * f2 + random.nextGaussian() * accelStd;
+            var ufz = ba[2] + f2 + ma[2] * f0 + ma[5] * f1 + ma[8] * f2 + random.nextGaussian() * accelStd;
+
+            var uwx = bg[0] + w0 + mg[0] * w0 + mg[3] * w1 + mg[6] * w2 + gg[0] * f0 + gg[3] * f1 + gg[6] * f2
+                    + random.nextGaussian() * gyroStd;
+            var uwy = bg[1] + w1 + mg[1] * w0 + mg[4] * w1 + mg[7] * w2 + gg[1] * f0 + gg[4] * f1 + gg[7] * f2
+                    + random.nextGaussian() * gyroStd;
+            var uwz = bg[2] + w2 + mg[2] * w0 + mg[5] * w1 + mg[8] * w2 + gg[2] * f0 + gg[5] * f1 + gg[8] * f2
+                    + random.nextGaussian() * gyroStd;
+
+            if (accelQuantLevel > 0.0) {
+                ufx += rfx;
+                ufy += rfy;
+                ufz += rfz;
+                final var qfx = accelQuantLevel * Math.round(ufx / accelQuantLevel);
+                final var qfy = accelQuantLevel * Math.round(ufy / accelQuantLevel);
+                final var qfz = accelQuantLevel * Math.round(ufz / accelQuantLevel);
+                rfx = ufx - qfx;
+                rfy = ufy - qfy;
+                rfz = ufz - qfz;
+                ufx = qfx;
+                ufy = qfy;
+                ufz = qfz;
+            }
+
+            if (gyroQuantLevel > 0.0) {
+                uwx += rwx;
+                uwy += rwy;
+                uwz += rwz;
+                final var qwx = gyroQuantLevel * Math.round(uwx / gyroQuantLevel);
+                final var qwy = gyroQuantLevel * Math.round(uwy / gyroQuantLevel);
+                final var qwz = gyroQuantLevel * Math.round(uwz / gyroQuantLevel);
+                rwx = uwx - qwx;
+                rwy = uwy - qwy;
+                rwz = uwz - qwz;
+                uwx = qwx;
+                uwy = qwy;
+                uwz = qwz;
+            }
+
+            fx[k] = ufx;
+            fy[k] = ufy;
+            fz[k] = ufz;
+            wx[k] = uwx;
+            wy[k] = uwy;
+            wz[k] = uwz;
+        }
+    }
+
+    /**
+     * Simulates magnetometer outputs, if true magnetic flux density is available on the trajectory.
+     *
+     * @param random random generator.
+     * @param result instance where simulated outputs will be stored.
+     */
+    private void simulateMagnetometer(final SplittableRandom random, final SimulatedRun result) {
+        if (!trajectory.hasMagneticFluxDensity()) {
+            result.setMagneticFluxDensityAvailable(false);
+            return;
+        }
+
+        final var hardIron = magnetometerHardIron;
+        final var softIron = magnetometerSoftIron;
+        final var std = magnetometerNoiseStandardDeviation;
+
+        final var trueBx = trajectory.getBx();
+        final var trueBy = trajectory.getBy();
+        final var trueBz = trajectory.getBz();
+
+        final var bx = result.getBx();
+        final var by = result.getBy();
+        final var bz = result.getBz();
+
+        final var epochs = trajectory.getEpochs();
+        for (var k = 0; k < epochs; k++) {
+            final var b0 = trueBx[k];
+            final var b1 = trueBy[k];
+            final var b2 = trueBz[k];
+
+            bx[k] = hardIron[0] + b0 + softIron[0] * b0 + softIron[3] * b1 + softIron[6] * b2
+                    + random.nextGaussian() * std;
+            by[k] = hardIron[1] + b1 + softIron[1] * b0 + softIron[4] * b1 + softIron[7] * b2
+                    + random.nextGaussian() * std;
+            bz[k] = hardIron[2] + b2 + softIron[2] * b0 + softIron[5] * b1 + softIron[8] * b2
+                    + random.nextGaussian() * std;
+        }
+        result.setMagneticFluxDensityAvailable(true);
+    }
+
+    /**
+     * Simulates GNSS position and velocity fixes.
+     *
+     * @param random random generator.
+     * @param result instance where simulated outputs will be stored.
+     */
+    private void simulateGnss(final SplittableRandom random, final SimulatedRun result) {
+        final var x = trajectory.getX();
+        final var y = trajectory.getY();
+        final var z = trajectory.getZ();
+        final var vx = trajectory.getVx();
+        final var vy = trajectory.getVy();
+        final var vz = trajectory.getVz();
+
+        final var gnssEpochs = result.getGnssEpochs();
+        final var gnssX = result.getGnssX();
+        final var gnssY = result.getGnssY();
+        final var gnssZ = result.getGnssZ();
+        final var gnssVx = result.getGnssVx();
+        final var gnssVy = result.getGnssVy();
+        final var gnssVz = result.getGnssVz();
+
+        final var positionStd = gnssPositionStandardDeviation;
+        final var velocityStd = gnssVelocityStandardDeviation;
+
+        var count = 0;
+        if (gnssInterval > 0) {
+            final var epochs = trajectory.getEpochs();
+            for (var k = 0; k < epochs; k += gnssInterval) {
+                gnssEpochs[count] = k;
+                gnssX[count] = x[k] + random.nextGaussian() * positionStd;
+                gnssY[count] = y[k] + random.nextGaussian() * positionStd;
+                gnssZ[count] = z[k] + random.nextGaussian() * positionStd;
+                gnssVx[count] = vx[k] + random.nextGaussian() * velocityStd;
+                gnssVy[count] = vy[k] + random.nextGaussian() * velocityStd;
+                gnssVz[count] = vz[k] + random.nextGaussian() * velocityStd;
+                count++;
+            }
+        }
+        result.setGnssCount(count);
+    }
+}
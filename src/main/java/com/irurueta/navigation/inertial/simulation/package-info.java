@@ -0,0 +1,23 @@
+/*
+ * Copyright (C) 2026 Alberto Irurueta Carro (alberto@irurueta.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+/**
+ * This package contains a simulator of IMU, magnetometer and GNSS outputs along
+ * a reference trajectory, intended to generate many independent and
+ * reproducible runs to evaluate filters and calibrators, along with a
+ * harness to evaluate them on many Monte Carlo trials in parallel.
+ */
+package com.irurueta.navigation.inertial.simulation;
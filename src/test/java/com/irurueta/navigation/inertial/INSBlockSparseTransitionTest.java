@@ -0,0 +1,209 @@
+/*
+ * Copyright (C) 2026 Alberto Irurueta Carro (alberto@irurueta.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.irurueta.navigation.inertial;
+
+import com.irurueta.algebra.AlgebraException;
+import com.irurueta.algebra.Matrix;
+import com.irurueta.algebra.Utils;
+import com.irurueta.navigation.frames.CoordinateTransformation;
+import com.irurueta.navigation.frames.ECEFPosition;
+import com.irurueta.navigation.frames.ECEFVelocity;
+import com.irurueta.navigation.frames.FrameType;
+import com.irurueta.navigation.frames.NEDPosition;
+import com.irurueta.navigation.frames.NEDVelocity;
+import com.irurueta.navigation.frames.converters.NEDtoECEFPositionVelocityConverter;
+import com.irurueta.navigation.geodesic.Constants;
+import com.irurueta.navigation.inertial.estimators.ECEFGravityEstimator;
+import com.irurueta.statistics.UniformRandomizer;
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class INSBlockSparseTransitionTest {
+
+    private static final double TIME_INTERVAL_SECONDS = 0.02;
+
+    private static final double MIN_LATITUDE_DEGREES = -90.0;
+    private static final double MAX_LATITUDE_DEGREES = 90.0;
+
+    private static final double MIN_LONGITUDE_DEGREES = -180.0;
+    private static final double MAX_LONGITUDE_DEGREES = 180.0;
+
+    private static final double MIN_HEIGHT = -50.0;
+    private static final double MAX_HEIGHT = 50.0;
+
+    private static final double MIN_ANGLE_DEGREES = -45.0;
+    private static final double MAX_ANGLE_DEGREES = 45.0;
+
+    private static final double MIN_SPECIFIC_FORCE = -12.0;
+    private static final double MAX_SPECIFIC_FORCE = 12.0;
+
+    private static final double ABSOLUTE_ERROR = 1e-12;
+
+    private static final int TIMES = 50;
+
+    @Test
+    void testConstructor() {
+        assertEquals(INSLooselyCoupledKalmanState.NUM_PARAMS,
+                new INSBlockSparseTransition(false).getNumberOfStates());
+        assertEquals(INSTightlyCoupledKalmanState.NUM_PARAMS,
+                new INSBlockSparseTransition(true).getNumberOfStates());
+    }
+
+    @Test
+    void testToMatrix() throws AlgebraException {
+        final var randomizer = new UniformRandomizer();
+        final var phi = new INSBlockSparseTransition(true);
+        final var n = phi.getNumberOfStates();
+        final var cbe = createAttitude(randomizer);
+        final var fx = randomizer.nextDouble(MIN_SPECIFIC_FORCE, MAX_SPECIFIC_FORCE);
+        final var fy = randomizer.nextDouble(MIN_SPECIFIC_FORCE, MAX_SPECIFIC_FORCE);
+        final var fz = randomizer.nextDouble(MIN_SPECIFIC_FORCE, MAX_SPECIFIC_FORCE);
+        final var position = createPosition(randomizer);
+        final var latitude = position.getLatitude();
+        final var ecefPosition = new ECEFPosition();
+        NEDtoECEFPositionVelocityConverter.convertNEDtoECEF(position, new NEDVelocity(), ecefPosition,
+                new ECEFVelocity());
+
+        phi.setFirstOrder(TIME_INTERVAL_SECONDS, cbe.getMatrix(), fx, fy, fz, ecefPosition.getX(), ecefPosition.getY(),
+                ecefPosition.getZ(), latitude);
+
+        final var result = new Matrix(n, n);
+        phi.toMatrix(result);
+
+        final var expected = createDenseTransition(cbe, fx, fy, fz, ecefPosition.getX(), ecefPosition.getY(),
+                ecefPosition.getZ(), latitude, n);
+        assertTrue(expected.equals(result, ABSOLUTE_ERROR));
+    }
+
+    @Test
+    void testPropagateMatchesDenseComputation() throws AlgebraException {
+        for (final var withClock : new boolean[]{false, true}) {
+            for (var t = 0; t < TIMES; t++) {
+                final var randomizer = new UniformRandomizer();
+                final var phi = new INSBlockSparseTransition(withClock);
+                final var n = phi.getNumberOfStates();
+
+                final var cbe = createAttitude(randomizer);
+                final var fx = randomizer.nextDouble(MIN_SPECIFIC_FORCE, MAX_SPECIFIC_FORCE);
+                final var fy = randomizer.nextDouble(MIN_SPECIFIC_FORCE, MAX_SPECIFIC_FORCE);
+                final var fz = randomizer.nextDouble(MIN_SPECIFIC_FORCE, MAX_SPECIFIC_FORCE);
+                final var position = createPosition(randomizer);
+                final var ecefPosition = new ECEFPosition();
+                NEDtoECEFPositionVelocityConverter.convertNEDtoECEF(position, new NEDVelocity(), ecefPosition,
+                        new ECEFVelocity());
+                phi.setFirstOrder(TIME_INTERVAL_SECONDS, cbe.getMatrix(), fx, fy, fz, ecefPosition.getX(),
+                        ecefPosition.getY(), ecefPosition.getZ(), position.getLatitude());
+
+                final var p = createCovariance(n, new Random());
+                final var qHalf = new double[n];
+                for (var i = 0; i < n; i++) {
+                    qHalf[i] = randomizer.nextDouble(0.0, 1e-3);
+                }
+
+                // dense computation of PHI * (P + Q/2) * PHI^T + Q/2
+                final var phiMatrix = new Matrix(n, n);
+                phi.toMatrix(phiMatrix);
+                final var q = Matrix.diagonal(qHalf);
+                final var expected = phiMatrix.multiplyAndReturnNew(p.addAndReturnNew(q));
+                expected.multiply(phiMatrix.transposeAndReturnNew());
+                expected.add(q);
+
+                final var result = new Matrix(n, n);
+                phi.propagate(p, qHalf, result);
+
+                assertTrue(expected.equals(result, ABSOLUTE_ERROR));
+
+                // result is exactly symmetric
+                assertTrue(result.equals(result.transposeAndReturnNew(), 0.0));
+
+                // propagate in place
+                phi.propagate(p, qHalf, p);
+                assertTrue(result.equals(p, 0.0));
+            }
+        }
+    }
+
+    private static CoordinateTransformation createAttitude(final UniformRandomizer randomizer) {
+        final var roll = Math.toRadians(randomizer.nextDouble(MIN_ANGLE_DEGREES, MAX_ANGLE_DEGREES));
+        final var pitch = Math.toRadians(randomizer.nextDouble(MIN_ANGLE_DEGREES, MAX_ANGLE_DEGREES));
+        final var yaw = Math.toRadians(randomizer.nextDouble(MIN_ANGLE_DEGREES, MAX_ANGLE_DEGREES));
+        return new CoordinateTransformation(roll, pitch, yaw, FrameType.BODY_FRAME,
+                FrameType.EARTH_CENTERED_EARTH_FIXED_FRAME);
+    }
+
+    private static NEDPosition createPosition(final UniformRandomizer randomizer) {
+        final var latitude = Math.toRadians(randomizer.nextDouble(MIN_LATITUDE_DEGREES, MAX_LATITUDE_DEGREES));
+        final var longitude = Math.toRadians(randomizer.nextDouble(MIN_LONGITUDE_DEGREES, MAX_LONGITUDE_DEGREES));
+        final var height = randomizer.nextDouble(MIN_HEIGHT, MAX_HEIGHT);
+        return new NEDPosition(latitude, longitude, height);
+    }
+
+    static Matrix createCovariance(final int n, final Random random) throws AlgebraException {
+        final var a = Matrix.createWithUniformRandomValues(n, n, -1.0, 1.0, random);
+        final var p = a.multiplyAndReturnNew(a.transposeAndReturnNew());
+        // make it exactly symmetric
+        for (var i = 0; i < n; i++) {
+            for (var j = 0; j < i; j++) {
+                p.setElementAt(i, j, p.getElementAt(j, i));
+            }
+        }
+        return p;
+    }
+
+    private static Matrix createDenseTransition(
+            final CoordinateTransformation c, final double fx, final double fy, final double fz,
+            final double x, final double y, final double z, final double latitude, final int n)
+            throws AlgebraException {
+        final var tau = TIME_INTERVAL_SECONDS;
+        final var omegaIe = Utils.skewMatrix(new double[]{0.0, 0.0, Constants.EARTH_ROTATION_RATE});
+        final var cbe = c.getMatrix();
+
+        final var result = Matrix.identity(n, n);
+        final var i3 = Matrix.identity(3, 3);
+        result.setSubmatrix(0, 0, 2, 2, i3.subtractAndReturnNew(omegaIe.multiplyByScalarAndReturnNew(tau)));
+        result.setSubmatrix(0, 12, 2, 14, cbe.multiplyByScalarAndReturnNew(tau));
+        final var f = cbe.multiplyAndReturnNew(Matrix.newFromArray(new double[]{fx, fy, fz}));
+        result.setSubmatrix(3, 0, 5, 2, Utils.skewMatrix(f).multiplyByScalarAndReturnNew(-tau));
+        result.setSubmatrix(3, 3, 5, 5, i3.subtractAndReturnNew(
+                omegaIe.multiplyByScalarAndReturnNew(2.0 * tau)));
+
+        final var sinLat = Math.sin(latitude);
+        final var cosLat = Math.cos(latitude);
+        final var e = Constants.EARTH_ECCENTRICITY;
+        final var geocentricRadius = Constants.EARTH_EQUATORIAL_RADIUS_WGS84
+                / Math.sqrt(1.0 - Math.pow(e * sinLat, 2.0))
+                * Math.sqrt(cosLat * cosLat + Math.pow(1.0 - e * e, 2.0) * sinLat * sinLat);
+        final var g = ECEFGravityEstimator.estimateGravityAndReturnNew(x, y, z).asMatrix();
+        g.multiplyByScalar(-2.0 * tau / geocentricRadius);
+        final var norm = Math.sqrt(x * x + y * y + z * z);
+        final var r = new Matrix(1, 3);
+        r.setElementAtIndex(0, x / norm);
+        r.setElementAtIndex(1, y / norm);
+        r.setElementAtIndex(2, z / norm);
+        result.setSubmatrix(3, 6, 5, 8, g.multiplyAndReturnNew(r));
+        result.setSubmatrix(3, 9, 5, 11, cbe.multiplyByScalarAndReturnNew(tau));
+        for (var i = 0; i < 3; i++) {
+            result.setElementAt(6 + i, 3 + i, tau);
+        }
+        if (n > INSLooselyCoupledKalmanState.NUM_PARAMS) {
+            result.setElementAt(15, 16, tau);
+        }
+        return result;
+    }
+}
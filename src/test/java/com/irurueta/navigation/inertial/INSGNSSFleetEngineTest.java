@@ -0,0 +1,576 @@
+/*
+ * Copyright (C) 2026 Alberto Irurueta Carro (alberto@irurueta.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.irurueta.navigation.inertial;
+
+import com.irurueta.navigation.LockedException;
+import com.irurueta.navigation.NotReadyException;
+import com.irurueta.navigation.gnss.GNSSMeasurement;
+import com.irurueta.navigation.inertial.calibration.BodyKinematicsGenerator;
+import com.irurueta.navigation.inertial.calibration.IMUErrors;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class INSGNSSFleetEngineTest implements INSGNSSFleetEngineListener<List<Double>> {
+
+    private static final int NUM_VEHICLES = 50;
+
+    private static final int NUM_UPDATES = 200;
+
+    private static final int NUM_SHARDS = 4;
+
+    private static final double TIME_INTERVAL_SECONDS = 0.02;
+
+    private static final double GRAVITY = 9.81;
+
+    private static final long TIMEOUT_MILLIS = 10000;
+
+    private final AtomicInteger failures = new AtomicInteger();
+
+    @Test
+    void testConstructor() {
+        final var adapter = new RecordingAdapter();
+        try (final var engine = new INSGNSSFleetEngine<>(adapter)) {
+            assertSame(adapter, engine.getAdapter());
+            assertEquals(Runtime.getRuntime().availableProcessors(), engine.getNumberOfShards());
+            assertEquals(INSGNSSFleetEngine.DEFAULT_MAX_BATCH_SIZE, engine.getMaxBatchSize());
+            assertEquals(INSGNSSFleetEngine.DEFAULT_QUEUE_CAPACITY, engine.getQueueCapacity());
+            assertNull(engine.getListener());
+            assertFalse(engine.isClosed());
+            assertEquals(0, engine.getNumberOfVehicles());
+            assertEquals(0, engine.getNumberOfPendingUpdates());
+            assertEquals(0, engine.getNumberOfSubmittedUpdates());
+            assertEquals(0, engine.getNumberOfProcessedUpdates());
+            assertEquals(0, engine.getNumberOfFailedUpdates());
+            assertEquals(0, engine.getNumberOfRejectedUpdates());
+            assertEquals(0, engine.getNumberOfProcessedBatches());
+            assertEquals(0.0, engine.getAverageBatchSize(), 0.0);
+            assertEquals(0.0, engine.getAverageLatencyNanos(), 0.0);
+            assertEquals(0, engine.getMaxLatencyNanos());
+            assertEquals(0.0, engine.getThroughput(), 0.0);
+        }
+
+        try (final var engine = new INSGNSSFleetEngine<>(adapter, NUM_SHARDS, 16, 32,
+                r -> new Thread(r, "custom"))) {
+            assertEquals(NUM_SHARDS, engine.getNumberOfShards());
+            assertEquals(16, engine.getMaxBatchSize());
+            assertEquals(32, engine.getQueueCapacity());
+        }
+
+        // Force NullPointerException
+        assertThrows(NullPointerException.class, () -> new INSGNSSFleetEngine<>(null, NUM_SHARDS));
+
+        // Force IllegalArgumentException
+        assertThrows(IllegalArgumentException.class, () -> new INSGNSSFleetEngine<>(adapter, 0));
+        assertThrows(IllegalArgumentException.class, () -> new INSGNSSFleetEngine<>(adapter, NUM_SHARDS,
+                0, 1));
+        assertThrows(IllegalArgumentException.class, () -> new INSGNSSFleetEngine<>(adapter, NUM_SHARDS,
+                1, 0));
+    }
+
+    @Test
+    void testGetShardIndex() {
+        try (final var engine = new INSGNSSFleetEngine<>(new RecordingAdapter(), NUM_SHARDS)) {
+            final var counts = new int[NUM_SHARDS];
+            for (var i = 0; i < 1000; i++) {
+                final var shard = engine.getShardIndex(i);
+                assertEquals(shard, engine.getShardIndex(i));
+                counts[shard]++;
+            }
+
+            // sequential identifiers are spread across shards
+            for (final var count : counts) {
+                assertTrue(count > 100);
+            }
+        }
+    }
+
+    @Test
+    void testPerVehicleOrdering() throws InterruptedException {
+        try (final var engine = new INSGNSSFleetEngine<>(new RecordingAdapter(), NUM_SHARDS, 8,
+                NUM_VEHICLES * NUM_UPDATES)) {
+
+            // submit updates of different vehicles from different threads
+            final var threads = new ArrayList<Thread>();
+            for (var t = 0; t < 2; t++) {
+                final var first = t;
+                final var thread = new Thread(() -> {
+                    final var kinematics = new BodyKinematics();
+                    for (var i = 0; i < NUM_UPDATES; i++) {
+                        for (var vehicle = first; vehicle < NUM_VEHICLES; vehicle += 2) {
+                            final var timestamp = i * TIME_INTERVAL_SECONDS;
+                            switch (i % 3) {
+                                case 0 -> assertTrue(engine.submitBodyKinematics(vehicle, kinematics, timestamp));
+                                case 1 -> assertTrue(engine.submitMeasurements(vehicle,
+                                        Collections.emptyList(), timestamp));
+                                default -> assertTrue(engine.submitPropagation(vehicle, timestamp));
+                            }
+                        }
+                    }
+                });
+                threads.add(thread);
+                thread.start();
+            }
+            for (final var thread : threads) {
+                thread.join();
+            }
+
+            engine.flush();
+
+            assertEquals(NUM_VEHICLES, engine.getNumberOfVehicles());
+            assertEquals(0, engine.getNumberOfPendingUpdates());
+            assertEquals(NUM_VEHICLES * NUM_UPDATES, engine.getNumberOfSubmittedUpdates());
+            assertEquals(NUM_VEHICLES * NUM_UPDATES, engine.getNumberOfProcessedUpdates());
+            assertEquals(0, engine.getNumberOfFailedUpdates());
+            assertEquals(0, engine.getNumberOfRejectedUpdates());
+            assertTrue(engine.getNumberOfProcessedBatches() > 0);
+            assertTrue(engine.getAverageBatchSize() >= 1.0);
+            assertTrue(engine.getAverageBatchSize() <= engine.getMaxBatchSize());
+            assertTrue(engine.getAverageLatencyNanos() > 0.0);
+            assertTrue(engine.getMaxLatencyNanos() >= engine.getAverageLatencyNanos());
+            assertTrue(engine.getThroughput() > 0.0);
+
+            // check that each vehicle received its updates in order
+            final var latch = new CountDownLatch(NUM_VEHICLES);
+            final var valid = new AtomicInteger();
+            for (var vehicle = 0; vehicle < NUM_VEHICLES; vehicle++) {
+                assertTrue(engine.execute(vehicle, timestamps -> {
+                    var ordered = timestamps.size() == NUM_UPDATES;
+                    for (var i = 0; i < timestamps.size(); i++) {
+                        ordered &= timestamps.get(i) == i * TIME_INTERVAL_SECONDS;
+                    }
+                    if (ordered) {
+                        valid.incrementAndGet();
+                    }
+                    latch.countDown();
+                }));
+            }
+            latch.await();
+            assertEquals(NUM_VEHICLES, valid.get());
+
+            // remove a vehicle
+            assertTrue(engine.removeVehicle(0));
+            engine.flush();
+            assertEquals(NUM_VEHICLES - 1, engine.getNumberOfVehicles());
+
+            // reset counters
+            engine.resetCounters();
+            assertEquals(0, engine.getNumberOfSubmittedUpdates());
+            assertEquals(0, engine.getNumberOfProcessedUpdates());
+            assertEquals(0, engine.getNumberOfProcessedBatches());
+            assertEquals(0, engine.getMaxLatencyNanos());
+        }
+    }
+
+    @Test
+    void testRejectedUpdates() throws InterruptedException {
+        try (final var engine = new INSGNSSFleetEngine<>(new RecordingAdapter(), 1, 1, 1)) {
+            // block worker thread
+            final var started = new CountDownLatch(1);
+            final var release = new CountDownLatch(1);
+            assertTrue(engine.execute(0, timestamps -> {
+                started.countDown();
+                try {
+                    release.await();
+                } catch (final InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }));
+            started.await();
+
+            assertTrue(engine.submitPropagation(0, 0.0));
+            assertFalse(engine.submitPropagation(0, 1.0));
+
+            assertEquals(1, engine.getNumberOfSubmittedUpdates());
+            assertEquals(1, engine.getNumberOfRejectedUpdates());
+            assertEquals(1, engine.getNumberOfPendingUpdates());
+
+            release.countDown();
+            engine.flush();
+
+            assertEquals(1, engine.getNumberOfProcessedUpdates());
+        }
+    }
+
+    @Test
+    void testFailedUpdates() throws InterruptedException {
+        try (final var engine = new INSGNSSFleetEngine<>(new RecordingAdapter(), NUM_SHARDS)) {
+            engine.setListener(this);
+            assertSame(this, engine.getListener());
+
+            failures.set(0);
+            assertTrue(engine.submitPropagation(1, -1.0));
+            assertTrue(engine.submitPropagation(1, 1.0));
+            assertTrue(engine.execute(2, timestamps -> {
+                throw new IllegalStateException();
+            }));
+            engine.flush();
+
+            assertEquals(2, engine.getNumberOfProcessedUpdates());
+            assertEquals(1, engine.getNumberOfFailedUpdates());
+            assertEquals(2, failures.get());
+        }
+    }
+
+    @Test
+    void testFailuresCreatingEstimatorsAndNotifyingListener() throws InterruptedException {
+        // estimators of vehicles with negative identifiers cannot be created
+        final var adapter = new RecordingAdapter() {
+            @Override
+            public List<Double> create(final long vehicleId) {
+                if (vehicleId < 0) {
+                    throw new IllegalArgumentException();
+                }
+                return super.create(vehicleId);
+            }
+        };
+        try (final var engine = new INSGNSSFleetEngine<>(adapter, 1)) {
+            failures.set(0);
+            engine.setListener((e, vehicleId, estimator, ex) -> {
+                failures.incrementAndGet();
+                throw new IllegalStateException();
+            });
+
+            assertTrue(engine.submitPropagation(-1, 1.0));
+            assertTrue(engine.execute(-1, estimator -> {
+            }));
+            assertTrue(engine.submitPropagation(1, -1.0));
+            assertTrue(engine.submitPropagation(1, 1.0));
+
+            // worker thread keeps processing tasks, hence flush does not block
+            engine.flush();
+
+            assertEquals(3, engine.getNumberOfProcessedUpdates());
+            assertEquals(2, engine.getNumberOfFailedUpdates());
+            assertEquals(3, failures.get());
+            assertEquals(1, engine.getNumberOfVehicles());
+        }
+    }
+
+    @Test
+    void testClose() throws InterruptedException {
+        final var engine = new INSGNSSFleetEngine<>(new RecordingAdapter(), NUM_SHARDS);
+        for (var i = 0; i < NUM_UPDATES; i++) {
+            assertTrue(engine.submitPropagation(i % NUM_VEHICLES, i));
+        }
+
+        engine.close();
+
+        // pending updates are processed before closing
+        assertTrue(engine.isClosed());
+        assertEquals(NUM_UPDATES, engine.getNumberOfProcessedUpdates());
+
+        // further submissions are rejected
+        assertFalse(engine.submitPropagation(0, 0.0));
+        assertFalse(engine.execute(0, timestamps -> {
+        }));
+        assertFalse(engine.removeVehicle(0));
+        assertEquals(1, engine.getNumberOfRejectedUpdates());
+
+        // closing again makes no action
+        engine.close();
+        engine.awaitTermination();
+        engine.flush();
+    }
+
+    @Test
+    void testCloseWhenInterrupted() throws InterruptedException {
+        final var started = new CountDownLatch(1);
+        final var release = new CountDownLatch(1);
+        final var engine = new INSGNSSFleetEngine<>(new RecordingAdapter(), 1);
+        assertTrue(engine.execute(0, timestamps -> {
+            started.countDown();
+            try {
+                release.await();
+            } catch (final InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }));
+        assertTrue(engine.submitPropagation(0, 1.0));
+        started.await();
+
+        // closing while interrupted returns without waiting and keeps interrupted status
+        Thread.currentThread().interrupt();
+        engine.close();
+        assertTrue(Thread.interrupted());
+        assertTrue(engine.isClosed());
+        assertFalse(engine.submitPropagation(0, 2.0));
+
+        release.countDown();
+        engine.awaitTermination();
+        assertEquals(1, engine.getNumberOfProcessedUpdates());
+    }
+
+    @Test
+    void testFlushWhileClosing() throws InterruptedException {
+        try (final var engine = new INSGNSSFleetEngine<>(new RecordingAdapter(), 1, 1, 1)) {
+            // block worker thread and fill its queue
+            final var started = new CountDownLatch(1);
+            final var release = new CountDownLatch(1);
+            assertTrue(engine.execute(0, timestamps -> {
+                started.countDown();
+                try {
+                    release.await();
+                } catch (final InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }));
+            started.await();
+            assertTrue(engine.submitPropagation(0, 1.0));
+
+            final var flusher = startThread(() -> {
+                try {
+                    engine.flush();
+                } catch (final InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            });
+            waitForState(flusher, Thread.State.TIMED_WAITING);
+
+            final var closer = startThread(engine::close);
+            while (!engine.isClosed()) {
+                Thread.sleep(1);
+            }
+
+            // barrier is never queued after the stop task, hence flush does not block
+            release.countDown();
+            closer.join(TIMEOUT_MILLIS);
+            flusher.join(TIMEOUT_MILLIS);
+            assertFalse(closer.isAlive());
+            assertFalse(flusher.isAlive());
+            assertEquals(1, engine.getNumberOfProcessedUpdates());
+        }
+    }
+
+    @Test
+    void testWorkerTerminatedByError() throws InterruptedException {
+        try (final var engine = new INSGNSSFleetEngine<>(new RecordingAdapter(), 1, 1, 2,
+                quietThreadFactory(null))) {
+            final var started = new CountDownLatch(1);
+            final var release = new CountDownLatch(1);
+            assertTrue(engine.execute(0, timestamps -> {
+                started.countDown();
+                try {
+                    release.await();
+                } catch (final InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                throw new Error();
+            }));
+            started.await();
+            assertTrue(engine.submitPropagation(0, 1.0));
+
+            final var flusher = startThread(() -> {
+                try {
+                    engine.flush();
+                } catch (final InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            });
+            while (engine.getNumberOfPendingUpdates() < 2) {
+                Thread.sleep(1);
+            }
+
+            // worker thread terminates, discarding pending update and releasing barrier
+            release.countDown();
+            flusher.join(TIMEOUT_MILLIS);
+            assertFalse(flusher.isAlive());
+            assertEquals(0, engine.getNumberOfProcessedUpdates());
+            assertEquals(1, engine.getNumberOfRejectedUpdates());
+            assertEquals(0, engine.getNumberOfPendingUpdates());
+
+            // further submissions are rejected without blocking
+            assertFalse(engine.submitPropagation(0, 2.0));
+            assertFalse(engine.execute(0, timestamps -> {
+            }));
+            assertFalse(engine.removeVehicle(0));
+            engine.flush();
+            assertEquals(2, engine.getNumberOfRejectedUpdates());
+        }
+    }
+
+    @Test
+    void testWorkerTerminatedByInterruption() throws InterruptedException {
+        final var worker = new AtomicReference<Thread>();
+        final var engine = new INSGNSSFleetEngine<>(new RecordingAdapter(), 1, 1, 1,
+                quietThreadFactory(worker));
+        worker.get().interrupt();
+        worker.get().join(TIMEOUT_MILLIS);
+        assertFalse(worker.get().isAlive());
+
+        // flush and close neither block nor wait for space in the queue
+        assertFalse(engine.submitPropagation(0, 1.0));
+        assertFalse(engine.execute(0, timestamps -> {
+        }));
+        engine.flush();
+        engine.close();
+        assertTrue(engine.isClosed());
+        assertEquals(1, engine.getNumberOfRejectedUpdates());
+    }
+
+    @Test
+    void testLooselyCoupledMatchesSequentialExecution() throws InterruptedException, LockedException,
+            NotReadyException, INSGNSSException {
+        final var random = new Random();
+        final var measurements = INSGNSSLooselyCoupledFixture.generateMeasurements(0.0, random);
+
+        final var errors = new IMUErrors();
+        final var trueKinematics = new BodyKinematics(0.0, 0.0, -GRAVITY, 0.0, 0.0, 0.0);
+        final var kinematics = new BodyKinematics[NUM_UPDATES];
+        for (var i = 0; i < NUM_UPDATES; i++) {
+            kinematics[i] = BodyKinematicsGenerator.generate(TIME_INTERVAL_SECONDS, trueKinematics, errors, random);
+        }
+
+        // sequential execution
+        final var expected = INSGNSSLooselyCoupledFixture.createEstimator();
+        assertTrue(expected.updateMeasurements(measurements, 0.0));
+        for (var i = 0; i < NUM_UPDATES; i++) {
+            assertTrue(expected.updateBodyKinematics(kinematics[i], (i + 1) * TIME_INTERVAL_SECONDS));
+        }
+        final var expectedState = expected.getState();
+        assertNotNull(expectedState);
+
+        try (final var engine = INSGNSSFleetEngine.createLooselyCoupled(
+                vehicleId -> INSGNSSLooselyCoupledFixture.createEstimator(), NUM_SHARDS)) {
+            for (var vehicle = 0; vehicle < NUM_VEHICLES; vehicle++) {
+                assertTrue(engine.submitMeasurements(vehicle, measurements, 0.0));
+            }
+            for (var i = 0; i < NUM_UPDATES; i++) {
+                for (var vehicle = 0; vehicle < NUM_VEHICLES; vehicle++) {
+                    assertTrue(engine.submitBodyKinematics(vehicle, kinematics[i],
+                            (i + 1) * TIME_INTERVAL_SECONDS));
+                }
+            }
+            engine.flush();
+
+            assertEquals(NUM_VEHICLES, engine.getNumberOfVehicles());
+            assertEquals(0, engine.getNumberOfFailedUpdates());
+
+            final var states = Collections.synchronizedList(new ArrayList<INSLooselyCoupledKalmanState>());
+            for (var vehicle = 0; vehicle < NUM_VEHICLES; vehicle++) {
+                assertTrue(engine.execute(vehicle, estimator -> states.add(estimator.getState())));
+            }
+            engine.flush();
+
+            assertEquals(NUM_VEHICLES, states.size());
+            for (final var state : states) {
+                assertEquals(expectedState, state);
+            }
+        }
+    }
+
+    @Test
+    void testCreateTightlyCoupled() throws InterruptedException {
+        try (final var engine = INSGNSSFleetEngine.createTightlyCoupled(
+                vehicleId -> new INSGNSSTightlyCoupledKalmanFilteredEstimator(), NUM_SHARDS)) {
+            assertEquals(NUM_SHARDS, engine.getNumberOfShards());
+
+            assertTrue(engine.submitBodyKinematics(0, new BodyKinematics(), TIME_INTERVAL_SECONDS));
+            assertTrue(engine.submitPropagation(0, 2.0 * TIME_INTERVAL_SECONDS));
+            engine.flush();
+
+            assertEquals(1, engine.getNumberOfVehicles());
+            assertEquals(2, engine.getNumberOfProcessedUpdates());
+        }
+    }
+
+    @Override
+    public void onUpdateFailed(final INSGNSSFleetEngine<List<Double>> engine, final long vehicleId,
+                               final List<Double> estimator, final Exception e) {
+        failures.incrementAndGet();
+    }
+
+    private static Thread startThread(final Runnable runnable) {
+        final var thread = new Thread(runnable);
+        thread.setDaemon(true);
+        thread.start();
+        return thread;
+    }
+
+    private static void waitForState(final Thread thread, final Thread.State state) throws InterruptedException {
+        while (thread.getState() != state) {
+            Thread.sleep(1);
+        }
+    }
+
+    /**
+     * Creates a factory of daemon threads whose uncaught errors are ignored.
+     *
+     * @param created reference where last created thread is stored or null.
+     * @return thread factory.
+     */
+    private static ThreadFactory quietThreadFactory(final AtomicReference<Thread> created) {
+        return r -> {
+            final var thread = new Thread(r);
+            thread.setDaemon(true);
+            thread.setUncaughtExceptionHandler((t, e) -> {
+            });
+            if (created != null) {
+                created.set(thread);
+            }
+            return thread;
+        };
+    }
+
+    /**
+     * Adapter whose estimators record timestamps of received updates and fail on negative
+     * timestamps.
+     */
+    private static class RecordingAdapter implements INSGNSSFleetFilterAdapter<List<Double>> {
+
+        @Override
+        public List<Double> create(final long vehicleId) {
+            return new ArrayList<>();
+        }
+
+        @Override
+        public boolean updateBodyKinematics(final List<Double> estimator, final BodyKinematics kinematics,
+                                            final double timestamp) throws INSGNSSException {
+            return record(estimator, timestamp);
+        }
+
+        @Override
+        public boolean updateMeasurements(final List<Double> estimator,
+                                          final Collection<GNSSMeasurement> measurements,
+                                          final double timestamp) throws INSGNSSException {
+            return record(estimator, timestamp);
+        }
+
+        @Override
+        public boolean propagate(final List<Double> estimator, final double timestamp) throws INSGNSSException {
+            return record(estimator, timestamp);
+        }
+
+        private static boolean record(final List<Double> estimator, final double timestamp)
+                throws INSGNSSException {
+            if (timestamp < 0.0) {
+                throw new INSGNSSException();
+            }
+            estimator.add(timestamp);
+            return true;
+        }
+    }
+}
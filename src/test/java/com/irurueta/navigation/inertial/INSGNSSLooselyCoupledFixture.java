@@ -0,0 +1,141 @@
+/*
+ * Copyright (C) 2026 Alberto Irurueta Carro (alberto@irurueta.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.irurueta.navigation.inertial;
+
+import com.irurueta.navigation.frames.ECEFPosition;
+import com.irurueta.navigation.frames.ECEFVelocity;
+import com.irurueta.navigation.frames.NEDPosition;
+import com.irurueta.navigation.frames.NEDVelocity;
+import com.irurueta.navigation.frames.converters.NEDtoECEFPositionVelocityConverter;
+import com.irurueta.navigation.gnss.ECEFPositionAndVelocity;
+import com.irurueta.navigation.gnss.GNSSBiasesGenerator;
+import com.irurueta.navigation.gnss.GNSSConfig;
+import com.irurueta.navigation.gnss.GNSSLeastSquaresPositionAndVelocityEstimator;
+import com.irurueta.navigation.gnss.GNSSMeasurement;
+import com.irurueta.navigation.gnss.GNSSMeasurementsGenerator;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Random;
+
+/**
+ * Builders of loosely coupled filtered estimators and synthetic GNSS measurements of a
+ * static user shared by tests.
+ */
+public final class INSGNSSLooselyCoupledFixture {
+
+    private static final int NUM_SATELLITES = 8;
+
+    private static final double USER_LATITUDE_DEGREES = 41.38;
+    private static final double USER_LONGITUDE_DEGREES = 2.17;
+    private static final double USER_HEIGHT = 50.0;
+
+    private static final double MASK_ANGLE_DEGREES = 15.0;
+
+    private static final double MIN_SAT_HEIGHT = 150000.0;
+    private static final double MAX_SAT_HEIGHT = 800000.0;
+
+    private static final double MIN_SAT_VELOCITY_VALUE = -3500.0;
+    private static final double MAX_SAT_VELOCITY_VALUE = 3500.0;
+
+    private INSGNSSLooselyCoupledFixture() {
+    }
+
+    /**
+     * Creates a loosely coupled filtered estimator using a fixed configuration.
+     *
+     * @return a new estimator.
+     */
+    public static INSGNSSLooselyCoupledKalmanFilteredEstimator createEstimator() {
+        final var config = new INSLooselyCoupledKalmanConfig(1e-4, 1e-3, 1e-6, 1e-8,
+                2.5, 0.1);
+        final var initialConfig = new INSLooselyCoupledKalmanInitializerConfig(0.01, 0.1,
+                10.0, 0.01, 1e-4);
+        return new INSGNSSLooselyCoupledKalmanFilteredEstimator(config, initialConfig);
+    }
+
+    /**
+     * Generates GNSS measurements of a static user from satellites placed above it,
+     * retrying until a position fix can be estimated from them.
+     *
+     * @param timestamp timestamp expressed in seconds.
+     * @param random    random number generator.
+     * @return generated measurements.
+     */
+    public static Collection<GNSSMeasurement> generateMeasurements(final double timestamp, final Random random) {
+        final var ecefUserPosition = new ECEFPosition();
+        final var ecefUserVelocity = new ECEFVelocity();
+        final var userLatitude = Math.toRadians(USER_LATITUDE_DEGREES);
+        final var userLongitude = Math.toRadians(USER_LONGITUDE_DEGREES);
+        NEDtoECEFPositionVelocityConverter.convertNEDtoECEF(
+                new NEDPosition(userLatitude, userLongitude, USER_HEIGHT), new NEDVelocity(),
+                ecefUserPosition, ecefUserVelocity);
+        final var ecefUserPositionAndVelocity = new ECEFPositionAndVelocity(ecefUserPosition, ecefUserVelocity);
+
+        final var config = new GNSSConfig(1.0, 0.0, 0.0, 0.0, NUM_SATELLITES,
+                0.0, 0.0, 0.0, 0.0, MASK_ANGLE_DEGREES,
+                1e-3, 1e-3, 1e-3, 1e-3, 1e-3, 0.0, 0.0);
+        final var delta = Math.toRadians(MASK_ANGLE_DEGREES) / 3.0;
+
+        Collection<GNSSMeasurement> measurements;
+        do {
+            final var biases = new ArrayList<Double>();
+            final var satellitePositionsAndVelocities = new ArrayList<ECEFPositionAndVelocity>();
+            for (var n = 0; n < NUM_SATELLITES; n++) {
+                final var satLatitude = userLatitude + delta * (2.0 * random.nextDouble() - 1.0);
+                final var satLongitude = userLongitude + delta * (2.0 * random.nextDouble() - 1.0);
+                final var satHeight = MIN_SAT_HEIGHT + (MAX_SAT_HEIGHT - MIN_SAT_HEIGHT) * random.nextDouble();
+                final var satVelocity = new NEDVelocity(nextSatelliteVelocity(random),
+                        nextSatelliteVelocity(random), nextSatelliteVelocity(random));
+
+                final var ecefSatPosition = new ECEFPosition();
+                final var ecefSatVelocity = new ECEFVelocity();
+                NEDtoECEFPositionVelocityConverter.convertNEDtoECEF(
+                        new NEDPosition(satLatitude, satLongitude, satHeight), satVelocity,
+                        ecefSatPosition, ecefSatVelocity);
+
+                biases.add(GNSSBiasesGenerator.generateBias(ecefSatPosition, ecefUserPosition, config, random));
+                satellitePositionsAndVelocities.add(new ECEFPositionAndVelocity(ecefSatPosition, ecefSatVelocity));
+            }
+
+            measurements = GNSSMeasurementsGenerator.generate(timestamp, satellitePositionsAndVelocities,
+                    ecefUserPositionAndVelocity, biases, config, random);
+        } while (!isSolvable(measurements));
+
+        return measurements;
+    }
+
+    /**
+     * Indicates whether a position fix can be estimated from provided measurements.
+     *
+     * @param measurements GNSS measurements.
+     * @return true if measurements are enough to initialize a filtered estimator.
+     */
+    private static boolean isSolvable(final Collection<GNSSMeasurement> measurements) {
+        if (measurements.size() < GNSSLeastSquaresPositionAndVelocityEstimator.MIN_MEASUREMENTS) {
+            return false;
+        }
+        try {
+            return createEstimator().updateMeasurements(measurements, 0.0);
+        } catch (final Exception e) {
+            return false;
+        }
+    }
+
+    private static double nextSatelliteVelocity(final Random random) {
+        return MIN_SAT_VELOCITY_VALUE + (MAX_SAT_VELOCITY_VALUE - MIN_SAT_VELOCITY_VALUE) * random.nextDouble();
+    }
+}
@@ -0,0 +1,425 @@
+/*
+ * Copyright (C) 2026 Alberto Irurueta Carro (alberto@irurueta.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.irurueta.navigation.inertial;
+
+import com.irurueta.navigation.LockedException;
+import com.irurueta.navigation.NotReadyException;
+import com.irurueta.navigation.gnss.GNSSEstimation;
+import com.irurueta.navigation.gnss.GNSSMeasurement;
+import com.irurueta.navigation.inertial.calibration.BodyKinematicsGenerator;
+import com.irurueta.navigation.inertial.calibration.IMUErrors;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Random;
+import java.util.concurrent.CountDownLatch;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class INSGNSSLooselyCoupledKalmanConcurrentEstimatorTest {
+
+    private static final int NUM_SAMPLES = 250;
+
+    private static final int SAMPLES_PER_EPOCH = 50;
+
+    private static final double TIME_INTERVAL_SECONDS = 0.02;
+
+    private static final double GRAVITY = 9.81;
+
+    private static final double LARGE_HOLD = 1000.0;
+
+    private static final long WAIT_MILLIS = 50;
+
+    @Test
+    void testConstructor() {
+        final var estimator = INSGNSSLooselyCoupledFixture.createEstimator();
+        try (final var concurrent = new INSGNSSLooselyCoupledKalmanConcurrentEstimator(estimator)) {
+            assertSame(estimator, concurrent.getEstimator());
+            assertEquals(INSGNSSLooselyCoupledKalmanConcurrentEstimator.DEFAULT_BODY_KINEMATICS_CAPACITY,
+                    concurrent.getBodyKinematicsCapacity());
+            assertEquals(INSGNSSLooselyCoupledKalmanConcurrentEstimator.DEFAULT_MEASUREMENTS_CAPACITY,
+                    concurrent.getMeasurementsCapacity());
+            assertEquals(INSGNSSLooselyCoupledKalmanConcurrentEstimator.DEFAULT_MAX_MEASUREMENTS_HOLD,
+                    concurrent.getMaxMeasurementsHold(), 1e-9);
+            assertNull(concurrent.getSnapshot());
+            assertFalse(concurrent.isClosed());
+            assertEquals(0, concurrent.getNumberOfPendingBodyKinematics());
+            assertEquals(0, concurrent.getNumberOfPendingMeasurements());
+            assertEquals(0, concurrent.getNumberOfProcessedUpdates());
+            assertEquals(0, concurrent.getNumberOfFailedUpdates());
+            assertEquals(0, concurrent.getNumberOfRejectedUpdates());
+        }
+
+        try (final var concurrent = new INSGNSSLooselyCoupledKalmanConcurrentEstimator(estimator, 100, 3)) {
+            assertEquals(128, concurrent.getBodyKinematicsCapacity());
+            assertEquals(4, concurrent.getMeasurementsCapacity());
+        }
+
+        final var threadNames = Collections.synchronizedList(new ArrayList<String>());
+        try (final var ignored = new INSGNSSLooselyCoupledKalmanConcurrentEstimator(estimator, 1, 1,
+                r -> {
+                    final var thread = new Thread(r, "custom-filter");
+                    threadNames.add(thread.getName());
+                    return thread;
+                })) {
+            assertEquals(Collections.singletonList("custom-filter"), threadNames);
+        }
+
+        // Force NullPointerException
+        assertThrows(NullPointerException.class, () -> new INSGNSSLooselyCoupledKalmanConcurrentEstimator(null));
+
+        // Force IllegalArgumentException
+        assertThrows(IllegalArgumentException.class,
+                () -> new INSGNSSLooselyCoupledKalmanConcurrentEstimator(estimator, 0, 1));
+        assertThrows(IllegalArgumentException.class,
+                () -> new INSGNSSLooselyCoupledKalmanConcurrentEstimator(estimator, 1, 0));
+    }
+
+    @Test
+    void testGetSetMaxMeasurementsHold() {
+        try (final var concurrent = new INSGNSSLooselyCoupledKalmanConcurrentEstimator(
+                INSGNSSLooselyCoupledFixture.createEstimator())) {
+            concurrent.setMaxMeasurementsHold(0.5);
+
+            assertEquals(0.5, concurrent.getMaxMeasurementsHold(), 1e-9);
+
+            // Force IllegalArgumentException
+            assertThrows(IllegalArgumentException.class, () -> concurrent.setMaxMeasurementsHold(-1.0));
+        }
+    }
+
+    @Test
+    void testMatchesSequentialEstimator() throws InterruptedException, LockedException, NotReadyException,
+            INSGNSSException {
+        final var random = new Random(0L);
+        final var samples = generateSamples(random);
+        final var numEpochs = NUM_SAMPLES / SAMPLES_PER_EPOCH;
+        final var measurements = new Collection[numEpochs];
+        for (var i = 0; i < numEpochs; i++) {
+            measurements[i] = INSGNSSLooselyCoupledFixture.generateMeasurements(getEpochTimestamp(i), random);
+        }
+
+        // apply updates sequentially in timestamp order
+        final var expected = INSGNSSLooselyCoupledFixture.createEstimator();
+        var applied = 0;
+        var j = 0;
+        for (var i = 0; i < NUM_SAMPLES; i++) {
+            final var timestamp = getSampleTimestamp(i);
+            while (j < numEpochs && getEpochTimestamp(j) < timestamp) {
+                if (expected.updateMeasurements(getMeasurements(measurements, j), getEpochTimestamp(j))) {
+                    applied++;
+                }
+                j++;
+            }
+            if (expected.updateBodyKinematics(samples[i], timestamp)) {
+                applied++;
+            }
+        }
+
+        // submit body kinematics and GNSS measurements from two threads
+        try (final var concurrent = new INSGNSSLooselyCoupledKalmanConcurrentEstimator(
+                INSGNSSLooselyCoupledFixture.createEstimator(), 16, numEpochs)) {
+            concurrent.setMaxMeasurementsHold(LARGE_HOLD);
+
+            // first body kinematics precede all measurements, so that these are held until
+            // body kinematics with a later timestamp are submitted
+            final var kinematics = new BodyKinematics();
+            kinematics.copyFrom(samples[0]);
+            assertTrue(concurrent.submitBodyKinematics(kinematics, getSampleTimestamp(0)));
+
+            // measurements are submitted ahead of body kinematics, since filter thread cannot
+            // wait for measurements that have not been submitted yet
+            final var gnssThread = new Thread(() -> {
+                for (var i = 0; i < numEpochs; i++) {
+                    assertTrue(concurrent.submitMeasurements(getMeasurements(measurements, i),
+                            getEpochTimestamp(i)));
+                }
+            });
+            gnssThread.start();
+            gnssThread.join();
+
+            for (var i = 1; i < NUM_SAMPLES; i++) {
+                // reuse instance to check that kinematics are copied on submission
+                kinematics.copyFrom(samples[i]);
+                while (!concurrent.submitBodyKinematics(kinematics, getSampleTimestamp(i))) {
+                    Thread.onSpinWait();
+                }
+            }
+
+            concurrent.flush();
+
+            assertEquals(0, concurrent.getNumberOfPendingBodyKinematics());
+            assertEquals(0, concurrent.getNumberOfPendingMeasurements());
+            assertEquals(NUM_SAMPLES + numEpochs, concurrent.getNumberOfProcessedUpdates());
+            assertEquals(0, concurrent.getNumberOfFailedUpdates());
+
+            final var snapshot = concurrent.getSnapshot();
+            assertNotNull(snapshot);
+            assertEquals(applied, snapshot.getSequenceNumber());
+            assertEquals(expected.getLastStateTimestamp(), snapshot.getTimestamp());
+            assertEquals(expected.getState(), snapshot.getState());
+            assertEquals(expected.getEstimation(), snapshot.getEstimation());
+            assertEquals(expected.getCorrectedKinematics(), snapshot.getCorrectedKinematics());
+        }
+    }
+
+    @Test
+    void testHeldMeasurements() throws InterruptedException {
+        final var random = new Random(0L);
+        final var samples = generateSamples(random);
+        final var measurements0 = INSGNSSLooselyCoupledFixture.generateMeasurements(0.0, random);
+        final var measurements1 = INSGNSSLooselyCoupledFixture.generateMeasurements(1.0, random);
+
+        try (final var concurrent = new INSGNSSLooselyCoupledKalmanConcurrentEstimator(
+                INSGNSSLooselyCoupledFixture.createEstimator())) {
+            concurrent.setMaxMeasurementsHold(LARGE_HOLD);
+
+            // measurements are applied when no body kinematics have been submitted yet
+            assertTrue(concurrent.submitMeasurements(measurements0, 0.0));
+            waitForProcessed(concurrent, 1);
+            final var snapshot0 = concurrent.getSnapshot();
+            assertNotNull(snapshot0);
+            assertEquals(1, snapshot0.getSequenceNumber());
+
+            // measurements newer than last body kinematics are held
+            assertTrue(concurrent.submitBodyKinematics(samples[0], getSampleTimestamp(0)));
+            assertTrue(concurrent.submitMeasurements(measurements1, 1.0));
+            waitForProcessed(concurrent, 2);
+            Thread.sleep(WAIT_MILLIS);
+            assertEquals(2, concurrent.getNumberOfProcessedUpdates());
+            assertEquals(1, concurrent.getNumberOfPendingMeasurements());
+
+            // submitting later body kinematics releases held measurements
+            assertTrue(concurrent.submitBodyKinematics(samples[1], 1.0 + TIME_INTERVAL_SECONDS));
+            concurrent.flush();
+            assertEquals(4, concurrent.getNumberOfProcessedUpdates());
+            assertEquals(0, concurrent.getNumberOfPendingMeasurements());
+
+            // flushing releases held measurements
+            assertTrue(concurrent.submitMeasurements(measurements1, 2.0));
+            concurrent.flush();
+            assertEquals(5, concurrent.getNumberOfProcessedUpdates());
+            assertEquals(0, concurrent.getNumberOfPendingMeasurements());
+
+            // held measurements are released once maximum hold time elapses
+            concurrent.setMaxMeasurementsHold(0.0);
+            assertTrue(concurrent.submitMeasurements(measurements1, 3.0));
+            waitForProcessed(concurrent, 6);
+            assertEquals(0, concurrent.getNumberOfFailedUpdates());
+
+            final var snapshot = concurrent.getSnapshot();
+            assertTrue(snapshot.getSequenceNumber() > snapshot0.getSequenceNumber());
+            assertEquals(3.0, snapshot.getTimestamp(), 0.0);
+        }
+    }
+
+    @Test
+    void testRejectedAndFailedUpdates() throws InterruptedException {
+        final var started = new CountDownLatch(1);
+        final var concurrent = new INSGNSSLooselyCoupledKalmanConcurrentEstimator(
+                INSGNSSLooselyCoupledFixture.createEstimator(), 1, 1, r -> {
+                    final var thread = new Thread(() -> {
+                        try {
+                            started.await();
+                        } catch (final InterruptedException e) {
+                            Thread.currentThread().interrupt();
+                            return;
+                        }
+                        r.run();
+                    });
+                    thread.setDaemon(true);
+                    return thread;
+                });
+
+        // buffers are full until filter thread starts
+        assertTrue(concurrent.submitMeasurements(Collections.emptyList(), 0.0));
+        assertFalse(concurrent.submitMeasurements(Collections.emptyList(), 1.0));
+        assertTrue(concurrent.submitBodyKinematics(new BodyKinematics(), 2.0));
+        assertFalse(concurrent.submitBodyKinematics(new BodyKinematics(), 3.0));
+        assertEquals(1, concurrent.getNumberOfPendingMeasurements());
+        assertEquals(1, concurrent.getNumberOfPendingBodyKinematics());
+        assertEquals(2, concurrent.getNumberOfRejectedUpdates());
+
+        started.countDown();
+        concurrent.flush();
+
+        // empty measurements cannot be applied
+        assertEquals(2, concurrent.getNumberOfProcessedUpdates());
+        assertEquals(1, concurrent.getNumberOfFailedUpdates());
+
+        concurrent.close();
+        assertTrue(concurrent.isClosed());
+        assertFalse(concurrent.submitBodyKinematics(new BodyKinematics(), 4.0));
+        assertFalse(concurrent.submitMeasurements(Collections.emptyList(), 4.0));
+        assertEquals(4, concurrent.getNumberOfRejectedUpdates());
+
+        // closing again has no effect
+        concurrent.close();
+        concurrent.awaitTermination();
+    }
+
+    @Test
+    void testCloseWhenInterrupted() throws InterruptedException {
+        final var started = new CountDownLatch(1);
+        final var concurrent = new INSGNSSLooselyCoupledKalmanConcurrentEstimator(
+                INSGNSSLooselyCoupledFixture.createEstimator(), 1, 1, r -> {
+                    final var thread = new Thread(() -> {
+                        try {
+                            started.await();
+                        } catch (final InterruptedException e) {
+                            Thread.currentThread().interrupt();
+                            return;
+                        }
+                        r.run();
+                    });
+                    thread.setDaemon(true);
+                    return thread;
+                });
+        assertTrue(concurrent.submitBodyKinematics(new BodyKinematics(), 0.0));
+
+        // closing while interrupted returns without waiting and keeps interrupted status
+        Thread.currentThread().interrupt();
+        concurrent.close();
+        assertTrue(Thread.interrupted());
+        assertTrue(concurrent.isClosed());
+        assertFalse(concurrent.submitBodyKinematics(new BodyKinematics(), 1.0));
+        assertEquals(0, concurrent.getNumberOfProcessedUpdates());
+
+        // pending updates are processed once filter thread starts
+        started.countDown();
+        concurrent.awaitTermination();
+        assertEquals(1, concurrent.getNumberOfProcessedUpdates());
+        assertEquals(0, concurrent.getNumberOfPendingBodyKinematics());
+    }
+
+    @Test
+    void testCloseProcessesPendingUpdates() throws InterruptedException {
+        final var random = new Random(0L);
+        final var samples = generateSamples(random);
+        final var measurements = INSGNSSLooselyCoupledFixture.generateMeasurements(0.0, random);
+
+        final var concurrent = new INSGNSSLooselyCoupledKalmanConcurrentEstimator(
+                INSGNSSLooselyCoupledFixture.createEstimator());
+        concurrent.setMaxMeasurementsHold(LARGE_HOLD);
+        assertTrue(concurrent.submitBodyKinematics(samples[0], 0.0));
+        assertTrue(concurrent.submitMeasurements(measurements, 1.0));
+        concurrent.close();
+
+        assertEquals(2, concurrent.getNumberOfProcessedUpdates());
+        assertEquals(0, concurrent.getNumberOfPendingMeasurements());
+        assertEquals(1.0, concurrent.getSnapshot().getTimestamp(), 0.0);
+    }
+
+    @Test
+    void testSubmittedInstancesCanBeReused() throws InterruptedException {
+        final var random = new Random(0L);
+        final var samples = generateSamples(random);
+        final var measurements = INSGNSSLooselyCoupledFixture.generateMeasurements(1.0, random);
+        final var expected = new ArrayList<GNSSMeasurement>();
+        for (final var measurement : measurements) {
+            expected.add(new GNSSMeasurement(measurement));
+        }
+
+        final var concurrent = new INSGNSSLooselyCoupledKalmanConcurrentEstimator(
+                INSGNSSLooselyCoupledFixture.createEstimator());
+        concurrent.setMaxMeasurementsHold(LARGE_HOLD);
+        assertTrue(concurrent.submitBodyKinematics(samples[0], 0.0));
+        assertTrue(concurrent.submitMeasurements(measurements, 1.0));
+
+        // measurements are held, so modifying them must not modify queued values
+        for (final var measurement : measurements) {
+            measurement.setX(0.0);
+            measurement.setPseudoRange(0.0);
+        }
+        concurrent.close();
+
+        assertEquals(2, concurrent.getNumberOfProcessedUpdates());
+        assertEquals(0, concurrent.getNumberOfFailedUpdates());
+        assertEquals(expected, concurrent.getEstimator().getMeasurements());
+    }
+
+    @Test
+    void testSnapshotReturnsCopies() throws InterruptedException {
+        final var random = new Random(0L);
+        final var samples = generateSamples(random);
+        final var measurements = INSGNSSLooselyCoupledFixture.generateMeasurements(0.0, random);
+
+        try (final var concurrent = new INSGNSSLooselyCoupledKalmanConcurrentEstimator(
+                INSGNSSLooselyCoupledFixture.createEstimator())) {
+            assertTrue(concurrent.submitMeasurements(measurements, 0.0));
+            assertTrue(concurrent.submitBodyKinematics(samples[0], TIME_INTERVAL_SECONDS));
+            concurrent.flush();
+
+            final var snapshot = concurrent.getSnapshot();
+
+            final var state1 = snapshot.getState();
+            final var state2 = new INSLooselyCoupledKalmanState();
+            assertTrue(snapshot.getState(state2));
+            assertNotSame(state1, snapshot.getState());
+            assertEquals(state1, state2);
+
+            final var estimation1 = snapshot.getEstimation();
+            final var estimation2 = new GNSSEstimation();
+            assertTrue(snapshot.getEstimation(estimation2));
+            assertNotSame(estimation1, snapshot.getEstimation());
+            assertEquals(estimation1, estimation2);
+
+            final var kinematics1 = snapshot.getCorrectedKinematics();
+            final var kinematics2 = new BodyKinematics();
+            assertTrue(snapshot.getCorrectedKinematics(kinematics2));
+            assertNotSame(kinematics1, snapshot.getCorrectedKinematics());
+            assertEquals(kinematics1, kinematics2);
+
+            // modifying returned values does not modify snapshot
+            estimation1.setX(0.0);
+            kinematics1.setFx(0.0);
+            assertEquals(estimation2, snapshot.getEstimation());
+            assertEquals(kinematics2, snapshot.getCorrectedKinematics());
+        }
+    }
+
+    private static BodyKinematics[] generateSamples(final Random random) {
+        final var errors = new IMUErrors();
+        final var trueKinematics = new BodyKinematics(0.0, 0.0, -GRAVITY, 0.0, 0.0, 0.0);
+        final var samples = new BodyKinematics[NUM_SAMPLES];
+        for (var i = 0; i < NUM_SAMPLES; i++) {
+            samples[i] = BodyKinematicsGenerator.generate(TIME_INTERVAL_SECONDS, trueKinematics, errors, random);
+        }
+        return samples;
+    }
+
+    private static double getSampleTimestamp(final int i) {
+        return i * TIME_INTERVAL_SECONDS;
+    }
+
+    private static double getEpochTimestamp(final int epoch) {
+        return (epoch * SAMPLES_PER_EPOCH + 0.5) * TIME_INTERVAL_SECONDS;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Collection<GNSSMeasurement> getMeasurements(final Collection<?>[] measurements, final int i) {
+        return (Collection<GNSSMeasurement>) measurements[i];
+    }
+
+    private static void waitForProcessed(final INSGNSSLooselyCoupledKalmanConcurrentEstimator concurrent,
+                                         final long processed) throws InterruptedException {
+        while (concurrent.getNumberOfProcessedUpdates() < processed) {
+            Thread.sleep(1);
+        }
+    }
+}
@@ -33,14 +33,25 @@ import com.irurueta.navigation.gnss.GNSSEstimation;
 import com.irurueta.navigation.gnss.GNSSLeastSquaresPositionAndVelocityEstimator;
 import com.irurueta.navigation.gnss.GNSSMeasurement;
 import com.irurueta.navigation.gnss.GNSSMeasurementsGenerator;
+import com.irurueta.navigation.inertial.calibration.BodyKinematicsGenerator;
+import com.irurueta.navigation.inertial.calibration.IMUErrors;
 import com.irurueta.navigation.inertial.estimators.ECEFGravityEstimator;
 import com.irurueta.statistics.UniformRandomizer;
 import com.irurueta.units.Time;
 import com.irurueta.units.TimeUnit;
 import org.junit.jupiter.api.Test;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.BufferOverflowException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.List;
 import java.util.Random;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -93,6 +104,16 @@ class INSGNSSLooselyCoupledKalmanFilteredEstimatorTest implements INSGNSSLoosely
 
     private static final int TIMES = 100;
 
+    private static final int SNAPSHOT_EPOCHS = 10;
+
+    private static final double SNAPSHOT_TIME_INTERVAL = 0.02;
+
+    private static final double GRAVITY = 9.81;
+
+    private static final int HISTORY_CAPACITY = 64;
+
+    private static final double SNAPSHOT_ERROR = 1e-6;
+
     private static final double ABSOLUTE_ERROR = 1e-8;
 
     private int updateGNSSMeasurementsStart;
@@ -2886,6 +2907,373 @@ class INSGNSSLooselyCoupledKalmanFilteredEstimatorTest implements INSGNSSLoosely
         assertTrue(numValid > 0);
     }
 
+    @Test
+    void testWriteAndRestoreSnapshot() throws LockedException, NotReadyException, INSGNSSException,
+            IOException {
+        final var random = new Random();
+        final var measurements = INSGNSSLooselyCoupledFixture.generateMeasurements(0.0, random);
+        final var errors = new IMUErrors();
+        final var trueKinematics = new BodyKinematics(0.0, 0.0, -GRAVITY, 0.0, 0.0, 0.0);
+
+        final var estimator1 = INSGNSSLooselyCoupledFixture.createEstimator();
+        assertTrue(estimator1.updateMeasurements(measurements, 0.0));
+        for (var i = 1; i <= SNAPSHOT_EPOCHS; i++) {
+            assertTrue(estimator1.updateBodyKinematics(BodyKinematicsGenerator.generate(SNAPSHOT_TIME_INTERVAL,
+                    trueKinematics, errors, random), i * SNAPSHOT_TIME_INTERVAL));
+        }
+
+        assertTrue(INSGNSSLooselyCoupledKalmanFilteredEstimator.SNAPSHOT_LENGTH
+                > INSLooselyCoupledKalmanFilteredEstimator.SNAPSHOT_LENGTH);
+
+        // snapshot into buffer
+        final var buffer = ByteBuffer.allocate(INSGNSSLooselyCoupledKalmanFilteredEstimator.SNAPSHOT_LENGTH);
+        estimator1.writeSnapshot(buffer);
+        assertEquals(0, buffer.remaining());
+
+        final var estimator2 = new INSGNSSLooselyCoupledKalmanFilteredEstimator(this);
+        buffer.flip();
+        estimator2.restoreSnapshot(buffer);
+        assertEquals(0, buffer.remaining());
+
+        assertSame(this, estimator2.getListener());
+        assertNull(estimator2.getMeasurements());
+        assertEquals(estimator1.getEpochInterval(), estimator2.getEpochInterval(), 0.0);
+        assertEquals(estimator1.getConfig(), estimator2.getConfig());
+        assertEquals(estimator1.getInitialConfig(), estimator2.getInitialConfig());
+        assertEquals(estimator1.getEstimation(), estimator2.getEstimation());
+        // covariance is restored from its upper triangle, hence numerical asymmetries are removed
+        assertTrue(estimator1.getState().equals(estimator2.getState(), SNAPSHOT_ERROR));
+        assertEquals(estimator1.getKinematics(), estimator2.getKinematics());
+        assertEquals(estimator1.getCorrectedKinematics(), estimator2.getCorrectedKinematics());
+        assertEquals(estimator1.getCoordinateTransformation(), estimator2.getCoordinateTransformation());
+        assertEquals(estimator1.getLastStateTimestamp(), estimator2.getLastStateTimestamp());
+
+        // snapshot into data output
+        final var outputStream = new ByteArrayOutputStream();
+        estimator1.writeSnapshot(new DataOutputStream(outputStream));
+        assertEquals(INSGNSSLooselyCoupledKalmanFilteredEstimator.SNAPSHOT_LENGTH, outputStream.size());
+        assertArrayEquals(buffer.array(), outputStream.toByteArray());
+
+        final var estimator3 = new INSGNSSLooselyCoupledKalmanFilteredEstimator();
+        estimator3.restoreSnapshot(new DataInputStream(new ByteArrayInputStream(outputStream.toByteArray())));
+
+        // restored estimators produce the same results
+        for (var i = SNAPSHOT_EPOCHS + 1; i <= 2 * SNAPSHOT_EPOCHS; i++) {
+            final var kinematics = BodyKinematicsGenerator.generate(SNAPSHOT_TIME_INTERVAL, trueKinematics, errors,
+                    random);
+            final var timestamp = i * SNAPSHOT_TIME_INTERVAL;
+            assertTrue(estimator1.updateBodyKinematics(kinematics, timestamp));
+            assertTrue(estimator2.updateBodyKinematics(kinematics, timestamp));
+            assertTrue(estimator3.updateBodyKinematics(kinematics, timestamp));
+        }
+        final var timestamp = (2 * SNAPSHOT_EPOCHS + 1) * SNAPSHOT_TIME_INTERVAL;
+        assertTrue(estimator1.updateMeasurements(measurements, timestamp));
+        assertTrue(estimator2.updateMeasurements(measurements, timestamp));
+        assertTrue(estimator3.updateMeasurements(measurements, timestamp));
+
+        assertTrue(estimator1.getState().equals(estimator2.getState(), SNAPSHOT_ERROR));
+        assertTrue(estimator1.getState().equals(estimator3.getState(), SNAPSHOT_ERROR));
+        assertTrue(estimator1.getEstimation().equals(estimator2.getEstimation(), SNAPSHOT_ERROR));
+        assertTrue(estimator1.getCorrectedKinematics().equals(estimator3.getCorrectedKinematics(),
+                SNAPSHOT_ERROR));
+
+        // snapshot of an estimator without state restores an empty estimator
+        final var estimator4 = new INSGNSSLooselyCoupledKalmanFilteredEstimator();
+        buffer.clear();
+        estimator4.writeSnapshot(buffer);
+        buffer.flip();
+        estimator3.restoreSnapshot(buffer);
+        assertNull(estimator3.getEstimation());
+        assertNull(estimator3.getState());
+        assertNull(estimator3.getKinematics());
+        assertNull(estimator3.getCorrectedKinematics());
+        assertNull(estimator3.getCoordinateTransformation());
+        assertNull(estimator3.getLastStateTimestamp());
+
+        // Force BufferOverflowException
+        assertThrows(BufferOverflowException.class, () -> estimator1.writeSnapshot(ByteBuffer.allocate(
+                INSGNSSLooselyCoupledKalmanFilteredEstimator.SNAPSHOT_LENGTH - 1)));
+
+        // Force BufferUnderflowException
+        assertThrows(BufferUnderflowException.class, () -> estimator2.restoreSnapshot(ByteBuffer.allocate(
+                INSGNSSLooselyCoupledKalmanFilteredEstimator.SNAPSHOT_LENGTH - 1)));
+
+        // Force IllegalArgumentException and check that estimator is not modified
+        final var invalid = outputStream.toByteArray();
+        invalid[invalid.length - INSLooselyCoupledKalmanFilteredEstimator.SNAPSHOT_LENGTH]++;
+        final var invalidBuffer = ByteBuffer.wrap(invalid);
+        final var state = estimator2.getState();
+        assertThrows(IllegalArgumentException.class, () -> estimator2.restoreSnapshot(invalidBuffer));
+        assertEquals(0, invalidBuffer.position());
+        assertTrue(state.equals(estimator2.getState(), 0.0));
+    }
+
+    @Test
+    void testWriteAndRestoreSnapshotWithSecondOrderTransition() throws LockedException, NotReadyException,
+            INSGNSSException {
+        final var random = new Random();
+        final var measurements = INSGNSSLooselyCoupledFixture.generateMeasurements(0.0, random);
+        final var errors = new IMUErrors();
+        final var trueKinematics = new BodyKinematics(0.0, 0.0, -GRAVITY, 0.0, 0.0, 0.0);
+
+        final var estimator1 = createSecondOrderEstimator();
+        assertTrue(estimator1.updateMeasurements(measurements, 0.0));
+        for (var i = 1; i <= SNAPSHOT_EPOCHS; i++) {
+            assertTrue(estimator1.updateBodyKinematics(BodyKinematicsGenerator.generate(SNAPSHOT_TIME_INTERVAL,
+                    trueKinematics, errors, random), i * SNAPSHOT_TIME_INTERVAL));
+        }
+
+        final var buffer = ByteBuffer.allocate(INSGNSSLooselyCoupledKalmanFilteredEstimator.SNAPSHOT_LENGTH);
+        estimator1.writeSnapshot(buffer);
+        buffer.flip();
+
+        // transition order is restored along with the rest of the configuration
+        final var estimator2 = INSGNSSLooselyCoupledFixture.createEstimator();
+        assertEquals(INSKalmanTransitionOrder.FIRST_ORDER, estimator2.getConfig().getTransitionOrder());
+        estimator2.restoreSnapshot(buffer);
+        assertEquals(INSKalmanTransitionOrder.SECOND_ORDER, estimator2.getConfig().getTransitionOrder());
+        assertEquals(estimator1.getConfig(), estimator2.getConfig());
+
+        // restored estimator keeps propagating with the same transition order
+        for (var i = SNAPSHOT_EPOCHS + 1; i <= 2 * SNAPSHOT_EPOCHS; i++) {
+            final var kinematics = BodyKinematicsGenerator.generate(SNAPSHOT_TIME_INTERVAL, trueKinematics, errors,
+                    random);
+            final var timestamp = i * SNAPSHOT_TIME_INTERVAL;
+            assertTrue(estimator1.updateBodyKinematics(kinematics, timestamp));
+            assertTrue(estimator2.updateBodyKinematics(kinematics, timestamp));
+        }
+        assertTrue(estimator1.getState().equals(estimator2.getState(), SNAPSHOT_ERROR));
+
+        // Force IllegalArgumentException with an invalid transition order
+        final var invalid = buffer.array().clone();
+        final var transitionOrderPosition = INSGNSSLooselyCoupledKalmanFilteredEstimator.SNAPSHOT_LENGTH
+                - INSLooselyCoupledKalmanFilteredEstimator.SNAPSHOT_LENGTH + 2 + 7 * Double.BYTES;
+        assertEquals(INSKalmanTransitionOrder.SECOND_ORDER.ordinal(), invalid[transitionOrderPosition]);
+        invalid[transitionOrderPosition] = (byte) INSKalmanTransitionOrder.values().length;
+        final var invalidBuffer = ByteBuffer.wrap(invalid);
+        assertThrows(IllegalArgumentException.class, () -> estimator2.restoreSnapshot(invalidBuffer));
+        assertEquals(0, invalidBuffer.position());
+        assertEquals(INSKalmanTransitionOrder.SECOND_ORDER, estimator2.getConfig().getTransitionOrder());
+    }
+
+    @Test
+    void testGetSetHistoryCapacity() throws LockedException {
+        final var estimator = new INSGNSSLooselyCoupledKalmanFilteredEstimator();
+
+        // check default value
+        assertEquals(0, estimator.getHistoryCapacity());
+        assertEquals(0, estimator.getHistorySize());
+
+        // set new value
+        estimator.setHistoryCapacity(HISTORY_CAPACITY);
+
+        // check
+        assertEquals(HISTORY_CAPACITY, estimator.getHistoryCapacity());
+        assertEquals(0, estimator.getHistorySize());
+
+        // disable
+        estimator.setHistoryCapacity(0);
+
+        // check
+        assertEquals(0, estimator.getHistoryCapacity());
+
+        // Force IllegalArgumentException
+        assertThrows(IllegalArgumentException.class, () -> estimator.setHistoryCapacity(-1));
+    }
+
+    @Test
+    void testUpdateDelayedMeasurements() throws LockedException, NotReadyException, INSGNSSException {
+        final var random = new Random();
+        final var measurements = INSGNSSLooselyCoupledFixture.generateMeasurements(0.0, random);
+        final var delayedTimestamp = (SNAPSHOT_EPOCHS / 2 + 0.5) * SNAPSHOT_TIME_INTERVAL;
+        final var delayedMeasurements = INSGNSSLooselyCoupledFixture.generateMeasurements(delayedTimestamp,
+                random);
+        final var errors = new IMUErrors();
+        final var trueKinematics = new BodyKinematics(0.0, 0.0, -GRAVITY, 0.0, 0.0, 0.0);
+        final var kinematics = new BodyKinematics[SNAPSHOT_EPOCHS];
+        for (var i = 0; i < SNAPSHOT_EPOCHS; i++) {
+            kinematics[i] = BodyKinematicsGenerator.generate(SNAPSHOT_TIME_INTERVAL, trueKinematics, errors, random);
+        }
+
+        // estimator receiving all measurements in order
+        final var estimator1 = INSGNSSLooselyCoupledFixture.createEstimator();
+        assertTrue(estimator1.updateMeasurements(measurements, 0.0));
+        var delayedApplied = false;
+        for (var i = 1; i <= SNAPSHOT_EPOCHS; i++) {
+            final var timestamp = i * SNAPSHOT_TIME_INTERVAL;
+            if (!delayedApplied && timestamp > delayedTimestamp) {
+                assertTrue(estimator1.updateMeasurements(delayedMeasurements, delayedTimestamp));
+                delayedApplied = true;
+            }
+            assertTrue(estimator1.updateBodyKinematics(kinematics[i - 1], timestamp));
+        }
+
+        // estimators receiving delayed measurements after last kinematics
+        final var estimator2 = INSGNSSLooselyCoupledFixture.createEstimator();
+        estimator2.setHistoryCapacity(HISTORY_CAPACITY);
+        final var estimator3 = INSGNSSLooselyCoupledFixture.createEstimator();
+        final var estimator4 = INSGNSSLooselyCoupledFixture.createEstimator();
+        estimator4.setHistoryCapacity(SNAPSHOT_EPOCHS / 4);
+        for (final var estimator : new INSGNSSLooselyCoupledKalmanFilteredEstimator[]{
+                estimator2, estimator3, estimator4}) {
+            assertTrue(estimator.updateMeasurements(measurements, 0.0));
+            for (var i = 1; i <= SNAPSHOT_EPOCHS; i++) {
+                assertTrue(estimator.updateBodyKinematics(kinematics[i - 1], i * SNAPSHOT_TIME_INTERVAL));
+            }
+        }
+        assertEquals(SNAPSHOT_EPOCHS + 1, estimator2.getHistorySize());
+        assertEquals(SNAPSHOT_EPOCHS / 4, estimator4.getHistorySize());
+
+        final var lastStateTimestamp = estimator2.getLastStateTimestamp();
+        assertTrue(estimator2.updateMeasurements(delayedMeasurements, delayedTimestamp));
+
+        // delayed measurements are applied at their time of validity
+        assertEquals(SNAPSHOT_EPOCHS + 2, estimator2.getHistorySize());
+        assertEquals(lastStateTimestamp, estimator2.getLastStateTimestamp());
+        assertEquals(estimator1.getLastStateTimestamp(), estimator2.getLastStateTimestamp());
+        assertTrue(estimator1.getState().equals(estimator2.getState(), SNAPSHOT_ERROR));
+        assertTrue(estimator1.getEstimation().equals(estimator2.getEstimation(), SNAPSHOT_ERROR));
+        assertTrue(estimator1.getCorrectedKinematics().equals(estimator2.getCorrectedKinematics(),
+                SNAPSHOT_ERROR));
+
+        // without history delayed measurements are ignored
+        final var state3 = estimator3.getState();
+        assertFalse(estimator3.updateMeasurements(delayedMeasurements, delayedTimestamp));
+        assertTrue(state3.equals(estimator3.getState(), 0.0));
+
+        // measurements older than kept history are ignored
+        final var state4 = estimator4.getState();
+        assertFalse(estimator4.updateMeasurements(delayedMeasurements, delayedTimestamp));
+        assertTrue(state4.equals(estimator4.getState(), 0.0));
+        assertEquals(SNAPSHOT_EPOCHS / 4, estimator4.getHistorySize());
+
+        // reset clears history
+        estimator2.reset();
+        assertEquals(0, estimator2.getHistorySize());
+        assertEquals(HISTORY_CAPACITY, estimator2.getHistoryCapacity());
+    }
+
+    @Test
+    void testUpdateDelayedMeasurementsWithSecondOrderTransition() throws LockedException, NotReadyException,
+            INSGNSSException {
+        final var random = new Random();
+        final var measurements = INSGNSSLooselyCoupledFixture.generateMeasurements(0.0, random);
+        final var delayedTimestamp = (SNAPSHOT_EPOCHS / 2 + 0.5) * SNAPSHOT_TIME_INTERVAL;
+        final var delayedMeasurements = INSGNSSLooselyCoupledFixture.generateMeasurements(delayedTimestamp,
+                random);
+        final var errors = new IMUErrors();
+        final var trueKinematics = new BodyKinematics(0.0, 0.0, -GRAVITY, 0.0, 0.0, 0.0);
+        final var kinematics = new BodyKinematics[SNAPSHOT_EPOCHS];
+        for (var i = 0; i < SNAPSHOT_EPOCHS; i++) {
+            kinematics[i] = BodyKinematicsGenerator.generate(SNAPSHOT_TIME_INTERVAL, trueKinematics, errors, random);
+        }
+
+        // estimator receiving all measurements in order
+        final var estimator1 = createSecondOrderEstimator();
+        assertTrue(estimator1.updateMeasurements(measurements, 0.0));
+        var delayedApplied = false;
+        for (var i = 1; i <= SNAPSHOT_EPOCHS; i++) {
+            final var timestamp = i * SNAPSHOT_TIME_INTERVAL;
+            if (!delayedApplied && timestamp > delayedTimestamp) {
+                assertTrue(estimator1.updateMeasurements(delayedMeasurements, delayedTimestamp));
+                delayedApplied = true;
+            }
+            assertTrue(estimator1.updateBodyKinematics(kinematics[i - 1], timestamp));
+        }
+
+        // estimator rewinding its history to apply delayed measurements
+        final var estimator2 = createSecondOrderEstimator();
+        estimator2.setHistoryCapacity(HISTORY_CAPACITY);
+        assertTrue(estimator2.updateMeasurements(measurements, 0.0));
+        for (var i = 1; i <= SNAPSHOT_EPOCHS; i++) {
+            assertTrue(estimator2.updateBodyKinematics(kinematics[i - 1], i * SNAPSHOT_TIME_INTERVAL));
+        }
+        assertTrue(estimator2.updateMeasurements(delayedMeasurements, delayedTimestamp));
+
+        // replayed epochs are propagated with the same transition order
+        assertEquals(INSKalmanTransitionOrder.SECOND_ORDER, estimator2.getConfig().getTransitionOrder());
+        assertEquals(estimator1.getLastStateTimestamp(), estimator2.getLastStateTimestamp());
+        assertTrue(estimator1.getState().equals(estimator2.getState(), SNAPSHOT_ERROR));
+        assertTrue(estimator1.getEstimation().equals(estimator2.getEstimation(), SNAPSHOT_ERROR));
+    }
+
+    @Test
+    void testUpdateDelayedMeasurementsWithSmoother() throws LockedException, NotReadyException, INSGNSSException,
+            INSException {
+        final var random = new Random();
+        final var measurements = INSGNSSLooselyCoupledFixture.generateMeasurements(0.0, random);
+        final var delayedTimestamp = (SNAPSHOT_EPOCHS / 2 + 0.5) * SNAPSHOT_TIME_INTERVAL;
+        final var delayedMeasurements = INSGNSSLooselyCoupledFixture.generateMeasurements(delayedTimestamp,
+                random);
+        final var errors = new IMUErrors();
+        final var trueKinematics = new BodyKinematics(0.0, 0.0, -GRAVITY, 0.0, 0.0, 0.0);
+        final var kinematics = new BodyKinematics[SNAPSHOT_EPOCHS];
+        for (var i = 0; i < SNAPSHOT_EPOCHS; i++) {
+            kinematics[i] = BodyKinematicsGenerator.generate(SNAPSHOT_TIME_INTERVAL, trueKinematics, errors, random);
+        }
+
+        // estimator receiving all measurements in order
+        final var smoothedStates1 = new ArrayList<INSLooselyCoupledKalmanState>();
+        final var smoother1 = new INSLooselyCoupledKalmanSmoother(new SmoothedStatesCollector(smoothedStates1));
+        final var estimator1 = INSGNSSLooselyCoupledFixture.createEstimator();
+        estimator1.setSmoother(smoother1);
+        assertTrue(estimator1.updateMeasurements(measurements, 0.0));
+        var delayedApplied = false;
+        for (var i = 1; i <= SNAPSHOT_EPOCHS; i++) {
+            final var timestamp = i * SNAPSHOT_TIME_INTERVAL;
+            if (!delayedApplied && timestamp > delayedTimestamp) {
+                assertTrue(estimator1.updateMeasurements(delayedMeasurements, delayedTimestamp));
+                delayedApplied = true;
+            }
+            assertTrue(estimator1.updateBodyKinematics(kinematics[i - 1], timestamp));
+        }
+
+        // estimator rewinding its history to apply delayed measurements
+        final var smoothedStates2 = new ArrayList<INSLooselyCoupledKalmanState>();
+        final var smoother2 = new INSLooselyCoupledKalmanSmoother(new SmoothedStatesCollector(smoothedStates2));
+        final var estimator2 = INSGNSSLooselyCoupledFixture.createEstimator();
+        estimator2.setHistoryCapacity(HISTORY_CAPACITY);
+        estimator2.setSmoother(smoother2);
+        assertTrue(estimator2.updateMeasurements(measurements, 0.0));
+        for (var i = 1; i <= SNAPSHOT_EPOCHS; i++) {
+            assertTrue(estimator2.updateBodyKinematics(kinematics[i - 1], i * SNAPSHOT_TIME_INTERVAL));
+        }
+
+        // delayed measurements are applied in an epoch of their own
+        final var numberOfEpochs = smoother1.getNumberOfEpochs();
+        assertEquals(numberOfEpochs - 1, smoother2.getNumberOfEpochs());
+        final var keptEpochs = smoother2.getNumberOfEpochsUntil(delayedTimestamp);
+        assertTrue(keptEpochs > 0);
+        assertTrue(keptEpochs < smoother2.getNumberOfEpochs());
+        final var filteredStates = new INSLooselyCoupledKalmanState[(int) keptEpochs];
+        for (var epoch = 0; epoch < keptEpochs; epoch++) {
+            filteredStates[epoch] = new INSLooselyCoupledKalmanState();
+            smoother2.getFilteredState(epoch, filteredStates[epoch]);
+        }
+
+        assertTrue(estimator2.updateMeasurements(delayedMeasurements, delayedTimestamp));
+
+        // epochs before the rewound state are kept, and later ones are recorded again
+        assertEquals(numberOfEpochs, smoother2.getNumberOfEpochs());
+        final var state = new INSLooselyCoupledKalmanState();
+        for (var epoch = 0; epoch < keptEpochs; epoch++) {
+            smoother2.getFilteredState(epoch, state);
+            assertTrue(filteredStates[epoch].equals(state, 0.0));
+        }
+        for (var epoch = 0; epoch < numberOfEpochs; epoch++) {
+            assertEquals(smoother1.getTimestamp(epoch), smoother2.getTimestamp(epoch), 0.0);
+        }
+
+        // whole trajectory is smoothed as if measurements had been received in order
+        assertTrue(smoother1.smooth());
+        assertTrue(smoother2.smooth());
+        assertEquals(numberOfEpochs, smoothedStates1.size());
+        assertEquals(numberOfEpochs, smoothedStates2.size());
+        for (var i = 0; i < numberOfEpochs; i++) {
+            assertTrue(smoothedStates1.get(i).equals(smoothedStates2.get(i), SNAPSHOT_ERROR));
+        }
+    }
+
     @Test
     void testUpdateMeasurementsWhenNotReadyThrowsNotReadyException() {
         final var kalmanConfig = generateKalmanConfig();
@@ -4059,6 +4447,26 @@ class INSGNSSLooselyCoupledKalmanFilteredEstimatorTest implements INSGNSSLoosely
         reset = 0;
     }
 
+    private static final class SmoothedStatesCollector implements INSLooselyCoupledKalmanSmootherListener {
+
+        private final List<INSLooselyCoupledKalmanState> states;
+
+        private SmoothedStatesCollector(final List<INSLooselyCoupledKalmanState> states) {
+            this.states = states;
+        }
+
+        @Override
+        public void onSmoothedState(final INSLooselyCoupledKalmanSmoother smoother, final long epoch,
+                                    final double timestamp, final INSLooselyCoupledKalmanState state) {
+            states.add(new INSLooselyCoupledKalmanState(state));
+        }
+
+        @Override
+        public void onReset(final INSLooselyCoupledKalmanSmoother smoother) {
+            states.clear();
+        }
+    }
+
     private static void checkLocked(final INSGNSSLooselyCoupledKalmanFilteredEstimator estimator) {
         assertTrue(estimator.isRunning());
         assertThrows(LockedException.class, () -> estimator.setListener(null));
@@ -4078,6 +4486,14 @@ class INSGNSSLooselyCoupledKalmanFilteredEstimatorTest implements INSGNSSLoosely
         assertThrows(LockedException.class, estimator::reset);
     }
 
+    private static INSGNSSLooselyCoupledKalmanFilteredEstimator createSecondOrderEstimator() throws LockedException {
+        final var estimator = INSGNSSLooselyCoupledFixture.createEstimator();
+        final var config = estimator.getConfig();
+        config.setTransitionOrder(INSKalmanTransitionOrder.SECOND_ORDER);
+        estimator.setConfig(config);
+        return estimator;
+    }
+
     private static INSLooselyCoupledKalmanInitializerConfig generateInitConfig() {
         final var randomizer = new UniformRandomizer();
         final var initialAttitudeUncertainty = randomizer.nextDouble(MIN_VALUE, MAX_VALUE);
@@ -0,0 +1,102 @@
+/*
+ * Copyright (C) 2026 Alberto Irurueta Carro (alberto@irurueta.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.irurueta.navigation.inertial;
+
+import com.irurueta.algebra.AlgebraException;
+import com.irurueta.algebra.Matrix;
+import com.irurueta.algebra.Utils;
+import com.irurueta.navigation.frames.CoordinateTransformation;
+import com.irurueta.navigation.frames.ECEFPosition;
+import com.irurueta.navigation.frames.ECEFVelocity;
+import com.irurueta.navigation.frames.FrameType;
+import com.irurueta.navigation.frames.NEDPosition;
+import com.irurueta.navigation.frames.NEDVelocity;
+import com.irurueta.navigation.frames.converters.NEDtoECEFPositionVelocityConverter;
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class INSKalmanEpochMetricsTest {
+
+    private static final double ABSOLUTE_ERROR = 1e-9;
+
+    private static final double TIME_INTERVAL_SECONDS = 0.5;
+
+    @Test
+    void testSetInnovation() throws AlgebraException {
+        final var random = new Random(0L);
+        final var n = 6;
+        final var deltaZ = Matrix.createWithUniformRandomValues(n, 1, -1.0, 1.0, random);
+        final var a = Matrix.createWithUniformRandomValues(n, n, -1.0, 1.0, random);
+        final var s = a.multiplyAndReturnNew(a.transposeAndReturnNew());
+        final var sInverse = Utils.inverse(s);
+
+        final var metrics = new INSKalmanEpochMetrics();
+        metrics.setInnovation(deltaZ, sInverse);
+
+        final var expectedNis = deltaZ.transposeAndReturnNew().multiplyAndReturnNew(
+                sInverse.multiplyAndReturnNew(deltaZ)).getElementAtIndex(0);
+        assertEquals(n, metrics.innovations);
+        assertEquals(Utils.normF(deltaZ), metrics.innovationNorm, ABSOLUTE_ERROR);
+        assertEquals(expectedNis, metrics.normalizedInnovationSquared, ABSOLUTE_ERROR);
+        assertTrue(metrics.normalizedInnovationSquared > 0.0);
+    }
+
+    @Test
+    void testLooselyCoupledEpochFillsMetrics() throws AlgebraException {
+        final var nedPosition = new NEDPosition(Math.toRadians(41.38), Math.toRadians(2.17), 50.0);
+        final var ecefPosition = new ECEFPosition();
+        final var ecefVelocity = new ECEFVelocity();
+        NEDtoECEFPositionVelocityConverter.convertNEDtoECEF(nedPosition, new NEDVelocity(), ecefPosition,
+                ecefVelocity);
+
+        final var c = new CoordinateTransformation(0.1, -0.2, 0.3, FrameType.BODY_FRAME,
+                FrameType.EARTH_CENTERED_EARTH_FIXED_FRAME);
+        final var covariance = INSLooselyCoupledKalmanInitializer.initialize(
+                new INSLooselyCoupledKalmanInitializerConfig());
+        final var previousState = new INSLooselyCoupledKalmanState(c.getMatrix(), 0.0, 0.0, 0.0,
+                ecefPosition.getX(), ecefPosition.getY(), ecefPosition.getZ(), 0.0, 0.0, 0.0,
+                0.0, 0.0, 0.0, covariance);
+        final var config = new INSLooselyCoupledKalmanConfig(1e-6, 1e-4, 1e-8, 1e-10, 2.5, 0.1);
+
+        final var x = ecefPosition.getX() + 1.0;
+        final var y = ecefPosition.getY() - 2.0;
+        final var z = ecefPosition.getZ() + 3.0;
+        final var vx = 0.1;
+        final var vy = -0.2;
+        final var vz = 0.3;
+
+        final var expected = new INSLooselyCoupledKalmanState();
+        INSLooselyCoupledKalmanEpochEstimator.estimate(x, y, z, vx, vy, vz, TIME_INTERVAL_SECONDS, previousState,
+                0.0, 0.0, -9.81, config, expected);
+
+        final var metrics = new INSKalmanEpochMetrics();
+        final var result = new INSLooselyCoupledKalmanState();
+        INSLooselyCoupledKalmanEpochEstimator.estimate(x, y, z, vx, vy, vz, TIME_INTERVAL_SECONDS, previousState,
+                0.0, 0.0, -9.81, config, result, null, null, null, metrics);
+
+        // metrics do not change estimation
+        assertEquals(expected, result);
+
+        assertTrue(metrics.propagationNanos >= 0L);
+        assertTrue(metrics.updateNanos > 0L);
+        assertEquals(6, metrics.innovations);
+        assertEquals(Math.sqrt(1.0 + 4.0 + 9.0 + 0.01 + 0.04 + 0.09), metrics.innovationNorm, ABSOLUTE_ERROR);
+        assertTrue(metrics.normalizedInnovationSquared > 0.0);
+    }
+}
@@ -0,0 +1,231 @@
+/*
+ * Copyright (C) 2026 Alberto Irurueta Carro (alberto@irurueta.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.irurueta.navigation.inertial;
+
+import com.irurueta.algebra.AlgebraException;
+import com.irurueta.algebra.Matrix;
+import com.irurueta.navigation.frames.CoordinateTransformation;
+import com.irurueta.navigation.frames.ECEFPosition;
+import com.irurueta.navigation.frames.ECEFVelocity;
+import com.irurueta.navigation.frames.FrameType;
+import com.irurueta.navigation.frames.NEDPosition;
+import com.irurueta.navigation.frames.NEDVelocity;
+import com.irurueta.navigation.frames.converters.NEDtoECEFPositionVelocityConverter;
+import com.irurueta.statistics.UniformRandomizer;
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class INSKalmanTransitionDiscretizerTest {
+
+    private static final double TIME_INTERVAL_SECONDS = 0.1;
+
+    private static final double MIN_ANGLE_DEGREES = -45.0;
+    private static final double MAX_ANGLE_DEGREES = 45.0;
+
+    private static final double MIN_SPECIFIC_FORCE = -12.0;
+    private static final double MAX_SPECIFIC_FORCE = 12.0;
+
+    private static final int SUB_STEPS = 1000;
+
+    private static final double ABSOLUTE_ERROR = 1e-12;
+
+    private static final double LARGE_ABSOLUTE_ERROR = 1e-6;
+
+    private static final int TIMES = 10;
+
+    @Test
+    void testDiscretizeSecondOrder() throws AlgebraException {
+        for (final var withClock : new boolean[]{false, true}) {
+            final var randomizer = new UniformRandomizer();
+            final var phi = createTransition(withClock, TIME_INTERVAL_SECONDS, randomizer);
+            final var n = phi.getNumberOfStates();
+            final var qHalf = createNoise(n, randomizer);
+
+            final var discretizer = new INSKalmanTransitionDiscretizer(n);
+            discretizer.discretize(phi, qHalf, INSKalmanTransitionOrder.SECOND_ORDER);
+
+            // PHI = I + A + A^2 / 2
+            final var a = new Matrix(n, n);
+            phi.toMatrix(a);
+            a.subtract(Matrix.identity(n, n));
+            final var expectedPhi = Matrix.identity(n, n);
+            expectedPhi.add(a);
+            expectedPhi.add(a.multiplyAndReturnNew(a).multiplyByScalarAndReturnNew(0.5));
+
+            // Q = Q_c * tau + (A * Q_c * tau + Q_c * tau * A^T) / 2
+            final var qTau = Matrix.diagonal(qHalf).multiplyByScalarAndReturnNew(2.0);
+            final var expectedQ = qTau.multiplyAndReturnNew(a.transposeAndReturnNew());
+            expectedQ.add(a.multiplyAndReturnNew(qTau));
+            expectedQ.multiplyByScalar(0.5);
+            expectedQ.add(qTau);
+
+            final var transition = new Matrix(1, 1);
+            discretizer.toMatrix(transition);
+            final var q = new Matrix(1, 1);
+            discretizer.getNoiseCovariance(q);
+
+            assertTrue(expectedPhi.equals(transition, ABSOLUTE_ERROR));
+            assertTrue(expectedQ.equals(q, ABSOLUTE_ERROR));
+
+            // P' = PHI * P * PHI^T + Q
+            final var p = INSBlockSparseTransitionTest.createCovariance(n, new Random());
+            final var expectedP = expectedPhi.multiplyAndReturnNew(p);
+            expectedP.multiply(expectedPhi.transposeAndReturnNew());
+            expectedP.add(expectedQ);
+
+            final var result = new Matrix(n, n);
+            discretizer.propagate(p, result);
+            assertTrue(expectedP.equals(result, ABSOLUTE_ERROR));
+            assertTrue(result.equals(result.transposeAndReturnNew(), 0.0));
+
+            // propagate in place
+            discretizer.propagate(p, p);
+            assertTrue(result.equals(p, 0.0));
+        }
+    }
+
+    @Test
+    void testDiscretizeExponentialMatchesSubSteps() throws AlgebraException {
+        for (final var withClock : new boolean[]{false, true}) {
+            for (var t = 0; t < TIMES; t++) {
+                final var randomizer = new UniformRandomizer();
+                final var cbe = createAttitude(randomizer);
+                final var fx = randomizer.nextDouble(MIN_SPECIFIC_FORCE, MAX_SPECIFIC_FORCE);
+                final var fy = randomizer.nextDouble(MIN_SPECIFIC_FORCE, MAX_SPECIFIC_FORCE);
+                final var fz = randomizer.nextDouble(MIN_SPECIFIC_FORCE, MAX_SPECIFIC_FORCE);
+
+                final var phi = createTransition(withClock, TIME_INTERVAL_SECONDS, cbe, fx, fy, fz);
+                final var n = phi.getNumberOfStates();
+                final var qHalf = createNoise(n, randomizer);
+
+                final var discretizer = new INSKalmanTransitionDiscretizer(n);
+                discretizer.discretize(phi, qHalf, INSKalmanTransitionOrder.EXPONENTIAL);
+
+                // propagate along many small sub-steps using second order
+                final var subPhi = createTransition(withClock, TIME_INTERVAL_SECONDS / SUB_STEPS, cbe, fx, fy, fz);
+                final var subQHalf = new double[n];
+                for (var i = 0; i < n; i++) {
+                    subQHalf[i] = qHalf[i] / SUB_STEPS;
+                }
+                final var subDiscretizer = new INSKalmanTransitionDiscretizer(n);
+                subDiscretizer.discretize(subPhi, subQHalf, INSKalmanTransitionOrder.SECOND_ORDER);
+                final var subTransition = new Matrix(n, n);
+                subDiscretizer.toMatrix(subTransition);
+
+                final var p = INSBlockSparseTransitionTest.createCovariance(n, new Random());
+                final var expectedP = new Matrix(p);
+                final var expectedPhi = Matrix.identity(n, n);
+                for (var i = 0; i < SUB_STEPS; i++) {
+                    subDiscretizer.propagate(expectedP, expectedP);
+                    expectedPhi.copyFrom(subTransition.multiplyAndReturnNew(expectedPhi));
+                }
+
+                final var transition = new Matrix(n, n);
+                discretizer.toMatrix(transition);
+                assertTrue(expectedPhi.equals(transition, LARGE_ABSOLUTE_ERROR));
+
+                final var result = new Matrix(n, n);
+                discretizer.propagate(p, result);
+                assertTrue(expectedP.equals(result, LARGE_ABSOLUTE_ERROR));
+                assertTrue(result.equals(result.transposeAndReturnNew(), 0.0));
+            }
+        }
+    }
+
+    @Test
+    void testDiscretizeExponentialWithSmallIntervalMatchesSecondOrder() throws AlgebraException {
+        final var randomizer = new UniformRandomizer();
+        final var interval = 1e-5;
+        final var phi = createTransition(true, interval, randomizer);
+        final var n = phi.getNumberOfStates();
+        final var qHalf = createNoise(n, randomizer);
+        for (var i = 0; i < n; i++) {
+            qHalf[i] *= interval;
+        }
+
+        final var exponential = new INSKalmanTransitionDiscretizer(n);
+        exponential.discretize(phi, qHalf, INSKalmanTransitionOrder.EXPONENTIAL);
+        final var secondOrder = new INSKalmanTransitionDiscretizer(n);
+        secondOrder.discretize(phi, qHalf, INSKalmanTransitionOrder.SECOND_ORDER);
+
+        final var transition1 = new Matrix(n, n);
+        exponential.toMatrix(transition1);
+        final var transition2 = new Matrix(n, n);
+        secondOrder.toMatrix(transition2);
+        assertTrue(transition1.equals(transition2, ABSOLUTE_ERROR));
+
+        final var q1 = new Matrix(n, n);
+        exponential.getNoiseCovariance(q1);
+        final var q2 = new Matrix(n, n);
+        secondOrder.getNoiseCovariance(q2);
+        assertTrue(q1.equals(q2, ABSOLUTE_ERROR));
+    }
+
+    @Test
+    void testDiscretizeFirstOrderFails() throws AlgebraException {
+        final var randomizer = new UniformRandomizer();
+        final var phi = createTransition(false, TIME_INTERVAL_SECONDS, randomizer);
+        final var n = phi.getNumberOfStates();
+        final var qHalf = createNoise(n, randomizer);
+        final var discretizer = new INSKalmanTransitionDiscretizer(n);
+
+        // Force IllegalArgumentException
+        assertThrows(IllegalArgumentException.class, () -> discretizer.discretize(phi, qHalf,
+                INSKalmanTransitionOrder.FIRST_ORDER));
+    }
+
+    private static INSBlockSparseTransition createTransition(
+            final boolean withClock, final double propagationInterval, final UniformRandomizer randomizer)
+            throws AlgebraException {
+        return createTransition(withClock, propagationInterval, createAttitude(randomizer),
+                randomizer.nextDouble(MIN_SPECIFIC_FORCE, MAX_SPECIFIC_FORCE),
+                randomizer.nextDouble(MIN_SPECIFIC_FORCE, MAX_SPECIFIC_FORCE),
+                randomizer.nextDouble(MIN_SPECIFIC_FORCE, MAX_SPECIFIC_FORCE));
+    }
+
+    private static INSBlockSparseTransition createTransition(
+            final boolean withClock, final double propagationInterval, final CoordinateTransformation cbe,
+            final double fx, final double fy, final double fz) throws AlgebraException {
+        final var nedPosition = new NEDPosition(Math.toRadians(41.38), Math.toRadians(2.17), 50.0);
+        final var ecefPosition = new ECEFPosition();
+        NEDtoECEFPositionVelocityConverter.convertNEDtoECEF(nedPosition, new NEDVelocity(), ecefPosition,
+                new ECEFVelocity());
+
+        final var result = new INSBlockSparseTransition(withClock);
+        result.setFirstOrder(propagationInterval, cbe.getMatrix(), fx, fy, fz, ecefPosition.getX(),
+                ecefPosition.getY(), ecefPosition.getZ(), nedPosition.getLatitude());
+        return result;
+    }
+
+    private static CoordinateTransformation createAttitude(final UniformRandomizer randomizer) {
+        final var roll = Math.toRadians(randomizer.nextDouble(MIN_ANGLE_DEGREES, MAX_ANGLE_DEGREES));
+        final var pitch = Math.toRadians(randomizer.nextDouble(MIN_ANGLE_DEGREES, MAX_ANGLE_DEGREES));
+        final var yaw = Math.toRadians(randomizer.nextDouble(MIN_ANGLE_DEGREES, MAX_ANGLE_DEGREES));
+        return new CoordinateTransformation(roll, pitch, yaw, FrameType.BODY_FRAME,
+                FrameType.EARTH_CENTERED_EARTH_FIXED_FRAME);
+    }
+
+    private static double[] createNoise(final int n, final UniformRandomizer randomizer) {
+        final var result = new double[n];
+        for (var i = 0; i < n; i++) {
+            result[i] = randomizer.nextDouble(0.0, 1e-3);
+        }
+        return result;
+    }
+}
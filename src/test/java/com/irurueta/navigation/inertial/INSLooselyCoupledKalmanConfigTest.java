@@ -193,6 +193,33 @@ class INSLooselyCoupledKalmanConfigTest {
         assertEquals(velocityNoiseSD, config.getVelocityNoiseSD(), 0.0);
     }
 
+    @Test
+    void testGetSetTransitionOrder() {
+        final var config = new INSLooselyCoupledKalmanConfig();
+
+        // check default value
+        assertEquals(INSKalmanTransitionOrder.FIRST_ORDER, config.getTransitionOrder());
+
+        // set a new value
+        config.setTransitionOrder(INSKalmanTransitionOrder.EXPONENTIAL);
+
+        // check
+        assertEquals(INSKalmanTransitionOrder.EXPONENTIAL, config.getTransitionOrder());
+
+        // copy and compare
+        final var config2 = new INSLooselyCoupledKalmanConfig(config);
+        assertEquals(INSKalmanTransitionOrder.EXPONENTIAL, config2.getTransitionOrder());
+        assertEquals(config, config2);
+        assertEquals(config.hashCode(), config2.hashCode());
+
+        config2.setTransitionOrder(INSKalmanTransitionOrder.SECOND_ORDER);
+        assertNotEquals(config, config2);
+        assertFalse(config.equals(config2, Double.MAX_VALUE));
+
+        // Force IllegalArgumentException
+        assertThrows(IllegalArgumentException.class, () -> config.setTransitionOrder(null));
+    }
+
     @Test
     void testSetValues() {
         final var config = new INSLooselyCoupledKalmanConfig();
@@ -472,6 +499,24 @@ class INSLooselyCoupledKalmanConfigTest {
         assertNotSame(config1, config2);
     }
 
+    @Test
+    void testDeserializeWithoutTransitionOrder() throws IOException, ClassNotFoundException, NoSuchFieldException,
+            IllegalAccessException {
+        final var config1 = new INSLooselyCoupledKalmanConfig();
+        config1.setTransitionOrder(INSKalmanTransitionOrder.SECOND_ORDER);
+
+        // emulate an instance serialized before transition order was added
+        final var field = INSLooselyCoupledKalmanConfig.class.getDeclaredField("transitionOrder");
+        field.setAccessible(true);
+        field.set(config1, null);
+
+        final var bytes = SerializationHelper.serialize(config1);
+
+        final INSLooselyCoupledKalmanConfig config2 = SerializationHelper.deserialize(bytes);
+
+        assertEquals(INSKalmanTransitionOrder.FIRST_ORDER, config2.getTransitionOrder());
+    }
+
     @Test
     void testSerialVersionUID() throws NoSuchFieldException, IllegalAccessException {
         final var field = INSLooselyCoupledKalmanConfig.class.getDeclaredField("serialVersionUID");
@@ -1904,6 +1904,21 @@ class INSLooselyCoupledKalmanFilteredEstimatorTest implements INSLooselyCoupledK
         assertSame(config1, config3);
     }
 
+    @Test
+    void testGetSetSmoother() throws LockedException {
+        final var estimator = new INSLooselyCoupledKalmanFilteredEstimator();
+
+        // check default value
+        assertNull(estimator.getSmoother());
+
+        // set a new value
+        final var smoother = new INSLooselyCoupledKalmanSmoother();
+        estimator.setSmoother(smoother);
+
+        // check
+        assertSame(smoother, estimator.getSmoother());
+    }
+
     @Test
     void testUpdateWithZeroSpecificForceAndAngularRate() throws InvalidSourceAndDestinationFrameTypeException,
             LockedException, NotReadyException, INSException, InvalidRotationMatrixException {
@@ -2782,6 +2797,7 @@ class INSLooselyCoupledKalmanFilteredEstimatorTest implements INSLooselyCoupledK
         assertThrows(LockedException.class, () -> estimator.setConfig(null));
         assertThrows(LockedException.class, () -> estimator.setFrame(null));
         assertThrows(LockedException.class, () -> estimator.setInitialConfig(null));
+        assertThrows(LockedException.class, () -> estimator.setSmoother(null));
         assertThrows(LockedException.class, () -> estimator.update(null, 0.0));
         assertThrows(LockedException.class, () -> estimator.update(null,
                 new Time(0.0, TimeUnit.SECOND)));
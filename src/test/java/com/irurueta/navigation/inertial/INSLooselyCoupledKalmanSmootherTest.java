@@ -0,0 +1,567 @@
+/*
+ * Copyright (C) 2026 Alberto Irurueta Carro (alberto@irurueta.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.irurueta.navigation.inertial;
+
+import com.irurueta.algebra.AlgebraException;
+import com.irurueta.algebra.Matrix;
+import com.irurueta.navigation.LockedException;
+import com.irurueta.navigation.NotReadyException;
+import com.irurueta.navigation.frames.CoordinateTransformation;
+import com.irurueta.navigation.frames.ECEFFrame;
+import com.irurueta.navigation.frames.ECEFPosition;
+import com.irurueta.navigation.frames.ECEFVelocity;
+import com.irurueta.navigation.frames.FrameType;
+import com.irurueta.navigation.frames.NEDPosition;
+import com.irurueta.navigation.frames.NEDVelocity;
+import com.irurueta.navigation.frames.converters.NEDtoECEFPositionVelocityConverter;
+import com.irurueta.navigation.inertial.estimators.ECEFGravityEstimator;
+import com.irurueta.statistics.GaussianRandomizer;
+import com.irurueta.statistics.UniformRandomizer;
+import com.irurueta.units.Time;
+import com.irurueta.units.TimeUnit;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class INSLooselyCoupledKalmanSmootherTest implements INSLooselyCoupledKalmanSmootherListener {
+
+    private static final double MIN_LATITUDE_DEGREES = -90.0;
+    private static final double MAX_LATITUDE_DEGREES = 90.0;
+
+    private static final double MIN_LONGITUDE_DEGREES = -180.0;
+    private static final double MAX_LONGITUDE_DEGREES = 180.0;
+
+    private static final double MIN_HEIGHT_METERS = -50.0;
+    private static final double MAX_HEIGHT_METERS = 50.0;
+
+    private static final double MIN_ANGLE_DEGREES = -180.0;
+    private static final double MAX_ANGLE_DEGREES = 180.0;
+
+    private static final double TIME_INTERVAL_SECONDS = 1.0;
+
+    private static final double GYRO_NOISE_PSD = 1e-8;
+    private static final double ACCELEROMETER_NOISE_PSD = 1e-4;
+    private static final double ACCELEROMETER_BIAS_PSD = 1e-7;
+    private static final double GYRO_BIAS_PSD = 2e-12;
+    private static final double POSITION_NOISE_SD = 2.5;
+    private static final double VELOCITY_NOISE_SD = 0.1;
+
+    private static final double INITIAL_ATTITUDE_UNCERTAINTY = 0.01;
+    private static final double INITIAL_VELOCITY_UNCERTAINTY = 0.1;
+    private static final double INITIAL_POSITION_UNCERTAINTY = 10.0;
+    private static final double INITIAL_ACCELERATION_BIAS_UNCERTAINTY = 0.01;
+    private static final double INITIAL_GYRO_BIAS_UNCERTAINTY = 1e-4;
+
+    private static final int NUM_EPOCHS = 2000;
+
+    private static final int LAG = 20;
+
+    private static final double ABSOLUTE_ERROR = 1e-6;
+
+    private final List<Double> timestamps = new ArrayList<>();
+
+    private final List<Long> epochs = new ArrayList<>();
+
+    private final List<INSLooselyCoupledKalmanState> states = new ArrayList<>();
+
+    private int reset;
+
+    @Test
+    void testConstructor() {
+        // test empty constructor
+        var smoother = new INSLooselyCoupledKalmanSmoother();
+
+        // check default values
+        assertNull(smoother.getListener());
+        assertFalse(smoother.isFixedLag());
+        assertEquals(0, smoother.getLag());
+        assertEquals(0, smoother.getNumberOfEpochs());
+        assertEquals(0, smoother.getNumberOfStoredEpochs());
+        assertEquals(0, smoother.getFirstStoredEpoch());
+        assertFalse(smoother.isRunning());
+
+        // test constructor with listener
+        smoother = new INSLooselyCoupledKalmanSmoother(this);
+
+        // check default values
+        assertSame(this, smoother.getListener());
+        assertFalse(smoother.isFixedLag());
+        assertEquals(0, smoother.getLag());
+
+        // test constructor with lag
+        smoother = new INSLooselyCoupledKalmanSmoother(LAG);
+
+        // check default values
+        assertNull(smoother.getListener());
+        assertTrue(smoother.isFixedLag());
+        assertEquals(LAG, smoother.getLag());
+
+        // Force IllegalArgumentException
+        assertThrows(IllegalArgumentException.class, () -> new INSLooselyCoupledKalmanSmoother(0));
+
+        // test constructor with lag and listener
+        smoother = new INSLooselyCoupledKalmanSmoother(LAG, this);
+
+        // check default values
+        assertSame(this, smoother.getListener());
+        assertTrue(smoother.isFixedLag());
+        assertEquals(LAG, smoother.getLag());
+
+        // Force IllegalArgumentException
+        assertThrows(IllegalArgumentException.class, () -> new INSLooselyCoupledKalmanSmoother(0, this));
+    }
+
+    @Test
+    void testGetSetListener() throws LockedException {
+        final var smoother = new INSLooselyCoupledKalmanSmoother();
+
+        // check default value
+        assertNull(smoother.getListener());
+
+        // set a new value
+        smoother.setListener(this);
+
+        // check
+        assertSame(this, smoother.getListener());
+    }
+
+    @Test
+    void testAddEpoch() throws AlgebraException, LockedException, INSException {
+        final var smoother = new INSLooselyCoupledKalmanSmoother();
+
+        final var truth = generateTruth();
+        final var config = new INSLooselyCoupledKalmanConfig(GYRO_NOISE_PSD, ACCELEROMETER_NOISE_PSD,
+                ACCELEROMETER_BIAS_PSD, GYRO_BIAS_PSD, POSITION_NOISE_SD, VELOCITY_NOISE_SD);
+
+        final var randomizer = new GaussianRandomizer(0.0, 1.0);
+        final var state = generateInitialState(truth, randomizer);
+        final var transition = new Matrix(1, 1);
+        final var propagatedCovariance = new Matrix(1, 1);
+        final var errorState = new Matrix(1, 1);
+        estimate(truth, state, config, transition, propagatedCovariance, errorState, randomizer);
+
+        assertEquals(INSLooselyCoupledKalmanState.NUM_PARAMS, transition.getRows());
+        assertEquals(INSLooselyCoupledKalmanState.NUM_PARAMS, transition.getColumns());
+        assertEquals(INSLooselyCoupledKalmanState.NUM_PARAMS, propagatedCovariance.getRows());
+        assertEquals(INSLooselyCoupledKalmanState.NUM_PARAMS, propagatedCovariance.getColumns());
+        assertEquals(INSLooselyCoupledKalmanState.NUM_PARAMS, errorState.getRows());
+        assertEquals(1, errorState.getColumns());
+
+        smoother.addEpoch(new Time(TIME_INTERVAL_SECONDS, TimeUnit.SECOND), state, transition, propagatedCovariance,
+                errorState);
+
+        assertEquals(1, smoother.getNumberOfEpochs());
+        assertEquals(1, smoother.getNumberOfStoredEpochs());
+        assertEquals(TIME_INTERVAL_SECONDS, smoother.getTimestamp(0), 0.0);
+
+        // stored filtered state matches added one
+        final var result = new INSLooselyCoupledKalmanState();
+        smoother.getFilteredState(0, result);
+        assertTrue(state.equals(result, ABSOLUTE_ERROR));
+
+        // Force IllegalArgumentException
+        assertThrows(IllegalArgumentException.class, () -> smoother.getTimestamp(1));
+        assertThrows(IllegalArgumentException.class, () -> smoother.getFilteredState(-1, result));
+        final var wrong = new Matrix(1, 1);
+        assertThrows(IllegalArgumentException.class, () -> smoother.addEpoch(0.0, state, wrong,
+                propagatedCovariance, errorState));
+        assertThrows(IllegalArgumentException.class, () -> smoother.addEpoch(0.0, state, transition,
+                wrong, errorState));
+        assertThrows(IllegalArgumentException.class, () -> smoother.addEpoch(0.0, state, transition,
+                propagatedCovariance, wrong));
+        assertThrows(IllegalArgumentException.class, () -> smoother.addEpoch(0.0,
+                new INSLooselyCoupledKalmanState(), transition, propagatedCovariance, errorState));
+    }
+
+    @Test
+    void testSmooth() throws AlgebraException, LockedException, INSException {
+        final var truth = generateTruth();
+        final var seed = new Random().nextLong();
+        final var smoother = new INSLooselyCoupledKalmanSmoother(this);
+        final var filteredErrors = run(truth, smoother, seed);
+
+        assertEquals(NUM_EPOCHS, smoother.getNumberOfEpochs());
+        assertEquals(NUM_EPOCHS, smoother.getNumberOfStoredEpochs());
+        assertTrue(epochs.isEmpty());
+
+        reset();
+        assertTrue(smoother.smooth());
+
+        // all epochs are notified in reverse order
+        assertEquals(NUM_EPOCHS, epochs.size());
+        for (var i = 0; i < NUM_EPOCHS; i++) {
+            assertEquals(NUM_EPOCHS - 1 - i, epochs.get(i).longValue());
+            assertEquals(smoother.getTimestamp(NUM_EPOCHS - 1 - i), timestamps.get(i), 0.0);
+        }
+
+        // smoothed state at last epoch matches filtered one
+        final var filtered = new INSLooselyCoupledKalmanState();
+        smoother.getFilteredState(NUM_EPOCHS - 1, filtered);
+        assertTrue(filtered.equals(states.get(0), ABSOLUTE_ERROR));
+
+        // smoothed states are more accurate and have smaller uncertainty than filtered ones
+        var filteredSquaredError = 0.0;
+        var smoothedSquaredError = 0.0;
+        for (var i = 0; i < NUM_EPOCHS; i++) {
+            final var epoch = epochs.get(i).intValue();
+            filteredSquaredError += filteredErrors[epoch] * filteredErrors[epoch];
+            final var smoothedError = positionError(states.get(i), truth);
+            smoothedSquaredError += smoothedError * smoothedError;
+
+            smoother.getFilteredState(epoch, filtered);
+            final var filteredCovariance = filtered.getCovariance();
+            final var smoothedCovariance = states.get(i).getCovariance();
+            for (var j = 0; j < INSLooselyCoupledKalmanState.NUM_PARAMS; j++) {
+                assertTrue(smoothedCovariance.getElementAt(j, j)
+                        <= filteredCovariance.getElementAt(j, j) + ABSOLUTE_ERROR);
+                for (var k = 0; k < INSLooselyCoupledKalmanState.NUM_PARAMS; k++) {
+                    assertEquals(smoothedCovariance.getElementAt(j, k), smoothedCovariance.getElementAt(k, j),
+                            0.0);
+                }
+            }
+        }
+        assertTrue(smoothedSquaredError < 0.8 * filteredSquaredError);
+
+        // stored epochs are not modified, so smoothing again provides the same results
+        final var previousStates = new ArrayList<>(states);
+        reset();
+        assertTrue(smoother.smooth());
+        assertEquals(NUM_EPOCHS, states.size());
+        for (var i = 0; i < NUM_EPOCHS; i++) {
+            assertTrue(previousStates.get(i).equals(states.get(i), 0.0));
+        }
+
+        // reset
+        assertEquals(0, reset);
+        smoother.reset();
+
+        assertEquals(1, reset);
+        assertEquals(0, smoother.getNumberOfEpochs());
+        assertEquals(0, smoother.getNumberOfStoredEpochs());
+        assertFalse(smoother.smooth());
+    }
+
+    @Test
+    void testTruncate() throws AlgebraException, LockedException, INSException {
+        final var truth = generateTruth();
+        final var seed = new Random().nextLong();
+        final var smoother = new INSLooselyCoupledKalmanSmoother(this);
+        run(truth, smoother, seed);
+
+        final var half = NUM_EPOCHS / 2;
+        assertEquals(NUM_EPOCHS, smoother.getNumberOfEpochsUntil(NUM_EPOCHS * TIME_INTERVAL_SECONDS));
+        assertEquals(half, smoother.getNumberOfEpochsUntil((half - 0.5) * TIME_INTERVAL_SECONDS));
+        assertEquals(half, smoother.getNumberOfEpochsUntil((half - 1) * TIME_INTERVAL_SECONDS));
+        assertEquals(0, smoother.getNumberOfEpochsUntil(-TIME_INTERVAL_SECONDS));
+
+        final var filtered = new INSLooselyCoupledKalmanState();
+        smoother.getFilteredState(half - 1, filtered);
+
+        smoother.truncate(half);
+
+        assertEquals(half, smoother.getNumberOfEpochs());
+        assertEquals(half, smoother.getNumberOfStoredEpochs());
+        assertEquals(0, reset);
+        assertThrows(IllegalArgumentException.class, () -> smoother.getTimestamp(half));
+
+        // smoothing starts at last kept epoch, whose smoothed state matches filtered one
+        assertTrue(smoother.smooth());
+        assertEquals(half, epochs.size());
+        assertEquals(half - 1, epochs.get(0).longValue());
+        assertTrue(filtered.equals(states.get(0), ABSOLUTE_ERROR));
+
+        // Force IllegalArgumentException
+        assertThrows(IllegalArgumentException.class, () -> smoother.truncate(-1));
+        assertThrows(IllegalArgumentException.class, () -> smoother.truncate(half + 1));
+    }
+
+    @Test
+    void testFixedLagTruncate() throws AlgebraException, LockedException, INSException {
+        final var truth = generateTruth();
+        final var seed = new Random().nextLong();
+        final var smoother = new INSLooselyCoupledKalmanSmoother(LAG, this);
+        run(truth, smoother, seed);
+
+        final var firstStoredEpoch = smoother.getFirstStoredEpoch();
+        assertEquals(firstStoredEpoch, smoother.getNumberOfEpochsUntil(-TIME_INTERVAL_SECONDS));
+
+        final var numberOfEpochs = NUM_EPOCHS - 5;
+        smoother.truncate(numberOfEpochs);
+
+        assertEquals(numberOfEpochs, smoother.getNumberOfEpochs());
+        assertEquals(firstStoredEpoch, smoother.getFirstStoredEpoch());
+
+        // epochs notified using discarded epochs are notified again
+        reset();
+        assertTrue(smoother.smooth());
+        assertEquals(numberOfEpochs - firstStoredEpoch, epochs.size());
+        assertEquals(firstStoredEpoch, epochs.get(epochs.size() - 1).longValue());
+
+        // Force IllegalArgumentException
+        assertThrows(IllegalArgumentException.class, () -> smoother.truncate(firstStoredEpoch - 1));
+    }
+
+    @Test
+    void testFixedLagSmooth() throws AlgebraException, LockedException, INSException {
+        final var truth = generateTruth();
+        final var seed = new Random().nextLong();
+
+        // full smoother used as reference
+        final var fullSmoother = new INSLooselyCoupledKalmanSmoother(this);
+        final var filteredErrors = run(truth, fullSmoother, seed);
+        reset();
+        fullSmoother.smooth();
+        final var fullStates = new ArrayList<>(states);
+
+        final var smoother = new INSLooselyCoupledKalmanSmoother(LAG, this);
+        reset();
+        run(truth, smoother, seed);
+
+        assertEquals(NUM_EPOCHS, smoother.getNumberOfEpochs());
+        assertEquals(LAG + 1, smoother.getNumberOfStoredEpochs());
+        assertEquals(NUM_EPOCHS - LAG - 1, smoother.getFirstStoredEpoch());
+
+        // each epoch is notified once lag epochs have been added afterwards
+        assertEquals(NUM_EPOCHS - LAG, epochs.size());
+        var filteredSquaredError = 0.0;
+        var smoothedSquaredError = 0.0;
+        for (var i = 0; i < epochs.size(); i++) {
+            assertEquals(i, epochs.get(i).longValue());
+            assertEquals(i * TIME_INTERVAL_SECONDS, timestamps.get(i), 0.0);
+
+            filteredSquaredError += filteredErrors[i] * filteredErrors[i];
+            final var smoothedError = positionError(states.get(i), truth);
+            smoothedSquaredError += smoothedError * smoothedError;
+        }
+        assertTrue(smoothedSquaredError < filteredSquaredError);
+
+        // flush remaining epochs, which match the ones obtained by the full smoother
+        reset();
+        assertTrue(smoother.smooth());
+        assertEquals(LAG, epochs.size());
+        for (var i = 0; i < LAG; i++) {
+            final var epoch = NUM_EPOCHS - 1 - i;
+            assertEquals(epoch, epochs.get(i).longValue());
+            assertTrue(fullStates.get(i).equals(states.get(i), ABSOLUTE_ERROR));
+        }
+
+        // no more pending epochs
+        assertFalse(smoother.smooth());
+    }
+
+    @Test
+    void testFixedLagMatchesFullSmootherWhenLagCoversTrajectory() throws AlgebraException, LockedException,
+            INSException {
+        final var truth = generateTruth();
+        final var seed = new Random().nextLong();
+
+        final var fullSmoother = new INSLooselyCoupledKalmanSmoother(this);
+        run(truth, fullSmoother, seed);
+        reset();
+        fullSmoother.smooth();
+        final var fullStates = new ArrayList<>(states);
+
+        final var smoother = new INSLooselyCoupledKalmanSmoother(NUM_EPOCHS, this);
+        reset();
+        run(truth, smoother, seed);
+        assertTrue(epochs.isEmpty());
+
+        assertTrue(smoother.smooth());
+        assertEquals(NUM_EPOCHS, states.size());
+        for (var i = 0; i < NUM_EPOCHS; i++) {
+            assertTrue(fullStates.get(i).equals(states.get(i), ABSOLUTE_ERROR));
+        }
+    }
+
+    @Test
+    void testFilteredEstimator() throws LockedException, NotReadyException, INSException {
+        final var randomizer = new UniformRandomizer();
+        final var nedPosition = new NEDPosition(
+                Math.toRadians(randomizer.nextDouble(MIN_LATITUDE_DEGREES, MAX_LATITUDE_DEGREES)),
+                Math.toRadians(randomizer.nextDouble(MIN_LONGITUDE_DEGREES, MAX_LONGITUDE_DEGREES)),
+                randomizer.nextDouble(MIN_HEIGHT_METERS, MAX_HEIGHT_METERS));
+        final var ecefPosition = new ECEFPosition();
+        final var ecefVelocity = new ECEFVelocity();
+        NEDtoECEFPositionVelocityConverter.convertNEDtoECEF(nedPosition, new NEDVelocity(), ecefPosition,
+                ecefVelocity);
+        final var frame = new ECEFFrame(ecefPosition, ecefVelocity);
+
+        final var config = new INSLooselyCoupledKalmanConfig(GYRO_NOISE_PSD, ACCELEROMETER_NOISE_PSD,
+                ACCELEROMETER_BIAS_PSD, GYRO_BIAS_PSD, POSITION_NOISE_SD, VELOCITY_NOISE_SD);
+        final var estimator = new INSLooselyCoupledKalmanFilteredEstimator(config, frame);
+        final var smoother = new INSLooselyCoupledKalmanSmoother(this);
+        estimator.setSmoother(smoother);
+
+        final var kinematics = new BodyKinematics();
+        for (var i = 1; i <= 10; i++) {
+            assertTrue(estimator.update(kinematics, i * TIME_INTERVAL_SECONDS));
+            estimator.setFrame(frame);
+        }
+
+        // each propagation is recorded along with its filtered state
+        assertEquals(10, smoother.getNumberOfEpochs());
+        final var filtered = new INSLooselyCoupledKalmanState();
+        smoother.getFilteredState(9, filtered);
+        assertTrue(estimator.getState().equals(filtered, ABSOLUTE_ERROR));
+        assertEquals(10.0 * TIME_INTERVAL_SECONDS, smoother.getTimestamp(9), 0.0);
+
+        reset();
+        assertTrue(smoother.smooth());
+        assertEquals(10, states.size());
+
+        // resetting estimator also resets smoother
+        estimator.reset();
+        assertEquals(0, smoother.getNumberOfEpochs());
+    }
+
+    @Override
+    public void onSmoothedState(final INSLooselyCoupledKalmanSmoother smoother, final long epoch,
+                                final double timestamp, final INSLooselyCoupledKalmanState state) {
+        checkLocked(smoother);
+        epochs.add(epoch);
+        timestamps.add(timestamp);
+        states.add(new INSLooselyCoupledKalmanState(state));
+    }
+
+    @Override
+    public void onReset(final INSLooselyCoupledKalmanSmoother smoother) {
+        checkLocked(smoother);
+        reset++;
+    }
+
+    private void reset() {
+        epochs.clear();
+        timestamps.clear();
+        states.clear();
+        reset = 0;
+    }
+
+    private static void checkLocked(final INSLooselyCoupledKalmanSmoother smoother) {
+        assertTrue(smoother.isRunning());
+        assertThrows(LockedException.class, () -> smoother.setListener(null));
+        assertThrows(LockedException.class, () -> smoother.addEpoch(0.0, null, null, null,
+                null));
+        assertThrows(LockedException.class, smoother::smooth);
+        assertThrows(LockedException.class, smoother::reset);
+        assertThrows(LockedException.class, () -> smoother.truncate(0));
+    }
+
+    /**
+     * Runs the loosely coupled Kalman filter for a static body receiving noisy position and
+     * velocity measurements and records every epoch into provided smoother.
+     *
+     * @param truth    true state.
+     * @param smoother smoother where epochs are recorded.
+     * @param seed     seed to generate measurement noise.
+     * @return position error of filtered state at each epoch.
+     */
+    private static double[] run(final INSLooselyCoupledKalmanState truth, final INSLooselyCoupledKalmanSmoother smoother,
+                                final long seed) throws AlgebraException, LockedException, INSException {
+        final var randomizer = new GaussianRandomizer(new Random(seed), 0.0, 1.0);
+        final var config = new INSLooselyCoupledKalmanConfig(GYRO_NOISE_PSD, ACCELEROMETER_NOISE_PSD,
+                ACCELEROMETER_BIAS_PSD, GYRO_BIAS_PSD, POSITION_NOISE_SD, VELOCITY_NOISE_SD);
+
+        final var state = generateInitialState(truth, randomizer);
+        final var transition = new Matrix(INSLooselyCoupledKalmanState.NUM_PARAMS,
+                INSLooselyCoupledKalmanState.NUM_PARAMS);
+        final var propagatedCovariance = new Matrix(INSLooselyCoupledKalmanState.NUM_PARAMS,
+                INSLooselyCoupledKalmanState.NUM_PARAMS);
+        final var errorState = new Matrix(INSLooselyCoupledKalmanState.NUM_PARAMS, 1);
+
+        final var errors = new double[NUM_EPOCHS];
+        for (var i = 0; i < NUM_EPOCHS; i++) {
+            estimate(truth, state, config, transition, propagatedCovariance, errorState, randomizer);
+            smoother.addEpoch(i * TIME_INTERVAL_SECONDS, state, transition, propagatedCovariance, errorState);
+            errors[i] = positionError(state, truth);
+        }
+
+        return errors;
+    }
+
+    private static void estimate(
+            final INSLooselyCoupledKalmanState truth, final INSLooselyCoupledKalmanState state,
+            final INSLooselyCoupledKalmanConfig config, final Matrix transition,
+            final Matrix propagatedCovariance, final Matrix errorState, final GaussianRandomizer randomizer)
+            throws AlgebraException {
+        // specific force of a static body compensates gravity
+        final var gravity = ECEFGravityEstimator.estimateGravityAndReturnNew(truth.getX(), truth.getY(),
+                truth.getZ());
+        final var f = truth.getBodyToEcefCoordinateTransformationMatrix().transposeAndReturnNew()
+                .multiplyAndReturnNew(gravity.asMatrix());
+        f.multiplyByScalar(-1.0);
+
+        INSLooselyCoupledKalmanEpochEstimator.estimate(
+                truth.getX() + POSITION_NOISE_SD * randomizer.nextDouble(),
+                truth.getY() + POSITION_NOISE_SD * randomizer.nextDouble(),
+                truth.getZ() + POSITION_NOISE_SD * randomizer.nextDouble(),
+                truth.getVx() + VELOCITY_NOISE_SD * randomizer.nextDouble(),
+                truth.getVy() + VELOCITY_NOISE_SD * randomizer.nextDouble(),
+                truth.getVz() + VELOCITY_NOISE_SD * randomizer.nextDouble(),
+                TIME_INTERVAL_SECONDS, state, f.getElementAtIndex(0), f.getElementAtIndex(1),
+                f.getElementAtIndex(2), config, state, transition, propagatedCovariance, errorState);
+    }
+
+    private static INSLooselyCoupledKalmanState generateTruth() {
+        final var randomizer = new UniformRandomizer();
+
+        final var nedPosition = new NEDPosition(
+                Math.toRadians(randomizer.nextDouble(MIN_LATITUDE_DEGREES, MAX_LATITUDE_DEGREES)),
+                Math.toRadians(randomizer.nextDouble(MIN_LONGITUDE_DEGREES, MAX_LONGITUDE_DEGREES)),
+                randomizer.nextDouble(MIN_HEIGHT_METERS, MAX_HEIGHT_METERS));
+        final var ecefPosition = new ECEFPosition();
+        final var ecefVelocity = new ECEFVelocity();
+        NEDtoECEFPositionVelocityConverter.convertNEDtoECEF(nedPosition, new NEDVelocity(), ecefPosition,
+                ecefVelocity);
+
+        final var roll = Math.toRadians(randomizer.nextDouble(MIN_ANGLE_DEGREES, MAX_ANGLE_DEGREES));
+        final var pitch = Math.toRadians(randomizer.nextDouble(MIN_ANGLE_DEGREES, MAX_ANGLE_DEGREES));
+        final var yaw = Math.toRadians(randomizer.nextDouble(MIN_ANGLE_DEGREES, MAX_ANGLE_DEGREES));
+        final var c = new CoordinateTransformation(roll, pitch, yaw, FrameType.BODY_FRAME,
+                FrameType.EARTH_CENTERED_EARTH_FIXED_FRAME);
+
+        final var result = new INSLooselyCoupledKalmanState();
+        result.setC(c);
+        result.setEcefPosition(ecefPosition);
+        result.setEcefVelocity(ecefVelocity);
+        return result;
+    }
+
+    private static INSLooselyCoupledKalmanState generateInitialState(final INSLooselyCoupledKalmanState truth,
+                                                                     final GaussianRandomizer randomizer) {
+        final var result = new INSLooselyCoupledKalmanState(truth);
+        result.setPositionCoordinates(
+                truth.getX() + INITIAL_POSITION_UNCERTAINTY * randomizer.nextDouble(),
+                truth.getY() + INITIAL_POSITION_UNCERTAINTY * randomizer.nextDouble(),
+                truth.getZ() + INITIAL_POSITION_UNCERTAINTY * randomizer.nextDouble());
+        result.setCovariance(INSLooselyCoupledKalmanInitializer.initialize(
+                new INSLooselyCoupledKalmanInitializerConfig(INITIAL_ATTITUDE_UNCERTAINTY,
+                        INITIAL_VELOCITY_UNCERTAINTY, INITIAL_POSITION_UNCERTAINTY,
+                        INITIAL_ACCELERATION_BIAS_UNCERTAINTY, INITIAL_GYRO_BIAS_UNCERTAINTY)));
+        return result;
+    }
+
+    private static double positionError(final INSLooselyCoupledKalmanState state,
+                                        final INSLooselyCoupledKalmanState truth) {
+        final var dx = state.getX() - truth.getX();
+        final var dy = state.getY() - truth.getY();
+        final var dz = state.getZ() - truth.getZ();
+        return Math.sqrt(dx * dx + dy * dy + dz * dz);
+    }
+}
@@ -38,7 +38,15 @@ import com.irurueta.units.Speed;
 import com.irurueta.units.SpeedUnit;
 import org.junit.jupiter.api.Test;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
 import java.io.IOException;
+import java.nio.BufferOverflowException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -2156,6 +2164,101 @@ class INSLooselyCoupledKalmanStateTest {
         assertNotSame(state1, state2);
     }
 
+    @Test
+    void testEncodeDecode() throws IOException, WrongSizeException {
+        final var randomizer = new UniformRandomizer();
+
+        final var roll = Math.toRadians(randomizer.nextDouble(MIN_ANGLE_DEGREES, MAX_ANGLE_DEGREES));
+        final var pitch = Math.toRadians(randomizer.nextDouble(MIN_ANGLE_DEGREES, MAX_ANGLE_DEGREES));
+        final var yaw = Math.toRadians(randomizer.nextDouble(MIN_ANGLE_DEGREES, MAX_ANGLE_DEGREES));
+
+        final var c = new CoordinateTransformation(roll, pitch, yaw, FrameType.BODY_FRAME,
+                FrameType.EARTH_CENTERED_EARTH_FIXED_FRAME);
+        final var bodyToEcefCoordinateTransformationMatrix = c.getMatrix();
+        final var vx = randomizer.nextDouble(MIN_VALUE, MAX_VALUE);
+        final var vy = randomizer.nextDouble(MIN_VALUE, MAX_VALUE);
+        final var vz = randomizer.nextDouble(MIN_VALUE, MAX_VALUE);
+        final var x = randomizer.nextDouble(MIN_VALUE, MAX_VALUE);
+        final var y = randomizer.nextDouble(MIN_VALUE, MAX_VALUE);
+        final var z = randomizer.nextDouble(MIN_VALUE, MAX_VALUE);
+        final var accelerationBiasX = randomizer.nextDouble(MIN_VALUE, MAX_VALUE);
+        final var accelerationBiasY = randomizer.nextDouble(MIN_VALUE, MAX_VALUE);
+        final var accelerationBiasZ = randomizer.nextDouble(MIN_VALUE, MAX_VALUE);
+        final var gyroBiasX = randomizer.nextDouble(MIN_VALUE, MAX_VALUE);
+        final var gyroBiasY = randomizer.nextDouble(MIN_VALUE, MAX_VALUE);
+        final var gyroBiasZ = randomizer.nextDouble(MIN_VALUE, MAX_VALUE);
+        final var a = Matrix.createWithUniformRandomValues(INSLooselyCoupledKalmanState.NUM_PARAMS,
+                INSLooselyCoupledKalmanState.NUM_PARAMS, MIN_VALUE, MAX_VALUE);
+        final var covariance = a.multiplyAndReturnNew(a.transposeAndReturnNew());
+
+        final var state1 = new INSLooselyCoupledKalmanState(bodyToEcefCoordinateTransformationMatrix, vx, vy, vz,
+                x, y, z, accelerationBiasX, accelerationBiasY, accelerationBiasZ, gyroBiasX, gyroBiasY, gyroBiasZ,
+                covariance);
+
+        assertEquals(1130, INSLooselyCoupledKalmanState.ENCODED_LENGTH);
+
+        // encode into byte array
+        final var bytes = state1.encode();
+        assertEquals(INSLooselyCoupledKalmanState.ENCODED_LENGTH, bytes.length);
+
+        final var state2 = INSLooselyCoupledKalmanState.fromEncoded(ByteBuffer.wrap(bytes));
+        assertEquals(state1, state2);
+        assertNotSame(state1, state2);
+
+        // encode into little-endian buffer at an offset reusing existing matrices
+        final var buffer = ByteBuffer.allocate(INSLooselyCoupledKalmanState.ENCODED_LENGTH + 1)
+                .order(ByteOrder.LITTLE_ENDIAN);
+        buffer.put((byte) 0);
+        state1.encode(buffer);
+        assertEquals(0, buffer.remaining());
+
+        buffer.flip();
+        buffer.get();
+        final var covariance3 = Matrix.identity(INSLooselyCoupledKalmanState.NUM_PARAMS,
+                INSLooselyCoupledKalmanState.NUM_PARAMS);
+        final var state3 = new INSLooselyCoupledKalmanState();
+        state3.setCovariance(covariance3);
+        state3.decode(buffer);
+        assertEquals(0, buffer.remaining());
+        assertEquals(state1, state3);
+        assertSame(covariance3, state3.getCovariance());
+
+        // encode into data output
+        final var outputStream = new ByteArrayOutputStream();
+        state1.encode(new DataOutputStream(outputStream));
+        assertArrayEquals(bytes, outputStream.toByteArray());
+
+        final var state4 = new INSLooselyCoupledKalmanState();
+        state4.decode(new DataInputStream(new ByteArrayInputStream(outputStream.toByteArray())));
+        assertEquals(state1, state4);
+
+        // encode state without matrices
+        final var state5 = new INSLooselyCoupledKalmanState();
+        state5.setPositionCoordinates(x, y, z);
+        state3.decode(ByteBuffer.wrap(state5.encode()));
+        assertNull(state3.getBodyToEcefCoordinateTransformationMatrix());
+        assertNull(state3.getCovariance());
+        assertEquals(x, state3.getX(), 0.0);
+        assertEquals(y, state3.getY(), 0.0);
+        assertEquals(z, state3.getZ(), 0.0);
+        assertEquals(0.0, state3.getVx(), 0.0);
+
+        // Force BufferOverflowException
+        assertThrows(BufferOverflowException.class, () -> state1.encode(ByteBuffer.allocate(
+                INSLooselyCoupledKalmanState.ENCODED_LENGTH - 1)));
+
+        // Force BufferUnderflowException
+        assertThrows(BufferUnderflowException.class, () -> state3.decode(ByteBuffer.wrap(bytes, 0,
+                INSLooselyCoupledKalmanState.ENCODED_LENGTH - 1)));
+
+        // Force IllegalArgumentException
+        final var invalid = bytes.clone();
+        invalid[0]++;
+        final var invalidBuffer = ByteBuffer.wrap(invalid);
+        assertThrows(IllegalArgumentException.class, () -> state3.decode(invalidBuffer));
+        assertEquals(0, invalidBuffer.position());
+    }
+
     @Test
     void testSerialVersionUID() throws NoSuchFieldException, IllegalAccessException {
         final var field = INSLooselyCoupledKalmanState.class.getDeclaredField("serialVersionUID");
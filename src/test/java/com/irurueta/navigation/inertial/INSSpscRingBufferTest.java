@@ -0,0 +1,126 @@
+/*
+ * Copyright (C) 2026 Alberto Irurueta Carro (alberto@irurueta.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.irurueta.navigation.inertial;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class INSSpscRingBufferTest {
+
+    private static final int NUM_ITEMS = 100000;
+
+    @Test
+    void testConstructor() {
+        assertEquals(1, new INSSpscRingBuffer<>(1, () -> new long[1]).getCapacity());
+        assertEquals(4, new INSSpscRingBuffer<>(3, () -> new long[1]).getCapacity());
+        assertEquals(4, new INSSpscRingBuffer<>(4, () -> new long[1]).getCapacity());
+        assertEquals(8, new INSSpscRingBuffer<>(5, () -> new long[1]).getCapacity());
+
+        final var buffer = new INSSpscRingBuffer<>(2, () -> new long[1]);
+        assertTrue(buffer.isEmpty());
+        assertEquals(0, buffer.size());
+        assertEquals(0, buffer.getPublishedCount());
+        assertEquals(0, buffer.getReleasedCount());
+        assertNull(buffer.peek());
+
+        // Force IllegalArgumentException
+        assertThrows(IllegalArgumentException.class, () -> new INSSpscRingBuffer<>(0, () -> new long[1]));
+        assertThrows(IllegalArgumentException.class, () -> new INSSpscRingBuffer<>(
+                INSSpscRingBuffer.MAX_CAPACITY + 1, () -> new long[1]));
+    }
+
+    @Test
+    void testClaimPublishPeekAndRelease() {
+        final var buffer = new INSSpscRingBuffer<>(4, () -> new long[1]);
+
+        // fill buffer
+        final var slots = new long[4][];
+        for (var i = 0; i < 4; i++) {
+            final var slot = buffer.claim();
+            assertNotNull(slot);
+            assertSame(slot, buffer.claim());
+            slot[0] = i;
+            buffer.publish();
+            slots[i] = slot;
+            assertEquals(i + 1, buffer.size());
+        }
+
+        // buffer is full
+        assertNull(buffer.claim());
+        assertEquals(4, buffer.getPublishedCount());
+
+        // slots are peeked in publication order and reused once released
+        for (var i = 0; i < 4; i++) {
+            final var slot = buffer.peek();
+            assertSame(slots[i], slot);
+            assertSame(slot, buffer.peek());
+            assertEquals(i, slot[0]);
+            buffer.release();
+
+            assertSame(slots[i], buffer.claim());
+            buffer.publish();
+        }
+
+        assertEquals(4, buffer.size());
+        assertEquals(8, buffer.getPublishedCount());
+        assertEquals(4, buffer.getReleasedCount());
+
+        for (var i = 0; i < 4; i++) {
+            assertNotNull(buffer.peek());
+            buffer.release();
+        }
+        assertNull(buffer.peek());
+        assertTrue(buffer.isEmpty());
+    }
+
+    @Test
+    void testConcurrentHandoff() throws InterruptedException {
+        final var buffer = new INSSpscRingBuffer<>(64, () -> new long[2]);
+        final var error = new AtomicReference<String>();
+
+        final var consumer = new Thread(() -> {
+            for (long i = 0; i < NUM_ITEMS; i++) {
+                long[] slot;
+                while ((slot = buffer.peek()) == null) {
+                    Thread.yield();
+                }
+                if (slot[0] != i || slot[1] != -i) {
+                    error.compareAndSet(null, "expected " + i + " but was " + slot[0]);
+                }
+                buffer.release();
+            }
+        });
+        consumer.start();
+
+        for (long i = 0; i < NUM_ITEMS; i++) {
+            long[] slot;
+            while ((slot = buffer.claim()) == null) {
+                Thread.yield();
+            }
+            slot[0] = i;
+            slot[1] = -i;
+            buffer.publish();
+        }
+        consumer.join();
+
+        assertNull(error.get());
+        assertTrue(buffer.isEmpty());
+        assertEquals(NUM_ITEMS, buffer.getReleasedCount());
+    }
+}
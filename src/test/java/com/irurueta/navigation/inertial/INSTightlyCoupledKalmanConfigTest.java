@@ -239,6 +239,33 @@ class INSTightlyCoupledKalmanConfigTest {
         assertEquals(rangeRateSD, config.getRangeRateSD(), 0.0);
     }
 
+    @Test
+    void testGetSetTransitionOrder() {
+        final var config = new INSTightlyCoupledKalmanConfig();
+
+        // check default value
+        assertEquals(INSKalmanTransitionOrder.FIRST_ORDER, config.getTransitionOrder());
+
+        // set a new value
+        config.setTransitionOrder(INSKalmanTransitionOrder.EXPONENTIAL);
+
+        // check
+        assertEquals(INSKalmanTransitionOrder.EXPONENTIAL, config.getTransitionOrder());
+
+        // copy and compare
+        final var config2 = new INSTightlyCoupledKalmanConfig(config);
+        assertEquals(INSKalmanTransitionOrder.EXPONENTIAL, config2.getTransitionOrder());
+        assertEquals(config, config2);
+        assertEquals(config.hashCode(), config2.hashCode());
+
+        config2.setTransitionOrder(INSKalmanTransitionOrder.SECOND_ORDER);
+        assertNotEquals(config, config2);
+        assertFalse(config.equals(config2, Double.MAX_VALUE));
+
+        // Force IllegalArgumentException
+        assertThrows(IllegalArgumentException.class, () -> config.setTransitionOrder(null));
+    }
+
     @Test
     void testSetValues() {
         final var config = new INSTightlyCoupledKalmanConfig();
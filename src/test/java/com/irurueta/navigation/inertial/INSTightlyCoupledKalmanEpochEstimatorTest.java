@@ -315,6 +315,23 @@ class INSTightlyCoupledKalmanEpochEstimatorTest {
             }
             assertTrue(expected.equals(result1, ABSOLUTE_ERROR));
 
+            // primitive batch using a geometry cache
+            final var satelliteIds = new int[numMeasurements];
+            final var batch = new double[numMeasurements * INSTightlyCoupledKalmanGeometryCache.MEASUREMENT_STRIDE];
+            toBatch(measurements, satelliteIds, batch);
+            final var cache = new INSTightlyCoupledKalmanGeometryCache();
+
+            final var result25 = new INSTightlyCoupledKalmanState();
+            INSTightlyCoupledKalmanEpochEstimator.estimate(satelliteIds, batch, numMeasurements, cache,
+                    TIME_INTERVAL_SECONDS, previousState, fx, fy, fz, previousLatitude, config, result25);
+
+            final var result26 = INSTightlyCoupledKalmanEpochEstimator.estimate(satelliteIds, batch, numMeasurements,
+                    cache, TIME_INTERVAL_SECONDS, previousState, fx, fy, fz, previousLatitude, config);
+
+            assertTrue(result1.equals(result25, ABSOLUTE_ERROR));
+            assertTrue(result1.equals(result26, ABSOLUTE_ERROR));
+            assertEquals(numMeasurements, cache.getNumberOfCachedSatellites());
+
             numValid++;
             break;
         }
@@ -322,6 +339,24 @@ class INSTightlyCoupledKalmanEpochEstimatorTest {
         assertTrue(numValid > 0);
     }
 
+    private static void toBatch(final List<GNSSMeasurement> measurements, final int[] satelliteIds,
+                                final double[] batch) {
+        var offset = 0;
+        for (var i = 0; i < measurements.size(); i++) {
+            final var measurement = measurements.get(i);
+            satelliteIds[i] = i + 1;
+            batch[offset + INSTightlyCoupledKalmanGeometryCache.PSEUDO_RANGE_OFFSET] = measurement.getPseudoRange();
+            batch[offset + INSTightlyCoupledKalmanGeometryCache.PSEUDO_RATE_OFFSET] = measurement.getPseudoRate();
+            batch[offset + INSTightlyCoupledKalmanGeometryCache.X_OFFSET] = measurement.getX();
+            batch[offset + INSTightlyCoupledKalmanGeometryCache.Y_OFFSET] = measurement.getY();
+            batch[offset + INSTightlyCoupledKalmanGeometryCache.Z_OFFSET] = measurement.getZ();
+            batch[offset + INSTightlyCoupledKalmanGeometryCache.VX_OFFSET] = measurement.getVx();
+            batch[offset + INSTightlyCoupledKalmanGeometryCache.VY_OFFSET] = measurement.getVy();
+            batch[offset + INSTightlyCoupledKalmanGeometryCache.VZ_OFFSET] = measurement.getVz();
+            offset += INSTightlyCoupledKalmanGeometryCache.MEASUREMENT_STRIDE;
+        }
+    }
+
     private static INSTightlyCoupledKalmanState estimate(
             final List<GNSSMeasurement> measurements, final INSTightlyCoupledKalmanState previousState,
             final double fx, final double fy, final double fz, final double previousLatitude,
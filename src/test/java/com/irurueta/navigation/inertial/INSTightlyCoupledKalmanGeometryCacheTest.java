@@ -0,0 +1,211 @@
+/*
+ * Copyright (C) 2026 Alberto Irurueta Carro (alberto@irurueta.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.irurueta.navigation.inertial;
+
+import com.irurueta.statistics.UniformRandomizer;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class INSTightlyCoupledKalmanGeometryCacheTest {
+
+    private static final int NUM_SATELLITES = 8;
+
+    private static final int EPOCHS = 20;
+
+    private static final double TIME_INTERVAL_SECONDS = 0.1;
+
+    private static final double EARTH_RADIUS = 6371000.0;
+
+    private static final double SATELLITE_ORBIT_RADIUS = 26560000.0;
+
+    private static final double SATELLITE_SPEED = 3900.0;
+
+    private static final double RECEIVER_SPEED = 30.0;
+
+    private static final double ABSOLUTE_ERROR = 1e-6;
+
+    @Test
+    void testConstructor() {
+        var cache = new INSTightlyCoupledKalmanGeometryCache();
+
+        // check default values
+        assertEquals(INSTightlyCoupledKalmanGeometryCache.DEFAULT_MAX_SATELLITES, cache.getMaxSatellites());
+        assertEquals(INSTightlyCoupledKalmanGeometryCache.DEFAULT_REFINEMENT_THRESHOLD,
+                cache.getRefinementThreshold(), 0.0);
+        assertEquals(0, cache.getNumberOfCachedSatellites());
+        assertEquals(0, cache.getNumberOfRefinements());
+        assertEquals(0, cache.getNumberOfFullComputations());
+        assertNull(cache.getLineOfSight());
+        assertNull(cache.getPredictions());
+
+        cache = new INSTightlyCoupledKalmanGeometryCache(NUM_SATELLITES);
+
+        // check
+        assertEquals(NUM_SATELLITES, cache.getMaxSatellites());
+        assertEquals(INSTightlyCoupledKalmanGeometryCache.DEFAULT_REFINEMENT_THRESHOLD,
+                cache.getRefinementThreshold(), 0.0);
+
+        cache = new INSTightlyCoupledKalmanGeometryCache(NUM_SATELLITES, 0.0);
+
+        // check
+        assertEquals(NUM_SATELLITES, cache.getMaxSatellites());
+        assertEquals(0.0, cache.getRefinementThreshold(), 0.0);
+
+        // Force IllegalArgumentException
+        assertThrows(IllegalArgumentException.class, () -> new INSTightlyCoupledKalmanGeometryCache(0));
+        assertThrows(IllegalArgumentException.class, () -> new INSTightlyCoupledKalmanGeometryCache(
+                NUM_SATELLITES, -1.0));
+    }
+
+    @Test
+    void testGetSetRefinementThreshold() {
+        final var cache = new INSTightlyCoupledKalmanGeometryCache();
+
+        // set new value
+        cache.setRefinementThreshold(1.0);
+
+        // check
+        assertEquals(1.0, cache.getRefinementThreshold(), 0.0);
+
+        // Force IllegalArgumentException
+        assertThrows(IllegalArgumentException.class, () -> cache.setRefinementThreshold(-1.0));
+    }
+
+    @Test
+    void testPredictRefinedMatchesFullComputation() {
+        final var randomizer = new UniformRandomizer();
+        final var ids = new int[NUM_SATELLITES];
+        final var batch = new double[NUM_SATELLITES * INSTightlyCoupledKalmanGeometryCache.MEASUREMENT_STRIDE];
+        for (var i = 0; i < NUM_SATELLITES; i++) {
+            ids[i] = 2 * i + 1;
+            final var offset = i * INSTightlyCoupledKalmanGeometryCache.MEASUREMENT_STRIDE;
+            // satellites above northern hemisphere
+            final var latitude = randomizer.nextDouble(0.2, 1.2);
+            final var longitude = randomizer.nextDouble(-0.5, 0.5);
+            batch[offset + INSTightlyCoupledKalmanGeometryCache.X_OFFSET] =
+                    SATELLITE_ORBIT_RADIUS * Math.cos(latitude) * Math.cos(longitude);
+            batch[offset + INSTightlyCoupledKalmanGeometryCache.Y_OFFSET] =
+                    SATELLITE_ORBIT_RADIUS * Math.cos(latitude) * Math.sin(longitude);
+            batch[offset + INSTightlyCoupledKalmanGeometryCache.Z_OFFSET] =
+                    SATELLITE_ORBIT_RADIUS * Math.sin(latitude);
+            batch[offset + INSTightlyCoupledKalmanGeometryCache.VX_OFFSET] =
+                    randomizer.nextDouble(-SATELLITE_SPEED, SATELLITE_SPEED);
+            batch[offset + INSTightlyCoupledKalmanGeometryCache.VY_OFFSET] =
+                    randomizer.nextDouble(-SATELLITE_SPEED, SATELLITE_SPEED);
+            batch[offset + INSTightlyCoupledKalmanGeometryCache.VZ_OFFSET] =
+                    randomizer.nextDouble(-SATELLITE_SPEED, SATELLITE_SPEED);
+        }
+
+        var x = EARTH_RADIUS * Math.cos(0.7);
+        var y = 0.0;
+        var z = EARTH_RADIUS * Math.sin(0.7);
+        final var vx = randomizer.nextDouble(-RECEIVER_SPEED, RECEIVER_SPEED);
+        final var vy = randomizer.nextDouble(-RECEIVER_SPEED, RECEIVER_SPEED);
+        final var vz = randomizer.nextDouble(-RECEIVER_SPEED, RECEIVER_SPEED);
+
+        final var refined = new INSTightlyCoupledKalmanGeometryCache(NUM_SATELLITES);
+        final var full = new INSTightlyCoupledKalmanGeometryCache(NUM_SATELLITES, 0.0);
+        for (var epoch = 0; epoch < EPOCHS; epoch++) {
+            refined.predict(ids, batch, NUM_SATELLITES, x, y, z, vx, vy, vz, 1.0, 0.1);
+            full.predict(ids, batch, NUM_SATELLITES, x, y, z, vx, vy, vz, 1.0, 0.1);
+
+            assertTrue(refined.getPredictions().equals(full.getPredictions(), ABSOLUTE_ERROR));
+            assertTrue(refined.getLineOfSight().equals(full.getLineOfSight(), ABSOLUTE_ERROR));
+
+            // check line of sight is unitary
+            for (var j = 0; j < NUM_SATELLITES; j++) {
+                final var ux = full.getLineOfSight().getElementAt(j, 0);
+                final var uy = full.getLineOfSight().getElementAt(j, 1);
+                final var uz = full.getLineOfSight().getElementAt(j, 2);
+                assertEquals(1.0, Math.sqrt(ux * ux + uy * uy + uz * uz), ABSOLUTE_ERROR);
+            }
+
+            // move satellites and receiver
+            for (var i = 0; i < NUM_SATELLITES; i++) {
+                final var offset = i * INSTightlyCoupledKalmanGeometryCache.MEASUREMENT_STRIDE;
+                for (var k = 0; k < 3; k++) {
+                    batch[offset + INSTightlyCoupledKalmanGeometryCache.X_OFFSET + k] += TIME_INTERVAL_SECONDS
+                            * batch[offset + INSTightlyCoupledKalmanGeometryCache.VX_OFFSET + k];
+                }
+            }
+            x += TIME_INTERVAL_SECONDS * vx;
+            y += TIME_INTERVAL_SECONDS * vy;
+            z += TIME_INTERVAL_SECONDS * vz;
+        }
+
+        assertEquals(0, full.getNumberOfRefinements());
+        assertEquals((long) EPOCHS * NUM_SATELLITES, full.getNumberOfFullComputations());
+        assertTrue(refined.getNumberOfRefinements() > 0);
+        assertEquals((long) EPOCHS * NUM_SATELLITES,
+                refined.getNumberOfRefinements() + refined.getNumberOfFullComputations());
+    }
+
+    @Test
+    void testSatellitesEnteringAndLeaving() {
+        final var cache = new INSTightlyCoupledKalmanGeometryCache(3);
+        final var batch = new double[3 * INSTightlyCoupledKalmanGeometryCache.MEASUREMENT_STRIDE];
+        for (var i = 0; i < 3; i++) {
+            final var offset = i * INSTightlyCoupledKalmanGeometryCache.MEASUREMENT_STRIDE;
+            batch[offset + INSTightlyCoupledKalmanGeometryCache.X_OFFSET] = SATELLITE_ORBIT_RADIUS;
+            batch[offset + INSTightlyCoupledKalmanGeometryCache.Y_OFFSET] = (i + 1) * 1000000.0;
+        }
+
+        cache.predict(new int[]{1, 2, 3}, batch, 3, EARTH_RADIUS, 0.0, 0.0,
+                0.0, 0.0, 0.0, 0.0, 0.0);
+        assertEquals(3, cache.getNumberOfCachedSatellites());
+        assertTrue(cache.isCached(1));
+        assertTrue(cache.isCached(2));
+        assertTrue(cache.isCached(3));
+        assertEquals(3, cache.getNumberOfFullComputations());
+        final var lineOfSight = cache.getLineOfSight();
+        final var predictions = cache.getPredictions();
+
+        // satellite 1 leaves and satellite 4 enters
+        cache.predict(new int[]{4, 2, 3}, batch, 3, EARTH_RADIUS, 0.0, 0.0,
+                0.0, 0.0, 0.0, 0.0, 0.0);
+        assertEquals(3, cache.getNumberOfCachedSatellites());
+        assertFalse(cache.isCached(1));
+        assertTrue(cache.isCached(4));
+        assertEquals(4, cache.getNumberOfFullComputations());
+        assertEquals(2, cache.getNumberOfRefinements());
+        assertSame(lineOfSight, cache.getLineOfSight());
+        assertSame(predictions, cache.getPredictions());
+
+        // satellites 2 and 4 leave
+        cache.predict(new int[]{3}, batch, 1, EARTH_RADIUS, 0.0, 0.0,
+                0.0, 0.0, 0.0, 0.0, 0.0);
+        assertEquals(1, cache.getNumberOfCachedSatellites());
+        assertTrue(cache.isCached(3));
+        assertFalse(cache.isCached(2));
+        assertFalse(cache.isCached(4));
+        assertEquals(1, cache.getLineOfSight().getRows());
+
+        // Force IllegalArgumentException
+        assertThrows(IllegalArgumentException.class, () -> cache.predict(new int[]{5, 5}, batch, 2,
+                EARTH_RADIUS, 0.0, 0.0, 0.0, 0.0, 0.0, 0.0, 0.0));
+        assertThrows(IllegalArgumentException.class, () -> cache.predict(new int[]{1, 2, 3, 4},
+                new double[4 * INSTightlyCoupledKalmanGeometryCache.MEASUREMENT_STRIDE], 4,
+                EARTH_RADIUS, 0.0, 0.0, 0.0, 0.0, 0.0, 0.0, 0.0));
+        assertThrows(IllegalArgumentException.class, () -> cache.predict(new int[]{1, 2}, new double[1], 2,
+                EARTH_RADIUS, 0.0, 0.0, 0.0, 0.0, 0.0, 0.0, 0.0));
+
+        cache.clear();
+        assertEquals(0, cache.getNumberOfCachedSatellites());
+        assertEquals(0, cache.getNumberOfRefinements());
+        assertEquals(0, cache.getNumberOfFullComputations());
+    }
+}
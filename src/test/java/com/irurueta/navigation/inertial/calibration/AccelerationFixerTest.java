@@ -18,6 +18,7 @@ package com.irurueta.navigation.inertial.calibration;
 import com.irurueta.algebra.AlgebraException;
 import com.irurueta.algebra.Matrix;
 import com.irurueta.algebra.WrongSizeException;
+import com.irurueta.navigation.NotReadyException;
 import com.irurueta.navigation.inertial.BodyKinematics;
 import com.irurueta.statistics.UniformRandomizer;
 import com.irurueta.units.Acceleration;
@@ -1520,6 +1521,50 @@ class AccelerationFixerTest {
                 biasX, biasY, biasZ, sx, sy, sz, mxy, mxz, myx, myz, mzx, mzy, m2));
     }
 
+    @Test
+    void testFixBatch() throws AlgebraException {
+        final var fixer = new AccelerationFixer();
+        fixer.setBias(generateBa());
+        fixer.setCrossCouplingErrors(generateMa());
+
+        final var randomizer = new UniformRandomizer();
+        final var length = 17;
+        final var offset = 2;
+        final var fx = new double[offset + length + 1];
+        final var fy = new double[fx.length];
+        final var fz = new double[fx.length];
+        randomizer.fill(fx, MIN_ACCELEROMETER_VALUE, MAX_ACCELEROMETER_VALUE);
+        randomizer.fill(fy, MIN_ACCELEROMETER_VALUE, MAX_ACCELEROMETER_VALUE);
+        randomizer.fill(fz, MIN_ACCELEROMETER_VALUE, MAX_ACCELEROMETER_VALUE);
+
+        final var measuredX = fx.clone();
+        final var measuredY = fy.clone();
+        final var measuredZ = fz.clone();
+
+        fixer.fix(fx, fy, fz, offset, length);
+
+        // check
+        final var expected = new double[BodyKinematics.COMPONENTS];
+        for (var i = 0; i < fx.length; i++) {
+            if (i < offset || i >= offset + length) {
+                // values out of range are left untouched
+                assertEquals(measuredX[i], fx[i], 0.0);
+                assertEquals(measuredY[i], fy[i], 0.0);
+                assertEquals(measuredZ[i], fz[i], 0.0);
+            } else {
+                fixer.fix(new double[]{measuredX[i], measuredY[i], measuredZ[i]}, expected);
+                assertEquals(expected[0], fx[i], ABSOLUTE_ERROR);
+                assertEquals(expected[1], fy[i], ABSOLUTE_ERROR);
+                assertEquals(expected[2], fz[i], ABSOLUTE_ERROR);
+            }
+        }
+
+        // Force IndexOutOfBoundsException
+        assertThrows(IndexOutOfBoundsException.class, () -> fixer.fix(fx, fy, fz, -1, length));
+        assertThrows(IndexOutOfBoundsException.class, () -> fixer.fix(fx, fy, fz, offset, fx.length));
+        assertThrows(IndexOutOfBoundsException.class, () -> fixer.fix(fx, fy, new double[1], offset, length));
+    }
+
     @Test
     void testFixAndReturnNew1() throws AlgebraException {
         final var fixer = new AccelerationFixer();
@@ -2213,6 +2258,45 @@ class AccelerationFixerTest {
         assertEquals(fz, result.getElementAtIndex(2), ABSOLUTE_ERROR);
     }
 
+    @Test
+    void testFixAtTemperature() throws NotReadyException, AlgebraException {
+        final var fixer = new AccelerationFixer();
+
+        // check default value
+        assertNull(fixer.getTemperatureCalibrationTable());
+
+        fixer.setBias(generateBa());
+        fixer.setCrossCouplingErrors(generateMa());
+
+        final var randomizer = new UniformRandomizer();
+        final var fx = randomizer.nextDouble(MIN_ACCELEROMETER_VALUE, MAX_ACCELEROMETER_VALUE);
+        final var fy = randomizer.nextDouble(MIN_ACCELEROMETER_VALUE, MAX_ACCELEROMETER_VALUE);
+        final var fz = randomizer.nextDouble(MIN_ACCELEROMETER_VALUE, MAX_ACCELEROMETER_VALUE);
+        final var temperature = randomizer.nextDouble(0.0, 40.0);
+
+        // without table, last provided bias and cross coupling errors are used
+        final var expected = new double[3];
+        final var result = new double[3];
+        fixer.fix(fx, fy, fz, expected);
+        fixer.fixAtTemperature(temperature, fx, fy, fz, result);
+        assertArrayEquals(expected, result, 0.0);
+
+        // set new value
+        final var table = TemperatureCalibrationTableTest.createTable();
+        fixer.setTemperatureCalibrationTable(table);
+
+        // check
+        assertSame(table, fixer.getTemperatureCalibrationTable());
+
+        table.fixSpecificForce(temperature, fx, fy, fz, expected);
+        fixer.fixAtTemperature(temperature, fx, fy, fz, result);
+        assertArrayEquals(expected, result, 0.0);
+
+        // Force IllegalArgumentException
+        assertThrows(IllegalArgumentException.class,
+                () -> fixer.fixAtTemperature(temperature, fx, fy, fz, new double[1]));
+    }
+
     private static Matrix generateBa() {
         return Matrix.newFromArray(new double[]{
                 900 * MICRO_G_TO_METERS_PER_SECOND_SQUARED,
@@ -18,6 +18,7 @@ package com.irurueta.navigation.inertial.calibration;
 import com.irurueta.algebra.AlgebraException;
 import com.irurueta.algebra.Matrix;
 import com.irurueta.algebra.WrongSizeException;
+import com.irurueta.navigation.NotReadyException;
 import com.irurueta.navigation.inertial.BodyKinematics;
 import com.irurueta.statistics.UniformRandomizer;
 import com.irurueta.units.AngularSpeed;
@@ -1735,6 +1736,61 @@ class AngularRateFixerTest {
                 sx, sy, sz, mxy, mxz, myx, myz, mzx, mzy, g11, g21, g31, g12, g22, g32, g13, g23, g33, m2));
     }
 
+    @Test
+    void testFixBatch() throws AlgebraException {
+        final var fixer = new AngularRateFixer();
+        fixer.setBias(generateBg());
+        fixer.setCrossCouplingErrors(generateMg());
+        fixer.setGDependantCrossBias(generateGg());
+
+        final var randomizer = new UniformRandomizer();
+        final var length = 17;
+        final var offset = 2;
+        final var wx = new double[offset + length + 1];
+        final var wy = new double[wx.length];
+        final var wz = new double[wx.length];
+        final var fx = new double[wx.length];
+        final var fy = new double[wx.length];
+        final var fz = new double[wx.length];
+        randomizer.fill(wx, MIN_GYRO_VALUE, MAX_GYRO_VALUE);
+        randomizer.fill(wy, MIN_GYRO_VALUE, MAX_GYRO_VALUE);
+        randomizer.fill(wz, MIN_GYRO_VALUE, MAX_GYRO_VALUE);
+        randomizer.fill(fx, MIN_ACCELEROMETER_VALUE, MAX_ACCELEROMETER_VALUE);
+        randomizer.fill(fy, MIN_ACCELEROMETER_VALUE, MAX_ACCELEROMETER_VALUE);
+        randomizer.fill(fz, MIN_ACCELEROMETER_VALUE, MAX_ACCELEROMETER_VALUE);
+
+        final var measuredX = wx.clone();
+        final var measuredY = wy.clone();
+        final var measuredZ = wz.clone();
+
+        fixer.fix(wx, wy, wz, fx, fy, fz, offset, length);
+
+        // check
+        final var expected = new double[BodyKinematics.COMPONENTS];
+        for (var i = 0; i < wx.length; i++) {
+            if (i < offset || i >= offset + length) {
+                // values out of range are left untouched
+                assertEquals(measuredX[i], wx[i], 0.0);
+                assertEquals(measuredY[i], wy[i], 0.0);
+                assertEquals(measuredZ[i], wz[i], 0.0);
+            } else {
+                fixer.fix(new double[]{measuredX[i], measuredY[i], measuredZ[i]},
+                        new double[]{fx[i], fy[i], fz[i]}, expected);
+                assertEquals(expected[0], wx[i], ABSOLUTE_ERROR);
+                assertEquals(expected[1], wy[i], ABSOLUTE_ERROR);
+                assertEquals(expected[2], wz[i], ABSOLUTE_ERROR);
+            }
+        }
+
+        // Force IndexOutOfBoundsException
+        assertThrows(IndexOutOfBoundsException.class,
+                () -> fixer.fix(wx, wy, wz, fx, fy, fz, -1, length));
+        assertThrows(IndexOutOfBoundsException.class,
+                () -> fixer.fix(wx, wy, wz, fx, fy, fz, offset, wx.length));
+        assertThrows(IndexOutOfBoundsException.class,
+                () -> fixer.fix(wx, wy, wz, fx, fy, new double[1], offset, length));
+    }
+
     @Test
     void testFixAndReturnNew1() throws AlgebraException {
         final var fixer = new AngularRateFixer();
@@ -2607,6 +2663,49 @@ class AngularRateFixerTest {
         assertEquals(omegaZ, result.getElementAtIndex(2), ABSOLUTE_ERROR);
     }
 
+    @Test
+    void testFixAtTemperature() throws NotReadyException, AlgebraException {
+        final var fixer = new AngularRateFixer();
+
+        // check default value
+        assertNull(fixer.getTemperatureCalibrationTable());
+
+        fixer.setBias(generateBg());
+        fixer.setCrossCouplingErrors(generateMg());
+        fixer.setGDependantCrossBias(generateGg());
+
+        final var randomizer = new UniformRandomizer();
+        final var wx = randomizer.nextDouble(MIN_GYRO_VALUE, MAX_GYRO_VALUE);
+        final var wy = randomizer.nextDouble(MIN_GYRO_VALUE, MAX_GYRO_VALUE);
+        final var wz = randomizer.nextDouble(MIN_GYRO_VALUE, MAX_GYRO_VALUE);
+        final var fx = randomizer.nextDouble(MIN_ACCELEROMETER_VALUE, MAX_ACCELEROMETER_VALUE);
+        final var fy = randomizer.nextDouble(MIN_ACCELEROMETER_VALUE, MAX_ACCELEROMETER_VALUE);
+        final var fz = randomizer.nextDouble(MIN_ACCELEROMETER_VALUE, MAX_ACCELEROMETER_VALUE);
+        final var temperature = randomizer.nextDouble(0.0, 40.0);
+
+        // without table, last provided bias and cross coupling errors are used
+        final var expected = new double[3];
+        final var result = new double[3];
+        fixer.fix(wx, wy, wz, fx, fy, fz, expected);
+        fixer.fixAtTemperature(temperature, wx, wy, wz, fx, fy, fz, result);
+        assertArrayEquals(expected, result, 0.0);
+
+        // set new value
+        final var table = TemperatureCalibrationTableTest.createTable();
+        fixer.setTemperatureCalibrationTable(table);
+
+        // check
+        assertSame(table, fixer.getTemperatureCalibrationTable());
+
+        table.fixAngularRate(temperature, wx, wy, wz, fx, fy, fz, expected);
+        fixer.fixAtTemperature(temperature, wx, wy, wz, fx, fy, fz, result);
+        assertArrayEquals(expected, result, 0.0);
+
+        // Force IllegalArgumentException
+        assertThrows(IllegalArgumentException.class,
+                () -> fixer.fixAtTemperature(temperature, wx, wy, wz, fx, fy, fz, new double[1]));
+    }
+
     private static Matrix generateBa() {
         return Matrix.newFromArray(new double[]{
                 900 * MICRO_G_TO_METERS_PER_SECOND_SQUARED,
@@ -18,6 +18,7 @@ package com.irurueta.navigation.inertial.calibration;
 import com.irurueta.algebra.AlgebraException;
 import com.irurueta.algebra.Matrix;
 import com.irurueta.algebra.WrongSizeException;
+import com.irurueta.navigation.NotReadyException;
 import com.irurueta.navigation.inertial.BodyKinematics;
 import com.irurueta.statistics.UniformRandomizer;
 import com.irurueta.units.Acceleration;
@@ -1491,6 +1492,62 @@ class BodyKinematicsFixerTest {
         assertTrue(result.equals(trueKinematics, ABSOLUTE_ERROR));
     }
 
+    @Test
+    void testFixBatch() throws AlgebraException {
+        final var fixer = new BodyKinematicsFixer();
+        fixer.setAccelerationBias(generateBa());
+        fixer.setAccelerationCrossCouplingErrors(generateMa());
+        fixer.setAngularSpeedBias(generateBg());
+        fixer.setAngularSpeedCrossCouplingErrors(generateMg());
+        fixer.setAngularSpeedGDependantCrossBias(generateGg());
+
+        final var randomizer = new UniformRandomizer();
+        final var length = 17;
+        final var offset = 2;
+        final var fx = new double[offset + length + 1];
+        final var fy = new double[fx.length];
+        final var fz = new double[fx.length];
+        final var wx = new double[fx.length];
+        final var wy = new double[fx.length];
+        final var wz = new double[fx.length];
+        randomizer.fill(fx, MIN_ACCELEROMETER_VALUE, MAX_ACCELEROMETER_VALUE);
+        randomizer.fill(fy, MIN_ACCELEROMETER_VALUE, MAX_ACCELEROMETER_VALUE);
+        randomizer.fill(fz, MIN_ACCELEROMETER_VALUE, MAX_ACCELEROMETER_VALUE);
+        randomizer.fill(wx, MIN_GYRO_VALUE, MAX_GYRO_VALUE);
+        randomizer.fill(wy, MIN_GYRO_VALUE, MAX_GYRO_VALUE);
+        randomizer.fill(wz, MIN_GYRO_VALUE, MAX_GYRO_VALUE);
+
+        final var measured = new BodyKinematics[fx.length];
+        for (var i = 0; i < fx.length; i++) {
+            measured[i] = new BodyKinematics(fx[i], fy[i], fz[i], wx[i], wy[i], wz[i]);
+        }
+
+        fixer.fix(fx, fy, fz, wx, wy, wz, offset, length);
+
+        // check
+        final var expected = new BodyKinematics();
+        for (var i = 0; i < fx.length; i++) {
+            if (i < offset || i >= offset + length) {
+                // values out of range are left untouched
+                expected.copyFrom(measured[i]);
+            } else {
+                fixer.fix(measured[i], expected);
+            }
+            assertEquals(expected.getFx(), fx[i], ABSOLUTE_ERROR);
+            assertEquals(expected.getFy(), fy[i], ABSOLUTE_ERROR);
+            assertEquals(expected.getFz(), fz[i], ABSOLUTE_ERROR);
+            assertEquals(expected.getAngularRateX(), wx[i], ABSOLUTE_ERROR);
+            assertEquals(expected.getAngularRateY(), wy[i], ABSOLUTE_ERROR);
+            assertEquals(expected.getAngularRateZ(), wz[i], ABSOLUTE_ERROR);
+        }
+
+        // Force IndexOutOfBoundsException
+        assertThrows(IndexOutOfBoundsException.class,
+                () -> fixer.fix(fx, fy, fz, wx, wy, wz, -1, length));
+        assertThrows(IndexOutOfBoundsException.class,
+                () -> fixer.fix(fx, fy, fz, wx, wy, wz, offset, fx.length));
+    }
+
     @Test
     void testFixAndReturnNew1() throws AlgebraException {
         final var fixer = new BodyKinematicsFixer();
@@ -1561,6 +1618,46 @@ class BodyKinematicsFixerTest {
         assertTrue(result.equals(trueKinematics, ABSOLUTE_ERROR));
     }
 
+    @Test
+    void testFixAtTemperature() throws NotReadyException, AlgebraException {
+        final var fixer = new BodyKinematicsFixer();
+
+        // check default value
+        assertNull(fixer.getTemperatureCalibrationTable());
+
+        fixer.setAccelerationBias(generateBa());
+        fixer.setAccelerationCrossCouplingErrors(generateMa());
+        fixer.setAngularSpeedBias(generateBg());
+        fixer.setAngularSpeedCrossCouplingErrors(generateMg());
+        fixer.setAngularSpeedGDependantCrossBias(generateGg());
+
+        final var measuredKinematics = getTrueKinematics();
+        final var temperature = new UniformRandomizer().nextDouble(0.0, 40.0);
+
+        // without table, last provided bias and cross coupling errors are used
+        final var expected = new BodyKinematics();
+        final var result = new BodyKinematics();
+        fixer.fix(measuredKinematics, expected);
+        fixer.fixAtTemperature(temperature, measuredKinematics, result);
+        assertTrue(expected.equals(result, ABSOLUTE_ERROR));
+
+        // set new value
+        final var table = TemperatureCalibrationTableTest.createTable();
+        fixer.setTemperatureCalibrationTable(table);
+
+        // check
+        assertSame(table, fixer.getTemperatureCalibrationTable());
+
+        final var f = new double[3];
+        final var angularRate = new double[3];
+        table.fixSpecificForce(temperature, measuredKinematics.getFx(), measuredKinematics.getFy(),
+                measuredKinematics.getFz(), f);
+        table.fixAngularRate(temperature, measuredKinematics.getAngularRateX(), measuredKinematics.getAngularRateY(),
+                measuredKinematics.getAngularRateZ(), f[0], f[1], f[2], angularRate);
+        fixer.fixAtTemperature(temperature, measuredKinematics, result);
+        assertEquals(new BodyKinematics(f[0], f[1], f[2], angularRate[0], angularRate[1], angularRate[2]), result);
+    }
+
     private static Matrix generateBa() {
         return Matrix.newFromArray(new double[]{
                 900 * MICRO_G_TO_METERS_PER_SECOND_SQUARED,
@@ -28,10 +28,12 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import java.lang.management.ManagementFactory;
 import java.util.ArrayList;
 import java.util.Random;
 
 import static org.junit.jupiter.api.Assertions.*;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -468,6 +470,103 @@ class BodyKinematicsGeneratorTest {
         assertEquals(expected, result4);
     }
 
+    @Test
+    void testGeneratePrimitive() throws WrongSizeException {
+        final var ba = generateBa();
+        final var bg = generateBg();
+        final var ma = generateMa();
+        final var mg = generateMg();
+        final var gg = generateGg();
+        final var accelNoiseRootPSD = getAccelNoiseRootPSD();
+        final var gyroNoiseRootPSD = getGyroNoiseRootPSD();
+
+        final var errors = new IMUErrors(ba, bg, ma, mg, gg, accelNoiseRootPSD, gyroNoiseRootPSD, ACCEL_QUANT_LEVEL,
+                GYRO_QUANT_LEVEL);
+
+        final var randomizer = new UniformRandomizer();
+        final var fx = randomizer.nextDouble(MIN_ACCELEROMETER_VALUE, MAX_ACCELEROMETER_VALUE);
+        final var fy = randomizer.nextDouble(MIN_ACCELEROMETER_VALUE, MAX_ACCELEROMETER_VALUE);
+        final var fz = randomizer.nextDouble(MIN_ACCELEROMETER_VALUE, MAX_ACCELEROMETER_VALUE);
+        final var omegaX = randomizer.nextDouble(MIN_GYRO_VALUE, MAX_GYRO_VALUE);
+        final var omegaY = randomizer.nextDouble(MIN_GYRO_VALUE, MAX_GYRO_VALUE);
+        final var omegaZ = randomizer.nextDouble(MIN_GYRO_VALUE, MAX_GYRO_VALUE);
+
+        final var trueKinematics = new BodyKinematics(fx, fy, fz, omegaX, omegaY, omegaZ);
+
+        final var oldQuantizationResiduals = new double[6];
+        for (var i = 0; i < 3; i++) {
+            oldQuantizationResiduals[i] = randomizer.nextDouble(MIN_ACCEL_QUANT_RESIDUAL, MAX_ACCEL_QUANT_RESIDUAL);
+        }
+        for (var i = 3; i < 6; i++) {
+            oldQuantizationResiduals[i] = randomizer.nextDouble(MIN_GYRO_QUANT_RESIDUAL, MAX_GYRO_QUANT_RESIDUAL);
+        }
+
+        final var seed = randomizer.nextLong();
+
+        // quantized
+        final var quantizationResiduals1 = new double[6];
+        final var result1 = new BodyKinematics();
+        BodyKinematicsGenerator.generate(TIME_INTERVAL_SECONDS, fx, fy, fz, omegaX, omegaY, omegaZ, errors,
+                new Random(seed), oldQuantizationResiduals, result1, quantizationResiduals1);
+
+        final var quantizationResiduals2 = new double[6];
+        final var result2 = new BodyKinematics();
+        BodyKinematicsGenerator.generate(TIME_INTERVAL_SECONDS, trueKinematics, errors, new Random(seed),
+                oldQuantizationResiduals, result2, quantizationResiduals2);
+
+        assertEquals(result2, result1);
+        assertArrayEquals(quantizationResiduals2, quantizationResiduals1, 0.0);
+
+        // not quantized
+        final var result3 = new BodyKinematics();
+        BodyKinematicsGenerator.generate(TIME_INTERVAL_SECONDS, fx, fy, fz, omegaX, omegaY, omegaZ, errors,
+                new Random(seed), result3);
+
+        final var result4 = new BodyKinematics();
+        BodyKinematicsGenerator.generate(TIME_INTERVAL_SECONDS, trueKinematics, errors, new Random(seed), result4);
+
+        assertEquals(result4, result3);
+
+        // Force IllegalArgumentException
+        assertThrows(IllegalArgumentException.class, () -> BodyKinematicsGenerator.generate(TIME_INTERVAL_SECONDS,
+                fx, fy, fz, omegaX, omegaY, omegaZ, errors, new Random(seed), new double[1], result1,
+                quantizationResiduals1));
+        assertThrows(IllegalArgumentException.class, () -> BodyKinematicsGenerator.generate(TIME_INTERVAL_SECONDS,
+                fx, fy, fz, omegaX, omegaY, omegaZ, errors, new Random(seed), oldQuantizationResiduals, result1,
+                new double[1]));
+    }
+
+    @Test
+    void testGeneratePrimitiveIsAllocationFree() throws WrongSizeException {
+        final var threadBean = ManagementFactory.getThreadMXBean();
+        assumeTrue(threadBean instanceof com.sun.management.ThreadMXBean);
+        final var bean = (com.sun.management.ThreadMXBean) threadBean;
+        assumeTrue(bean.isThreadAllocatedMemorySupported() && bean.isThreadAllocatedMemoryEnabled());
+
+        final var errors = new IMUErrors(generateBa(), generateBg(), generateMa(), generateMg(), generateGg(),
+                getAccelNoiseRootPSD(), getGyroNoiseRootPSD(), ACCEL_QUANT_LEVEL, GYRO_QUANT_LEVEL);
+        final var random = new Random();
+        final var oldQuantizationResiduals = new double[6];
+        final var quantizationResiduals = new double[6];
+        final var result = new BodyKinematics();
+
+        // warm up
+        for (var i = 0; i < SAMPLES; i++) {
+            BodyKinematicsGenerator.generate(TIME_INTERVAL_SECONDS, 0.1, 0.2, -9.81, 0.01, 0.02, 0.03,
+                    errors, random, oldQuantizationResiduals, result, quantizationResiduals);
+        }
+
+        final var start = bean.getCurrentThreadAllocatedBytes();
+        for (var i = 0; i < SAMPLES; i++) {
+            BodyKinematicsGenerator.generate(TIME_INTERVAL_SECONDS, 0.1, 0.2, -9.81, 0.01, 0.02, 0.03,
+                    errors, random, oldQuantizationResiduals, result, quantizationResiduals);
+        }
+        final var allocated = bean.getCurrentThreadAllocatedBytes() - start;
+
+        // allow a small slack for measurement noise, far below one object per call
+        assertTrue(allocated < SAMPLES);
+    }
+
     @Test
     void testEstimateNoiseRootPSDs() throws WrongSizeException {
         final var ba = generateBa();
@@ -0,0 +1,112 @@
+/*
+ * Copyright (C) 2026 Alberto Irurueta Carro (alberto@irurueta.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.irurueta.navigation.inertial.calibration;
+
+import com.irurueta.numerical.robust.InliersData;
+import org.junit.jupiter.api.Test;
+
+import java.util.BitSet;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CompactInliersDataTest {
+
+    @Test
+    void testConstructor() {
+        final var inliers = new BitSet();
+        inliers.set(1);
+        inliers.set(3);
+
+        final var data = new CompactInliersData(inliers, 5);
+
+        assertSame(inliers, data.getInliers());
+        assertNull(data.getResiduals());
+        assertEquals(5, data.getNumMeasurements());
+        assertEquals(2, data.getNumInliers());
+
+        // Force IllegalArgumentException
+        assertThrows(IllegalArgumentException.class, () -> new CompactInliersData(inliers, -1));
+        assertThrows(IllegalArgumentException.class, () -> new CompactInliersData(inliers, 3));
+
+        // constructor with residuals
+        final var residuals = new float[5];
+        final var data2 = new CompactInliersData(inliers, residuals, 5);
+
+        assertSame(inliers, data2.getInliers());
+        assertSame(residuals, data2.getResiduals());
+        assertEquals(5, data2.getNumMeasurements());
+        assertEquals(2, data2.getNumInliers());
+
+        // Force IllegalArgumentException
+        assertThrows(IllegalArgumentException.class, () -> new CompactInliersData(inliers, residuals, 6));
+    }
+
+    @Test
+    void testFrom() {
+        final var inliers = new BitSet();
+        inliers.set(1);
+        inliers.set(3);
+        final var values = new double[]{1.0, 0.1, 2.0, 0.2, 3.0};
+        final var inliersData = new InliersData() {
+            {
+                residuals = values;
+                numInliers = 2;
+            }
+
+            @Override
+            public BitSet getInliers() {
+                return inliers;
+            }
+        };
+
+        final var data = CompactInliersData.from(inliersData, 5, true);
+
+        assertSame(inliers, data.getInliers());
+        assertEquals(5, data.getNumMeasurements());
+        assertEquals(2, data.getNumInliers());
+        final var floatResiduals = data.getResiduals();
+        assertEquals(5, floatResiduals.length);
+        for (var i = 0; i < 5; i++) {
+            assertEquals((float) values[i], floatResiduals[i], 0.0f);
+        }
+
+        // drop residuals
+        final var data2 = CompactInliersData.from(inliersData, 5, false);
+
+        assertSame(inliers, data2.getInliers());
+        assertNull(data2.getResiduals());
+        assertEquals(2, data2.getNumInliers());
+    }
+
+    @Test
+    void testIsInlier() {
+        final var inliers = new BitSet();
+        inliers.set(1);
+        inliers.set(3);
+
+        final var data = new CompactInliersData(inliers, 5);
+
+        assertFalse(data.isInlier(0));
+        assertTrue(data.isInlier(1));
+        assertFalse(data.isInlier(2));
+        assertTrue(data.isInlier(3));
+        assertFalse(data.isInlier(4));
+
+        // Force IndexOutOfBoundsException
+        assertThrows(IndexOutOfBoundsException.class, () -> data.isInlier(-1));
+        assertThrows(IndexOutOfBoundsException.class, () -> data.isInlier(5));
+    }
+}
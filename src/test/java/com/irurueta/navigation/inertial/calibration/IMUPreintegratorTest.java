@@ -0,0 +1,434 @@
+/*
+ * Copyright (C) 2026 Alberto Irurueta Carro (alberto@irurueta.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.irurueta.navigation.inertial.calibration;
+
+import com.irurueta.algebra.Matrix;
+import com.irurueta.algebra.WrongSizeException;
+import com.irurueta.geometry.InhomogeneousPoint3D;
+import com.irurueta.geometry.Quaternion;
+import com.irurueta.geometry.RotationException;
+import com.irurueta.navigation.inertial.BodyKinematics;
+import com.irurueta.navigation.inertial.calibration.gyroscope.QuaternionStepIntegratorType;
+import com.irurueta.statistics.UniformRandomizer;
+import com.irurueta.units.AccelerationUnit;
+import com.irurueta.units.AngularSpeedUnit;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class IMUPreintegratorTest {
+
+    private static final double TIME_INTERVAL_SECONDS = 0.005;
+
+    private static final int N_SAMPLES = 200;
+
+    private static final double MIN_SPECIFIC_FORCE = -12.0;
+    private static final double MAX_SPECIFIC_FORCE = 12.0;
+
+    private static final double MIN_ANGULAR_RATE_DEGREES_PER_SECOND = -30.0;
+    private static final double MAX_ANGULAR_RATE_DEGREES_PER_SECOND = 30.0;
+
+    private static final double MIN_ACCELEROMETER_BIAS = -0.05;
+    private static final double MAX_ACCELEROMETER_BIAS = 0.05;
+
+    private static final double MIN_GYRO_BIAS = -Math.toRadians(0.5);
+    private static final double MAX_GYRO_BIAS = Math.toRadians(0.5);
+
+    private static final double ACCELEROMETER_NOISE_ROOT_PSD = 1e-3;
+    private static final double GYRO_NOISE_ROOT_PSD = 1e-4;
+
+    private static final double MOTION_FREQUENCY = 2.0 * Math.PI * 0.5;
+
+    private static final double FEET_TO_METERS = 0.3048;
+
+    private static final double ABSOLUTE_ERROR = 1e-12;
+
+    private static final double SMALL_ABSOLUTE_ERROR = 1e-6;
+
+    private static final double CORRECTION_IMPROVEMENT = 50.0;
+
+    @Test
+    void testConstructor() throws WrongSizeException {
+        // test empty constructor
+        var preintegrator = new IMUPreintegrator();
+
+        // check default values
+        assertEquals(IMUPreintegrator.DEFAULT_QUATERNION_STEP_INTEGRATOR_TYPE,
+                preintegrator.getQuaternionStepIntegratorType());
+        assertEquals(0.0, preintegrator.getAccelerometerNoiseRootPsd(), 0.0);
+        assertEquals(0.0, preintegrator.getGyroNoiseRootPsd(), 0.0);
+        assertArrayEquals(new double[3], preintegrator.getAccelerometerBias(), 0.0);
+        assertArrayEquals(new double[3], preintegrator.getGyroBias(), 0.0);
+        assertEquals(0.0, preintegrator.getDeltaTime(), 0.0);
+        assertEquals(0, preintegrator.getNumberOfSamples());
+        assertEquals(new Quaternion(), preintegrator.getDeltaRotation());
+        assertArrayEquals(new double[3], preintegrator.getDeltaVelocity(), 0.0);
+        assertArrayEquals(new double[3], preintegrator.getDeltaPosition(), 0.0);
+        final var zero3 = new Matrix(3, 3);
+        assertEquals(zero3, preintegrator.getRotationGyroBiasJacobian());
+        assertEquals(zero3, preintegrator.getVelocityAccelerometerBiasJacobian());
+        assertEquals(zero3, preintegrator.getVelocityGyroBiasJacobian());
+        assertEquals(zero3, preintegrator.getPositionAccelerometerBiasJacobian());
+        assertEquals(zero3, preintegrator.getPositionGyroBiasJacobian());
+        final var zero9 = new Matrix(IMUPreintegrator.STATE_LENGTH, IMUPreintegrator.STATE_LENGTH);
+        assertEquals(zero9, preintegrator.getCovariance());
+
+        // test constructor with noise values
+        preintegrator = new IMUPreintegrator(ACCELEROMETER_NOISE_ROOT_PSD, GYRO_NOISE_ROOT_PSD);
+
+        // check default values
+        assertEquals(ACCELEROMETER_NOISE_ROOT_PSD, preintegrator.getAccelerometerNoiseRootPsd(), 0.0);
+        assertEquals(GYRO_NOISE_ROOT_PSD, preintegrator.getGyroNoiseRootPsd(), 0.0);
+
+        // Force IllegalArgumentException
+        assertThrows(IllegalArgumentException.class, () -> new IMUPreintegrator(-1.0, GYRO_NOISE_ROOT_PSD));
+        assertThrows(IllegalArgumentException.class, () -> new IMUPreintegrator(ACCELEROMETER_NOISE_ROOT_PSD,
+                -1.0));
+
+        // test constructor with IMU errors
+        final var errors = new IMUErrors();
+        errors.setAccelerometerNoiseRootPSD(ACCELEROMETER_NOISE_ROOT_PSD);
+        errors.setGyroNoiseRootPSD(GYRO_NOISE_ROOT_PSD);
+        preintegrator = new IMUPreintegrator(errors);
+
+        // check default values
+        assertEquals(ACCELEROMETER_NOISE_ROOT_PSD, preintegrator.getAccelerometerNoiseRootPsd(), 0.0);
+        assertEquals(GYRO_NOISE_ROOT_PSD, preintegrator.getGyroNoiseRootPsd(), 0.0);
+    }
+
+    @Test
+    void testGetSetQuaternionStepIntegratorType() {
+        final var preintegrator = new IMUPreintegrator();
+
+        // check default value
+        assertEquals(QuaternionStepIntegratorType.RUNGE_KUTTA, preintegrator.getQuaternionStepIntegratorType());
+
+        // set new value
+        preintegrator.setQuaternionStepIntegratorType(QuaternionStepIntegratorType.SUH);
+
+        // check
+        assertEquals(QuaternionStepIntegratorType.SUH, preintegrator.getQuaternionStepIntegratorType());
+    }
+
+    @Test
+    void testGetSetNoiseRootPsd() {
+        final var preintegrator = new IMUPreintegrator();
+
+        // set new values
+        preintegrator.setAccelerometerNoiseRootPsd(ACCELEROMETER_NOISE_ROOT_PSD);
+        preintegrator.setGyroNoiseRootPsd(GYRO_NOISE_ROOT_PSD);
+
+        // check
+        assertEquals(ACCELEROMETER_NOISE_ROOT_PSD, preintegrator.getAccelerometerNoiseRootPsd(), 0.0);
+        assertEquals(GYRO_NOISE_ROOT_PSD, preintegrator.getGyroNoiseRootPsd(), 0.0);
+
+        // Force IllegalArgumentException
+        assertThrows(IllegalArgumentException.class, () -> preintegrator.setAccelerometerNoiseRootPsd(-1.0));
+        assertThrows(IllegalArgumentException.class, () -> preintegrator.setGyroNoiseRootPsd(-1.0));
+    }
+
+    @Test
+    void testSetBiases() throws RotationException {
+        final var preintegrator = new IMUPreintegrator();
+        preintegrator.addKinematics(new BodyKinematics(1.0, 2.0, 3.0, 0.1, 0.2, 0.3),
+                TIME_INTERVAL_SECONDS);
+        assertEquals(1, preintegrator.getNumberOfSamples());
+
+        // set new values
+        preintegrator.setBiases(0.1, 0.2, 0.3, 0.01, 0.02, 0.03);
+
+        // check
+        assertArrayEquals(new double[]{0.1, 0.2, 0.3}, preintegrator.getAccelerometerBias(), 0.0);
+        assertArrayEquals(new double[]{0.01, 0.02, 0.03}, preintegrator.getGyroBias(), 0.0);
+        assertEquals(0, preintegrator.getNumberOfSamples());
+
+        // set triads
+        preintegrator.setBiases(new AccelerationTriad(AccelerationUnit.FEET_PER_SQUARED_SECOND,
+                        0.1 / FEET_TO_METERS, 0.2 / FEET_TO_METERS, 0.3 / FEET_TO_METERS),
+                new AngularSpeedTriad(AngularSpeedUnit.DEGREES_PER_SECOND, 1.0, 2.0, 3.0));
+
+        // check
+        final var ba = new double[3];
+        preintegrator.getAccelerometerBias(ba);
+        assertArrayEquals(new double[]{0.1, 0.2, 0.3}, ba, ABSOLUTE_ERROR);
+        final var bg = new double[3];
+        preintegrator.getGyroBias(bg);
+        assertArrayEquals(new double[]{Math.toRadians(1.0), Math.toRadians(2.0), Math.toRadians(3.0)}, bg,
+                ABSOLUTE_ERROR);
+
+        // Force IllegalArgumentException
+        assertThrows(IllegalArgumentException.class, () -> preintegrator.getAccelerometerBias(new double[2]));
+        assertThrows(IllegalArgumentException.class, () -> preintegrator.getGyroBias(new double[4]));
+    }
+
+    @Test
+    void testAddKinematicsConstant() throws RotationException {
+        final var randomizer = new UniformRandomizer();
+        final var kinematics = generateKinematics(randomizer);
+
+        final var preintegrator = new IMUPreintegrator();
+        for (var i = 0; i < N_SAMPLES; i++) {
+            preintegrator.addKinematics(kinematics, TIME_INTERVAL_SECONDS);
+        }
+
+        final var t = N_SAMPLES * TIME_INTERVAL_SECONDS;
+        assertEquals(N_SAMPLES, preintegrator.getNumberOfSamples());
+        assertEquals(t, preintegrator.getDeltaTime(), SMALL_ABSOLUTE_ERROR);
+
+        // rotation with constant angular rate
+        final var expectedRotation = new Quaternion();
+        Quaternion.rotationVectorToQuaternion(new double[]{kinematics.getAngularRateX() * t,
+                kinematics.getAngularRateY() * t, kinematics.getAngularRateZ() * t}, expectedRotation);
+        final var rotation = new Quaternion();
+        preintegrator.getDeltaRotation(rotation);
+        assertEquals(0.0, rotationDistance(expectedRotation, rotation), SMALL_ABSOLUTE_ERROR);
+
+        // reference velocity and position using a fine integration
+        final var reference = integrate(new double[]{kinematics.getFx(), kinematics.getFy(), kinematics.getFz()},
+                new double[]{kinematics.getAngularRateX(), kinematics.getAngularRateY(),
+                        kinematics.getAngularRateZ()}, t);
+
+        final var velocity = new double[3];
+        preintegrator.getDeltaVelocity(velocity);
+        final var position = new double[3];
+        preintegrator.getDeltaPosition(position);
+        final var velocityNorm = norm(reference[0]);
+        final var positionNorm = norm(reference[1]);
+        assertTrue(distance(reference[0], velocity) < 1e-2 * velocityNorm);
+        assertTrue(distance(reference[1], position) < 1e-2 * positionNorm);
+
+        // reset
+        preintegrator.reset();
+        assertEquals(0, preintegrator.getNumberOfSamples());
+        assertEquals(0.0, preintegrator.getDeltaTime(), 0.0);
+        assertArrayEquals(new double[3], preintegrator.getDeltaVelocity(), 0.0);
+        assertArrayEquals(new double[3], preintegrator.getDeltaPosition(), 0.0);
+
+        // Force IllegalArgumentException
+        assertThrows(IllegalArgumentException.class, () -> preintegrator.addKinematics(kinematics, -1.0));
+        assertThrows(IllegalArgumentException.class, () -> preintegrator.getDeltaVelocity(new double[2]));
+        assertThrows(IllegalArgumentException.class, () -> preintegrator.getDeltaPosition(new double[2]));
+    }
+
+    @Test
+    void testBiasCorrection() throws RotationException, WrongSizeException {
+        final var randomizer = new UniformRandomizer();
+
+        // linearization biases
+        final var ba0 = generateAccelerometerBias(randomizer);
+        final var bg0 = generateGyroBias(randomizer);
+
+        // updated biases
+        final var ba1 = new double[3];
+        final var bg1 = new double[3];
+        for (var i = 0; i < 3; i++) {
+            ba1[i] = ba0[i] + 0.1 * randomizer.nextDouble(MIN_ACCELEROMETER_BIAS, MAX_ACCELEROMETER_BIAS);
+            bg1[i] = bg0[i] + 0.1 * randomizer.nextDouble(MIN_GYRO_BIAS, MAX_GYRO_BIAS);
+        }
+
+        final var samples = generateSamples(randomizer);
+
+        final var preintegrator0 = new IMUPreintegrator();
+        preintegrator0.setBiases(ba0[0], ba0[1], ba0[2], bg0[0], bg0[1], bg0[2]);
+        final var preintegrator1 = new IMUPreintegrator();
+        preintegrator1.setBiases(ba1[0], ba1[1], ba1[2], bg1[0], bg1[1], bg1[2]);
+        for (final var sample : samples) {
+            preintegrator0.addKinematics(sample, TIME_INTERVAL_SECONDS);
+            preintegrator1.addKinematics(sample, TIME_INTERVAL_SECONDS);
+        }
+
+        // first-order corrections must be much closer to re-integrated increments than
+        // uncorrected ones
+        final var correctedVelocity = new double[3];
+        preintegrator0.getCorrectedDeltaVelocity(ba1[0], ba1[1], ba1[2], bg1[0], bg1[1], bg1[2],
+                correctedVelocity);
+        final var correctedPosition = new double[3];
+        preintegrator0.getCorrectedDeltaPosition(ba1[0], ba1[1], ba1[2], bg1[0], bg1[1], bg1[2],
+                correctedPosition);
+        final var correctedRotation = new Quaternion();
+        preintegrator0.getCorrectedDeltaRotation(bg1[0], bg1[1], bg1[2], correctedRotation);
+
+        final var expectedVelocity = preintegrator1.getDeltaVelocity();
+        final var expectedPosition = preintegrator1.getDeltaPosition();
+        final var expectedRotation = preintegrator1.getDeltaRotation();
+
+        assertTrue(distance(expectedVelocity, preintegrator0.getDeltaVelocity())
+                > CORRECTION_IMPROVEMENT * distance(expectedVelocity, correctedVelocity));
+        assertTrue(distance(expectedPosition, preintegrator0.getDeltaPosition())
+                > CORRECTION_IMPROVEMENT * distance(expectedPosition, correctedPosition));
+        assertTrue(rotationDistance(expectedRotation, preintegrator0.getDeltaRotation())
+                > CORRECTION_IMPROVEMENT * rotationDistance(expectedRotation, correctedRotation));
+
+        // correcting with linearization biases has no effect
+        preintegrator0.getCorrectedDeltaVelocity(ba0[0], ba0[1], ba0[2], bg0[0], bg0[1], bg0[2],
+                correctedVelocity);
+        assertArrayEquals(preintegrator0.getDeltaVelocity(), correctedVelocity, 0.0);
+        preintegrator0.getCorrectedDeltaPosition(ba0[0], ba0[1], ba0[2], bg0[0], bg0[1], bg0[2],
+                correctedPosition);
+        assertArrayEquals(preintegrator0.getDeltaPosition(), correctedPosition, 0.0);
+
+        // velocity Jacobian respect accelerometer bias is -integral of rotation
+        final var jacobian = new Matrix(1, 1);
+        preintegrator0.getVelocityAccelerometerBiasJacobian(jacobian);
+        assertEquals(3, jacobian.getRows());
+        assertEquals(3, jacobian.getColumns());
+        assertTrue(jacobian.getElementAt(0, 0) < 0.0);
+
+        // Force IllegalArgumentException
+        assertThrows(IllegalArgumentException.class, () -> preintegrator0.getCorrectedDeltaVelocity(
+                0.0, 0.0, 0.0, 0.0, 0.0, 0.0, new double[2]));
+        assertThrows(IllegalArgumentException.class, () -> preintegrator0.getCorrectedDeltaPosition(
+                0.0, 0.0, 0.0, 0.0, 0.0, 0.0, new double[2]));
+    }
+
+    @Test
+    void testCovariance() throws RotationException, WrongSizeException {
+        final var randomizer = new UniformRandomizer();
+        final var samples = generateSamples(randomizer);
+
+        // without noise covariance remains zero
+        final var noiseless = new IMUPreintegrator();
+        for (final var sample : samples) {
+            noiseless.addKinematics(sample, TIME_INTERVAL_SECONDS);
+        }
+        assertEquals(new Matrix(IMUPreintegrator.STATE_LENGTH, IMUPreintegrator.STATE_LENGTH),
+                noiseless.getCovariance());
+
+        final var preintegrator = new IMUPreintegrator(ACCELEROMETER_NOISE_ROOT_PSD, GYRO_NOISE_ROOT_PSD);
+        var previousTrace = 0.0;
+        for (final var sample : samples) {
+            preintegrator.addKinematics(sample, TIME_INTERVAL_SECONDS);
+
+            final var cov = preintegrator.getCovariance();
+            final var trace = getTrace(cov);
+            assertTrue(trace > previousTrace);
+            previousTrace = trace;
+        }
+
+        final var cov = preintegrator.getCovariance();
+        assertEquals(IMUPreintegrator.STATE_LENGTH, cov.getRows());
+        assertEquals(IMUPreintegrator.STATE_LENGTH, cov.getColumns());
+        assertTrue(cov.equals(cov.transposeAndReturnNew(), ABSOLUTE_ERROR));
+
+        // rotation variance grows approximately as gyroscope random walk
+        final var t = preintegrator.getDeltaTime();
+        final var expectedRotationVariance = GYRO_NOISE_ROOT_PSD * GYRO_NOISE_ROOT_PSD * t;
+        for (var i = 0; i < 3; i++) {
+            assertEquals(expectedRotationVariance, cov.getElementAt(i, i), 0.1 * expectedRotationVariance);
+        }
+    }
+
+    private static BodyKinematics generateKinematics(final UniformRandomizer randomizer) {
+        final var fx = randomizer.nextDouble(MIN_SPECIFIC_FORCE, MAX_SPECIFIC_FORCE);
+        final var fy = randomizer.nextDouble(MIN_SPECIFIC_FORCE, MAX_SPECIFIC_FORCE);
+        final var fz = randomizer.nextDouble(MIN_SPECIFIC_FORCE, MAX_SPECIFIC_FORCE);
+        final var angularRateX = Math.toRadians(randomizer.nextDouble(MIN_ANGULAR_RATE_DEGREES_PER_SECOND,
+                MAX_ANGULAR_RATE_DEGREES_PER_SECOND));
+        final var angularRateY = Math.toRadians(randomizer.nextDouble(MIN_ANGULAR_RATE_DEGREES_PER_SECOND,
+                MAX_ANGULAR_RATE_DEGREES_PER_SECOND));
+        final var angularRateZ = Math.toRadians(randomizer.nextDouble(MIN_ANGULAR_RATE_DEGREES_PER_SECOND,
+                MAX_ANGULAR_RATE_DEGREES_PER_SECOND));
+        return new BodyKinematics(fx, fy, fz, angularRateX, angularRateY, angularRateZ);
+    }
+
+    private static BodyKinematics[] generateSamples(final UniformRandomizer randomizer) {
+        final var base = generateKinematics(randomizer);
+        final var samples = new BodyKinematics[N_SAMPLES];
+        for (var i = 0; i < N_SAMPLES; i++) {
+            final var s = Math.sin(MOTION_FREQUENCY * i * TIME_INTERVAL_SECONDS);
+            final var c = Math.cos(MOTION_FREQUENCY * i * TIME_INTERVAL_SECONDS);
+            samples[i] = new BodyKinematics(base.getFx() * c, base.getFy() * s, base.getFz(),
+                    base.getAngularRateX() * s, base.getAngularRateY() * c, base.getAngularRateZ());
+        }
+        return samples;
+    }
+
+    private static double[] generateAccelerometerBias(final UniformRandomizer randomizer) {
+        return new double[]{
+                randomizer.nextDouble(MIN_ACCELEROMETER_BIAS, MAX_ACCELEROMETER_BIAS),
+                randomizer.nextDouble(MIN_ACCELEROMETER_BIAS, MAX_ACCELEROMETER_BIAS),
+                randomizer.nextDouble(MIN_ACCELEROMETER_BIAS, MAX_ACCELEROMETER_BIAS)};
+    }
+
+    private static double[] generateGyroBias(final UniformRandomizer randomizer) {
+        return new double[]{
+                randomizer.nextDouble(MIN_GYRO_BIAS, MAX_GYRO_BIAS),
+                randomizer.nextDouble(MIN_GYRO_BIAS, MAX_GYRO_BIAS),
+                randomizer.nextDouble(MIN_GYRO_BIAS, MAX_GYRO_BIAS)};
+    }
+
+    private static double[][] integrate(final double[] f, final double[] w, final double t) {
+        final var steps = 100000;
+        final var h = t / steps;
+        final var q = new Quaternion();
+        final var stepQ = new Quaternion();
+        final var tmpQ = new Quaternion();
+        Quaternion.rotationVectorToQuaternion(new double[]{w[0] * h, w[1] * h, w[2] * h}, stepQ);
+        final var halfStepQ = new Quaternion();
+        Quaternion.rotationVectorToQuaternion(new double[]{w[0] * h / 2, w[1] * h / 2, w[2] * h / 2}, halfStepQ);
+        final var point = new InhomogeneousPoint3D(f[0], f[1], f[2]);
+        final var rotated = new InhomogeneousPoint3D();
+        final var v = new double[3];
+        final var p = new double[3];
+        for (var i = 0; i < steps; i++) {
+            // rotation at mid-point of step
+            Quaternion.product(q, halfStepQ, tmpQ);
+            tmpQ.rotate(point, rotated);
+            final var ax = rotated.getInhomX();
+            final var ay = rotated.getInhomY();
+            final var az = rotated.getInhomZ();
+            p[0] += v[0] * h + 0.5 * ax * h * h;
+            p[1] += v[1] * h + 0.5 * ay * h * h;
+            p[2] += v[2] * h + 0.5 * az * h * h;
+            v[0] += ax * h;
+            v[1] += ay * h;
+            v[2] += az * h;
+
+            Quaternion.product(q, stepQ, tmpQ);
+            q.fromQuaternion(tmpQ);
+        }
+        return new double[][]{v, p};
+    }
+
+    private static double rotationDistance(final Quaternion q1, final Quaternion q2) {
+        final var inv = q1.inverseAndReturnNew();
+        final var diff = new Quaternion();
+        Quaternion.product(inv, q2, diff);
+        diff.normalize();
+        final var v = new double[3];
+        diff.toRotationVector(v);
+        return norm(v);
+    }
+
+    private static double getTrace(final Matrix m) {
+        var result = 0.0;
+        for (var i = 0; i < m.getRows(); i++) {
+            result += m.getElementAt(i, i);
+        }
+        return result;
+    }
+
+    private static double norm(final double[] v) {
+        return Math.sqrt(v[0] * v[0] + v[1] * v[1] + v[2] * v[2]);
+    }
+
+    private static double distance(final double[] a, final double[] b) {
+        final var dx = a[0] - b[0];
+        final var dy = a[1] - b[1];
+        final var dz = a[2] - b[2];
+        return Math.sqrt(dx * dx + dy * dy + dz * dz);
+    }
+}
@@ -0,0 +1,97 @@
+/*
+ * Copyright (C) 2026 Alberto Irurueta Carro (alberto@irurueta.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.irurueta.navigation.inertial.calibration;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.NoSuchElementException;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class InlierMeasurementsViewTest {
+
+    private static final int NUM_MEASUREMENTS = 10;
+
+    @Test
+    void testConstructor() {
+        final var measurements = new ArrayList<Integer>();
+        for (var i = 0; i < NUM_MEASUREMENTS; i++) {
+            measurements.add(i);
+        }
+        final var inliers = new BitSet();
+        inliers.set(0);
+        inliers.set(4);
+        inliers.set(NUM_MEASUREMENTS - 1);
+
+        final var view = new InlierMeasurementsView<>(measurements, inliers);
+
+        assertEquals(3, view.size());
+        assertFalse(view.isEmpty());
+
+        // Force IllegalArgumentException
+        assertThrows(IllegalArgumentException.class,
+                () -> new InlierMeasurementsView<>(measurements.subList(0, 5), inliers));
+    }
+
+    @Test
+    void testIterator() {
+        final var measurements = new ArrayList<Integer>();
+        for (var i = 0; i < NUM_MEASUREMENTS; i++) {
+            measurements.add(i);
+        }
+        final var inliers = new BitSet();
+        for (var i = 0; i < NUM_MEASUREMENTS; i += 3) {
+            inliers.set(i);
+        }
+
+        final var view = new InlierMeasurementsView<>(measurements, inliers);
+
+        final var expected = new ArrayList<Integer>();
+        for (var i = 0; i < NUM_MEASUREMENTS; i += 3) {
+            expected.add(i);
+        }
+        assertEquals(expected, new ArrayList<>(view));
+
+        // measurements are not copied
+        for (final var measurement : view) {
+            assertSame(measurements.get(measurement), measurement);
+        }
+
+        final var iterator = view.iterator();
+        while (iterator.hasNext()) {
+            iterator.next();
+        }
+        assertThrows(NoSuchElementException.class, iterator::next);
+
+        // view is read only
+        assertThrows(UnsupportedOperationException.class, () -> view.add(1));
+        assertThrows(UnsupportedOperationException.class, () -> view.iterator().remove());
+    }
+
+    @Test
+    void testEmpty() {
+        final var measurements = new ArrayList<Integer>();
+        measurements.add(1);
+
+        final var view = new InlierMeasurementsView<>(measurements, new BitSet());
+
+        assertEquals(0, view.size());
+        assertTrue(view.isEmpty());
+        assertFalse(view.iterator().hasNext());
+    }
+}
@@ -18,6 +18,7 @@ package com.irurueta.navigation.inertial.calibration;
 import com.irurueta.algebra.AlgebraException;
 import com.irurueta.algebra.Matrix;
 import com.irurueta.algebra.WrongSizeException;
+import com.irurueta.navigation.NotReadyException;
 import com.irurueta.navigation.frames.CoordinateTransformation;
 import com.irurueta.navigation.frames.FrameType;
 import com.irurueta.navigation.frames.NEDPosition;
@@ -1593,6 +1594,50 @@ class MagneticFluxDensityFixerTest {
                 sx, sy, sz, mxy, mxz, myx, myz, mzx, mzy, m2));
     }
 
+    @Test
+    void testFixBatch() throws AlgebraException {
+        final var randomizer = new UniformRandomizer();
+        final var fixer = new MagneticFluxDensityFixer();
+        fixer.setBias(generateHardIron(randomizer));
+        fixer.setCrossCouplingErrors(generateSoftIronGeneral());
+
+        final var length = 17;
+        final var offset = 2;
+        final var bx = new double[offset + length + 1];
+        final var by = new double[bx.length];
+        final var bz = new double[bx.length];
+        randomizer.fill(bx, MIN_HARD_IRON, MAX_HARD_IRON);
+        randomizer.fill(by, MIN_HARD_IRON, MAX_HARD_IRON);
+        randomizer.fill(bz, MIN_HARD_IRON, MAX_HARD_IRON);
+
+        final var measuredX = bx.clone();
+        final var measuredY = by.clone();
+        final var measuredZ = bz.clone();
+
+        fixer.fix(bx, by, bz, offset, length);
+
+        // check
+        final var expected = new double[BodyMagneticFluxDensity.COMPONENTS];
+        for (var i = 0; i < bx.length; i++) {
+            if (i < offset || i >= offset + length) {
+                // values out of range are left untouched
+                assertEquals(measuredX[i], bx[i], 0.0);
+                assertEquals(measuredY[i], by[i], 0.0);
+                assertEquals(measuredZ[i], bz[i], 0.0);
+            } else {
+                fixer.fix(new double[]{measuredX[i], measuredY[i], measuredZ[i]}, expected);
+                assertEquals(expected[0], bx[i], ABSOLUTE_ERROR);
+                assertEquals(expected[1], by[i], ABSOLUTE_ERROR);
+                assertEquals(expected[2], bz[i], ABSOLUTE_ERROR);
+            }
+        }
+
+        // Force IndexOutOfBoundsException
+        assertThrows(IndexOutOfBoundsException.class, () -> fixer.fix(bx, by, bz, -1, length));
+        assertThrows(IndexOutOfBoundsException.class, () -> fixer.fix(bx, by, bz, offset, bx.length));
+        assertThrows(IndexOutOfBoundsException.class, () -> fixer.fix(bx, by, new double[1], offset, length));
+    }
+
     @Test
     void testFixAndReturnNew1() throws AlgebraException, IOException {
         final var fixer = new MagneticFluxDensityFixer();
@@ -2060,6 +2105,45 @@ class MagneticFluxDensityFixerTest {
     }
 
 
+    @Test
+    void testFixAtTemperature() throws NotReadyException, AlgebraException {
+        final var fixer = new MagneticFluxDensityFixer();
+
+        // check default value
+        assertNull(fixer.getTemperatureCalibrationTable());
+
+        final var randomizer = new UniformRandomizer();
+        fixer.setBias(generateHardIron(randomizer));
+        fixer.setCrossCouplingErrors(generateSoftIronGeneral());
+
+        final var bx = randomizer.nextDouble(MIN_HARD_IRON, MAX_HARD_IRON);
+        final var by = randomizer.nextDouble(MIN_HARD_IRON, MAX_HARD_IRON);
+        final var bz = randomizer.nextDouble(MIN_HARD_IRON, MAX_HARD_IRON);
+        final var temperature = randomizer.nextDouble(0.0, 40.0);
+
+        // without table, last provided bias and cross coupling errors are used
+        final var expected = new double[3];
+        final var result = new double[3];
+        fixer.fix(bx, by, bz, expected);
+        fixer.fixAtTemperature(temperature, bx, by, bz, result);
+        assertArrayEquals(expected, result, 0.0);
+
+        // set new value
+        final var table = TemperatureCalibrationTableTest.createTable();
+        fixer.setTemperatureCalibrationTable(table);
+
+        // check
+        assertSame(table, fixer.getTemperatureCalibrationTable());
+
+        table.fixMagneticFluxDensity(temperature, bx, by, bz, expected);
+        fixer.fixAtTemperature(temperature, bx, by, bz, result);
+        assertArrayEquals(expected, result, 0.0);
+
+        // Force IllegalArgumentException
+        assertThrows(IllegalArgumentException.class,
+                () -> fixer.fixAtTemperature(temperature, bx, by, bz, new double[1]));
+    }
+
     private static CoordinateTransformation generateBodyC(final UniformRandomizer randomizer) {
         final var roll = Math.toRadians(randomizer.nextDouble(MIN_ANGLE_DEGREES, MAX_ANGLE_DEGREES));
         final var pitch = Math.toRadians(randomizer.nextDouble(MIN_ANGLE_DEGREES, MAX_ANGLE_DEGREES));
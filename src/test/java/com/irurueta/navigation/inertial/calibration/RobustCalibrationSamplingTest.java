@@ -0,0 +1,254 @@
+/*
+ * Copyright (C) 2026 Alberto Irurueta Carro (alberto@irurueta.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.irurueta.navigation.inertial.calibration;
+
+import com.irurueta.numerical.robust.InliersData;
+import com.irurueta.numerical.robust.LMedSRobustEstimator;
+import com.irurueta.numerical.robust.LMedSRobustEstimatorListener;
+import com.irurueta.numerical.robust.RobustEstimator;
+import com.irurueta.numerical.robust.RobustEstimatorException;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RobustCalibrationSamplingTest {
+
+    private static final int NUM_MEASUREMENTS = 1003;
+
+    private static final int SAMPLE_SIZE = 100;
+
+    private static final double THRESHOLD = 0.5;
+
+    private static final int TIMES = 50;
+
+    @Test
+    void testStratifiedSample() {
+        final var random = new Random();
+        for (var t = 0; t < TIMES; t++) {
+            final var sample = RobustCalibrationSampling.stratifiedSample(NUM_MEASUREMENTS, SAMPLE_SIZE, random);
+
+            // each sample belongs to its own stratum
+            assertEquals(SAMPLE_SIZE, sample.length);
+            for (var i = 0; i < SAMPLE_SIZE; i++) {
+                assertTrue(sample[i] >= i * NUM_MEASUREMENTS / SAMPLE_SIZE);
+                assertTrue(sample[i] < (i + 1) * NUM_MEASUREMENTS / SAMPLE_SIZE);
+                if (i > 0) {
+                    assertTrue(sample[i] > sample[i - 1]);
+                }
+            }
+        }
+
+        // when all measurements are sampled, each one is taken once
+        final var sample = RobustCalibrationSampling.stratifiedSample(SAMPLE_SIZE, SAMPLE_SIZE, random);
+        for (var i = 0; i < SAMPLE_SIZE; i++) {
+            assertEquals(i, sample[i]);
+        }
+
+        // Force IllegalArgumentException
+        assertThrows(IllegalArgumentException.class,
+                () -> RobustCalibrationSampling.stratifiedSample(NUM_MEASUREMENTS, 0, random));
+        assertThrows(IllegalArgumentException.class,
+                () -> RobustCalibrationSampling.stratifiedSample(SAMPLE_SIZE, SAMPLE_SIZE + 1, random));
+    }
+
+    @Test
+    void testSetupScoringSamples() {
+        assertNull(RobustCalibrationSampling.setupScoringSamples(false, NUM_MEASUREMENTS, SAMPLE_SIZE));
+        assertNull(RobustCalibrationSampling.setupScoringSamples(true, SAMPLE_SIZE, SAMPLE_SIZE));
+
+        final var scoringIndices = RobustCalibrationSampling.setupScoringSamples(true, NUM_MEASUREMENTS,
+                SAMPLE_SIZE);
+        assertEquals(SAMPLE_SIZE, scoringIndices.length);
+        assertEquals(SAMPLE_SIZE, RobustCalibrationSampling.getScoringSamples(NUM_MEASUREMENTS, scoringIndices));
+        assertEquals(NUM_MEASUREMENTS, RobustCalibrationSampling.getScoringSamples(NUM_MEASUREMENTS, null));
+    }
+
+    @Test
+    void testGetScoringMeasurement() {
+        final var measurements = new ArrayList<Integer>();
+        for (var i = 0; i < NUM_MEASUREMENTS; i++) {
+            measurements.add(i);
+        }
+        final var scoringIndices = RobustCalibrationSampling.stratifiedSample(NUM_MEASUREMENTS, SAMPLE_SIZE,
+                new Random());
+
+        for (var i = 0; i < SAMPLE_SIZE; i++) {
+            assertEquals(scoringIndices[i],
+                    RobustCalibrationSampling.getScoringMeasurement(measurements, scoringIndices, i));
+            assertEquals(i, RobustCalibrationSampling.getScoringMeasurement(measurements, null, i));
+        }
+    }
+
+    @Test
+    void testSampleQualityScores() {
+        final var qualityScores = new double[NUM_MEASUREMENTS];
+        for (var i = 0; i < NUM_MEASUREMENTS; i++) {
+            qualityScores[i] = 1.0 / (i + 1);
+        }
+        final var scoringIndices = RobustCalibrationSampling.stratifiedSample(NUM_MEASUREMENTS, SAMPLE_SIZE,
+                new Random());
+
+        final var result = RobustCalibrationSampling.sampleQualityScores(qualityScores, scoringIndices);
+        assertEquals(SAMPLE_SIZE, result.length);
+        for (var i = 0; i < SAMPLE_SIZE; i++) {
+            assertEquals(qualityScores[scoringIndices[i]], result[i], 0.0);
+        }
+
+        assertSame(qualityScores, RobustCalibrationSampling.sampleQualityScores(qualityScores, null));
+        assertNull(RobustCalibrationSampling.sampleQualityScores(null, scoringIndices));
+    }
+
+    @Test
+    void testComputeCompactInliersData() {
+        final var inliers = new BitSet();
+        final var values = new double[NUM_MEASUREMENTS];
+        for (var i = 0; i < NUM_MEASUREMENTS; i++) {
+            values[i] = i % 3 == 0 ? 1.0 : 0.0;
+            inliers.set(i, i % 3 != 0);
+        }
+        final var inliersData = new InliersData() {
+            {
+                residuals = values;
+                numInliers = inliers.cardinality();
+            }
+
+            @Override
+            public BitSet getInliers() {
+                return inliers;
+            }
+        };
+
+        // sampled scoring verifies all measurements against best hypothesis
+        final var scoringIndices = RobustCalibrationSampling.stratifiedSample(NUM_MEASUREMENTS, SAMPLE_SIZE,
+                new Random());
+        final var data = RobustCalibrationSampling.computeCompactInliersData(NUM_MEASUREMENTS, scoringIndices,
+                i -> values[i], null, THRESHOLD, InliersDataStorage.FULL);
+        assertEquals(inliers, data.getInliers());
+        assertNull(data.getResiduals());
+
+        final var data2 = RobustCalibrationSampling.computeCompactInliersData(NUM_MEASUREMENTS, scoringIndices,
+                i -> values[i], null, THRESHOLD, InliersDataStorage.COMPACT_FLOAT_RESIDUALS);
+        assertEquals(inliers, data2.getInliers());
+        assertEquals(NUM_MEASUREMENTS, data2.getResiduals().length);
+
+        // without sampled scoring, inliers data is compacted when required
+        assertNull(RobustCalibrationSampling.computeCompactInliersData(NUM_MEASUREMENTS, null,
+                i -> values[i], inliersData, THRESHOLD, InliersDataStorage.FULL));
+
+        final var data3 = RobustCalibrationSampling.computeCompactInliersData(NUM_MEASUREMENTS, null,
+                i -> values[i], inliersData, THRESHOLD, InliersDataStorage.COMPACT_NO_RESIDUALS);
+        assertSame(inliers, data3.getInliers());
+        assertNull(data3.getResiduals());
+
+        assertNull(RobustCalibrationSampling.computeCompactInliersData(NUM_MEASUREMENTS, null,
+                i -> values[i], null, THRESHOLD, InliersDataStorage.COMPACT_NO_RESIDUALS));
+    }
+
+    @Test
+    void testVerify() {
+        final var data = RobustCalibrationSampling.verify(NUM_MEASUREMENTS, i -> i % 3 == 0 ? 1.0 : 0.0,
+                THRESHOLD, false);
+
+        assertEquals(NUM_MEASUREMENTS, data.getNumMeasurements());
+        assertEquals(NUM_MEASUREMENTS - (NUM_MEASUREMENTS + 2) / 3, data.getNumInliers());
+        assertNull(data.getResiduals());
+        for (var i = 0; i < NUM_MEASUREMENTS; i++) {
+            assertEquals(i % 3 != 0, data.isInlier(i));
+        }
+
+        // keep residuals
+        final var data2 = RobustCalibrationSampling.verify(NUM_MEASUREMENTS, i -> i % 3 == 0 ? 1.0 : 0.0,
+                THRESHOLD, true);
+
+        assertEquals(data.getInliers(), data2.getInliers());
+        final var residuals = data2.getResiduals();
+        assertEquals(NUM_MEASUREMENTS, residuals.length);
+        for (var i = 0; i < NUM_MEASUREMENTS; i++) {
+            assertEquals(i % 3 == 0 ? 1.0f : 0.0f, residuals[i], 0.0f);
+        }
+    }
+
+    @Test
+    void testGetInlierThreshold() throws RobustEstimatorException, com.irurueta.numerical.LockedException,
+            com.irurueta.numerical.NotReadyException {
+        assertEquals(THRESHOLD, RobustCalibrationSampling.getInlierThreshold(null, THRESHOLD), 0.0);
+
+        // estimate mean of values using LMedS, whose threshold is estimated from the
+        // median of residuals
+        final var random = new Random();
+        final var values = new double[NUM_MEASUREMENTS];
+        for (var i = 0; i < NUM_MEASUREMENTS; i++) {
+            values[i] = random.nextGaussian();
+        }
+        final var estimator = new LMedSRobustEstimator<>(new LMedSRobustEstimatorListener<Double>() {
+            @Override
+            public int getTotalSamples() {
+                return NUM_MEASUREMENTS;
+            }
+
+            @Override
+            public int getSubsetSize() {
+                return 1;
+            }
+
+            @Override
+            public void estimatePreliminarSolutions(final int[] samplesIndices, final List<Double> solutions) {
+                solutions.add(values[samplesIndices[0]]);
+            }
+
+            @Override
+            public double computeResidual(final Double currentEstimation, final int i) {
+                return Math.abs(values[i] - currentEstimation);
+            }
+
+            @Override
+            public boolean isReady() {
+                return true;
+            }
+
+            @Override
+            public void onEstimateStart(final RobustEstimator<Double> estimator) {
+                // no action needed
+            }
+
+            @Override
+            public void onEstimateEnd(final RobustEstimator<Double> estimator) {
+                // no action needed
+            }
+
+            @Override
+            public void onEstimateNextIteration(final RobustEstimator<Double> estimator, final int iteration) {
+                // no action needed
+            }
+
+            @Override
+            public void onEstimateProgressChange(final RobustEstimator<Double> estimator, final float progress) {
+                // no action needed
+            }
+        });
+        estimator.estimate();
+
+        final var inliersData = (LMedSRobustEstimator.LMedSInliersData) estimator.getInliersData();
+        assertEquals(inliersData.getEstimatedThreshold(),
+                RobustCalibrationSampling.getInlierThreshold(inliersData, THRESHOLD), 0.0);
+        assertNotEquals(THRESHOLD, inliersData.getEstimatedThreshold());
+    }
+}
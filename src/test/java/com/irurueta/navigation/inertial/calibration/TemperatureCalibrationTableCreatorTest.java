@@ -0,0 +1,219 @@
+/*
+ * Copyright (C) 2026 Alberto Irurueta Carro (alberto@irurueta.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.irurueta.navigation.inertial.calibration;
+
+import com.irurueta.algebra.AlgebraException;
+import com.irurueta.algebra.Matrix;
+import com.irurueta.navigation.NotReadyException;
+import com.irurueta.navigation.inertial.calibration.magnetometer.KnownFrameMagnetometerLinearLeastSquaresCalibrator;
+import com.irurueta.units.Temperature;
+import com.irurueta.units.TemperatureUnit;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TemperatureCalibrationTableCreatorTest {
+
+    private static final double ABSOLUTE_ERROR = 1e-12;
+
+    @Test
+    void testConstructor() {
+        final var creator = new TemperatureCalibrationTableCreator();
+
+        assertEquals(0, creator.getNumberOfBins());
+        assertFalse(creator.isReady());
+        assertThrows(NotReadyException.class, creator::create);
+    }
+
+    @Test
+    void testIsReady() throws NotReadyException, AlgebraException {
+        final var creator = new TemperatureCalibrationTableCreator();
+
+        creator.addAccelerometerCalibration(10.0, TemperatureCalibrationTableTest.generateBa(0.0),
+                TemperatureCalibrationTableTest.generateMa(0.0));
+        assertTrue(creator.isReady());
+
+        // gyroscope calibrated only at one of the bins
+        creator.addGyroscopeCalibration(30.0, TemperatureCalibrationTableTest.generateBg(1.0),
+                TemperatureCalibrationTableTest.generateMg(1.0), TemperatureCalibrationTableTest.generateGg(1.0));
+        assertEquals(2, creator.getNumberOfBins());
+        assertFalse(creator.isReady());
+        assertThrows(NotReadyException.class, creator::create);
+
+        creator.addAccelerometerCalibration(30.0, TemperatureCalibrationTableTest.generateBa(1.0),
+                TemperatureCalibrationTableTest.generateMa(1.0));
+        assertFalse(creator.isReady());
+
+        creator.addGyroscopeCalibration(10.0, TemperatureCalibrationTableTest.generateBg(0.0),
+                TemperatureCalibrationTableTest.generateMg(0.0), TemperatureCalibrationTableTest.generateGg(0.0));
+        assertTrue(creator.isReady());
+
+        final var table = creator.create();
+        assertEquals(2, table.getNumberOfBins());
+        assertTrue(table.isAccelerometerCalibrated());
+        assertTrue(table.isGyroCalibrated());
+        assertFalse(table.isMagnetometerCalibrated());
+
+        creator.clear();
+        assertEquals(0, creator.getNumberOfBins());
+        assertFalse(creator.isReady());
+    }
+
+    @Test
+    void testAddCalibrationWithTemperatureUnits() throws NotReadyException, AlgebraException {
+        final var creator = new TemperatureCalibrationTableCreator();
+
+        // 50ºF = 10ºC and 303.15K = 30ºC
+        final var low = new Temperature(50.0, TemperatureUnit.FAHRENHEIT);
+        final var high = new Temperature(303.15, TemperatureUnit.KELVIN);
+        creator.addAccelerometerCalibration(low, TemperatureCalibrationTableTest.generateBa(0.0),
+                TemperatureCalibrationTableTest.generateMa(0.0));
+        creator.addAccelerometerCalibration(high, TemperatureCalibrationTableTest.generateBa(1.0),
+                TemperatureCalibrationTableTest.generateMa(1.0));
+        creator.addGyroscopeCalibration(low, TemperatureCalibrationTableTest.generateBg(0.0),
+                TemperatureCalibrationTableTest.generateMg(0.0), TemperatureCalibrationTableTest.generateGg(0.0));
+        creator.addGyroscopeCalibration(high, TemperatureCalibrationTableTest.generateBg(1.0),
+                TemperatureCalibrationTableTest.generateMg(1.0), TemperatureCalibrationTableTest.generateGg(1.0));
+        creator.addMagnetometerCalibration(low, TemperatureCalibrationTableTest.generateHardIron(0.0),
+                TemperatureCalibrationTableTest.generateMm(0.0));
+        creator.addMagnetometerCalibration(high, TemperatureCalibrationTableTest.generateHardIron(1.0),
+                TemperatureCalibrationTableTest.generateMm(1.0));
+
+        final var table = creator.create();
+        assertArrayEquals(new double[]{10.0, 30.0}, table.getTemperatures(), ABSOLUTE_ERROR);
+
+        final var hardIron = new double[3];
+        table.getMagnetometerHardIron(20.0, hardIron);
+        assertArrayEquals(TemperatureCalibrationTableTest.generateHardIron(0.5), hardIron, ABSOLUTE_ERROR);
+    }
+
+    @Test
+    void testAddCalibrationFromSources() throws NotReadyException, AlgebraException {
+        final var ba = TemperatureCalibrationTableTest.generateBa(0.0);
+        final var ma = TemperatureCalibrationTableTest.generateMa(0.0);
+        final var bg = TemperatureCalibrationTableTest.generateBg(0.0);
+        final var mg = TemperatureCalibrationTableTest.generateMg(0.0);
+        final var gg = TemperatureCalibrationTableTest.generateGg(0.0);
+
+        final var accelerometerSource = new AccelerometerCalibrationSource() {
+            @Override
+            public double[] getEstimatedBiases() {
+                return ba;
+            }
+
+            @Override
+            public Matrix getEstimatedMa() {
+                return ma;
+            }
+        };
+        final var gyroscopeSource = new GyroscopeCalibrationSource() {
+            @Override
+            public double[] getEstimatedBiases() {
+                return bg;
+            }
+
+            @Override
+            public Matrix getEstimatedMg() {
+                return mg;
+            }
+
+            @Override
+            public Matrix getEstimatedGg() {
+                return gg;
+            }
+        };
+
+        final var creator = new TemperatureCalibrationTableCreator();
+        creator.addAccelerometerCalibration(25.0, accelerometerSource);
+        creator.addGyroscopeCalibration(new Temperature(25.0, TemperatureUnit.CELSIUS), gyroscopeSource);
+
+        // sources can be reused once their values have been added
+        ba[0] = 0.0;
+        mg.initialize(0.0);
+
+        final var table = creator.create();
+        final var biases = new double[3];
+        table.getAccelerometerBiases(25.0, biases);
+        assertArrayEquals(TemperatureCalibrationTableTest.generateBa(0.0), biases, 0.0);
+        final var m = new Matrix(3, 3);
+        table.getGyroScaleFactorAndCrossCouplingErrors(25.0, m);
+        assertEquals(TemperatureCalibrationTableTest.generateMg(0.0), m);
+
+        // Force NotReadyException
+        assertThrows(NotReadyException.class, () -> creator.addMagnetometerCalibration(25.0,
+                new KnownFrameMagnetometerLinearLeastSquaresCalibrator()));
+        assertThrows(NotReadyException.class, () -> creator.addAccelerometerCalibration(25.0,
+                new AccelerometerCalibrationSource() {
+                    @Override
+                    public double[] getEstimatedBiases() {
+                        return null;
+                    }
+
+                    @Override
+                    public Matrix getEstimatedMa() {
+                        return null;
+                    }
+                }));
+    }
+
+    @Test
+    void testAddImuCalibration() throws NotReadyException, AlgebraException {
+        final var errors = new IMUErrors(TemperatureCalibrationTableTest.generateBa(0.0),
+                TemperatureCalibrationTableTest.generateBg(0.0), TemperatureCalibrationTableTest.generateMa(0.0),
+                TemperatureCalibrationTableTest.generateMg(0.0), TemperatureCalibrationTableTest.generateGg(0.0),
+                0.0, 0.0, 0.0, 0.0);
+
+        final var creator = new TemperatureCalibrationTableCreator();
+        creator.addImuCalibration(new Temperature(20.0, TemperatureUnit.CELSIUS), errors);
+
+        final var table = creator.create();
+        assertTrue(table.isAccelerometerCalibrated());
+        assertTrue(table.isGyroCalibrated());
+        assertFalse(table.isMagnetometerCalibrated());
+
+        final var m = new Matrix(3, 3);
+        table.getGyroGDependentBiases(-40.0, m);
+        assertEquals(TemperatureCalibrationTableTest.generateGg(0.0), m);
+    }
+
+    @Test
+    void testAddInvalidCalibration() {
+        final var creator = new TemperatureCalibrationTableCreator();
+        final var ma = TemperatureCalibrationTableTest.generateMa(0.0);
+
+        // Force IllegalArgumentException
+        assertThrows(IllegalArgumentException.class,
+                () -> creator.addAccelerometerCalibration(Double.NaN, new double[3], ma));
+        assertThrows(IllegalArgumentException.class,
+                () -> creator.addAccelerometerCalibration(10.0, new double[2], ma));
+        assertThrows(IllegalArgumentException.class,
+                () -> creator.addGyroscopeCalibration(10.0, new double[3], ma, new Matrix(3, 1)));
+        assertThrows(IllegalArgumentException.class,
+                () -> creator.addMagnetometerCalibration(Double.POSITIVE_INFINITY, new double[3], ma));
+        assertEquals(0, creator.getNumberOfBins());
+    }
+
+    @Test
+    void testCreateWithSingularMatrix() throws AlgebraException {
+        final var creator = new TemperatureCalibrationTableCreator();
+        final var ma = Matrix.identity(3, 3);
+        ma.multiplyByScalar(-1.0);
+        creator.addAccelerometerCalibration(10.0, new double[3], ma);
+
+        assertTrue(creator.isReady());
+        assertThrows(AlgebraException.class, creator::create);
+    }
+}
@@ -0,0 +1,367 @@
+/*
+ * Copyright (C) 2026 Alberto Irurueta Carro (alberto@irurueta.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.irurueta.navigation.inertial.calibration;
+
+import com.irurueta.algebra.AlgebraException;
+import com.irurueta.algebra.Matrix;
+import com.irurueta.algebra.Utils;
+import com.irurueta.algebra.WrongSizeException;
+import com.irurueta.navigation.NotReadyException;
+import com.irurueta.navigation.inertial.SerializationHelper;
+import com.irurueta.statistics.UniformRandomizer;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TemperatureCalibrationTableTest {
+
+    private static final double MICRO_G_TO_METERS_PER_SECOND_SQUARED = 9.80665E-6;
+    private static final double DEG_TO_RAD = 0.01745329252;
+
+    private static final double MIN_ACCELEROMETER_VALUE = -2.0 * 9.81;
+    private static final double MAX_ACCELEROMETER_VALUE = 2.0 * 9.81;
+
+    private static final double MIN_GYRO_VALUE = -2.0;
+    private static final double MAX_GYRO_VALUE = 2.0;
+
+    private static final double MIN_MAGNETIC_FLUX_VALUE = -5e-5;
+    private static final double MAX_MAGNETIC_FLUX_VALUE = 5e-5;
+
+    private static final double LOW_TEMPERATURE = 10.0;
+    private static final double HIGH_TEMPERATURE = 30.0;
+
+    private static final double ABSOLUTE_ERROR = 1e-12;
+
+    private static final int TIMES = 100;
+
+    @Test
+    void testGetters() throws NotReadyException, AlgebraException {
+        final var table = createTable();
+
+        assertEquals(2, table.getNumberOfBins());
+        assertArrayEquals(new double[]{LOW_TEMPERATURE, HIGH_TEMPERATURE}, table.getTemperatures(), 0.0);
+        assertEquals(LOW_TEMPERATURE, table.getMinTemperature(), 0.0);
+        assertEquals(HIGH_TEMPERATURE, table.getMaxTemperature(), 0.0);
+        assertTrue(table.isAccelerometerCalibrated());
+        assertTrue(table.isGyroCalibrated());
+        assertTrue(table.isMagnetometerCalibrated());
+
+        // returned temperatures are a copy
+        table.getTemperatures()[0] = 0.0;
+        assertEquals(LOW_TEMPERATURE, table.getMinTemperature(), 0.0);
+    }
+
+    @Test
+    void testInterpolatedParameters() throws NotReadyException, AlgebraException {
+        final var table = createTable();
+
+        final var biases = new double[3];
+        final var m = new Matrix(3, 3);
+
+        // at bin temperatures
+        table.getAccelerometerBiases(LOW_TEMPERATURE, biases);
+        assertArrayEquals(generateBa(0.0), biases, ABSOLUTE_ERROR);
+        table.getAccelerometerBiases(HIGH_TEMPERATURE, biases);
+        assertArrayEquals(generateBa(1.0), biases, ABSOLUTE_ERROR);
+        table.getAccelerometerScaleFactorAndCrossCouplingErrors(HIGH_TEMPERATURE, m);
+        assertTrue(generateMa(1.0).equals(m, ABSOLUTE_ERROR));
+
+        // at middle temperature
+        final var middle = 0.5 * (LOW_TEMPERATURE + HIGH_TEMPERATURE);
+        table.getAccelerometerBiases(middle, biases);
+        assertArrayEquals(generateBa(0.5), biases, ABSOLUTE_ERROR);
+        table.getAccelerometerScaleFactorAndCrossCouplingErrors(middle, m);
+        assertTrue(generateMa(0.5).equals(m, ABSOLUTE_ERROR));
+        table.getGyroBiases(middle, biases);
+        assertArrayEquals(generateBg(0.5), biases, ABSOLUTE_ERROR);
+        table.getGyroScaleFactorAndCrossCouplingErrors(middle, m);
+        assertTrue(generateMg(0.5).equals(m, ABSOLUTE_ERROR));
+        table.getGyroGDependentBiases(middle, m);
+        assertTrue(generateGg(0.5).equals(m, ABSOLUTE_ERROR));
+        table.getMagnetometerHardIron(middle, biases);
+        assertArrayEquals(generateHardIron(0.5), biases, ABSOLUTE_ERROR);
+        table.getMagnetometerSoftIron(middle, m);
+        assertTrue(generateMm(0.5).equals(m, ABSOLUTE_ERROR));
+
+        // out of range temperatures are clamped
+        table.getGyroBiases(LOW_TEMPERATURE - 50.0, biases);
+        assertArrayEquals(generateBg(0.0), biases, ABSOLUTE_ERROR);
+        table.getMagnetometerSoftIron(HIGH_TEMPERATURE + 50.0, m);
+        assertTrue(generateMm(1.0).equals(m, ABSOLUTE_ERROR));
+
+        // Force IllegalArgumentException
+        assertThrows(IllegalArgumentException.class, () -> table.getAccelerometerBiases(middle, new double[1]));
+        assertThrows(IllegalArgumentException.class,
+                () -> table.getGyroGDependentBiases(middle, new Matrix(3, 1)));
+    }
+
+    @Test
+    void testFixAtBinTemperatures() throws NotReadyException, AlgebraException {
+        final var table = createTable();
+
+        final var randomizer = new UniformRandomizer();
+        final var expected = new double[3];
+        final var result = new double[3];
+        for (var t = 0; t < TIMES; t++) {
+            final var fx = randomizer.nextDouble(MIN_ACCELEROMETER_VALUE, MAX_ACCELEROMETER_VALUE);
+            final var fy = randomizer.nextDouble(MIN_ACCELEROMETER_VALUE, MAX_ACCELEROMETER_VALUE);
+            final var fz = randomizer.nextDouble(MIN_ACCELEROMETER_VALUE, MAX_ACCELEROMETER_VALUE);
+            final var wx = randomizer.nextDouble(MIN_GYRO_VALUE, MAX_GYRO_VALUE);
+            final var wy = randomizer.nextDouble(MIN_GYRO_VALUE, MAX_GYRO_VALUE);
+            final var wz = randomizer.nextDouble(MIN_GYRO_VALUE, MAX_GYRO_VALUE);
+            final var bx = randomizer.nextDouble(MIN_MAGNETIC_FLUX_VALUE, MAX_MAGNETIC_FLUX_VALUE);
+            final var by = randomizer.nextDouble(MIN_MAGNETIC_FLUX_VALUE, MAX_MAGNETIC_FLUX_VALUE);
+            final var bz = randomizer.nextDouble(MIN_MAGNETIC_FLUX_VALUE, MAX_MAGNETIC_FLUX_VALUE);
+
+            // below minimum temperature, first bin is used
+            for (final var temperature : new double[]{LOW_TEMPERATURE, LOW_TEMPERATURE - 20.0}) {
+                fixExactly(0.0, fx, fy, fz, wx, wy, wz, bx, by, bz, temperature, table, expected, result);
+            }
+            // above maximum temperature, last bin is used
+            for (final var temperature : new double[]{HIGH_TEMPERATURE, HIGH_TEMPERATURE + 20.0}) {
+                fixExactly(1.0, fx, fy, fz, wx, wy, wz, bx, by, bz, temperature, table, expected, result);
+            }
+        }
+    }
+
+    @Test
+    void testFixBetweenBins() throws NotReadyException, AlgebraException {
+        final var table = createTable();
+
+        final var randomizer = new UniformRandomizer();
+        final var accelerationFixer = new AccelerationFixer();
+        final var magneticFluxDensityFixer = new MagneticFluxDensityFixer();
+        final var expected = new double[3];
+        final var result = new double[3];
+        for (var t = 0; t < TIMES; t++) {
+            final var weight = randomizer.nextDouble();
+            final var temperature = LOW_TEMPERATURE + weight * (HIGH_TEMPERATURE - LOW_TEMPERATURE);
+
+            final var fx = randomizer.nextDouble(MIN_ACCELEROMETER_VALUE, MAX_ACCELEROMETER_VALUE);
+            final var fy = randomizer.nextDouble(MIN_ACCELEROMETER_VALUE, MAX_ACCELEROMETER_VALUE);
+            final var fz = randomizer.nextDouble(MIN_ACCELEROMETER_VALUE, MAX_ACCELEROMETER_VALUE);
+
+            // compare against exact inversion of interpolated parameters
+            accelerationFixer.setBias(generateBa(weight));
+            accelerationFixer.setCrossCouplingErrors(generateMa(weight));
+            accelerationFixer.fix(fx, fy, fz, expected);
+            table.fixSpecificForce(temperature, fx, fy, fz, result);
+            final var ba = generateBa(weight);
+            assertArrayEquals(expected, result, getInterpolationErrorBound(weight, generateMa(0.0),
+                    generateMa(1.0), generateMa(weight), fx - ba[0], fy - ba[1], fz - ba[2]));
+
+            final var bx = randomizer.nextDouble(MIN_MAGNETIC_FLUX_VALUE, MAX_MAGNETIC_FLUX_VALUE);
+            final var by = randomizer.nextDouble(MIN_MAGNETIC_FLUX_VALUE, MAX_MAGNETIC_FLUX_VALUE);
+            final var bz = randomizer.nextDouble(MIN_MAGNETIC_FLUX_VALUE, MAX_MAGNETIC_FLUX_VALUE);
+
+            magneticFluxDensityFixer.setBias(generateHardIron(weight));
+            magneticFluxDensityFixer.setCrossCouplingErrors(generateMm(weight));
+            magneticFluxDensityFixer.fix(bx, by, bz, expected);
+            table.fixMagneticFluxDensity(temperature, bx, by, bz, result);
+            final var hardIron = generateHardIron(weight);
+            assertArrayEquals(expected, result, getInterpolationErrorBound(weight, generateMm(0.0),
+                    generateMm(1.0), generateMm(weight), bx - hardIron[0], by - hardIron[1], bz - hardIron[2]));
+        }
+
+        // Force IllegalArgumentException
+        assertThrows(IllegalArgumentException.class,
+                () -> table.fixSpecificForce(LOW_TEMPERATURE, 0.0, 0.0, 0.0, new double[2]));
+        assertThrows(IllegalArgumentException.class,
+                () -> table.fixAngularRate(LOW_TEMPERATURE, 0.0, 0.0, 0.0, 0.0, 0.0, 0.0, new double[2]));
+        assertThrows(IllegalArgumentException.class,
+                () -> table.fixMagneticFluxDensity(LOW_TEMPERATURE, 0.0, 0.0, 0.0, new double[2]));
+    }
+
+    @Test
+    void testWithoutMagnetometerCalibration() throws NotReadyException, AlgebraException {
+        final var creator = new TemperatureCalibrationTableCreator();
+        creator.addAccelerometerCalibration(LOW_TEMPERATURE, generateBa(0.0), generateMa(0.0));
+        final var table = creator.create();
+
+        assertEquals(1, table.getNumberOfBins());
+        assertTrue(table.isAccelerometerCalibrated());
+        assertFalse(table.isGyroCalibrated());
+        assertFalse(table.isMagnetometerCalibrated());
+
+        // sensors without calibration are left unchanged
+        final var result = new double[3];
+        table.fixMagneticFluxDensity(HIGH_TEMPERATURE, 1e-5, 2e-5, 3e-5, result);
+        assertArrayEquals(new double[]{1e-5, 2e-5, 3e-5}, result, 0.0);
+        table.fixAngularRate(HIGH_TEMPERATURE, 1.0, 2.0, 3.0, 4.0, 5.0, 6.0, result);
+        assertArrayEquals(new double[]{1.0, 2.0, 3.0}, result, 0.0);
+    }
+
+    @Test
+    void testSerializeDeserialize() throws NotReadyException, AlgebraException, IOException,
+            ClassNotFoundException {
+        final var table1 = createTable();
+
+        final var bytes = SerializationHelper.serialize(table1);
+        final TemperatureCalibrationTable table2 = SerializationHelper.deserialize(bytes);
+
+        assertNotSame(table1, table2);
+        assertArrayEquals(table1.getTemperatures(), table2.getTemperatures(), 0.0);
+
+        final var result1 = new double[3];
+        final var result2 = new double[3];
+        table1.fixAngularRate(20.0, 1.0, 2.0, 3.0, 4.0, 5.0, 6.0, result1);
+        table2.fixAngularRate(20.0, 1.0, 2.0, 3.0, 4.0, 5.0, 6.0, result2);
+        assertArrayEquals(result1, result2, 0.0);
+    }
+
+    static TemperatureCalibrationTable createTable() throws NotReadyException, AlgebraException {
+        final var creator = new TemperatureCalibrationTableCreator();
+        creator.addAccelerometerCalibration(HIGH_TEMPERATURE, generateBa(1.0), generateMa(1.0));
+        creator.addAccelerometerCalibration(LOW_TEMPERATURE, generateBa(0.0), generateMa(0.0));
+        creator.addGyroscopeCalibration(LOW_TEMPERATURE, generateBg(0.0), generateMg(0.0), generateGg(0.0));
+        creator.addGyroscopeCalibration(HIGH_TEMPERATURE, generateBg(1.0), generateMg(1.0), generateGg(1.0));
+        creator.addMagnetometerCalibration(LOW_TEMPERATURE, generateHardIron(0.0), generateMm(0.0));
+        creator.addMagnetometerCalibration(HIGH_TEMPERATURE, generateHardIron(1.0), generateMm(1.0));
+        return creator.create();
+    }
+
+    private static void fixExactly(
+            final double weight, final double fx, final double fy, final double fz,
+            final double wx, final double wy, final double wz, final double bx, final double by, final double bz,
+            final double temperature, final TemperatureCalibrationTable table, final double[] expected,
+            final double[] result) throws AlgebraException {
+        final var accelerationFixer = new AccelerationFixer();
+        accelerationFixer.setBias(generateBa(weight));
+        accelerationFixer.setCrossCouplingErrors(generateMa(weight));
+        accelerationFixer.fix(fx, fy, fz, expected);
+        table.fixSpecificForce(temperature, fx, fy, fz, result);
+        assertArrayEquals(expected, result, ABSOLUTE_ERROR);
+
+        final var trueFx = result[0];
+        final var trueFy = result[1];
+        final var trueFz = result[2];
+
+        final var angularRateFixer = new AngularRateFixer();
+        angularRateFixer.setBias(generateBg(weight));
+        angularRateFixer.setCrossCouplingErrors(generateMg(weight));
+        angularRateFixer.setGDependantCrossBias(generateGg(weight));
+        angularRateFixer.fix(wx, wy, wz, trueFx, trueFy, trueFz, expected);
+        table.fixAngularRate(temperature, wx, wy, wz, trueFx, trueFy, trueFz, result);
+        assertArrayEquals(expected, result, ABSOLUTE_ERROR);
+
+        final var magneticFluxDensityFixer = new MagneticFluxDensityFixer();
+        magneticFluxDensityFixer.setBias(generateHardIron(weight));
+        magneticFluxDensityFixer.setCrossCouplingErrors(generateMm(weight));
+        magneticFluxDensityFixer.fix(bx, by, bz, expected);
+        table.fixMagneticFluxDensity(temperature, bx, by, bz, result);
+        assertArrayEquals(expected, result, ABSOLUTE_ERROR);
+    }
+
+    /**
+     * Bounds the error of interpolating the inverses of A = I + M at two bins instead of
+     * inverting the interpolated matrix. With dM = M1 - M0, this error is exactly
+     * w * (1 - w) * A0^-1 * dM * A1^-1 * dM * Aw^-1 * (x - b), whose magnitude is bounded by
+     * w * (1 - w) * ||dM||^2 * ||A0^-1|| * ||A1^-1|| * ||Aw^-1|| * ||x - b|| using Frobenius norms.
+     * A small absolute margin accounts for rounding errors.
+     */
+    private static double getInterpolationErrorBound(
+            final double weight, final Matrix m0, final Matrix m1, final Matrix mw,
+            final double dx, final double dy, final double dz) throws AlgebraException {
+        final var identity = Matrix.identity(3, 3);
+        final var diff = m1.subtractAndReturnNew(m0);
+        final var diffNorm = Utils.normF(diff);
+        return weight * (1.0 - weight) * diffNorm * diffNorm
+                * Utils.normF(Utils.inverse(identity.addAndReturnNew(m0)))
+                * Utils.normF(Utils.inverse(identity.addAndReturnNew(m1)))
+                * Utils.normF(Utils.inverse(identity.addAndReturnNew(mw)))
+                * Math.sqrt(dx * dx + dy * dy + dz * dz) + ABSOLUTE_ERROR;
+    }
+
+    static double[] generateBa(final double weight) {
+        final var scale = (1.0 + weight) * MICRO_G_TO_METERS_PER_SECOND_SQUARED;
+        return new double[]{900 * scale, -1300 * scale, 800 * scale};
+    }
+
+    static double[] generateBg(final double weight) {
+        final var scale = (1.0 + weight) * DEG_TO_RAD / 3600.0;
+        return new double[]{-9 * scale, 13 * scale, -8 * scale};
+    }
+
+    static double[] generateHardIron(final double weight) {
+        final var scale = (1.0 - 0.5 * weight) * 1e-6;
+        return new double[]{3.0 * scale, -2.0 * scale, 1.5 * scale};
+    }
+
+    static Matrix generateMa(final double weight) {
+        return lerp(new double[]{
+                500e-6, -300e-6, 200e-6,
+                -150e-6, -600e-6, 250e-6,
+                -250e-6, 100e-6, 450e-6
+        }, new double[]{
+                900e-6, -200e-6, 100e-6,
+                -250e-6, -300e-6, 350e-6,
+                -150e-6, 200e-6, 650e-6
+        }, weight);
+    }
+
+    static Matrix generateMg(final double weight) {
+        return lerp(new double[]{
+                400e-6, -300e-6, 250e-6,
+                0.0, -300e-6, -150e-6,
+                0.0, 0.0, -350e-6
+        }, new double[]{
+                700e-6, -100e-6, 150e-6,
+                0.0, -500e-6, -250e-6,
+                0.0, 0.0, -150e-6
+        }, weight);
+    }
+
+    static Matrix generateGg(final double weight) {
+        final var tmp = DEG_TO_RAD / (3600 * 9.80665);
+        return lerp(new double[]{
+                0.9 * tmp, -1.1 * tmp, -0.6 * tmp,
+                -0.5 * tmp, 1.9 * tmp, -1.6 * tmp,
+                0.3 * tmp, 1.1 * tmp, -1.3 * tmp
+        }, new double[]{
+                1.9 * tmp, -0.1 * tmp, -1.6 * tmp,
+                -1.5 * tmp, 0.9 * tmp, -0.6 * tmp,
+                1.3 * tmp, 0.1 * tmp, -2.3 * tmp
+        }, weight);
+    }
+
+    static Matrix generateMm(final double weight) {
+        return lerp(new double[]{
+                0.02, 0.01, -0.01,
+                0.0, -0.03, 0.02,
+                0.0, 0.0, 0.01
+        }, new double[]{
+                0.04, 0.005, -0.02,
+                0.0, -0.01, 0.03,
+                0.0, 0.0, 0.03
+        }, weight);
+    }
+
+    private static Matrix lerp(final double[] m0, final double[] m1, final double weight) {
+        final var values = new double[m0.length];
+        for (var i = 0; i < values.length; i++) {
+            values[i] = m0[i] + weight * (m1[i] - m0[i]);
+        }
+        try {
+            final var result = new Matrix(3, 3);
+            result.fromArray(values, false);
+            return result;
+        } catch (final WrongSizeException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
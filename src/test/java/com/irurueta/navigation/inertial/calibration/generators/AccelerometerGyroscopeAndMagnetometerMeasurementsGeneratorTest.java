@@ -39,6 +39,7 @@ import com.irurueta.navigation.inertial.calibration.gyroscope.QuaternionIntegrat
 import com.irurueta.navigation.inertial.calibration.gyroscope.QuaternionStepIntegratorType;
 import com.irurueta.navigation.inertial.calibration.intervals.AccelerationTriadStaticIntervalDetector;
 import com.irurueta.navigation.inertial.calibration.intervals.TriadStaticIntervalDetector;
+import com.irurueta.navigation.inertial.calibration.io.IMULogSlice;
 import com.irurueta.navigation.inertial.calibration.magnetometer.KnownPositionAndInstantMagnetometerCalibrator;
 import com.irurueta.navigation.inertial.estimators.BodyMagneticFluxDensityEstimator;
 import com.irurueta.navigation.inertial.estimators.ECEFGravityEstimator;
@@ -1910,6 +1911,43 @@ class AccelerometerGyroscopeAndMagnetometerMeasurementsGeneratorTest implements
         assertTrue(numValid > 0);
     }
 
+    @Test
+    void testProcessSlice() throws LockedException {
+        final var staticSamples = TriadStaticIntervalDetector.DEFAULT_INITIAL_STATIC_SAMPLES;
+        final var slice = createSlice(staticSamples, 300);
+
+        reset();
+        final var generator1 = new AccelerometerGyroscopeAndMagnetometerMeasurementsGenerator(this);
+        assertEquals(slice.getSize(), generator1.processSlice(slice));
+
+        assertEquals(2, staticIntervalDetected);
+        assertEquals(2, dynamicIntervalDetected);
+        assertEquals(2, generatedGyroscopeMeasurement);
+        assertEquals(1, generatedAccelerometerMeasurement);
+        assertEquals(1, generatedMagnetometerMeasurement);
+        final var expectedAccelerometerMeasurements = new ArrayList<>(accelerometerMeasurements);
+        final var expectedMagnetometerMeasurements = new ArrayList<>(magnetometerMeasurements);
+        final var expectedGyroscopeItems = gyroscopeMeasurements.get(1).getItemsCount();
+
+        // process the same samples as individual instances
+        reset();
+        final var generator2 = new AccelerometerGyroscopeAndMagnetometerMeasurementsGenerator(this);
+        for (var i = 0; i < slice.getSize(); i++) {
+            final var sample = new TimedBodyKinematicsAndMagneticFluxDensity();
+            slice.getTimedKinematicsAndMagneticFluxDensity(i, sample);
+            assertTrue(generator2.process(sample));
+        }
+
+        assertEquals(generator2.getStatus(), generator1.getStatus());
+        assertEquals(generator2.getProcessedStaticSamples(), generator1.getProcessedStaticSamples());
+        assertEquals(generator2.getProcessedDynamicSamples(), generator1.getProcessedDynamicSamples());
+        assertEquals(generator2.getAccelerometerBaseNoiseLevel(), generator1.getAccelerometerBaseNoiseLevel(), 0.0);
+        assertEquals(generator2.getGyroscopeBaseNoiseLevel(), generator1.getGyroscopeBaseNoiseLevel(), 0.0);
+        assertEquals(expectedAccelerometerMeasurements, accelerometerMeasurements);
+        assertEquals(expectedMagnetometerMeasurements, magnetometerMeasurements);
+        assertEquals(expectedGyroscopeItems, gyroscopeMeasurements.get(1).getItemsCount());
+    }
+
     @Override
     public void onInitializationStarted(final AccelerometerGyroscopeAndMagnetometerMeasurementsGenerator generator) {
         initializationStarted++;
@@ -2408,4 +2446,31 @@ class AccelerometerGyroscopeAndMagnetometerMeasurementsGeneratorTest implements
     private static double interpolate(final double value, final double progress) {
         return -2.0 * (Math.abs(progress - 0.5) - 0.5) * value;
     }
+
+    private static IMULogSlice createSlice(final int initialStaticSamples, final int dynamicSamples) {
+        // initial static interval followed by two dynamic intervals, each one of them
+        // followed by a static interval at a different orientation
+        final var random = new Random();
+        final var staticSamples = 4 * TriadStaticIntervalDetector.DEFAULT_WINDOW_SIZE;
+        final var period = dynamicSamples + staticSamples;
+        final var total = initialStaticSamples + 2 * period;
+        final var slice = new IMULogSlice(total);
+        for (var i = 0; i < total; i++) {
+            final var j = i - initialStaticSamples;
+            final var dynamic = j >= 0 && j % period < dynamicSamples;
+            final var motion = dynamic ? 5.0 * Math.sin(0.1 * i) : 0.0;
+            final var offset = j < 0 ? 0.0 : 1.0 + j / period;
+            slice.add(i * TIME_INTERVAL_SECONDS,
+                    offset + motion + 1e-3 * random.nextGaussian(),
+                    motion + 1e-3 * random.nextGaussian(),
+                    -9.81 + 1e-3 * random.nextGaussian(),
+                    0.1 * motion + 1e-5 * random.nextGaussian(),
+                    1e-5 * random.nextGaussian(),
+                    1e-5 * random.nextGaussian(),
+                    2e-5 + 1e-8 * random.nextGaussian(),
+                    1e-8 * random.nextGaussian(),
+                    4e-5 + 1e-8 * random.nextGaussian());
+        }
+        return slice;
+    }
 }
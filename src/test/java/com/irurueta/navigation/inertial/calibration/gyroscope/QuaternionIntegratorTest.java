@@ -25,8 +25,10 @@ import com.irurueta.navigation.frames.InvalidSourceAndDestinationFrameTypeExcept
 import com.irurueta.navigation.frames.NEDFrame;
 import com.irurueta.navigation.frames.NEDPosition;
 import com.irurueta.navigation.frames.converters.NEDtoECEFFrameConverter;
+import com.irurueta.navigation.inertial.BodyKinematics;
 import com.irurueta.navigation.inertial.calibration.BodyKinematicsSequence;
 import com.irurueta.navigation.inertial.calibration.StandardDeviationTimedBodyKinematics;
+import com.irurueta.navigation.inertial.calibration.io.IMULogSlice;
 import com.irurueta.navigation.inertial.estimators.ECEFKinematicsEstimator;
 import com.irurueta.navigation.inertial.navigators.ECEFInertialNavigator;
 import com.irurueta.navigation.inertial.navigators.InertialNavigatorException;
@@ -1204,4 +1206,48 @@ class QuaternionIntegratorTest {
 
         assertTrue(numValid > 0);
     }
-}
\ No newline at end of file
+
+    @Test
+    void testIntegrateSlice() throws RotationException {
+        final var randomizer = new UniformRandomizer();
+        final var initialAttitude = new Quaternion(
+                Math.toRadians(randomizer.nextDouble(MIN_ANGLE_DEGREES, MAX_ANGLE_DEGREES)),
+                Math.toRadians(randomizer.nextDouble(MIN_ANGLE_DEGREES, MAX_ANGLE_DEGREES)),
+                Math.toRadians(randomizer.nextDouble(MIN_ANGLE_DEGREES, MAX_ANGLE_DEGREES)));
+
+        final var slice = new IMULogSlice(NUM_SAMPLES);
+        final var items = new ArrayList<StandardDeviationTimedBodyKinematics>();
+        for (var i = 0; i < NUM_SAMPLES; i++) {
+            final var timestamp = i * TIME_INTERVAL_BETWEEN_SAMPLES;
+            final var wx = randomizer.nextDouble(-1.0, 1.0);
+            final var wy = randomizer.nextDouble(-1.0, 1.0);
+            final var wz = randomizer.nextDouble(-1.0, 1.0);
+            slice.add(timestamp, 0.0, 0.0, 0.0, wx, wy, wz, 0.0, 0.0, 0.0);
+
+            final var kinematics = new BodyKinematics(0.0, 0.0, 0.0, wx, wy, wz);
+            items.add(new StandardDeviationTimedBodyKinematics(kinematics, timestamp, 0.0, 0.0));
+        }
+        final var sequence = new BodyKinematicsSequence<>(items);
+
+        for (final var type : QuaternionStepIntegratorType.values()) {
+            final var expected = QuaternionIntegrator.integrateGyroSequenceAndReturnNew(sequence,
+                    initialAttitude, type);
+
+            final var result1 = QuaternionIntegrator.integrateGyroSliceAndReturnNew(slice, initialAttitude,
+                    type);
+            assertTrue(expected.equals(result1, 0.0));
+
+            final var result2 = new Quaternion();
+            QuaternionIntegrator.integrateGyroSequence(slice.getTimestamps(), slice.getAngularRatesX(),
+                    slice.getAngularRatesY(), slice.getAngularRatesZ(), 0, slice.getSize(), initialAttitude,
+                    type, result2);
+            assertTrue(expected.equals(result2, 0.0));
+
+            // integrating no measurements keeps initial attitude
+            final var result3 = new Quaternion();
+            QuaternionIntegrator.integrateGyroSequence(slice.getTimestamps(), slice.getAngularRatesX(),
+                    slice.getAngularRatesY(), slice.getAngularRatesZ(), 0, 0, null, type, result3);
+            assertTrue(new Quaternion().equals(result3, 0.0));
+        }
+    }
+}
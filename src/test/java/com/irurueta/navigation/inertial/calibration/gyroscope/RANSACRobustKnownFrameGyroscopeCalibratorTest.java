@@ -30,6 +30,7 @@ import com.irurueta.navigation.inertial.calibration.AngularSpeedTriad;
 import com.irurueta.navigation.inertial.calibration.BodyKinematicsGenerator;
 import com.irurueta.navigation.inertial.calibration.CalibrationException;
 import com.irurueta.navigation.inertial.calibration.IMUErrors;
+import com.irurueta.navigation.inertial.calibration.InliersDataStorage;
 import com.irurueta.navigation.inertial.calibration.StandardDeviationFrameBodyKinematics;
 import com.irurueta.navigation.inertial.estimators.ECEFKinematicsEstimator;
 import com.irurueta.numerical.robust.RobustEstimatorMethod;
@@ -39,6 +40,7 @@ import com.irurueta.units.AngularSpeedUnit;
 import org.junit.jupiter.api.Test;
 
 import java.util.ArrayList;
+import java.util.BitSet;
 import java.util.Collections;
 import java.util.Random;
 
@@ -62,6 +64,7 @@ class RANSACRobustKnownFrameGyroscopeCalibratorTest implements RobustKnownFrameG
     private static final double MAX_HEIGHT = 50.0;
 
     private static final int MEASUREMENT_NUMBER = 1000;
+    private static final int SCORING_SAMPLE_SIZE = 200;
 
     private static final int OUTLIER_PERCENTAGE = 20;
 
@@ -2045,6 +2048,56 @@ class RANSACRobustKnownFrameGyroscopeCalibratorTest implements RobustKnownFrameG
         assertThrows(IllegalArgumentException.class, () -> calibrator.setPreliminarySubsetSize(6));
     }
 
+    @Test
+    void testIsSetSampledScoring() throws LockedException {
+        final var calibrator = new RANSACRobustKnownFrameGyroscopeCalibrator();
+
+        // check default value
+        assertEquals(RobustKnownFrameGyroscopeCalibrator.DEFAULT_SAMPLED_SCORING,
+                calibrator.isSampledScoring());
+        assertNull(calibrator.getCompactInliersData());
+
+        // set a new value
+        calibrator.setSampledScoring(true);
+
+        // check
+        assertTrue(calibrator.isSampledScoring());
+    }
+
+    @Test
+    void testGetSetScoringSampleSize() throws LockedException {
+        final var calibrator = new RANSACRobustKnownFrameGyroscopeCalibrator();
+
+        // check default value
+        assertEquals(RobustKnownFrameGyroscopeCalibrator.DEFAULT_SCORING_SAMPLE_SIZE,
+                calibrator.getScoringSampleSize());
+
+        // set a new value
+        calibrator.setScoringSampleSize(100);
+
+        // check
+        assertEquals(100, calibrator.getScoringSampleSize());
+
+        // Force IllegalArgumentException
+        assertThrows(IllegalArgumentException.class, () -> calibrator.setScoringSampleSize(6));
+    }
+
+    @Test
+    void testGetSetInliersDataStorage() throws LockedException {
+        final var calibrator = new RANSACRobustKnownFrameGyroscopeCalibrator();
+
+        // check default value
+        assertEquals(RobustKnownFrameGyroscopeCalibrator.DEFAULT_INLIERS_DATA_STORAGE,
+                calibrator.getInliersDataStorage());
+        assertEquals(InliersDataStorage.FULL, calibrator.getInliersDataStorage());
+
+        // set a new value
+        calibrator.setInliersDataStorage(InliersDataStorage.COMPACT_NO_RESIDUALS);
+
+        // check
+        assertEquals(InliersDataStorage.COMPACT_NO_RESIDUALS, calibrator.getInliersDataStorage());
+    }
+
     @Test
     void testCalibrateGeneralNoNoiseInlier() throws WrongSizeException, InvalidSourceAndDestinationFrameTypeException,
             LockedException, CalibrationException, NotReadyException {
@@ -2161,6 +2214,267 @@ class RANSACRobustKnownFrameGyroscopeCalibratorTest implements RobustKnownFrameG
         assertTrue(numValid > 0);
     }
 
+    @Test
+    void testCalibrateGeneralSampledScoring() throws WrongSizeException, InvalidSourceAndDestinationFrameTypeException,
+            LockedException, CalibrationException, NotReadyException {
+
+        var numValid = 0;
+        for (var t = 0; t < TIMES; t++) {
+            final var ba = generateBa();
+            final var bg = generateBg();
+            final var ma = generateMaGeneral();
+            final var mg = generateMg();
+            final var gg = generateGg();
+            final var accelNoiseRootPSD = getAccelNoiseRootPSD();
+            final var gyroNoiseRootPSD = getGyroNoiseRootPSD();
+            final var accelQuantLevel = 0.0;
+            final var gyroQuantLevel = 0.0;
+
+            final var errorsOutlier = new IMUErrors(ba, bg, ma, mg, gg, accelNoiseRootPSD, gyroNoiseRootPSD,
+                    accelQuantLevel, gyroQuantLevel);
+            final var errorsInlier = new IMUErrors(ba, bg, ma, mg, gg, 0.0, 0.0,
+                    accelQuantLevel, gyroQuantLevel);
+            
+            final var randomizer = new UniformRandomizer();
+            final var latitude = Math.toRadians(randomizer.nextDouble(MIN_LATITUDE_DEGREES, MAX_LATITUDE_DEGREES));
+            final var longitude = Math.toRadians(randomizer.nextDouble(MIN_LONGITUDE_DEGREES, MAX_LONGITUDE_DEGREES));
+            final var height = randomizer.nextDouble(MIN_HEIGHT, MAX_HEIGHT);
+            final var nedPosition = new NEDPosition(latitude, longitude, height);
+
+            final var sqrtTimeInterval = Math.sqrt(TIME_INTERVAL_SECONDS);
+            final var specificForceStandardDeviation = getAccelNoiseRootPSD() / sqrtTimeInterval;
+            final var angularRateStandardDeviation = getGyroNoiseRootPSD() / sqrtTimeInterval;
+
+            final var measurements = new ArrayList<StandardDeviationFrameBodyKinematics>();
+            final var inliers = new BitSet(MEASUREMENT_NUMBER);
+            final var random = new Random();
+            for (var i = 0; i < MEASUREMENT_NUMBER; i++) {
+                final var roll = Math.toRadians(randomizer.nextDouble(MIN_ANGLE_DEGREES, MAX_ANGLE_DEGREES));
+                final var pitch = Math.toRadians(randomizer.nextDouble(MIN_ANGLE_DEGREES, MAX_ANGLE_DEGREES));
+                final var yaw = Math.toRadians(randomizer.nextDouble(MIN_ANGLE_DEGREES, MAX_ANGLE_DEGREES));
+                final var nedC = new CoordinateTransformation(roll, pitch, yaw, FrameType.BODY_FRAME,
+                        FrameType.LOCAL_NAVIGATION_FRAME);
+
+                final var nedFrame = new NEDFrame(nedPosition, nedC);
+                final var ecefFrame = NEDtoECEFFrameConverter.convertNEDtoECEFAndReturnNew(nedFrame);
+
+                // compute ground-truth kinematics that should be generated at provided
+                // position, velocity and orientation
+                final var trueKinematics = ECEFKinematicsEstimator.estimateKinematicsAndReturnNew(TIME_INTERVAL_SECONDS,
+                        ecefFrame, ecefFrame);
+
+                // apply known calibration parameters to distort ground-truth and generate a
+                // measured kinematics sample
+                final BodyKinematics measuredKinematics;
+                if (randomizer.nextInt(0, 100) < OUTLIER_PERCENTAGE) {
+                    // outlier
+                    measuredKinematics = BodyKinematicsGenerator.generate(TIME_INTERVAL_SECONDS, trueKinematics,
+                            errorsOutlier, random);
+                } else {
+                    // inlier
+                    inliers.set(i);
+                    measuredKinematics = BodyKinematicsGenerator.generate(TIME_INTERVAL_SECONDS, trueKinematics,
+                            errorsInlier, random);
+                }
+
+                final var measurement = new StandardDeviationFrameBodyKinematics(measuredKinematics, ecefFrame,
+                        ecefFrame, TIME_INTERVAL_SECONDS, specificForceStandardDeviation, angularRateStandardDeviation);
+                measurements.add(measurement);
+            }
+
+            final var calibrator = new RANSACRobustKnownFrameGyroscopeCalibrator(measurements, false, this);
+            calibrator.setThreshold(THRESHOLD);
+            calibrator.setSampledScoring(true);
+            calibrator.setScoringSampleSize(SCORING_SAMPLE_SIZE);
+
+            // estimate
+            reset();
+            assertTrue(calibrator.isReady());
+            assertFalse(calibrator.isRunning());
+            assertEquals(0, calibrateStart);
+            assertEquals(0, calibrateEnd);
+            assertEquals(0, calibrateNextIteration);
+            assertEquals(0, calibrateProgressChange);
+
+            calibrator.calibrate();
+
+            // check
+            assertTrue(calibrator.isReady());
+            assertFalse(calibrator.isRunning());
+            assertEquals(1, calibrateStart);
+            assertEquals(1, calibrateEnd);
+            assertTrue(calibrateNextIteration > 0);
+            assertTrue(calibrateProgressChange >= 0);
+
+            // hypotheses were scored on sampled measurements, while inliers are found among
+            // all measurements
+            assertEquals(SCORING_SAMPLE_SIZE, calibrator.getInliersData().getResiduals().length);
+            final var compactInliersData = calibrator.getCompactInliersData();
+            assertEquals(MEASUREMENT_NUMBER, compactInliersData.getNumMeasurements());
+            assertTrue(compactInliersData.getNumInliers() > 0);
+
+            final var estimatedBg = calibrator.getEstimatedBiasesAsMatrix();
+            final var estimatedMg = calibrator.getEstimatedMg();
+            final var estimatedGg = calibrator.getEstimatedGg();
+
+            if (!bg.equals(estimatedBg, LARGE_ABSOLUTE_ERROR)) {
+                continue;
+            }
+            if (!gg.equals(estimatedGg, LARGE_ABSOLUTE_ERROR)) {
+                continue;
+            }
+            assertTrue(bg.equals(estimatedBg, LARGE_ABSOLUTE_ERROR));
+            assertNotNull(estimatedMg);
+            assertTrue(gg.equals(estimatedGg, LARGE_ABSOLUTE_ERROR));
+
+            for (var i = inliers.nextSetBit(0); i >= 0; i = inliers.nextSetBit(i + 1)) {
+                assertTrue(compactInliersData.isInlier(i));
+            }
+
+            assertEstimatedResult(estimatedBg, estimatedMg, estimatedGg, calibrator, true);
+
+            assertNotNull(calibrator.getEstimatedCovariance());
+            checkGeneralCovariance(calibrator.getEstimatedCovariance());
+            assertTrue(calibrator.getEstimatedMse() > 0.0);
+            assertNotEquals(0.0, calibrator.getEstimatedChiSq());
+
+            numValid++;
+            break;
+        }
+
+        assertTrue(numValid > 0);
+    }
+
+    @Test
+    void testCalibrateGeneralCompactInliers() throws WrongSizeException, InvalidSourceAndDestinationFrameTypeException,
+            LockedException, CalibrationException, NotReadyException {
+
+        var numValid = 0;
+        for (var t = 0; t < TIMES; t++) {
+            final var ba = generateBa();
+            final var bg = generateBg();
+            final var ma = generateMaGeneral();
+            final var mg = generateMg();
+            final var gg = generateGg();
+            final var accelNoiseRootPSD = getAccelNoiseRootPSD();
+            final var gyroNoiseRootPSD = getGyroNoiseRootPSD();
+            final var accelQuantLevel = 0.0;
+            final var gyroQuantLevel = 0.0;
+
+            final var errorsOutlier = new IMUErrors(ba, bg, ma, mg, gg, accelNoiseRootPSD, gyroNoiseRootPSD,
+                    accelQuantLevel, gyroQuantLevel);
+            final var errorsInlier = new IMUErrors(ba, bg, ma, mg, gg, 0.0, 0.0,
+                    accelQuantLevel, gyroQuantLevel);
+            
+            final var randomizer = new UniformRandomizer();
+            final var latitude = Math.toRadians(randomizer.nextDouble(MIN_LATITUDE_DEGREES, MAX_LATITUDE_DEGREES));
+            final var longitude = Math.toRadians(randomizer.nextDouble(MIN_LONGITUDE_DEGREES, MAX_LONGITUDE_DEGREES));
+            final var height = randomizer.nextDouble(MIN_HEIGHT, MAX_HEIGHT);
+            final var nedPosition = new NEDPosition(latitude, longitude, height);
+
+            final var sqrtTimeInterval = Math.sqrt(TIME_INTERVAL_SECONDS);
+            final var specificForceStandardDeviation = getAccelNoiseRootPSD() / sqrtTimeInterval;
+            final var angularRateStandardDeviation = getGyroNoiseRootPSD() / sqrtTimeInterval;
+
+            final var measurements = new ArrayList<StandardDeviationFrameBodyKinematics>();
+            final var inliers = new BitSet(MEASUREMENT_NUMBER);
+            final var random = new Random();
+            for (var i = 0; i < MEASUREMENT_NUMBER; i++) {
+                final var roll = Math.toRadians(randomizer.nextDouble(MIN_ANGLE_DEGREES, MAX_ANGLE_DEGREES));
+                final var pitch = Math.toRadians(randomizer.nextDouble(MIN_ANGLE_DEGREES, MAX_ANGLE_DEGREES));
+                final var yaw = Math.toRadians(randomizer.nextDouble(MIN_ANGLE_DEGREES, MAX_ANGLE_DEGREES));
+                final var nedC = new CoordinateTransformation(roll, pitch, yaw, FrameType.BODY_FRAME,
+                        FrameType.LOCAL_NAVIGATION_FRAME);
+
+                final var nedFrame = new NEDFrame(nedPosition, nedC);
+                final var ecefFrame = NEDtoECEFFrameConverter.convertNEDtoECEFAndReturnNew(nedFrame);
+
+                // compute ground-truth kinematics that should be generated at provided
+                // position, velocity and orientation
+                final var trueKinematics = ECEFKinematicsEstimator.estimateKinematicsAndReturnNew(TIME_INTERVAL_SECONDS,
+                        ecefFrame, ecefFrame);
+
+                // apply known calibration parameters to distort ground-truth and generate a
+                // measured kinematics sample
+                final BodyKinematics measuredKinematics;
+                if (randomizer.nextInt(0, 100) < OUTLIER_PERCENTAGE) {
+                    // outlier
+                    measuredKinematics = BodyKinematicsGenerator.generate(TIME_INTERVAL_SECONDS, trueKinematics,
+                            errorsOutlier, random);
+                } else {
+                    // inlier
+                    inliers.set(i);
+                    measuredKinematics = BodyKinematicsGenerator.generate(TIME_INTERVAL_SECONDS, trueKinematics,
+                            errorsInlier, random);
+                }
+
+                final var measurement = new StandardDeviationFrameBodyKinematics(measuredKinematics, ecefFrame,
+                        ecefFrame, TIME_INTERVAL_SECONDS, specificForceStandardDeviation, angularRateStandardDeviation);
+                measurements.add(measurement);
+            }
+
+            final var calibrator = new RANSACRobustKnownFrameGyroscopeCalibrator(measurements, false, this);
+            calibrator.setThreshold(THRESHOLD);
+            calibrator.setInliersDataStorage(InliersDataStorage.COMPACT_FLOAT_RESIDUALS);
+
+            // estimate
+            reset();
+            assertTrue(calibrator.isReady());
+            assertFalse(calibrator.isRunning());
+            assertEquals(0, calibrateStart);
+            assertEquals(0, calibrateEnd);
+            assertEquals(0, calibrateNextIteration);
+            assertEquals(0, calibrateProgressChange);
+
+            calibrator.calibrate();
+
+            // check
+            assertTrue(calibrator.isReady());
+            assertFalse(calibrator.isRunning());
+            assertEquals(1, calibrateStart);
+            assertEquals(1, calibrateEnd);
+            assertTrue(calibrateNextIteration > 0);
+            assertTrue(calibrateProgressChange >= 0);
+
+            // inliers data reported by robust estimator is released once compacted
+            assertNull(calibrator.getInliersData());
+            final var compactInliersData = calibrator.getCompactInliersData();
+            assertEquals(MEASUREMENT_NUMBER, compactInliersData.getResiduals().length);
+            assertEquals(MEASUREMENT_NUMBER, compactInliersData.getNumMeasurements());
+            assertTrue(compactInliersData.getNumInliers() > 0);
+
+            final var estimatedBg = calibrator.getEstimatedBiasesAsMatrix();
+            final var estimatedMg = calibrator.getEstimatedMg();
+            final var estimatedGg = calibrator.getEstimatedGg();
+
+            if (!bg.equals(estimatedBg, LARGE_ABSOLUTE_ERROR)) {
+                continue;
+            }
+            if (!gg.equals(estimatedGg, LARGE_ABSOLUTE_ERROR)) {
+                continue;
+            }
+            assertTrue(bg.equals(estimatedBg, LARGE_ABSOLUTE_ERROR));
+            assertNotNull(estimatedMg);
+            assertTrue(gg.equals(estimatedGg, LARGE_ABSOLUTE_ERROR));
+
+            for (var i = inliers.nextSetBit(0); i >= 0; i = inliers.nextSetBit(i + 1)) {
+                assertTrue(compactInliersData.isInlier(i));
+            }
+
+            assertEstimatedResult(estimatedBg, estimatedMg, estimatedGg, calibrator, true);
+
+            assertNotNull(calibrator.getEstimatedCovariance());
+            checkGeneralCovariance(calibrator.getEstimatedCovariance());
+            assertTrue(calibrator.getEstimatedMse() > 0.0);
+            assertNotEquals(0.0, calibrator.getEstimatedChiSq());
+
+            numValid++;
+            break;
+        }
+
+        assertTrue(numValid > 0);
+    }
+
     @Test
     void testCalibrateCommonAxisNoNoiseInlier() throws WrongSizeException,
             InvalidSourceAndDestinationFrameTypeException, LockedException, CalibrationException, NotReadyException {
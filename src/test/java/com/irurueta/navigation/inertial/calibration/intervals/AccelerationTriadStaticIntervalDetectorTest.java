@@ -30,6 +30,8 @@ import com.irurueta.navigation.inertial.BodyKinematics;
 import com.irurueta.navigation.inertial.calibration.AccelerationTriad;
 import com.irurueta.navigation.inertial.calibration.BodyKinematicsGenerator;
 import com.irurueta.navigation.inertial.calibration.IMUErrors;
+import com.irurueta.navigation.inertial.calibration.io.IMULogSlice;
+import com.irurueta.navigation.inertial.calibration.noise.WelchAccelerationTriadNoiseEstimator;
 import com.irurueta.navigation.inertial.estimators.ECEFKinematicsEstimator;
 import com.irurueta.statistics.UniformRandomizer;
 import com.irurueta.units.Acceleration;
@@ -597,6 +599,31 @@ class AccelerationTriadStaticIntervalDetectorTest implements AccelerationTriadSt
         assertEquals(timeInterval2, timeInterval4);
     }
 
+    @Test
+    void testGetSetPsdEstimator() throws LockedException {
+        final var detector = new AccelerationTriadStaticIntervalDetector();
+
+        // check default value
+        assertNull(detector.getPsdEstimator());
+
+        // set new value
+        final var psdEstimator = new WelchAccelerationTriadNoiseEstimator();
+        psdEstimator.setTimeInterval(1.0);
+        detector.setPsdEstimator(psdEstimator);
+
+        // check
+        assertSame(psdEstimator, detector.getPsdEstimator());
+        assertEquals(detector.getTimeInterval(), psdEstimator.getTimeInterval(), 0.0);
+
+        // time interval is kept in sync
+        detector.setTimeInterval(2 * TIME_INTERVAL_SECONDS);
+        assertEquals(2 * TIME_INTERVAL_SECONDS, psdEstimator.getTimeInterval(), 0.0);
+
+        // disable
+        detector.setPsdEstimator(null);
+        assertNull(detector.getPsdEstimator());
+    }
+
     @Test
     void testProcessWithSuccessfulInitializationStaticAndDynamicPeriodAndReset1() throws WrongSizeException,
             InvalidSourceAndDestinationFrameTypeException, LockedException {
@@ -647,6 +674,9 @@ class AccelerationTriadStaticIntervalDetectorTest implements AccelerationTriadSt
         assertEquals(0, reset);
 
         final var detector = new AccelerationTriadStaticIntervalDetector(this);
+        final var psdEstimator = new WelchAccelerationTriadNoiseEstimator();
+        psdEstimator.setSegmentLengthAndOverlap(16, 8);
+        detector.setPsdEstimator(psdEstimator);
 
         assertEquals(AccelerationTriadStaticIntervalDetector.Status.IDLE, detector.getStatus());
         assertEquals(0.0, detector.getBaseNoiseLevel(), 0.0);
@@ -853,9 +883,17 @@ class AccelerationTriadStaticIntervalDetectorTest implements AccelerationTriadSt
         assertEquals(AccelerationTriadStaticIntervalDetector.Status.STATIC_INTERVAL, detector.getStatus());
         assertEquals(initialStaticSamples + 3L * periodLength, detector.getProcessedSamples());
 
+        // PSD is only estimated from static samples
+        assertTrue(psdEstimator.getNumberOfProcessedSegments() > 0);
+        assertTrue(psdEstimator.getNumberOfProcessedSamples() > 0);
+        assertTrue(psdEstimator.getNumberOfProcessedSamples() < detector.getProcessedSamples());
+
         // reset
         detector.reset();
 
+        assertEquals(0, psdEstimator.getNumberOfProcessedSamples());
+        assertEquals(0, psdEstimator.getNumberOfProcessedSegments());
+
         assertEquals(1, reset);
         assertEquals(AccelerationTriadStaticIntervalDetector.Status.IDLE, detector.getStatus());
         assertEquals(0.0, detector.getBaseNoiseLevel(), 0.0);
@@ -1925,6 +1963,47 @@ class AccelerationTriadStaticIntervalDetectorTest implements AccelerationTriadSt
         checkLocked(detector);
     }
 
+    @Test
+    void testProcessSlice() throws LockedException {
+        final var slice = createSlice(TriadStaticIntervalDetector.DEFAULT_INITIAL_STATIC_SAMPLES + 1000, 300);
+        final var fx = slice.getSpecificForcesX();
+        final var fy = slice.getSpecificForcesY();
+        final var fz = slice.getSpecificForcesZ();
+
+        final var detector1 = new AccelerationTriadStaticIntervalDetector();
+        final var detector2 = new AccelerationTriadStaticIntervalDetector();
+
+        assertEquals(slice.getSize(), detector1.processSlice(slice));
+        for (var i = 0; i < slice.getSize(); i++) {
+            assertTrue(detector2.process(fx[i], fy[i], fz[i]));
+        }
+
+        assertEquals(AccelerationTriadStaticIntervalDetector.Status.STATIC_INTERVAL, detector1.getStatus());
+        assertEquals(detector2.getStatus(), detector1.getStatus());
+        assertEquals(detector2.getProcessedSamples(), detector1.getProcessedSamples());
+        assertEquals(detector2.getBaseNoiseLevel(), detector1.getBaseNoiseLevel(), 0.0);
+        assertEquals(detector2.getAccumulatedAvgX(), detector1.getAccumulatedAvgX(), 0.0);
+        assertEquals(detector2.getAccumulatedAvgY(), detector1.getAccumulatedAvgY(), 0.0);
+        assertEquals(detector2.getAccumulatedAvgZ(), detector1.getAccumulatedAvgZ(), 0.0);
+        assertEquals(detector2.getInstantaneousAvgX(), detector1.getInstantaneousAvgX(), 0.0);
+
+        // process a sub-range
+        final var detector3 = new AccelerationTriadStaticIntervalDetector();
+        assertEquals(10, detector3.process(fx, fy, fz, 5, 10));
+        assertEquals(10, detector3.getProcessedSamples());
+
+        // processing stops once detector fails
+        final var detector4 = new AccelerationTriadStaticIntervalDetector();
+        detector4.setBaseNoiseLevelAbsoluteThreshold(VERY_SMALL_ABSOLUTE_ERROR);
+        final var processed = detector4.processSlice(slice);
+        assertEquals(AccelerationTriadStaticIntervalDetector.Status.FAILED, detector4.getStatus());
+        assertEquals(TriadStaticIntervalDetector.DEFAULT_INITIAL_STATIC_SAMPLES, processed);
+
+        // Force IndexOutOfBoundsException
+        assertThrows(IndexOutOfBoundsException.class, () -> detector3.process(fx, fy, fz, -1, 1));
+        assertThrows(IndexOutOfBoundsException.class, () -> detector3.process(fx, fy, new double[1], 0, 2));
+    }
+
     private void reset() {
         initializationStarted = 0;
         initializationCompleted = 0;
@@ -1942,6 +2021,7 @@ class AccelerationTriadStaticIntervalDetectorTest implements AccelerationTriadSt
         assertThrows(LockedException.class, () -> detector.setInstantaneousNoiseLevelFactor(0.0));
         assertThrows(LockedException.class, () -> detector.setBaseNoiseLevelAbsoluteThreshold(0.0));
         assertThrows(LockedException.class, () -> detector.setListener(this));
+        assertThrows(LockedException.class, () -> detector.setPsdEstimator(null));
         assertThrows(LockedException.class, () -> detector.setTimeInterval(0.0));
         final var timeInterval = new Time(1.0, TimeUnit.DAY);
         assertThrows(LockedException.class, () -> detector.setTimeInterval(timeInterval));
@@ -2008,4 +2088,21 @@ class AccelerationTriadStaticIntervalDetectorTest implements AccelerationTriadSt
     private static double getGyroNoiseRootPSD() {
         return 0.01 * DEG_TO_RAD / 60.0;
     }
+
+    private static IMULogSlice createSlice(final int staticSamples, final int dynamicSamples) {
+        final var random = new Random();
+        final var total = 2 * staticSamples + dynamicSamples;
+        final var slice = new IMULogSlice(total);
+        for (var i = 0; i < total; i++) {
+            final var dynamic = i >= staticSamples && i < staticSamples + dynamicSamples;
+            final var motion = dynamic ? 5.0 * Math.sin(0.1 * i) : 0.0;
+            final var offset = i >= staticSamples + dynamicSamples ? 1.0 : 0.0;
+            slice.add(i * TIME_INTERVAL_SECONDS,
+                    offset + motion + 1e-3 * random.nextGaussian(),
+                    motion + 1e-3 * random.nextGaussian(),
+                    -9.81 + 1e-3 * random.nextGaussian(),
+                    0.0, 0.0, 0.0, 0.0, 0.0, 0.0);
+        }
+        return slice;
+    }
 }
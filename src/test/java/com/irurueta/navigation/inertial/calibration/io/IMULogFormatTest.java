@@ -0,0 +1,82 @@
+/*
+ * Copyright (C) 2026 Alberto Irurueta Carro (alberto@irurueta.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.irurueta.navigation.inertial.calibration.io;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class IMULogFormatTest {
+
+    @Test
+    void testConstants() {
+        assertEquals(16, IMULogFormat.HEADER_BYTES);
+        assertEquals(9, IMULogFormat.VALUES_PER_RECORD);
+        assertEquals(8, IMULogPrecision.DOUBLE.getValueBytes());
+        assertEquals(4, IMULogPrecision.FLOAT.getValueBytes());
+        assertEquals(80, IMULogFormat.getRecordBytes(IMULogPrecision.DOUBLE));
+        assertEquals(44, IMULogFormat.getRecordBytes(IMULogPrecision.FLOAT));
+    }
+
+    @Test
+    void testGetRecordCount() {
+        assertEquals(0L, IMULogFormat.getRecordCount(0L, IMULogPrecision.DOUBLE));
+        assertEquals(0L, IMULogFormat.getRecordCount(IMULogFormat.HEADER_BYTES, IMULogPrecision.DOUBLE));
+        assertEquals(2L, IMULogFormat.getRecordCount(IMULogFormat.HEADER_BYTES + 2 * 80 + 79,
+                IMULogPrecision.DOUBLE));
+        assertEquals(3L, IMULogFormat.getRecordCount(IMULogFormat.HEADER_BYTES + 3 * 44,
+                IMULogPrecision.FLOAT));
+    }
+
+    @Test
+    void testWriteAndReadHeader() throws IOException {
+        for (final var precision : IMULogPrecision.values()) {
+            final var buffer = ByteBuffer.allocate(IMULogFormat.HEADER_BYTES);
+            IMULogFormat.writeHeader(precision, buffer);
+            assertFalse(buffer.hasRemaining());
+
+            buffer.flip();
+            assertEquals(precision, IMULogFormat.readHeader(buffer));
+            assertFalse(buffer.hasRemaining());
+        }
+    }
+
+    @Test
+    void testReadInvalidHeader() {
+        final var buffer = ByteBuffer.allocate(IMULogFormat.HEADER_BYTES);
+        IMULogFormat.writeHeader(IMULogPrecision.DOUBLE, buffer);
+
+        // wrong magic
+        buffer.put(0, (byte) 0);
+        buffer.flip();
+        assertThrows(IOException.class, () -> IMULogFormat.readHeader(buffer));
+
+        // wrong precision
+        buffer.clear();
+        IMULogFormat.writeHeader(IMULogPrecision.DOUBLE, buffer);
+        buffer.put(6, (byte) 5);
+        buffer.flip();
+        assertThrows(IOException.class, () -> IMULogFormat.readHeader(buffer));
+
+        // truncated
+        buffer.clear();
+        buffer.limit(IMULogFormat.HEADER_BYTES - 1);
+        assertThrows(IOException.class, () -> IMULogFormat.readHeader(buffer));
+    }
+}
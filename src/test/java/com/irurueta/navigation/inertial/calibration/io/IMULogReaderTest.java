@@ -0,0 +1,110 @@
+/*
+ * Copyright (C) 2026 Alberto Irurueta Carro (alberto@irurueta.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.irurueta.navigation.inertial.calibration.io;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class IMULogReaderTest {
+
+    private static final int SAMPLES = 1000;
+
+    private static final int SLICE_CAPACITY = 64;
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void testReadSlices() throws IOException {
+        for (final var precision : IMULogPrecision.values()) {
+            final var file = tempDir.resolve("log-" + precision + ".imu");
+            final var values = IMULogWriterTest.createValues(SAMPLES);
+            write(file, precision, values);
+
+            // map log using segments that are not a multiple of slice capacity
+            final var recordBytes = IMULogFormat.getRecordBytes(precision);
+            for (final var segmentBytes : new int[]{IMULogReader.MAX_SEGMENT_BYTES, 37 * recordBytes + 5}) {
+                try (final var reader = new IMULogReader(file, segmentBytes)) {
+                    assertEquals(precision, reader.getPrecision());
+                    assertEquals(SAMPLES, reader.getRecordCount());
+
+                    final var slice = new IMULogSlice(SLICE_CAPACITY);
+                    var start = 0L;
+                    int read;
+                    while ((read = reader.read(start, slice)) > 0) {
+                        final var expected = Arrays.copyOfRange(values, (int) start, (int) start + read);
+                        IMULogWriterTest.checkSlice(expected, slice, precision);
+                        start += read;
+                    }
+                    assertEquals(SAMPLES, start);
+                    assertEquals(0, slice.getSize());
+
+                    // read a range with custom length
+                    assertEquals(10, reader.read(35, 10, slice));
+                    IMULogWriterTest.checkSlice(Arrays.copyOfRange(values, 35, 45), slice, precision);
+
+                    // Force IndexOutOfBoundsException
+                    assertThrows(IndexOutOfBoundsException.class, () -> reader.read(-1, slice));
+                    assertThrows(IndexOutOfBoundsException.class, () -> reader.read(SAMPLES + 1, slice));
+
+                    // Force IllegalArgumentException
+                    assertThrows(IllegalArgumentException.class, () -> reader.read(0, -1, slice));
+                    assertThrows(IllegalArgumentException.class,
+                            () -> reader.read(0, SLICE_CAPACITY + 1, slice));
+                }
+            }
+        }
+    }
+
+    @Test
+    void testReadEmptyLog() throws IOException {
+        final var file = tempDir.resolve("log.imu");
+        write(file, IMULogPrecision.DOUBLE, new double[0][]);
+
+        try (final var reader = new IMULogReader(file)) {
+            assertEquals(0L, reader.getRecordCount());
+            assertEquals(0, reader.read(0, new IMULogSlice(1)));
+            assertFalse(reader.createRecord().next());
+        }
+    }
+
+    @Test
+    void testReadInvalidLog() throws IOException {
+        final var empty = tempDir.resolve("empty.imu");
+        Files.write(empty, new byte[0]);
+        assertThrows(IOException.class, () -> new IMULogReader(empty));
+
+        final var invalid = tempDir.resolve("invalid.imu");
+        Files.write(invalid, new byte[2 * IMULogFormat.HEADER_BYTES]);
+        assertThrows(IOException.class, () -> new IMULogReader(invalid));
+    }
+
+    static void write(final Path file, final IMULogPrecision precision, final double[][] values)
+            throws IOException {
+        try (final var writer = new IMULogWriter(file, precision)) {
+            for (final var v : values) {
+                writer.append(v[0], v[1], v[2], v[3], v[4], v[5], v[6], v[7], v[8], v[9]);
+            }
+        }
+    }
+}
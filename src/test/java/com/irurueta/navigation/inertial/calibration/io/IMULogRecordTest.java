@@ -0,0 +1,84 @@
+/*
+ * Copyright (C) 2026 Alberto Irurueta Carro (alberto@irurueta.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.irurueta.navigation.inertial.calibration.io;
+
+import com.irurueta.navigation.inertial.calibration.TimedBodyKinematicsAndMagneticFluxDensity;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Path;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class IMULogRecordTest {
+
+    private static final int SAMPLES = 100;
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void testNextAndMoveTo() throws IOException {
+        for (final var precision : IMULogPrecision.values()) {
+            final var file = tempDir.resolve("log-" + precision + ".imu");
+            final var values = IMULogWriterTest.createValues(SAMPLES);
+            IMULogReaderTest.write(file, precision, values);
+
+            final var recordBytes = IMULogFormat.getRecordBytes(precision);
+            try (final var reader = new IMULogReader(file, 7 * recordBytes)) {
+                final var record = reader.createRecord();
+                assertEquals(-1L, record.getIndex());
+
+                var count = 0;
+                while (record.next()) {
+                    assertEquals(count, record.getIndex());
+                    checkRecord(values[count], record, precision);
+                    count++;
+                }
+                assertEquals(SAMPLES, count);
+
+                record.moveTo(42);
+                assertEquals(42L, record.getIndex());
+                checkRecord(values[42], record, precision);
+                assertTrue(record.next());
+                checkRecord(values[43], record, precision);
+
+                final var sample = new TimedBodyKinematicsAndMagneticFluxDensity();
+                record.toTimedKinematicsAndMagneticFluxDensity(sample);
+                assertEquals(record.getTimestampSeconds(), sample.getTimestampSeconds(), 0.0);
+                assertEquals(record.getFx(), sample.getKinematics().getFx(), 0.0);
+                assertEquals(record.getAngularRateZ(), sample.getKinematics().getAngularRateZ(), 0.0);
+                assertEquals(record.getBy(), sample.getMagneticFluxDensity().getBy(), 0.0);
+
+                // Force IndexOutOfBoundsException
+                assertThrows(IndexOutOfBoundsException.class, () -> record.moveTo(-1));
+                assertThrows(IndexOutOfBoundsException.class, () -> record.moveTo(SAMPLES));
+            }
+        }
+    }
+
+    private static void checkRecord(final double[] expected, final IMULogRecord record,
+                                    final IMULogPrecision precision) {
+        final var actual = new double[]{record.getTimestampSeconds(), record.getFx(), record.getFy(),
+                record.getFz(), record.getAngularRateX(), record.getAngularRateY(), record.getAngularRateZ(),
+                record.getBx(), record.getBy(), record.getBz()};
+        assertEquals(expected[0], actual[0], 0.0);
+        for (var i = 1; i < actual.length; i++) {
+            assertEquals(precision == IMULogPrecision.DOUBLE ? expected[i] : (float) expected[i], actual[i], 0.0);
+        }
+    }
+}
@@ -0,0 +1,124 @@
+/*
+ * Copyright (C) 2026 Alberto Irurueta Carro (alberto@irurueta.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.irurueta.navigation.inertial.calibration.io;
+
+import com.irurueta.navigation.inertial.BodyKinematics;
+import com.irurueta.navigation.inertial.BodyKinematicsAndMagneticFluxDensity;
+import com.irurueta.navigation.inertial.BodyMagneticFluxDensity;
+import com.irurueta.navigation.inertial.calibration.TimedBodyKinematics;
+import com.irurueta.navigation.inertial.calibration.TimedBodyKinematicsAndMagneticFluxDensity;
+import com.irurueta.statistics.UniformRandomizer;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class IMULogSliceTest {
+
+    private static final int CAPACITY = 10;
+
+    @Test
+    void testConstructor() {
+        final var slice = new IMULogSlice(CAPACITY);
+
+        assertEquals(CAPACITY, slice.getCapacity());
+        assertEquals(0, slice.getSize());
+        assertTrue(slice.isEmpty());
+        assertEquals(CAPACITY, slice.getTimestamps().length);
+        assertEquals(CAPACITY, slice.getSpecificForcesX().length);
+        assertEquals(CAPACITY, slice.getSpecificForcesY().length);
+        assertEquals(CAPACITY, slice.getSpecificForcesZ().length);
+        assertEquals(CAPACITY, slice.getAngularRatesX().length);
+        assertEquals(CAPACITY, slice.getAngularRatesY().length);
+        assertEquals(CAPACITY, slice.getAngularRatesZ().length);
+        assertEquals(CAPACITY, slice.getMagneticFluxDensitiesX().length);
+        assertEquals(CAPACITY, slice.getMagneticFluxDensitiesY().length);
+        assertEquals(CAPACITY, slice.getMagneticFluxDensitiesZ().length);
+
+        // Force IllegalArgumentException
+        assertThrows(IllegalArgumentException.class, () -> new IMULogSlice(0));
+    }
+
+    @Test
+    void testGetSetSize() {
+        final var slice = new IMULogSlice(CAPACITY);
+
+        slice.setSize(CAPACITY);
+        assertEquals(CAPACITY, slice.getSize());
+        assertFalse(slice.isEmpty());
+
+        slice.clear();
+        assertEquals(0, slice.getSize());
+
+        // Force IllegalArgumentException
+        assertThrows(IllegalArgumentException.class, () -> slice.setSize(-1));
+        assertThrows(IllegalArgumentException.class, () -> slice.setSize(CAPACITY + 1));
+    }
+
+    @Test
+    void testAddAndGetSamples() {
+        final var randomizer = new UniformRandomizer();
+        final var slice = new IMULogSlice(CAPACITY);
+        final var values = new double[CAPACITY][10];
+        for (var i = 0; i < CAPACITY; i++) {
+            for (var j = 0; j < 10; j++) {
+                values[i][j] = randomizer.nextDouble();
+            }
+            final var v = values[i];
+            assertTrue(slice.add(v[0], v[1], v[2], v[3], v[4], v[5], v[6], v[7], v[8], v[9]));
+        }
+        assertFalse(slice.add(0.0, 0.0, 0.0, 0.0, 0.0, 0.0, 0.0, 0.0, 0.0, 0.0));
+        assertEquals(CAPACITY, slice.getSize());
+
+        final var kinematics = new BodyKinematics();
+        final var b = new BodyMagneticFluxDensity();
+        final var timedKinematics = new TimedBodyKinematics();
+        final var kinematicsAndB = new BodyKinematicsAndMagneticFluxDensity();
+        final var timedKinematicsAndB = new TimedBodyKinematicsAndMagneticFluxDensity();
+        for (var i = 0; i < CAPACITY; i++) {
+            final var v = values[i];
+            assertEquals(v[0], slice.getTimestamps()[i], 0.0);
+
+            slice.getKinematics(i, kinematics);
+            assertEquals(new BodyKinematics(v[1], v[2], v[3], v[4], v[5], v[6]), kinematics);
+
+            slice.getMagneticFluxDensity(i, b);
+            assertEquals(new BodyMagneticFluxDensity(v[7], v[8], v[9]), b);
+
+            slice.getTimedKinematics(i, timedKinematics);
+            assertEquals(v[0], timedKinematics.getTimestampSeconds(), 0.0);
+            assertEquals(kinematics, timedKinematics.getKinematics());
+
+            slice.getKinematicsAndMagneticFluxDensity(i, kinematicsAndB);
+            assertEquals(kinematics, kinematicsAndB.getKinematics());
+            assertEquals(b, kinematicsAndB.getMagneticFluxDensity());
+
+            final var previousKinematics = timedKinematicsAndB.getKinematics();
+            slice.getTimedKinematicsAndMagneticFluxDensity(i, timedKinematicsAndB);
+            assertEquals(v[0], timedKinematicsAndB.getTimestampSeconds(), 0.0);
+            assertEquals(kinematics, timedKinematicsAndB.getKinematics());
+            assertEquals(b, timedKinematicsAndB.getMagneticFluxDensity());
+            if (previousKinematics != null) {
+                // contained instances are reused
+                assertSame(previousKinematics, timedKinematicsAndB.getKinematics());
+            }
+        }
+
+        // Force IndexOutOfBoundsException
+        slice.setSize(1);
+        assertThrows(IndexOutOfBoundsException.class, () -> slice.getKinematics(1, kinematics));
+        assertThrows(IndexOutOfBoundsException.class, () -> slice.getMagneticFluxDensity(-1, b));
+    }
+}
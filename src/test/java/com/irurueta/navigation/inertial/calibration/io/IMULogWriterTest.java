@@ -0,0 +1,210 @@
+/*
+ * Copyright (C) 2026 Alberto Irurueta Carro (alberto@irurueta.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.irurueta.navigation.inertial.calibration.io;
+
+import com.irurueta.navigation.inertial.BodyKinematics;
+import com.irurueta.navigation.inertial.BodyMagneticFluxDensity;
+import com.irurueta.navigation.inertial.calibration.TimedBodyKinematics;
+import com.irurueta.navigation.inertial.calibration.TimedBodyKinematicsAndMagneticFluxDensity;
+import com.irurueta.statistics.UniformRandomizer;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.channels.ClosedChannelException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class IMULogWriterTest {
+
+    private static final int SAMPLES = 1000;
+
+    private static final int BUFFER_RECORDS = 7;
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void testConstructor() throws IOException {
+        final var file = tempDir.resolve("log.imu");
+        try (final var writer = new IMULogWriter(file)) {
+            assertEquals(IMULogPrecision.DOUBLE, writer.getPrecision());
+            assertEquals(0L, writer.getRecordCount());
+        }
+        assertEquals(IMULogFormat.HEADER_BYTES, Files.size(file));
+
+        try (final var writer = new IMULogWriter(file, IMULogPrecision.FLOAT)) {
+            assertEquals(IMULogPrecision.FLOAT, writer.getPrecision());
+            assertEquals(0L, writer.getRecordCount());
+        }
+
+        // Force IllegalArgumentException
+        assertThrows(IllegalArgumentException.class,
+                () -> new IMULogWriter(file, IMULogPrecision.DOUBLE, false, 0));
+    }
+
+    @Test
+    void testAppendAndFlush() throws IOException {
+        for (final var precision : IMULogPrecision.values()) {
+            final var file = tempDir.resolve("log-" + precision + ".imu");
+            final var values = createValues(SAMPLES);
+            final var recordBytes = IMULogFormat.getRecordBytes(precision);
+
+            try (final var writer = new IMULogWriter(file, precision, false, BUFFER_RECORDS)) {
+                for (var i = 0; i < SAMPLES; i++) {
+                    final var v = values[i];
+                    writer.append(v[0], v[1], v[2], v[3], v[4], v[5], v[6], v[7], v[8], v[9]);
+                    assertEquals(i + 1, writer.getRecordCount());
+                }
+
+                writer.flush();
+                assertEquals(IMULogFormat.HEADER_BYTES + (long) SAMPLES * recordBytes, Files.size(file));
+            }
+
+            try (final var reader = new IMULogReader(file)) {
+                assertEquals(precision, reader.getPrecision());
+                assertEquals(SAMPLES, reader.getRecordCount());
+
+                final var slice = new IMULogSlice(SAMPLES);
+                assertEquals(SAMPLES, reader.read(0, slice));
+                checkSlice(values, slice, precision);
+            }
+        }
+    }
+
+    @Test
+    void testAppendSamples() throws IOException {
+        final var file = tempDir.resolve("log.imu");
+        final var kinematics = new BodyKinematics(1.0, 2.0, 3.0, 4.0, 5.0, 6.0);
+        final var b = new BodyMagneticFluxDensity(7.0, 8.0, 9.0);
+
+        final var slice = new IMULogSlice(2);
+        slice.add(4.0, 1.0, 1.0, 1.0, 2.0, 2.0, 2.0, 3.0, 3.0, 3.0);
+        slice.add(5.0, 4.0, 4.0, 4.0, 5.0, 5.0, 5.0, 6.0, 6.0, 6.0);
+
+        try (final var writer = new IMULogWriter(file)) {
+            writer.append(new TimedBodyKinematics(kinematics, 1.0));
+            writer.append(new TimedBodyKinematicsAndMagneticFluxDensity(kinematics, b, 2.0));
+            writer.append(new TimedBodyKinematicsAndMagneticFluxDensity(3.0));
+            writer.append(slice);
+            assertEquals(5L, writer.getRecordCount());
+        }
+
+        try (final var reader = new IMULogReader(file)) {
+            final var result = new IMULogSlice(5);
+            assertEquals(5, reader.read(0, result));
+
+            final var expected = new double[][]{
+                    {1.0, 1.0, 2.0, 3.0, 4.0, 5.0, 6.0, 0.0, 0.0, 0.0},
+                    {2.0, 1.0, 2.0, 3.0, 4.0, 5.0, 6.0, 7.0, 8.0, 9.0},
+                    {3.0, 0.0, 0.0, 0.0, 0.0, 0.0, 0.0, 0.0, 0.0, 0.0},
+                    {4.0, 1.0, 1.0, 1.0, 2.0, 2.0, 2.0, 3.0, 3.0, 3.0},
+                    {5.0, 4.0, 4.0, 4.0, 5.0, 5.0, 5.0, 6.0, 6.0, 6.0}};
+            checkSlice(expected, result, IMULogPrecision.DOUBLE);
+        }
+    }
+
+    @Test
+    void testAppendToExistingLog() throws IOException {
+        final var file = tempDir.resolve("log.imu");
+        final var values = createValues(SAMPLES);
+        final var half = SAMPLES / 2;
+
+        try (final var writer = new IMULogWriter(file, IMULogPrecision.FLOAT, true)) {
+            for (var i = 0; i < half; i++) {
+                final var v = values[i];
+                writer.append(v[0], v[1], v[2], v[3], v[4], v[5], v[6], v[7], v[8], v[9]);
+            }
+        }
+
+        // simulate an interrupted write leaving an incomplete record
+        Files.write(file, new byte[]{1, 2, 3}, StandardOpenOption.APPEND);
+
+        try (final var writer = new IMULogWriter(file, IMULogPrecision.FLOAT, true)) {
+            assertEquals(half, writer.getRecordCount());
+            for (var i = half; i < SAMPLES; i++) {
+                final var v = values[i];
+                writer.append(v[0], v[1], v[2], v[3], v[4], v[5], v[6], v[7], v[8], v[9]);
+            }
+            assertEquals(SAMPLES, writer.getRecordCount());
+        }
+
+        try (final var reader = new IMULogReader(file)) {
+            assertEquals(SAMPLES, reader.getRecordCount());
+            final var slice = new IMULogSlice(SAMPLES);
+            reader.read(0, slice);
+            checkSlice(values, slice, IMULogPrecision.FLOAT);
+        }
+
+        // Force IOException due to precision mismatch
+        assertThrows(IOException.class, () -> new IMULogWriter(file, IMULogPrecision.DOUBLE, true));
+
+        // Force IOException due to invalid log
+        final var invalid = tempDir.resolve("invalid.imu");
+        Files.write(invalid, new byte[IMULogFormat.HEADER_BYTES]);
+        assertThrows(IOException.class, () -> new IMULogWriter(invalid, IMULogPrecision.DOUBLE, true));
+    }
+
+    @Test
+    void testClose() throws IOException {
+        final var file = tempDir.resolve("log.imu");
+        final var writer = new IMULogWriter(file);
+        writer.append(1.0, 0.0, 0.0, 0.0, 0.0, 0.0, 0.0, 0.0, 0.0, 0.0);
+        writer.close();
+
+        assertEquals(IMULogFormat.HEADER_BYTES + IMULogFormat.getRecordBytes(IMULogPrecision.DOUBLE),
+                Files.size(file));
+
+        // closing again has no effect
+        writer.close();
+
+        // Force ClosedChannelException
+        assertThrows(ClosedChannelException.class,
+                () -> writer.append(1.0, 0.0, 0.0, 0.0, 0.0, 0.0, 0.0, 0.0, 0.0, 0.0));
+        assertThrows(ClosedChannelException.class, writer::flush);
+    }
+
+    static double[][] createValues(final int samples) {
+        final var randomizer = new UniformRandomizer();
+        final var result = new double[samples][10];
+        for (var i = 0; i < samples; i++) {
+            result[i][0] = 0.01 * i;
+            for (var j = 1; j < 10; j++) {
+                result[i][j] = randomizer.nextDouble(-10.0, 10.0);
+            }
+        }
+        return result;
+    }
+
+    static void checkSlice(final double[][] expected, final IMULogSlice slice, final IMULogPrecision precision) {
+        final var arrays = new double[][]{slice.getTimestamps(), slice.getSpecificForcesX(),
+                slice.getSpecificForcesY(), slice.getSpecificForcesZ(), slice.getAngularRatesX(),
+                slice.getAngularRatesY(), slice.getAngularRatesZ(), slice.getMagneticFluxDensitiesX(),
+                slice.getMagneticFluxDensitiesY(), slice.getMagneticFluxDensitiesZ()};
+        assertEquals(expected.length, slice.getSize());
+        for (var i = 0; i < expected.length; i++) {
+            // timestamps are always stored with double precision
+            assertEquals(expected[i][0], arrays[0][i], 0.0);
+            for (var j = 1; j < 10; j++) {
+                final var value = expected[i][j];
+                assertEquals(precision == IMULogPrecision.DOUBLE ? value : (float) value, arrays[j][i], 0.0);
+            }
+        }
+    }
+}
@@ -25,6 +25,7 @@ import com.irurueta.navigation.frames.NEDPosition;
 import com.irurueta.navigation.inertial.BodyMagneticFluxDensity;
 import com.irurueta.navigation.inertial.calibration.BodyMagneticFluxDensityGenerator;
 import com.irurueta.navigation.inertial.calibration.CalibrationException;
+import com.irurueta.navigation.inertial.calibration.InliersDataStorage;
 import com.irurueta.navigation.inertial.calibration.MagneticFluxDensityTriad;
 import com.irurueta.navigation.inertial.calibration.StandardDeviationBodyMagneticFluxDensity;
 import com.irurueta.navigation.inertial.estimators.BodyMagneticFluxDensityEstimator;
@@ -39,6 +40,7 @@ import org.junit.jupiter.api.Test;
 
 import java.io.IOException;
 import java.util.ArrayList;
+import java.util.BitSet;
 import java.util.Calendar;
 import java.util.Collections;
 import java.util.Date;
@@ -76,6 +78,8 @@ class LMedSRobustKnownMagneticFluxDensityNormMagnetometerCalibratorTest implemen
 
     private static final int MEASUREMENT_NUMBER = 1000;
 
+    private static final int SCORING_SAMPLE_SIZE = 200;
+
     private static final int OUTLIER_PERCENTAGE = 4;
 
     private static final double THRESHOLD = 1e-9;
@@ -7967,6 +7971,56 @@ class LMedSRobustKnownMagneticFluxDensityNormMagnetometerCalibratorTest implemen
         assertThrows(IllegalArgumentException.class, () -> calibrator.setPreliminarySubsetSize(9));
     }
 
+    @Test
+    void testIsSetSampledScoring() throws LockedException {
+        final var calibrator = new LMedSRobustKnownMagneticFluxDensityNormMagnetometerCalibrator();
+
+        // check default value
+        assertEquals(LMedSRobustKnownMagneticFluxDensityNormMagnetometerCalibrator.DEFAULT_SAMPLED_SCORING,
+                calibrator.isSampledScoring());
+        assertNull(calibrator.getCompactInliersData());
+
+        // set a new value
+        calibrator.setSampledScoring(true);
+
+        // check
+        assertTrue(calibrator.isSampledScoring());
+    }
+
+    @Test
+    void testGetSetScoringSampleSize() throws LockedException {
+        final var calibrator = new LMedSRobustKnownMagneticFluxDensityNormMagnetometerCalibrator();
+
+        // check default value
+        assertEquals(LMedSRobustKnownMagneticFluxDensityNormMagnetometerCalibrator.DEFAULT_SCORING_SAMPLE_SIZE,
+                calibrator.getScoringSampleSize());
+
+        // set a new value
+        calibrator.setScoringSampleSize(100);
+
+        // check
+        assertEquals(100, calibrator.getScoringSampleSize());
+
+        // Force IllegalArgumentException
+        assertThrows(IllegalArgumentException.class, () -> calibrator.setScoringSampleSize(9));
+    }
+
+    @Test
+    void testGetSetInliersDataStorage() throws LockedException {
+        final var calibrator = new LMedSRobustKnownMagneticFluxDensityNormMagnetometerCalibrator();
+
+        // check default value
+        assertEquals(LMedSRobustKnownMagneticFluxDensityNormMagnetometerCalibrator.DEFAULT_INLIERS_DATA_STORAGE,
+                calibrator.getInliersDataStorage());
+        assertEquals(InliersDataStorage.FULL, calibrator.getInliersDataStorage());
+
+        // set a new value
+        calibrator.setInliersDataStorage(InliersDataStorage.COMPACT_NO_RESIDUALS);
+
+        // check
+        assertEquals(InliersDataStorage.COMPACT_NO_RESIDUALS, calibrator.getInliersDataStorage());
+    }
+
     @Test
     void testCalibrateGeneralNoNoiseInlier() throws IOException, LockedException, WrongSizeException,
             NotReadyException {
@@ -8058,6 +8112,217 @@ class LMedSRobustKnownMagneticFluxDensityNormMagnetometerCalibratorTest implemen
         assertTrue(numValid > 0);
     }
 
+    @Test
+    void testCalibrateGeneralSampledScoring() throws IOException, LockedException, WrongSizeException,
+            NotReadyException {
+
+        var numValid = 0;
+        for (var t = 0; t < TIMES; t++) {
+            final var randomizer = new UniformRandomizer();
+            final var wmmEstimator = new WMMEarthMagneticFluxDensityEstimator();
+
+            final var hardIron = generateHardIron(randomizer);
+            final var bm = Matrix.newFromArray(hardIron);
+            final var mm = generateSoftIronGeneral();
+            assertNotNull(mm);
+
+            final var noiseRandomizer = new GaussianRandomizer(0.0, 
+                    OUTLIER_ERROR_FACTOR * MAGNETOMETER_NOISE_STD);
+
+            final var position = createPosition(randomizer);
+            final var timestamp = new Date(createTimestamp(randomizer));
+            final var measurements = new ArrayList<StandardDeviationBodyMagneticFluxDensity>();
+            final var inliers = new BitSet(MEASUREMENT_NUMBER);
+            for (var i = 0; i < MEASUREMENT_NUMBER; i++) {
+                final var cnb = generateBodyC(randomizer);
+
+                final StandardDeviationBodyMagneticFluxDensity b;
+                if (randomizer.nextInt(0, 100) < OUTLIER_PERCENTAGE) {
+                    // outlier
+                    b = generateMeasure(hardIron, mm, wmmEstimator, noiseRandomizer, position, timestamp, cnb);
+                } else {
+                    // inlier
+                    inliers.set(i);
+                    b = generateMeasure(hardIron, mm, wmmEstimator, null, position, timestamp, cnb);
+                }
+                measurements.add(b);
+            }
+            final var calendar = new GregorianCalendar();
+            calendar.setTime(timestamp);
+            final var year = WMMEarthMagneticFluxDensityEstimator.convertTime(calendar);
+            final var groundTruthMagneticFluxDensityNorm = getMagneticFluxDensityAtPosition(position, year).getNorm();
+
+            final var calibrator = new LMedSRobustKnownMagneticFluxDensityNormMagnetometerCalibrator(
+                    groundTruthMagneticFluxDensityNorm, measurements, false, bm, mm, this);
+            calibrator.setStopThreshold(THRESHOLD);
+            calibrator.setSampledScoring(true);
+            calibrator.setScoringSampleSize(SCORING_SAMPLE_SIZE);
+
+            // estimate
+            reset();
+            assertTrue(calibrator.isReady());
+            assertFalse(calibrator.isRunning());
+            assertEquals(0, calibrateStart);
+            assertEquals(0, calibrateEnd);
+            assertEquals(0, calibrateNextIteration);
+            assertEquals(0, calibrateProgressChange);
+
+            try {
+                calibrator.calibrate();
+            } catch (final CalibrationException e) {
+                continue;
+            }
+
+            // check
+            assertTrue(calibrator.isReady());
+            assertFalse(calibrator.isRunning());
+            assertEquals(1, calibrateStart);
+            assertEquals(1, calibrateEnd);
+            assertTrue(calibrateNextIteration > 0);
+            assertTrue(calibrateProgressChange >= 0);
+
+            final var estimatedHardIron = calibrator.getEstimatedHardIronAsMatrix();
+            final var estimatedMm = calibrator.getEstimatedMm();
+
+            if (!bm.equals(estimatedHardIron, ABSOLUTE_ERROR)) {
+                continue;
+            }
+            if (!mm.equals(estimatedMm, ABSOLUTE_ERROR)) {
+                continue;
+            }
+            // hypotheses were scored on sampled measurements, while inliers are found among
+            // all measurements using the threshold estimated from sampled residuals
+            assertEquals(SCORING_SAMPLE_SIZE, calibrator.getInliersData().getResiduals().length);
+            final var compactInliersData = calibrator.getCompactInliersData();
+            assertEquals(MEASUREMENT_NUMBER, compactInliersData.getNumMeasurements());
+            assertTrue(compactInliersData.getNumInliers() > MEASUREMENT_NUMBER / 2);
+            final var found = compactInliersData.getInliers();
+            for (var i = found.nextSetBit(0); i >= 0; i = found.nextSetBit(i + 1)) {
+                assertTrue(inliers.get(i));
+            }
+
+            assertTrue(bm.equals(estimatedHardIron, ABSOLUTE_ERROR));
+            assertTrue(mm.equals(estimatedMm, ABSOLUTE_ERROR));
+
+            assertEstimatedResult(estimatedHardIron, estimatedMm, calibrator, true);
+
+            assertNotNull(calibrator.getEstimatedCovariance());
+            checkGeneralCovariance(calibrator.getEstimatedCovariance());
+            assertTrue(calibrator.getEstimatedMse() > 0.0);
+            assertNotEquals(0.0, calibrator.getEstimatedChiSq());
+
+            numValid++;
+            break;
+        }
+
+        assertTrue(numValid > 0);
+    }
+
+    @Test
+    void testCalibrateGeneralCompactInliers() throws IOException, LockedException, WrongSizeException,
+            NotReadyException {
+
+        var numValid = 0;
+        for (var t = 0; t < TIMES; t++) {
+            final var randomizer = new UniformRandomizer();
+            final var wmmEstimator = new WMMEarthMagneticFluxDensityEstimator();
+
+            final var hardIron = generateHardIron(randomizer);
+            final var bm = Matrix.newFromArray(hardIron);
+            final var mm = generateSoftIronGeneral();
+            assertNotNull(mm);
+
+            final var noiseRandomizer = new GaussianRandomizer(0.0, 
+                    OUTLIER_ERROR_FACTOR * MAGNETOMETER_NOISE_STD);
+
+            final var position = createPosition(randomizer);
+            final var timestamp = new Date(createTimestamp(randomizer));
+            final var measurements = new ArrayList<StandardDeviationBodyMagneticFluxDensity>();
+            final var inliers = new BitSet(MEASUREMENT_NUMBER);
+            for (var i = 0; i < MEASUREMENT_NUMBER; i++) {
+                final var cnb = generateBodyC(randomizer);
+
+                final StandardDeviationBodyMagneticFluxDensity b;
+                if (randomizer.nextInt(0, 100) < OUTLIER_PERCENTAGE) {
+                    // outlier
+                    b = generateMeasure(hardIron, mm, wmmEstimator, noiseRandomizer, position, timestamp, cnb);
+                } else {
+                    // inlier
+                    inliers.set(i);
+                    b = generateMeasure(hardIron, mm, wmmEstimator, null, position, timestamp, cnb);
+                }
+                measurements.add(b);
+            }
+            final var calendar = new GregorianCalendar();
+            calendar.setTime(timestamp);
+            final var year = WMMEarthMagneticFluxDensityEstimator.convertTime(calendar);
+            final var groundTruthMagneticFluxDensityNorm = getMagneticFluxDensityAtPosition(position, year).getNorm();
+
+            final var calibrator = new LMedSRobustKnownMagneticFluxDensityNormMagnetometerCalibrator(
+                    groundTruthMagneticFluxDensityNorm, measurements, false, bm, mm, this);
+            calibrator.setStopThreshold(THRESHOLD);
+            calibrator.setInliersDataStorage(InliersDataStorage.COMPACT_FLOAT_RESIDUALS);
+
+            // estimate
+            reset();
+            assertTrue(calibrator.isReady());
+            assertFalse(calibrator.isRunning());
+            assertEquals(0, calibrateStart);
+            assertEquals(0, calibrateEnd);
+            assertEquals(0, calibrateNextIteration);
+            assertEquals(0, calibrateProgressChange);
+
+            try {
+                calibrator.calibrate();
+            } catch (final CalibrationException e) {
+                continue;
+            }
+
+            // check
+            assertTrue(calibrator.isReady());
+            assertFalse(calibrator.isRunning());
+            assertEquals(1, calibrateStart);
+            assertEquals(1, calibrateEnd);
+            assertTrue(calibrateNextIteration > 0);
+            assertTrue(calibrateProgressChange >= 0);
+
+            final var estimatedHardIron = calibrator.getEstimatedHardIronAsMatrix();
+            final var estimatedMm = calibrator.getEstimatedMm();
+
+            if (!bm.equals(estimatedHardIron, ABSOLUTE_ERROR)) {
+                continue;
+            }
+            if (!mm.equals(estimatedMm, ABSOLUTE_ERROR)) {
+                continue;
+            }
+            // inliers data reported by robust estimator is released once compacted
+            assertNull(calibrator.getInliersData());
+            final var compactInliersData = calibrator.getCompactInliersData();
+            assertEquals(MEASUREMENT_NUMBER, compactInliersData.getResiduals().length);
+            assertEquals(MEASUREMENT_NUMBER, compactInliersData.getNumMeasurements());
+            assertTrue(compactInliersData.getNumInliers() > MEASUREMENT_NUMBER / 2);
+            final var found = compactInliersData.getInliers();
+            for (var i = found.nextSetBit(0); i >= 0; i = found.nextSetBit(i + 1)) {
+                assertTrue(inliers.get(i));
+            }
+
+            assertTrue(bm.equals(estimatedHardIron, ABSOLUTE_ERROR));
+            assertTrue(mm.equals(estimatedMm, ABSOLUTE_ERROR));
+
+            assertEstimatedResult(estimatedHardIron, estimatedMm, calibrator, true);
+
+            assertNotNull(calibrator.getEstimatedCovariance());
+            checkGeneralCovariance(calibrator.getEstimatedCovariance());
+            assertTrue(calibrator.getEstimatedMse() > 0.0);
+            assertNotEquals(0.0, calibrator.getEstimatedChiSq());
+
+            numValid++;
+            break;
+        }
+
+        assertTrue(numValid > 0);
+    }
+
     @Test
     void testCalibrateCommonAxisNoNoiseInlier() throws IOException, LockedException, CalibrationException,
             NotReadyException, WrongSizeException {
@@ -29,9 +29,13 @@ import com.irurueta.units.Time;
 import com.irurueta.units.TimeUnit;
 import org.junit.jupiter.api.Test;
 
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Random;
 
 import static org.junit.jupiter.api.Assertions.*;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
 
 class AccumulatedAccelerationMeasurementNoiseEstimatorTest implements
         AccumulatedAccelerationMeasurementNoiseEstimatorListener {
@@ -44,6 +48,8 @@ class AccumulatedAccelerationMeasurementNoiseEstimatorTest implements
 
     private static final double ABSOLUTE_ERROR = 1e-8;
 
+    private static final double RELATIVE_VARIANCE_ERROR = 0.05;
+
     private static final int N_SAMPLES = 1000;
 
     private int start;
@@ -433,6 +439,122 @@ class AccumulatedAccelerationMeasurementNoiseEstimatorTest implements
         assertFalse(estimator.isRunning());
     }
 
+    @Test
+    void testMerge() throws LockedException, WrongSizeException {
+        final var measurements = generateMeasurements();
+
+        final var estimator = new AccumulatedAccelerationMeasurementNoiseEstimator();
+        final var estimator1 = new AccumulatedAccelerationMeasurementNoiseEstimator(this);
+        final var estimator2 = new AccumulatedAccelerationMeasurementNoiseEstimator();
+
+        for (var i = 0; i < N_SAMPLES; i++) {
+            final var measurement = measurements.get(i);
+            estimator.addMeasurement(measurement);
+            if (i < N_SAMPLES / 2) {
+                estimator1.addMeasurement(measurement);
+            } else {
+                estimator2.addMeasurement(measurement);
+            }
+        }
+
+        reset();
+        estimator1.merge(estimator2);
+
+        // check that no events are raised
+        assertEquals(0, start);
+        assertEquals(0, measurementAdded);
+        assertEquals(0, reset);
+        assertFalse(estimator1.isRunning());
+
+        assertEquals(N_SAMPLES, estimator1.getNumberOfProcessedSamples());
+        assertEquals(measurements.get(N_SAMPLES - 1), estimator1.getLastMeasurement());
+
+        // compute exact average and variance
+        var avg = 0.0;
+        for (final var measurement : measurements) {
+            avg += measurement.getValue().doubleValue() / N_SAMPLES;
+        }
+        var variance = 0.0;
+        for (final var measurement : measurements) {
+            final var diff = measurement.getValue().doubleValue() - avg;
+            variance += diff * diff / N_SAMPLES;
+        }
+
+        assertEquals(avg, estimator1.getAvg(), ABSOLUTE_ERROR);
+        assertEquals(estimator.getAvg(), estimator1.getAvg(), ABSOLUTE_ERROR);
+        assertEquals(variance, estimator1.getVariance(), RELATIVE_VARIANCE_ERROR * variance);
+        assertEquals(estimator.getVariance(), estimator1.getVariance(),
+                RELATIVE_VARIANCE_ERROR * estimator.getVariance());
+
+        // merging into an empty estimator copies provided one
+        final var estimator3 = new AccumulatedAccelerationMeasurementNoiseEstimator();
+        estimator3.merge(estimator);
+        assertEquals(N_SAMPLES, estimator3.getNumberOfProcessedSamples());
+        assertEquals(estimator.getAvg(), estimator3.getAvg(), 0.0);
+        assertEquals(estimator.getVariance(), estimator3.getVariance(), 0.0);
+        assertEquals(estimator.getLastMeasurement(), estimator3.getLastMeasurement());
+
+        // force IllegalArgumentException
+        final var estimator4 = new AccumulatedAccelerationMeasurementNoiseEstimator();
+        estimator4.setTimeInterval(2.0 * estimator4.getTimeInterval());
+        assertThrows(IllegalArgumentException.class, () -> estimator1.merge(estimator4));
+    }
+
+    @Test
+    void testCollector() throws LockedException, WrongSizeException {
+        final var measurements = generateMeasurements();
+
+        final var estimator = new AccumulatedAccelerationMeasurementNoiseEstimator();
+        for (final var measurement : measurements) {
+            estimator.addMeasurement(measurement);
+        }
+
+        final var serial = measurements.stream().collect(
+                AccumulatedAccelerationMeasurementNoiseEstimator.collector());
+        assertEquals(AccumulatedMeasurementNoiseEstimator.DEFAULT_TIME_INTERVAL_SECONDS, serial.getTimeInterval(),
+                0.0);
+        assertEquals(N_SAMPLES, serial.getNumberOfProcessedSamples());
+        assertEquals(estimator.getAvg(), serial.getAvg(), 0.0);
+        assertEquals(estimator.getVariance(), serial.getVariance(), 0.0);
+
+        final var parallel = measurements.parallelStream().collect(
+                AccumulatedAccelerationMeasurementNoiseEstimator.collector(0.01));
+        assertEquals(0.01, parallel.getTimeInterval(), 0.0);
+        assertEquals(N_SAMPLES, parallel.getNumberOfProcessedSamples());
+        assertEquals(measurements.get(N_SAMPLES - 1), parallel.getLastMeasurement());
+        assertEquals(estimator.getAvg(), parallel.getAvg(), ABSOLUTE_ERROR);
+        assertEquals(estimator.getVariance(), parallel.getVariance(),
+                RELATIVE_VARIANCE_ERROR * estimator.getVariance());
+
+        // force IllegalArgumentException
+        assertThrows(IllegalArgumentException.class,
+                () -> AccumulatedAccelerationMeasurementNoiseEstimator.collector(-1.0));
+    }
+
+    @Test
+    void testAddMeasurementIsAllocationFree() throws LockedException {
+        final var threadBean = ManagementFactory.getThreadMXBean();
+        assumeTrue(threadBean instanceof com.sun.management.ThreadMXBean);
+        final var bean = (com.sun.management.ThreadMXBean) threadBean;
+        assumeTrue(bean.isThreadAllocatedMemorySupported() && bean.isThreadAllocatedMemoryEnabled());
+
+        final var estimator = new AccumulatedAccelerationMeasurementNoiseEstimator();
+
+        // warm up
+        for (var i = 0; i < N_SAMPLES; i++) {
+            estimator.addMeasurement(i);
+        }
+
+        final var start = bean.getCurrentThreadAllocatedBytes();
+        for (var i = 0; i < N_SAMPLES; i++) {
+            estimator.addMeasurement(i);
+        }
+        final var allocated = bean.getCurrentThreadAllocatedBytes() - start;
+
+        // allow a small slack for measurement noise, far below one object per call
+        assertTrue(allocated < N_SAMPLES);
+    }
+
     @Override
     public void onStart(final AccumulatedAccelerationMeasurementNoiseEstimator estimator) {
         checkLocked(estimator);
@@ -464,6 +586,29 @@ class AccumulatedAccelerationMeasurementNoiseEstimatorTest implements
         final var a = new Acceleration(0.0, AccelerationUnit.METERS_PER_SQUARED_SECOND);
         assertThrows(LockedException.class, () -> estimator.addMeasurement(a));
         assertThrows(LockedException.class, estimator::reset);
+        assertThrows(LockedException.class, () -> estimator.merge(estimator));
+    }
+
+    private static List<Acceleration> generateMeasurements() throws WrongSizeException {
+        final var errors = new IMUErrors(generateBa(), generateBg(), generateMa(), generateMg(), generateGg(),
+                getAccelNoiseRootPsd(), getGyroNoiseRootPsd(), 0.0, 0.0);
+
+        final var randomizer = new UniformRandomizer();
+        final var fx = randomizer.nextDouble(MIN_ACCELEROMETER_VALUE, MAX_ACCELEROMETER_VALUE);
+        final var fy = randomizer.nextDouble(MIN_ACCELEROMETER_VALUE, MAX_ACCELEROMETER_VALUE);
+        final var fz = randomizer.nextDouble(MIN_ACCELEROMETER_VALUE, MAX_ACCELEROMETER_VALUE);
+
+        final var trueKinematics = new BodyKinematics(fx, fy, fz, 0.0, 0.0, 0.0);
+
+        final var result = new ArrayList<Acceleration>();
+        final var kinematics = new BodyKinematics();
+        final var random = new Random();
+        for (var i = 0; i < N_SAMPLES; i++) {
+            BodyKinematicsGenerator.generate(AccumulatedMeasurementNoiseEstimator.DEFAULT_TIME_INTERVAL_SECONDS,
+                    trueKinematics, errors, random, kinematics);
+            result.add(kinematics.getSpecificForceNormAsAcceleration());
+        }
+        return result;
     }
 
     private static Matrix generateBa() {
@@ -29,6 +29,8 @@ import com.irurueta.units.Time;
 import com.irurueta.units.TimeUnit;
 import org.junit.jupiter.api.Test;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Random;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -43,6 +45,8 @@ class AccumulatedAccelerationTriadNoiseEstimatorTest implements AccumulatedAccel
 
     private static final double ABSOLUTE_ERROR = 1e-8;
 
+    private static final double RELATIVE_VARIANCE_ERROR = 0.05;
+
     private static final int N_SAMPLES = 1000;
 
     private int start;
@@ -1090,6 +1094,137 @@ class AccumulatedAccelerationTriadNoiseEstimatorTest implements AccumulatedAccel
         assertFalse(estimator.isRunning());
     }
 
+    @Test
+    void testMerge() throws LockedException, WrongSizeException {
+        final var triads = generateTriads();
+
+        final var estimator = new AccumulatedAccelerationTriadNoiseEstimator();
+        final var estimator1 = new AccumulatedAccelerationTriadNoiseEstimator(this);
+        final var estimator2 = new AccumulatedAccelerationTriadNoiseEstimator();
+
+        for (var i = 0; i < N_SAMPLES; i++) {
+            final var triad = triads.get(i);
+            estimator.addTriad(triad);
+            if (i < N_SAMPLES / 3) {
+                estimator1.addTriad(triad);
+            } else {
+                estimator2.addTriad(triad);
+            }
+        }
+
+        reset();
+        estimator1.merge(estimator2);
+
+        // check that no events are raised and provided estimator is not modified
+        assertEquals(0, start);
+        assertEquals(0, triadAdded);
+        assertEquals(0, reset);
+        assertEquals(N_SAMPLES - N_SAMPLES / 3, estimator2.getNumberOfProcessedSamples());
+        assertFalse(estimator1.isRunning());
+
+        assertEquals(N_SAMPLES, estimator1.getNumberOfProcessedSamples());
+        assertEquals(triads.get(N_SAMPLES - 1), estimator1.getLastTriad());
+
+        // compute exact averages and variances
+        var avgX = 0.0;
+        var avgY = 0.0;
+        var avgZ = 0.0;
+        for (final var triad : triads) {
+            avgX += triad.getValueX() / N_SAMPLES;
+            avgY += triad.getValueY() / N_SAMPLES;
+            avgZ += triad.getValueZ() / N_SAMPLES;
+        }
+        var varX = 0.0;
+        var varY = 0.0;
+        var varZ = 0.0;
+        for (final var triad : triads) {
+            final var diffX = triad.getValueX() - avgX;
+            final var diffY = triad.getValueY() - avgY;
+            final var diffZ = triad.getValueZ() - avgZ;
+            varX += diffX * diffX / N_SAMPLES;
+            varY += diffY * diffY / N_SAMPLES;
+            varZ += diffZ * diffZ / N_SAMPLES;
+        }
+
+        assertEquals(avgX, estimator1.getAvgX(), ABSOLUTE_ERROR);
+        assertEquals(avgY, estimator1.getAvgY(), ABSOLUTE_ERROR);
+        assertEquals(avgZ, estimator1.getAvgZ(), ABSOLUTE_ERROR);
+        assertEquals(estimator.getAvgX(), estimator1.getAvgX(), ABSOLUTE_ERROR);
+        assertEquals(estimator.getAvgY(), estimator1.getAvgY(), ABSOLUTE_ERROR);
+        assertEquals(estimator.getAvgZ(), estimator1.getAvgZ(), ABSOLUTE_ERROR);
+
+        // serial pass uses a recursive biased estimator converging to the exact variance
+        assertEquals(varX, estimator1.getVarianceX(), RELATIVE_VARIANCE_ERROR * varX);
+        assertEquals(varY, estimator1.getVarianceY(), RELATIVE_VARIANCE_ERROR * varY);
+        assertEquals(varZ, estimator1.getVarianceZ(), RELATIVE_VARIANCE_ERROR * varZ);
+        assertEquals(estimator.getVarianceX(), estimator1.getVarianceX(),
+                RELATIVE_VARIANCE_ERROR * estimator.getVarianceX());
+        assertEquals(estimator.getVarianceY(), estimator1.getVarianceY(),
+                RELATIVE_VARIANCE_ERROR * estimator.getVarianceY());
+        assertEquals(estimator.getVarianceZ(), estimator1.getVarianceZ(),
+                RELATIVE_VARIANCE_ERROR * estimator.getVarianceZ());
+
+        // merging an empty estimator has no effect
+        final var avgX1 = estimator1.getAvgX();
+        final var varX1 = estimator1.getVarianceX();
+        estimator1.merge(new AccumulatedAccelerationTriadNoiseEstimator());
+        assertEquals(N_SAMPLES, estimator1.getNumberOfProcessedSamples());
+        assertEquals(avgX1, estimator1.getAvgX(), 0.0);
+        assertEquals(varX1, estimator1.getVarianceX(), 0.0);
+
+        // merging into an empty estimator copies provided one
+        final var estimator3 = new AccumulatedAccelerationTriadNoiseEstimator();
+        estimator3.merge(estimator);
+        assertEquals(N_SAMPLES, estimator3.getNumberOfProcessedSamples());
+        assertEquals(estimator.getAvgTriad(), estimator3.getAvgTriad());
+        assertEquals(estimator.getVarianceX(), estimator3.getVarianceX(), 0.0);
+        assertEquals(estimator.getVarianceY(), estimator3.getVarianceY(), 0.0);
+        assertEquals(estimator.getVarianceZ(), estimator3.getVarianceZ(), 0.0);
+        assertEquals(estimator.getLastTriad(), estimator3.getLastTriad());
+        assertNotSame(estimator.getLastTriad(), estimator3.getLastTriad());
+
+        // force IllegalArgumentException
+        final var estimator4 = new AccumulatedAccelerationTriadNoiseEstimator();
+        estimator4.setTimeInterval(2.0 * estimator4.getTimeInterval());
+        assertThrows(IllegalArgumentException.class, () -> estimator1.merge(estimator4));
+    }
+
+    @Test
+    void testCollector() throws LockedException, WrongSizeException {
+        final var triads = generateTriads();
+
+        final var estimator = new AccumulatedAccelerationTriadNoiseEstimator();
+        for (final var triad : triads) {
+            estimator.addTriad(triad);
+        }
+
+        final var serial = triads.stream().collect(AccumulatedAccelerationTriadNoiseEstimator.collector());
+        assertEquals(AccumulatedTriadNoiseEstimator.DEFAULT_TIME_INTERVAL_SECONDS, serial.getTimeInterval(), 0.0);
+        assertEquals(N_SAMPLES, serial.getNumberOfProcessedSamples());
+        assertEquals(estimator.getAvgTriad(), serial.getAvgTriad());
+        assertEquals(estimator.getVarianceX(), serial.getVarianceX(), 0.0);
+        assertEquals(estimator.getVarianceY(), serial.getVarianceY(), 0.0);
+        assertEquals(estimator.getVarianceZ(), serial.getVarianceZ(), 0.0);
+
+        final var parallel = triads.parallelStream().collect(
+                AccumulatedAccelerationTriadNoiseEstimator.collector(0.01));
+        assertEquals(0.01, parallel.getTimeInterval(), 0.0);
+        assertEquals(N_SAMPLES, parallel.getNumberOfProcessedSamples());
+        assertEquals(triads.get(N_SAMPLES - 1), parallel.getLastTriad());
+        assertEquals(estimator.getAvgX(), parallel.getAvgX(), ABSOLUTE_ERROR);
+        assertEquals(estimator.getAvgY(), parallel.getAvgY(), ABSOLUTE_ERROR);
+        assertEquals(estimator.getAvgZ(), parallel.getAvgZ(), ABSOLUTE_ERROR);
+        assertEquals(estimator.getVarianceX(), parallel.getVarianceX(),
+                RELATIVE_VARIANCE_ERROR * estimator.getVarianceX());
+        assertEquals(estimator.getVarianceY(), parallel.getVarianceY(),
+                RELATIVE_VARIANCE_ERROR * estimator.getVarianceY());
+        assertEquals(estimator.getVarianceZ(), parallel.getVarianceZ(),
+                RELATIVE_VARIANCE_ERROR * estimator.getVarianceZ());
+
+        // force IllegalArgumentException
+        assertThrows(IllegalArgumentException.class, () -> AccumulatedAccelerationTriadNoiseEstimator.collector(-1.0));
+    }
+
     @Override
     public void onStart(final AccumulatedAccelerationTriadNoiseEstimator estimator) {
         checkLocked(estimator);
@@ -1122,6 +1257,29 @@ class AccumulatedAccelerationTriadNoiseEstimatorTest implements AccumulatedAccel
         final var a = new Acceleration(0.0, AccelerationUnit.METERS_PER_SQUARED_SECOND);
         assertThrows(LockedException.class, () -> estimator.addTriad(a, a, a));
         assertThrows(LockedException.class, estimator::reset);
+        assertThrows(LockedException.class, () -> estimator.merge(estimator));
+    }
+
+    private static List<AccelerationTriad> generateTriads() throws WrongSizeException {
+        final var errors = new IMUErrors(generateBa(), generateBg(), generateMa(), generateMg(), generateGg(),
+                getAccelNoiseRootPsd(), getGyroNoiseRootPsd(), 0.0, 0.0);
+
+        final var randomizer = new UniformRandomizer();
+        final var fx = randomizer.nextDouble(MIN_ACCELEROMETER_VALUE, MAX_ACCELEROMETER_VALUE);
+        final var fy = randomizer.nextDouble(MIN_ACCELEROMETER_VALUE, MAX_ACCELEROMETER_VALUE);
+        final var fz = randomizer.nextDouble(MIN_ACCELEROMETER_VALUE, MAX_ACCELEROMETER_VALUE);
+
+        final var trueKinematics = new BodyKinematics(fx, fy, fz, 0.0, 0.0, 0.0);
+
+        final var result = new ArrayList<AccelerationTriad>();
+        final var kinematics = new BodyKinematics();
+        final var random = new Random();
+        for (var i = 0; i < N_SAMPLES; i++) {
+            BodyKinematicsGenerator.generate(AccumulatedTriadNoiseEstimator.DEFAULT_TIME_INTERVAL_SECONDS,
+                    trueKinematics, errors, random, kinematics);
+            result.add(kinematics.getSpecificForceTriad());
+        }
+        return result;
     }
 
     private static Matrix generateBa() {
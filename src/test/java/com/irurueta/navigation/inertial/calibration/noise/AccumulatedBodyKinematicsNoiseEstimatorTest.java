@@ -32,6 +32,8 @@ import com.irurueta.units.Time;
 import com.irurueta.units.TimeUnit;
 import org.junit.jupiter.api.Test;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Random;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -51,6 +53,8 @@ class AccumulatedBodyKinematicsNoiseEstimatorTest implements AccumulatedBodyKine
     private static final double SMALL_ABSOLUTE_ERROR = 1e-12;
     private static final double LARGE_ABSOLUTE_ERROR = 0.1;
 
+    private static final double RELATIVE_VARIANCE_ERROR = 0.01;
+
     private static final int N_SAMPLES = 100000;
 
     private static final int TIMES = 5;
@@ -2259,6 +2263,92 @@ class AccumulatedBodyKinematicsNoiseEstimatorTest implements AccumulatedBodyKine
         assertEquals(1, reset);
     }
 
+    @Test
+    void testMerge() throws WrongSizeException, LockedException {
+        final var kinematicsList = generateKinematics();
+
+        final var estimator = new AccumulatedBodyKinematicsNoiseEstimator();
+        final var estimator1 = new AccumulatedBodyKinematicsNoiseEstimator(this);
+        final var estimator2 = new AccumulatedBodyKinematicsNoiseEstimator();
+
+        for (var i = 0; i < N_SAMPLES; i++) {
+            final var kinematics = kinematicsList.get(i);
+            estimator.addBodyKinematics(kinematics);
+            if (i < N_SAMPLES / 4) {
+                estimator1.addBodyKinematics(kinematics);
+            } else {
+                estimator2.addBodyKinematics(kinematics);
+            }
+        }
+
+        reset();
+        estimator1.merge(estimator2);
+
+        // check that no events are raised
+        assertEquals(0, start);
+        assertEquals(0, bodyKinematicsAdded);
+        assertEquals(0, reset);
+        assertFalse(estimator1.isRunning());
+
+        assertEquals(N_SAMPLES, estimator1.getNumberOfProcessedSamples());
+        assertEquals(kinematicsList.get(N_SAMPLES - 1), estimator1.getLastBodyKinematics());
+        assertTrue(estimator.getAvgBodyKinematics().equals(estimator1.getAvgBodyKinematics(),
+                SMALL_ABSOLUTE_ERROR));
+
+        checkVariances(estimator, estimator1);
+
+        // merging into an empty estimator copies provided one
+        final var estimator3 = new AccumulatedBodyKinematicsNoiseEstimator();
+        estimator3.merge(estimator);
+        assertEquals(N_SAMPLES, estimator3.getNumberOfProcessedSamples());
+        assertEquals(estimator.getAvgBodyKinematics(), estimator3.getAvgBodyKinematics());
+        assertEquals(estimator.getStandardDeviationAsBodyKinematics(),
+                estimator3.getStandardDeviationAsBodyKinematics());
+        assertEquals(estimator.getLastBodyKinematics(), estimator3.getLastBodyKinematics());
+        assertNotSame(estimator.getLastBodyKinematics(), estimator3.getLastBodyKinematics());
+
+        // merging an empty estimator has no effect
+        estimator3.merge(new AccumulatedBodyKinematicsNoiseEstimator());
+        assertEquals(N_SAMPLES, estimator3.getNumberOfProcessedSamples());
+        assertEquals(estimator.getAvgBodyKinematics(), estimator3.getAvgBodyKinematics());
+
+        // force IllegalArgumentException
+        final var estimator4 = new AccumulatedBodyKinematicsNoiseEstimator();
+        estimator4.setTimeInterval(2.0 * estimator4.getTimeInterval());
+        assertThrows(IllegalArgumentException.class, () -> estimator1.merge(estimator4));
+    }
+
+    @Test
+    void testCollector() throws WrongSizeException, LockedException {
+        final var kinematicsList = generateKinematics();
+
+        final var estimator = new AccumulatedBodyKinematicsNoiseEstimator();
+        for (final var kinematics : kinematicsList) {
+            estimator.addBodyKinematics(kinematics);
+        }
+
+        final var serial = kinematicsList.stream().collect(AccumulatedBodyKinematicsNoiseEstimator.collector());
+        assertEquals(AccumulatedBodyKinematicsNoiseEstimator.DEFAULT_TIME_INTERVAL_SECONDS,
+                serial.getTimeInterval(), 0.0);
+        assertEquals(N_SAMPLES, serial.getNumberOfProcessedSamples());
+        assertEquals(estimator.getAvgBodyKinematics(), serial.getAvgBodyKinematics());
+        assertEquals(estimator.getStandardDeviationAsBodyKinematics(),
+                serial.getStandardDeviationAsBodyKinematics());
+
+        final var parallel = kinematicsList.parallelStream().collect(
+                AccumulatedBodyKinematicsNoiseEstimator.collector(0.01));
+        assertEquals(0.01, parallel.getTimeInterval(), 0.0);
+        assertEquals(N_SAMPLES, parallel.getNumberOfProcessedSamples());
+        assertEquals(kinematicsList.get(N_SAMPLES - 1), parallel.getLastBodyKinematics());
+        assertTrue(estimator.getAvgBodyKinematics().equals(parallel.getAvgBodyKinematics(),
+                SMALL_ABSOLUTE_ERROR));
+
+        checkVariances(estimator, parallel);
+
+        // force IllegalArgumentException
+        assertThrows(IllegalArgumentException.class, () -> AccumulatedBodyKinematicsNoiseEstimator.collector(-1.0));
+    }
+
     @Override
     public void onStart(final AccumulatedBodyKinematicsNoiseEstimator estimator) {
         checkLocked(estimator);
@@ -2298,6 +2388,47 @@ class AccumulatedBodyKinematicsNoiseEstimatorTest implements AccumulatedBodyKine
         final var kinematics = new BodyKinematics();
         assertThrows(LockedException.class, () -> estimator.addBodyKinematics(kinematics));
         assertThrows(LockedException.class, () -> assertFalse(estimator.reset()));
+        assertThrows(LockedException.class, () -> estimator.merge(estimator));
+    }
+
+    private static void checkVariances(final AccumulatedBodyKinematicsNoiseEstimator expected,
+                                       final AccumulatedBodyKinematicsNoiseEstimator estimator) {
+        assertEquals(expected.getVarianceSpecificForceX(), estimator.getVarianceSpecificForceX(),
+                RELATIVE_VARIANCE_ERROR * expected.getVarianceSpecificForceX());
+        assertEquals(expected.getVarianceSpecificForceY(), estimator.getVarianceSpecificForceY(),
+                RELATIVE_VARIANCE_ERROR * expected.getVarianceSpecificForceY());
+        assertEquals(expected.getVarianceSpecificForceZ(), estimator.getVarianceSpecificForceZ(),
+                RELATIVE_VARIANCE_ERROR * expected.getVarianceSpecificForceZ());
+        assertEquals(expected.getVarianceAngularRateX(), estimator.getVarianceAngularRateX(),
+                RELATIVE_VARIANCE_ERROR * expected.getVarianceAngularRateX());
+        assertEquals(expected.getVarianceAngularRateY(), estimator.getVarianceAngularRateY(),
+                RELATIVE_VARIANCE_ERROR * expected.getVarianceAngularRateY());
+        assertEquals(expected.getVarianceAngularRateZ(), estimator.getVarianceAngularRateZ(),
+                RELATIVE_VARIANCE_ERROR * expected.getVarianceAngularRateZ());
+    }
+
+    private static List<BodyKinematics> generateKinematics() throws WrongSizeException {
+        final var errors = new IMUErrors(generateBa(), generateBg(), generateMa(), generateMg(), generateGg(),
+                getAccelNoiseRootPSD(), getGyroNoiseRootPSD(), 0.0, 0.0);
+
+        final var randomizer = new UniformRandomizer();
+        final var fx = randomizer.nextDouble(MIN_ACCELEROMETER_VALUE, MAX_ACCELEROMETER_VALUE);
+        final var fy = randomizer.nextDouble(MIN_ACCELEROMETER_VALUE, MAX_ACCELEROMETER_VALUE);
+        final var fz = randomizer.nextDouble(MIN_ACCELEROMETER_VALUE, MAX_ACCELEROMETER_VALUE);
+        final var omegaX = randomizer.nextDouble(MIN_GYRO_VALUE, MAX_GYRO_VALUE);
+        final var omegaY = randomizer.nextDouble(MIN_GYRO_VALUE, MAX_GYRO_VALUE);
+        final var omegaZ = randomizer.nextDouble(MIN_GYRO_VALUE, MAX_GYRO_VALUE);
+
+        final var trueKinematics = new BodyKinematics(fx, fy, fz, omegaX, omegaY, omegaZ);
+
+        final var result = new ArrayList<BodyKinematics>();
+        final var random = new Random();
+        for (var i = 0; i < N_SAMPLES; i++) {
+            result.add(BodyKinematicsGenerator.generate(
+                    AccumulatedBodyKinematicsNoiseEstimator.DEFAULT_TIME_INTERVAL_SECONDS, trueKinematics, errors,
+                    random));
+        }
+        return result;
     }
 
     private static Matrix generateBa() {
@@ -0,0 +1,101 @@
+/*
+ * Copyright (C) 2026 Alberto Irurueta Carro (alberto@irurueta.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.irurueta.navigation.inertial.calibration.noise;
+
+import com.irurueta.statistics.UniformRandomizer;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RadixTwoFastFourierTransformTest {
+
+    private static final double MIN_VALUE = -10.0;
+    private static final double MAX_VALUE = 10.0;
+
+    private static final double ABSOLUTE_ERROR = 1e-9;
+
+    @Test
+    void testConstructor() {
+        final var fft = new RadixTwoFastFourierTransform(8);
+        assertEquals(8, fft.getLength());
+
+        // force IllegalArgumentException
+        assertThrows(IllegalArgumentException.class, () -> new RadixTwoFastFourierTransform(0));
+        assertThrows(IllegalArgumentException.class, () -> new RadixTwoFastFourierTransform(1));
+        assertThrows(IllegalArgumentException.class, () -> new RadixTwoFastFourierTransform(6));
+        assertThrows(IllegalArgumentException.class, () -> new RadixTwoFastFourierTransform(-4));
+    }
+
+    @Test
+    void testIsPowerOfTwo() {
+        assertFalse(RadixTwoFastFourierTransform.isPowerOfTwo(-2));
+        assertFalse(RadixTwoFastFourierTransform.isPowerOfTwo(0));
+        assertFalse(RadixTwoFastFourierTransform.isPowerOfTwo(1));
+        assertTrue(RadixTwoFastFourierTransform.isPowerOfTwo(2));
+        assertFalse(RadixTwoFastFourierTransform.isPowerOfTwo(3));
+        assertTrue(RadixTwoFastFourierTransform.isPowerOfTwo(4));
+        assertFalse(RadixTwoFastFourierTransform.isPowerOfTwo(100));
+        assertTrue(RadixTwoFastFourierTransform.isPowerOfTwo(1024));
+    }
+
+    @Test
+    void testTransform() {
+        final var randomizer = new UniformRandomizer();
+        for (var length = 2; length <= 256; length <<= 1) {
+            final var re = new double[length];
+            final var im = new double[length];
+            for (var i = 0; i < length; i++) {
+                re[i] = randomizer.nextDouble(MIN_VALUE, MAX_VALUE);
+                im[i] = randomizer.nextDouble(MIN_VALUE, MAX_VALUE);
+            }
+
+            // naive DFT
+            final var expectedRe = new double[length];
+            final var expectedIm = new double[length];
+            for (var k = 0; k < length; k++) {
+                for (var n = 0; n < length; n++) {
+                    final var angle = -2.0 * Math.PI * k * n / length;
+                    final var cos = Math.cos(angle);
+                    final var sin = Math.sin(angle);
+                    expectedRe[k] += re[n] * cos - im[n] * sin;
+                    expectedIm[k] += re[n] * sin + im[n] * cos;
+                }
+            }
+
+            final var fft = new RadixTwoFastFourierTransform(length);
+            fft.transform(re, im);
+
+            assertArrayEquals(expectedRe, re, ABSOLUTE_ERROR);
+            assertArrayEquals(expectedIm, im, ABSOLUTE_ERROR);
+        }
+    }
+
+    @Test
+    void testTransformImpulse() {
+        final var length = 16;
+        final var re = new double[length];
+        final var im = new double[length];
+        re[0] = 1.0;
+
+        final var fft = new RadixTwoFastFourierTransform(length);
+        fft.transform(re, im);
+
+        for (var k = 0; k < length; k++) {
+            assertEquals(1.0, re[k], ABSOLUTE_ERROR);
+            assertEquals(0.0, im[k], ABSOLUTE_ERROR);
+        }
+    }
+}
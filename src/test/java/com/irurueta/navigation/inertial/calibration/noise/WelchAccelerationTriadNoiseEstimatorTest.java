@@ -0,0 +1,427 @@
+/*
+ * Copyright (C) 2026 Alberto Irurueta Carro (alberto@irurueta.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.irurueta.navigation.inertial.calibration.noise;
+
+import com.irurueta.navigation.LockedException;
+import com.irurueta.navigation.inertial.calibration.AccelerationTriad;
+import com.irurueta.statistics.UniformRandomizer;
+import com.irurueta.units.Acceleration;
+import com.irurueta.units.AccelerationUnit;
+import com.irurueta.units.Time;
+import com.irurueta.units.TimeUnit;
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class WelchAccelerationTriadNoiseEstimatorTest implements WelchAccelerationTriadNoiseEstimatorListener {
+
+    private static final double MIN_ACCELEROMETER_VALUE = -2.0 * 9.81;
+    private static final double MAX_ACCELEROMETER_VALUE = 2.0 * 9.81;
+
+    private static final double MIN_NOISE_STD = 1e-3;
+    private static final double MAX_NOISE_STD = 1e-2;
+
+    private static final double ABSOLUTE_ERROR = 1e-12;
+
+    private static final double RELATIVE_PSD_ERROR = 0.1;
+
+    private static final int N_SEGMENTS = 200;
+
+    private int start;
+    private int triadAdded;
+    private int segmentProcessed;
+    private int reset;
+
+    @Test
+    void testConstructor1() {
+        final var estimator = new WelchAccelerationTriadNoiseEstimator();
+
+        // check default values
+        assertEquals(WelchAccelerationTriadNoiseEstimator.DEFAULT_SEGMENT_LENGTH, estimator.getSegmentLength());
+        assertEquals(WelchAccelerationTriadNoiseEstimator.DEFAULT_OVERLAP, estimator.getOverlap());
+        assertEquals(WelchAccelerationTriadNoiseEstimator.DEFAULT_TIME_INTERVAL_SECONDS,
+                estimator.getTimeInterval(), 0.0);
+        final var time1 = estimator.getTimeIntervalAsTime();
+        assertEquals(WelchAccelerationTriadNoiseEstimator.DEFAULT_TIME_INTERVAL_SECONDS,
+                time1.getValue().doubleValue(), 0.0);
+        assertEquals(TimeUnit.SECOND, time1.getUnit());
+        final var time2 = new Time(0.0, TimeUnit.HOUR);
+        estimator.getTimeIntervalAsTime(time2);
+        assertEquals(time1, time2);
+        assertNull(estimator.getListener());
+        assertEquals(WelchAccelerationTriadNoiseEstimator.DEFAULT_SEGMENT_LENGTH / 2 + 1,
+                estimator.getNumberOfFrequencyBins());
+        assertEquals(1.0 / (WelchAccelerationTriadNoiseEstimator.DEFAULT_SEGMENT_LENGTH
+                        * WelchAccelerationTriadNoiseEstimator.DEFAULT_TIME_INTERVAL_SECONDS),
+                estimator.getFrequencyResolution(), ABSOLUTE_ERROR);
+        assertArrayEquals(new double[estimator.getNumberOfFrequencyBins()], estimator.getPsdX(), 0.0);
+        assertArrayEquals(new double[estimator.getNumberOfFrequencyBins()], estimator.getPsdY(), 0.0);
+        assertArrayEquals(new double[estimator.getNumberOfFrequencyBins()], estimator.getPsdZ(), 0.0);
+        assertArrayEquals(new double[estimator.getNumberOfFrequencyBins()], estimator.getAvgPsd(), 0.0);
+        assertEquals(0, estimator.getNumberOfProcessedSamples());
+        assertEquals(0, estimator.getNumberOfProcessedSegments());
+        assertFalse(estimator.isRunning());
+    }
+
+    @Test
+    void testConstructor2() {
+        final var estimator = new WelchAccelerationTriadNoiseEstimator(this);
+
+        // check default values
+        assertEquals(WelchAccelerationTriadNoiseEstimator.DEFAULT_SEGMENT_LENGTH, estimator.getSegmentLength());
+        assertEquals(WelchAccelerationTriadNoiseEstimator.DEFAULT_OVERLAP, estimator.getOverlap());
+        assertEquals(WelchAccelerationTriadNoiseEstimator.DEFAULT_TIME_INTERVAL_SECONDS,
+                estimator.getTimeInterval(), 0.0);
+        assertSame(this, estimator.getListener());
+        assertEquals(0, estimator.getNumberOfProcessedSamples());
+        assertEquals(0, estimator.getNumberOfProcessedSegments());
+        assertFalse(estimator.isRunning());
+    }
+
+    @Test
+    void testGetSetSegmentLength() throws LockedException {
+        final var estimator = new WelchAccelerationTriadNoiseEstimator();
+
+        // check default value
+        assertEquals(WelchAccelerationTriadNoiseEstimator.DEFAULT_SEGMENT_LENGTH, estimator.getSegmentLength());
+
+        // set new value
+        estimator.setSegmentLength(512);
+
+        // check
+        assertEquals(512, estimator.getSegmentLength());
+        assertEquals(257, estimator.getNumberOfFrequencyBins());
+        assertEquals(257, estimator.getPsdX().length);
+
+        // force IllegalArgumentException
+        assertThrows(IllegalArgumentException.class, () -> estimator.setSegmentLength(2));
+        assertThrows(IllegalArgumentException.class, () -> estimator.setSegmentLength(100));
+        assertThrows(IllegalArgumentException.class, () -> estimator.setSegmentLength(128));
+    }
+
+    @Test
+    void testGetSetOverlap() throws LockedException {
+        final var estimator = new WelchAccelerationTriadNoiseEstimator();
+
+        // check default value
+        assertEquals(WelchAccelerationTriadNoiseEstimator.DEFAULT_OVERLAP, estimator.getOverlap());
+
+        // set new value
+        estimator.setOverlap(0);
+
+        // check
+        assertEquals(0, estimator.getOverlap());
+
+        // force IllegalArgumentException
+        assertThrows(IllegalArgumentException.class, () -> estimator.setOverlap(-1));
+        assertThrows(IllegalArgumentException.class, () -> estimator.setOverlap(
+                estimator.getSegmentLength()));
+    }
+
+    @Test
+    void testSetSegmentLengthAndOverlap() throws LockedException {
+        final var estimator = new WelchAccelerationTriadNoiseEstimator();
+
+        // set new values
+        estimator.setSegmentLengthAndOverlap(64, 48);
+
+        // check
+        assertEquals(64, estimator.getSegmentLength());
+        assertEquals(48, estimator.getOverlap());
+        assertEquals(33, estimator.getNumberOfFrequencyBins());
+
+        // force IllegalArgumentException
+        assertThrows(IllegalArgumentException.class, () -> estimator.setSegmentLengthAndOverlap(60, 0));
+        assertThrows(IllegalArgumentException.class, () -> estimator.setSegmentLengthAndOverlap(64, 64));
+        assertThrows(IllegalArgumentException.class, () -> estimator.setSegmentLengthAndOverlap(64, -1));
+    }
+
+    @Test
+    void testGetSetTimeInterval() throws LockedException {
+        final var estimator = new WelchAccelerationTriadNoiseEstimator();
+
+        // check default value
+        assertEquals(WelchAccelerationTriadNoiseEstimator.DEFAULT_TIME_INTERVAL_SECONDS,
+                estimator.getTimeInterval(), 0.0);
+
+        // set new value
+        estimator.setTimeInterval(1.0);
+
+        // check
+        assertEquals(1.0, estimator.getTimeInterval(), 0.0);
+
+        // set time
+        estimator.setTimeInterval(new Time(500.0, TimeUnit.MILLISECOND));
+
+        // check
+        assertEquals(0.5, estimator.getTimeInterval(), 0.0);
+        final var time = estimator.getTimeIntervalAsTime();
+        assertEquals(0.5, time.getValue().doubleValue(), 0.0);
+        assertEquals(TimeUnit.SECOND, time.getUnit());
+
+        // force IllegalArgumentException
+        assertThrows(IllegalArgumentException.class, () -> estimator.setTimeInterval(-1.0));
+    }
+
+    @Test
+    void testGetSetListener() throws LockedException {
+        final var estimator = new WelchAccelerationTriadNoiseEstimator();
+
+        // check default value
+        assertNull(estimator.getListener());
+
+        // set new value
+        estimator.setListener(this);
+
+        // check
+        assertSame(this, estimator.getListener());
+    }
+
+    @Test
+    void testGetFrequencies() throws LockedException {
+        final var estimator = new WelchAccelerationTriadNoiseEstimator();
+        estimator.setSegmentLengthAndOverlap(16, 8);
+        estimator.setTimeInterval(0.01);
+
+        final var frequencies = estimator.getFrequencies();
+        assertEquals(9, frequencies.length);
+        for (var k = 0; k < frequencies.length; k++) {
+            assertEquals(k * 100.0 / 16.0, frequencies[k], ABSOLUTE_ERROR);
+            assertEquals(frequencies[k], estimator.getFrequency(k), 0.0);
+        }
+        assertEquals(50.0, frequencies[8], ABSOLUTE_ERROR);
+
+        // force IllegalArgumentException
+        assertThrows(IllegalArgumentException.class, () -> estimator.getFrequency(-1));
+        assertThrows(IllegalArgumentException.class, () -> estimator.getFrequency(9));
+        assertThrows(IllegalArgumentException.class, () -> estimator.getFrequencies(new double[8]));
+        assertThrows(IllegalArgumentException.class, () -> estimator.getPsdX(new double[8]));
+        assertThrows(IllegalArgumentException.class, () -> estimator.getPsdY(new double[10]));
+        assertThrows(IllegalArgumentException.class, () -> estimator.getPsdZ(new double[1]));
+        assertThrows(IllegalArgumentException.class, () -> estimator.getAvgPsd(new double[0]));
+    }
+
+    @Test
+    void testAddTriadWhiteNoise() throws LockedException {
+        final var randomizer = new UniformRandomizer();
+        final var random = new Random();
+        final var biasX = randomizer.nextDouble(MIN_ACCELEROMETER_VALUE, MAX_ACCELEROMETER_VALUE);
+        final var biasY = randomizer.nextDouble(MIN_ACCELEROMETER_VALUE, MAX_ACCELEROMETER_VALUE);
+        final var biasZ = randomizer.nextDouble(MIN_ACCELEROMETER_VALUE, MAX_ACCELEROMETER_VALUE);
+        final var stdX = randomizer.nextDouble(MIN_NOISE_STD, MAX_NOISE_STD);
+        final var stdY = randomizer.nextDouble(MIN_NOISE_STD, MAX_NOISE_STD);
+        final var stdZ = randomizer.nextDouble(MIN_NOISE_STD, MAX_NOISE_STD);
+
+        final var estimator = new WelchAccelerationTriadNoiseEstimator(this);
+        final var segmentLength = estimator.getSegmentLength();
+        final var step = segmentLength - estimator.getOverlap();
+        final var timeInterval = estimator.getTimeInterval();
+
+        reset();
+        assertEquals(0, start);
+        assertEquals(0, triadAdded);
+        assertEquals(0, segmentProcessed);
+        assertEquals(0, reset);
+
+        final var n = segmentLength + (N_SEGMENTS - 1) * step;
+        final var triad = new AccelerationTriad();
+        for (var i = 0; i < n; i++) {
+            triad.setValueCoordinates(biasX + stdX * random.nextGaussian(), biasY + stdY * random.nextGaussian(),
+                    biasZ + stdZ * random.nextGaussian());
+            estimator.addTriad(triad);
+        }
+
+        assertEquals(1, start);
+        assertEquals(n, triadAdded);
+        assertEquals(N_SEGMENTS, segmentProcessed);
+        assertEquals(0, reset);
+        assertEquals(n, estimator.getNumberOfProcessedSamples());
+        assertEquals(N_SEGMENTS, estimator.getNumberOfProcessedSegments());
+        assertFalse(estimator.isRunning());
+
+        // white noise PSD is flat and equal to variance times time interval
+        final var psdX = estimator.getPsdX();
+        final var psdY = estimator.getPsdY();
+        final var psdZ = estimator.getPsdZ();
+        final var avgPsd = estimator.getAvgPsd();
+        final var expectedX = stdX * stdX * timeInterval;
+        final var expectedY = stdY * stdY * timeInterval;
+        final var expectedZ = stdZ * stdZ * timeInterval;
+
+        // mean (bias) is removed from each segment, hence zero frequency bin only
+        // contains a fraction of the noise power
+        assertTrue(psdX[0] < 0.5 * expectedX);
+        assertTrue(psdY[0] < 0.5 * expectedY);
+        assertTrue(psdZ[0] < 0.5 * expectedZ);
+
+        // average along frequency bins far from zero frequency
+        var meanX = 0.0;
+        var meanY = 0.0;
+        var meanZ = 0.0;
+        var meanAvg = 0.0;
+        var count = 0;
+        for (var k = 2; k < psdX.length; k++) {
+            meanX += psdX[k];
+            meanY += psdY[k];
+            meanZ += psdZ[k];
+            meanAvg += avgPsd[k];
+            assertEquals((psdX[k] + psdY[k] + psdZ[k]) / 3.0, avgPsd[k], ABSOLUTE_ERROR);
+            count++;
+        }
+        meanX /= count;
+        meanY /= count;
+        meanZ /= count;
+        meanAvg /= count;
+
+        assertEquals(expectedX, meanX, RELATIVE_PSD_ERROR * expectedX);
+        assertEquals(expectedY, meanY, RELATIVE_PSD_ERROR * expectedY);
+        assertEquals(expectedZ, meanZ, RELATIVE_PSD_ERROR * expectedZ);
+        final var expectedAvg = (expectedX + expectedY + expectedZ) / 3.0;
+        assertEquals(expectedAvg, meanAvg, RELATIVE_PSD_ERROR * expectedAvg);
+
+        // reset
+        assertTrue(estimator.reset());
+        assertFalse(estimator.reset());
+
+        assertEquals(1, reset);
+        assertEquals(0, estimator.getNumberOfProcessedSamples());
+        assertEquals(0, estimator.getNumberOfProcessedSegments());
+        assertArrayEquals(new double[estimator.getNumberOfFrequencyBins()], estimator.getPsdX(), 0.0);
+    }
+
+    @Test
+    void testAddTriadSinusoid() throws LockedException {
+        final var estimator = new WelchAccelerationTriadNoiseEstimator();
+        estimator.setSegmentLengthAndOverlap(128, 64);
+        final var timeInterval = estimator.getTimeInterval();
+
+        final var binX = 10;
+        final var binY = 20;
+        final var binZ = 40;
+        final var freqX = estimator.getFrequency(binX);
+        final var freqY = estimator.getFrequency(binY);
+        final var freqZ = estimator.getFrequency(binZ);
+
+        final var amplitude = 1.0;
+        for (var i = 0; i < 1024; i++) {
+            final var t = i * timeInterval;
+            estimator.addTriad(new Acceleration(amplitude * Math.sin(2.0 * Math.PI * freqX * t),
+                            AccelerationUnit.METERS_PER_SQUARED_SECOND),
+                    new Acceleration(amplitude * Math.sin(2.0 * Math.PI * freqY * t),
+                            AccelerationUnit.METERS_PER_SQUARED_SECOND),
+                    new Acceleration(amplitude * Math.sin(2.0 * Math.PI * freqZ * t),
+                            AccelerationUnit.METERS_PER_SQUARED_SECOND));
+        }
+
+        assertEquals(15, estimator.getNumberOfProcessedSegments());
+        assertEquals(binX, argMax(estimator.getPsdX()));
+        assertEquals(binY, argMax(estimator.getPsdY()));
+        assertEquals(binZ, argMax(estimator.getPsdZ()));
+
+        // no leakage between packed x and y coordinates
+        final var psdX = estimator.getPsdX();
+        final var psdY = estimator.getPsdY();
+        assertTrue(psdX[binY] < 1e-12 * psdY[binY]);
+        assertTrue(psdY[binX] < 1e-12 * psdX[binX]);
+    }
+
+    @Test
+    void testDiscardPartialSegment() throws LockedException {
+        final var estimator = new WelchAccelerationTriadNoiseEstimator();
+        estimator.setSegmentLengthAndOverlap(16, 8);
+
+        final var random = new Random();
+        for (var i = 0; i < 20; i++) {
+            estimator.addTriad(random.nextGaussian(), random.nextGaussian(), random.nextGaussian());
+        }
+        assertEquals(1, estimator.getNumberOfProcessedSegments());
+        final var psdX = estimator.getPsdX();
+
+        // discarding keeps already processed segments
+        estimator.discardPartialSegment();
+        assertEquals(1, estimator.getNumberOfProcessedSegments());
+        assertEquals(20, estimator.getNumberOfProcessedSamples());
+        assertArrayEquals(psdX, estimator.getPsdX(), 0.0);
+
+        // a full new segment is required after discarding
+        for (var i = 0; i < 15; i++) {
+            estimator.addTriad(random.nextGaussian(), random.nextGaussian(), random.nextGaussian());
+        }
+        assertEquals(1, estimator.getNumberOfProcessedSegments());
+
+        estimator.addTriad(random.nextGaussian(), random.nextGaussian(), random.nextGaussian());
+        assertEquals(2, estimator.getNumberOfProcessedSegments());
+    }
+
+    @Override
+    public void onStart(final WelchAccelerationTriadNoiseEstimator estimator) {
+        checkLocked(estimator);
+        start++;
+    }
+
+    @Override
+    public void onTriadAdded(final WelchAccelerationTriadNoiseEstimator estimator) {
+        checkLocked(estimator);
+        triadAdded++;
+    }
+
+    @Override
+    public void onSegmentProcessed(final WelchAccelerationTriadNoiseEstimator estimator) {
+        checkLocked(estimator);
+        segmentProcessed++;
+    }
+
+    @Override
+    public void onReset(final WelchAccelerationTriadNoiseEstimator estimator) {
+        checkLocked(estimator);
+        reset++;
+    }
+
+    private void reset() {
+        start = 0;
+        triadAdded = 0;
+        segmentProcessed = 0;
+        reset = 0;
+    }
+
+    private static int argMax(final double[] values) {
+        var result = 0;
+        for (var i = 1; i < values.length; i++) {
+            if (values[i] > values[result]) {
+                result = i;
+            }
+        }
+        return result;
+    }
+
+    private static void checkLocked(final WelchAccelerationTriadNoiseEstimator estimator) {
+        assertTrue(estimator.isRunning());
+        assertThrows(LockedException.class, () -> estimator.setSegmentLength(64));
+        assertThrows(LockedException.class, () -> estimator.setOverlap(0));
+        assertThrows(LockedException.class, () -> estimator.setSegmentLengthAndOverlap(64, 0));
+        assertThrows(LockedException.class, () -> estimator.setTimeInterval(0.0));
+        assertThrows(LockedException.class, () -> estimator.setTimeInterval(new Time(0.0, TimeUnit.SECOND)));
+        assertThrows(LockedException.class, () -> estimator.setListener(null));
+        assertThrows(LockedException.class, () -> estimator.addTriad(0.0, 0.0, 0.0));
+        assertThrows(LockedException.class, () -> estimator.addTriad(new AccelerationTriad()));
+        final var a = new Acceleration(0.0, AccelerationUnit.METERS_PER_SQUARED_SECOND);
+        assertThrows(LockedException.class, () -> estimator.addTriad(a, a, a));
+        assertThrows(LockedException.class, estimator::discardPartialSegment);
+        assertThrows(LockedException.class, estimator::reset);
+    }
+}
@@ -29,10 +29,12 @@ import com.irurueta.units.Time;
 import com.irurueta.units.TimeUnit;
 import org.junit.jupiter.api.Test;
 
+import java.lang.management.ManagementFactory;
 import java.util.ArrayList;
 import java.util.Random;
 
 import static org.junit.jupiter.api.Assertions.*;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
 
 class WindowedAccelerationTriadNoiseEstimatorTest implements WindowedAccelerationTriadNoiseEstimatorListener {
 
@@ -1568,6 +1570,64 @@ class WindowedAccelerationTriadNoiseEstimatorTest implements WindowedAcceleratio
         assertTrue(estimator.isWindowFilled());
     }
 
+    @Test
+    void testAddTriadWithNonDefaultUnit() throws LockedException {
+        final var estimator1 = new WindowedAccelerationTriadNoiseEstimator();
+        final var estimator2 = new WindowedAccelerationTriadNoiseEstimator();
+
+        final var randomizer = new UniformRandomizer();
+        for (var i = 0; i < 2 * estimator1.getWindowSize(); i++) {
+            final var fx = randomizer.nextDouble(MIN_ACCELEROMETER_VALUE, MAX_ACCELEROMETER_VALUE);
+            final var fy = randomizer.nextDouble(MIN_ACCELEROMETER_VALUE, MAX_ACCELEROMETER_VALUE);
+            final var fz = randomizer.nextDouble(MIN_ACCELEROMETER_VALUE, MAX_ACCELEROMETER_VALUE);
+
+            final var triad = new AccelerationTriad(AccelerationUnit.METERS_PER_SQUARED_SECOND, fx, fy, fz);
+            triad.setUnit(AccelerationUnit.FEET_PER_SQUARED_SECOND);
+            triad.setValueCoordinates(fx / 0.3048, fy / 0.3048, fz / 0.3048);
+
+            estimator1.addTriadAndProcess(fx, fy, fz);
+            estimator2.addTriadAndProcess(triad);
+        }
+
+        // windowed triads are kept in default unit
+        final var last = estimator2.getLastWindowedTriad();
+        assertEquals(AccelerationUnit.METERS_PER_SQUARED_SECOND, last.getUnit());
+        assertTrue(estimator1.getLastWindowedTriad().equals(last, ABSOLUTE_ERROR));
+        assertTrue(estimator1.getFirstWindowedTriad().equals(estimator2.getFirstWindowedTriad(), ABSOLUTE_ERROR));
+
+        assertEquals(estimator1.getAvgX(), estimator2.getAvgX(), ABSOLUTE_ERROR);
+        assertEquals(estimator1.getAvgY(), estimator2.getAvgY(), ABSOLUTE_ERROR);
+        assertEquals(estimator1.getAvgZ(), estimator2.getAvgZ(), ABSOLUTE_ERROR);
+        assertEquals(estimator1.getVarianceX(), estimator2.getVarianceX(), ABSOLUTE_ERROR);
+        assertEquals(estimator1.getVarianceY(), estimator2.getVarianceY(), ABSOLUTE_ERROR);
+        assertEquals(estimator1.getVarianceZ(), estimator2.getVarianceZ(), ABSOLUTE_ERROR);
+    }
+
+    @Test
+    void testAddTriadAndProcessIsAllocationFree() throws LockedException {
+        final var threadBean = ManagementFactory.getThreadMXBean();
+        assumeTrue(threadBean instanceof com.sun.management.ThreadMXBean);
+        final var bean = (com.sun.management.ThreadMXBean) threadBean;
+        assumeTrue(bean.isThreadAllocatedMemorySupported() && bean.isThreadAllocatedMemoryEnabled());
+
+        final var estimator = new WindowedAccelerationTriadNoiseEstimator();
+        final var n = 10 * estimator.getWindowSize();
+
+        // warm up
+        for (var i = 0; i < n; i++) {
+            estimator.addTriadAndProcess(i, 2.0 * i, 3.0 * i);
+        }
+
+        final var start = bean.getCurrentThreadAllocatedBytes();
+        for (var i = 0; i < n; i++) {
+            estimator.addTriadAndProcess(i, 2.0 * i, 3.0 * i);
+        }
+        final var allocated = bean.getCurrentThreadAllocatedBytes() - start;
+
+        // allow a small slack for measurement noise, far below one object per call
+        assertTrue(allocated < n);
+    }
+
     @Override
     public void onStart(final WindowedAccelerationTriadNoiseEstimator estimator) {
         checkLocked(estimator);
@@ -32,10 +32,12 @@ import com.irurueta.units.Time;
 import com.irurueta.units.TimeUnit;
 import org.junit.jupiter.api.Test;
 
+import java.lang.management.ManagementFactory;
 import java.util.ArrayList;
 import java.util.Random;
 
 import static org.junit.jupiter.api.Assertions.*;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
 
 class WindowedBodyKinematicsNoiseEstimatorTest implements WindowedBodyKinematicsNoiseEstimatorListener {
 
@@ -2971,6 +2973,31 @@ class WindowedBodyKinematicsNoiseEstimatorTest implements WindowedBodyKinematics
         assertFalse(estimator.isRunning());
     }
 
+    @Test
+    void testAddBodyKinematicsAndProcessIsAllocationFree() throws LockedException {
+        final var threadBean = ManagementFactory.getThreadMXBean();
+        assumeTrue(threadBean instanceof com.sun.management.ThreadMXBean);
+        final var bean = (com.sun.management.ThreadMXBean) threadBean;
+        assumeTrue(bean.isThreadAllocatedMemorySupported() && bean.isThreadAllocatedMemoryEnabled());
+
+        final var estimator = new WindowedBodyKinematicsNoiseEstimator();
+        final var n = 10 * estimator.getWindowSize();
+
+        // warm up
+        for (var i = 0; i < n; i++) {
+            estimator.addBodyKinematicsAndProcess(i, 2.0 * i, 3.0 * i, 0.1 * i, 0.2 * i, 0.3 * i);
+        }
+
+        final var start = bean.getCurrentThreadAllocatedBytes();
+        for (var i = 0; i < n; i++) {
+            estimator.addBodyKinematicsAndProcess(i, 2.0 * i, 3.0 * i, 0.1 * i, 0.2 * i, 0.3 * i);
+        }
+        final var allocated = bean.getCurrentThreadAllocatedBytes() - start;
+
+        // allow a small slack for measurement noise, far below one object per call
+        assertTrue(allocated < n);
+    }
+
     @Override
     public void onStart(final WindowedBodyKinematicsNoiseEstimator estimator) {
         checkLocked(estimator);
@@ -0,0 +1,206 @@
+/*
+ * Copyright (C) 2026 Alberto Irurueta Carro (alberto@irurueta.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.irurueta.navigation.inertial.calibration.pipeline;
+
+import com.irurueta.algebra.Matrix;
+import com.irurueta.algebra.WrongSizeException;
+import com.irurueta.navigation.LockedException;
+import com.irurueta.navigation.frames.NEDPosition;
+import com.irurueta.navigation.frames.NEDVelocity;
+import com.irurueta.navigation.inertial.calibration.IMUErrors;
+import com.irurueta.navigation.inertial.simulation.MotionSegment;
+import com.irurueta.navigation.inertial.simulation.ReferenceTrajectory;
+import com.irurueta.navigation.inertial.simulation.TrajectorySimulator;
+import com.irurueta.navigation.inertial.wmm.WMMEarthMagneticFluxDensityEstimator;
+import com.irurueta.numerical.robust.RobustEstimatorMethod;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Builders of simulated devices and runner configuration shared by calibration pipeline
+ * tests.
+ */
+public final class CalibrationPipelineFixture {
+
+    /**
+     * Time interval between simulated samples expressed in seconds (s).
+     */
+    public static final double TIME_INTERVAL_SECONDS = 0.02;
+
+    /**
+     * Number of samples while simulated devices remain static at the beginning.
+     */
+    public static final int INITIAL_STATIC_SAMPLES = 500;
+
+    /**
+     * Number of static orientations of simulated devices after initialization.
+     */
+    public static final int NUM_INTERVALS = 20;
+
+    private static final int STATIC_SAMPLES = 400;
+
+    private static final int DYNAMIC_SAMPLES = 100;
+
+    private static final int ROTATION_STEP_SAMPLES = 2;
+
+    private static final double LATITUDE_DEGREES = 41.3825;
+    private static final double LONGITUDE_DEGREES = 2.176944;
+    private static final double HEIGHT = 0.0;
+
+    private static final double YEAR = 2025.5;
+
+    private static final double MICRO_G_TO_METERS_PER_SECOND_SQUARED = 9.80665E-6;
+    private static final double DEG_TO_RAD = 0.01745329252;
+
+    private static final double MAX_PITCH = Math.PI / 3.0;
+
+    private static final double MAX_ANGLE_VARIATION = Math.PI / 2.0;
+
+    private static final double MAGNETOMETER_NOISE_STANDARD_DEVIATION = 1e-9;
+
+    private CalibrationPipelineFixture() {
+    }
+
+    /**
+     * Creates a device whose samples are simulated on demand.
+     *
+     * @param simulator simulator of device samples.
+     * @param seed      seed of simulated noise.
+     * @param run       run of simulated noise, so that devices sharing a simulator use
+     *                  different noise realizations.
+     * @return a new device.
+     */
+    public static CalibrationPipelineDevice createDevice(final TrajectorySimulator simulator, final long seed,
+                                                         final int run) {
+        return new SimulatedCalibrationPipelineDevice(simulator, seed, run);
+    }
+
+    /**
+     * Configures a runner to calibrate simulated devices using MSAC, leaving its maximum
+     * number of iterations and confidence unchanged.
+     *
+     * @param runner runner to be configured.
+     * @throws LockedException if runner is running.
+     */
+    public static void configure(final CalibrationPipelineRunner runner) throws LockedException {
+        runner.setRobustMethod(RobustEstimatorMethod.MSAC);
+        runner.setCommonAxisUsed(true);
+        runner.setGDependentCrossBiasesEstimated(false);
+        runner.setTimeInterval(TIME_INTERVAL_SECONDS);
+        runner.setInitialStaticSamples(INITIAL_STATIC_SAMPLES);
+    }
+
+    /**
+     * Creates a simulator of a device with random errors placed at random static
+     * orientations separated by rotations.
+     *
+     * @param random    random generator.
+     * @param intervals number of static orientations after initialization.
+     * @return a new simulator.
+     * @throws IOException if World Magnetic Model cannot be loaded.
+     */
+    public static TrajectorySimulator createSimulator(final Random random, final int intervals) throws IOException {
+        final var segments = new ArrayList<MotionSegment>();
+        segments.add(MotionSegment.createConstantVelocity(INITIAL_STATIC_SAMPLES * TIME_INTERVAL_SECONDS));
+
+        var roll = 0.0;
+        var pitch = 0.0;
+        var yaw = 0.0;
+        for (var i = 0; i <= intervals; i++) {
+            final var newRoll = roll + MAX_ANGLE_VARIATION * (2.0 * random.nextDouble() - 1.0);
+            final var newPitch = Math.max(-MAX_PITCH, Math.min(MAX_PITCH,
+                    pitch + MAX_ANGLE_VARIATION * (2.0 * random.nextDouble() - 1.0)));
+            final var newYaw = yaw + MAX_ANGLE_VARIATION * (2.0 * random.nextDouble() - 1.0);
+            addRotation(segments, newRoll - roll, newPitch - pitch, newYaw - yaw);
+            segments.add(MotionSegment.createConstantVelocity(i < intervals
+                    ? STATIC_SAMPLES * TIME_INTERVAL_SECONDS : TIME_INTERVAL_SECONDS));
+            roll = newRoll;
+            pitch = newPitch;
+            yaw = newYaw;
+        }
+
+        final var position = new NEDPosition(Math.toRadians(LATITUDE_DEGREES), Math.toRadians(LONGITUDE_DEGREES),
+                HEIGHT);
+        final var trajectory = ReferenceTrajectory.create(TIME_INTERVAL_SECONDS, position, new NEDVelocity(),
+                0.0, 0.0, 0.0, segments);
+        trajectory.computeMagneticFluxDensity(new WMMEarthMagneticFluxDensityEstimator(), YEAR);
+
+        final var simulator = new TrajectorySimulator(trajectory, createErrors(random));
+        simulator.setMagnetometerHardIron(new double[]{
+                1e-6 * (2.0 * random.nextDouble() - 1.0),
+                1e-6 * (2.0 * random.nextDouble() - 1.0),
+                1e-6 * (2.0 * random.nextDouble() - 1.0)});
+        simulator.setMagnetometerSoftIron(createUpperTriangularMatrix(random));
+        simulator.setMagnetometerNoiseStandardDeviation(MAGNETOMETER_NOISE_STANDARD_DEVIATION);
+        return simulator;
+    }
+
+    /**
+     * Adds segments rotating body by provided Euler angle increments with a smooth rate
+     * profile, so that sampled angular rates can be accurately integrated.
+     *
+     * @param segments   list where segments are added.
+     * @param deltaRoll  roll increment expressed in radians (rad).
+     * @param deltaPitch pitch increment expressed in radians (rad).
+     * @param deltaYaw   yaw increment expressed in radians (rad).
+     */
+    private static void addRotation(final List<MotionSegment> segments, final double deltaRoll,
+                                    final double deltaPitch, final double deltaYaw) {
+        final var steps = DYNAMIC_SAMPLES / ROTATION_STEP_SAMPLES;
+        final var stepDuration = ROTATION_STEP_SAMPLES * TIME_INTERVAL_SECONDS;
+        for (var k = 0; k < steps; k++) {
+            // rates follow a raised cosine whose integral over all steps is one
+            final var weight = (1.0 - Math.cos(2.0 * Math.PI * (k + 0.5) / steps)) / (steps * stepDuration);
+            segments.add(MotionSegment.createRotation(stepDuration, deltaRoll * weight, deltaPitch * weight,
+                    deltaYaw * weight));
+        }
+    }
+
+    private static IMUErrors createErrors(final Random random) {
+        final var ba = new double[]{
+                1000 * MICRO_G_TO_METERS_PER_SECOND_SQUARED * (2.0 * random.nextDouble() - 1.0),
+                1000 * MICRO_G_TO_METERS_PER_SECOND_SQUARED * (2.0 * random.nextDouble() - 1.0),
+                1000 * MICRO_G_TO_METERS_PER_SECOND_SQUARED * (2.0 * random.nextDouble() - 1.0)};
+        final var bg = new double[]{
+                10 * DEG_TO_RAD / 3600.0 * (2.0 * random.nextDouble() - 1.0),
+                10 * DEG_TO_RAD / 3600.0 * (2.0 * random.nextDouble() - 1.0),
+                10 * DEG_TO_RAD / 3600.0 * (2.0 * random.nextDouble() - 1.0)};
+        try {
+            return new IMUErrors(ba, bg, createUpperTriangularMatrix(random), createUpperTriangularMatrix(random),
+                    new Matrix(3, 3), 100 * MICRO_G_TO_METERS_PER_SECOND_SQUARED, 0.01 * DEG_TO_RAD / 60.0,
+                    0.0, 0.0);
+        } catch (final WrongSizeException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static Matrix createUpperTriangularMatrix(final Random random) {
+        try {
+            final var result = new Matrix(3, 3);
+            for (var i = 0; i < 3; i++) {
+                for (var j = i; j < 3; j++) {
+                    result.setElementAt(i, j, 1e-3 * (2.0 * random.nextDouble() - 1.0));
+                }
+            }
+            return result;
+        } catch (final WrongSizeException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,96 @@
+/*
+ * Copyright (C) 2026 Alberto Irurueta Carro (alberto@irurueta.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.irurueta.navigation.inertial.calibration.pipeline;
+
+import com.irurueta.algebra.Matrix;
+import com.irurueta.algebra.WrongSizeException;
+import com.irurueta.navigation.inertial.calibration.CalibrationException;
+import com.irurueta.navigation.inertial.calibration.IMUErrors;
+import com.irurueta.navigation.inertial.calibration.TimedBodyKinematicsAndMagneticFluxDensity;
+import org.junit.jupiter.api.Test;
+
+import java.util.Collections;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CalibrationPipelineResultTest {
+
+    @Test
+    void testCalibrated() throws WrongSizeException {
+        final var device = new EmptyDevice();
+        final var errors = new IMUErrors();
+        final var hardIron = new double[]{1e-6, -2e-6, 3e-6};
+        final var softIron = Matrix.identity(3, 3);
+
+        final var result = new CalibrationPipelineResult(device, CalibrationPipelineResult.Status.CALIBRATED, errors,
+                hardIron, softIron, 10, 11, 12, null, 1000L, 100L);
+
+        assertSame(device, result.getDevice());
+        assertEquals(CalibrationPipelineResult.Status.CALIBRATED, result.getStatus());
+        assertTrue(result.isCalibrated());
+        assertSame(errors, result.getErrors());
+        assertArrayEquals(hardIron, result.getMagnetometerHardIron(), 0.0);
+        assertNotSame(hardIron, result.getMagnetometerHardIron());
+        assertEquals(softIron, result.getMagnetometerSoftIron());
+        assertNotSame(softIron, result.getMagnetometerSoftIron());
+        assertEquals(10, result.getAccelerometerMeasurements());
+        assertEquals(11, result.getGyroscopeSequences());
+        assertEquals(12, result.getMagnetometerMeasurements());
+        assertNull(result.getFailure());
+        assertEquals(1000L, result.getElapsedNanos());
+        assertEquals(100L, result.getCalibrationWaitNanos());
+    }
+
+    @Test
+    void testFailed() {
+        final var device = new EmptyDevice();
+        final var failure = new CalibrationException();
+
+        final var result = new CalibrationPipelineResult(device, CalibrationPipelineResult.Status.FAILED, null,
+                null, null, 1, 2, 3, failure, 1000L, 0L);
+
+        assertSame(device, result.getDevice());
+        assertEquals(CalibrationPipelineResult.Status.FAILED, result.getStatus());
+        assertFalse(result.isCalibrated());
+        assertNull(result.getErrors());
+        assertNull(result.getMagnetometerHardIron());
+        assertNull(result.getMagnetometerSoftIron());
+        assertEquals(1, result.getAccelerometerMeasurements());
+        assertEquals(2, result.getGyroscopeSequences());
+        assertEquals(3, result.getMagnetometerMeasurements());
+        assertSame(failure, result.getFailure());
+        assertEquals(1000L, result.getElapsedNanos());
+        assertEquals(0L, result.getCalibrationWaitNanos());
+    }
+
+    private static class EmptyDevice implements CalibrationPipelineDevice {
+
+        @Override
+        public double getGroundTruthGravityNorm() {
+            return 9.81;
+        }
+
+        @Override
+        public double getGroundTruthMagneticFluxDensityNorm() {
+            return 45e-6;
+        }
+
+        @Override
+        public Iterable<TimedBodyKinematicsAndMagneticFluxDensity> getSamples() {
+            return Collections.emptyList();
+        }
+    }
+}
@@ -0,0 +1,328 @@
+/*
+ * Copyright (C) 2026 Alberto Irurueta Carro (alberto@irurueta.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.irurueta.navigation.inertial.calibration.pipeline;
+
+import com.irurueta.navigation.LockedException;
+import com.irurueta.navigation.inertial.calibration.accelerometer.RobustKnownGravityNormAccelerometerCalibrator;
+import com.irurueta.navigation.inertial.calibration.gyroscope.EasyGyroscopeCalibrator;
+import com.irurueta.navigation.inertial.calibration.intervals.TriadStaticIntervalDetector;
+import com.irurueta.navigation.inertial.simulation.TrajectorySimulator;
+import com.irurueta.numerical.robust.RobustEstimatorMethod;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CalibrationPipelineRunnerTest {
+
+    private static final double ACCELEROMETER_BIAS_ERROR = 1e-3;
+    private static final double MATRIX_ERROR = 1e-3;
+    private static final double HARD_IRON_ERROR = 1e-7;
+
+    // Simulated devices only add noise well below the default thresholds of the robust
+    // calibrators, so nearly all measurements are inliers. Even if up to OUTLIER_RATIO of
+    // them exceeded those thresholds, a random subset of MAX_SUBSET_SIZE measurements (the
+    // largest preliminary subset used by the runner) would contain no outliers with
+    // probability w = (1 - OUTLIER_RATIO)^MAX_SUBSET_SIZE, and all of k subsets would contain
+    // outliers with probability (1 - w)^k. MAX_ITERATIONS is the smallest k keeping this below
+    // 1 - CONFIDENCE, so the chance that any of the 9 robust calibrations of testRun fails is
+    // about 1e-5. Calibrations stop earlier once the inlier ratio they observe makes further
+    // iterations unnecessary to reach CONFIDENCE.
+    private static final double OUTLIER_RATIO = 0.05;
+
+    private static final double CONFIDENCE = 0.999999;
+
+    private static final int MAX_SUBSET_SIZE =
+            RobustKnownGravityNormAccelerometerCalibrator.MINIMUM_MEASUREMENTS_GENERAL;
+
+    private static final int MAX_ITERATIONS = (int) Math.ceil(Math.log(1.0 - CONFIDENCE)
+            / Math.log(1.0 - Math.pow(1.0 - OUTLIER_RATIO, MAX_SUBSET_SIZE)));
+
+    private static final long SEED = 5432L;
+
+    private static final int NUM_DEVICES = 3;
+
+    @Test
+    void testConstructor() {
+        var runner = new CalibrationPipelineRunner();
+
+        final var processors = Runtime.getRuntime().availableProcessors();
+        assertEquals(processors, runner.getMaxConcurrentDevices());
+        assertEquals(processors, runner.getMaxConcurrentCalibrations());
+        assertEquals(CalibrationPipelineRunner.DEFAULT_ROBUST_METHOD, runner.getRobustMethod());
+        assertEquals(CalibrationPipelineRunner.DEFAULT_MAX_ITERATIONS, runner.getMaxIterations());
+        assertEquals(CalibrationPipelineRunner.DEFAULT_CONFIDENCE, runner.getConfidence(), 0.0);
+        assertEquals(CalibrationPipelineRunner.DEFAULT_USE_COMMON_Z_AXIS, runner.isCommonAxisUsed());
+        assertEquals(EasyGyroscopeCalibrator.DEFAULT_ESTIMATE_G_DEPENDENT_CROSS_BIASES,
+                runner.isGDependentCrossBiasesEstimated());
+        assertEquals(CalibrationPipelineRunner.DEFAULT_TIME_INTERVAL_SECONDS, runner.getTimeInterval(), 0.0);
+        assertEquals(TriadStaticIntervalDetector.DEFAULT_INITIAL_STATIC_SAMPLES, runner.getInitialStaticSamples());
+        assertEquals(Double.POSITIVE_INFINITY, runner.getDeviceTimeout(), 0.0);
+        assertNull(runner.getListener());
+        assertFalse(runner.isRunning());
+        assertFalse(runner.isCancelled());
+
+        runner = new CalibrationPipelineRunner(4, 2);
+        assertEquals(4, runner.getMaxConcurrentDevices());
+        assertEquals(2, runner.getMaxConcurrentCalibrations());
+
+        runner = new CalibrationPipelineRunner(1, 1, Thread::new);
+        assertEquals(1, runner.getMaxConcurrentDevices());
+        assertEquals(1, runner.getMaxConcurrentCalibrations());
+
+        // Force IllegalArgumentException
+        assertThrows(IllegalArgumentException.class, () -> new CalibrationPipelineRunner(0, 1));
+        assertThrows(IllegalArgumentException.class, () -> new CalibrationPipelineRunner(1, 0));
+        assertThrows(IllegalArgumentException.class, () -> new CalibrationPipelineRunner(0, 1, null));
+    }
+
+    @Test
+    void testSetters() throws LockedException {
+        final var runner = new CalibrationPipelineRunner();
+
+        runner.setRobustMethod(RobustEstimatorMethod.RANSAC);
+        assertEquals(RobustEstimatorMethod.RANSAC, runner.getRobustMethod());
+        runner.setRobustMethod(RobustEstimatorMethod.MSAC);
+        assertEquals(RobustEstimatorMethod.MSAC, runner.getRobustMethod());
+
+        runner.setMaxIterations(10);
+        assertEquals(10, runner.getMaxIterations());
+
+        runner.setConfidence(0.9);
+        assertEquals(0.9, runner.getConfidence(), 0.0);
+
+        runner.setCommonAxisUsed(true);
+        assertTrue(runner.isCommonAxisUsed());
+
+        runner.setGDependentCrossBiasesEstimated(false);
+        assertFalse(runner.isGDependentCrossBiasesEstimated());
+
+        runner.setTimeInterval(0.01);
+        assertEquals(0.01, runner.getTimeInterval(), 0.0);
+
+        runner.setInitialStaticSamples(TriadStaticIntervalDetector.MINIMUM_INITIAL_STATIC_SAMPLES);
+        assertEquals(TriadStaticIntervalDetector.MINIMUM_INITIAL_STATIC_SAMPLES, runner.getInitialStaticSamples());
+
+        runner.setDeviceTimeout(10.0);
+        assertEquals(10.0, runner.getDeviceTimeout(), 0.0);
+
+        final CalibrationPipelineRunnerListener listener = (r, result) -> {
+        };
+        runner.setListener(listener);
+        assertSame(listener, runner.getListener());
+
+        // Force IllegalArgumentException
+        assertThrows(IllegalArgumentException.class, () -> runner.setRobustMethod(RobustEstimatorMethod.PROSAC));
+        assertThrows(IllegalArgumentException.class, () -> runner.setRobustMethod(RobustEstimatorMethod.PROMEDS));
+        assertThrows(IllegalArgumentException.class, () -> runner.setMaxIterations(0));
+        assertThrows(IllegalArgumentException.class, () -> runner.setConfidence(-1.0));
+        assertThrows(IllegalArgumentException.class, () -> runner.setConfidence(2.0));
+        assertThrows(IllegalArgumentException.class, () -> runner.setTimeInterval(-1.0));
+        assertThrows(IllegalArgumentException.class, () -> runner.setInitialStaticSamples(
+                TriadStaticIntervalDetector.MINIMUM_INITIAL_STATIC_SAMPLES - 1));
+        assertThrows(IllegalArgumentException.class, () -> runner.setDeviceTimeout(0.0));
+        assertThrows(IllegalArgumentException.class, () -> runner.setDeviceTimeout(Double.NaN));
+
+        // Force NullPointerException
+        assertThrows(NullPointerException.class, () -> runner.setRobustMethod(null));
+    }
+
+    @Test
+    void testRun() throws IOException, LockedException, InterruptedException {
+        final var random = new Random(SEED);
+        final var simulators = new ArrayList<TrajectorySimulator>();
+        final var devices = new ArrayList<CalibrationPipelineDevice>();
+        for (var i = 0; i < NUM_DEVICES; i++) {
+            final var simulator = CalibrationPipelineFixture.createSimulator(random,
+                    CalibrationPipelineFixture.NUM_INTERVALS);
+            simulators.add(simulator);
+            devices.add(new SimulatedCalibrationPipelineDevice(simulator, SEED, i));
+        }
+
+        final var createdThreads = new AtomicInteger();
+        final var runner = new CalibrationPipelineRunner(2, 1, r -> {
+            createdThreads.incrementAndGet();
+            return new Thread(r);
+        });
+        configure(runner);
+
+        final var finished = Collections.synchronizedList(new ArrayList<CalibrationPipelineResult>());
+        runner.setListener((r, result) -> {
+            assertSame(runner, r);
+            assertTrue(r.isRunning());
+            assertThrows(LockedException.class, () -> r.setMaxIterations(1));
+            assertThrows(LockedException.class, () -> r.setConfidence(0.5));
+            assertThrows(LockedException.class, () -> r.setCommonAxisUsed(false));
+            assertThrows(LockedException.class, () -> r.setRobustMethod(RobustEstimatorMethod.RANSAC));
+            assertThrows(LockedException.class, () -> r.setGDependentCrossBiasesEstimated(true));
+            assertThrows(LockedException.class, () -> r.setTimeInterval(0.01));
+            assertThrows(LockedException.class, () -> r.setInitialStaticSamples(10));
+            assertThrows(LockedException.class, () -> r.setDeviceTimeout(1.0));
+            assertThrows(LockedException.class, () -> r.setListener(null));
+            assertThrows(LockedException.class, () -> r.run(Collections.emptyList()));
+            finished.add(result);
+        });
+
+        final var results = runner.run(devices);
+
+        assertFalse(runner.isRunning());
+        assertFalse(runner.isCancelled());
+        assertEquals(NUM_DEVICES, createdThreads.get());
+        assertEquals(NUM_DEVICES, finished.size());
+        assertEquals(NUM_DEVICES, results.size());
+        assertThrows(UnsupportedOperationException.class, () -> results.remove(0));
+
+        for (var i = 0; i < NUM_DEVICES; i++) {
+            final var result = results.get(i);
+            assertTrue(finished.contains(result));
+            assertSame(devices.get(i), result.getDevice());
+            assertEquals(CalibrationPipelineResult.Status.CALIBRATED, result.getStatus(),
+                    String.valueOf(result.getFailure()));
+            assertTrue(result.isCalibrated());
+            assertNull(result.getFailure());
+            assertEquals(CalibrationPipelineFixture.NUM_INTERVALS, result.getAccelerometerMeasurements());
+            assertEquals(CalibrationPipelineFixture.NUM_INTERVALS, result.getGyroscopeSequences());
+            assertEquals(CalibrationPipelineFixture.NUM_INTERVALS, result.getMagnetometerMeasurements());
+            assertTrue(result.getElapsedNanos() > 0L);
+            assertTrue(result.getCalibrationWaitNanos() >= 0L);
+
+            final var simulator = simulators.get(i);
+            final var expected = simulator.getErrors();
+            final var estimated = result.getErrors();
+            assertArrayEquals(expected.getAccelerometerBiases(), estimated.getAccelerometerBiases(),
+                    ACCELEROMETER_BIAS_ERROR);
+            assertEquals(3, estimated.getGyroBiases().length);
+            assertTrue(expected.getAccelerometerScaleFactorAndCrossCouplingErrors().equals(
+                    estimated.getAccelerometerScaleFactorAndCrossCouplingErrors(), MATRIX_ERROR));
+            assertNotNull(estimated.getGyroScaleFactorAndCrossCouplingErrors());
+            assertArrayEquals(simulator.getMagnetometerHardIron(), result.getMagnetometerHardIron(),
+                    HARD_IRON_ERROR);
+            assertTrue(simulator.getMagnetometerSoftIron().equals(result.getMagnetometerSoftIron(), MATRIX_ERROR));
+        }
+    }
+
+    @Test
+    void testRunWhenDeviceFails() throws IOException, LockedException, InterruptedException {
+        final var random = new Random(SEED);
+        final var device = new SimulatedCalibrationPipelineDevice(CalibrationPipelineFixture.createSimulator(random, 2),
+                SEED, 0);
+
+        final var runner = new CalibrationPipelineRunner(1, 1);
+        configure(runner);
+
+        final var results = runner.run(List.of(device));
+
+        final var result = results.get(0);
+        assertSame(device, result.getDevice());
+        assertEquals(CalibrationPipelineResult.Status.FAILED, result.getStatus());
+        assertFalse(result.isCalibrated());
+        assertNotNull(result.getFailure());
+        assertNull(result.getErrors());
+        assertNull(result.getMagnetometerHardIron());
+        assertNull(result.getMagnetometerSoftIron());
+        assertEquals(2, result.getAccelerometerMeasurements());
+    }
+
+    @Test
+    void testRunWhenTimedOut() throws IOException, LockedException, InterruptedException {
+        final var random = new Random(SEED);
+        final var device = new SimulatedCalibrationPipelineDevice(CalibrationPipelineFixture.createSimulator(random,
+                CalibrationPipelineFixture.NUM_INTERVALS), SEED, 0);
+
+        final var runner = new CalibrationPipelineRunner(1, 1);
+        configure(runner);
+        runner.setDeviceTimeout(1e-9);
+
+        final var results = runner.run(List.of(device, device));
+
+        assertEquals(2, results.size());
+        for (final var result : results) {
+            assertEquals(CalibrationPipelineResult.Status.TIMED_OUT, result.getStatus());
+            assertNull(result.getErrors());
+            assertNull(result.getFailure());
+        }
+    }
+
+    @Test
+    void testCancel() throws IOException, LockedException, InterruptedException {
+        final var random = new Random(SEED);
+        final var device = new SimulatedCalibrationPipelineDevice(CalibrationPipelineFixture.createSimulator(random,
+                CalibrationPipelineFixture.NUM_INTERVALS), SEED, 0);
+
+        final var runner = new CalibrationPipelineRunner(1, 1);
+        configure(runner);
+
+        // cancelling when not running has no effect
+        runner.cancel();
+        assertFalse(runner.isCancelled());
+
+        final var finished = new AtomicInteger();
+        runner.setListener((r, result) -> {
+            finished.incrementAndGet();
+            r.cancel();
+        });
+
+        final var results = runner.run(List.of(device, device, device));
+
+        assertFalse(runner.isRunning());
+        assertTrue(runner.isCancelled());
+        assertEquals(1, finished.get());
+        assertEquals(CalibrationPipelineResult.Status.CALIBRATED, results.get(0).getStatus());
+        assertEquals(CalibrationPipelineResult.Status.CANCELLED, results.get(1).getStatus());
+        assertEquals(CalibrationPipelineResult.Status.CANCELLED, results.get(2).getStatus());
+        assertSame(device, results.get(2).getDevice());
+    }
+
+    @Test
+    void testRunWhenInterrupted() throws IOException {
+        final var random = new Random(SEED);
+        final var device = new SimulatedCalibrationPipelineDevice(CalibrationPipelineFixture.createSimulator(random,
+                CalibrationPipelineFixture.NUM_INTERVALS), SEED, 0);
+
+        final var runner = new CalibrationPipelineRunner(1, 1);
+
+        Thread.currentThread().interrupt();
+        assertThrows(InterruptedException.class, () -> runner.run(List.of(device)));
+
+        assertFalse(Thread.currentThread().isInterrupted());
+        assertFalse(runner.isRunning());
+        assertTrue(runner.isCancelled());
+    }
+
+    @Test
+    void testRunWithNullDevice() {
+        final var runner = new CalibrationPipelineRunner(1, 1);
+        final var devices = new ArrayList<CalibrationPipelineDevice>();
+        devices.add(null);
+
+        // Force NullPointerException
+        assertThrows(NullPointerException.class, () -> runner.run(null));
+        assertThrows(NullPointerException.class, () -> runner.run(devices));
+        assertFalse(runner.isRunning());
+    }
+
+    private static void configure(final CalibrationPipelineRunner runner) throws LockedException {
+        CalibrationPipelineFixture.configure(runner);
+        runner.setMaxIterations(MAX_ITERATIONS);
+        runner.setConfidence(CONFIDENCE);
+    }
+}
@@ -0,0 +1,108 @@
+/*
+ * Copyright (C) 2026 Alberto Irurueta Carro (alberto@irurueta.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.irurueta.navigation.inertial.calibration.pipeline;
+
+import com.irurueta.navigation.inertial.BodyKinematics;
+import com.irurueta.navigation.inertial.BodyMagneticFluxDensity;
+import com.irurueta.navigation.inertial.calibration.TimedBodyKinematicsAndMagneticFluxDensity;
+import com.irurueta.navigation.inertial.estimators.ECEFGravityEstimator;
+import com.irurueta.navigation.inertial.simulation.TrajectorySimulator;
+
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+/**
+ * Device whose samples are simulated on demand by a {@link TrajectorySimulator}, so that
+ * only devices being calibrated keep their samples in memory.
+ */
+class SimulatedCalibrationPipelineDevice implements CalibrationPipelineDevice {
+
+    private final TrajectorySimulator simulator;
+
+    private final long seed;
+
+    private final int run;
+
+    private final double gravityNorm;
+
+    private final double magneticFluxDensityNorm;
+
+    SimulatedCalibrationPipelineDevice(final TrajectorySimulator simulator, final long seed, final int run) {
+        this.simulator = simulator;
+        this.seed = seed;
+        this.run = run;
+
+        final var trajectory = simulator.getTrajectory();
+        gravityNorm = ECEFGravityEstimator.estimateGravityAndReturnNew(trajectory.getX()[0], trajectory.getY()[0],
+                trajectory.getZ()[0]).getNorm();
+        magneticFluxDensityNorm = Math.sqrt(trajectory.getBx()[0] * trajectory.getBx()[0]
+                + trajectory.getBy()[0] * trajectory.getBy()[0] + trajectory.getBz()[0] * trajectory.getBz()[0]);
+    }
+
+    TrajectorySimulator getSimulator() {
+        return simulator;
+    }
+
+    @Override
+    public double getGroundTruthGravityNorm() {
+        return gravityNorm;
+    }
+
+    @Override
+    public double getGroundTruthMagneticFluxDensityNorm() {
+        return magneticFluxDensityNorm;
+    }
+
+    @Override
+    public Iterable<TimedBodyKinematicsAndMagneticFluxDensity> getSamples() {
+        return () -> {
+            final var simulated = simulator.simulate(seed, run);
+            final var timeInterval = simulator.getTrajectory().getTimeInterval();
+            final var kinematics = new BodyKinematics();
+            final var magneticFluxDensity = new BodyMagneticFluxDensity();
+            final var sample = new TimedBodyKinematicsAndMagneticFluxDensity(kinematics, magneticFluxDensity);
+
+            return new Iterator<>() {
+
+                private int epoch;
+
+                @Override
+                public boolean hasNext() {
+                    return epoch < simulated.getEpochs();
+                }
+
+                @Override
+                public TimedBodyKinematicsAndMagneticFluxDensity next() {
+                    if (!hasNext()) {
+                        throw new NoSuchElementException();
+                    }
+
+                    kinematics.setSpecificForceCoordinates(simulated.getFx()[epoch], simulated.getFy()[epoch],
+                            simulated.getFz()[epoch]);
+                    kinematics.setAngularRateCoordinates(simulated.getAngularRateX()[epoch],
+                            simulated.getAngularRateY()[epoch], simulated.getAngularRateZ()[epoch]);
+                    magneticFluxDensity.setCoordinates(simulated.getBx()[epoch], simulated.getBy()[epoch],
+                            simulated.getBz()[epoch]);
+                    sample.setKinematics(kinematics);
+                    sample.setMagneticFluxDensity(magneticFluxDensity);
+                    sample.setTimestampSeconds(epoch * timeInterval);
+                    epoch++;
+                    return sample;
+                }
+            };
+        };
+    }
+}
@@ -0,0 +1,278 @@
+/*
+ * Copyright (C) 2026 Alberto Irurueta Carro (alberto@irurueta.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.irurueta.navigation.inertial.estimators;
+
+import com.irurueta.geometry.InvalidRotationMatrixException;
+import com.irurueta.navigation.frames.CoordinateTransformation;
+import com.irurueta.navigation.frames.ECEFPosition;
+import com.irurueta.navigation.frames.ECEFVelocity;
+import com.irurueta.navigation.frames.FrameType;
+import com.irurueta.navigation.frames.NEDPosition;
+import com.irurueta.navigation.frames.NEDVelocity;
+import com.irurueta.navigation.frames.converters.NEDtoECEFPositionVelocityConverter;
+import com.irurueta.navigation.inertial.BodyKinematics;
+import com.irurueta.statistics.UniformRandomizer;
+import com.irurueta.units.Time;
+import com.irurueta.units.TimeUnit;
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ECEFTrajectoryKinematicsEstimatorTest {
+
+    private static final double TIME_INTERVAL_SECONDS = 0.01;
+
+    private static final double LATITUDE_DEGREES = 41.3825;
+    private static final double LONGITUDE_DEGREES = 2.176944;
+    private static final double HEIGHT = 0.0;
+
+    private static final double MIN_ANGLE_DEGREES = -45.0;
+    private static final double MAX_ANGLE_DEGREES = 45.0;
+
+    private static final double MAX_ANGLE_VARIATION_DEGREES = 5.0;
+
+    private static final double MIN_VELOCITY_VARIATION = -0.1;
+    private static final double MAX_VELOCITY_VARIATION = 0.1;
+
+    private static final double ABSOLUTE_ERROR = 1e-8;
+
+    private static final int EPOCHS = 200;
+
+    @Test
+    void testEstimateKinematicsMatchesPairwiseEstimation() throws InvalidRotationMatrixException {
+        for (final var angleVariation : new double[]{0.0, 1e-3, MAX_ANGLE_VARIATION_DEGREES}) {
+            final var trajectory = new Trajectory(EPOCHS, angleVariation, new Random());
+            final var result = new Trajectory(EPOCHS);
+
+            ECEFTrajectoryKinematicsEstimator.estimateKinematics(TIME_INTERVAL_SECONDS, trajectory.x, trajectory.y,
+                    trajectory.z, trajectory.vx, trajectory.vy, trajectory.vz, trajectory.cbe, 0, EPOCHS,
+                    result.fx, result.fy, result.fz, result.wx, result.wy, result.wz);
+
+            // first epoch has no previous one
+            assertEquals(0.0, result.fx[0], 0.0);
+            assertEquals(0.0, result.wx[0], 0.0);
+
+            final var expected = new BodyKinematics();
+            for (var k = 1; k < EPOCHS; k++) {
+                ECEFKinematicsEstimator.estimateKinematics(TIME_INTERVAL_SECONDS, trajectory.getAttitude(k),
+                        trajectory.getAttitude(k - 1), trajectory.vx[k], trajectory.vy[k], trajectory.vz[k],
+                        trajectory.vx[k - 1], trajectory.vy[k - 1], trajectory.vz[k - 1],
+                        trajectory.x[k], trajectory.y[k], trajectory.z[k], expected);
+
+                assertEquals(expected.getFx(), result.fx[k], ABSOLUTE_ERROR);
+                assertEquals(expected.getFy(), result.fy[k], ABSOLUTE_ERROR);
+                assertEquals(expected.getFz(), result.fz[k], ABSOLUTE_ERROR);
+                assertEquals(expected.getAngularRateX(), result.wx[k], ABSOLUTE_ERROR);
+                assertEquals(expected.getAngularRateY(), result.wy[k], ABSOLUTE_ERROR);
+                assertEquals(expected.getAngularRateZ(), result.wz[k], ABSOLUTE_ERROR);
+            }
+        }
+    }
+
+    @Test
+    void testEstimateKinematicsWithOffset() {
+        final var trajectory = new Trajectory(EPOCHS, MAX_ANGLE_VARIATION_DEGREES, new Random());
+        final var full = new Trajectory(EPOCHS);
+        final var partial = new Trajectory(EPOCHS);
+
+        ECEFTrajectoryKinematicsEstimator.estimateKinematics(TIME_INTERVAL_SECONDS, trajectory.x, trajectory.y,
+                trajectory.z, trajectory.vx, trajectory.vy, trajectory.vz, trajectory.cbe, 0, EPOCHS,
+                full.fx, full.fy, full.fz, full.wx, full.wy, full.wz);
+
+        final var offset = 10;
+        final var length = 50;
+        ECEFTrajectoryKinematicsEstimator.estimateKinematics(TIME_INTERVAL_SECONDS, trajectory.x, trajectory.y,
+                trajectory.z, trajectory.vx, trajectory.vy, trajectory.vz, trajectory.cbe, offset, length,
+                partial.fx, partial.fy, partial.fz, partial.wx, partial.wy, partial.wz);
+
+        for (var k = 0; k < EPOCHS; k++) {
+            if (k > offset && k < offset + length) {
+                assertEquals(full.fx[k], partial.fx[k], 0.0);
+                assertEquals(full.fy[k], partial.fy[k], 0.0);
+                assertEquals(full.fz[k], partial.fz[k], 0.0);
+                assertEquals(full.wx[k], partial.wx[k], 0.0);
+                assertEquals(full.wy[k], partial.wy[k], 0.0);
+                assertEquals(full.wz[k], partial.wz[k], 0.0);
+            } else {
+                assertEquals(0.0, partial.fx[k], 0.0);
+                assertEquals(0.0, partial.wz[k], 0.0);
+            }
+        }
+    }
+
+    @Test
+    void testEstimateKinematicsInParallel() {
+        final var epochs = 3 * ECEFTrajectoryKinematicsEstimator.DEFAULT_CHUNK_SIZE + 17;
+        final var trajectory = new Trajectory(epochs, MAX_ANGLE_VARIATION_DEGREES, new Random());
+        final var sequential = new Trajectory(epochs);
+        final var parallel = new Trajectory(epochs);
+
+        ECEFTrajectoryKinematicsEstimator.estimateKinematics(TIME_INTERVAL_SECONDS, trajectory.x, trajectory.y,
+                trajectory.z, trajectory.vx, trajectory.vy, trajectory.vz, trajectory.cbe, 0, epochs,
+                sequential.fx, sequential.fy, sequential.fz, sequential.wx, sequential.wy, sequential.wz, false);
+        ECEFTrajectoryKinematicsEstimator.estimateKinematics(new Time(TIME_INTERVAL_SECONDS, TimeUnit.SECOND),
+                trajectory.x, trajectory.y, trajectory.z, trajectory.vx, trajectory.vy, trajectory.vz,
+                trajectory.cbe, 0, epochs, parallel.fx, parallel.fy, parallel.fz, parallel.wx, parallel.wy,
+                parallel.wz, true);
+
+        // results are exactly the same regardless of chunking
+        assertArrayEquals(sequential.fx, parallel.fx, 0.0);
+        assertArrayEquals(sequential.fy, parallel.fy, 0.0);
+        assertArrayEquals(sequential.fz, parallel.fz, 0.0);
+        assertArrayEquals(sequential.wx, parallel.wx, 0.0);
+        assertArrayEquals(sequential.wy, parallel.wy, 0.0);
+        assertArrayEquals(sequential.wz, parallel.wz, 0.0);
+    }
+
+    @Test
+    void testEstimateKinematicsWithZeroTimeInterval() {
+        final var trajectory = new Trajectory(EPOCHS, MAX_ANGLE_VARIATION_DEGREES, new Random());
+        final var result = new Trajectory(EPOCHS);
+        final var randomizer = new UniformRandomizer();
+        randomizer.fill(result.fx, -1.0, 1.0);
+        randomizer.fill(result.wz, -1.0, 1.0);
+        final var first = result.fx[0];
+
+        ECEFTrajectoryKinematicsEstimator.estimateKinematics(0.0, trajectory.x, trajectory.y, trajectory.z,
+                trajectory.vx, trajectory.vy, trajectory.vz, trajectory.cbe, 0, EPOCHS,
+                result.fx, result.fy, result.fz, result.wx, result.wy, result.wz);
+
+        assertEquals(first, result.fx[0], 0.0);
+        for (var k = 1; k < EPOCHS; k++) {
+            assertEquals(0.0, result.fx[k], 0.0);
+            assertEquals(0.0, result.wz[k], 0.0);
+        }
+    }
+
+    @Test
+    void testEstimateKinematicsWithInvalidValuesThrowsException() {
+        final var trajectory = new Trajectory(EPOCHS, MAX_ANGLE_VARIATION_DEGREES, new Random());
+        final var result = new Trajectory(EPOCHS);
+
+        assertThrows(IllegalArgumentException.class, () -> ECEFTrajectoryKinematicsEstimator.estimateKinematics(
+                -1.0, trajectory.x, trajectory.y, trajectory.z, trajectory.vx, trajectory.vy, trajectory.vz,
+                trajectory.cbe, 0, EPOCHS, result.fx, result.fy, result.fz, result.wx, result.wy, result.wz));
+        assertThrows(IllegalArgumentException.class, () -> ECEFTrajectoryKinematicsEstimator.estimateKinematics(
+                TIME_INTERVAL_SECONDS, trajectory.x, trajectory.y, trajectory.z, trajectory.vx, trajectory.vy,
+                trajectory.vz, trajectory.cbe, 0, -1, result.fx, result.fy, result.fz, result.wx, result.wy,
+                result.wz));
+        assertThrows(IndexOutOfBoundsException.class, () -> ECEFTrajectoryKinematicsEstimator.estimateKinematics(
+                TIME_INTERVAL_SECONDS, trajectory.x, trajectory.y, trajectory.z, trajectory.vx, trajectory.vy,
+                trajectory.vz, trajectory.cbe, 1, EPOCHS, result.fx, result.fy, result.fz, result.wx, result.wy,
+                result.wz));
+        assertThrows(IndexOutOfBoundsException.class, () -> ECEFTrajectoryKinematicsEstimator.estimateKinematics(
+                TIME_INTERVAL_SECONDS, trajectory.x, trajectory.y, trajectory.z, trajectory.vx, trajectory.vy,
+                trajectory.vz, new double[EPOCHS], 0, EPOCHS, result.fx, result.fy, result.fz, result.wx,
+                result.wy, result.wz));
+        assertThrows(IndexOutOfBoundsException.class, () -> ECEFTrajectoryKinematicsEstimator.estimateKinematics(
+                TIME_INTERVAL_SECONDS, trajectory.x, trajectory.y, trajectory.z, trajectory.vx, trajectory.vy,
+                trajectory.vz, trajectory.cbe, 0, EPOCHS, result.fx, result.fy, result.fz, result.wx,
+                result.wy, new double[1]));
+    }
+
+    /**
+     * Random trajectory stored as primitive arrays.
+     */
+    private static class Trajectory {
+        final double[] x;
+        final double[] y;
+        final double[] z;
+        final double[] vx;
+        final double[] vy;
+        final double[] vz;
+        final double[] cbe;
+        final double[] fx;
+        final double[] fy;
+        final double[] fz;
+        final double[] wx;
+        final double[] wy;
+        final double[] wz;
+
+        Trajectory(final int epochs) {
+            x = new double[epochs];
+            y = new double[epochs];
+            z = new double[epochs];
+            vx = new double[epochs];
+            vy = new double[epochs];
+            vz = new double[epochs];
+            cbe = new double[epochs * ECEFTrajectoryKinematicsEstimator.ATTITUDE_LENGTH];
+            fx = new double[epochs];
+            fy = new double[epochs];
+            fz = new double[epochs];
+            wx = new double[epochs];
+            wy = new double[epochs];
+            wz = new double[epochs];
+        }
+
+        Trajectory(final int epochs, final double maxAngleVariationDegrees, final Random random) {
+            this(epochs);
+
+            final var randomizer = new UniformRandomizer(random);
+            var roll = Math.toRadians(randomizer.nextDouble(MIN_ANGLE_DEGREES, MAX_ANGLE_DEGREES));
+            var pitch = Math.toRadians(randomizer.nextDouble(MIN_ANGLE_DEGREES, MAX_ANGLE_DEGREES));
+            var yaw = Math.toRadians(randomizer.nextDouble(MIN_ANGLE_DEGREES, MAX_ANGLE_DEGREES));
+
+            final var position = new NEDPosition(Math.toRadians(LATITUDE_DEGREES),
+                    Math.toRadians(LONGITUDE_DEGREES), HEIGHT);
+            final var velocity = new NEDVelocity();
+            final var ecefPosition = new ECEFPosition();
+            final var ecefVelocity = new ECEFVelocity();
+
+            final var maxAngleVariation = Math.toRadians(maxAngleVariationDegrees);
+            for (var k = 0; k < epochs; k++) {
+                NEDtoECEFPositionVelocityConverter.convertNEDtoECEF(position, velocity, ecefPosition,
+                        ecefVelocity);
+                x[k] = ecefPosition.getX();
+                y[k] = ecefPosition.getY();
+                z[k] = ecefPosition.getZ();
+                vx[k] = ecefVelocity.getVx();
+                vy[k] = ecefVelocity.getVy();
+                vz[k] = ecefVelocity.getVz();
+
+                final var c = new CoordinateTransformation(roll, pitch, yaw, FrameType.BODY_FRAME,
+                        FrameType.EARTH_CENTERED_EARTH_FIXED_FRAME);
+                System.arraycopy(c.getMatrix().getBuffer(), 0, cbe,
+                        k * ECEFTrajectoryKinematicsEstimator.ATTITUDE_LENGTH,
+                        ECEFTrajectoryKinematicsEstimator.ATTITUDE_LENGTH);
+
+                // move to next epoch
+                roll += maxAngleVariation * (2.0 * randomizer.nextDouble() - 1.0);
+                pitch += maxAngleVariation * (2.0 * randomizer.nextDouble() - 1.0);
+                yaw += maxAngleVariation * (2.0 * randomizer.nextDouble() - 1.0);
+                velocity.setCoordinates(
+                        velocity.getVn() + randomizer.nextDouble(MIN_VELOCITY_VARIATION, MAX_VELOCITY_VARIATION),
+                        velocity.getVe() + randomizer.nextDouble(MIN_VELOCITY_VARIATION, MAX_VELOCITY_VARIATION),
+                        velocity.getVd() + randomizer.nextDouble(MIN_VELOCITY_VARIATION, MAX_VELOCITY_VARIATION));
+                position.setCoordinates(
+                        position.getLatitude() + velocity.getVn() * TIME_INTERVAL_SECONDS / 6378137.0,
+                        position.getLongitude() + velocity.getVe() * TIME_INTERVAL_SECONDS / 6378137.0,
+                        position.getHeight() - velocity.getVd() * TIME_INTERVAL_SECONDS);
+            }
+        }
+
+        CoordinateTransformation getAttitude(final int k) throws InvalidRotationMatrixException {
+            final var c = new CoordinateTransformation(FrameType.BODY_FRAME,
+                    FrameType.EARTH_CENTERED_EARTH_FIXED_FRAME);
+            final var m = c.getMatrix();
+            System.arraycopy(cbe, k * ECEFTrajectoryKinematicsEstimator.ATTITUDE_LENGTH, m.getBuffer(), 0,
+                    ECEFTrajectoryKinematicsEstimator.ATTITUDE_LENGTH);
+            c.setMatrix(m, 1e-8);
+            return c;
+        }
+    }
+}
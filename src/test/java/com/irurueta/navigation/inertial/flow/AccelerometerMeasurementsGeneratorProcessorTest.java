@@ -0,0 +1,123 @@
+/*
+ * Copyright (C) 2026 Alberto Irurueta Carro (alberto@irurueta.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.irurueta.navigation.inertial.flow;
+
+import com.irurueta.navigation.LockedException;
+import com.irurueta.navigation.inertial.BodyKinematics;
+import com.irurueta.navigation.inertial.InertialException;
+import com.irurueta.navigation.inertial.calibration.StandardDeviationBodyKinematics;
+import com.irurueta.navigation.inertial.calibration.generators.AccelerometerMeasurementsGenerator;
+import com.irurueta.navigation.inertial.calibration.intervals.TriadStaticIntervalDetector;
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.SubmissionPublisher;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class AccelerometerMeasurementsGeneratorProcessorTest {
+
+    private static final double GRAVITY = 9.81;
+
+    private static final double ABSOLUTE_ERROR = 1e-3;
+
+    private static final int BUFFER_CAPACITY = 16;
+
+    private static final long SEED = 12345L;
+
+    @Test
+    void testConstructor() throws LockedException {
+        final var generator = new AccelerometerMeasurementsGenerator();
+        var processor = new AccelerometerMeasurementsGeneratorProcessor(generator);
+
+        assertSame(generator, processor.getGenerator());
+        assertNotNull(generator.getListener());
+        assertEquals(BaseFlowProcessor.DEFAULT_BUFFER_CAPACITY, processor.getBufferCapacity());
+
+        processor = new AccelerometerMeasurementsGeneratorProcessor(generator, ForkJoinPool.commonPool(),
+                BUFFER_CAPACITY);
+
+        assertSame(generator, processor.getGenerator());
+        assertEquals(BUFFER_CAPACITY, processor.getBufferCapacity());
+
+        // Force NullPointerException
+        assertThrows(NullPointerException.class, () -> new AccelerometerMeasurementsGeneratorProcessor(null));
+    }
+
+    @Test
+    void testProcess() throws LockedException, InterruptedException {
+        final var samples = TriadStaticIntervalDetectorProcessorTest.generateKinematics(new Random(SEED));
+
+        final var processor = new AccelerometerMeasurementsGeneratorProcessor(
+                new AccelerometerMeasurementsGenerator(), ForkJoinPool.commonPool(), BUFFER_CAPACITY);
+        final var subscriber = new CollectingSubscriber<StandardDeviationBodyKinematics>();
+        processor.subscribe(subscriber);
+
+        try (final var source = new SubmissionPublisher<BodyKinematics>(ForkJoinPool.commonPool(),
+                BUFFER_CAPACITY)) {
+            source.subscribe(processor);
+            for (final var sample : samples) {
+                source.submit(sample.getKinematics());
+            }
+        }
+
+        assertTrue(subscriber.await());
+        assertTrue(subscriber.isCompleted());
+        assertEquals(samples.size(), processor.getNumberOfProcessedItems());
+
+        // a measurement is generated at the end of each static interval following a
+        // dynamic interval
+        final var measurements = subscriber.getItems();
+        assertEquals(TriadStaticIntervalDetectorProcessorTest.NUM_INTERVALS, measurements.size());
+        assertEquals(measurements.size(), processor.getNumberOfPublishedItems());
+        for (final var measurement : measurements) {
+            final var kinematics = measurement.getKinematics();
+            assertEquals(GRAVITY, kinematics.getSpecificForceNorm(), ABSOLUTE_ERROR);
+            assertTrue(measurement.getSpecificForceStandardDeviation() > 0.0);
+        }
+    }
+
+    @Test
+    void testProcessFailsOnExcessiveOverallNoise() throws LockedException, InterruptedException {
+        final var samples = TriadStaticIntervalDetectorProcessorTest.generateKinematics(new Random(SEED));
+
+        // any noise exceeds threshold, hence initialization fails
+        final var generator = new AccelerometerMeasurementsGenerator();
+        generator.setBaseNoiseLevelAbsoluteThreshold(Double.MIN_VALUE);
+
+        final var processor = new AccelerometerMeasurementsGeneratorProcessor(generator,
+                ForkJoinPool.commonPool(), BUFFER_CAPACITY);
+        final var subscriber = new CollectingSubscriber<StandardDeviationBodyKinematics>();
+        processor.subscribe(subscriber);
+
+        try (final var source = new SubmissionPublisher<BodyKinematics>(ForkJoinPool.commonPool(),
+                BUFFER_CAPACITY)) {
+            source.subscribe(processor);
+            for (final var sample : samples) {
+                source.submit(sample.getKinematics());
+            }
+        }
+
+        assertTrue(subscriber.await());
+        assertFalse(subscriber.isCompleted());
+        assertInstanceOf(InertialException.class, subscriber.getError());
+        assertTrue(subscriber.getItems().isEmpty());
+        assertEquals(TriadStaticIntervalDetector.Status.FAILED, generator.getStatus());
+        assertTrue(processor.isClosed());
+        assertTrue(processor.getNumberOfProcessedItems() < samples.size());
+    }
+}
@@ -0,0 +1,294 @@
+/*
+ * Copyright (C) 2026 Alberto Irurueta Carro (alberto@irurueta.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.irurueta.navigation.inertial.flow;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Flow;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.SubmissionPublisher;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BaseFlowProcessorTest {
+
+    private static final int NUM_ITEMS = 1000;
+
+    private static final int BUFFER_CAPACITY = 8;
+
+    @Test
+    void testConstructor() {
+        var processor = new DoublingProcessor();
+
+        assertEquals(BaseFlowProcessor.DEFAULT_BUFFER_CAPACITY, processor.getBufferCapacity());
+        assertNotNull(processor.getBatchSubscriber());
+        assertEquals(0, processor.getNumberOfProcessedItems());
+        assertEquals(0, processor.getNumberOfPublishedItems());
+        assertEquals(0, processor.getNumberOfSubscribers());
+        assertEquals(0, processor.estimateMaximumLag());
+        assertFalse(processor.isClosed());
+
+        processor = new DoublingProcessor(ForkJoinPool.commonPool(), BUFFER_CAPACITY);
+
+        assertEquals(BUFFER_CAPACITY, processor.getBufferCapacity());
+
+        // Force IllegalArgumentException
+        final Executor executor = ForkJoinPool.commonPool();
+        assertThrows(IllegalArgumentException.class, () -> new DoublingProcessor(executor, 0));
+
+        // Force NullPointerException
+        assertThrows(NullPointerException.class, () -> new DoublingProcessor(null, BUFFER_CAPACITY));
+    }
+
+    @Test
+    void testProcessAndComplete() throws InterruptedException {
+        final var processor = new DoublingProcessor(ForkJoinPool.commonPool(), BUFFER_CAPACITY);
+        final var subscriber = new CollectingSubscriber<Integer>();
+        processor.subscribe(subscriber);
+        assertEquals(1, processor.getNumberOfSubscribers());
+
+        try (final var source = new SubmissionPublisher<Integer>(ForkJoinPool.commonPool(), BUFFER_CAPACITY)) {
+            source.subscribe(processor);
+            for (var i = 0; i < NUM_ITEMS; i++) {
+                source.submit(i);
+            }
+        }
+
+        assertTrue(subscriber.await());
+        assertTrue(subscriber.isCompleted());
+        assertNull(subscriber.getError());
+        assertTrue(processor.isClosed());
+
+        final var items = subscriber.getItems();
+        assertEquals(NUM_ITEMS, items.size());
+        for (var i = 0; i < NUM_ITEMS; i++) {
+            assertEquals(2 * i, items.get(i));
+        }
+        assertEquals(NUM_ITEMS, processor.getNumberOfProcessedItems());
+        assertEquals(NUM_ITEMS, processor.getNumberOfPublishedItems());
+    }
+
+    @Test
+    void testRequestsBoundedWindowFromUpstream() {
+        final var processor = new DoublingProcessor(ForkJoinPool.commonPool(), BUFFER_CAPACITY);
+        final var subscription = new RecordingSubscription();
+        processor.onSubscribe(subscription);
+
+        assertEquals(BUFFER_CAPACITY, subscription.requested.get());
+
+        // more items are only requested once half of the window has been processed
+        for (var i = 0; i < BUFFER_CAPACITY / 2 - 1; i++) {
+            processor.onNext(i);
+        }
+        assertEquals(BUFFER_CAPACITY, subscription.requested.get());
+
+        processor.onNext(0);
+        assertEquals(BUFFER_CAPACITY + BUFFER_CAPACITY / 2, subscription.requested.get());
+
+        // only one upstream subscription is allowed
+        final var other = new RecordingSubscription();
+        processor.onSubscribe(other);
+        assertTrue(other.cancelled.get());
+        assertEquals(0, other.requested.get());
+        assertFalse(subscription.cancelled.get());
+
+        processor.close();
+
+        assertTrue(subscription.cancelled.get());
+        assertTrue(processor.isClosed());
+    }
+
+    @Test
+    void testBackpressure() throws InterruptedException {
+        final var processor = new DoublingProcessor(ForkJoinPool.commonPool(), BUFFER_CAPACITY);
+        final var subscriber = new CollectingSubscriber<Integer>(0);
+        processor.subscribe(subscriber);
+
+        final ExecutorService producer = Executors.newSingleThreadExecutor();
+        try (final var source = new SubmissionPublisher<Integer>(ForkJoinPool.commonPool(), BUFFER_CAPACITY)) {
+            source.subscribe(processor);
+            producer.execute(() -> {
+                for (var i = 0; i < NUM_ITEMS; i++) {
+                    source.submit(i);
+                }
+                source.close();
+            });
+
+            Thread.sleep(200);
+
+            // subscriber has not requested anything, hence processing and upstream stall
+            // once buffers are full
+            assertTrue(processor.getNumberOfProcessedItems() <= 2L * BUFFER_CAPACITY);
+            assertTrue(subscriber.getItems().isEmpty());
+
+            subscriber.request(Long.MAX_VALUE);
+
+            assertTrue(subscriber.await());
+        } finally {
+            producer.shutdown();
+        }
+
+        assertTrue(subscriber.isCompleted());
+        assertEquals(NUM_ITEMS, subscriber.getItems().size());
+        assertEquals(NUM_ITEMS, processor.getNumberOfProcessedItems());
+        assertEquals(0, processor.estimateMaximumLag());
+    }
+
+    @Test
+    void testBatchSubscriber() throws InterruptedException {
+        final var processor = new DoublingProcessor(ForkJoinPool.commonPool(), BUFFER_CAPACITY);
+        final var subscriber = new CollectingSubscriber<Integer>();
+        processor.subscribe(subscriber);
+
+        final var batchSize = 10;
+        try (final var source = new SubmissionPublisher<List<Integer>>(ForkJoinPool.commonPool(),
+                BUFFER_CAPACITY)) {
+            source.subscribe(processor.getBatchSubscriber());
+            for (var i = 0; i < NUM_ITEMS; i += batchSize) {
+                final var batch = new ArrayList<Integer>();
+                for (var j = i; j < i + batchSize; j++) {
+                    batch.add(j);
+                }
+                source.submit(batch);
+            }
+        }
+
+        assertTrue(subscriber.await());
+        assertTrue(subscriber.isCompleted());
+
+        final var items = subscriber.getItems();
+        assertEquals(NUM_ITEMS, items.size());
+        for (var i = 0; i < NUM_ITEMS; i++) {
+            assertEquals(2 * i, items.get(i));
+        }
+        assertEquals(NUM_ITEMS, processor.getNumberOfProcessedItems());
+    }
+
+    @Test
+    void testProcessingFailure() throws InterruptedException {
+        final var processor = new DoublingProcessor(ForkJoinPool.commonPool(), BUFFER_CAPACITY);
+        final var subscriber = new CollectingSubscriber<Integer>();
+        processor.subscribe(subscriber);
+
+        final var subscription = new RecordingSubscription();
+        processor.onSubscribe(subscription);
+        processor.onNext(1);
+        processor.onNext(-1);
+
+        assertTrue(subscriber.await());
+        assertInstanceOf(IllegalArgumentException.class, subscriber.getError());
+        assertFalse(subscriber.isCompleted());
+        assertTrue(subscription.cancelled.get());
+        assertTrue(processor.isClosed());
+
+        // further items are ignored
+        processor.onNext(2);
+        assertEquals(1, processor.getNumberOfProcessedItems());
+    }
+
+    @Test
+    void testUpstreamFailure() throws InterruptedException {
+        final var processor = new DoublingProcessor(ForkJoinPool.commonPool(), BUFFER_CAPACITY);
+        final var subscriber = new CollectingSubscriber<Integer>();
+        processor.subscribe(subscriber);
+
+        final var failure = new IllegalStateException();
+        try (final var source = new SubmissionPublisher<Integer>(ForkJoinPool.commonPool(), BUFFER_CAPACITY)) {
+            source.subscribe(processor);
+            source.submit(1);
+            source.closeExceptionally(failure);
+        }
+
+        assertTrue(subscriber.await());
+        assertSame(failure, subscriber.getError());
+        assertTrue(processor.isClosed());
+    }
+
+    @Test
+    void testClose() throws InterruptedException {
+        final var processor = new DoublingProcessor(ForkJoinPool.commonPool(), BUFFER_CAPACITY);
+        final var subscriber = new CollectingSubscriber<Integer>();
+        processor.subscribe(subscriber);
+
+        final var subscription = new RecordingSubscription();
+        processor.onSubscribe(subscription);
+        processor.onNext(1);
+        processor.close();
+
+        assertTrue(subscriber.await());
+        assertTrue(subscriber.isCompleted());
+        assertEquals(List.of(2), subscriber.getItems());
+        assertTrue(subscription.cancelled.get());
+        assertTrue(processor.isClosed());
+
+        // further items and subscriptions are ignored
+        processor.onNext(2);
+        assertEquals(1, processor.getNumberOfProcessedItems());
+
+        final var other = new RecordingSubscription();
+        processor.onSubscribe(other);
+        assertTrue(other.cancelled.get());
+    }
+
+    /**
+     * Processor publishing twice the value of received items and failing on negative values.
+     */
+    private static class DoublingProcessor extends BaseFlowProcessor<Integer, Integer> {
+
+        DoublingProcessor() {
+            super();
+        }
+
+        DoublingProcessor(final Executor executor, final int bufferCapacity) {
+            super(executor, bufferCapacity);
+        }
+
+        @Override
+        protected void process(final Integer item) {
+            if (item < 0) {
+                throw new IllegalArgumentException();
+            }
+            publish(2 * item);
+        }
+    }
+
+    /**
+     * Subscription recording requested items and cancellation.
+     */
+    private static class RecordingSubscription implements Flow.Subscription {
+
+        private final AtomicLong requested = new AtomicLong();
+
+        private final AtomicBoolean cancelled = new AtomicBoolean();
+
+        @Override
+        public void request(final long n) {
+            requested.addAndGet(n);
+        }
+
+        @Override
+        public void cancel() {
+            cancelled.set(true);
+        }
+    }
+}
@@ -0,0 +1,100 @@
+/*
+ * Copyright (C) 2026 Alberto Irurueta Carro (alberto@irurueta.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.irurueta.navigation.inertial.flow;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Flow;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Subscriber collecting received items, used to test processors.
+ *
+ * @param <T> type of received items.
+ */
+class CollectingSubscriber<T> implements Flow.Subscriber<T> {
+
+    private static final long TIMEOUT_SECONDS = 30;
+
+    private final List<T> items = Collections.synchronizedList(new ArrayList<>());
+
+    private final CountDownLatch latch = new CountDownLatch(1);
+
+    private final long initialRequest;
+
+    private volatile Flow.Subscription subscription;
+
+    private volatile Throwable error;
+
+    private volatile boolean completed;
+
+    CollectingSubscriber() {
+        this(Long.MAX_VALUE);
+    }
+
+    CollectingSubscriber(final long initialRequest) {
+        this.initialRequest = initialRequest;
+    }
+
+    @Override
+    public void onSubscribe(final Flow.Subscription subscription) {
+        this.subscription = subscription;
+        if (initialRequest > 0) {
+            subscription.request(initialRequest);
+        }
+    }
+
+    @Override
+    public void onNext(final T item) {
+        items.add(item);
+    }
+
+    @Override
+    public void onError(final Throwable throwable) {
+        error = throwable;
+        latch.countDown();
+    }
+
+    @Override
+    public void onComplete() {
+        completed = true;
+        latch.countDown();
+    }
+
+    void request(final long n) {
+        subscription.request(n);
+    }
+
+    boolean await() throws InterruptedException {
+        return latch.await(TIMEOUT_SECONDS, TimeUnit.SECONDS);
+    }
+
+    List<T> getItems() {
+        synchronized (items) {
+            return new ArrayList<>(items);
+        }
+    }
+
+    Throwable getError() {
+        return error;
+    }
+
+    boolean isCompleted() {
+        return completed;
+    }
+}
@@ -0,0 +1,104 @@
+/*
+ * Copyright (C) 2026 Alberto Irurueta Carro (alberto@irurueta.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.irurueta.navigation.inertial.flow;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.SubmissionPublisher;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class FlowBatchingProcessorTest {
+
+    private static final int NUM_ITEMS = 95;
+
+    private static final int MAX_BATCH_SIZE = 10;
+
+    private static final int BUFFER_CAPACITY = 4;
+
+    @Test
+    void testConstructor() {
+        var processor = new FlowBatchingProcessor<Integer>();
+
+        assertEquals(FlowBatchingProcessor.DEFAULT_MAX_BATCH_SIZE, processor.getMaxBatchSize());
+        assertEquals(BaseFlowProcessor.DEFAULT_BUFFER_CAPACITY, processor.getBufferCapacity());
+        assertFalse(processor.isClosed());
+
+        processor = new FlowBatchingProcessor<>(MAX_BATCH_SIZE);
+
+        assertEquals(MAX_BATCH_SIZE, processor.getMaxBatchSize());
+        assertEquals(BaseFlowProcessor.DEFAULT_BUFFER_CAPACITY, processor.getBufferCapacity());
+
+        processor = new FlowBatchingProcessor<>(MAX_BATCH_SIZE, ForkJoinPool.commonPool(), BUFFER_CAPACITY);
+
+        assertEquals(MAX_BATCH_SIZE, processor.getMaxBatchSize());
+        assertEquals(BUFFER_CAPACITY, processor.getBufferCapacity());
+
+        // Force IllegalArgumentException
+        assertThrows(IllegalArgumentException.class, () -> new FlowBatchingProcessor<Integer>(0));
+        final var executor = ForkJoinPool.commonPool();
+        assertThrows(IllegalArgumentException.class,
+                () -> new FlowBatchingProcessor<Integer>(MAX_BATCH_SIZE, executor, 0));
+
+        // Force NullPointerException
+        assertThrows(NullPointerException.class,
+                () -> new FlowBatchingProcessor<Integer>(MAX_BATCH_SIZE, null, BUFFER_CAPACITY));
+    }
+
+    @Test
+    void testBatching() throws InterruptedException {
+        final var processor = new FlowBatchingProcessor<Integer>(MAX_BATCH_SIZE, ForkJoinPool.commonPool(),
+                BUFFER_CAPACITY);
+        final var subscriber = new CollectingSubscriber<List<Integer>>();
+        processor.subscribe(subscriber);
+
+        try (final var source = new SubmissionPublisher<Integer>(ForkJoinPool.commonPool(), BUFFER_CAPACITY)) {
+            source.subscribe(processor);
+            for (var i = 0; i < NUM_ITEMS; i++) {
+                source.submit(i);
+            }
+        }
+
+        assertTrue(subscriber.await());
+        assertTrue(subscriber.isCompleted());
+
+        // remaining items are published as a smaller batch on completion
+        final var batches = subscriber.getItems();
+        final var numBatches = (NUM_ITEMS + MAX_BATCH_SIZE - 1) / MAX_BATCH_SIZE;
+        assertEquals(numBatches, batches.size());
+        final var items = new ArrayList<Integer>();
+        for (var i = 0; i < numBatches; i++) {
+            final var batch = batches.get(i);
+            if (i < numBatches - 1) {
+                assertEquals(MAX_BATCH_SIZE, batch.size());
+            } else {
+                assertEquals(NUM_ITEMS % MAX_BATCH_SIZE, batch.size());
+            }
+            assertThrows(UnsupportedOperationException.class, () -> batch.add(0));
+            items.addAll(batch);
+        }
+
+        assertEquals(NUM_ITEMS, items.size());
+        for (var i = 0; i < NUM_ITEMS; i++) {
+            assertEquals(i, items.get(i));
+        }
+        assertEquals(NUM_ITEMS, processor.getNumberOfProcessedItems());
+        assertEquals(numBatches, processor.getNumberOfPublishedItems());
+    }
+}
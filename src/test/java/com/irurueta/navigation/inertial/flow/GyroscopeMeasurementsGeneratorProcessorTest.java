@@ -0,0 +1,86 @@
+/*
+ * Copyright (C) 2026 Alberto Irurueta Carro (alberto@irurueta.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.irurueta.navigation.inertial.flow;
+
+import com.irurueta.navigation.LockedException;
+import com.irurueta.navigation.inertial.calibration.BodyKinematicsSequence;
+import com.irurueta.navigation.inertial.calibration.StandardDeviationTimedBodyKinematics;
+import com.irurueta.navigation.inertial.calibration.TimedBodyKinematics;
+import com.irurueta.navigation.inertial.calibration.generators.GyroscopeMeasurementsGenerator;
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.SubmissionPublisher;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class GyroscopeMeasurementsGeneratorProcessorTest {
+
+    private static final int BUFFER_CAPACITY = 16;
+
+    private static final long SEED = 12345L;
+
+    @Test
+    void testConstructor() throws LockedException {
+        final var generator = new GyroscopeMeasurementsGenerator();
+        var processor = new GyroscopeMeasurementsGeneratorProcessor(generator);
+
+        assertSame(generator, processor.getGenerator());
+        assertNotNull(generator.getListener());
+        assertEquals(BaseFlowProcessor.DEFAULT_BUFFER_CAPACITY, processor.getBufferCapacity());
+
+        processor = new GyroscopeMeasurementsGeneratorProcessor(generator, ForkJoinPool.commonPool(),
+                BUFFER_CAPACITY);
+
+        assertSame(generator, processor.getGenerator());
+        assertEquals(BUFFER_CAPACITY, processor.getBufferCapacity());
+
+        // Force NullPointerException
+        assertThrows(NullPointerException.class, () -> new GyroscopeMeasurementsGeneratorProcessor(null));
+    }
+
+    @Test
+    void testProcess() throws LockedException, InterruptedException {
+        final var samples = TriadStaticIntervalDetectorProcessorTest.generateKinematics(new Random(SEED));
+
+        final var processor = new GyroscopeMeasurementsGeneratorProcessor(
+                new GyroscopeMeasurementsGenerator(), ForkJoinPool.commonPool(), BUFFER_CAPACITY);
+        final var subscriber = 
+                new CollectingSubscriber<BodyKinematicsSequence<StandardDeviationTimedBodyKinematics>>();
+        processor.subscribe(subscriber);
+
+        try (final var source = new SubmissionPublisher<TimedBodyKinematics>(ForkJoinPool.commonPool(),
+                BUFFER_CAPACITY)) {
+            source.subscribe(processor);
+            for (final var sample : samples) {
+                source.submit(sample);
+            }
+        }
+
+        assertTrue(subscriber.await());
+        assertTrue(subscriber.isCompleted());
+        assertEquals(samples.size(), processor.getNumberOfProcessedItems());
+
+        // a sequence is generated for each dynamic interval between static intervals
+        final var sequences = subscriber.getItems();
+        assertEquals(TriadStaticIntervalDetectorProcessorTest.NUM_INTERVALS, sequences.size());
+        assertEquals(sequences.size(), processor.getNumberOfPublishedItems());
+        for (final var sequence : sequences) {
+            assertTrue(sequence.getItemsCount() > 0);
+        }
+    }
+}
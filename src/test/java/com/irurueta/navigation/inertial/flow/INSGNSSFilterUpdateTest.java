@@ -0,0 +1,78 @@
+/*
+ * Copyright (C) 2026 Alberto Irurueta Carro (alberto@irurueta.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.irurueta.navigation.inertial.flow;
+
+import com.irurueta.navigation.gnss.GNSSMeasurement;
+import com.irurueta.navigation.inertial.BodyKinematics;
+import com.irurueta.navigation.inertial.calibration.TimedBodyKinematics;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Collection;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class INSGNSSFilterUpdateTest {
+
+    private static final double TIMESTAMP = 1.5;
+
+    @Test
+    void testCreateBodyKinematicsUpdate() {
+        final var kinematics = new BodyKinematics();
+        var update = INSGNSSFilterUpdate.createBodyKinematicsUpdate(kinematics, TIMESTAMP);
+
+        assertEquals(INSGNSSFilterUpdate.Type.BODY_KINEMATICS, update.getType());
+        assertSame(kinematics, update.getKinematics());
+        assertNull(update.getMeasurements());
+        assertEquals(TIMESTAMP, update.getTimestamp(), 0.0);
+
+        update = INSGNSSFilterUpdate.createBodyKinematicsUpdate(new TimedBodyKinematics(kinematics, TIMESTAMP));
+
+        assertEquals(INSGNSSFilterUpdate.Type.BODY_KINEMATICS, update.getType());
+        assertSame(kinematics, update.getKinematics());
+        assertNull(update.getMeasurements());
+        assertEquals(TIMESTAMP, update.getTimestamp(), 0.0);
+
+        // Force NullPointerException
+        assertThrows(NullPointerException.class,
+                () -> INSGNSSFilterUpdate.createBodyKinematicsUpdate(null, TIMESTAMP));
+    }
+
+    @Test
+    void testCreateMeasurementsUpdate() {
+        final Collection<GNSSMeasurement> measurements = new ArrayList<>();
+        final var update = INSGNSSFilterUpdate.createMeasurementsUpdate(measurements, TIMESTAMP);
+
+        assertEquals(INSGNSSFilterUpdate.Type.GNSS_MEASUREMENTS, update.getType());
+        assertNull(update.getKinematics());
+        assertSame(measurements, update.getMeasurements());
+        assertEquals(TIMESTAMP, update.getTimestamp(), 0.0);
+
+        // Force NullPointerException
+        assertThrows(NullPointerException.class,
+                () -> INSGNSSFilterUpdate.createMeasurementsUpdate(null, TIMESTAMP));
+    }
+
+    @Test
+    void testCreatePropagation() {
+        final var update = INSGNSSFilterUpdate.createPropagation(TIMESTAMP);
+
+        assertEquals(INSGNSSFilterUpdate.Type.PROPAGATION, update.getType());
+        assertNull(update.getKinematics());
+        assertNull(update.getMeasurements());
+        assertEquals(TIMESTAMP, update.getTimestamp(), 0.0);
+    }
+}
@@ -0,0 +1,143 @@
+/*
+ * Copyright (C) 2026 Alberto Irurueta Carro (alberto@irurueta.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.irurueta.navigation.inertial.flow;
+
+import com.irurueta.navigation.LockedException;
+import com.irurueta.navigation.NotReadyException;
+import com.irurueta.navigation.inertial.BodyKinematics;
+import com.irurueta.navigation.inertial.INSGNSSException;
+import com.irurueta.navigation.inertial.INSGNSSLooselyCoupledFixture;
+import com.irurueta.navigation.inertial.INSGNSSLooselyCoupledKalmanFilteredEstimator;
+import com.irurueta.navigation.inertial.INSLooselyCoupledKalmanState;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.SubmissionPublisher;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class INSGNSSLooselyCoupledFilterProcessorTest {
+
+    private static final int NUM_EPOCHS = 10;
+
+    private static final int KINEMATICS_PER_EPOCH = 10;
+
+    private static final int BUFFER_CAPACITY = 16;
+
+    private static final long SEED = 12345L;
+
+    @Test
+    void testConstructor() {
+        final var estimator = new INSGNSSLooselyCoupledKalmanFilteredEstimator();
+        var processor = new INSGNSSLooselyCoupledFilterProcessor(estimator);
+
+        assertSame(estimator, processor.getEstimator());
+        assertEquals(BaseFlowProcessor.DEFAULT_BUFFER_CAPACITY, processor.getBufferCapacity());
+
+        processor = new INSGNSSLooselyCoupledFilterProcessor(estimator, ForkJoinPool.commonPool(), BUFFER_CAPACITY);
+
+        assertSame(estimator, processor.getEstimator());
+        assertEquals(BUFFER_CAPACITY, processor.getBufferCapacity());
+
+        // Force NullPointerException
+        assertThrows(NullPointerException.class, () -> new INSGNSSLooselyCoupledFilterProcessor(null));
+    }
+
+    @Test
+    void testProcess() throws InterruptedException, LockedException, NotReadyException, INSGNSSException {
+        final var updates = generateUpdates(new Random(SEED));
+
+        // apply updates sequentially
+        final var expectedEstimator = INSGNSSLooselyCoupledFixture.createEstimator();
+        final var expectedStates = new ArrayList<INSLooselyCoupledKalmanState>();
+        for (final var update : updates) {
+            final var updated = switch (update.getType()) {
+                case BODY_KINEMATICS -> expectedEstimator.updateBodyKinematics(update.getKinematics(),
+                        update.getTimestamp());
+                case GNSS_MEASUREMENTS -> expectedEstimator.updateMeasurements(update.getMeasurements(),
+                        update.getTimestamp());
+                case PROPAGATION -> expectedEstimator.propagate(update.getTimestamp());
+            };
+            if (updated && expectedEstimator.getState() != null) {
+                expectedStates.add(expectedEstimator.getState());
+            }
+        }
+
+        final var processor = new INSGNSSLooselyCoupledFilterProcessor(
+                INSGNSSLooselyCoupledFixture.createEstimator(), ForkJoinPool.commonPool(), BUFFER_CAPACITY);
+        final var subscriber = new CollectingSubscriber<INSLooselyCoupledKalmanState>();
+        processor.subscribe(subscriber);
+
+        try (final var source = new SubmissionPublisher<INSGNSSFilterUpdate>(ForkJoinPool.commonPool(),
+                BUFFER_CAPACITY)) {
+            source.subscribe(processor);
+            for (final var update : updates) {
+                source.submit(update);
+            }
+        }
+
+        assertTrue(subscriber.await());
+        assertTrue(subscriber.isCompleted());
+        assertEquals(updates.size(), processor.getNumberOfProcessedItems());
+
+        final var states = subscriber.getItems();
+        assertFalse(states.isEmpty());
+        assertEquals(expectedStates.size(), states.size());
+        for (var i = 0; i < states.size(); i++) {
+            assertEquals(expectedStates.get(i), states.get(i));
+        }
+        assertEquals(expectedEstimator.getState(), processor.getEstimator().getState());
+    }
+
+    @Test
+    void testProcessFailsWhenEstimatorFails() throws InterruptedException {
+        final var processor = new INSGNSSLooselyCoupledFilterProcessor(
+                INSGNSSLooselyCoupledFixture.createEstimator(), ForkJoinPool.commonPool(), BUFFER_CAPACITY);
+        final var subscriber = new CollectingSubscriber<INSLooselyCoupledKalmanState>();
+        processor.subscribe(subscriber);
+
+        // estimator is not ready for measurement updates when not enough measurements are
+        // provided
+        try (final var source = new SubmissionPublisher<INSGNSSFilterUpdate>(ForkJoinPool.commonPool(),
+                BUFFER_CAPACITY)) {
+            source.subscribe(processor);
+            source.submit(INSGNSSFilterUpdate.createMeasurementsUpdate(new ArrayList<>(), 1.0));
+        }
+
+        assertTrue(subscriber.await());
+        assertFalse(subscriber.isCompleted());
+        assertNotNull(subscriber.getError());
+        assertTrue(processor.isClosed());
+    }
+
+    private static List<INSGNSSFilterUpdate> generateUpdates(final Random random) {
+        final var result = new ArrayList<INSGNSSFilterUpdate>();
+        for (var epoch = 1; epoch <= NUM_EPOCHS; epoch++) {
+            final var timestamp = (double) epoch;
+            result.add(INSGNSSFilterUpdate.createMeasurementsUpdate(
+                    INSGNSSLooselyCoupledFixture.generateMeasurements(timestamp, random), timestamp));
+            for (var i = 1; i < KINEMATICS_PER_EPOCH; i++) {
+                result.add(INSGNSSFilterUpdate.createBodyKinematicsUpdate(new BodyKinematics(),
+                        timestamp + (double) i / KINEMATICS_PER_EPOCH));
+            }
+        }
+        result.add(INSGNSSFilterUpdate.createPropagation(NUM_EPOCHS + 1.0));
+        return result;
+    }
+}
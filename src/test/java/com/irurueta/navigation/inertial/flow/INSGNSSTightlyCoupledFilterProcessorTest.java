@@ -0,0 +1,75 @@
+/*
+ * Copyright (C) 2026 Alberto Irurueta Carro (alberto@irurueta.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.irurueta.navigation.inertial.flow;
+
+import com.irurueta.navigation.inertial.BodyKinematics;
+import com.irurueta.navigation.inertial.INSGNSSTightlyCoupledKalmanFilteredEstimator;
+import com.irurueta.navigation.inertial.INSTightlyCoupledKalmanState;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.SubmissionPublisher;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class INSGNSSTightlyCoupledFilterProcessorTest {
+
+    private static final double TIME_INTERVAL_SECONDS = 0.02;
+
+    private static final int BUFFER_CAPACITY = 16;
+
+    @Test
+    void testConstructor() {
+        final var estimator = new INSGNSSTightlyCoupledKalmanFilteredEstimator();
+        var processor = new INSGNSSTightlyCoupledFilterProcessor(estimator);
+
+        assertSame(estimator, processor.getEstimator());
+        assertEquals(BaseFlowProcessor.DEFAULT_BUFFER_CAPACITY, processor.getBufferCapacity());
+
+        processor = new INSGNSSTightlyCoupledFilterProcessor(estimator, ForkJoinPool.commonPool(), BUFFER_CAPACITY);
+
+        assertSame(estimator, processor.getEstimator());
+        assertEquals(BUFFER_CAPACITY, processor.getBufferCapacity());
+
+        // Force NullPointerException
+        assertThrows(NullPointerException.class, () -> new INSGNSSTightlyCoupledFilterProcessor(null));
+    }
+
+    @Test
+    void testProcess() throws InterruptedException {
+        final var processor = new INSGNSSTightlyCoupledFilterProcessor(
+                new INSGNSSTightlyCoupledKalmanFilteredEstimator(), ForkJoinPool.commonPool(), BUFFER_CAPACITY);
+        final var subscriber = new CollectingSubscriber<INSTightlyCoupledKalmanState>();
+        processor.subscribe(subscriber);
+
+        try (final var source = new SubmissionPublisher<INSGNSSFilterUpdate>(ForkJoinPool.commonPool(),
+                BUFFER_CAPACITY)) {
+            source.subscribe(processor);
+            source.submit(INSGNSSFilterUpdate.createBodyKinematicsUpdate(new BodyKinematics(),
+                    TIME_INTERVAL_SECONDS));
+            source.submit(INSGNSSFilterUpdate.createPropagation(2.0 * TIME_INTERVAL_SECONDS));
+        }
+
+        assertTrue(subscriber.await());
+        assertTrue(subscriber.isCompleted());
+        assertEquals(2, processor.getNumberOfProcessedItems());
+
+        // filter is not initialized until GNSS measurements are received, hence no state
+        // is published
+        assertNull(processor.getEstimator().getState());
+        assertTrue(subscriber.getItems().isEmpty());
+    }
+}
@@ -0,0 +1,103 @@
+/*
+ * Copyright (C) 2026 Alberto Irurueta Carro (alberto@irurueta.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.irurueta.navigation.inertial.flow;
+
+import com.irurueta.navigation.LockedException;
+import com.irurueta.navigation.inertial.BodyKinematicsAndMagneticFluxDensity;
+import com.irurueta.navigation.inertial.BodyMagneticFluxDensity;
+import com.irurueta.navigation.inertial.calibration.StandardDeviationBodyMagneticFluxDensity;
+import com.irurueta.navigation.inertial.calibration.generators.MagnetometerMeasurementsGenerator;
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.SubmissionPublisher;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class MagnetometerMeasurementsGeneratorProcessorTest {
+
+    private static final double MAGNETIC_FLUX_DENSITY_NORM = 5e-5;
+
+    private static final double MAGNETIC_FLUX_DENSITY_STD = 1e-9;
+
+    private static final double ABSOLUTE_ERROR = 1e-8;
+
+    private static final int BUFFER_CAPACITY = 16;
+
+    private static final long SEED = 12345L;
+
+    @Test
+    void testConstructor() throws LockedException {
+        final var generator = new MagnetometerMeasurementsGenerator();
+        var processor = new MagnetometerMeasurementsGeneratorProcessor(generator);
+
+        assertSame(generator, processor.getGenerator());
+        assertNotNull(generator.getListener());
+        assertEquals(BaseFlowProcessor.DEFAULT_BUFFER_CAPACITY, processor.getBufferCapacity());
+
+        processor = new MagnetometerMeasurementsGeneratorProcessor(generator, ForkJoinPool.commonPool(),
+                BUFFER_CAPACITY);
+
+        assertSame(generator, processor.getGenerator());
+        assertEquals(BUFFER_CAPACITY, processor.getBufferCapacity());
+
+        // Force NullPointerException
+        assertThrows(NullPointerException.class, () -> new MagnetometerMeasurementsGeneratorProcessor(null));
+    }
+
+    @Test
+    void testProcess() throws LockedException, InterruptedException {
+        final var samples = TriadStaticIntervalDetectorProcessorTest.generateKinematics(new Random(SEED));
+
+        final var processor = new MagnetometerMeasurementsGeneratorProcessor(
+                new MagnetometerMeasurementsGenerator(), ForkJoinPool.commonPool(), BUFFER_CAPACITY);
+        final var subscriber = new CollectingSubscriber<StandardDeviationBodyMagneticFluxDensity>();
+        processor.subscribe(subscriber);
+
+        // magnetic flux density is aligned with specific force, hence it keeps its orientation
+        // respect body during static intervals
+        final var random = new Random(SEED);
+        try (final var source = new SubmissionPublisher<BodyKinematicsAndMagneticFluxDensity>(
+                ForkJoinPool.commonPool(), BUFFER_CAPACITY)) {
+            source.subscribe(processor);
+            for (final var sample : samples) {
+                final var kinematics = sample.getKinematics();
+                final var factor = MAGNETIC_FLUX_DENSITY_NORM / kinematics.getSpecificForceNorm();
+                final var b = new BodyMagneticFluxDensity(
+                        factor * kinematics.getFx() + MAGNETIC_FLUX_DENSITY_STD * random.nextGaussian(),
+                        factor * kinematics.getFy() + MAGNETIC_FLUX_DENSITY_STD * random.nextGaussian(),
+                        factor * kinematics.getFz() + MAGNETIC_FLUX_DENSITY_STD * random.nextGaussian());
+                source.submit(new BodyKinematicsAndMagneticFluxDensity(kinematics, b));
+            }
+        }
+
+        assertTrue(subscriber.await());
+        assertTrue(subscriber.isCompleted());
+        assertEquals(samples.size(), processor.getNumberOfProcessedItems());
+
+        // a measurement is generated at the end of each static interval following a
+        // dynamic interval
+        final var measurements = subscriber.getItems();
+        assertEquals(TriadStaticIntervalDetectorProcessorTest.NUM_INTERVALS, measurements.size());
+        assertEquals(measurements.size(), processor.getNumberOfPublishedItems());
+        for (final var measurement : measurements) {
+            final var b = measurement.getMagneticFluxDensity();
+            assertEquals(MAGNETIC_FLUX_DENSITY_NORM, b.getNorm(), ABSOLUTE_ERROR);
+            assertTrue(measurement.getMagneticFluxDensityStandardDeviation() > 0.0);
+        }
+    }
+}
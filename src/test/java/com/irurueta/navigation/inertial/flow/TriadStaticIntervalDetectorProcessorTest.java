@@ -0,0 +1,198 @@
+/*
+ * Copyright (C) 2026 Alberto Irurueta Carro (alberto@irurueta.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.irurueta.navigation.inertial.flow;
+
+import com.irurueta.navigation.LockedException;
+import com.irurueta.navigation.inertial.BodyKinematics;
+import com.irurueta.navigation.inertial.calibration.AccelerationTriad;
+import com.irurueta.navigation.inertial.calibration.TimedBodyKinematics;
+import com.irurueta.navigation.inertial.calibration.intervals.AccelerationTriadStaticIntervalDetector;
+import com.irurueta.navigation.inertial.calibration.intervals.TriadStaticIntervalDetector;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.SubmissionPublisher;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TriadStaticIntervalDetectorProcessorTest {
+
+    static final double TIME_INTERVAL_SECONDS = 0.02;
+
+    static final int NUM_INTERVALS = 4;
+
+    private static final double GRAVITY = 9.81;
+
+    private static final double ACCELERATION_STD = 1e-3;
+
+    private static final double ANGULAR_RATE_STD = 1e-4;
+
+    private static final double MAX_DYNAMIC_ACCELERATION = 20.0;
+
+    private static final double MAX_DYNAMIC_ANGULAR_RATE = 1.0;
+
+    private static final int BUFFER_CAPACITY = 16;
+
+    private static final long SEED = 12345L;
+
+    @Test
+    void testConstructor() {
+        final var detector = new AccelerationTriadStaticIntervalDetector();
+        var processor = new TriadStaticIntervalDetectorProcessor<>(detector);
+
+        assertSame(detector, processor.getDetector());
+        assertEquals(BaseFlowProcessor.DEFAULT_BUFFER_CAPACITY, processor.getBufferCapacity());
+
+        processor = new TriadStaticIntervalDetectorProcessor<>(detector, ForkJoinPool.commonPool(),
+                BUFFER_CAPACITY);
+
+        assertSame(detector, processor.getDetector());
+        assertEquals(BUFFER_CAPACITY, processor.getBufferCapacity());
+
+        // Force NullPointerException
+        assertThrows(NullPointerException.class, () -> new TriadStaticIntervalDetectorProcessor<>(null));
+    }
+
+    @Test
+    void testProcess() throws InterruptedException, LockedException {
+        final var samples = generateKinematics(new Random(SEED));
+
+        // detect status changes sequentially
+        final var expectedDetector = new AccelerationTriadStaticIntervalDetector();
+        final var expectedStatuses = new ArrayList<TriadStaticIntervalDetector.Status>();
+        final var expectedSamples = new ArrayList<Integer>();
+        var previousStatus = expectedDetector.getStatus();
+        for (final var sample : samples) {
+            expectedDetector.process(sample.getKinematics().getSpecificForceTriad());
+            final var status = expectedDetector.getStatus();
+            if (status != previousStatus && status != TriadStaticIntervalDetector.Status.INITIALIZING) {
+                expectedStatuses.add(status);
+                expectedSamples.add(expectedDetector.getProcessedSamples());
+            }
+            previousStatus = status;
+        }
+
+        final var processor = new TriadStaticIntervalDetectorProcessor<AccelerationTriad>(
+                new AccelerationTriadStaticIntervalDetector(), ForkJoinPool.commonPool(), BUFFER_CAPACITY);
+        final var subscriber = new CollectingSubscriber<TriadStaticIntervalEvent>();
+        processor.subscribe(subscriber);
+
+        try (final var source = new SubmissionPublisher<AccelerationTriad>(ForkJoinPool.commonPool(),
+                BUFFER_CAPACITY)) {
+            source.subscribe(processor);
+            for (final var sample : samples) {
+                source.submit(sample.getKinematics().getSpecificForceTriad());
+            }
+        }
+
+        assertTrue(subscriber.await());
+        assertTrue(subscriber.isCompleted());
+        assertEquals(samples.size(), processor.getNumberOfProcessedItems());
+
+        final var events = subscriber.getItems();
+        assertEquals(expectedStatuses.size(), events.size());
+        assertEquals(TriadStaticIntervalDetector.Status.INITIALIZATION_COMPLETED, events.get(0).getStatus());
+        var staticIntervals = 0;
+        var dynamicIntervals = 0;
+        for (var i = 0; i < events.size(); i++) {
+            final var event = events.get(i);
+            assertEquals(expectedStatuses.get(i), event.getStatus());
+            assertEquals(expectedSamples.get(i), event.getProcessedSamples());
+            assertTrue(event.getBaseNoiseLevel() > 0.0);
+            assertTrue(event.getThreshold() > event.getBaseNoiseLevel());
+            if (event.getStatus() == TriadStaticIntervalDetector.Status.STATIC_INTERVAL) {
+                staticIntervals++;
+            } else if (event.getStatus() == TriadStaticIntervalDetector.Status.DYNAMIC_INTERVAL) {
+                dynamicIntervals++;
+                assertTrue(event.getInstantaneousStdX() > event.getThreshold()
+                        || event.getInstantaneousStdY() > event.getThreshold()
+                        || event.getInstantaneousStdZ() > event.getThreshold());
+            }
+        }
+        assertEquals(NUM_INTERVALS, staticIntervals);
+        assertEquals(NUM_INTERVALS + 1, dynamicIntervals);
+
+        final var last = events.get(events.size() - 1);
+        assertEquals(TriadStaticIntervalDetector.Status.DYNAMIC_INTERVAL, last.getStatus());
+        assertEquals(expectedDetector.getAccumulatedAvgX(), last.getAccumulatedAvgX(), 0.0);
+        assertEquals(expectedDetector.getAccumulatedAvgY(), last.getAccumulatedAvgY(), 0.0);
+        assertEquals(expectedDetector.getAccumulatedAvgZ(), last.getAccumulatedAvgZ(), 0.0);
+        assertEquals(expectedDetector.getAccumulatedStdX(), last.getAccumulatedStdX(), 0.0);
+        assertEquals(expectedDetector.getAccumulatedStdY(), last.getAccumulatedStdY(), 0.0);
+        assertEquals(expectedDetector.getAccumulatedStdZ(), last.getAccumulatedStdZ(), 0.0);
+        assertTrue(Double.isFinite(last.getInstantaneousAvgX()));
+        assertTrue(Double.isFinite(last.getInstantaneousAvgY()));
+        assertTrue(Double.isFinite(last.getInstantaneousAvgZ()));
+    }
+
+    /**
+     * Generates an initial static interval followed by alternating dynamic and static
+     * intervals, and ending with a dynamic interval. Each static interval has a different
+     * orientation.
+     *
+     * @param random random number generator.
+     * @return generated samples.
+     */
+    static List<TimedBodyKinematics> generateKinematics(final Random random) {
+        final var windowSize = TriadStaticIntervalDetector.DEFAULT_WINDOW_SIZE;
+        final var result = new ArrayList<TimedBodyKinematics>();
+        addStaticSamples(TriadStaticIntervalDetector.DEFAULT_INITIAL_STATIC_SAMPLES, random, result);
+        for (var i = 0; i < NUM_INTERVALS; i++) {
+            addDynamicSamples(2 * windowSize, random, result);
+            addStaticSamples(3 * windowSize, random, result);
+        }
+        addDynamicSamples(2 * windowSize, random, result);
+        return result;
+    }
+
+    private static void addStaticSamples(
+            final int numSamples, final Random random, final List<TimedBodyKinematics> result) {
+        // random orientation of gravity respect body
+        final var theta = Math.PI * random.nextDouble();
+        final var phi = 2.0 * Math.PI * random.nextDouble();
+        final var fx = GRAVITY * Math.sin(theta) * Math.cos(phi);
+        final var fy = GRAVITY * Math.sin(theta) * Math.sin(phi);
+        final var fz = GRAVITY * Math.cos(theta);
+
+        for (var i = 0; i < numSamples; i++) {
+            final var kinematics = new BodyKinematics(
+                    fx + ACCELERATION_STD * random.nextGaussian(),
+                    fy + ACCELERATION_STD * random.nextGaussian(),
+                    fz + ACCELERATION_STD * random.nextGaussian(),
+                    ANGULAR_RATE_STD * random.nextGaussian(),
+                    ANGULAR_RATE_STD * random.nextGaussian(),
+                    ANGULAR_RATE_STD * random.nextGaussian());
+            result.add(new TimedBodyKinematics(kinematics, result.size() * TIME_INTERVAL_SECONDS));
+        }
+    }
+
+    private static void addDynamicSamples(
+            final int numSamples, final Random random, final List<TimedBodyKinematics> result) {
+        for (var i = 0; i < numSamples; i++) {
+            final var kinematics = new BodyKinematics(
+                    MAX_DYNAMIC_ACCELERATION * (2.0 * random.nextDouble() - 1.0),
+                    MAX_DYNAMIC_ACCELERATION * (2.0 * random.nextDouble() - 1.0),
+                    MAX_DYNAMIC_ACCELERATION * (2.0 * random.nextDouble() - 1.0),
+                    MAX_DYNAMIC_ANGULAR_RATE * (2.0 * random.nextDouble() - 1.0),
+                    MAX_DYNAMIC_ANGULAR_RATE * (2.0 * random.nextDouble() - 1.0),
+                    MAX_DYNAMIC_ANGULAR_RATE * (2.0 * random.nextDouble() - 1.0));
+            result.add(new TimedBodyKinematics(kinematics, result.size() * TIME_INTERVAL_SECONDS));
+        }
+    }
+}
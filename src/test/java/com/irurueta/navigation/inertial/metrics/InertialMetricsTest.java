@@ -0,0 +1,347 @@
+/*
+ * Copyright (C) 2026 Alberto Irurueta Carro (alberto@irurueta.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.irurueta.navigation.inertial.metrics;
+
+import com.irurueta.algebra.AlgebraException;
+import com.irurueta.algebra.Matrix;
+import com.irurueta.navigation.inertial.calibration.intervals.TriadStaticIntervalDetector;
+import com.irurueta.numerical.NotReadyException;
+import com.irurueta.numerical.fitting.FittingException;
+import com.irurueta.numerical.fitting.LevenbergMarquardtMultiDimensionFitter;
+import com.irurueta.numerical.fitting.LevenbergMarquardtMultiDimensionFunctionEvaluator;
+import com.irurueta.numerical.fitting.LevenbergMarquardtMultiVariateFitter;
+import com.irurueta.numerical.fitting.LevenbergMarquardtMultiVariateFunctionEvaluator;
+import com.irurueta.numerical.robust.RANSACRobustEstimator;
+import com.irurueta.numerical.robust.RANSACRobustEstimatorListener;
+import com.irurueta.numerical.robust.RobustEstimator;
+import com.irurueta.numerical.robust.RobustEstimatorException;
+import com.irurueta.numerical.robust.RobustEstimatorMethod;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class InertialMetricsTest {
+
+    private static final int POINTS = 50;
+
+    private static final int SAMPLES = 100;
+
+    private static final int OUTLIERS = 20;
+
+    private static final double ABSOLUTE_ERROR = 1e-9;
+
+    @AfterEach
+    void tearDown() {
+        InertialMetrics.setSink(null);
+    }
+
+    @Test
+    void testGetSetSink() {
+        // check default value
+        assertSame(MetricsSink.NONE, InertialMetrics.getSink());
+        assertFalse(InertialMetrics.isEnabled());
+
+        // set new value
+        final var sink = new RecordingSink();
+        InertialMetrics.setSink(sink);
+
+        // check
+        assertSame(sink, InertialMetrics.getSink());
+        assertTrue(InertialMetrics.isEnabled());
+
+        // disable
+        InertialMetrics.setSink(null);
+
+        // check
+        assertSame(MetricsSink.NONE, InertialMetrics.getSink());
+        assertFalse(InertialMetrics.isEnabled());
+    }
+
+    @Test
+    void testFitMultiDimension() throws AlgebraException, FittingException, NotReadyException {
+        final var fitter1 = createMultiDimensionFitter();
+        InertialMetrics.fit(this, fitter1);
+
+        final var sink = new RecordingSink();
+        InertialMetrics.setSink(sink);
+
+        final var fitter2 = createMultiDimensionFitter();
+        InertialMetrics.fit(this, fitter2);
+
+        // instrumentation does not change result
+        assertArrayEquals(fitter1.getA(), fitter2.getA(), 0.0);
+        assertEquals(2.0, fitter2.getA()[0], ABSOLUTE_ERROR);
+        assertEquals(-1.0, fitter2.getA()[1], ABSOLUTE_ERROR);
+
+        // all points are evaluated once initially and once per iteration
+        assertSame(this, sink.source);
+        assertTrue(sink.iterations > 0);
+        assertEquals((sink.iterations + 1) * POINTS, sink.functionEvaluations);
+    }
+
+    @Test
+    void testFitMultiVariate() throws AlgebraException, FittingException, NotReadyException {
+        final var fitter1 = createMultiVariateFitter();
+        InertialMetrics.fit(this, fitter1);
+
+        final var sink = new RecordingSink();
+        InertialMetrics.setSink(sink);
+
+        final var fitter2 = createMultiVariateFitter();
+        InertialMetrics.fit(this, fitter2);
+
+        // instrumentation does not change result
+        assertArrayEquals(fitter1.getA(), fitter2.getA(), 0.0);
+        assertEquals(2.0, fitter2.getA()[0], ABSOLUTE_ERROR);
+        assertEquals(-1.0, fitter2.getA()[1], ABSOLUTE_ERROR);
+
+        // all points are evaluated once initially and once per iteration
+        assertSame(this, sink.source);
+        assertTrue(sink.iterations > 0);
+        assertEquals((sink.iterations + 1) * POINTS, sink.functionEvaluations);
+    }
+
+    @Test
+    void testRobustEstimation() throws com.irurueta.numerical.LockedException, NotReadyException,
+            RobustEstimatorException {
+        final var estimator = createRobustEstimator();
+        final var result = estimator.estimate();
+        assertEquals(1.0, result, 0.0);
+
+        // when disabled nothing is notified
+        final var sink = new RecordingSink();
+        InertialMetrics.robustEstimation(this, estimator);
+        assertNull(sink.source);
+
+        InertialMetrics.setSink(sink);
+        InertialMetrics.robustEstimation(this, estimator);
+
+        assertSame(this, sink.source);
+        assertEquals(RobustEstimatorMethod.RANSAC, sink.method);
+        assertEquals(estimator.getNIters(), sink.iterations);
+        assertTrue(sink.iterations > 0);
+        assertEquals(SAMPLES - OUTLIERS, sink.inliers);
+        assertEquals(SAMPLES, sink.samples);
+    }
+
+    @Test
+    void testStaticIntervalTransition() {
+        final var sink = new RecordingSink();
+        InertialMetrics.staticIntervalTransition(this, TriadStaticIntervalDetector.Status.STATIC_INTERVAL,
+                TriadStaticIntervalDetector.Status.DYNAMIC_INTERVAL, 10);
+        assertNull(sink.source);
+
+        InertialMetrics.setSink(sink);
+        InertialMetrics.staticIntervalTransition(this, TriadStaticIntervalDetector.Status.STATIC_INTERVAL,
+                TriadStaticIntervalDetector.Status.DYNAMIC_INTERVAL, 10);
+
+        assertSame(this, sink.source);
+        assertEquals(TriadStaticIntervalDetector.Status.STATIC_INTERVAL, sink.previousStatus);
+        assertEquals(TriadStaticIntervalDetector.Status.DYNAMIC_INTERVAL, sink.status);
+        assertEquals(10, sink.processedSamples);
+    }
+
+    private static LevenbergMarquardtMultiDimensionFitter createMultiDimensionFitter() throws AlgebraException,
+            FittingException {
+        final var random = new Random(0L);
+        final var x = new Matrix(POINTS, 1);
+        final var y = new double[POINTS];
+        for (var i = 0; i < POINTS; i++) {
+            final var value = random.nextDouble();
+            x.setElementAtIndex(i, value);
+            y[i] = 2.0 * value - 1.0;
+        }
+
+        final var fitter = new LevenbergMarquardtMultiDimensionFitter();
+        fitter.setFunctionEvaluator(new LevenbergMarquardtMultiDimensionFunctionEvaluator() {
+            @Override
+            public int getNumberOfDimensions() {
+                return 1;
+            }
+
+            @Override
+            public double[] createInitialParametersArray() {
+                return new double[]{1.0, 0.0};
+            }
+
+            @Override
+            public double evaluate(final int i, final double[] point, final double[] params,
+                                   final double[] derivatives) {
+                derivatives[0] = point[0];
+                derivatives[1] = 1.0;
+                return params[0] * point[0] + params[1];
+            }
+        });
+        fitter.setInputData(x, y, 1.0);
+        return fitter;
+    }
+
+    private static LevenbergMarquardtMultiVariateFitter createMultiVariateFitter() throws AlgebraException,
+            FittingException {
+        final var random = new Random(0L);
+        final var x = new Matrix(POINTS, 1);
+        final var y = new Matrix(POINTS, 1);
+        for (var i = 0; i < POINTS; i++) {
+            final var value = random.nextDouble();
+            x.setElementAtIndex(i, value);
+            y.setElementAtIndex(i, 2.0 * value - 1.0);
+        }
+
+        final var fitter = new LevenbergMarquardtMultiVariateFitter();
+        fitter.setFunctionEvaluator(new LevenbergMarquardtMultiVariateFunctionEvaluator() {
+            @Override
+            public int getNumberOfDimensions() {
+                return 1;
+            }
+
+            @Override
+            public int getNumberOfVariables() {
+                return 1;
+            }
+
+            @Override
+            public double[] createInitialParametersArray() {
+                return new double[]{1.0, 0.0};
+            }
+
+            @Override
+            public void evaluate(final int i, final double[] point, final double[] result, final double[] params,
+                                 final Matrix jacobian) {
+                result[0] = params[0] * point[0] + params[1];
+                jacobian.setElementAt(0, 0, point[0]);
+                jacobian.setElementAt(0, 1, 1.0);
+            }
+        });
+        fitter.setInputData(x, y, 1.0);
+        return fitter;
+    }
+
+    private static RANSACRobustEstimator<Double> createRobustEstimator()
+            throws com.irurueta.numerical.LockedException {
+        // estimates a constant value from samples containing outliers
+        final var samples = new double[SAMPLES];
+        for (var i = 0; i < SAMPLES; i++) {
+            samples[i] = i < OUTLIERS ? 10.0 + i : 1.0;
+        }
+
+        final var estimator = new RANSACRobustEstimator<>(new RANSACRobustEstimatorListener<Double>() {
+            @Override
+            public double getThreshold() {
+                return 1e-6;
+            }
+
+            @Override
+            public int getTotalSamples() {
+                return SAMPLES;
+            }
+
+            @Override
+            public int getSubsetSize() {
+                return 1;
+            }
+
+            @Override
+            public void estimatePreliminarSolutions(final int[] samplesIndices, final List<Double> solutions) {
+                solutions.add(samples[samplesIndices[0]]);
+            }
+
+            @Override
+            public double computeResidual(final Double currentEstimation, final int i) {
+                return Math.abs(samples[i] - currentEstimation);
+            }
+
+            @Override
+            public boolean isReady() {
+                return true;
+            }
+
+            @Override
+            public void onEstimateStart(final RobustEstimator<Double> estimator) {
+                // no action needed
+            }
+
+            @Override
+            public void onEstimateEnd(final RobustEstimator<Double> estimator) {
+                // no action needed
+            }
+
+            @Override
+            public void onEstimateNextIteration(final RobustEstimator<Double> estimator, final int iteration) {
+                // no action needed
+            }
+
+            @Override
+            public void onEstimateProgressChange(final RobustEstimator<Double> estimator, final float progress) {
+                // no action needed
+            }
+        });
+        estimator.setComputeAndKeepInliersEnabled(true);
+        return estimator;
+    }
+
+    private static class RecordingSink implements MetricsSink {
+
+        private Object source;
+
+        private int iterations;
+
+        private int functionEvaluations;
+
+        private RobustEstimatorMethod method;
+
+        private int inliers;
+
+        private int samples;
+
+        private TriadStaticIntervalDetector.Status previousStatus;
+
+        private TriadStaticIntervalDetector.Status status;
+
+        private int processedSamples;
+
+        @Override
+        public void onNonLinearFit(final Object source, final int iterations, final int functionEvaluations) {
+            this.source = source;
+            this.iterations = iterations;
+            this.functionEvaluations = functionEvaluations;
+        }
+
+        @Override
+        public void onRobustEstimation(final Object source, final RobustEstimatorMethod method,
+                                       final int iterations, final int inliers, final int samples) {
+            this.source = source;
+            this.method = method;
+            this.iterations = iterations;
+            this.inliers = inliers;
+            this.samples = samples;
+        }
+
+        @Override
+        public void onStaticIntervalTransition(final Object source,
+                                               final TriadStaticIntervalDetector.Status previousStatus,
+                                               final TriadStaticIntervalDetector.Status status,
+                                               final int processedSamples) {
+            this.source = source;
+            this.previousStatus = previousStatus;
+            this.status = status;
+            this.processedSamples = processedSamples;
+        }
+    }
+}
@@ -0,0 +1,99 @@
+/*
+ * Copyright (C) 2026 Alberto Irurueta Carro (alberto@irurueta.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.irurueta.navigation.inertial.metrics;
+
+import com.irurueta.navigation.inertial.calibration.intervals.TriadStaticIntervalDetector;
+import com.irurueta.numerical.robust.RobustEstimatorMethod;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class JfrMetricsSinkTest {
+
+    private static final String PREFIX = "com.irurueta.navigation.inertial.";
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void testEventsAreRecorded() throws IOException {
+        final var sink = new JfrMetricsSink();
+
+        final List<RecordedEvent> events;
+        try (final var recording = new Recording()) {
+            for (final var name : new String[]{"InertialUpdate", "KalmanEpoch", "NonLinearFit",
+                    "RobustEstimation", "StaticIntervalTransition"}) {
+                recording.enable(PREFIX + name);
+            }
+            recording.start();
+
+            sink.onInertialUpdate(this, 100L);
+            sink.onKalmanEpoch(this, 200L, 300L, 6, 1.5, 2.5);
+            sink.onNonLinearFit(this, 4, 50);
+            sink.onRobustEstimation(this, RobustEstimatorMethod.MSAC, 7, 80, 100);
+            sink.onStaticIntervalTransition(this, TriadStaticIntervalDetector.Status.STATIC_INTERVAL,
+                    TriadStaticIntervalDetector.Status.DYNAMIC_INTERVAL, 30);
+
+            recording.stop();
+            final var file = directory.resolve("metrics.jfr");
+            recording.dump(file);
+            events = RecordingFile.readAllEvents(file);
+        }
+
+        final var byName = new HashMap<String, RecordedEvent>();
+        for (final var event : events) {
+            byName.put(event.getEventType().getName().substring(PREFIX.length()), event);
+        }
+        assertEquals(5, byName.size());
+
+        final var inertialUpdate = byName.get("InertialUpdate");
+        assertEquals(getClass().getName(), inertialUpdate.getClass("source").getName());
+        assertEquals(Duration.ofNanos(100L), inertialUpdate.getDuration("durationNanos"));
+
+        final var kalmanEpoch = byName.get("KalmanEpoch");
+        assertEquals(Duration.ofNanos(200L), kalmanEpoch.getDuration("propagationNanos"));
+        assertEquals(Duration.ofNanos(300L), kalmanEpoch.getDuration("updateNanos"));
+        assertEquals(6, kalmanEpoch.getInt("innovations"));
+        assertEquals(1.5, kalmanEpoch.getDouble("innovationNorm"), 0.0);
+        assertEquals(2.5, kalmanEpoch.getDouble("normalizedInnovationSquared"), 0.0);
+
+        final var nonLinearFit = byName.get("NonLinearFit");
+        assertEquals(4, nonLinearFit.getInt("iterations"));
+        assertEquals(50, nonLinearFit.getInt("functionEvaluations"));
+
+        final var robustEstimation = byName.get("RobustEstimation");
+        assertEquals("MSAC", robustEstimation.getString("method"));
+        assertEquals(7, robustEstimation.getInt("iterations"));
+        assertEquals(80, robustEstimation.getInt("inliers"));
+        assertEquals(100, robustEstimation.getInt("samples"));
+        assertEquals(0.8, robustEstimation.getDouble("inlierRatio"), 0.0);
+
+        final var transition = byName.get("StaticIntervalTransition");
+        assertEquals("STATIC_INTERVAL", transition.getString("previousStatus"));
+        assertEquals("DYNAMIC_INTERVAL", transition.getString("status"));
+        assertEquals(30, transition.getInt("processedSamples"));
+    }
+}
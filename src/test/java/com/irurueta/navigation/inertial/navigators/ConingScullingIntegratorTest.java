@@ -0,0 +1,466 @@
+/*
+ * Copyright (C) 2026 Alberto Irurueta Carro (alberto@irurueta.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.irurueta.navigation.inertial.navigators;
+
+import com.irurueta.geometry.InhomogeneousPoint3D;
+import com.irurueta.geometry.InvalidRotationMatrixException;
+import com.irurueta.geometry.Quaternion;
+import com.irurueta.navigation.LockedException;
+import com.irurueta.navigation.frames.CoordinateTransformation;
+import com.irurueta.navigation.frames.FrameType;
+import com.irurueta.navigation.frames.InvalidSourceAndDestinationFrameTypeException;
+import com.irurueta.navigation.frames.NEDFrame;
+import com.irurueta.navigation.frames.converters.NEDtoECEFFrameConverter;
+import com.irurueta.navigation.inertial.BodyKinematics;
+import com.irurueta.statistics.UniformRandomizer;
+import com.irurueta.units.Time;
+import com.irurueta.units.TimeUnit;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ConingScullingIntegratorTest implements ConingScullingIntegratorListener {
+
+    private static final double TIME_INTERVAL_SECONDS = 0.0005;
+
+    private static final int DECIMATION_FACTOR = 20;
+
+    private static final double LATITUDE_DEGREES = 41.3825;
+    private static final double LONGITUDE_DEGREES = 2.176944;
+    private static final double HEIGHT = 0.0;
+
+    private static final double MIN_VELOCITY_VALUE = -2.0;
+    private static final double MAX_VELOCITY_VALUE = 2.0;
+
+    private static final double MIN_ANGLE_DEGREES = -45.0;
+    private static final double MAX_ANGLE_DEGREES = 45.0;
+
+    private static final double MIN_SPECIFIC_FORCE = -12.0;
+    private static final double MAX_SPECIFIC_FORCE = 12.0;
+
+    private static final double MIN_ANGULAR_RATE_DEGREES_PER_SECOND = -45.0;
+    private static final double MAX_ANGULAR_RATE_DEGREES_PER_SECOND = 45.0;
+
+    private static final double CONING_AMPLITUDE = Math.toRadians(1.0);
+    private static final double CONING_FREQUENCY = 2.0 * Math.PI * 10.0;
+
+    private static final double SCULLING_ACCELERATION = 1.0;
+
+    private static final int REFERENCE_STEPS = 100;
+
+    private static final double ABSOLUTE_ERROR = 1e-12;
+
+    private static final double RELATIVE_ERROR = 1e-4;
+
+    private static final double NAVIGATION_POSITION_ERROR = 1e-6;
+
+    private static final double NAVIGATION_VELOCITY_ERROR = 1e-5;
+
+    private static final double COMPENSATION_IMPROVEMENT = 10.0;
+
+    private int start;
+    private int output;
+    private int reset;
+
+    @Test
+    void testConstructor() {
+        // test empty constructor
+        var integrator = new ConingScullingIntegrator();
+
+        // check default values
+        assertEquals(ConingScullingIntegrator.DEFAULT_TIME_INTERVAL_SECONDS, integrator.getTimeInterval(), 0.0);
+        final var time1 = integrator.getTimeIntervalAsTime();
+        assertEquals(ConingScullingIntegrator.DEFAULT_TIME_INTERVAL_SECONDS, time1.getValue().doubleValue(),
+                0.0);
+        assertEquals(TimeUnit.SECOND, time1.getUnit());
+        final var time2 = new Time(1.0, TimeUnit.HOUR);
+        integrator.getTimeIntervalAsTime(time2);
+        assertEquals(time1, time2);
+        assertEquals(ConingScullingIntegrator.DEFAULT_DECIMATION_FACTOR, integrator.getDecimationFactor());
+        assertEquals(ConingScullingIntegrator.DEFAULT_TIME_INTERVAL_SECONDS
+                * ConingScullingIntegrator.DEFAULT_DECIMATION_FACTOR, integrator.getOutputTimeInterval(), 0.0);
+        final var time3 = integrator.getOutputTimeIntervalAsTime();
+        assertEquals(integrator.getOutputTimeInterval(), time3.getValue().doubleValue(), 0.0);
+        assertEquals(TimeUnit.SECOND, time3.getUnit());
+        final var time4 = new Time(1.0, TimeUnit.HOUR);
+        integrator.getOutputTimeIntervalAsTime(time4);
+        assertEquals(time3, time4);
+        assertNull(integrator.getListener());
+        assertEquals(0, integrator.getNumberOfAccumulatedSamples());
+        assertEquals(0, integrator.getNumberOfProcessedSamples());
+        assertEquals(0, integrator.getNumberOfOutputs());
+        assertFalse(integrator.isOutputAvailable());
+        assertNull(integrator.getOutputKinematics());
+        assertFalse(integrator.getOutputKinematics(new BodyKinematics()));
+        assertArrayEquals(new double[3], integrator.getOutputDeltaAngle(), 0.0);
+        assertArrayEquals(new double[3], integrator.getOutputDeltaVelocity(), 0.0);
+
+        // test constructor with listener
+        integrator = new ConingScullingIntegrator(this);
+
+        // check default values
+        assertEquals(ConingScullingIntegrator.DEFAULT_TIME_INTERVAL_SECONDS, integrator.getTimeInterval(), 0.0);
+        assertEquals(ConingScullingIntegrator.DEFAULT_DECIMATION_FACTOR, integrator.getDecimationFactor());
+        assertSame(this, integrator.getListener());
+
+        // test constructor with time interval and decimation factor
+        integrator = new ConingScullingIntegrator(TIME_INTERVAL_SECONDS, DECIMATION_FACTOR);
+
+        // check default values
+        assertEquals(TIME_INTERVAL_SECONDS, integrator.getTimeInterval(), 0.0);
+        assertEquals(DECIMATION_FACTOR, integrator.getDecimationFactor());
+        assertEquals(TIME_INTERVAL_SECONDS * DECIMATION_FACTOR, integrator.getOutputTimeInterval(), 0.0);
+        assertNull(integrator.getListener());
+
+        // Force IllegalArgumentException
+        assertThrows(IllegalArgumentException.class, () -> new ConingScullingIntegrator(-1.0,
+                DECIMATION_FACTOR));
+        assertThrows(IllegalArgumentException.class, () -> new ConingScullingIntegrator(TIME_INTERVAL_SECONDS,
+                0));
+
+        // test constructor with time interval, decimation factor and listener
+        integrator = new ConingScullingIntegrator(TIME_INTERVAL_SECONDS, DECIMATION_FACTOR, this);
+
+        // check default values
+        assertEquals(TIME_INTERVAL_SECONDS, integrator.getTimeInterval(), 0.0);
+        assertEquals(DECIMATION_FACTOR, integrator.getDecimationFactor());
+        assertSame(this, integrator.getListener());
+
+        // test constructor with time
+        final var timeInterval = new Time(0.5, TimeUnit.MILLISECOND);
+        integrator = new ConingScullingIntegrator(timeInterval, DECIMATION_FACTOR);
+
+        // check default values
+        assertEquals(TIME_INTERVAL_SECONDS, integrator.getTimeInterval(), ABSOLUTE_ERROR);
+        assertEquals(DECIMATION_FACTOR, integrator.getDecimationFactor());
+        assertNull(integrator.getListener());
+
+        // test constructor with time and listener
+        integrator = new ConingScullingIntegrator(timeInterval, DECIMATION_FACTOR, this);
+
+        // check default values
+        assertEquals(TIME_INTERVAL_SECONDS, integrator.getTimeInterval(), ABSOLUTE_ERROR);
+        assertEquals(DECIMATION_FACTOR, integrator.getDecimationFactor());
+        assertSame(this, integrator.getListener());
+    }
+
+    @Test
+    void testGetSetTimeInterval() throws LockedException {
+        final var integrator = new ConingScullingIntegrator();
+
+        // check default value
+        assertEquals(ConingScullingIntegrator.DEFAULT_TIME_INTERVAL_SECONDS, integrator.getTimeInterval(), 0.0);
+
+        // set new value
+        integrator.setTimeInterval(TIME_INTERVAL_SECONDS);
+
+        // check
+        assertEquals(TIME_INTERVAL_SECONDS, integrator.getTimeInterval(), 0.0);
+
+        // set new value
+        integrator.setTimeInterval(new Time(2.0, TimeUnit.MILLISECOND));
+
+        // check
+        assertEquals(0.002, integrator.getTimeInterval(), ABSOLUTE_ERROR);
+
+        // Force IllegalArgumentException
+        assertThrows(IllegalArgumentException.class, () -> integrator.setTimeInterval(-1.0));
+    }
+
+    @Test
+    void testGetSetDecimationFactor() throws LockedException {
+        final var integrator = new ConingScullingIntegrator();
+
+        // check default value
+        assertEquals(ConingScullingIntegrator.DEFAULT_DECIMATION_FACTOR, integrator.getDecimationFactor());
+
+        // set new value
+        integrator.setDecimationFactor(DECIMATION_FACTOR);
+
+        // check
+        assertEquals(DECIMATION_FACTOR, integrator.getDecimationFactor());
+
+        // Force IllegalArgumentException
+        assertThrows(IllegalArgumentException.class, () -> integrator.setDecimationFactor(0));
+    }
+
+    @Test
+    void testGetSetListener() throws LockedException {
+        final var integrator = new ConingScullingIntegrator();
+
+        // check default value
+        assertNull(integrator.getListener());
+
+        // set new value
+        integrator.setListener(this);
+
+        // check
+        assertSame(this, integrator.getListener());
+    }
+
+    @Test
+    void testAddKinematicsConstant() throws LockedException {
+        final var randomizer = new UniformRandomizer();
+        final var kinematics = generateKinematics(randomizer);
+
+        final var integrator = new ConingScullingIntegrator(TIME_INTERVAL_SECONDS, DECIMATION_FACTOR, this);
+
+        reset();
+        assertEquals(0, start);
+        assertEquals(0, output);
+        assertEquals(0, reset);
+
+        for (var i = 0; i < DECIMATION_FACTOR - 1; i++) {
+            assertFalse(integrator.addKinematics(kinematics));
+            assertEquals(i + 1, integrator.getNumberOfAccumulatedSamples());
+        }
+        assertFalse(integrator.isOutputAvailable());
+        assertTrue(integrator.addKinematics(kinematics));
+
+        assertEquals(1, start);
+        assertEquals(1, output);
+        assertEquals(0, integrator.getNumberOfAccumulatedSamples());
+        assertEquals(DECIMATION_FACTOR, integrator.getNumberOfProcessedSamples());
+        assertEquals(1, integrator.getNumberOfOutputs());
+        assertTrue(integrator.isOutputAvailable());
+
+        // constant angular rate has no coning, and equivalent kinematics must be
+        // equal to provided kinematics
+        final var result1 = integrator.getOutputKinematics();
+        final var result2 = new BodyKinematics();
+        assertTrue(integrator.getOutputKinematics(result2));
+        assertEquals(result1, result2);
+
+        final var outputInterval = integrator.getOutputTimeInterval();
+        final var deltaAngle = integrator.getOutputDeltaAngle();
+        assertEquals(kinematics.getAngularRateX() * outputInterval, deltaAngle[0], ABSOLUTE_ERROR);
+        assertEquals(kinematics.getAngularRateY() * outputInterval, deltaAngle[1], ABSOLUTE_ERROR);
+        assertEquals(kinematics.getAngularRateZ() * outputInterval, deltaAngle[2], ABSOLUTE_ERROR);
+        assertEquals(kinematics.getAngularRateX(), result1.getAngularRateX(), ABSOLUTE_ERROR);
+        assertEquals(kinematics.getAngularRateY(), result1.getAngularRateY(), ABSOLUTE_ERROR);
+        assertEquals(kinematics.getAngularRateZ(), result1.getAngularRateZ(), ABSOLUTE_ERROR);
+
+        final var norm = kinematics.getSpecificForceNorm();
+        assertEquals(kinematics.getFx(), result1.getFx(), RELATIVE_ERROR * norm);
+        assertEquals(kinematics.getFy(), result1.getFy(), RELATIVE_ERROR * norm);
+        assertEquals(kinematics.getFz(), result1.getFz(), RELATIVE_ERROR * norm);
+
+        final var deltaVelocity = new double[3];
+        integrator.getOutputDeltaVelocity(deltaVelocity);
+        assertArrayEquals(integrator.getOutputDeltaVelocity(), deltaVelocity, 0.0);
+        assertThrows(IllegalArgumentException.class, () -> integrator.getOutputDeltaVelocity(new double[2]));
+        assertThrows(IllegalArgumentException.class, () -> integrator.getOutputDeltaAngle(new double[4]));
+
+        // reset
+        assertTrue(integrator.reset());
+        assertFalse(integrator.reset());
+
+        assertEquals(1, reset);
+        assertEquals(0, integrator.getNumberOfProcessedSamples());
+        assertEquals(0, integrator.getNumberOfOutputs());
+        assertFalse(integrator.isOutputAvailable());
+        assertArrayEquals(new double[3], integrator.getOutputDeltaAngle(), 0.0);
+    }
+
+    @Test
+    void testNavigateWithDecimatedKinematics() throws LockedException, InvalidRotationMatrixException,
+            InvalidSourceAndDestinationFrameTypeException, InertialNavigatorException {
+        final var randomizer = new UniformRandomizer();
+        final var kinematics = generateKinematics(randomizer);
+        final var oldFrame = NEDtoECEFFrameConverter.convertNEDtoECEFAndReturnNew(generateFrame(randomizer));
+
+        final var integrator = new ConingScullingIntegrator(TIME_INTERVAL_SECONDS, DECIMATION_FACTOR);
+
+        // navigate at high rate
+        var highRateFrame = oldFrame;
+        for (var i = 0; i < DECIMATION_FACTOR; i++) {
+            highRateFrame = ECEFInertialNavigator.navigateECEFAndReturnNew(TIME_INTERVAL_SECONDS, highRateFrame,
+                    kinematics);
+            integrator.addKinematics(kinematics);
+        }
+
+        // navigate once at low rate
+        final var lowRateFrame = ECEFInertialNavigator.navigateECEFAndReturnNew(
+                integrator.getOutputTimeInterval(), oldFrame, integrator.getOutputKinematics());
+
+        assertEquals(highRateFrame.getX(), lowRateFrame.getX(), NAVIGATION_POSITION_ERROR);
+        assertEquals(highRateFrame.getY(), lowRateFrame.getY(), NAVIGATION_POSITION_ERROR);
+        assertEquals(highRateFrame.getZ(), lowRateFrame.getZ(), NAVIGATION_POSITION_ERROR);
+        assertEquals(highRateFrame.getVx(), lowRateFrame.getVx(), NAVIGATION_VELOCITY_ERROR);
+        assertEquals(highRateFrame.getVy(), lowRateFrame.getVy(), NAVIGATION_VELOCITY_ERROR);
+        assertEquals(highRateFrame.getVz(), lowRateFrame.getVz(), NAVIGATION_VELOCITY_ERROR);
+        assertTrue(highRateFrame.getCoordinateTransformation().equals(lowRateFrame.getCoordinateTransformation(),
+                NAVIGATION_VELOCITY_ERROR));
+    }
+
+    @Test
+    void testAddKinematicsConingAndSculling() throws LockedException {
+        final var integrator = new ConingScullingIntegrator(TIME_INTERVAL_SECONDS, DECIMATION_FACTOR);
+
+        // angular rate rotates within y-z plane producing coning about x-axis, while
+        // oscillating specific force along y-axis produces sculling along z-axis
+        final var h = TIME_INTERVAL_SECONDS / REFERENCE_STEPS;
+        final var q = new Quaternion();
+        final var stepQ = new Quaternion();
+        final var rotationVector = new double[3];
+        final var naiveDeltaAngle = new double[3];
+        final var naiveDeltaVelocity = new double[3];
+        final var referenceDeltaVelocity = new double[3];
+        final var point = new InhomogeneousPoint3D();
+        final var rotated = new InhomogeneousPoint3D();
+        final var tmpQ = new Quaternion();
+        for (var i = 0; i < DECIMATION_FACTOR; i++) {
+            final var t0 = i * TIME_INTERVAL_SECONDS;
+
+            final var sampleAngle = new double[3];
+            final var sampleVelocity = new double[3];
+            for (var j = 0; j < REFERENCE_STEPS; j++) {
+                final var t = t0 + (j + 0.5) * h;
+                final var wy = CONING_AMPLITUDE * CONING_FREQUENCY * Math.cos(CONING_FREQUENCY * t);
+                final var wz = CONING_AMPLITUDE * CONING_FREQUENCY * Math.sin(CONING_FREQUENCY * t);
+                final var fy = SCULLING_ACCELERATION * Math.cos(CONING_FREQUENCY * t);
+
+                // reference specific force resolved in body frame at interval start
+                point.setInhomogeneousCoordinates(0.0, fy, 0.0);
+                q.rotate(point, rotated);
+                referenceDeltaVelocity[0] += rotated.getInhomX() * h;
+                referenceDeltaVelocity[1] += rotated.getInhomY() * h;
+                referenceDeltaVelocity[2] += rotated.getInhomZ() * h;
+
+                rotationVector[0] = 0.0;
+                rotationVector[1] = wy * h;
+                rotationVector[2] = wz * h;
+                Quaternion.rotationVectorToQuaternion(rotationVector, stepQ);
+                Quaternion.product(q, stepQ, tmpQ);
+                q.fromQuaternion(tmpQ);
+
+                sampleAngle[1] += wy * h;
+                sampleAngle[2] += wz * h;
+                sampleVelocity[1] += fy * h;
+            }
+
+            for (var k = 0; k < 3; k++) {
+                naiveDeltaAngle[k] += sampleAngle[k];
+                naiveDeltaVelocity[k] += sampleVelocity[k];
+            }
+
+            integrator.addKinematics(sampleVelocity[0] / TIME_INTERVAL_SECONDS,
+                    sampleVelocity[1] / TIME_INTERVAL_SECONDS, sampleVelocity[2] / TIME_INTERVAL_SECONDS,
+                    sampleAngle[0] / TIME_INTERVAL_SECONDS, sampleAngle[1] / TIME_INTERVAL_SECONDS,
+                    sampleAngle[2] / TIME_INTERVAL_SECONDS);
+        }
+
+        assertEquals(1, integrator.getNumberOfOutputs());
+
+        final var referenceDeltaAngle = new double[3];
+        q.toRotationVector(referenceDeltaAngle);
+
+        final var deltaAngle = integrator.getOutputDeltaAngle();
+        final var deltaVelocity = integrator.getOutputDeltaVelocity();
+
+        final var compensatedAngleError = distance(referenceDeltaAngle, deltaAngle);
+        final var naiveAngleError = distance(referenceDeltaAngle, naiveDeltaAngle);
+        final var compensatedVelocityError = distance(referenceDeltaVelocity, deltaVelocity);
+        final var naiveVelocityError = distance(referenceDeltaVelocity, naiveDeltaVelocity);
+
+        assertTrue(naiveAngleError > COMPENSATION_IMPROVEMENT * compensatedAngleError);
+        assertTrue(naiveVelocityError > COMPENSATION_IMPROVEMENT * compensatedVelocityError);
+    }
+
+    @Test
+    void testDecimationFactorOne() throws LockedException {
+        final var randomizer = new UniformRandomizer();
+        final var kinematics = generateKinematics(randomizer);
+
+        final var integrator = new ConingScullingIntegrator(TIME_INTERVAL_SECONDS, 1);
+        for (var i = 0; i < 5; i++) {
+            assertTrue(integrator.addKinematics(kinematics));
+            assertEquals(i + 1, integrator.getNumberOfOutputs());
+        }
+    }
+
+    @Override
+    public void onStart(final ConingScullingIntegrator integrator) {
+        checkLocked(integrator);
+        start++;
+    }
+
+    @Override
+    public void onOutput(final ConingScullingIntegrator integrator, final BodyKinematics kinematics) {
+        assertNotNull(kinematics);
+        assertTrue(integrator.isOutputAvailable());
+        output++;
+    }
+
+    @Override
+    public void onReset(final ConingScullingIntegrator integrator) {
+        checkLocked(integrator);
+        reset++;
+    }
+
+    private void reset() {
+        start = 0;
+        output = 0;
+        reset = 0;
+    }
+
+    private static BodyKinematics generateKinematics(final UniformRandomizer randomizer) {
+        final var fx = randomizer.nextDouble(MIN_SPECIFIC_FORCE, MAX_SPECIFIC_FORCE);
+        final var fy = randomizer.nextDouble(MIN_SPECIFIC_FORCE, MAX_SPECIFIC_FORCE);
+        final var fz = randomizer.nextDouble(MIN_SPECIFIC_FORCE, MAX_SPECIFIC_FORCE);
+        final var angularRateX = Math.toRadians(randomizer.nextDouble(MIN_ANGULAR_RATE_DEGREES_PER_SECOND,
+                MAX_ANGULAR_RATE_DEGREES_PER_SECOND));
+        final var angularRateY = Math.toRadians(randomizer.nextDouble(MIN_ANGULAR_RATE_DEGREES_PER_SECOND,
+                MAX_ANGULAR_RATE_DEGREES_PER_SECOND));
+        final var angularRateZ = Math.toRadians(randomizer.nextDouble(MIN_ANGULAR_RATE_DEGREES_PER_SECOND,
+                MAX_ANGULAR_RATE_DEGREES_PER_SECOND));
+        return new BodyKinematics(fx, fy, fz, angularRateX, angularRateY, angularRateZ);
+    }
+
+    private static NEDFrame generateFrame(final UniformRandomizer randomizer) throws InvalidRotationMatrixException,
+            InvalidSourceAndDestinationFrameTypeException {
+        final var vn = randomizer.nextDouble(MIN_VELOCITY_VALUE, MAX_VELOCITY_VALUE);
+        final var ve = randomizer.nextDouble(MIN_VELOCITY_VALUE, MAX_VELOCITY_VALUE);
+        final var vd = randomizer.nextDouble(MIN_VELOCITY_VALUE, MAX_VELOCITY_VALUE);
+
+        final var roll = Math.toRadians(randomizer.nextDouble(MIN_ANGLE_DEGREES, MAX_ANGLE_DEGREES));
+        final var pitch = Math.toRadians(randomizer.nextDouble(MIN_ANGLE_DEGREES, MAX_ANGLE_DEGREES));
+        final var yaw = Math.toRadians(randomizer.nextDouble(MIN_ANGLE_DEGREES, MAX_ANGLE_DEGREES));
+        final var q = new Quaternion(roll, pitch, yaw);
+        final var c = new CoordinateTransformation(q.asInhomogeneousMatrix(), FrameType.BODY_FRAME,
+                FrameType.LOCAL_NAVIGATION_FRAME);
+
+        return new NEDFrame(Math.toRadians(LATITUDE_DEGREES), Math.toRadians(LONGITUDE_DEGREES), HEIGHT,
+                vn, ve, vd, c);
+    }
+
+    private static double distance(final double[] a, final double[] b) {
+        final var dx = a[0] - b[0];
+        final var dy = a[1] - b[1];
+        final var dz = a[2] - b[2];
+        return Math.sqrt(dx * dx + dy * dy + dz * dz);
+    }
+
+    private void checkLocked(final ConingScullingIntegrator integrator) {
+        assertThrows(LockedException.class, () -> integrator.setTimeInterval(0.0));
+        assertThrows(LockedException.class, () -> integrator.setTimeInterval(new Time(0.0, TimeUnit.SECOND)));
+        assertThrows(LockedException.class, () -> integrator.setDecimationFactor(1));
+        assertThrows(LockedException.class, () -> integrator.setListener(this));
+        assertThrows(LockedException.class, () -> integrator.addKinematics(new BodyKinematics()));
+        assertThrows(LockedException.class, () -> integrator.addKinematics(0.0, 0.0, 0.0, 0.0, 0.0, 0.0));
+        assertThrows(LockedException.class, integrator::reset);
+    }
+}
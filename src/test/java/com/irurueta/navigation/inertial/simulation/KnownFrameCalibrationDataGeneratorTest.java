@@ -0,0 +1,89 @@
+/*
+ * Copyright (C) 2026 Alberto Irurueta Carro (alberto@irurueta.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.irurueta.navigation.inertial.simulation;
+
+import com.irurueta.algebra.WrongSizeException;
+import com.irurueta.navigation.NotReadyException;
+import com.irurueta.navigation.frames.NEDPosition;
+import com.irurueta.navigation.inertial.calibration.IMUErrors;
+import com.irurueta.navigation.inertial.calibration.IMUErrorsCreator;
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class KnownFrameCalibrationDataGeneratorTest {
+
+    private static final double TIME_INTERVAL_SECONDS = 0.01;
+
+    @Test
+    void testConstructor() throws WrongSizeException {
+        final var errors = MonteCarloHarnessTest.createErrors();
+        final var position = new NEDPosition();
+
+        var generator = new KnownFrameCalibrationDataGenerator(errors, position);
+        assertSame(errors, generator.getErrors());
+        assertSame(position, generator.getPosition());
+        assertEquals(KnownFrameCalibrationDataGenerator.DEFAULT_MEASUREMENTS, generator.getMeasurements());
+        assertEquals(KnownFrameCalibrationDataGenerator.DEFAULT_TIME_INTERVAL, generator.getTimeInterval(), 0.0);
+        assertEquals(KnownFrameCalibrationDataGenerator.DEFAULT_MAX_ANGLE, generator.getMaxAngle(), 0.0);
+
+        generator = new KnownFrameCalibrationDataGenerator(errors, position, 10, TIME_INTERVAL_SECONDS, 1.0);
+        assertEquals(10, generator.getMeasurements());
+        assertEquals(TIME_INTERVAL_SECONDS, generator.getTimeInterval(), 0.0);
+        assertEquals(1.0, generator.getMaxAngle(), 0.0);
+
+        // Force NullPointerException
+        assertThrows(NullPointerException.class,
+                () -> new KnownFrameCalibrationDataGenerator((IMUErrors) null, position));
+        assertThrows(NullPointerException.class, () -> new KnownFrameCalibrationDataGenerator(errors, null));
+
+        // Force IllegalArgumentException
+        assertThrows(IllegalArgumentException.class,
+                () -> new KnownFrameCalibrationDataGenerator(errors, position, -1, TIME_INTERVAL_SECONDS, 1.0));
+        assertThrows(IllegalArgumentException.class,
+                () -> new KnownFrameCalibrationDataGenerator(errors, position, 10, 0.0, 1.0));
+        assertThrows(IllegalArgumentException.class,
+                () -> new KnownFrameCalibrationDataGenerator(errors, position, 10, TIME_INTERVAL_SECONDS, -1.0));
+
+        // Force NotReadyException
+        assertThrows(NotReadyException.class,
+                () -> new KnownFrameCalibrationDataGenerator(new IMUErrorsCreator(), position));
+    }
+
+    @Test
+    void testGenerate() throws Exception {
+        final var errors = MonteCarloHarnessTest.createErrors();
+        final var generator = new KnownFrameCalibrationDataGenerator(errors, new NEDPosition(), 10,
+                TIME_INTERVAL_SECONDS, 1.0);
+
+        final var data1 = generator.generate(0, new Random(1L));
+        final var data2 = generator.generate(0, new Random(1L));
+
+        assertSame(errors, data1.getErrors());
+        assertEquals(10, data1.getMeasurements().size());
+        final var std = errors.getAccelerometerNoiseRootPSD() / Math.sqrt(TIME_INTERVAL_SECONDS);
+        for (var i = 0; i < 10; i++) {
+            final var m1 = data1.getMeasurements().get(i);
+            final var m2 = data2.getMeasurements().get(i);
+            assertEquals(m1.getKinematics(), m2.getKinematics());
+            assertEquals(m1.getFrame(), m2.getFrame());
+            assertEquals(TIME_INTERVAL_SECONDS, m1.getTimeInterval(), 0.0);
+            assertEquals(std, m1.getSpecificForceStandardDeviation(), 0.0);
+        }
+    }
+}
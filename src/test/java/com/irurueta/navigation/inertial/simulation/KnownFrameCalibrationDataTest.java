@@ -0,0 +1,88 @@
+/*
+ * Copyright (C) 2026 Alberto Irurueta Carro (alberto@irurueta.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.irurueta.navigation.inertial.simulation;
+
+import com.irurueta.algebra.WrongSizeException;
+import com.irurueta.navigation.inertial.calibration.StandardDeviationFrameBodyKinematics;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class KnownFrameCalibrationDataTest {
+
+    @Test
+    void testConstructor() throws WrongSizeException {
+        final var errors = MonteCarloHarnessTest.createErrors();
+        final var measurements = new ArrayList<StandardDeviationFrameBodyKinematics>();
+        final var data = new KnownFrameCalibrationData(errors, measurements);
+
+        assertSame(errors, data.getErrors());
+        assertSame(measurements, data.getMeasurements());
+    }
+
+    @Test
+    void testComputeAccelerometerErrors() throws WrongSizeException {
+        final var errors = MonteCarloHarnessTest.createErrors();
+        final var data = new KnownFrameCalibrationData(errors, new ArrayList<>());
+
+        final var ba = errors.getAccelerometerBiases();
+        ba[1] += 1.0;
+        final var ma = errors.getAccelerometerScaleFactorAndCrossCouplingErrors();
+        ma.setElementAt(1, 1, ma.getElementAt(1, 1) + 2.0);
+        ma.setElementAt(2, 0, ma.getElementAt(2, 0) + 3.0);
+
+        final var result = new double[KnownFrameCalibrationData.ACCELEROMETER_PARAMETERS];
+        data.computeAccelerometerErrors(ba, ma, result);
+
+        final var expected = new double[KnownFrameCalibrationData.ACCELEROMETER_PARAMETERS];
+        expected[1] = 1.0;
+        expected[4] = 2.0;
+        expected[10] = 3.0;
+        assertArrayEquals(expected, result, 1e-12);
+
+        // Force IllegalArgumentException
+        assertThrows(IllegalArgumentException.class, () -> data.computeAccelerometerErrors(ba, ma, new double[11]));
+    }
+
+    @Test
+    void testComputeGyroscopeErrors() throws WrongSizeException {
+        final var errors = MonteCarloHarnessTest.createErrors();
+        final var data = new KnownFrameCalibrationData(errors, new ArrayList<>());
+
+        final var bg = errors.getGyroBiases();
+        bg[2] -= 1.0;
+        final var mg = errors.getGyroScaleFactorAndCrossCouplingErrors();
+        mg.setElementAt(0, 1, mg.getElementAt(0, 1) + 2.0);
+        final var gg = errors.getGyroGDependentBiases();
+        gg.setElementAt(1, 2, gg.getElementAt(1, 2) + 3.0);
+
+        final var result = new double[KnownFrameCalibrationData.GYROSCOPE_PARAMETERS];
+        data.computeGyroscopeErrors(bg, mg, gg, result);
+
+        final var expected = new double[KnownFrameCalibrationData.GYROSCOPE_PARAMETERS];
+        expected[2] = -1.0;
+        expected[6] = 2.0;
+        // element (1, 2) is stored at column order index 7
+        expected[KnownFrameCalibrationData.ACCELEROMETER_PARAMETERS + 7] = 3.0;
+        assertArrayEquals(expected, result, 1e-12);
+
+        // Force IllegalArgumentException
+        final var wrong = new double[KnownFrameCalibrationData.ACCELEROMETER_PARAMETERS];
+        assertThrows(IllegalArgumentException.class, () -> data.computeGyroscopeErrors(bg, mg, gg, wrong));
+    }
+}
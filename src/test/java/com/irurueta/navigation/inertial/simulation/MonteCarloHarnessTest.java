@@ -0,0 +1,211 @@
+/*
+ * Copyright (C) 2026 Alberto Irurueta Carro (alberto@irurueta.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.irurueta.navigation.inertial.simulation;
+
+import com.irurueta.algebra.Matrix;
+import com.irurueta.algebra.WrongSizeException;
+import com.irurueta.navigation.LockedException;
+import com.irurueta.navigation.frames.NEDPosition;
+import com.irurueta.navigation.inertial.calibration.IMUErrors;
+import com.irurueta.navigation.inertial.calibration.accelerometer.KnownFrameAccelerometerLinearLeastSquaresCalibrator;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class MonteCarloHarnessTest {
+
+    private static final double LATITUDE_DEGREES = 41.3825;
+    private static final double LONGITUDE_DEGREES = 2.176944;
+    private static final double HEIGHT = 0.0;
+
+    private static final double MICRO_G_TO_METERS_PER_SECOND_SQUARED = 9.80665E-6;
+    private static final double DEG_TO_RAD = 0.01745329252;
+
+    private static final int TRIALS = 40;
+
+    private static final int MEASUREMENTS = 30;
+
+    private static final long SEED = 98765L;
+
+    @Test
+    void testConstructor() {
+        final MonteCarloEstimatorFactory<Integer> factory = () -> (data, errors) -> errors[0] = data;
+        final MonteCarloDataGenerator<Integer> generator = (trial, random) -> trial;
+        final var harness = new MonteCarloHarness<>(factory, generator, 1);
+
+        assertSame(factory, harness.getEstimatorFactory());
+        assertSame(generator, harness.getDataGenerator());
+        assertEquals(1, harness.getNumberOfParameters());
+        assertEquals(MonteCarloHarness.DEFAULT_TRIALS, harness.getTrials());
+        assertEquals(MonteCarloHarness.DEFAULT_SEED, harness.getSeed());
+        assertEquals(MonteCarloHarness.DEFAULT_BLOCK_SIZE, harness.getBlockSize());
+        assertNull(harness.getPool());
+        assertTrue(harness.isAllocationMeasured());
+        assertFalse(harness.isRunning());
+
+        // Force NullPointerException
+        assertThrows(NullPointerException.class, () -> new MonteCarloHarness<>(null, generator, 1));
+        assertThrows(NullPointerException.class, () -> new MonteCarloHarness<>(factory, null, 1));
+
+        // Force IllegalArgumentException
+        assertThrows(IllegalArgumentException.class, () -> new MonteCarloHarness<>(factory, generator, -1));
+    }
+
+    @Test
+    void testSetters() throws LockedException {
+        final var harness = new MonteCarloHarness<Integer>(() -> (data, errors) -> errors[0] = data,
+                (trial, random) -> trial, 1);
+
+        harness.setTrials(10);
+        assertEquals(10, harness.getTrials());
+
+        harness.setSeed(5L);
+        assertEquals(5L, harness.getSeed());
+
+        harness.setBlockSize(3);
+        assertEquals(3, harness.getBlockSize());
+
+        final var pool = new ForkJoinPool(2);
+        try {
+            harness.setPool(pool);
+            assertSame(pool, harness.getPool());
+        } finally {
+            pool.shutdown();
+        }
+
+        harness.setAllocationMeasured(false);
+        assertFalse(harness.isAllocationMeasured());
+
+        // Force IllegalArgumentException
+        assertThrows(IllegalArgumentException.class, () -> harness.setTrials(-1));
+        assertThrows(IllegalArgumentException.class, () -> harness.setBlockSize(0));
+    }
+
+    @Test
+    void testRunCountsTrialsAndFailures() throws LockedException {
+        final var harness = new MonteCarloHarness<Integer>(() -> (data, errors) -> {
+            if (data % 10 == 0) {
+                throw new IllegalStateException();
+            }
+            errors[0] = data;
+        }, (trial, random) -> trial, 1);
+        harness.setTrials(35);
+        harness.setBlockSize(4);
+
+        final var result = harness.run();
+
+        assertFalse(harness.isRunning());
+        assertEquals(35, result.getTrials());
+        // trials 0, 10, 20 and 30 fail
+        assertEquals(4, result.getFailedTrials());
+        final var error = result.getParameterError(0);
+        assertEquals(31, error.getCount());
+        assertEquals(1.0, error.getMin(), 0.0);
+        assertEquals(34.0, error.getMax(), 0.0);
+        assertEquals((34 * 35 / 2 - 60) / 31.0, error.getMean(), 1e-12);
+        assertEquals(31, result.getWallTimeNanos().getCount());
+    }
+
+    @Test
+    void testRunIsReproducibleRegardlessOfThreads() throws LockedException, WrongSizeException {
+        final var generator = new KnownFrameCalibrationDataGenerator(createErrors(), createPosition(),
+                MEASUREMENTS, KnownFrameCalibrationDataGenerator.DEFAULT_TIME_INTERVAL,
+                KnownFrameCalibrationDataGenerator.DEFAULT_MAX_ANGLE);
+        final MonteCarloEstimatorFactory<KnownFrameCalibrationData> factory = () -> (data, errors) -> {
+            final var calibrator = new KnownFrameAccelerometerLinearLeastSquaresCalibrator(data.getMeasurements());
+            calibrator.calibrate();
+            data.computeAccelerometerErrors(calibrator.getEstimatedBiases(), calibrator.getEstimatedMa(), errors);
+        };
+
+        final var harness = new MonteCarloHarness<>(factory, generator,
+                KnownFrameCalibrationData.ACCELEROMETER_PARAMETERS);
+        harness.setTrials(TRIALS);
+        harness.setSeed(SEED);
+        harness.setBlockSize(3);
+
+        final var singlePool = new ForkJoinPool(1);
+        final var multiPool = new ForkJoinPool(4);
+        try {
+            harness.setPool(singlePool);
+            final var expected = harness.run();
+
+            harness.setPool(multiPool);
+            final var result = harness.run();
+
+            assertEquals(TRIALS, expected.getTrials());
+            assertEquals(0, expected.getFailedTrials());
+            assertEquals(expected.getTrials(), result.getTrials());
+            assertEquals(expected.getFailedTrials(), result.getFailedTrials());
+            for (var i = 0; i < KnownFrameCalibrationData.ACCELEROMETER_PARAMETERS; i++) {
+                final var e = expected.getParameterError(i);
+                final var r = result.getParameterError(i);
+                assertEquals(TRIALS, r.getCount());
+                assertEquals(e.getMean(), r.getMean(), 0.0);
+                assertEquals(e.getVariance(), r.getVariance(), 0.0);
+                assertEquals(e.getMin(), r.getMin(), 0.0);
+                assertEquals(e.getMax(), r.getMax(), 0.0);
+            }
+
+            // noise is small, hence estimated biases are accurate
+            for (var i = 0; i < 3; i++) {
+                assertTrue(result.getParameterError(i).getRootMeanSquare()
+                        < 1000 * MICRO_G_TO_METERS_PER_SECOND_SQUARED);
+            }
+            assertEquals(TRIALS, result.getWallTimeNanos().getCount());
+            assertTrue(result.getWallTimeNanos().getMean() > 0.0);
+
+            // a different seed yields different errors
+            harness.setSeed(SEED + 1);
+            final var other = harness.run();
+            assertNotEquals(expected.getParameterError(0).getMean(), other.getParameterError(0).getMean());
+        } finally {
+            singlePool.shutdown();
+            multiPool.shutdown();
+        }
+    }
+
+    private static NEDPosition createPosition() {
+        return new NEDPosition(Math.toRadians(LATITUDE_DEGREES), Math.toRadians(LONGITUDE_DEGREES), HEIGHT);
+    }
+
+    static IMUErrors createErrors() throws WrongSizeException {
+        final var ba = new double[]{
+                900 * MICRO_G_TO_METERS_PER_SECOND_SQUARED,
+                -1300 * MICRO_G_TO_METERS_PER_SECOND_SQUARED,
+                800 * MICRO_G_TO_METERS_PER_SECOND_SQUARED};
+        final var bg = new double[]{-9 * DEG_TO_RAD / 3600.0, 13 * DEG_TO_RAD / 3600.0, -8 * DEG_TO_RAD / 3600.0};
+        final var ma = new Matrix(3, 3);
+        ma.fromArray(new double[]{
+                500e-6, -300e-6, 200e-6,
+                -150e-6, -600e-6, 250e-6,
+                -250e-6, 100e-6, 450e-6}, false);
+        final var mg = new Matrix(3, 3);
+        mg.fromArray(new double[]{
+                400e-6, -300e-6, 250e-6,
+                0.0, -300e-6, -150e-6,
+                0.0, 0.0, -350e-6}, false);
+        final var gg = new Matrix(3, 3);
+        final var tmp = DEG_TO_RAD / (3600 * 9.80665);
+        gg.fromArray(new double[]{
+                0.9 * tmp, -1.1 * tmp, -0.6 * tmp,
+                -0.5 * tmp, 1.9 * tmp, -1.6 * tmp,
+                0.3 * tmp, 1.1 * tmp, -1.3 * tmp}, false);
+        return new IMUErrors(ba, bg, ma, mg, gg, 100 * MICRO_G_TO_METERS_PER_SECOND_SQUARED,
+                0.01 * DEG_TO_RAD / 60.0, 0.0, 0.0);
+    }
+}
@@ -0,0 +1,69 @@
+/*
+ * Copyright (C) 2026 Alberto Irurueta Carro (alberto@irurueta.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.irurueta.navigation.inertial.simulation;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class MonteCarloResultTest {
+
+    @Test
+    void testConstructor() {
+        final var result = new MonteCarloResult(2);
+
+        assertEquals(2, result.getNumberOfParameters());
+        assertEquals(0, result.getParameterError(0).getCount());
+        assertEquals(0, result.getParameterError(1).getCount());
+        assertEquals(0, result.getWallTimeNanos().getCount());
+        assertEquals(0, result.getAllocatedBytes().getCount());
+        assertEquals(0, result.getTrials());
+        assertEquals(0, result.getFailedTrials());
+
+        // Force IndexOutOfBoundsException
+        assertThrows(IndexOutOfBoundsException.class, () -> result.getParameterError(2));
+
+        // Force IllegalArgumentException
+        assertThrows(IllegalArgumentException.class, () -> new MonteCarloResult(-1));
+    }
+
+    @Test
+    void testAddAndMerge() {
+        final var result1 = new MonteCarloResult(2);
+        result1.addTrial(new double[]{1.0, -1.0}, 100L, 1000L);
+        result1.addFailedTrial();
+
+        final var result2 = new MonteCarloResult(2);
+        result2.addTrial(new double[]{3.0, -3.0}, 300L, -1L);
+
+        result1.merge(result2);
+
+        assertEquals(3, result1.getTrials());
+        assertEquals(1, result1.getFailedTrials());
+        assertEquals(2, result1.getParameterError(0).getCount());
+        assertEquals(2.0, result1.getParameterError(0).getMean(), 0.0);
+        assertEquals(-2.0, result1.getParameterError(1).getMean(), 0.0);
+        assertEquals(2, result1.getWallTimeNanos().getCount());
+        assertEquals(200.0, result1.getWallTimeNanos().getMean(), 0.0);
+        // unknown allocations are not accumulated
+        assertEquals(1, result1.getAllocatedBytes().getCount());
+        assertEquals(1000.0, result1.getAllocatedBytes().getMean(), 0.0);
+
+        // Force IllegalArgumentException
+        final var wrong = new MonteCarloResult(3);
+        assertThrows(IllegalArgumentException.class, () -> result1.merge(wrong));
+    }
+}
@@ -0,0 +1,113 @@
+/*
+ * Copyright (C) 2026 Alberto Irurueta Carro (alberto@irurueta.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.irurueta.navigation.inertial.simulation;
+
+import com.irurueta.statistics.UniformRandomizer;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class MonteCarloStatisticsTest {
+
+    private static final int SAMPLES = 1000;
+
+    private static final double ABSOLUTE_ERROR = 1e-9;
+
+    @Test
+    void testConstructor() {
+        final var statistics = new MonteCarloStatistics();
+
+        assertEquals(0, statistics.getCount());
+        assertEquals(0.0, statistics.getMean(), 0.0);
+        assertEquals(0.0, statistics.getVariance(), 0.0);
+        assertEquals(0.0, statistics.getStandardDeviation(), 0.0);
+        assertEquals(0.0, statistics.getRootMeanSquare(), 0.0);
+        assertEquals(Double.POSITIVE_INFINITY, statistics.getMin(), 0.0);
+        assertEquals(Double.NEGATIVE_INFINITY, statistics.getMax(), 0.0);
+    }
+
+    @Test
+    void testAdd() {
+        final var randomizer = new UniformRandomizer();
+        final var values = new double[SAMPLES];
+        final var statistics = new MonteCarloStatistics();
+        var sum = 0.0;
+        var sqrSum = 0.0;
+        var min = Double.MAX_VALUE;
+        var max = -Double.MAX_VALUE;
+        for (var i = 0; i < SAMPLES; i++) {
+            values[i] = randomizer.nextDouble(-10.0, 10.0);
+            statistics.add(values[i]);
+            sum += values[i];
+            sqrSum += values[i] * values[i];
+            min = Math.min(min, values[i]);
+            max = Math.max(max, values[i]);
+        }
+
+        final var mean = sum / SAMPLES;
+        var variance = 0.0;
+        for (final var value : values) {
+            variance += (value - mean) * (value - mean);
+        }
+        variance /= SAMPLES - 1;
+
+        assertEquals(SAMPLES, statistics.getCount());
+        assertEquals(mean, statistics.getMean(), ABSOLUTE_ERROR);
+        assertEquals(variance, statistics.getVariance(), ABSOLUTE_ERROR);
+        assertEquals(Math.sqrt(variance), statistics.getStandardDeviation(), ABSOLUTE_ERROR);
+        assertEquals(Math.sqrt(sqrSum / SAMPLES), statistics.getRootMeanSquare(), ABSOLUTE_ERROR);
+        assertEquals(min, statistics.getMin(), 0.0);
+        assertEquals(max, statistics.getMax(), 0.0);
+
+        final var copy = new MonteCarloStatistics(statistics);
+        assertEquals(statistics.getCount(), copy.getCount());
+        assertEquals(statistics.getMean(), copy.getMean(), 0.0);
+        assertEquals(statistics.getVariance(), copy.getVariance(), 0.0);
+        assertEquals(statistics.getMin(), copy.getMin(), 0.0);
+        assertEquals(statistics.getMax(), copy.getMax(), 0.0);
+    }
+
+    @Test
+    void testMerge() {
+        final var randomizer = new UniformRandomizer();
+        final var all = new MonteCarloStatistics();
+        final var first = new MonteCarloStatistics();
+        final var second = new MonteCarloStatistics();
+        for (var i = 0; i < SAMPLES; i++) {
+            final var value = randomizer.nextDouble(-10.0, 10.0);
+            all.add(value);
+            if (i < SAMPLES / 3) {
+                first.add(value);
+            } else {
+                second.add(value);
+            }
+        }
+
+        final var merged = new MonteCarloStatistics();
+        merged.merge(new MonteCarloStatistics());
+        assertEquals(0, merged.getCount());
+        merged.merge(first);
+        merged.merge(second);
+        merged.merge(new MonteCarloStatistics());
+
+        assertEquals(all.getCount(), merged.getCount());
+        assertEquals(all.getMean(), merged.getMean(), ABSOLUTE_ERROR);
+        assertEquals(all.getVariance(), merged.getVariance(), ABSOLUTE_ERROR);
+        assertEquals(all.getRootMeanSquare(), merged.getRootMeanSquare(), ABSOLUTE_ERROR);
+        assertEquals(all.getMin(), merged.getMin(), 0.0);
+        assertEquals(all.getMax(), merged.getMax(), 0.0);
+    }
+}
@@ -0,0 +1,85 @@
+/*
+ * Copyright (C) 2026 Alberto Irurueta Carro (alberto@irurueta.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.irurueta.navigation.inertial.simulation;
+
+import com.irurueta.statistics.UniformRandomizer;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class MotionSegmentTest {
+
+    private static final double MIN_VALUE = -1.0;
+    private static final double MAX_VALUE = 1.0;
+
+    @Test
+    void testConstructor() {
+        final var randomizer = new UniformRandomizer();
+        final var duration = randomizer.nextDouble(0.0, MAX_VALUE);
+        final var an = randomizer.nextDouble(MIN_VALUE, MAX_VALUE);
+        final var ae = randomizer.nextDouble(MIN_VALUE, MAX_VALUE);
+        final var ad = randomizer.nextDouble(MIN_VALUE, MAX_VALUE);
+        final var rollRate = randomizer.nextDouble(MIN_VALUE, MAX_VALUE);
+        final var pitchRate = randomizer.nextDouble(MIN_VALUE, MAX_VALUE);
+        final var yawRate = randomizer.nextDouble(MIN_VALUE, MAX_VALUE);
+
+        final var segment = new MotionSegment(duration, an, ae, ad, rollRate, pitchRate, yawRate);
+
+        assertEquals(duration, segment.getDuration(), 0.0);
+        assertEquals(an, segment.getAccelerationNorth(), 0.0);
+        assertEquals(ae, segment.getAccelerationEast(), 0.0);
+        assertEquals(ad, segment.getAccelerationDown(), 0.0);
+        assertEquals(rollRate, segment.getRollRate(), 0.0);
+        assertEquals(pitchRate, segment.getPitchRate(), 0.0);
+        assertEquals(yawRate, segment.getYawRate(), 0.0);
+
+        // Force IllegalArgumentException
+        assertThrows(IllegalArgumentException.class,
+                () -> new MotionSegment(-1.0, an, ae, ad, rollRate, pitchRate, yawRate));
+    }
+
+    @Test
+    void testCreateConstantVelocity() {
+        final var segment = MotionSegment.createConstantVelocity(2.0);
+
+        assertEquals(2.0, segment.getDuration(), 0.0);
+        assertEquals(0.0, segment.getAccelerationNorth(), 0.0);
+        assertEquals(0.0, segment.getAccelerationEast(), 0.0);
+        assertEquals(0.0, segment.getAccelerationDown(), 0.0);
+        assertEquals(0.0, segment.getRollRate(), 0.0);
+        assertEquals(0.0, segment.getPitchRate(), 0.0);
+        assertEquals(0.0, segment.getYawRate(), 0.0);
+
+        // Force IllegalArgumentException
+        assertThrows(IllegalArgumentException.class, () -> MotionSegment.createConstantVelocity(-1.0));
+    }
+
+    @Test
+    void testCreateRotation() {
+        final var segment = MotionSegment.createRotation(3.0, 0.1, 0.2, 0.3);
+
+        assertEquals(3.0, segment.getDuration(), 0.0);
+        assertEquals(0.0, segment.getAccelerationNorth(), 0.0);
+        assertEquals(0.0, segment.getAccelerationEast(), 0.0);
+        assertEquals(0.0, segment.getAccelerationDown(), 0.0);
+        assertEquals(0.1, segment.getRollRate(), 0.0);
+        assertEquals(0.2, segment.getPitchRate(), 0.0);
+        assertEquals(0.3, segment.getYawRate(), 0.0);
+
+        // Force IllegalArgumentException
+        assertThrows(IllegalArgumentException.class, () -> MotionSegment.createRotation(-1.0, 0.1, 0.2, 0.3));
+    }
+}
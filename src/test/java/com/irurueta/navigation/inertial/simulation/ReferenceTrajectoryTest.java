@@ -0,0 +1,183 @@
+/*
+ * Copyright (C) 2026 Alberto Irurueta Carro (alberto@irurueta.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.irurueta.navigation.inertial.simulation;
+
+import com.irurueta.navigation.frames.NEDPosition;
+import com.irurueta.navigation.frames.NEDVelocity;
+import com.irurueta.navigation.frames.converters.ECEFtoNEDPositionVelocityConverter;
+import com.irurueta.navigation.inertial.wmm.WMMEarthMagneticFluxDensityEstimator;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ReferenceTrajectoryTest {
+
+    private static final double TIME_INTERVAL_SECONDS = 0.01;
+
+    private static final double LATITUDE_DEGREES = 41.3825;
+    private static final double LONGITUDE_DEGREES = 2.176944;
+    private static final double HEIGHT = 100.0;
+
+    private static final double YEAR = 2025.5;
+
+    private static final double GRAVITY_NORM = 9.8;
+
+    private static final double GRAVITY_ERROR = 0.05;
+
+    private static final double ANGULAR_RATE_ERROR = 1e-6;
+
+    private static final double POSITION_ERROR = 1e-2;
+
+    private static final double MAGNETIC_FLUX_DENSITY_ERROR = 1e-9;
+
+    @Test
+    void testCreateStatic() {
+        final var trajectory = createTrajectory(List.of(MotionSegment.createConstantVelocity(1.0)));
+
+        assertEquals(TIME_INTERVAL_SECONDS, trajectory.getTimeInterval(), 0.0);
+        assertEquals(101, trajectory.getEpochs());
+        assertEquals(101, trajectory.getX().length);
+        assertEquals(101 * ReferenceTrajectory.ATTITUDE_LENGTH, trajectory.getCbe().length);
+        assertFalse(trajectory.hasMagneticFluxDensity());
+        assertNull(trajectory.getBx());
+        assertNull(trajectory.getBy());
+        assertNull(trajectory.getBz());
+
+        // a static body senses gravity and Earth rotation
+        for (var k = 0; k < trajectory.getEpochs(); k++) {
+            assertEquals(trajectory.getX()[0], trajectory.getX()[k], 0.0);
+            assertEquals(0.0, trajectory.getVx()[k], 0.0);
+
+            final var fx = trajectory.getFx()[k];
+            final var fy = trajectory.getFy()[k];
+            final var fz = trajectory.getFz()[k];
+            assertEquals(GRAVITY_NORM, Math.sqrt(fx * fx + fy * fy + fz * fz), GRAVITY_ERROR);
+            // body is levelled, hence specific force points upwards
+            assertEquals(-GRAVITY_NORM, fz, GRAVITY_ERROR);
+
+            final var wx = trajectory.getAngularRateX()[k];
+            final var wy = trajectory.getAngularRateY()[k];
+            final var wz = trajectory.getAngularRateZ()[k];
+            assertEquals(7.292115e-5, Math.sqrt(wx * wx + wy * wy + wz * wz), ANGULAR_RATE_ERROR);
+        }
+    }
+
+    @Test
+    void testCreateMoving() {
+        final var trajectory = createTrajectory(List.of(
+                new MotionSegment(2.0, 1.0, 0.0, 0.0, 0.0, 0.0, 0.0),
+                MotionSegment.createRotation(1.0, 0.0, 0.0, 0.5),
+                MotionSegment.createConstantVelocity(0.0)));
+
+        assertEquals(301, trajectory.getEpochs());
+
+        final var position = new NEDPosition();
+        final var velocity = new NEDVelocity();
+        final var k = 200;
+        ECEFtoNEDPositionVelocityConverter.convertECEFtoNED(trajectory.getX()[k], trajectory.getY()[k],
+                trajectory.getZ()[k], trajectory.getVx()[k], trajectory.getVy()[k], trajectory.getVz()[k],
+                position, velocity);
+
+        // after 2 seconds accelerating northwards at 1 m/s^2
+        assertEquals(2.0, velocity.getVn(), 1e-6);
+        assertEquals(0.0, velocity.getVe(), 1e-6);
+        assertEquals(0.0, velocity.getVd(), 1e-6);
+        assertEquals(HEIGHT, position.getHeight(), POSITION_ERROR);
+
+        // body senses forward acceleration while accelerating
+        assertEquals(1.0, trajectory.getFx()[100], GRAVITY_ERROR);
+
+        // body senses yaw rate while rotating
+        assertEquals(0.5, trajectory.getAngularRateZ()[250], 1e-3);
+    }
+
+    @Test
+    void testConstructor() {
+        final var source = createTrajectory(List.of(MotionSegment.createRotation(0.5, 0.1, 0.2, 0.3)));
+        final var trajectory = new ReferenceTrajectory(TIME_INTERVAL_SECONDS, source.getX(), source.getY(),
+                source.getZ(), source.getVx(), source.getVy(), source.getVz(), source.getCbe());
+
+        assertEquals(source.getEpochs(), trajectory.getEpochs());
+        assertSame(source.getX(), trajectory.getX());
+        assertSame(source.getCbe(), trajectory.getCbe());
+        assertArrayEquals(source.getFx(), trajectory.getFx(), 0.0);
+        assertArrayEquals(source.getAngularRateZ(), trajectory.getAngularRateZ(), 0.0);
+
+        // first epoch takes kinematics of second one
+        assertEquals(trajectory.getFx()[1], trajectory.getFx()[0], 0.0);
+        assertEquals(trajectory.getAngularRateY()[1], trajectory.getAngularRateY()[0], 0.0);
+
+        // Force IllegalArgumentException
+        final var x = source.getX();
+        final var cbe = source.getCbe();
+        assertThrows(IllegalArgumentException.class,
+                () -> new ReferenceTrajectory(0.0, x, x, x, x, x, x, cbe));
+        assertThrows(IllegalArgumentException.class,
+                () -> new ReferenceTrajectory(TIME_INTERVAL_SECONDS, new double[1], new double[1], new double[1],
+                        new double[1], new double[1], new double[1], new double[9]));
+        assertThrows(IllegalArgumentException.class,
+                () -> new ReferenceTrajectory(TIME_INTERVAL_SECONDS, x, new double[1], x, x, x, x, cbe));
+        assertThrows(IllegalArgumentException.class,
+                () -> new ReferenceTrajectory(TIME_INTERVAL_SECONDS, x, x, x, x, x, x, new double[1]));
+        final var segments = List.of(MotionSegment.createConstantVelocity(0.0));
+        final var position = new NEDPosition();
+        final var velocity = new NEDVelocity();
+        assertThrows(IllegalArgumentException.class,
+                () -> ReferenceTrajectory.create(-1.0, position, velocity, 0.0, 0.0, 0.0, segments));
+        assertThrows(IllegalArgumentException.class,
+                () -> ReferenceTrajectory.create(TIME_INTERVAL_SECONDS, position, velocity, 0.0, 0.0, 0.0,
+                        segments));
+    }
+
+    @Test
+    void testComputeMagneticFluxDensity() throws IOException {
+        final var trajectory = createTrajectory(List.of(MotionSegment.createRotation(1.0, 0.1, 0.2, 0.3)));
+        final var estimator = new WMMEarthMagneticFluxDensityEstimator();
+
+        trajectory.computeMagneticFluxDensity(estimator, YEAR, 1);
+        assertTrue(trajectory.hasMagneticFluxDensity());
+        final var bx = trajectory.getBx().clone();
+        final var by = trajectory.getBy().clone();
+        final var bz = trajectory.getBz().clone();
+
+        trajectory.computeMagneticFluxDensity(estimator, YEAR);
+        assertArrayEquals(bx, trajectory.getBx(), MAGNETIC_FLUX_DENSITY_ERROR);
+        assertArrayEquals(by, trajectory.getBy(), MAGNETIC_FLUX_DENSITY_ERROR);
+        assertArrayEquals(bz, trajectory.getBz(), MAGNETIC_FLUX_DENSITY_ERROR);
+
+        // norm of magnetic flux density does not depend on attitude
+        final var norm0 = Math.sqrt(bx[0] * bx[0] + by[0] * by[0] + bz[0] * bz[0]);
+        assertTrue(norm0 > 0.0);
+        for (var k = 0; k < trajectory.getEpochs(); k++) {
+            assertEquals(norm0, Math.sqrt(bx[k] * bx[k] + by[k] * by[k] + bz[k] * bz[k]),
+                    MAGNETIC_FLUX_DENSITY_ERROR);
+        }
+
+        // Force IllegalArgumentException
+        assertThrows(IllegalArgumentException.class,
+                () -> trajectory.computeMagneticFluxDensity(estimator, YEAR, 0));
+    }
+
+    private static ReferenceTrajectory createTrajectory(final List<MotionSegment> segments) {
+        final var position = new NEDPosition(Math.toRadians(LATITUDE_DEGREES), Math.toRadians(LONGITUDE_DEGREES),
+                HEIGHT);
+        return ReferenceTrajectory.create(TIME_INTERVAL_SECONDS, position, new NEDVelocity(), 0.0, 0.0, 0.0,
+                segments);
+    }
+}
@@ -0,0 +1,71 @@
+/*
+ * Copyright (C) 2026 Alberto Irurueta Carro (alberto@irurueta.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.irurueta.navigation.inertial.simulation;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SimulatedRunTest {
+
+    @Test
+    void testConstructor() {
+        final var run = new SimulatedRun(10, 3);
+
+        assertEquals(10, run.getEpochs());
+        assertEquals(3, run.getGnssCapacity());
+        assertEquals(0, run.getRun());
+        assertEquals(0L, run.getSeed());
+        assertFalse(run.isMagneticFluxDensityAvailable());
+        assertEquals(0, run.getGnssCount());
+
+        assertEquals(10, run.getFx().length);
+        assertEquals(10, run.getFy().length);
+        assertEquals(10, run.getFz().length);
+        assertEquals(10, run.getAngularRateX().length);
+        assertEquals(10, run.getAngularRateY().length);
+        assertEquals(10, run.getAngularRateZ().length);
+        assertEquals(10, run.getBx().length);
+        assertEquals(10, run.getBy().length);
+        assertEquals(10, run.getBz().length);
+
+        assertEquals(3, run.getGnssEpochs().length);
+        assertEquals(3, run.getGnssX().length);
+        assertEquals(3, run.getGnssY().length);
+        assertEquals(3, run.getGnssZ().length);
+        assertEquals(3, run.getGnssVx().length);
+        assertEquals(3, run.getGnssVy().length);
+        assertEquals(3, run.getGnssVz().length);
+
+        // Force IllegalArgumentException
+        assertThrows(IllegalArgumentException.class, () -> new SimulatedRun(-1, 3));
+        assertThrows(IllegalArgumentException.class, () -> new SimulatedRun(10, -1));
+    }
+
+    @Test
+    void testSetters() {
+        final var run = new SimulatedRun(10, 3);
+
+        run.setRun(5, 123L);
+        run.setMagneticFluxDensityAvailable(true);
+        run.setGnssCount(2);
+
+        assertEquals(5, run.getRun());
+        assertEquals(123L, run.getSeed());
+        assertTrue(run.isMagneticFluxDensityAvailable());
+        assertEquals(2, run.getGnssCount());
+    }
+}
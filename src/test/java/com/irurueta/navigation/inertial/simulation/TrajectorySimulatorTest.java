@@ -0,0 +1,324 @@
+/*
+ * Copyright (C) 2026 Alberto Irurueta Carro (alberto@irurueta.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.irurueta.navigation.inertial.simulation;
+
+import com.irurueta.algebra.Matrix;
+import com.irurueta.algebra.WrongSizeException;
+import com.irurueta.navigation.frames.NEDPosition;
+import com.irurueta.navigation.frames.NEDVelocity;
+import com.irurueta.navigation.inertial.BodyKinematics;
+import com.irurueta.navigation.inertial.BodyMagneticFluxDensity;
+import com.irurueta.navigation.inertial.calibration.BodyKinematicsGenerator;
+import com.irurueta.navigation.inertial.calibration.BodyMagneticFluxDensityGenerator;
+import com.irurueta.navigation.inertial.calibration.IMUErrors;
+import com.irurueta.navigation.inertial.wmm.WMMEarthMagneticFluxDensityEstimator;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TrajectorySimulatorTest {
+
+    private static final double TIME_INTERVAL_SECONDS = 0.01;
+
+    private static final double LATITUDE_DEGREES = 41.3825;
+    private static final double LONGITUDE_DEGREES = 2.176944;
+    private static final double HEIGHT = 0.0;
+
+    private static final double YEAR = 2025.5;
+
+    private static final double MICRO_G_TO_METERS_PER_SECOND_SQUARED = 9.80665E-6;
+    private static final double DEG_TO_RAD = 0.01745329252;
+
+    private static final double ABSOLUTE_ERROR = 1e-12;
+
+    private static final long SEED = 12345L;
+
+    @Test
+    void testConstructor() throws WrongSizeException {
+        final var trajectory = createTrajectory();
+        final var errors = createErrors();
+        final var simulator = new TrajectorySimulator(trajectory, errors);
+
+        assertSame(trajectory, simulator.getTrajectory());
+        assertSame(errors, simulator.getErrors());
+        assertArrayEquals(new double[3], simulator.getMagnetometerHardIron(), 0.0);
+        assertEquals(new Matrix(3, 3), simulator.getMagnetometerSoftIron());
+        assertEquals(0.0, simulator.getMagnetometerNoiseStandardDeviation(), 0.0);
+        assertEquals(100, simulator.getGnssInterval());
+        assertEquals(TrajectorySimulator.DEFAULT_GNSS_POSITION_STANDARD_DEVIATION,
+                simulator.getGnssPositionStandardDeviation(), 0.0);
+        assertEquals(TrajectorySimulator.DEFAULT_GNSS_VELOCITY_STANDARD_DEVIATION,
+                simulator.getGnssVelocityStandardDeviation(), 0.0);
+        assertEquals(3, simulator.getGnssFixes());
+
+        // Force NullPointerException
+        assertThrows(NullPointerException.class, () -> new TrajectorySimulator(null, errors));
+        assertThrows(NullPointerException.class, () -> new TrajectorySimulator(trajectory, null));
+    }
+
+    @Test
+    void testSetters() throws WrongSizeException {
+        final var simulator = new TrajectorySimulator(createTrajectory(), createErrors());
+
+        final var errors = new IMUErrors();
+        simulator.setErrors(errors);
+        assertSame(errors, simulator.getErrors());
+
+        final var hardIron = new double[]{1e-6, 2e-6, 3e-6};
+        simulator.setMagnetometerHardIron(hardIron);
+        assertArrayEquals(hardIron, simulator.getMagnetometerHardIron(), 0.0);
+
+        final var softIron = Matrix.createWithUniformRandomValues(3, 3, -1e-3, 1e-3);
+        simulator.setMagnetometerSoftIron(softIron);
+        assertEquals(softIron, simulator.getMagnetometerSoftIron());
+
+        simulator.setMagnetometerNoiseStandardDeviation(1e-7);
+        assertEquals(1e-7, simulator.getMagnetometerNoiseStandardDeviation(), 0.0);
+
+        simulator.setGnssInterval(50);
+        assertEquals(50, simulator.getGnssInterval());
+        assertEquals(5, simulator.getGnssFixes());
+        simulator.setGnssInterval(0);
+        assertEquals(0, simulator.getGnssFixes());
+
+        simulator.setGnssPositionStandardDeviation(1.0);
+        assertEquals(1.0, simulator.getGnssPositionStandardDeviation(), 0.0);
+
+        simulator.setGnssVelocityStandardDeviation(0.5);
+        assertEquals(0.5, simulator.getGnssVelocityStandardDeviation(), 0.0);
+
+        // Force NullPointerException
+        assertThrows(NullPointerException.class, () -> simulator.setErrors(null));
+
+        // Force IllegalArgumentException
+        assertThrows(IllegalArgumentException.class, () -> simulator.setMagnetometerHardIron(new double[2]));
+        final var wrong = new Matrix(2, 3);
+        assertThrows(IllegalArgumentException.class, () -> simulator.setMagnetometerSoftIron(wrong));
+        assertThrows(IllegalArgumentException.class, () -> simulator.setMagnetometerNoiseStandardDeviation(-1.0));
+        assertThrows(IllegalArgumentException.class, () -> simulator.setGnssInterval(-1));
+        assertThrows(IllegalArgumentException.class, () -> simulator.setGnssPositionStandardDeviation(-1.0));
+        assertThrows(IllegalArgumentException.class, () -> simulator.setGnssVelocityStandardDeviation(-1.0));
+    }
+
+    @Test
+    void testGetRunSeed() {
+        assertEquals(TrajectorySimulator.getRunSeed(SEED, 3), TrajectorySimulator.getRunSeed(SEED, 3));
+        assertNotEquals(TrajectorySimulator.getRunSeed(SEED, 3), TrajectorySimulator.getRunSeed(SEED, 4));
+        assertNotEquals(TrajectorySimulator.getRunSeed(SEED, 3), TrajectorySimulator.getRunSeed(SEED + 1, 3));
+    }
+
+    @Test
+    void testSimulateWithoutErrorsReproducesTruth() throws WrongSizeException {
+        final var trajectory = createTrajectory();
+        final var errors = new IMUErrors(new double[3], new double[3], new Matrix(3, 3), new Matrix(3, 3),
+                0.0, 0.0);
+        final var simulator = new TrajectorySimulator(trajectory, errors);
+        simulator.setGnssPositionStandardDeviation(0.0);
+        simulator.setGnssVelocityStandardDeviation(0.0);
+
+        final var run = simulator.simulate(SEED, 0);
+
+        assertEquals(0, run.getRun());
+        assertEquals(TrajectorySimulator.getRunSeed(SEED, 0), run.getSeed());
+        assertArrayEquals(trajectory.getFx(), run.getFx(), 0.0);
+        assertArrayEquals(trajectory.getFy(), run.getFy(), 0.0);
+        assertArrayEquals(trajectory.getFz(), run.getFz(), 0.0);
+        assertArrayEquals(trajectory.getAngularRateX(), run.getAngularRateX(), 0.0);
+        assertArrayEquals(trajectory.getAngularRateY(), run.getAngularRateY(), 0.0);
+        assertArrayEquals(trajectory.getAngularRateZ(), run.getAngularRateZ(), 0.0);
+        assertFalse(run.isMagneticFluxDensityAvailable());
+
+        assertEquals(3, run.getGnssCount());
+        for (var i = 0; i < run.getGnssCount(); i++) {
+            final var k = run.getGnssEpochs()[i];
+            assertEquals(i * simulator.getGnssInterval(), k);
+            assertEquals(trajectory.getX()[k], run.getGnssX()[i], 0.0);
+            assertEquals(trajectory.getY()[k], run.getGnssY()[i], 0.0);
+            assertEquals(trajectory.getZ()[k], run.getGnssZ()[i], 0.0);
+            assertEquals(trajectory.getVx()[k], run.getGnssVx()[i], 0.0);
+            assertEquals(trajectory.getVy()[k], run.getGnssVy()[i], 0.0);
+            assertEquals(trajectory.getVz()[k], run.getGnssVz()[i], 0.0);
+        }
+    }
+
+    @Test
+    void testSimulateMatchesGenerators() throws IOException, WrongSizeException {
+        final var trajectory = createTrajectory();
+        trajectory.computeMagneticFluxDensity(new WMMEarthMagneticFluxDensityEstimator(), YEAR);
+
+        final var errors = createErrors();
+        errors.setAccelerometerNoiseRootPSD(0.0);
+        errors.setGyroNoiseRootPSD(0.0);
+        errors.setAccelerometerQuantizationLevel(0.0);
+        errors.setGyroQuantizationLevel(0.0);
+        final var hardIron = new double[]{1e-6, -2e-6, 3e-6};
+        final var softIron = Matrix.createWithUniformRandomValues(3, 3, -1e-3, 1e-3);
+
+        final var simulator = new TrajectorySimulator(trajectory, errors);
+        simulator.setMagnetometerHardIron(hardIron);
+        simulator.setMagnetometerSoftIron(softIron);
+
+        final var run = simulator.simulate(SEED, 0);
+        assertTrue(run.isMagneticFluxDensityAvailable());
+
+        final var random = new Random();
+        final var trueKinematics = new BodyKinematics();
+        final var expectedKinematics = new BodyKinematics();
+        final var trueB = new BodyMagneticFluxDensity();
+        final var expectedB = new BodyMagneticFluxDensity();
+        for (var k = 0; k < trajectory.getEpochs(); k++) {
+            trueKinematics.setSpecificForceCoordinates(trajectory.getFx()[k], trajectory.getFy()[k],
+                    trajectory.getFz()[k]);
+            trueKinematics.setAngularRateCoordinates(trajectory.getAngularRateX()[k],
+                    trajectory.getAngularRateY()[k], trajectory.getAngularRateZ()[k]);
+            BodyKinematicsGenerator.generate(TIME_INTERVAL_SECONDS, trueKinematics, errors, random,
+                    expectedKinematics);
+
+            assertEquals(expectedKinematics.getFx(), run.getFx()[k], ABSOLUTE_ERROR);
+            assertEquals(expectedKinematics.getFy(), run.getFy()[k], ABSOLUTE_ERROR);
+            assertEquals(expectedKinematics.getFz(), run.getFz()[k], ABSOLUTE_ERROR);
+            assertEquals(expectedKinematics.getAngularRateX(), run.getAngularRateX()[k], ABSOLUTE_ERROR);
+            assertEquals(expectedKinematics.getAngularRateY(), run.getAngularRateY()[k], ABSOLUTE_ERROR);
+            assertEquals(expectedKinematics.getAngularRateZ(), run.getAngularRateZ()[k], ABSOLUTE_ERROR);
+
+            trueB.setCoordinates(trajectory.getBx()[k], trajectory.getBy()[k], trajectory.getBz()[k]);
+            BodyMagneticFluxDensityGenerator.generate(trueB, hardIron, softIron, expectedB);
+
+            assertEquals(expectedB.getBx(), run.getBx()[k], ABSOLUTE_ERROR);
+            assertEquals(expectedB.getBy(), run.getBy()[k], ABSOLUTE_ERROR);
+            assertEquals(expectedB.getBz(), run.getBz()[k], ABSOLUTE_ERROR);
+        }
+    }
+
+    @Test
+    void testSimulateIsReproducible() throws IOException {
+        final var trajectory = createTrajectory();
+        trajectory.computeMagneticFluxDensity(new WMMEarthMagneticFluxDensityEstimator(), YEAR);
+        final var simulator = new TrajectorySimulator(trajectory, createErrors());
+        simulator.setMagnetometerNoiseStandardDeviation(1e-7);
+
+        final var sequential = simulator.simulate(SEED, 2, 8, false);
+        final var parallel = simulator.simulate(SEED, 2, 8, true);
+
+        assertEquals(8, sequential.length);
+        assertEquals(8, parallel.length);
+        for (var i = 0; i < sequential.length; i++) {
+            final var expected = sequential[i];
+            final var run = parallel[i];
+            assertEquals(2 + i, expected.getRun());
+            assertEquals(expected.getRun(), run.getRun());
+            assertEquals(expected.getSeed(), run.getSeed());
+            assertArrayEquals(expected.getFx(), run.getFx(), 0.0);
+            assertArrayEquals(expected.getAngularRateZ(), run.getAngularRateZ(), 0.0);
+            assertArrayEquals(expected.getBy(), run.getBy(), 0.0);
+            assertArrayEquals(expected.getGnssX(), run.getGnssX(), 0.0);
+            assertArrayEquals(expected.getGnssVz(), run.getGnssVz(), 0.0);
+
+            // a single run simulated on its own is also the same
+            final var single = simulator.createRun();
+            simulator.simulate(SEED, 2 + i, single);
+            assertArrayEquals(expected.getFy(), single.getFy(), 0.0);
+            assertArrayEquals(expected.getBz(), single.getBz(), 0.0);
+            assertArrayEquals(expected.getGnssY(), single.getGnssY(), 0.0);
+        }
+
+        // different runs contain different noise
+        assertFalse(Arrays.equals(sequential[0].getFx(), sequential[1].getFx()));
+
+        // disabling GNSS does not change IMU noise
+        simulator.setGnssInterval(0);
+        final var withoutGnss = simulator.simulate(SEED, 2);
+        assertEquals(0, withoutGnss.getGnssCount());
+        assertArrayEquals(sequential[0].getFx(), withoutGnss.getFx(), 0.0);
+        assertArrayEquals(sequential[0].getBx(), withoutGnss.getBx(), 0.0);
+
+        // Force IllegalArgumentException
+        assertThrows(IllegalArgumentException.class, () -> simulator.simulate(SEED, 0, -1, false));
+        final var wrongEpochs = new SimulatedRun(1, 10);
+        assertThrows(IllegalArgumentException.class, () -> simulator.simulate(SEED, 0, wrongEpochs));
+        simulator.setGnssInterval(1);
+        final var wrongCapacity = new SimulatedRun(trajectory.getEpochs(), 1);
+        assertThrows(IllegalArgumentException.class, () -> simulator.simulate(SEED, 0, wrongCapacity));
+    }
+
+    @Test
+    void testSimulateNoiseStatistics() {
+        final var trajectory = createTrajectory();
+        final var errors = createErrors();
+        errors.setAccelerometerQuantizationLevel(0.0);
+        final var simulator = new TrajectorySimulator(trajectory, errors);
+
+        final var run = simulator.simulate(SEED, 0);
+
+        // estimate accelerometer bias and noise on x axis, where scale and cross coupling errors are small
+        final var n = trajectory.getEpochs();
+        var mean = 0.0;
+        for (var k = 0; k < n; k++) {
+            mean += run.getFx()[k] - trajectory.getFx()[k];
+        }
+        mean /= n;
+
+        final var ma = errors.getAccelerometerScaleFactorAndCrossCouplingErrors();
+        final var expectedMean = errors.getAccelerometerBiases()[0]
+                + ma.getElementAt(0, 0) * trajectory.getFx()[0]
+                + ma.getElementAt(0, 1) * trajectory.getFy()[0]
+                + ma.getElementAt(0, 2) * trajectory.getFz()[0];
+        final var std = errors.getAccelerometerNoiseRootPSD() / Math.sqrt(TIME_INTERVAL_SECONDS);
+        assertEquals(expectedMean, mean, 5.0 * std / Math.sqrt(n));
+    }
+
+    private static ReferenceTrajectory createTrajectory() {
+        final var position = new NEDPosition(Math.toRadians(LATITUDE_DEGREES), Math.toRadians(LONGITUDE_DEGREES),
+                HEIGHT);
+        return ReferenceTrajectory.create(TIME_INTERVAL_SECONDS, position, new NEDVelocity(), 0.0, 0.0, 0.0,
+                List.of(MotionSegment.createConstantVelocity(2.0)));
+    }
+
+    private static IMUErrors createErrors() {
+        final var ba = new double[]{
+                900 * MICRO_G_TO_METERS_PER_SECOND_SQUARED,
+                -1300 * MICRO_G_TO_METERS_PER_SECOND_SQUARED,
+                800 * MICRO_G_TO_METERS_PER_SECOND_SQUARED};
+        final var bg = new double[]{-9 * DEG_TO_RAD / 3600.0, 13 * DEG_TO_RAD / 3600.0, -8 * DEG_TO_RAD / 3600.0};
+        try {
+            final var ma = new Matrix(3, 3);
+            ma.fromArray(new double[]{
+                    500e-6, 200e-6, -650e-6,
+                    -300e-6, -600e-6, 350e-6,
+                    200e-6, 250e-6, 450e-6}, false);
+            final var mg = new Matrix(3, 3);
+            mg.fromArray(new double[]{
+                    400e-6, -300e-6, 250e-6,
+                    0.0, -300e-6, -150e-6,
+                    0.0, 0.0, -350e-6}, false);
+            final var gg = new Matrix(3, 3);
+            final var tmp = DEG_TO_RAD / (3600 * 9.80665);
+            gg.fromArray(new double[]{
+                    0.9 * tmp, -1.1 * tmp, -0.6 * tmp,
+                    -0.5 * tmp, 1.9 * tmp, -1.6 * tmp,
+                    0.3 * tmp, 1.1 * tmp, -1.3 * tmp}, false);
+            return new IMUErrors(ba, bg, ma, mg, gg, 100 * MICRO_G_TO_METERS_PER_SECOND_SQUARED,
+                    0.01 * DEG_TO_RAD / 60.0, 1e-2, 2e-4);
+        } catch (final WrongSizeException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}